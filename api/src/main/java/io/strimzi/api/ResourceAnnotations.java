@@ -127,6 +127,13 @@ public class ResourceAnnotations {
      */
     public static final String ANNO_STRIMZI_IO_SKIP_BROKER_SCALEDOWN_CHECK = STRIMZI_DOMAIN + "skip-broker-scaledown-check";
 
+    /**
+     * Annotation for enabling the parallel rolling of the broker nodes and configuring the maximal number of brokers
+     * restarted at the same time. This annotation is used on the Kafka CR.
+     * If missing or with a value lower than 2, the brokers are rolled one by one.
+     */
+    public static final String ANNO_STRIMZI_IO_MAX_PARALLEL_BROKER_RESTARTS = STRIMZI_DOMAIN + "max-parallel-broker-restarts";
+
     /**
      * Annotation for defining a cluster as KRaft (enabled) or ZooKeeper (disabled) based.
      * This annotation is used on the Kafka CR
@@ -31,7 +31,7 @@ public class DockerOutput extends Output {
     public static final String ALLOWED_KANIKO_OPTIONS = "--customPlatform, --custom-platform, --insecure, --insecure-pull, " +
             "--insecure-registry, --log-format, --log-timestamp, --registry-mirror, --reproducible, --single-snapshot, " +
             "--skip-tls-verify, --skip-tls-verify-pull, --skip-tls-verify-registry, --verbosity, --snapshotMode, " +
-            "--use-new-run, --registry-certificate, --registry-client-cert";
+            "--use-new-run, --registry-certificate, --registry-client-cert, --cache, --cache-repo, --cache-ttl";
 
     private String pushSecret;
     private List<String> additionalKanikoOptions;
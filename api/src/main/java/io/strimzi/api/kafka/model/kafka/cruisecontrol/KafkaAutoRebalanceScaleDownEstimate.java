@@ -0,0 +1,89 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.api.kafka.model.kafka.cruisecontrol;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import io.strimzi.api.kafka.model.common.Constants;
+import io.strimzi.api.kafka.model.common.UnknownPropertyPreserving;
+import io.strimzi.crdgenerator.annotations.Description;
+import io.sundr.builder.annotations.Buildable;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Represents the estimated amount of data which has to be moved off the brokers being removed before the scale-down
+ * can proceed
+ */
+@Buildable(
+        editableEnabled = false,
+        builderPackage = Constants.FABRIC8_KUBERNETES_API
+)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({ "removalOrder", "partitionReplicas", "dataBytes", "estimatedDurationSeconds" })
+@EqualsAndHashCode
+@ToString
+public class KafkaAutoRebalanceScaleDownEstimate implements UnknownPropertyPreserving {
+
+    private List<Integer> removalOrder;
+    private int partitionReplicas;
+    private long dataBytes;
+    private Long estimatedDurationSeconds;
+    private Map<String, Object> additionalProperties;
+
+    @Description("IDs of the brokers being removed ordered by the amount of data hosted by them, starting with the broker which requires the fewest bytes to be moved.")
+    public List<Integer> getRemovalOrder() {
+        return removalOrder;
+    }
+
+    public void setRemovalOrder(List<Integer> removalOrder) {
+        this.removalOrder = removalOrder;
+    }
+
+    @Description("Number of partition replicas which have to be moved off the brokers being removed.")
+    public int getPartitionReplicas() {
+        return partitionReplicas;
+    }
+
+    public void setPartitionReplicas(int partitionReplicas) {
+        this.partitionReplicas = partitionReplicas;
+    }
+
+    @Description("Size of the partition replicas which have to be moved off the brokers being removed, in bytes.")
+    public long getDataBytes() {
+        return dataBytes;
+    }
+
+    public void setDataBytes(long dataBytes) {
+        this.dataBytes = dataBytes;
+    }
+
+    @Description("Rough estimate of how long it takes to move the data, in seconds. " +
+            "It is based on the `default.replication.throttle` option of Cruise Control and it is not set when no throttle is configured.")
+    public Long getEstimatedDurationSeconds() {
+        return estimatedDurationSeconds;
+    }
+
+    public void setEstimatedDurationSeconds(Long estimatedDurationSeconds) {
+        this.estimatedDurationSeconds = estimatedDurationSeconds;
+    }
+
+    @Override
+    public Map<String, Object> getAdditionalProperties() {
+        return this.additionalProperties != null ? this.additionalProperties : Map.of();
+    }
+
+    @Override
+    public void setAdditionalProperty(String name, Object value) {
+        if (this.additionalProperties == null) {
+            this.additionalProperties = new HashMap<>(2);
+        }
+        this.additionalProperties.put(name, value);
+    }
+}
@@ -25,7 +25,7 @@ import java.util.Map;
         builderPackage = Constants.FABRIC8_KUBERNETES_API
 )
 @JsonInclude(JsonInclude.Include.NON_NULL)
-@JsonPropertyOrder({ "state", "lastTransitionTime", "modes" })
+@JsonPropertyOrder({ "state", "lastTransitionTime", "modes", "scaleDownEstimate" })
 @EqualsAndHashCode
 @ToString
 public class KafkaAutoRebalanceStatus implements UnknownPropertyPreserving {
@@ -33,6 +33,7 @@ public class KafkaAutoRebalanceStatus implements UnknownPropertyPreserving {
     private KafkaAutoRebalanceState state;
     private String lastTransitionTime;
     private List<KafkaAutoRebalanceStatusBrokers> modes;
+    private KafkaAutoRebalanceScaleDownEstimate scaleDownEstimate;
     private Map<String, Object> additionalProperties;
 
     @Description("The current state of an auto-rebalancing operation. Possible values are: \n\n" +
@@ -68,6 +69,15 @@ public class KafkaAutoRebalanceStatus implements UnknownPropertyPreserving {
         this.modes = modes;
     }
 
+    @Description("Estimate of the data which has to be moved off the brokers being removed when the scale-down is blocked until the brokers are emptied by the auto-rebalancing.")
+    public KafkaAutoRebalanceScaleDownEstimate getScaleDownEstimate() {
+        return scaleDownEstimate;
+    }
+
+    public void setScaleDownEstimate(KafkaAutoRebalanceScaleDownEstimate scaleDownEstimate) {
+        this.scaleDownEstimate = scaleDownEstimate;
+    }
+
     @Override
     public Map<String, Object> getAdditionalProperties() {
         return this.additionalProperties != null ? this.additionalProperties : Map.of();
@@ -0,0 +1,254 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.benchmarks;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.api.model.ContainerBuilder;
+import io.fabric8.kubernetes.api.model.ContainerPortBuilder;
+import io.fabric8.kubernetes.api.model.EnvVar;
+import io.fabric8.kubernetes.api.model.EnvVarBuilder;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.ManagedFieldsEntryBuilder;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.Quantity;
+import io.fabric8.kubernetes.api.model.Service;
+import io.fabric8.kubernetes.api.model.ServiceBuilder;
+import io.fabric8.kubernetes.api.model.ServicePortBuilder;
+import io.fabric8.kubernetes.api.model.VolumeBuilder;
+import io.fabric8.kubernetes.api.model.VolumeMountBuilder;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Realistic Kubernetes resources used by the benchmarks. The desired resources look like the resources generated by
+ * the operator. The current resources are copies of the desired resources with the fields added by Kubernetes which
+ * are ignored by the diff (UID, resource version, managed fields, status, etc.).
+ */
+public class Fixtures {
+    private static final String NAMESPACE = "my-namespace";
+    private static final String CLUSTER = "my-cluster";
+
+    private Fixtures() { }
+
+    private static Map<String, String> labels(String component) {
+        Map<String, String> labels = new LinkedHashMap<>();
+        labels.put("app.kubernetes.io/instance", CLUSTER);
+        labels.put("app.kubernetes.io/managed-by", "strimzi-cluster-operator");
+        labels.put("app.kubernetes.io/name", "kafka");
+        labels.put("app.kubernetes.io/part-of", "strimzi-" + CLUSTER);
+        labels.put("strimzi.io/cluster", CLUSTER);
+        labels.put("strimzi.io/component-type", "kafka");
+        labels.put("strimzi.io/kind", "Kafka");
+        labels.put("strimzi.io/name", component);
+        return labels;
+    }
+
+    /**
+     * Adds the fields which are set by Kubernetes to the resource
+     *
+     * @param resource  Resource to which the fields should be added
+     *
+     * @return  The same resource
+     *
+     * @param <T>   Type of the resource
+     */
+    private static <T extends HasMetadata> T addServerSideFields(T resource) {
+        resource.getMetadata().setUid("6b1c6e2f-7a3e-4c1a-9d1b-51f4c1e6e8a1");
+        resource.getMetadata().setResourceVersion("123456789");
+        resource.getMetadata().setCreationTimestamp("2025-01-01T00:00:00Z");
+        resource.getMetadata().setGeneration(3L);
+        resource.getMetadata().setManagedFields(List.of(new ManagedFieldsEntryBuilder()
+                .withApiVersion("v1")
+                .withFieldsType("FieldsV1")
+                .withManager("strimzi-cluster-operator")
+                .withOperation("Update")
+                .withTime("2025-01-01T00:00:00Z")
+                .build()));
+
+        return resource;
+    }
+
+    /**
+     * @return  Desired Kafka broker Pod
+     */
+    public static Pod desiredPod() {
+        List<EnvVar> env = new ArrayList<>();
+        env.add(new EnvVarBuilder().withName("KAFKA_METRICS_ENABLED").withValue("true").build());
+        env.add(new EnvVarBuilder().withName("STRIMZI_KRAFT_ENABLED").withValue("true").build());
+        env.add(new EnvVarBuilder().withName("STRIMZI_KAFKA_GC_LOG_ENABLED").withValue("false").build());
+        env.add(new EnvVarBuilder().withName("KAFKA_HEAP_OPTS").withValue("-Xms2g -Xmx2g").build());
+        env.add(new EnvVarBuilder().withName("STRIMZI_DYNAMIC_HEAP_PERCENTAGE").withValue("50").build());
+
+        return new PodBuilder()
+                .withNewMetadata()
+                    .withName(CLUSTER + "-brokers-0")
+                    .withNamespace(NAMESPACE)
+                    .withLabels(labels(CLUSTER + "-kafka"))
+                    .withAnnotations(Map.of(
+                            "strimzi.io/broker-configuration-hash", "2ba9b6a6",
+                            "strimzi.io/clients-ca-cert-generation", "0",
+                            "strimzi.io/cluster-ca-cert-generation", "0",
+                            "strimzi.io/cluster-ca-key-generation", "0",
+                            "strimzi.io/inter-broker-protocol-version", "3.9",
+                            "strimzi.io/kafka-version", "3.9.0",
+                            "strimzi.io/server-cert-hash", "f5d4c8f2"))
+                    .addNewOwnerReference()
+                        .withApiVersion("core.strimzi.io/v1beta2")
+                        .withKind("StrimziPodSet")
+                        .withName(CLUSTER + "-brokers")
+                        .withUid("1f0d7a38-0a76-4d0f-93a8-0d26b5b5a53c")
+                        .withController()
+                        .withBlockOwnerDeletion(false)
+                    .endOwnerReference()
+                .endMetadata()
+                .withNewSpec()
+                    .withHostname(CLUSTER + "-brokers-0")
+                    .withSubdomain(CLUSTER + "-kafka-brokers")
+                    .withServiceAccountName(CLUSTER + "-kafka")
+                    .withTerminationGracePeriodSeconds(30L)
+                    .withRestartPolicy("Always")
+                    .withNewSecurityContext()
+                        .withFsGroup(0L)
+                    .endSecurityContext()
+                    .withContainers(new ContainerBuilder()
+                            .withName("kafka")
+                            .withImage("quay.io/strimzi/kafka:latest-kafka-3.9.0")
+                            .withCommand("/opt/kafka/kafka_run.sh")
+                            .withEnv(env)
+                            .withPorts(
+                                    new ContainerPortBuilder().withName("tcp-ctrlplane").withContainerPort(9090).withProtocol("TCP").build(),
+                                    new ContainerPortBuilder().withName("tcp-replication").withContainerPort(9091).withProtocol("TCP").build(),
+                                    new ContainerPortBuilder().withName("tcp-plain").withContainerPort(9092).withProtocol("TCP").build(),
+                                    new ContainerPortBuilder().withName("tcp-tls").withContainerPort(9093).withProtocol("TCP").build(),
+                                    new ContainerPortBuilder().withName("tcp-prometheus").withContainerPort(9404).withProtocol("TCP").build())
+                            .withNewResources()
+                                .withRequests(Map.of("cpu", new Quantity("1"), "memory", new Quantity("4Gi")))
+                                .withLimits(Map.of("cpu", new Quantity("2"), "memory", new Quantity("4Gi")))
+                            .endResources()
+                            .withVolumeMounts(
+                                    new VolumeMountBuilder().withName("data-0").withMountPath("/var/lib/kafka/data-0").build(),
+                                    new VolumeMountBuilder().withName("strimzi-tmp").withMountPath("/tmp").build(),
+                                    new VolumeMountBuilder().withName("cluster-ca").withMountPath("/opt/kafka/cluster-ca-certs").build(),
+                                    new VolumeMountBuilder().withName("broker-certs").withMountPath("/opt/kafka/broker-certs").build(),
+                                    new VolumeMountBuilder().withName("client-ca-cert").withMountPath("/opt/kafka/client-ca-certs").build(),
+                                    new VolumeMountBuilder().withName("kafka-metrics-and-logging").withMountPath("/opt/kafka/custom-config/").build())
+                            .withNewLivenessProbe()
+                                .withNewExec().withCommand("/opt/kafka/kafka_liveness.sh").endExec()
+                                .withInitialDelaySeconds(15)
+                                .withTimeoutSeconds(5)
+                            .endLivenessProbe()
+                            .withNewReadinessProbe()
+                                .withNewExec().withCommand("test", "-f", "/var/opt/kafka/kafka-ready").endExec()
+                                .withInitialDelaySeconds(15)
+                                .withTimeoutSeconds(5)
+                            .endReadinessProbe()
+                            .withImagePullPolicy("IfNotPresent")
+                            .build())
+                    .withVolumes(
+                            new VolumeBuilder().withName("data-0").withNewPersistentVolumeClaim().withClaimName("data-0-" + CLUSTER + "-brokers-0").endPersistentVolumeClaim().build(),
+                            new VolumeBuilder().withName("strimzi-tmp").withNewEmptyDir().withMedium("Memory").withSizeLimit(new Quantity("5Mi")).endEmptyDir().build(),
+                            new VolumeBuilder().withName("cluster-ca").withNewSecret().withSecretName(CLUSTER + "-cluster-ca-cert").withDefaultMode(292).endSecret().build(),
+                            new VolumeBuilder().withName("broker-certs").withNewSecret().withSecretName(CLUSTER + "-brokers-0").withDefaultMode(292).endSecret().build(),
+                            new VolumeBuilder().withName("client-ca-cert").withNewSecret().withSecretName(CLUSTER + "-clients-ca-cert").withDefaultMode(292).endSecret().build(),
+                            new VolumeBuilder().withName("kafka-metrics-and-logging").withNewConfigMap().withName(CLUSTER + "-brokers-0").endConfigMap().build())
+                .endSpec()
+                .build();
+    }
+
+    /**
+     * @return  Current Kafka broker Pod as returned by Kubernetes
+     */
+    public static Pod currentPod() {
+        return addServerSideFields(new PodBuilder(desiredPod())
+                .withNewStatus()
+                    .withPhase("Running")
+                    .withPodIP("10.244.1.15")
+                    .withHostIP("172.18.0.3")
+                    .withStartTime("2025-01-01T00:00:05Z")
+                    .addNewCondition().withType("Ready").withStatus("True").withLastTransitionTime("2025-01-01T00:00:35Z").endCondition()
+                    .addNewCondition().withType("ContainersReady").withStatus("True").withLastTransitionTime("2025-01-01T00:00:35Z").endCondition()
+                    .addNewCondition().withType("PodScheduled").withStatus("True").withLastTransitionTime("2025-01-01T00:00:01Z").endCondition()
+                .endStatus()
+                .build());
+    }
+
+    /**
+     * @return  Desired Kafka bootstrap Service
+     */
+    public static Service desiredService() {
+        return new ServiceBuilder()
+                .withNewMetadata()
+                    .withName(CLUSTER + "-kafka-bootstrap")
+                    .withNamespace(NAMESPACE)
+                    .withLabels(labels(CLUSTER + "-kafka"))
+                    .addNewOwnerReference()
+                        .withApiVersion("kafka.strimzi.io/v1beta2")
+                        .withKind("Kafka")
+                        .withName(CLUSTER)
+                        .withUid("0c6b8f0a-0d1e-4b7e-8a1c-9c5b3ad4e9f1")
+                        .withController()
+                        .withBlockOwnerDeletion(false)
+                    .endOwnerReference()
+                .endMetadata()
+                .withNewSpec()
+                    .withType("ClusterIP")
+                    .withSelector(Map.of("strimzi.io/cluster", CLUSTER, "strimzi.io/kind", "Kafka", "strimzi.io/broker-role", "true"))
+                    .withPorts(
+                            new ServicePortBuilder().withName("tcp-replication").withPort(9091).withNewTargetPort(9091).withProtocol("TCP").build(),
+                            new ServicePortBuilder().withName("tcp-plain").withPort(9092).withNewTargetPort(9092).withProtocol("TCP").build(),
+                            new ServicePortBuilder().withName("tcp-tls").withPort(9093).withNewTargetPort(9093).withProtocol("TCP").build())
+                    .withIpFamilyPolicy("SingleStack")
+                    .withIpFamilies("IPv4")
+                .endSpec()
+                .build();
+    }
+
+    /**
+     * @return  Current Kafka bootstrap Service as returned by Kubernetes
+     */
+    public static Service currentService() {
+        return addServerSideFields(new ServiceBuilder(desiredService())
+                .withNewStatus()
+                    .withNewLoadBalancer()
+                    .endLoadBalancer()
+                .endStatus()
+                .build());
+    }
+
+    /**
+     * @return  Desired per-broker configuration ConfigMap
+     */
+    public static ConfigMap desiredConfigMap() {
+        StringBuilder config = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            config.append("config.option.").append(i).append("=value-").append(i).append("\n");
+        }
+
+        return new ConfigMapBuilder()
+                .withNewMetadata()
+                    .withName(CLUSTER + "-brokers-0")
+                    .withNamespace(NAMESPACE)
+                    .withLabels(labels(CLUSTER + "-kafka"))
+                .endMetadata()
+                .withData(Map.of(
+                        "server.config", config.toString(),
+                        "listeners.config", "REPLICATION-9091 PLAIN-9092 TLS-9093",
+                        "metrics-config.json", "{\"lowercaseOutputName\":true,\"rules\":[{\"pattern\":\"kafka.server<type=(.+), name=(.+)><>Value\",\"name\":\"kafka_server_$1_$2\",\"type\":\"GAUGE\"}]}",
+                        "log4j.properties", "log4j.rootLogger=INFO, CONSOLE\nlog4j.appender.CONSOLE=org.apache.log4j.ConsoleAppender\n"))
+                .build();
+    }
+
+    /**
+     * @return  Current per-broker configuration ConfigMap as returned by Kubernetes
+     */
+    public static ConfigMap currentConfigMap() {
+        return addServerSideFields(new ConfigMapBuilder(desiredConfigMap()).build());
+    }
+}
@@ -0,0 +1,264 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.benchmarks;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.api.model.Quantity;
+import io.fabric8.kubernetes.api.model.ResourceRequirementsBuilder;
+import io.strimzi.api.kafka.model.kafka.JbodStorage;
+import io.strimzi.api.kafka.model.kafka.JbodStorageBuilder;
+import io.strimzi.api.kafka.model.kafka.KRaftMetadataStorage;
+import io.strimzi.api.kafka.model.kafka.Kafka;
+import io.strimzi.api.kafka.model.kafka.KafkaAuthorizationSimpleBuilder;
+import io.strimzi.api.kafka.model.kafka.KafkaBuilder;
+import io.strimzi.api.kafka.model.kafka.PersistentClaimStorageBuilder;
+import io.strimzi.api.kafka.model.kafka.SingleVolumeStorage;
+import io.strimzi.api.kafka.model.kafka.listener.GenericKafkaListener;
+import io.strimzi.api.kafka.model.kafka.listener.GenericKafkaListenerBuilder;
+import io.strimzi.api.kafka.model.kafka.listener.KafkaListenerAuthenticationScramSha512;
+import io.strimzi.api.kafka.model.kafka.listener.KafkaListenerAuthenticationTls;
+import io.strimzi.api.kafka.model.kafka.listener.KafkaListenerType;
+import io.strimzi.api.kafka.model.nodepool.KafkaNodePool;
+import io.strimzi.api.kafka.model.nodepool.KafkaNodePoolBuilder;
+import io.strimzi.api.kafka.model.nodepool.ProcessRoles;
+import io.strimzi.operator.cluster.model.KafkaVersion;
+import io.strimzi.operator.cluster.model.KafkaVersionChange;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Realistic Kafka custom resources used by the model generation benchmarks. The Kafka cluster has dedicated
+ * controllers and two pools of brokers with JBOD storage, internal and external listeners with different
+ * authentication types, rack awareness, simple authorization, Cruise Control and metrics.
+ */
+public class KafkaFixtures {
+    /**
+     * Namespace of the Kafka cluster
+     */
+    public static final String NAMESPACE = "my-namespace";
+
+    /**
+     * Name of the Kafka cluster
+     */
+    public static final String CLUSTER = "my-cluster";
+
+    private static final String METRICS_CONFIG_MAP = "kafka-metrics";
+    private static final String METRICS_KEY = "kafka-metrics-config.yml";
+
+    private KafkaFixtures() { }
+
+    /**
+     * @return  Kafka version lookup with container images for all supported versions
+     */
+    public static KafkaVersion.Lookup versions() {
+        Map<String, String> images = new HashMap<>();
+        for (String version : new KafkaVersion.Lookup(Map.of(), Map.of(), Map.of()).supportedVersions()) {
+            images.put(version, "quay.io/strimzi/kafka:latest-kafka-" + version);
+        }
+
+        return new KafkaVersion.Lookup(images, images, images);
+    }
+
+    /**
+     * @param versions  Kafka version lookup
+     *
+     * @return  Version change describing a cluster which is not being upgraded or downgraded
+     */
+    public static KafkaVersionChange versionChange(KafkaVersion.Lookup versions) {
+        return new KafkaVersionChange(versions.defaultVersion(), versions.defaultVersion(), null, null, versions.defaultVersion().metadataVersion());
+    }
+
+    /**
+     * @return  Listeners of the Kafka cluster
+     */
+    public static List<GenericKafkaListener> listeners() {
+        return List.of(
+                new GenericKafkaListenerBuilder()
+                        .withName("plain")
+                        .withPort(9092)
+                        .withType(KafkaListenerType.INTERNAL)
+                        .withTls(false)
+                        .build(),
+                new GenericKafkaListenerBuilder()
+                        .withName("scram")
+                        .withPort(9093)
+                        .withType(KafkaListenerType.INTERNAL)
+                        .withTls(true)
+                        .withAuth(new KafkaListenerAuthenticationScramSha512())
+                        .build(),
+                new GenericKafkaListenerBuilder()
+                        .withName("tls")
+                        .withPort(9094)
+                        .withType(KafkaListenerType.INTERNAL)
+                        .withTls(true)
+                        .withAuth(new KafkaListenerAuthenticationTls())
+                        .build(),
+                new GenericKafkaListenerBuilder()
+                        .withName("clusterip")
+                        .withPort(9095)
+                        .withType(KafkaListenerType.CLUSTER_IP)
+                        .withTls(true)
+                        .withAuth(new KafkaListenerAuthenticationTls())
+                        .build(),
+                new GenericKafkaListenerBuilder()
+                        .withName("nodeport")
+                        .withPort(9096)
+                        .withType(KafkaListenerType.NODEPORT)
+                        .withTls(true)
+                        .withAuth(new KafkaListenerAuthenticationScramSha512())
+                        .withNewConfiguration()
+                            .withAdvertisedHostTemplate("{nodePodName}.kafka.example.com")
+                        .endConfiguration()
+                        .build(),
+                new GenericKafkaListenerBuilder()
+                        .withName("external")
+                        .withPort(9097)
+                        .withType(KafkaListenerType.LOADBALANCER)
+                        .withTls(true)
+                        .withAuth(new KafkaListenerAuthenticationTls())
+                        .withNewConfiguration()
+                            .withAdvertisedHostTemplate("{nodePodName}.kafka.example.com")
+                        .endConfiguration()
+                        .build()
+        );
+    }
+
+    /**
+     * @return  Kafka custom resource
+     */
+    public static Kafka kafka() {
+        Map<String, Object> config = new HashMap<>();
+        config.put("default.replication.factor", 3);
+        config.put("min.insync.replicas", 2);
+        config.put("offsets.topic.replication.factor", 3);
+        config.put("transaction.state.log.replication.factor", 3);
+        config.put("transaction.state.log.min.isr", 2);
+        config.put("num.partitions", 12);
+        config.put("log.retention.hours", 168);
+        config.put("log.segment.bytes", 1_073_741_824);
+        config.put("auto.create.topics.enable", false);
+        config.put("message.max.bytes", 10_485_760);
+        config.put("replica.fetch.max.bytes", 10_485_760);
+        config.put("num.network.threads", 8);
+        config.put("num.io.threads", 16);
+
+        return new KafkaBuilder()
+                .withNewMetadata()
+                    .withName(CLUSTER)
+                    .withNamespace(NAMESPACE)
+                    .withAnnotations(Map.of("strimzi.io/node-pools", "enabled", "strimzi.io/kraft", "enabled"))
+                .endMetadata()
+                .withNewSpec()
+                    .withNewKafka()
+                        .withListeners(listeners())
+                        .withAuthorization(new KafkaAuthorizationSimpleBuilder()
+                                .withSuperUsers("CN=admin", "admin")
+                                .build())
+                        .withNewRack("topology.kubernetes.io/zone")
+                        .withConfig(config)
+                        .withNewJmxPrometheusExporterMetricsConfig()
+                            .withNewValueFrom()
+                                .withNewConfigMapKeyRef(METRICS_KEY, METRICS_CONFIG_MAP, false)
+                            .endValueFrom()
+                        .endJmxPrometheusExporterMetricsConfig()
+                    .endKafka()
+                    .withNewCruiseControl()
+                    .endCruiseControl()
+                    .withNewEntityOperator()
+                        .withNewTopicOperator()
+                        .endTopicOperator()
+                        .withNewUserOperator()
+                        .endUserOperator()
+                    .endEntityOperator()
+                .endSpec()
+                .build();
+    }
+
+    private static JbodStorage jbod(int volumes, String size) {
+        List<SingleVolumeStorage> storage = new ArrayList<>(volumes);
+        for (int i = 0; i < volumes; i++) {
+            storage.add(new PersistentClaimStorageBuilder()
+                    .withId(i)
+                    .withSize(size)
+                    .withDeleteClaim(false)
+                    .withKraftMetadata(i == 0 ? KRaftMetadataStorage.SHARED : null)
+                    .build());
+        }
+
+        return new JbodStorageBuilder().withVolumes(storage).build();
+    }
+
+    private static KafkaNodePool nodePool(String name, int replicas, JbodStorage storage, ProcessRoles role) {
+        return new KafkaNodePoolBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                    .withNamespace(NAMESPACE)
+                    .withLabels(Map.of("strimzi.io/cluster", CLUSTER))
+                .endMetadata()
+                .withNewSpec()
+                    .withReplicas(replicas)
+                    .withStorage(storage)
+                    .withRoles(role)
+                    .withResources(new ResourceRequirementsBuilder()
+                            .withRequests(Map.of("cpu", new Quantity("2"), "memory", new Quantity("8Gi")))
+                            .withLimits(Map.of("memory", new Quantity("8Gi")))
+                            .build())
+                    .withNewJvmOptions()
+                        .withXms("4g")
+                        .withXmx("4g")
+                    .endJvmOptions()
+                .endSpec()
+                .build();
+    }
+
+    /**
+     * Creates the node pools of the Kafka cluster. There are three dedicated controllers and the brokers are split
+     * into two pools with different JBOD storage.
+     *
+     * @param brokers   Total number of brokers
+     *
+     * @return  List with the node pools
+     */
+    public static List<KafkaNodePool> nodePools(int brokers) {
+        return List.of(
+                nodePool("controllers", 3, jbod(1, "100Gi"), ProcessRoles.CONTROLLER),
+                nodePool("brokers-a", (brokers + 1) / 2, jbod(2, "1Ti"), ProcessRoles.BROKER),
+                nodePool("brokers-b", brokers / 2, jbod(4, "500Gi"), ProcessRoles.BROKER)
+        );
+    }
+
+    /**
+     * @return  ConfigMap with the Prometheus JMX Exporter configuration referenced from the Kafka custom resource
+     */
+    public static ConfigMap metricsConfigMap() {
+        return new ConfigMapBuilder()
+                .withNewMetadata()
+                    .withName(METRICS_CONFIG_MAP)
+                    .withNamespace(NAMESPACE)
+                .endMetadata()
+                .withData(Map.of(METRICS_KEY, """
+                        lowercaseOutputName: true
+                        rules:
+                        - pattern: kafka.server<type=(.+), name=(.+), clientId=(.+), topic=(.+), partition=(.*)><>Value
+                          name: kafka_server_$1_$2
+                          type: GAUGE
+                          labels:
+                            clientId: "$3"
+                            topic: "$4"
+                            partition: "$5"
+                        - pattern: kafka.server<type=(.+), name=(.+)><>Value
+                          name: kafka_server_$1_$2
+                          type: GAUGE
+                        - pattern: kafka.(\\w+)<type=(.+), name=(.+)PerSec\\w*><>Count
+                          name: kafka_$1_$2_$3_total
+                          type: COUNTER
+                        """))
+                .build();
+    }
+}
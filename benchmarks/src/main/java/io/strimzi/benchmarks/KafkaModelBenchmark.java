@@ -0,0 +1,200 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.benchmarks;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.strimzi.api.kafka.model.kafka.Kafka;
+import io.strimzi.api.kafka.model.kafka.listener.GenericKafkaListener;
+import io.strimzi.api.kafka.model.nodepool.KafkaNodePool;
+import io.strimzi.api.kafka.model.podset.StrimziPodSet;
+import io.strimzi.operator.cluster.model.DefaultSharedEnvironmentProvider;
+import io.strimzi.operator.cluster.model.ImagePullPolicy;
+import io.strimzi.operator.cluster.model.KafkaCluster;
+import io.strimzi.operator.cluster.model.KafkaPool;
+import io.strimzi.operator.cluster.model.KafkaVersion;
+import io.strimzi.operator.cluster.model.KafkaVersionChange;
+import io.strimzi.operator.cluster.model.ListenersUtils;
+import io.strimzi.operator.cluster.model.MetricsAndLogging;
+import io.strimzi.operator.cluster.model.NodeRef;
+import io.strimzi.operator.cluster.model.PodRevision;
+import io.strimzi.operator.cluster.model.PodSetUtils;
+import io.strimzi.operator.cluster.model.SharedEnvironmentProvider;
+import io.strimzi.operator.cluster.model.nodepools.NodePoolUtils;
+import io.strimzi.operator.common.Reconciliation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the generation of the Kafka cluster model and of the resources derived from it which is done by the
+ * Kafka reconciler in every reconciliation. The Kafka cluster uses node pools, JBOD storage and six listeners (see
+ * {@link KafkaFixtures}). Run it with the GC profiler ({@code -prof gc}) to see the allocations per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class KafkaModelBenchmark {
+    private static final Reconciliation RECONCILIATION = new Reconciliation("benchmark", Kafka.RESOURCE_KIND, KafkaFixtures.NAMESPACE, KafkaFixtures.CLUSTER);
+    private static final String CLUSTER_ID = "CLUSTER-ID";
+
+    /**
+     * Number of brokers in the Kafka cluster. The cluster has additionally three dedicated controllers.
+     */
+    @Param({"3", "30"})
+    public int brokers;
+
+    private final SharedEnvironmentProvider sharedEnvironmentProvider = new DefaultSharedEnvironmentProvider();
+    private KafkaVersion.Lookup versions;
+    private KafkaVersionChange versionChange;
+    private Kafka kafka;
+    private List<KafkaNodePool> nodePools;
+    private List<KafkaPool> pools;
+    private KafkaCluster kafkaCluster;
+    private MetricsAndLogging metricsAndLogging;
+    private Map<Integer, Map<String, String>> advertisedHostnames;
+    private Map<Integer, Map<String, String>> advertisedPorts;
+    private int brokerId;
+    private Pod pod;
+
+    /**
+     * Prepares the custom resources and the Kafka cluster model
+     */
+    @Setup
+    public void setup() {
+        versions = KafkaFixtures.versions();
+        versionChange = KafkaFixtures.versionChange(versions);
+        kafka = KafkaFixtures.kafka();
+        nodePools = KafkaFixtures.nodePools(brokers);
+        pools = NodePoolUtils.createKafkaPools(RECONCILIATION, kafka, nodePools, Map.of(), versionChange, sharedEnvironmentProvider);
+        kafkaCluster = KafkaCluster.fromCrd(RECONCILIATION, kafka, pools, versions, versionChange, CLUSTER_ID, sharedEnvironmentProvider);
+        metricsAndLogging = new MetricsAndLogging(KafkaFixtures.metricsConfigMap(), null);
+
+        // Advertised addresses as they would be collected from the Services, Routes and Ingresses of the listeners
+        advertisedHostnames = new HashMap<>();
+        advertisedPorts = new HashMap<>();
+
+        for (NodeRef node : kafkaCluster.brokerNodes()) {
+            Map<String, String> hostnames = new HashMap<>();
+            Map<String, String> ports = new HashMap<>();
+
+            for (GenericKafkaListener listener : kafkaCluster.getListeners()) {
+                String identifier = ListenersUtils.envVarIdentifier(listener);
+                String advertisedHost = ListenersUtils.brokerAdvertisedHost(listener, node);
+                hostnames.put(identifier, advertisedHost != null ? advertisedHost : node.podName() + "." + KafkaFixtures.CLUSTER + "-kafka-brokers");
+                ports.put(identifier, ListenersUtils.advertisedPortFromOverrideOrParameter(listener, node.nodeId(), 30_000 + node.nodeId()));
+            }
+
+            advertisedHostnames.put(node.nodeId(), hostnames);
+            advertisedPorts.put(node.nodeId(), ports);
+        }
+
+        brokerId = kafkaCluster.brokerNodes().iterator().next().nodeId();
+
+        StrimziPodSet podSet = kafkaCluster.generatePodSets(false, ImagePullPolicy.IFNOTPRESENT, null, node -> Map.of()).get(0);
+        pod = PodSetUtils.podSetToPods(podSet).get(0);
+    }
+
+    /**
+     * Benchmarks the creation of the node pool models including the node ID assignment and storage validation
+     *
+     * @return  The node pool models
+     */
+    @Benchmark
+    public List<KafkaPool> createKafkaPools() {
+        return NodePoolUtils.createKafkaPools(RECONCILIATION, kafka, nodePools, Map.of(), versionChange, sharedEnvironmentProvider);
+    }
+
+    /**
+     * Benchmarks the creation of the Kafka cluster model from the custom resources
+     *
+     * @return  The Kafka cluster model
+     */
+    @Benchmark
+    public KafkaCluster fromCrd() {
+        return KafkaCluster.fromCrd(RECONCILIATION, kafka, pools, versions, versionChange, CLUSTER_ID, sharedEnvironmentProvider);
+    }
+
+    /**
+     * Benchmarks the generation of the StrimziPodSets including the Pod definitions of all nodes
+     *
+     * @return  The StrimziPodSets
+     */
+    @Benchmark
+    public List<StrimziPodSet> generatePodSets() {
+        return kafkaCluster.generatePodSets(false, ImagePullPolicy.IFNOTPRESENT, null, node -> Map.of());
+    }
+
+    /**
+     * Benchmarks the generation of the per-node configuration ConfigMaps
+     *
+     * @return  The ConfigMaps
+     */
+    @Benchmark
+    public List<ConfigMap> generatePerBrokerConfigurationConfigMaps() {
+        return kafkaCluster.generatePerBrokerConfigurationConfigMaps(metricsAndLogging, advertisedHostnames, advertisedPorts);
+    }
+
+    /**
+     * Benchmarks the generation of the configuration of a single broker with the KafkaBrokerConfigurationBuilder
+     *
+     * @return  The broker configuration
+     */
+    @Benchmark
+    public String generatePerBrokerConfiguration() {
+        return kafkaCluster.generatePerBrokerConfiguration(brokerId, advertisedHostnames, advertisedPorts);
+    }
+
+    /**
+     * Benchmarks the listener helpers used when generating the Services, Routes, Ingresses and broker configurations
+     * for every broker and listener
+     *
+     * @param blackhole     Blackhole consuming the results
+     */
+    @Benchmark
+    public void listenersUtils(Blackhole blackhole) {
+        List<GenericKafkaListener> listeners = kafkaCluster.getListeners();
+
+        for (NodeRef node : kafkaCluster.brokerNodes()) {
+            for (GenericKafkaListener listener : listeners) {
+                blackhole.consume(ListenersUtils.envVarIdentifier(listener));
+                blackhole.consume(ListenersUtils.brokerHost(listener, node));
+                blackhole.consume(ListenersUtils.brokerAdvertisedHost(listener, node));
+                blackhole.consume(ListenersUtils.advertisedPortFromOverrideOrParameter(listener, node.nodeId(), 30_000 + node.nodeId()));
+                blackhole.consume(ListenersUtils.brokerAnnotations(listener, node.nodeId()));
+                blackhole.consume(ListenersUtils.brokerLabels(listener, node.nodeId()));
+            }
+        }
+
+        blackhole.consume(ListenersUtils.alternativeNames(listeners));
+    }
+
+    /**
+     * Benchmarks the calculation of the Pod revision which is used to detect changes to the Pods
+     *
+     * @return  The Pod revision
+     */
+    @Benchmark
+    public String podRevision() {
+        return PodRevision.getRevision(RECONCILIATION, pod);
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.benchmarks;
+
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ReconciliationLogger;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the logging with the reconciliation context at enabled and disabled log levels. The log events are
+ * discarded by the Null appender configured in the log4j2.properties file of this module. The legacy benchmarks
+ * concatenate the reconciliation and the message before calling the logger, as the ReconciliationLogger used to do.
+ * Run with {@code -prof gc} to see the allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class ReconciliationLoggerBenchmark {
+    /**
+     * Whether the DEBUG and TRACE levels are enabled for the logger used in the benchmark
+     */
+    @Param({"false", "true"})
+    public boolean enabled;
+
+    private ReconciliationLogger reconciliationLogger;
+    private Logger logger;
+    private Reconciliation reconciliation;
+    private String podName;
+    private Integer brokerId;
+
+    /**
+     * Prepares the loggers
+     */
+    @Setup
+    public void setup() {
+        String loggerName = enabled ? "io.strimzi.benchmarks.logging.enabled" : "io.strimzi.benchmarks.logging.disabled";
+
+        reconciliationLogger = ReconciliationLogger.create(loggerName);
+        logger = LogManager.getLogger(loggerName);
+        reconciliation = new Reconciliation("watch", "Kafka", "my-namespace", "my-cluster");
+        podName = "my-cluster-brokers-0";
+        brokerId = 0;
+    }
+
+    /**
+     * Logs a message without parameters at the DEBUG level
+     */
+    @Benchmark
+    public void debugMessage() {
+        reconciliationLogger.debugCr(reconciliation, "Verifying cluster pods are up-to-date.");
+    }
+
+    /**
+     * Logs a message with one parameter at the DEBUG level
+     */
+    @Benchmark
+    public void debugOneParameter() {
+        reconciliationLogger.debugCr(reconciliation, "Pod {} does not need to be restarted", podName);
+    }
+
+    /**
+     * Logs a message with two parameters at the TRACE level
+     */
+    @Benchmark
+    public void traceTwoParameters() {
+        reconciliationLogger.traceCr(reconciliation, "Pod {} of broker {} is ready", podName, brokerId);
+    }
+
+    /**
+     * Logs a message with one parameter at the DEBUG level the way the ReconciliationLogger used to do it
+     */
+    @Benchmark
+    public void legacyDebugOneParameter() {
+        logger.debug(reconciliation.getMarker(), reconciliation.toString() + ": " + "Pod {} does not need to be restarted", podName);
+    }
+}
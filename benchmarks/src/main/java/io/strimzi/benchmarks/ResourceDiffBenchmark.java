@@ -0,0 +1,133 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.Service;
+import io.fabric8.kubernetes.api.model.ServiceBuilder;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import io.fabric8.zjsonpatch.JsonDiff;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.operator.resource.ResourceDiff;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Benchmarks the diffing of the current and desired Kubernetes resources done by the resource operators in every
+ * reconciliation. The {@code jsonPatch} benchmark measures the previous implementation which computed the complete
+ * JSON Patch and matched its paths against a regular expression. It is kept as a baseline for comparison.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class ResourceDiffBenchmark {
+    @SuppressWarnings("deprecation") // Same configuration as the mapper used by the diff
+    private static final ObjectMapper PATCH_MAPPER = Serialization.jsonMapper().copy()
+            .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true)
+            .configure(SerializationFeature.WRITE_EMPTY_JSON_ARRAYS, false);
+    private static final Pattern IGNORABLE_PATHS_PATTERN = Pattern.compile(
+            "^(/metadata/managedFields" +
+                    "|/metadata/creationTimestamp" +
+                    "|/metadata/deletionTimestamp" +
+                    "|/metadata/deletionGracePeriodSeconds" +
+                    "|/metadata/resourceVersion" +
+                    "|/metadata/generation" +
+                    "|/metadata/uid" +
+                    "|/status)$");
+
+    /**
+     * Kind of the diffed resource
+     */
+    @Param({"Pod", "Service", "ConfigMap"})
+    public String kind;
+
+    /**
+     * Whether the desired resource differs from the current resource. When it differs, the difference is in the last
+     * part of the resource to have the diff walk most of it.
+     */
+    @Param({"false", "true"})
+    public boolean changed;
+
+    private HasMetadata current;
+    private HasMetadata desired;
+
+    /**
+     * Prepares the resources
+     */
+    @Setup
+    public void setup() {
+        switch (kind) {
+            case "Pod" -> {
+                current = Fixtures.currentPod();
+                Pod pod = Fixtures.desiredPod();
+                desired = changed
+                        ? new PodBuilder(pod).editSpec().editLastVolume().editConfigMap().withName("changed").endConfigMap().endVolume().endSpec().build()
+                        : pod;
+            }
+            case "Service" -> {
+                current = Fixtures.currentService();
+                Service service = Fixtures.desiredService();
+                desired = changed
+                        ? new ServiceBuilder(service).editSpec().editLastPort().withPort(9094).endPort().endSpec().build()
+                        : service;
+            }
+            case "ConfigMap" -> {
+                current = Fixtures.currentConfigMap();
+                ConfigMap cm = Fixtures.desiredConfigMap();
+                desired = changed
+                        ? new ConfigMapBuilder(cm).addToData("server.config", cm.getData().get("server.config") + "changed=true\n").build()
+                        : cm;
+            }
+            default -> throw new IllegalArgumentException("Unsupported kind " + kind);
+        }
+    }
+
+    /**
+     * @return  Whether the resources are equal
+     */
+    @Benchmark
+    public boolean resourceDiff() {
+        return new ResourceDiff<>(Reconciliation.DUMMY_RECONCILIATION, kind, "my-resource", current, desired, ResourceDiff.DEFAULT_IGNORABLE_PATHS).isEmpty();
+    }
+
+    /**
+     * @return  Whether the resources are equal
+     */
+    @Benchmark
+    public boolean jsonPatch() {
+        JsonNode source = PATCH_MAPPER.valueToTree(current);
+        JsonNode target = PATCH_MAPPER.valueToTree(desired);
+
+        for (JsonNode d : JsonDiff.asJson(source, target)) {
+            if (!IGNORABLE_PATHS_PATTERN.matcher(d.get("path").asText()).matches()) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.benchmarks;
+
+import io.strimzi.api.kafka.model.kafka.KafkaStatus;
+import io.strimzi.api.kafka.model.kafka.KafkaStatusBuilder;
+import io.strimzi.api.kafka.model.kafka.listener.ListenerAddressBuilder;
+import io.strimzi.api.kafka.model.kafka.listener.ListenerStatusBuilder;
+import io.strimzi.operator.common.model.StatusDiff;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the diffing of the custom resource statuses done at the end of every reconciliation
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class StatusDiffBenchmark {
+    /**
+     * Whether the desired status differs from the current status in other fields than the last transition time of
+     * the conditions
+     */
+    @Param({"false", "true"})
+    public boolean changed;
+
+    private KafkaStatus current;
+    private KafkaStatus desired;
+
+    private static KafkaStatusBuilder status(String transitionTime) {
+        return new KafkaStatusBuilder()
+                .withObservedGeneration(5L)
+                .withClusterId("CTQ5h1kHQQ2cFtbdCZ1nXw")
+                .withKafkaVersion("3.9.0")
+                .withKafkaMetadataVersion("3.9-IV0")
+                .withOperatorLastSuccessfulVersion("0.46.0")
+                .addNewCondition()
+                    .withType("Ready")
+                    .withStatus("True")
+                    .withLastTransitionTime(transitionTime)
+                .endCondition()
+                .withListeners(
+                        new ListenerStatusBuilder().withName("plain").withAddresses(new ListenerAddressBuilder().withHost("my-cluster-kafka-bootstrap.my-namespace.svc").withPort(9092).build()).build(),
+                        new ListenerStatusBuilder().withName("tls").withAddresses(new ListenerAddressBuilder().withHost("my-cluster-kafka-bootstrap.my-namespace.svc").withPort(9093).build()).withCertificates("-----BEGIN CERTIFICATE-----\nMIIFLTCCAxWgAwIBAgIUR...\n-----END CERTIFICATE-----\n").build());
+    }
+
+    /**
+     * Prepares the statuses
+     */
+    @Setup
+    public void setup() {
+        current = status("2025-01-01T00:00:00Z").build();
+        desired = changed
+                ? status("2025-01-01T00:05:00Z").withObservedGeneration(6L).build()
+                : status("2025-01-01T00:05:00Z").build();
+    }
+
+    /**
+     * @return  Whether the statuses are equal
+     */
+    @Benchmark
+    public boolean statusDiff() {
+        return new StatusDiff(current, desired).isEmpty();
+    }
+}
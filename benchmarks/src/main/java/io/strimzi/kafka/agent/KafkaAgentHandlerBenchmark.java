@@ -0,0 +1,165 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.kafka.agent;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yammer.metrics.core.Gauge;
+import org.eclipse.jetty.server.LocalConnector;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.handler.ContextHandler;
+import org.eclipse.jetty.server.handler.ContextHandlerCollection;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Benchmarks the HTTP handlers of the Kafka Agent which are called by the readiness probes and by the operator while
+ * rolling the cluster. The requests are passed to the handlers through the in-memory Jetty connector, so the results
+ * include the HTTP parsing but not the network. The benchmark lives in the package of the agent to access its
+ * package-private handlers. The legacy benchmark encodes the broker state the way the handler used to do it. Run with
+ * {@code -prof gc} to see the allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class KafkaAgentHandlerBenchmark {
+    private static final String BROKER_STATE_REQUEST = "GET /v1/broker-state HTTP/1.1\r\nHost: localhost\r\n\r\n";
+    private static final String HEALTH_REQUEST = "GET /v1/health HTTP/1.1\r\nHost: localhost\r\n\r\n";
+    private static final String READINESS_REQUEST = "GET /v1/ready HTTP/1.1\r\nHost: localhost\r\n\r\n";
+
+    /**
+     * Whether the values of the gauges change between the requests. When they do, the responses have to be encoded
+     * for every request.
+     */
+    @Param({"false", "true"})
+    public boolean changing;
+
+    private final AtomicInteger leaderCount = new AtomicInteger(100);
+    private Gauge<Byte> brokerState;
+    private KafkaAgent agent;
+    private Server server;
+    private LocalConnector connector;
+
+    /**
+     * Starts the Jetty server with the agent handlers
+     *
+     * @throws Exception    When the server fails to start
+     */
+    @Setup
+    public void setup() throws Exception {
+        brokerState = gauge((byte) 3);
+        agent = new KafkaAgent(brokerState, Map.of(
+                KafkaAgent.UNDER_REPLICATED_PARTITIONS, gauge(0),
+                KafkaAgent.UNDER_MIN_ISR_PARTITIONS, gauge(0),
+                KafkaAgent.AT_MIN_ISR_PARTITIONS, gauge(0),
+                KafkaAgent.LEADER_COUNT, new Gauge<Integer>() {
+                    @Override
+                    public Integer value() {
+                        return changing ? leaderCount.incrementAndGet() : leaderCount.get();
+                    }
+                },
+                KafkaAgent.OFFLINE_PARTITIONS, gauge(0),
+                KafkaAgent.ACTIVE_CONTROLLER, gauge(1)));
+
+        ContextHandler brokerStateContext = new ContextHandler("/v1/broker-state");
+        brokerStateContext.setHandler(agent.getBrokerStateHandler());
+        ContextHandler healthContext = new ContextHandler("/v1/health");
+        healthContext.setHandler(agent.getHealthHandler());
+        ContextHandler readinessContext = new ContextHandler("/v1/ready");
+        readinessContext.setHandler(agent.getReadinessHandler());
+
+        server = new Server();
+        connector = new LocalConnector(server);
+        server.addConnector(connector);
+        server.setHandler(new ContextHandlerCollection(brokerStateContext, healthContext, readinessContext));
+        server.start();
+    }
+
+    /**
+     * Stops the Jetty server
+     *
+     * @throws Exception    When the server fails to stop
+     */
+    @TearDown
+    public void tearDown() throws Exception {
+        server.stop();
+    }
+
+    private static <T> Gauge<T> gauge(T value) {
+        return new Gauge<>() {
+            @Override
+            public T value() {
+                return value;
+            }
+        };
+    }
+
+    /**
+     * @return  The broker state response
+     *
+     * @throws Exception    When the request fails
+     */
+    @Benchmark
+    public String brokerStateRequest() throws Exception {
+        return connector.getResponse(BROKER_STATE_REQUEST);
+    }
+
+    /**
+     * @return  The health response
+     *
+     * @throws Exception    When the request fails
+     */
+    @Benchmark
+    public String healthRequest() throws Exception {
+        return connector.getResponse(HEALTH_REQUEST);
+    }
+
+    /**
+     * @return  The readiness response
+     *
+     * @throws Exception    When the request fails
+     */
+    @Benchmark
+    public String readinessRequest() throws Exception {
+        return connector.getResponse(READINESS_REQUEST);
+    }
+
+    /**
+     * @return  The encoded health response without the HTTP handling
+     */
+    @Benchmark
+    public byte[] healthResponse() {
+        return agent.healthResponse();
+    }
+
+    /**
+     * @return  The broker state encoded the way the handler used to do it
+     *
+     * @throws Exception    When the encoding fails
+     */
+    @Benchmark
+    public String legacyBrokerStateResponse() throws Exception {
+        Map<String, Object> brokerStateResponse = new HashMap<>();
+        brokerStateResponse.put("brokerState", brokerState.value());
+        return new ObjectMapper().writeValueAsString(brokerStateResponse);
+    }
+}
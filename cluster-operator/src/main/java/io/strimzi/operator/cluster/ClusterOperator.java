@@ -6,13 +6,14 @@ package io.strimzi.operator.cluster;
 
 import io.strimzi.api.kafka.model.connector.KafkaConnector;
 import io.strimzi.api.kafka.model.nodepool.KafkaNodePool;
+import io.strimzi.operator.cluster.leaderelection.ShardOwnership;
 import io.strimzi.operator.cluster.operator.assembly.AbstractOperator;
+import io.strimzi.operator.cluster.operator.assembly.InformerWatcher;
 import io.strimzi.operator.cluster.operator.assembly.KafkaAssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaBridgeAssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaConnectAssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaMirrorMaker2AssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaRebalanceAssemblyOperator;
-import io.strimzi.operator.cluster.operator.assembly.ReconnectingWatcher;
 import io.strimzi.operator.cluster.operator.assembly.StrimziPodSetController;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
 import io.vertx.core.AbstractVerticle;
@@ -43,15 +44,17 @@ public class ClusterOperator extends AbstractVerticle {
     private final String namespace;
     private final ClusterOperatorConfig config;
 
-    private final Map<String, ReconnectingWatcher<?>> watchByKind = new ConcurrentHashMap<>();
+    private final Map<String, InformerWatcher<?>> watchByKind = new ConcurrentHashMap<>();
 
     private long reconcileTimer;
+    private long connectorStatusTimer = -1;
     private final KafkaAssemblyOperator kafkaAssemblyOperator;
     private final KafkaConnectAssemblyOperator kafkaConnectAssemblyOperator;
     private final KafkaMirrorMaker2AssemblyOperator kafkaMirrorMaker2AssemblyOperator;
     private final KafkaBridgeAssemblyOperator kafkaBridgeAssemblyOperator;
     private final KafkaRebalanceAssemblyOperator kafkaRebalanceAssemblyOperator;
     private final ResourceOperatorSupplier resourceOperatorSupplier;
+    private final ShardOwnership shardOwnership;
 
     private StrimziPodSetController strimziPodSetController;
 
@@ -70,6 +73,8 @@ public class ClusterOperator extends AbstractVerticle {
      * @param kafkaBridgeAssemblyOperator       KafkaBridge operator
      * @param kafkaRebalanceAssemblyOperator    KafkaRebalance operator
      * @param resourceOperatorSupplier          Resource operator supplier
+     * @param shardOwnership                    Shard ownership deciding which clusters are handled by the
+     *                                          StrimziPodSet controller of this replica
      */
     public ClusterOperator(String namespace,
                            ClusterOperatorConfig config,
@@ -78,7 +83,8 @@ public class ClusterOperator extends AbstractVerticle {
                            KafkaMirrorMaker2AssemblyOperator kafkaMirrorMaker2AssemblyOperator,
                            KafkaBridgeAssemblyOperator kafkaBridgeAssemblyOperator,
                            KafkaRebalanceAssemblyOperator kafkaRebalanceAssemblyOperator,
-                           ResourceOperatorSupplier resourceOperatorSupplier) {
+                           ResourceOperatorSupplier resourceOperatorSupplier,
+                           ShardOwnership shardOwnership) {
         LOGGER.info("Creating ClusterOperator for namespace {}", namespace);
         this.namespace = namespace;
         this.config = config;
@@ -88,6 +94,7 @@ public class ClusterOperator extends AbstractVerticle {
         this.kafkaBridgeAssemblyOperator = kafkaBridgeAssemblyOperator;
         this.kafkaRebalanceAssemblyOperator = kafkaRebalanceAssemblyOperator;
         this.resourceOperatorSupplier = resourceOperatorSupplier;
+        this.shardOwnership = shardOwnership;
     }
 
     @Override
@@ -137,6 +144,12 @@ public class ClusterOperator extends AbstractVerticle {
                         }
                     });
 
+                    if (!config.isPodSetReconciliationOnly() && config.getConnectorStatusPollIntervalMs() > 0) {
+                        LOGGER.info("Setting up periodic connector status polling for namespace {}", namespace);
+                        this.connectorStatusTimer = vertx.setPeriodic(config.getConnectorStatusPollIntervalMs(),
+                                res2 -> kafkaConnectAssemblyOperator.pollConnectorStatuses(namespace));
+                    }
+
                     return Future.succeededFuture((Void) null);
                 })
                 .onComplete(start);
@@ -148,6 +161,7 @@ public class ClusterOperator extends AbstractVerticle {
                 strimziPodSetController = new StrimziPodSetController(
                         namespace,
                         config.getCustomResourceSelector(),
+                        shardOwnership,
                         resourceOperatorSupplier.kafkaOperator,
                         resourceOperatorSupplier.connectOperator,
                         resourceOperatorSupplier.mirrorMaker2Operator,
@@ -169,7 +183,8 @@ public class ClusterOperator extends AbstractVerticle {
     public void stop(Promise<Void> stop) {
         LOGGER.info("Stopping ClusterOperator for namespace {}", namespace);
         vertx.cancelTimer(reconcileTimer);
-        for (ReconnectingWatcher<?> watch : watchByKind.values()) {
+        vertx.cancelTimer(connectorStatusTimer);
+        for (InformerWatcher<?> watch : watchByKind.values()) {
             if (watch != null) {
                 watch.close();
             }
@@ -179,10 +194,22 @@ public class ClusterOperator extends AbstractVerticle {
         stop.complete();
     }
 
+    /**
+     * Enqueues the reconciliation of all StrimziPodSets. This is used when this replica starts managing the clusters
+     * after taking over the leadership from warm standby.
+     */
+    void reconcilePodSets() {
+        if (strimziPodSetController != null) {
+            strimziPodSetController.enqueueAll();
+        }
+    }
+
     /**
      * Periodical reconciliation (in case we lost some event)
+     *
+     * @param trigger   Trigger of the reconciliation used in the logs
      */
-    private void reconcileAll(String trigger) {
+    void reconcileAll(String trigger) {
         if (!config.isPodSetReconciliationOnly()) {
             Handler<AsyncResult<Void>> ignore = ignored -> {
             };
@@ -33,7 +33,9 @@ import static io.strimzi.operator.common.config.ConfigParameterParser.LOCAL_OBJE
 import static io.strimzi.operator.common.config.ConfigParameterParser.LONG;
 import static io.strimzi.operator.common.config.ConfigParameterParser.NAMESPACE_SET;
 import static io.strimzi.operator.common.config.ConfigParameterParser.STRING;
+import static io.strimzi.operator.common.config.ConfigParameterParser.nonNegative;
 import static io.strimzi.operator.common.config.ConfigParameterParser.parseFeatureGates;
+import static io.strimzi.operator.common.config.ConfigParameterParser.strictlyPositive;
 
 /**
  * Cluster Operator configuration
@@ -150,6 +152,39 @@ public class ClusterOperatorConfig {
      */
     public static final ConfigParameter<Long> CONNECT_BUILD_TIMEOUT_MS = new ConfigParameter<>("STRIMZI_CONNECT_BUILD_TIMEOUT_MS", LONG, "300000", CONFIG_VALUES);
 
+    /**
+     * Maximal number of custom resources reconciled in parallel
+     */
+    public static final ConfigParameter<Integer> MAX_CONCURRENT_RECONCILIATIONS = new ConfigParameter<>("STRIMZI_MAX_CONCURRENT_RECONCILIATIONS", strictlyPositive(INTEGER), "100", CONFIG_VALUES);
+
+    /**
+     * Maximal number of custom resources of a single kind reconciled in parallel
+     */
+    public static final ConfigParameter<Integer> MAX_CONCURRENT_RECONCILIATIONS_PER_KIND = new ConfigParameter<>("STRIMZI_MAX_CONCURRENT_RECONCILIATIONS_PER_KIND", strictlyPositive(INTEGER), "50", CONFIG_VALUES);
+
+    /**
+     * Maximal number of connectors reconciled in parallel in a single Kafka Connect cluster
+     */
+    public static final ConfigParameter<Integer> CONNECTOR_RECONCILIATION_CONCURRENCY = new ConfigParameter<>("STRIMZI_CONNECTOR_RECONCILIATION_CONCURRENCY", strictlyPositive(INTEGER), "10", CONFIG_VALUES);
+
+    /**
+     * Specify every how many milliseconds the state of the connectors is polled from the Kafka Connect clusters. Set
+     * to 0 to disable the polling.
+     */
+    public static final ConfigParameter<Long> CONNECTOR_STATUS_POLL_INTERVAL_MS = new ConfigParameter<>("STRIMZI_CONNECTOR_STATUS_POLL_INTERVAL_MS", nonNegative(LONG), "30000", CONFIG_VALUES);
+
+    /**
+     * Specify the minimal interval in milliseconds between the polls of the Cruise Control user tasks which are in
+     * progress. Set to 0 to disable the polling.
+     */
+    public static final ConfigParameter<Long> CRUISE_CONTROL_TASK_POLL_INTERVAL_MS = new ConfigParameter<>("STRIMZI_CRUISE_CONTROL_TASK_POLL_INTERVAL_MS", LONG, "5000", CONFIG_VALUES);
+
+    /**
+     * Specify for how many milliseconds the rebalance proposals computed by Cruise Control are reused by the
+     * KafkaRebalance resources requesting an identical proposal. Set to 0 to disable the reuse.
+     */
+    public static final ConfigParameter<Long> CRUISE_CONTROL_PROPOSAL_CACHE_TTL_MS = new ConfigParameter<>("STRIMZI_CRUISE_CONTROL_PROPOSAL_CACHE_TTL_MS", LONG, "30000", CONFIG_VALUES);
+
     /**
      * Set true to generate Network Policies
      */
@@ -222,6 +257,21 @@ public class ClusterOperatorConfig {
      */
     public static final ConfigParameter<Boolean> LEADER_ELECTION_ENABLED = new ConfigParameter<>("STRIMZI_LEADER_ELECTION_ENABLED", BOOLEAN, "false", CONFIG_VALUES);
 
+    /**
+     * Shards the custom resources between all replicas of the Cluster Operator instead of electing a single leader
+     */
+    public static final ConfigParameter<Boolean> SHARDING_ENABLED = new ConfigParameter<>("STRIMZI_SHARDING_ENABLED", BOOLEAN, "false", CONFIG_VALUES);
+
+    /**
+     * Number of shards used when sharding is enabled
+     */
+    public static final ConfigParameter<Integer> SHARD_COUNT = new ConfigParameter<>("STRIMZI_SHARD_COUNT", INTEGER, "32", CONFIG_VALUES);
+
+    /**
+     * Keeps the watches and informers of the non-leader replicas running so that they can take over the leadership faster
+     */
+    public static final ConfigParameter<Boolean> WARM_STANDBY_ENABLED = new ConfigParameter<>("STRIMZI_WARM_STANDBY_ENABLED", BOOLEAN, "false", CONFIG_VALUES);
+
     private static final ConfigParameter<String> POD_SECURITY_PROVIDER_BASELINE_SHORTCUT = new ConfigParameter<>("POD_SECURITY_PROVIDER_BASELINE_SHORTCUT", STRING, "baseline", CONFIG_VALUES);
 
     /**
@@ -244,6 +294,11 @@ public class ClusterOperatorConfig {
      */
     public static final ConfigParameter<Boolean> POD_DISRUPTION_BUDGET_GENERATION = new ConfigParameter<>("STRIMZI_POD_DISRUPTION_BUDGET_GENERATION", BOOLEAN, "true", CONFIG_VALUES);
 
+    /**
+     * Set true to trace the reconciliations using OpenTelemetry
+     */
+    public static final ConfigParameter<Boolean> TRACING_ENABLED = new ConfigParameter<>("STRIMZI_TRACING_ENABLED", BOOLEAN, "false", CONFIG_VALUES);
+
     /**
      * The configured Kafka versions
      */
@@ -298,9 +353,43 @@ public class ClusterOperatorConfig {
         envMap.keySet().retainAll(ClusterOperatorConfig.keyNames());
 
         Map<String, Object> generatedMap = ConfigParameter.define(envMap, CONFIG_VALUES);
+        validateSharding(generatedMap);
+        validateWarmStandby(generatedMap);
         return new ClusterOperatorConfig(generatedMap, lookup);
     }
 
+    /**
+     * Validates the sharding configuration. Sharding uses the Lease name, namespace and identity from the leader
+     * election configuration, so it requires the leader election to be enabled.
+     *
+     * @param map   Map with the parsed configuration
+     */
+    private static void validateSharding(Map<String, Object> map) {
+        if (Boolean.TRUE.equals(map.get(SHARDING_ENABLED.key()))) {
+            if (!Boolean.TRUE.equals(map.get(LEADER_ELECTION_ENABLED.key()))) {
+                throw new InvalidConfigurationException(SHARDING_ENABLED.key() + " requires " + LEADER_ELECTION_ENABLED.key() + " to be enabled");
+            } else if ((Integer) map.get(SHARD_COUNT.key()) < 1) {
+                throw new InvalidConfigurationException(SHARD_COUNT.key() + " has to be at least 1");
+            }
+        }
+    }
+
+    /**
+     * Validates the warm standby configuration. Warm standby applies only to the replicas waiting for the leadership,
+     * so it requires the leader election to be enabled and cannot be combined with sharding.
+     *
+     * @param map   Map with the parsed configuration
+     */
+    private static void validateWarmStandby(Map<String, Object> map) {
+        if (Boolean.TRUE.equals(map.get(WARM_STANDBY_ENABLED.key()))) {
+            if (!Boolean.TRUE.equals(map.get(LEADER_ELECTION_ENABLED.key()))) {
+                throw new InvalidConfigurationException(WARM_STANDBY_ENABLED.key() + " requires " + LEADER_ELECTION_ENABLED.key() + " to be enabled");
+            } else if (Boolean.TRUE.equals(map.get(SHARDING_ENABLED.key()))) {
+                throw new InvalidConfigurationException(WARM_STANDBY_ENABLED.key() + " cannot be used together with " + SHARDING_ENABLED.key());
+            }
+        }
+    }
+
     private final Map<String, Object> map;
 
     /**
@@ -581,6 +670,72 @@ public class ClusterOperatorConfig {
         }
     }
 
+    /**
+     * @return  True if the custom resources are sharded between the replicas of the Cluster Operator. False otherwise.
+     */
+    public boolean isShardingEnabled() {
+        return get(SHARDING_ENABLED);
+    }
+
+    /**
+     * @return  Number of shards used when sharding is enabled
+     */
+    public int getShardCount() {
+        return get(SHARD_COUNT);
+    }
+
+    /**
+     * @return  True if the non-leader replicas keep their watches and informers running in warm standby. False otherwise.
+     */
+    public boolean isWarmStandbyEnabled() {
+        return get(WARM_STANDBY_ENABLED);
+    }
+
+    /**
+     * @return  Maximal number of custom resources reconciled in parallel
+     */
+    public int getMaxConcurrentReconciliations() {
+        return get(MAX_CONCURRENT_RECONCILIATIONS);
+    }
+
+    /**
+     * @return  Maximal number of custom resources of a single kind reconciled in parallel
+     */
+    public int getMaxConcurrentReconciliationsPerKind() {
+        return get(MAX_CONCURRENT_RECONCILIATIONS_PER_KIND);
+    }
+
+    /**
+     * @return  Maximal number of connectors reconciled in parallel in a single Kafka Connect cluster
+     */
+    public int getConnectorReconciliationConcurrency() {
+        return get(CONNECTOR_RECONCILIATION_CONCURRENCY);
+    }
+
+    /**
+     * @return  How often should the state of the connectors be polled from the Kafka Connect clusters. 0 means that
+     *          the polling is disabled.
+     */
+    public long getConnectorStatusPollIntervalMs() {
+        return get(CONNECTOR_STATUS_POLL_INTERVAL_MS);
+    }
+
+    /**
+     * @return  Minimal interval between the polls of the Cruise Control user tasks which are in progress. 0 means that
+     *          the polling is disabled.
+     */
+    public long getCruiseControlTaskPollIntervalMs() {
+        return get(CRUISE_CONTROL_TASK_POLL_INTERVAL_MS);
+    }
+
+    /**
+     * @return  How long the rebalance proposals computed by Cruise Control are reused. 0 means that the proposals are
+     *          not reused.
+     */
+    public long getCruiseControlProposalCacheTtlMs() {
+        return get(CRUISE_CONTROL_PROPOSAL_CACHE_TTL_MS);
+    }
+
     /**
      * @return  Indicates whether Pod Disruption Budgets should be generated
      */
@@ -588,6 +743,13 @@ public class ClusterOperatorConfig {
         return get(POD_DISRUPTION_BUDGET_GENERATION);
     }
 
+    /**
+     * @return  Indicates whether the reconciliations should be traced using OpenTelemetry
+     */
+    public boolean isTracingEnabled() {
+        return get(TRACING_ENABLED);
+    }
+
     @Override
     public String toString() {
         return "ClusterOperatorConfig{" +
@@ -595,6 +757,12 @@ public class ClusterOperatorConfig {
                 "\n\treconciliationIntervalMs=" + getReconciliationIntervalMs() +
                 "\n\toperationTimeoutMs=" + getOperationTimeoutMs() +
                 "\n\tconnectBuildTimeoutMs=" + getConnectBuildTimeoutMs() +
+                "\n\tmaxConcurrentReconciliations=" + getMaxConcurrentReconciliations() +
+                "\n\tmaxConcurrentReconciliationsPerKind=" + getMaxConcurrentReconciliationsPerKind() +
+                "\n\tconnectorReconciliationConcurrency=" + getConnectorReconciliationConcurrency() +
+                "\n\tconnectorStatusPollIntervalMs=" + getConnectorStatusPollIntervalMs() +
+                "\n\tcruiseControlTaskPollIntervalMs=" + getCruiseControlTaskPollIntervalMs() +
+                "\n\tcruiseControlProposalCacheTtlMs=" + getCruiseControlProposalCacheTtlMs() +
                 "\n\tnetworkPolicyGeneration=" + isNetworkPolicyGeneration() +
                 "\n\tversions='" + versions() + '\'' +
                 "\n\timagePullPolicy='" + getImagePullPolicy() + '\'' +
@@ -609,7 +777,11 @@ public class ClusterOperatorConfig {
                 "\n\toperatorName='" + getOperatorName() + '\'' +
                 "\n\tpodSecurityProviderClass='" + getPodSecurityProviderClass() + '\'' +
                 "\n\tleaderElectionConfig='" + getLeaderElectionConfig() + '\'' +
+                "\n\tshardingEnabled=" + isShardingEnabled() +
+                "\n\tshardCount=" + getShardCount() +
+                "\n\twarmStandbyEnabled=" + isWarmStandbyEnabled() +
                 "\n\tpodDisruptionBudgetGeneration=" + isPodDisruptionBudgetGeneration() +
+                "\n\ttracingEnabled=" + isTracingEnabled() +
                 "}";
     }
 }
@@ -9,20 +9,29 @@ import io.fabric8.kubernetes.client.KubernetesClient;
 import io.micrometer.prometheus.PrometheusMeterRegistry;
 import io.strimzi.certs.OpenSslCertManager;
 import io.strimzi.operator.cluster.leaderelection.LeaderElectionManager;
+import io.strimzi.operator.cluster.leaderelection.ShardManager;
+import io.strimzi.operator.cluster.leaderelection.ShardOwnership;
+import io.strimzi.operator.cluster.leaderelection.WarmStandby;
 import io.strimzi.operator.cluster.model.securityprofiles.PodSecurityProviderFactory;
+import io.strimzi.operator.cluster.operator.assembly.AbstractOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaAssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaBridgeAssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaConnectAssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaMirrorMaker2AssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaRebalanceAssemblyOperator;
+import io.strimzi.operator.cluster.operator.assembly.ReconciliationScheduler;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
 import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.common.OperatorKubernetesClientBuilder;
+import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.model.PasswordGenerator;
+import io.strimzi.operator.common.tracing.OperatorTracing;
+import io.vertx.core.AsyncResult;
 import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
+import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.core.VertxOptions;
@@ -36,7 +45,10 @@ import org.apache.logging.log4j.Logger;
 import java.security.Security;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * The main class used to start the Strimzi Cluster Operator
@@ -64,6 +76,10 @@ public class Main {
         // setting DNS cache TTL
         Security.setProperty("networkaddress.cache.ttl", String.valueOf(config.getDnsCacheTtlSec()));
 
+        if (config.isTracingEnabled()) {
+            OperatorTracing.initialize("strimzi-cluster-operator");
+        }
+
         // Shutdown hook to register shutdown actions
         ShutdownHook shutdownHook = new ShutdownHook();
         Runtime.getRuntime().addShutdownHook(new Thread(shutdownHook));
@@ -165,6 +181,29 @@ public class Main {
             kafkaRebalanceAssemblyOperator = new KafkaRebalanceAssemblyOperator(vertx, resourceOperatorSupplier, config);
         }
 
+        List<AbstractOperator<?, ?, ?, ?>> operators = kafkaClusterOperations == null ? List.of()
+                : List.of(kafkaClusterOperations, kafkaConnectClusterOperations, kafkaMirrorMaker2AssemblyOperator, kafkaBridgeAssemblyOperator, kafkaRebalanceAssemblyOperator);
+
+        // All operators share one scheduler, so that the concurrency limit applies to all of them together
+        ReconciliationScheduler scheduler = new ReconciliationScheduler(config.getMaxConcurrentReconciliations(), config.getMaxConcurrentReconciliationsPerKind(), metricsProvider);
+        for (AbstractOperator<?, ?, ?, ?> operator : operators) {
+            operator.setScheduler(scheduler);
+        }
+
+        WarmStandby warmStandby = config.isWarmStandbyEnabled() ? new WarmStandby(metricsProvider) : null;
+        ShardOwnership shardOwnership = warmStandby != null ? warmStandby : sharding(vertx, client, metricsProvider, config, shutdownHook, operators);
+        List<ClusterOperator> clusterOperators = new ArrayList<>(config.getNamespaces().size());
+        LeaderElectionManager warmStandbyLeaderElection = warmStandby != null ? warmStandbyLeaderElection(vertx, client, config, warmStandby, operators, clusterOperators) : null;
+
+        if (warmStandbyLeaderElection != null) {
+            for (AbstractOperator<?, ?, ?, ?> operator : operators) {
+                operator.setShardOwnership(warmStandby);
+            }
+
+            // Registered before the verticles are deployed, so the leadership is released only after the verticles are undeployed
+            shutdownHook.register(warmStandbyLeaderElection::stop);
+        }
+
         List<Future<String>> futures = new ArrayList<>(config.getNamespaces().size());
         for (String namespace : config.getNamespaces()) {
             Promise<String> prom = Promise.promise();
@@ -176,7 +215,9 @@ public class Main {
                     kafkaMirrorMaker2AssemblyOperator,
                     kafkaBridgeAssemblyOperator,
                     kafkaRebalanceAssemblyOperator,
-                    resourceOperatorSupplier);
+                    resourceOperatorSupplier,
+                    shardOwnership);
+            clusterOperators.add(operator);
             vertx.deployVerticle(operator).onComplete(res -> {
                 if (res.succeeded()) {
                     shutdownHook.register(() -> ShutdownHook.undeployVertxVerticle(vertx, res.result(), SHUTDOWN_TIMEOUT));
@@ -192,7 +233,17 @@ public class Main {
                 prom.handle(res);
             });
         }
-        return Future.join(futures);
+
+        CompositeFuture deployment = Future.join(futures);
+
+        if (warmStandbyLeaderElection != null) {
+            deployment.onSuccess(i -> {
+                LOGGER.info("Cluster Operator is in warm standby and waiting to become a leader");
+                warmStandbyLeaderElection.start();
+            });
+        }
+
+        return deployment;
     }
 
     /**
@@ -201,7 +252,8 @@ public class Main {
      *   - Once it is elected a leader, it will continue and start the ClusterOperator verticles
      *   - If it is removed as a leader, it will loop the operator container to start from the beginning
      *
-     * When the leader election is disabled, it just completes the future without waiting for anything.
+     * When the leader election is disabled or when sharding or warm standby is enabled, it just completes the future
+     * without waiting for anything.
      *
      * @param client        Kubernetes client
      * @param config        Cluster Operator configuration
@@ -210,7 +262,13 @@ public class Main {
     private static Future<Void> leaderElection(KubernetesClient client, ClusterOperatorConfig config, ShutdownHook shutdownHook)    {
         Promise<Void> leader = Promise.promise();
 
-        if (config.getLeaderElectionConfig() != null) {
+        if (config.isShardingEnabled()) {
+            LOGGER.info("Sharding is enabled => all replicas are active and share the custom resources");
+            leader.complete();
+        } else if (config.isWarmStandbyEnabled()) {
+            LOGGER.info("Warm standby is enabled => the leader election starts once the verticles are deployed");
+            leader.complete();
+        } else if (config.getLeaderElectionConfig() != null) {
             LeaderElectionManager leaderElection = new LeaderElectionManager(
                     client, config.getLeaderElectionConfig(),
                     () -> {
@@ -244,6 +302,115 @@ public class Main {
         return leader.future();
     }
 
+    /**
+     * Sets up the sharding of the custom resources between the replicas of the operator. When sharding is enabled, it
+     * starts the Shard Manager and configures the operators to reconcile only the resources from the shards owned by
+     * this replica. When this replica acquires new shards, all operators are asked to reconcile their resources, so
+     * that the resources from the new shards are reconciled without waiting for the periodic reconciliation.
+     *
+     * @param vertx             Vertx instance
+     * @param client            Kubernetes client
+     * @param metricsProvider   Metrics provider
+     * @param config            Cluster Operator configuration
+     * @param shutdownHook      Shutdown hook to register the Shard Manager shutdown
+     * @param operators         Operators which should be sharded
+     *
+     * @return  Shard ownership used by this replica
+     */
+    private static ShardOwnership sharding(Vertx vertx, KubernetesClient client, MetricsProvider metricsProvider, ClusterOperatorConfig config, ShutdownHook shutdownHook, List<AbstractOperator<?, ?, ?, ?>> operators) {
+        if (!config.isShardingEnabled()) {
+            return ShardOwnership.ALL;
+        }
+
+        ShardManager shardManager = new ShardManager(client, config.getLeaderElectionConfig(), config.getShardCount(), metricsProvider,
+                shards -> vertx.runOnContext(v -> {
+                    Handler<AsyncResult<Void>> ignore = ignored -> {
+                    };
+
+                    for (String namespace : config.getNamespaces()) {
+                        for (AbstractOperator<?, ?, ?, ?> operator : operators) {
+                            operator.reconcileAll("shard acquired", namespace, ignore);
+                        }
+                    }
+                }));
+
+        for (AbstractOperator<?, ?, ?, ?> operator : operators) {
+            operator.setShardOwnership(shardManager);
+        }
+
+        shardManager.start();
+        // Registered before the verticles are deployed, so it is called only after the verticles are undeployed
+        shutdownHook.register(shardManager::stop);
+
+        return shardManager;
+    }
+
+    /**
+     * Creates the leader election used in warm standby. The verticles of a standby replica are deployed before it
+     * becomes the leader, so its watches and informers are already in-sync, but it does not reconcile anything. When
+     * it becomes the leader, it first reconciles the resources which changed while it was on standby, starting with
+     * the most recently changed ones. Only after they are reconciled, it reconciles all other resources. Losing the
+     * leadership later restarts the operator container in the same way as without warm standby.
+     *
+     * @param vertx             Vertx instance
+     * @param client            Kubernetes client
+     * @param config            Cluster Operator configuration
+     * @param warmStandby       Warm standby ownership used by this replica
+     * @param operators         Operators used to reconcile the changed resources
+     * @param clusterOperators  Cluster Operator verticles which should reconcile all resources after the takeover
+     *
+     * @return  Leader Election Manager which should be started once the verticles are deployed
+     */
+    private static LeaderElectionManager warmStandbyLeaderElection(Vertx vertx, KubernetesClient client, ClusterOperatorConfig config, WarmStandby warmStandby, List<AbstractOperator<?, ?, ?, ?>> operators, List<ClusterOperator> clusterOperators) {
+        Map<String, AbstractOperator<?, ?, ?, ?>> operatorsByKind = operators.stream()
+                .collect(Collectors.toMap(AbstractOperator::kind, Function.identity()));
+
+        return new LeaderElectionManager(
+                client, config.getLeaderElectionConfig(),
+                () -> {
+                    List<Reconciliation> changes = warmStandby.takeOver();
+                    LOGGER.info("I'm the new leader => taking over from warm standby with {} resources changed during the standby", changes.size());
+
+                    vertx.runOnContext(v -> {
+                        for (ClusterOperator clusterOperator : clusterOperators) {
+                            clusterOperator.reconcilePodSets();
+                        }
+
+                        List<Future<Void>> prioritized = new ArrayList<>(changes.size());
+                        for (Reconciliation change : changes) {
+                            AbstractOperator<?, ?, ?, ?> operator = operatorsByKind.get(change.kind());
+
+                            if (operator != null) {
+                                prioritized.add(operator.reconcile(new Reconciliation("leader takeover", change.kind(), change.namespace(), change.name())));
+                            }
+                        }
+
+                        Future.join(prioritized).onComplete(i -> {
+                            warmStandby.takeOverCompleted();
+                            LOGGER.info("Resources changed during the standby were reconciled => reconciling all resources");
+
+                            for (ClusterOperator clusterOperator : clusterOperators) {
+                                clusterOperator.reconcileAll("leader takeover");
+                            }
+                        });
+                    });
+                },
+                isShuttingDown -> {
+                    // Not a leader anymore
+                    if (!isShuttingDown) {
+                        // Exit only if this isn't called as part of a shutdown
+                        LOGGER.warn("Stopped being a leader => exiting");
+                        // Has to run asynchronously to not block the leader election from shutting down (the exit call is synchronous)
+                        CompletableFuture.runAsync(() -> System.exit(1));
+                    } else {
+                        LOGGER.info("Stopped being a leader during a shutdown");
+                    }
+                },
+                s -> {
+                    // Do nothing
+                });
+    }
+
     /**
      * Start an HTTP health and metrics server
      *
@@ -0,0 +1,467 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.leaderelection;
+
+import io.fabric8.kubernetes.api.model.coordination.v1.Lease;
+import io.fabric8.kubernetes.api.model.coordination.v1.LeaseBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tags;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.metrics.MetricsHolder;
+import org.apache.kafka.common.utils.Utils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.Consumer;
+
+/**
+ * ShardManager splits the custom resources between the replicas of the Cluster Operator. It is used instead of the
+ * leader election when sharding is enabled, so that all replicas reconcile resources at the same time.
+ *
+ * The (namespace, cluster name) key space is split into a fixed number of shards. Each replica holds a member Lease
+ * which it renews periodically. The live members are the holders of the Leases which did not expire. Each shard is
+ * assigned to one of the live members using rendezvous hashing, so when a member joins or leaves, only the shards it
+ * gains or loses move. Before reconciling a shard, the assigned member has to acquire the shard Lease. A replica which
+ * loses a shard stops starting new reconciliations of it right away. But it keeps renewing the shard Lease while its
+ * reconciliations of the shard (for example a rolling update of a Kafka cluster) are still in progress and lets the
+ * Lease expire only once they finish (or releases it when the replica shuts down). This way, the new owner never
+ * starts reconciling a shard while the old owner still works on it.
+ *
+ * A replica which cannot renew its Leases within the renew deadline gives up all its shards, because the other replicas
+ * might have taken them over already.
+ *
+ * The member Leases are named after the identities of the replicas, which change when the replicas are replaced. A
+ * replica deletes its member Lease when it stops. The member Leases of replicas which did not stop cleanly are deleted
+ * by the other replicas once they were not renewed for many Lease durations.
+ */
+public class ShardManager implements ShardOwnership {
+    private static final Logger LOGGER = LogManager.getLogger(ShardManager.class);
+
+    /* test */ static final String METRICS_SHARD_OWNED = MetricsHolder.METRICS_PREFIX + "shard.owned";
+    /* test */ static final String METRICS_SHARD_ACQUISITIONS = MetricsHolder.METRICS_PREFIX + "shard.acquisitions";
+    /* test */ static final String METRICS_SHARD_MEMBERS = MetricsHolder.METRICS_PREFIX + "shard.members";
+
+    /**
+     * Number of Lease durations after which a member Lease which was not renewed is deleted
+     */
+    private static final int MEMBER_LEASE_GC_LEASE_DURATIONS = 10;
+
+    private final KubernetesClient client;
+    private final String namespace;
+    private final String leaseName;
+    private final String identity;
+    private final Duration leaseDuration;
+    private final Duration renewDeadline;
+    private final Duration retryPeriod;
+    private final int shardCount;
+    private final Consumer<Set<Integer>> shardsAcquiredCallback;
+
+    private final List<AtomicInteger> shardOwnedMetrics;
+    private final List<Counter> shardAcquisitionsMetrics;
+    private final AtomicInteger membersMetric;
+
+    private final ScheduledExecutorService executor;
+    private final AtomicIntegerArray runningReconciliations;
+    private volatile Set<Integer> ownedShards = Set.of();
+    private Instant lastRenewal = null;
+
+    /**
+     * ShardManager constructor
+     *
+     * @param client                    Kubernetes client
+     * @param config                    Leader election configuration. The lease name is used as a prefix of the names
+     *                                  of the member and shard Leases.
+     * @param shardCount                Number of shards. It has to be the same in all replicas.
+     * @param metricsProvider           Metrics provider
+     * @param shardsAcquiredCallback    Callback which is called with the shards this replica acquired
+     */
+    public ShardManager(KubernetesClient client, LeaderElectionManagerConfig config, int shardCount, MetricsProvider metricsProvider, Consumer<Set<Integer>> shardsAcquiredCallback) {
+        this.client = client;
+        this.namespace = config.getNamespace();
+        this.leaseName = config.getLeaseName();
+        this.identity = config.getIdentity();
+        this.leaseDuration = config.getLeaseDuration();
+        this.renewDeadline = config.getRenewDeadline();
+        this.retryPeriod = config.getRetryPeriod();
+        this.shardCount = shardCount;
+        this.shardsAcquiredCallback = shardsAcquiredCallback;
+
+        this.shardOwnedMetrics = new ArrayList<>(shardCount);
+        this.shardAcquisitionsMetrics = new ArrayList<>(shardCount);
+        for (int shard = 0; shard < shardCount; shard++) {
+            Tags tags = Tags.of("shard", String.valueOf(shard));
+            shardOwnedMetrics.add(metricsProvider.gauge(METRICS_SHARD_OWNED, "Whether the shard is owned by this replica", tags));
+            shardAcquisitionsMetrics.add(metricsProvider.counter(METRICS_SHARD_ACQUISITIONS, "Number of times the shard was acquired by this replica", tags));
+        }
+        this.membersMetric = metricsProvider.gauge(METRICS_SHARD_MEMBERS, "Number of live replicas sharing the shards", Tags.empty());
+
+        this.executor = Executors.newSingleThreadScheduledExecutor(r -> new Thread(r, "ShardManager"));
+        this.runningReconciliations = new AtomicIntegerArray(shardCount);
+    }
+
+    /**
+     * Starts renewing the Leases and claiming the shards
+     */
+    public void start() {
+        LOGGER.info("Starting the Shard Manager with {} shards as {}", shardCount, identity);
+        executor.scheduleWithFixedDelay(this::refresh, 0, retryPeriod.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops the Shard Manager, deletes the member Lease and releases the shard Leases so that the other replicas can
+     * take over the shards without waiting for the Leases to expire. This should be called only after the
+     * reconciliations stopped.
+     */
+    public void stop() {
+        LOGGER.info("Stopping the Shard Manager");
+        executor.shutdownNow();
+
+        try {
+            if (!executor.awaitTermination(renewDeadline.toMillis(), TimeUnit.MILLISECONDS)) {
+                LOGGER.warn("Shard Manager did not stop in time");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        Set<Integer> released = ownedShards;
+        updateOwnedShards(Set.of());
+        release(released);
+
+        LOGGER.info("Shard Manager stopped");
+    }
+
+    @Override
+    public boolean owns(String namespace, String name) {
+        return ownedShards.contains(shardOf(namespace, name, shardCount));
+    }
+
+    @Override
+    public void reconciliationStarted(Reconciliation reconciliation) {
+        runningReconciliations.incrementAndGet(shardOf(reconciliation.namespace(), reconciliation.name(), shardCount));
+    }
+
+    @Override
+    public void reconciliationFinished(Reconciliation reconciliation) {
+        runningReconciliations.decrementAndGet(shardOf(reconciliation.namespace(), reconciliation.name(), shardCount));
+    }
+
+    /**
+     * @return  Shards currently owned by this replica
+     */
+    public Set<Integer> ownedShards() {
+        return ownedShards;
+    }
+
+    /**
+     * Renews the member Lease of this replica, finds the live members and claims the shards assigned to this replica.
+     * It is called periodically from the executor.
+     */
+    /* test */ void refresh() {
+        Instant now = Instant.now();
+
+        try {
+            renewMemberLease(now);
+
+            Map<String, Lease> leases = new HashMap<>();
+            for (Lease lease : client.leases().inNamespace(namespace).list().getItems()) {
+                leases.put(lease.getMetadata().getName(), lease);
+            }
+
+            Set<String> members = liveMembers(leases.values(), now);
+            membersMetric.set(members.size());
+            deleteExpiredMemberLeases(leases.values(), now);
+
+            Set<Integer> owned = new HashSet<>();
+            for (int shard = 0; shard < shardCount; shard++) {
+                if (identity.equals(ownerOf(shard, members))) {
+                    if (claimShard(shard, leases.get(shardLeaseName(shard)), now)) {
+                        owned.add(shard);
+                    }
+                } else if (runningReconciliations.get(shard) > 0) {
+                    renewLostShard(shard, leases.get(shardLeaseName(shard)), now);
+                }
+            }
+
+            lastRenewal = now;
+            updateOwnedShards(owned);
+        } catch (KubernetesClientException e) {
+            LOGGER.warn("Failed to refresh the shard Leases", e);
+
+            if (lastRenewal == null || Duration.between(lastRenewal, now).compareTo(renewDeadline) > 0) {
+                // The other replicas might not see us as a member anymore => we have to give up all shards
+                updateOwnedShards(Set.of());
+            }
+        } catch (RuntimeException e) {
+            // Exceptions must not escape, otherwise the executor stops scheduling the refresh
+            LOGGER.error("Unexpected error while refreshing the shard Leases", e);
+        }
+    }
+
+    private void renewMemberLease(Instant now) {
+        String name = memberLeaseName();
+        Lease lease = client.leases().inNamespace(namespace).withName(name).get();
+
+        if (lease == null) {
+            client.leases().inNamespace(namespace).resource(newLease(name, now)).create();
+        } else {
+            lease.getSpec().setHolderIdentity(identity);
+            lease.getSpec().setRenewTime(toZonedDateTime(now));
+            client.leases().inNamespace(namespace).resource(lease).update();
+        }
+    }
+
+    /**
+     * Tries to acquire or renew the Lease of a shard assigned to this replica.
+     *
+     * @param shard     Shard
+     * @param lease     Current Lease of the shard or null if it does not exist yet
+     * @param now       Current time
+     *
+     * @return  True if this replica holds the shard Lease. False otherwise.
+     */
+    private boolean claimShard(int shard, Lease lease, Instant now) {
+        try {
+            if (lease == null) {
+                client.leases().inNamespace(namespace).resource(newLease(shardLeaseName(shard), now)).create();
+            } else if (identity.equals(lease.getSpec().getHolderIdentity())) {
+                lease.getSpec().setRenewTime(toZonedDateTime(now));
+                client.leases().inNamespace(namespace).resource(lease).update();
+            } else if (isFree(lease, now)) {
+                LOGGER.info("Taking over shard {} from {}", shard, lease.getSpec().getHolderIdentity());
+                lease.getSpec().setHolderIdentity(identity);
+                lease.getSpec().setAcquireTime(toZonedDateTime(now));
+                lease.getSpec().setRenewTime(toZonedDateTime(now));
+                lease.getSpec().setLeaseTransitions(lease.getSpec().getLeaseTransitions() == null ? 1 : lease.getSpec().getLeaseTransitions() + 1);
+                // The update uses the resource version of the Lease, so only one replica can take it over
+                client.leases().inNamespace(namespace).resource(lease).update();
+            } else {
+                LOGGER.debug("Shard {} is still held by {}", shard, lease.getSpec().getHolderIdentity());
+                return false;
+            }
+
+            return true;
+        } catch (KubernetesClientException e) {
+            LOGGER.warn("Failed to claim shard {}: {}", shard, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Renews the Lease of a shard which is not assigned to this replica anymore, but which still has reconciliations in
+     * progress. The Lease is renewed only while this replica holds it. Once the reconciliations finish, the Lease is not
+     * renewed anymore and expires, so that the new owner can take the shard over.
+     *
+     * @param shard     Shard
+     * @param lease     Current Lease of the shard or null if it does not exist
+     * @param now       Current time
+     */
+    private void renewLostShard(int shard, Lease lease, Instant now) {
+        if (lease != null && identity.equals(lease.getSpec().getHolderIdentity())) {
+            try {
+                LOGGER.debug("Renewing the Lease of shard {} until its reconciliations finish", shard);
+                lease.getSpec().setRenewTime(toZonedDateTime(now));
+                client.leases().inNamespace(namespace).resource(lease).update();
+            } catch (KubernetesClientException e) {
+                LOGGER.warn("Failed to renew the Lease of shard {}: {}", shard, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Deletes the member Leases which were released or which were not renewed for many Lease durations. These belong
+     * to the replicas which are gone and would otherwise pile up, because the member Leases are named after the
+     * replica identities.
+     *
+     * @param leases    All Leases in the namespace
+     * @param now       Current time
+     */
+    private void deleteExpiredMemberLeases(Collection<Lease> leases, Instant now) {
+        String prefix = leaseName + "-member-";
+        Duration gcAfter = leaseDuration.multipliedBy(MEMBER_LEASE_GC_LEASE_DURATIONS);
+
+        for (Lease lease : leases) {
+            String name = lease.getMetadata().getName();
+
+            if (name.startsWith(prefix)
+                    && !name.equals(memberLeaseName())
+                    && isFree(lease, now.minus(gcAfter))) {
+                try {
+                    LOGGER.info("Deleting the expired member Lease {}", name);
+                    client.leases().inNamespace(namespace).resource(lease).delete();
+                } catch (KubernetesClientException e) {
+                    LOGGER.warn("Failed to delete the expired member Lease {}: {}", name, e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void release(Set<Integer> shards) {
+        String memberLeaseName = memberLeaseName();
+
+        try {
+            client.leases().inNamespace(namespace).withName(memberLeaseName).delete();
+        } catch (KubernetesClientException e) {
+            LOGGER.warn("Failed to delete Lease {}: {}", memberLeaseName, e.getMessage());
+        }
+
+        for (int shard : shards) {
+            String name = shardLeaseName(shard);
+
+            try {
+                Lease lease = client.leases().inNamespace(namespace).withName(name).get();
+
+                if (lease != null && identity.equals(lease.getSpec().getHolderIdentity())) {
+                    lease.getSpec().setHolderIdentity(null);
+                    client.leases().inNamespace(namespace).resource(lease).update();
+                }
+            } catch (KubernetesClientException e) {
+                LOGGER.warn("Failed to release Lease {}: {}", name, e.getMessage());
+            }
+        }
+    }
+
+    private void updateOwnedShards(Set<Integer> owned) {
+        Set<Integer> acquired = new HashSet<>(owned);
+        acquired.removeAll(ownedShards);
+
+        Set<Integer> lost = new HashSet<>(ownedShards);
+        lost.removeAll(owned);
+
+        ownedShards = Set.copyOf(owned);
+
+        for (int shard = 0; shard < shardCount; shard++) {
+            shardOwnedMetrics.get(shard).set(owned.contains(shard) ? 1 : 0);
+        }
+
+        if (!lost.isEmpty()) {
+            LOGGER.info("Stopped owning shards {}", lost);
+        }
+
+        if (!acquired.isEmpty()) {
+            LOGGER.info("Started owning shards {}", acquired);
+            acquired.forEach(shard -> shardAcquisitionsMetrics.get(shard).increment());
+            shardsAcquiredCallback.accept(acquired);
+        }
+    }
+
+    private Set<String> liveMembers(Collection<Lease> leases, Instant now) {
+        String prefix = leaseName + "-member-";
+        Set<String> members = new HashSet<>();
+        members.add(identity);
+
+        for (Lease lease : leases) {
+            if (lease.getMetadata().getName().startsWith(prefix) && !isFree(lease, now)) {
+                members.add(lease.getSpec().getHolderIdentity());
+            }
+        }
+
+        return members;
+    }
+
+    private boolean isFree(Lease lease, Instant now) {
+        return lease.getSpec() == null
+                || lease.getSpec().getHolderIdentity() == null
+                || lease.getSpec().getHolderIdentity().isEmpty()
+                || lease.getSpec().getRenewTime() == null
+                || lease.getSpec().getRenewTime().toInstant().plus(leaseDuration).isBefore(now);
+    }
+
+    private Lease newLease(String name, Instant now) {
+        return new LeaseBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                    .withNamespace(namespace)
+                .endMetadata()
+                .withNewSpec()
+                    .withHolderIdentity(identity)
+                    .withLeaseDurationSeconds((int) Math.max(1, leaseDuration.toSeconds()))
+                    .withAcquireTime(toZonedDateTime(now))
+                    .withRenewTime(toZonedDateTime(now))
+                    .withLeaseTransitions(0)
+                .endSpec()
+                .build();
+    }
+
+    private String memberLeaseName() {
+        return leaseName + "-member-" + identity;
+    }
+
+    private String shardLeaseName(int shard) {
+        return leaseName + "-shard-" + shard;
+    }
+
+    private static ZonedDateTime toZonedDateTime(Instant instant) {
+        return ZonedDateTime.ofInstant(instant, ZoneOffset.UTC);
+    }
+
+    /**
+     * @param shard     Shard
+     *
+     * @return  Number of reconciliations of the shard in progress
+     */
+    /* test */ int runningReconciliations(int shard) {
+        return runningReconciliations.get(shard);
+    }
+
+    /**
+     * Finds the shard of a resource
+     *
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the cluster to which the resource belongs
+     * @param shardCount    Number of shards
+     *
+     * @return  The shard of the resource
+     */
+    /* test */ static int shardOf(String namespace, String name, int shardCount) {
+        return Utils.toPositive(Utils.murmur2((namespace + "/" + name).getBytes(StandardCharsets.UTF_8))) % shardCount;
+    }
+
+    /**
+     * Finds the member which should own the shard using rendezvous hashing. Each member gets a score for the shard and
+     * the member with the highest score wins. Removing a member moves only the shards it owned and adding a member
+     * moves only the shards for which it has the highest score.
+     *
+     * @param shard     Shard
+     * @param members   Live members
+     *
+     * @return  The member which should own the shard or null if there are no members
+     */
+    /* test */ static String ownerOf(int shard, Collection<String> members) {
+        String owner = null;
+        int ownerScore = -1;
+
+        for (String member : members) {
+            int score = Utils.toPositive(Utils.murmur2((member + "/" + shard).getBytes(StandardCharsets.UTF_8)));
+
+            if (score > ownerScore || (score == ownerScore && member.compareTo(owner) < 0)) {
+                owner = member;
+                ownerScore = score;
+            }
+        }
+
+        return owner;
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.leaderelection;
+
+import io.strimzi.operator.common.Reconciliation;
+
+/**
+ * Decides which custom resources are reconciled by this replica of the Cluster Operator. The resources are identified
+ * by their namespace and by the name of the cluster they belong to.
+ */
+@FunctionalInterface
+public interface ShardOwnership {
+    /**
+     * Ownership used when sharding is disabled. The replica reconciles all resources.
+     */
+    ShardOwnership ALL = (namespace, name) -> true;
+
+    /**
+     * Checks whether the resource belongs to a shard owned by this replica
+     *
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the cluster to which the resource belongs
+     *
+     * @return  True if this replica should reconcile the resource. False otherwise.
+     */
+    boolean owns(String namespace, String name);
+
+    /**
+     * Called when a watch reports a change of a resource which is not owned by this replica and which was not
+     * reconciled yet. The default implementation ignores it.
+     *
+     * @param reconciliation    Reconciliation marker identifying the changed resource
+     */
+    default void recordPendingChange(Reconciliation reconciliation) {
+        // Ignored by default
+    }
+
+    /**
+     * Called when a reconciliation of a resource starts. Together with {@link #reconciliationFinished(Reconciliation)},
+     * it lets the implementation know which shards have reconciliations in progress. The default implementation
+     * ignores it.
+     *
+     * @param reconciliation    Reconciliation marker
+     */
+    default void reconciliationStarted(Reconciliation reconciliation) {
+        // Ignored by default
+    }
+
+    /**
+     * Called when a reconciliation of a resource finishes. It is called exactly once for every call of
+     * {@link #reconciliationStarted(Reconciliation)}. The default implementation ignores it.
+     *
+     * @param reconciliation    Reconciliation marker
+     */
+    default void reconciliationFinished(Reconciliation reconciliation) {
+        // Ignored by default
+    }
+}
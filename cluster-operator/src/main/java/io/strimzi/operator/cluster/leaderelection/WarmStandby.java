@@ -0,0 +1,96 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.leaderelection;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.metrics.MetricsHolder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Shard ownership used by the replicas running in warm standby. A standby replica deploys its watches and informers as
+ * if it was the leader, so they are already in-sync when it takes over the leadership. But it does not own any
+ * resources until it becomes the leader, so it does not reconcile anything.
+ *
+ * While on standby, the replica remembers the resources with changes which were not reconciled yet. When it becomes the
+ * leader, these resources are reconciled first, starting with the most recently changed ones. The time from becoming
+ * the leader until these resources are reconciled is exposed as the takeover metric.
+ */
+public class WarmStandby implements ShardOwnership {
+    /* test */ static final String METRICS_TAKEOVER = MetricsHolder.METRICS_PREFIX + "leader.takeover";
+
+    private final Map<String, Reconciliation> pendingChanges = new LinkedHashMap<>();
+    private final MetricsProvider metricsProvider;
+    private final Timer takeOverMetric;
+
+    private volatile boolean leader = false;
+    private Timer.Sample takeOverSample;
+
+    /**
+     * Constructs the warm standby ownership
+     *
+     * @param metricsProvider   Metrics provider used for the takeover metric
+     */
+    public WarmStandby(MetricsProvider metricsProvider) {
+        this.metricsProvider = metricsProvider;
+        this.takeOverMetric = metricsProvider.timer(METRICS_TAKEOVER, "Time from becoming the leader until the resources changed during the standby are reconciled", Tags.empty());
+    }
+
+    @Override
+    public boolean owns(String namespace, String name) {
+        return leader;
+    }
+
+    @Override
+    public synchronized void recordPendingChange(Reconciliation reconciliation) {
+        if (!leader) {
+            String key = reconciliation.kind() + "/" + reconciliation.namespace() + "/" + reconciliation.name();
+
+            // Removed first to move the resource to the end of the insertion order
+            pendingChanges.remove(key);
+            pendingChanges.put(key, reconciliation);
+        }
+    }
+
+    /**
+     * Makes this replica the leader. From now on, it owns all resources.
+     *
+     * @return  The resources with changes which were not reconciled yet, the most recently changed first
+     */
+    public synchronized List<Reconciliation> takeOver() {
+        leader = true;
+        takeOverSample = Timer.start(metricsProvider.meterRegistry());
+
+        List<Reconciliation> changes = new ArrayList<>(pendingChanges.values());
+        Collections.reverse(changes);
+        pendingChanges.clear();
+
+        return changes;
+    }
+
+    /**
+     * Records the takeover metric. Called when the resources returned by {@link #takeOver()} are reconciled.
+     */
+    public synchronized void takeOverCompleted() {
+        if (takeOverSample != null) {
+            takeOverSample.stop(takeOverMetric);
+            takeOverSample = null;
+        }
+    }
+
+    /**
+     * @return  True if this replica is the leader. False if it is on standby.
+     */
+    public boolean isLeader() {
+        return leader;
+    }
+}
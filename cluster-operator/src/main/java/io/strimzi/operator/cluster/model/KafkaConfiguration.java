@@ -5,6 +5,7 @@
 package io.strimzi.operator.cluster.model;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import io.strimzi.api.kafka.model.kafka.KafkaClusterSpec;
 import io.strimzi.kafka.config.model.ConfigModel;
 import io.strimzi.kafka.config.model.ConfigModels;
@@ -13,10 +14,13 @@ import io.strimzi.operator.common.Reconciliation;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.util.Collections.emptyList;
 
@@ -47,6 +51,14 @@ public class KafkaConfiguration extends AbstractConfiguration {
     private static final List<String> FORBIDDEN_PREFIXES;
     private static final List<String> FORBIDDEN_PREFIX_EXCEPTIONS;
 
+    /**
+     * Config models of the Kafka versions which were already used. They are shared by the whole operator as they are
+     * needed in every reconciliation (for validation, for every node when generating the configuration, and for every
+     * node in every rolling update).
+     */
+    private static final Map<String, Map<String, ConfigModel>> CONFIG_MODELS = new ConcurrentHashMap<>();
+    private static final ObjectReader CONFIG_MODELS_READER = new ObjectMapper().readerFor(ConfigModels.class);
+
     static {
         FORBIDDEN_PREFIXES = AbstractConfiguration.splitPrefixesOrOptionsToList(KafkaClusterSpec.FORBIDDEN_PREFIXES);
         FORBIDDEN_PREFIX_EXCEPTIONS = AbstractConfiguration.splitPrefixesOrOptionsToList(KafkaClusterSpec.FORBIDDEN_PREFIX_EXCEPTIONS);
@@ -253,20 +265,34 @@ public class KafkaConfiguration extends AbstractConfiguration {
     }
 
     /**
-     * Gets the config model for the given version of the Kafka broker.
+     * Gets the config model for the given version of the Kafka broker. The config model of each version is read from
+     * the classpath only once and shared by the whole operator afterward. The returned map cannot be modified.
+     *
      * @param kafkaVersion The broker version.
      * @return The config model for that broker version.
      */
     public static Map<String, ConfigModel> readConfigModel(KafkaVersion kafkaVersion) {
-        String name = "/kafka-" + kafkaVersion.version() + "-config-model.json";
+        // Failures are not cached, so a missing config model is reported every time it is requested
+        return CONFIG_MODELS.computeIfAbsent(kafkaVersion.version(), KafkaConfiguration::loadConfigModel);
+    }
+
+    /**
+     * Loads the config model for the given version of the Kafka broker from the classpath.
+     *
+     * @param version   The broker version.
+     *
+     * @return The config model for that broker version.
+     */
+    private static Map<String, ConfigModel> loadConfigModel(String version) {
+        String name = "/kafka-" + version + "-config-model.json";
         try {
             try (InputStream in = KafkaConfiguration.class.getResourceAsStream(name)) {
                 if (in != null) {
-                    ConfigModels configModels = new ObjectMapper().readValue(in, ConfigModels.class);
-                    if (!kafkaVersion.version().equals(configModels.getVersion())) {
+                    ConfigModels configModels = CONFIG_MODELS_READER.readValue(in);
+                    if (!version.equals(configModels.getVersion())) {
                         throw new RuntimeException("Incorrect version");
                     }
-                    return configModels.getConfigs();
+                    return Collections.unmodifiableMap(new HashMap<>(configModels.getConfigs()));
                 } else {
                     // The configuration model does not exist
                     throw new RuntimeException("Configuration model " + name + " was not found");
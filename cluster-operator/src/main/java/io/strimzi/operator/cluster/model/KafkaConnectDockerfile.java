@@ -19,16 +19,20 @@ import io.strimzi.operator.common.Util;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 /**
  * This class is used to generate the Dockerfile used by Kafka Connect Build. It takes the API definition with the
- * desired plugins and generates a Dockerfile which pulls and installs them. To generate the Dockerfile, it is using
- * the PrintWriter.
+ * desired plugins and generates a Dockerfile which pulls and installs them. Each artifact is downloaded in its own
+ * content-addressed build stage and copied into the final image, so that a change to one artifact does not invalidate
+ * the cached downloads of the other artifacts. To generate the Dockerfile, it is using the PrintWriter.
  */
 public class KafkaConnectDockerfile {
     private static final String BASE_PLUGIN_PATH = "/opt/kafka/plugins/";
@@ -104,6 +108,24 @@ public class KafkaConnectDockerfile {
 
     }
 
+    /**
+     * Single artifact of a connector plugin. Each artifact is downloaded in its own build stage and copied from it into
+     * the new container image. The build stage is named after the hash of the command which downloads the artifact, so
+     * it is content-addressed: it stays the same as long as the artifact (its URL or Maven coordinates, checksum and
+     * options) does not change. That allows the container builder to cache the download of each artifact separately
+     * and to download only the artifacts which changed when the list of plugins is updated.
+     *
+     * @param stageImage    Image used as the base image of the build stage
+     * @param run           Command which downloads the artifact in the build stage
+     * @param source        Path where the artifact is stored in the build stage
+     * @param target        Path where the artifact should be copied in the new container image
+     */
+    private record ArtifactLayer(String stageImage, Cmd run, String source, String target) {
+        private String stageName() {
+            return "artifact-" + Util.hashStub(run.toString());
+        }
+    }
+
     /**
      * Broker configuration template constructor
      *
@@ -118,12 +140,16 @@ public class KafkaConnectDockerfile {
         StringWriter stringWriter = new StringWriter();
         PrintWriter writer = new PrintWriter(stringWriter);
 
+        Map<String, List<ArtifactLayer>> pluginLayers = new LinkedHashMap<>();
+        for (Plugin plugin : connectBuild.getPlugins()) {
+            pluginLayers.put(plugin.getName(), artifactLayers(fromImage, plugin));
+        }
+
         printHeader(writer); // Print initial comment
-        connectorPluginsPreStage(writer, connectBuild.getPlugins());
+        artifactStages(writer, fromImage, pluginLayers, sharedEnvironmentProvider); // Download the artifacts in separate build stages
         from(writer, fromImage); // Create FROM statement
         user(writer, ROOT_USER); // Switch to root user to be able to add plugins
-        proxy(writer, sharedEnvironmentProvider); // Configures proxy environment variables
-        connectorPlugins(writer, connectBuild.getPlugins());
+        connectorPlugins(writer, pluginLayers);
         user(writer, NON_PRIVILEGED_USER); // Switch back to the regular unprivileged user
 
         dockerfile = stringWriter.toString();
@@ -132,54 +158,64 @@ public class KafkaConnectDockerfile {
     }
 
     /**
-     * Generates initial stage for multi-stage build
-     * @param writer        Writer for printing the Docker commands
-     * @param plugins       List of plugins which should be added to the container image
+     * Generates the build stages which download the artifacts. Each artifact is downloaded in its own build stage.
+     * Artifacts which are exactly the same share the build stage.
+     *
+     * @param writer                        Writer for printing the Docker commands
+     * @param fromImage                     Image which should be used as a base image of the build stages
+     * @param pluginLayers                  Artifacts of the connector plugins
+     * @param sharedEnvironmentProvider     sharedEnvironmentProvider instance
      */
-    private void connectorPluginsPreStage(PrintWriter writer, List<Plugin> plugins) {
-        Map<String, List<MavenArtifact>> artifactMap = plugins.stream().collect(Collectors.toMap(Plugin::getName,
-            plugin -> plugin.getArtifacts().stream().filter(artifact -> artifact instanceof MavenArtifact).map(artifact -> (MavenArtifact) artifact).collect(Collectors.toList())));
-        artifactMap.entrySet().removeIf(plugin -> plugin.getValue().isEmpty());
-
-        if (artifactMap.size() > 0) {
-            writer.println("FROM " + mavenBuilder + " AS downloadArtifacts");
-            artifactMap.forEach((plugin, mvnList) ->
-                mvnList.forEach(mvn -> {
-                    String repo = mvn.getRepository() == null ? MavenArtifact.DEFAULT_REPOSITORY : maybeAppendSlash(mvn.getRepository());
-                    String artifactHash = Util.hashStub(mvn.getGroup() + "/" + mvn.getArtifact() + "/" + mvn.getVersion());
-                    String artifactDir = plugin + "/" + artifactHash;
-
-                    // For handling custom repositories, we need to write custom Maven settings file
-                    String settingsFile = "/tmp/" + artifactHash + ".xml";
-                    String settingsXml = "<settings xmlns=\"http://maven.apache.org/SETTINGS/1.0.0\"><profiles><profile><id>download</id><repositories><repository><id>custom-repo</id><url>" + escapeXml(repo) + "</url></repository></repositories></profile></profiles><activeProfiles><activeProfile>download</activeProfile></activeProfiles></settings>";
-
-                    Cmd cmd;
-                    if (Boolean.TRUE.equals(mvn.getInsecure()))    {
-                        // Insecure download => disables TLS certificate checks in curl and Maven commands
-                        cmd = run("curl", "-f", "-k", "-L", "--create-dirs", "--output", "/tmp/" + artifactDir + "/pom.xml", assembleResourceUrl(repo, mvn, "pom"))
-                                .andRun("echo", settingsXml).redirectTo(settingsFile) // Create the settings file
-                                .andRun("mvn", "dependency:copy-dependencies", "-s", settingsFile,
-                                        "-DoutputDirectory=/tmp/artifacts/" + artifactDir, "-Daether.connector.https.securityMode=insecure",
-                                        "-Dmaven.wagon.http.ssl.insecure=true", "-Dmaven.wagon.http.ssl.allowall=true",
-                                        "-Dmaven.wagon.http.ssl.ignore.validity.dates=true", "-f", "/tmp/" + artifactDir + "/pom.xml")
-                                .andRun("curl", "-f", "-k", "-L", "--create-dirs", "--output",
-                                        "/tmp/artifacts/" + artifactDir + "/" + mvn.getArtifact() + "-" + mvn.getVersion() + ".jar",
-                                        assembleResourceUrl(repo, mvn, "jar"));
-                    } else {
-                        cmd = run("curl", "-f", "-L", "--create-dirs", "--output", "/tmp/" + artifactDir + "/pom.xml", assembleResourceUrl(repo, mvn, "pom"))
-                                .andRun("echo", settingsXml).redirectTo(settingsFile) // Create the settings file
-                                .andRun("mvn", "dependency:copy-dependencies", "-s", settingsFile,
-                                        "-DoutputDirectory=/tmp/artifacts/" + artifactDir, "-f", "/tmp/" + artifactDir + "/pom.xml")
-                                .andRun("curl", "-f", "-L", "--create-dirs", "--output",
-                                        "/tmp/artifacts/" + artifactDir + "/" + mvn.getArtifact() + "-" + mvn.getVersion() + ".jar",
-                                        assembleResourceUrl(repo, mvn, "jar"));
+    private void artifactStages(PrintWriter writer, String fromImage, Map<String, List<ArtifactLayer>> pluginLayers, SharedEnvironmentProvider sharedEnvironmentProvider) {
+        Set<String> stages = new HashSet<>();
+
+        pluginLayers.forEach((plugin, layers) -> {
+            for (ArtifactLayer layer : layers) {
+                if (stages.add(layer.stageName())) {
+                    writer.println("FROM " + layer.stageImage() + " AS " + layer.stageName());
+                    writer.println();
+
+                    if (fromImage.equals(layer.stageImage())) {
+                        user(writer, ROOT_USER); // Switch to root user to be able to download the plugins
+                        proxy(writer, sharedEnvironmentProvider); // Configures proxy environment variables
                     }
-                    
-                    writer.append("RUN ").println(cmd);
+
+                    writer.append("RUN ").println(layer.run());
                     writer.println();
-                })
-            );
+                }
+            }
+        });
+    }
+
+    /**
+     * Creates the layers for the artifacts of the connector plugin depending on their type.
+     *
+     * @param fromImage     Image which should be used as a base image of the build stages
+     * @param plugin        A single plugin which should be added to the new container image
+     *
+     * @return  List of layers with the artifacts of the plugin
+     */
+    private List<ArtifactLayer> artifactLayers(String fromImage, Plugin plugin) {
+        String connectorPath = BASE_PLUGIN_PATH + plugin.getName();
+        List<ArtifactLayer> layers = new ArrayList<>(plugin.getArtifacts().size());
+
+        for (Artifact art : plugin.getArtifacts())  {
+            if (art instanceof JarArtifact) {
+                layers.add(jarArtifact(fromImage, connectorPath, (JarArtifact) art));
+            } else if (art instanceof TgzArtifact) {
+                layers.add(tgzArtifact(fromImage, connectorPath, (TgzArtifact) art));
+            } else if (art instanceof ZipArtifact) {
+                layers.add(zipArtifact(fromImage, connectorPath, (ZipArtifact) art));
+            } else if (art instanceof MavenArtifact) {
+                layers.add(mavenArtifact(plugin.getName(), (MavenArtifact) art));
+            } else if (art instanceof OtherArtifact) {
+                layers.add(otherArtifact(fromImage, connectorPath, (OtherArtifact) art));
+            } else {
+                throw new RuntimeException("Unexpected artifact type " + art.getType());
+            }
         }
+
+        return layers;
     }
 
     private String assembleResourceUrl(String repo, MavenArtifact mvn, String extension) {
@@ -242,44 +278,20 @@ public class KafkaConnectDockerfile {
     }
 
     /**
-     * Adds the commands to download and possibly unpack the connector plugins
+     * Adds the commands to copy the connector plugins from the build stages into the new container image
      *
-     * @param writer    Writer for printing the Docker commands
-     * @param plugins   List of plugins which should be added to the container image
-     */
-    private void connectorPlugins(PrintWriter writer, List<Plugin> plugins) {
-        for (Plugin plugin : plugins)   {
-            addPlugin(writer, plugin);
-        }
-    }
-
-    /**
-     * Adds a particular connector plugin to the container image. It will go through the individual artifacts and add
-     * them one by one depending on their type.
-     *
-     * @param writer    Writer for printing the Docker commands
-     * @param plugin    A single plugin which should be added to the new container image
+     * @param writer        Writer for printing the Docker commands
+     * @param pluginLayers  Artifacts of the connector plugins
      */
-    private void addPlugin(PrintWriter writer, Plugin plugin)    {
-        printSectionHeader(writer, "Connector plugin " + plugin.getName());
-
-        String connectorPath = BASE_PLUGIN_PATH + plugin.getName();
+    private void connectorPlugins(PrintWriter writer, Map<String, List<ArtifactLayer>> pluginLayers) {
+        pluginLayers.forEach((plugin, layers) -> {
+            printSectionHeader(writer, "Connector plugin " + plugin);
 
-        for (Artifact art : plugin.getArtifacts())  {
-            if (art instanceof JarArtifact) {
-                addJarArtifact(writer, connectorPath, (JarArtifact) art);
-            } else if (art instanceof TgzArtifact) {
-                addTgzArtifact(writer, connectorPath, (TgzArtifact) art);
-            } else if (art instanceof ZipArtifact) {
-                addZipArtifact(writer, connectorPath, (ZipArtifact) art);
-            } else if (art instanceof MavenArtifact) {
-                addMavenArtifact(writer, plugin.getName(), (MavenArtifact) art);
-            } else if (art instanceof OtherArtifact) {
-                addOtherArtifact(writer, connectorPath, (OtherArtifact) art);
-            } else {
-                throw new RuntimeException("Unexpected artifact type " + art.getType());
+            for (ArtifactLayer layer : layers) {
+                writer.append("COPY --from=" + layer.stageName() + " ").println(run(layer.source(), layer.target()));
+                writer.println();
             }
-        }
+        });
     }
 
     private void checkUrlIsPresent(DownloadableArtifact art) {
@@ -311,45 +323,52 @@ public class KafkaConnectDockerfile {
     }
 
     /**
-     * Add command sequence for downloading files and checking their checksums.
+     * Creates command sequence for downloading files and checking their checksums.
      *
-     * @param writer            Writer for printing the Docker commands
+     * @param fromImage         Image which should be used as a base image of the build stage
      * @param connectorPath     Path where the connector to which this artifact belongs should be downloaded
      * @param jar               The JAR-type artifact
+     *
+     * @return  Layer with the artifact
      */
-    private void addJarArtifact(PrintWriter writer, String connectorPath, JarArtifact jar) {
+    private ArtifactLayer jarArtifact(String fromImage, String connectorPath, JarArtifact jar) {
         checkUrlIsPresent(jar);
         String artifactHash = Util.hashStub(jar.getUrl());
         String artifactDir = connectorPath + "/" + artifactHash;
         String artifactPath = artifactDir + "/" + artifactHash + ".jar";
-        addUnmodifiedArtifact(writer, jar, artifactDir, artifactPath);
+
+        return new ArtifactLayer(fromImage, unmodifiedArtifact(jar, artifactDir, artifactPath), artifactDir, artifactDir);
     }
 
     /**
-     * Add command sequence for downloading files and checking their checksums.
+     * Creates command sequence for downloading files and checking their checksums.
      *
-     * @param writer            Writer for printing the Docker commands
+     * @param fromImage         Image which should be used as a base image of the build stage
      * @param connectorPath     Path where the connector to which this artifact belongs should be downloaded
      * @param other             The Other-type artifact
+     *
+     * @return  Layer with the artifact
      */
-    private void addOtherArtifact(PrintWriter writer, String connectorPath, OtherArtifact other) {
+    private ArtifactLayer otherArtifact(String fromImage, String connectorPath, OtherArtifact other) {
         checkUrlIsPresent(other);
         String artifactHash = Util.hashStub(other.getUrl());
         String artifactDir = connectorPath + "/" + artifactHash;
         String fileName = other.getFileName() != null ? other.getFileName() : artifactHash;
         String artifactPath = artifactDir + "/" + fileName;
 
-        addUnmodifiedArtifact(writer, other, artifactDir, artifactPath);
+        return new ArtifactLayer(fromImage, unmodifiedArtifact(other, artifactDir, artifactPath), artifactDir, artifactDir);
     }
 
     /**
-     * Adds download command for artifacts which are just downloaded without any unpacking or other processing.
-     * @param writer            Writer for printing the Docker commands
+     * Creates download command for artifacts which are just downloaded without any unpacking or other processing.
+     *
      * @param art               Artifact which should be downloaded
      * @param artifactDir       Directory into which the artifact should be downloaded
      * @param artifactPath      Full path of the artifact
+     *
+     * @return  Command downloading the artifact
      */
-    private void addUnmodifiedArtifact(PrintWriter writer, DownloadableArtifact art, String artifactDir, String artifactPath) {
+    private Cmd unmodifiedArtifact(DownloadableArtifact art, String artifactDir, String artifactPath) {
         Cmd run = downloadArtifact(artifactDir, artifactPath, art);
 
         if (art.getSha512sum() != null && !art.getSha512sum().isEmpty()) {
@@ -360,18 +379,20 @@ public class KafkaConnectDockerfile {
                 .andRun("sha512sum", "--check", shaFile)
                 .andRun("rm", "-f", shaFile);
         }
-        writer.append("RUN ").println(run);
-        writer.println();
+
+        return run;
     }
 
     /**
-     * Add command sequence for downloading and unpacking TAR.GZ archives and checking their checksums.
+     * Creates command sequence for downloading and unpacking TAR.GZ archives and checking their checksums.
      *
-     * @param writer            Writer for printing the Docker commands
+     * @param fromImage         Image which should be used as a base image of the build stage
      * @param connectorPath     Path where the connector to which this artifact belongs should be downloaded
      * @param tgz               The TGZ-type artifact
+     *
+     * @return  Layer with the artifact
      */
-    private void addTgzArtifact(PrintWriter writer, String connectorPath, TgzArtifact tgz) {
+    private ArtifactLayer tgzArtifact(String fromImage, String connectorPath, TgzArtifact tgz) {
         checkUrlIsPresent(tgz);
         String artifactHash = Util.hashStub(tgz.getUrl());
         String artifactDir = connectorPath + "/" + artifactHash;
@@ -389,18 +410,20 @@ public class KafkaConnectDockerfile {
         }
         run.andRun("tar", "xvfz", archivePath, "-C", artifactDir)
             .andRun("rm", "-vf", archivePath);
-        writer.append("RUN ").println(run);
-        writer.println();
+
+        return new ArtifactLayer(fromImage, run, artifactDir, artifactDir);
     }
 
     /**
-     * Add command sequence for downloading and unpacking TAR.ZIP archives and checking their checksums.
+     * Creates command sequence for downloading and unpacking TAR.ZIP archives and checking their checksums.
      *
-     * @param writer            Writer for printing the Docker commands
+     * @param fromImage         Image which should be used as a base image of the build stage
      * @param connectorPath     Path where the connector to which this artifact belongs should be downloaded
      * @param zip               The ZIP-type artifact
+     *
+     * @return  Layer with the artifact
      */
-    private void addZipArtifact(PrintWriter writer, String connectorPath, ZipArtifact zip) {
+    private ArtifactLayer zipArtifact(String fromImage, String connectorPath, ZipArtifact zip) {
         checkUrlIsPresent(zip);
         String artifactHash = Util.hashStub(zip.getUrl());
         String artifactDir = connectorPath + "/" + artifactHash;
@@ -421,24 +444,50 @@ public class KafkaConnectDockerfile {
             .andRun("find", artifactDir, "-type", "l").pipeTo("xargs", "rm", "-f")
             .andRun("rm", "-vf", archivePath);
 
-        writer.append("RUN ").println(run);
-        writer.println();
+        return new ArtifactLayer(fromImage, run, artifactDir, artifactDir);
     }
 
     /**
-     * Add command sequence for downloading Maven artifact
+     * Creates command sequence for downloading Maven artifact and its dependencies using the Maven builder image
      *
-     * @param writer            Writer for printing the Docker commands
      * @param connectorName     Name of the connector to which this artifact belongs should be downloaded
      * @param mvn               The maven artifact
+     *
+     * @return  Layer with the artifact
      */
-    private void addMavenArtifact(PrintWriter writer, String connectorName, MavenArtifact mvn) {
+    private ArtifactLayer mavenArtifact(String connectorName, MavenArtifact mvn) {
         checkGavIsPresent(mvn);
+        String repo = mvn.getRepository() == null ? MavenArtifact.DEFAULT_REPOSITORY : maybeAppendSlash(mvn.getRepository());
         String artifactHash = Util.hashStub(mvn.getGroup() + "/" + mvn.getArtifact() + "/" + mvn.getVersion());
+        String artifactDir = connectorName + "/" + artifactHash;
+
+        // For handling custom repositories, we need to write custom Maven settings file
+        String settingsFile = "/tmp/" + artifactHash + ".xml";
+        String settingsXml = "<settings xmlns=\"http://maven.apache.org/SETTINGS/1.0.0\"><profiles><profile><id>download</id><repositories><repository><id>custom-repo</id><url>" + escapeXml(repo) + "</url></repository></repositories></profile></profiles><activeProfiles><activeProfile>download</activeProfile></activeProfiles></settings>";
+
+        Cmd cmd;
+        if (Boolean.TRUE.equals(mvn.getInsecure()))    {
+            // Insecure download => disables TLS certificate checks in curl and Maven commands
+            cmd = run("curl", "-f", "-k", "-L", "--create-dirs", "--output", "/tmp/" + artifactDir + "/pom.xml", assembleResourceUrl(repo, mvn, "pom"))
+                    .andRun("echo", settingsXml).redirectTo(settingsFile) // Create the settings file
+                    .andRun("mvn", "dependency:copy-dependencies", "-s", settingsFile,
+                            "-DoutputDirectory=/tmp/artifacts/" + artifactDir, "-Daether.connector.https.securityMode=insecure",
+                            "-Dmaven.wagon.http.ssl.insecure=true", "-Dmaven.wagon.http.ssl.allowall=true",
+                            "-Dmaven.wagon.http.ssl.ignore.validity.dates=true", "-f", "/tmp/" + artifactDir + "/pom.xml")
+                    .andRun("curl", "-f", "-k", "-L", "--create-dirs", "--output",
+                            "/tmp/artifacts/" + artifactDir + "/" + mvn.getArtifact() + "-" + mvn.getVersion() + ".jar",
+                            assembleResourceUrl(repo, mvn, "jar"));
+        } else {
+            cmd = run("curl", "-f", "-L", "--create-dirs", "--output", "/tmp/" + artifactDir + "/pom.xml", assembleResourceUrl(repo, mvn, "pom"))
+                    .andRun("echo", settingsXml).redirectTo(settingsFile) // Create the settings file
+                    .andRun("mvn", "dependency:copy-dependencies", "-s", settingsFile,
+                            "-DoutputDirectory=/tmp/artifacts/" + artifactDir, "-f", "/tmp/" + artifactDir + "/pom.xml")
+                    .andRun("curl", "-f", "-L", "--create-dirs", "--output",
+                            "/tmp/artifacts/" + artifactDir + "/" + mvn.getArtifact() + "-" + mvn.getVersion() + ".jar",
+                            assembleResourceUrl(repo, mvn, "jar"));
+        }
 
-        Cmd run = run("/tmp/artifacts/" + connectorName + "/" + artifactHash, BASE_PLUGIN_PATH + connectorName + "/" + artifactHash);
-        writer.append("COPY --from=downloadArtifacts ").println(run);
-        writer.println();
+        return new ArtifactLayer(mavenBuilder, cmd, "/tmp/artifacts/" + artifactDir, BASE_PLUGIN_PATH + artifactDir);
     }
 
     /**
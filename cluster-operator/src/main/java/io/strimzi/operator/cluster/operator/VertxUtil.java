@@ -5,6 +5,8 @@
 package io.strimzi.operator.cluster.operator;
 
 import io.fabric8.kubernetes.api.model.Secret;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.context.Scope;
 import io.strimzi.api.kafka.model.common.CertSecretSource;
 import io.strimzi.api.kafka.model.common.GenericSecretSource;
 import io.strimzi.api.kafka.model.common.authentication.KafkaClientAuthentication;
@@ -19,6 +21,7 @@ import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.TimeoutException;
 import io.strimzi.operator.common.model.InvalidResourceException;
+import io.strimzi.operator.common.tracing.OperatorTracing;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Promise;
@@ -161,9 +164,29 @@ public final class VertxUtil {
      * @param <T>   Return type of the future
      */
     public static <T> Future<T> kafkaFutureToVertxFuture(Reconciliation reconciliation, Vertx vertx, KafkaFuture<T> kf) {
+        return kafkaFutureToVertxFuture(reconciliation, vertx, null, kf);
+    }
+
+    /**
+     * Converts Kafka Future to Vert.x future and traces the Kafka Admin API call which returned it (when tracing is
+     * enabled)
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param vertx             Vert.x instance
+     * @param operation         Name of the Kafka Admin API operation used in the span name (or null to not trace it)
+     * @param kf                Kafka future
+     *
+     * @return  Vert.x future based on the Kafka future
+     *
+     * @param <T>   Return type of the future
+     */
+    public static <T> Future<T> kafkaFutureToVertxFuture(Reconciliation reconciliation, Vertx vertx, String operation, KafkaFuture<T> kf) {
+        Span span = operation != null ? OperatorTracing.startSpan(reconciliation, "Kafka Admin " + operation) : Span.getInvalid();
         Promise<T> promise = Promise.promise();
         if (kf != null) {
             kf.whenComplete((result, error) -> vertx.runOnContext(ignored -> {
+                OperatorTracing.endSpan(span, error);
+
                 if (error != null) {
                     promise.fail(error);
                 } else {
@@ -172,6 +195,8 @@ public final class VertxUtil {
             }));
             return promise.future();
         } else {
+            span.end();
+
             if (reconciliation != null) {
                 LOGGER.traceCr(reconciliation, "KafkaFuture is null");
             } else {
@@ -215,6 +240,37 @@ public final class VertxUtil {
         return promise.future();
     }
 
+    /**
+     * Traces an asynchronous operation when tracing is enabled. The span is current while the operation is started, so
+     * the spans started synchronously by the operation use it as their parent. The span ends when the future returned
+     * by the operation completes.
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param spanName          Name of the span
+     * @param operation         Supplier starting the operation
+     *
+     * @return  Future returned by the operation
+     *
+     * @param <T>   Type of the result
+     */
+    public static <T> Future<T> traced(Reconciliation reconciliation, String spanName, Supplier<Future<T>> operation) {
+        if (!OperatorTracing.isEnabled()) {
+            return operation.get();
+        }
+
+        Span span = OperatorTracing.startSpan(reconciliation, spanName);
+        Future<T> result;
+
+        try (Scope ignored = span.makeCurrent()) {
+            result = operation.get();
+        } catch (RuntimeException e) {
+            OperatorTracing.endSpan(span, e);
+            throw e;
+        }
+
+        return result.onComplete(res -> OperatorTracing.endSpan(span, res.cause()));
+    }
+
     /**
      * When TLS certificate or Auth certificate (or password) is changed, the hash is computed.
      * It is used for rolling updates.
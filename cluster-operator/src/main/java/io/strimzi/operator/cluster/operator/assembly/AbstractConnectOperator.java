@@ -40,6 +40,7 @@ import io.strimzi.operator.cluster.model.RestartReason;
 import io.strimzi.operator.cluster.model.RestartReasons;
 import io.strimzi.operator.cluster.model.SharedEnvironmentProvider;
 import io.strimzi.operator.cluster.operator.VertxUtil;
+import io.strimzi.operator.cluster.operator.resource.HttpClientRegistry;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
 import io.strimzi.operator.cluster.operator.resource.kubernetes.ClusterRoleBindingOperator;
 import io.strimzi.operator.cluster.operator.resource.kubernetes.ConfigMapOperator;
@@ -118,6 +119,7 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
     protected final ServiceAccountOperator serviceAccountOperations;
     protected final KafkaVersion.Lookup versions;
     protected final SharedEnvironmentProvider sharedEnvironmentProvider;
+    protected final HttpClientRegistry httpClientRegistry;
     protected final int port;
 
     /**
@@ -158,6 +160,7 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
         this.pfa = pfa;
         this.versions = config.versions();
         this.sharedEnvironmentProvider = supplier.sharedEnvironmentProvider;
+        this.httpClientRegistry = supplier.httpClientRegistry;
         this.port = port;
         this.continueOnManualRUFailure = config.featureGates().continueOnManualRUFailureEnabled();
         this.isPodDisruptionBudgetGeneration = config.isPodDisruptionBudgetGeneration();
@@ -337,10 +340,10 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
     }
 
     /**
-     * Try to get the current connector config. If the connector does not exist, or its config differs from the
-     * {@code connectorSpec}'s, then call
-     * {@link #createOrUpdateConnector(Reconciliation, String, KafkaConnectApi, String, KafkaConnectorSpec, KafkaConnectorConfiguration)}
-     * otherwise, just return the connectors current state.
+     * Try to get the current connector config and call
+     * {@link #maybeCreateOrUpdateConnector(Reconciliation, String, KafkaConnectApi, String, KafkaConnectorSpec, CustomResource, ConnectorSnapshot)}
+     * with it. This is used when reconciling a single connector, for which no snapshot of all connectors is available.
+     *
      * @param reconciliation The reconciliation.
      * @param host The REST API host.
      * @param apiClient The client instance.
@@ -352,40 +355,128 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
     @SuppressWarnings({ "rawtypes" })
     protected Future<ConnectorStatusAndConditions> maybeCreateOrUpdateConnector(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
                                                                                 String connectorName, KafkaConnectorSpec connectorSpec, CustomResource resource) {
-        KafkaConnectorConfiguration desiredConfig = new KafkaConnectorConfiguration(reconciliation, connectorSpec.getConfig().entrySet());
-
-        return VertxUtil.completableFutureToVertxFuture(apiClient.getConnectorConfig(reconciliation, new BackOff(200L, 2, 6), host, port, connectorName)).compose(
-            currentConfig -> {
-                if (!needsReconfiguring(reconciliation, connectorName, connectorSpec, desiredConfig.asOrderedProperties().asMap(), currentConfig)) {
-                    LOGGER.debugCr(reconciliation, "Connector {} exists and has desired config, {}=={}", connectorName, desiredConfig.asOrderedProperties().asMap(), currentConfig);
-                    return VertxUtil.completableFutureToVertxFuture(apiClient.status(reconciliation, host, port, connectorName))
-                        .compose(status -> updateState(reconciliation, host, apiClient, connectorName, connectorSpec, status, new ArrayList<>()))
-                        .compose(conditions -> manageConnectorOffsets(reconciliation, host, apiClient, connectorName, resource, connectorSpec, conditions))
-                        .compose(conditions -> maybeRestartConnector(reconciliation, host, apiClient, connectorName, resource, conditions))
-                        .compose(conditions -> maybeRestartConnectorTask(reconciliation, host, apiClient, connectorName, resource, conditions))
-                        .compose(conditions -> VertxUtil.completableFutureToVertxFuture(apiClient.statusWithBackOff(reconciliation, new BackOff(200L, 2, 10), host, port, connectorName))
-                                .compose(createConnectorStatusAndConditions(conditions)))
-                        .compose(status -> autoRestartFailedConnectorAndTasks(reconciliation, host, apiClient, connectorName, connectorSpec, status, resource))
-                        .compose(status -> updateConnectorTopics(reconciliation, host, apiClient, connectorName, status));
-                } else {
-                    LOGGER.debugCr(reconciliation, "Connector {} exists but does not have desired config, {}!={}", connectorName, desiredConfig.asOrderedProperties().asMap(), currentConfig);
-                    return createOrUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec, desiredConfig)
-                        .compose(createConnectorStatusAndConditions())
-                        .compose(status -> updateConnectorTopics(reconciliation, host, apiClient, connectorName, status));
-                }
-            },
-            error -> {
+        return VertxUtil.completableFutureToVertxFuture(apiClient.getConnectorConfig(reconciliation, new BackOff(200L, 2, 6), host, port, connectorName))
+            .map(currentConfig -> new ConnectorSnapshot(currentConfig, null))
+            .recover(error -> {
                 if (error instanceof ConnectRestException
                         && ((ConnectRestException) error).getStatusCode() == 404) {
-                    LOGGER.debugCr(reconciliation, "Connector {} does not exist", connectorName);
-                    return createOrUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec, desiredConfig)
-                        .compose(createConnectorStatusAndConditions())
-                        .compose(status -> autoRestartFailedConnectorAndTasks(reconciliation, host, apiClient, connectorName, connectorSpec, status, resource))
-                        .compose(status -> updateConnectorTopics(reconciliation, host, apiClient, connectorName, status));
+                    return Future.succeededFuture(null);
                 } else {
                     return Future.failedFuture(error);
                 }
+            })
+            .compose(current -> maybeCreateOrUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec, resource, current));
+    }
+
+    /**
+     * Compare the current connector config with the {@code connectorSpec}'s. If the connector does not exist, or its
+     * config differs from the {@code connectorSpec}'s, then call
+     * {@link #createOrUpdateConnector(Reconciliation, String, KafkaConnectApi, String, KafkaConnectorSpec, KafkaConnectorConfiguration)}
+     * otherwise, just return the connectors current state. The current state is fetched again only when the
+     * reconciliation changed the connector.
+     *
+     * @param reconciliation The reconciliation.
+     * @param host The REST API host.
+     * @param apiClient The client instance.
+     * @param connectorName The connector name.
+     * @param connectorSpec The desired connector spec.
+     * @param resource The resource that defines the connector.
+     * @param current The current config and status of the connector or null if the connector does not exist. When the status is null, it is fetched from the Connect REST API when needed.
+     * @return A Future whose result, when successfully completed, is a ConnectorStatusAndConditions object containing the map of the current connector state plus any conditions that have arisen.
+     */
+    @SuppressWarnings({ "rawtypes" })
+    protected Future<ConnectorStatusAndConditions> maybeCreateOrUpdateConnector(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
+                                                                                String connectorName, KafkaConnectorSpec connectorSpec, CustomResource resource,
+                                                                                ConnectorSnapshot current) {
+        KafkaConnectorConfiguration desiredConfig = new KafkaConnectorConfiguration(reconciliation, connectorSpec.getConfig().entrySet());
+
+        if (current == null) {
+            LOGGER.debugCr(reconciliation, "Connector {} does not exist", connectorName);
+            return createOrUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec, desiredConfig)
+                .compose(createConnectorStatusAndConditions())
+                .compose(status -> autoRestartFailedConnectorAndTasks(reconciliation, host, apiClient, connectorName, connectorSpec, status, resource))
+                .compose(status -> updateConnectorTopics(reconciliation, host, apiClient, connectorName, status));
+        } else if (!needsReconfiguring(reconciliation, connectorName, connectorSpec, desiredConfig.asOrderedProperties().asMap(), current.config())) {
+            LOGGER.debugCr(reconciliation, "Connector {} exists and has desired config, {}=={}", connectorName, desiredConfig.asOrderedProperties().asMap(), current.config());
+            Future<Map<String, Object>> currentStatus = current.status() != null
+                    ? Future.succeededFuture(current.status())
+                    : VertxUtil.completableFutureToVertxFuture(apiClient.status(reconciliation, host, port, connectorName));
+
+            return currentStatus.compose(status -> {
+                // When nothing is changed, the current status is still valid and does not need to be fetched again
+                boolean refreshStatus = hasPendingActions(resource, connectorName, connectorSpec, status);
+
+                return updateState(reconciliation, host, apiClient, connectorName, connectorSpec, status, new ArrayList<>())
+                    .compose(conditions -> manageConnectorOffsets(reconciliation, host, apiClient, connectorName, resource, connectorSpec, conditions))
+                    .compose(conditions -> maybeRestartConnector(reconciliation, host, apiClient, connectorName, resource, conditions))
+                    .compose(conditions -> maybeRestartConnectorTask(reconciliation, host, apiClient, connectorName, resource, conditions))
+                    .compose(conditions -> (refreshStatus
+                                ? VertxUtil.completableFutureToVertxFuture(apiClient.statusWithBackOff(reconciliation, new BackOff(200L, 2, 10), host, port, connectorName))
+                                : Future.succeededFuture(status))
+                            .compose(createConnectorStatusAndConditions(conditions)))
+                    .compose(statusAndConditions -> autoRestartFailedConnectorAndTasks(reconciliation, host, apiClient, connectorName, connectorSpec, statusAndConditions, resource))
+                    .compose(statusAndConditions -> updateConnectorTopics(reconciliation, host, apiClient, connectorName, statusAndConditions));
             });
+        } else {
+            LOGGER.debugCr(reconciliation, "Connector {} exists but does not have desired config, {}!={}", connectorName, desiredConfig.asOrderedProperties().asMap(), current.config());
+            return createOrUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec, desiredConfig)
+                .compose(createConnectorStatusAndConditions())
+                .compose(status -> updateConnectorTopics(reconciliation, host, apiClient, connectorName, status));
+        }
+    }
+
+    /**
+     * Checks whether the reconciliation of an existing connector will change its state, restart it or its task, or
+     * manage its offsets. In such case, the connector status needs to be fetched again after these actions.
+     *
+     * @param resource          The resource that defines the connector
+     * @param connectorName     The connector name
+     * @param connectorSpec     The desired connector spec
+     * @param status            The current status of the connector
+     *
+     * @return  True if any of these actions is pending. False otherwise.
+     */
+    @SuppressWarnings({ "rawtypes" })
+    private boolean hasPendingActions(CustomResource resource, String connectorName, KafkaConnectorSpec connectorSpec, Map<String, Object> status) {
+        if (hasRestartAnnotation(resource, connectorName)
+                || getRestartTaskAnnotationTaskID(resource, connectorName) >= 0) {
+            return true;
+        }
+
+        try {
+            if (getConnectorOffsetsOperation(resource, connectorName) != KafkaConnectorOffsetsAnnotation.none) {
+                return true;
+            }
+        } catch (InvalidResourceException e) {
+            // Invalid annotation only results in a warning condition
+        }
+
+        Object state = ((Map) status.getOrDefault("connector", emptyMap())).get("state");
+        if (!(state instanceof String)) {
+            return true;
+        }
+
+        return switch ((String) state) {
+            case "RUNNING", "PAUSED", "STOPPED" -> !targetState(connectorSpec).toValue().equalsIgnoreCase((String) state);
+            default -> false;
+        };
+    }
+
+    /**
+     * Returns the state in which the connector should be based on its spec. The {@code state} field takes precedence
+     * over the deprecated {@code pause} field.
+     *
+     * @param connectorSpec     The desired connector spec
+     *
+     * @return  The target state of the connector
+     */
+    private static ConnectorState targetState(KafkaConnectorSpec connectorSpec) {
+        ConnectorState desiredState = connectorSpec.getState();
+        @SuppressWarnings("deprecation")
+        Boolean shouldPause = connectorSpec.getPause();
+
+        return desiredState != null ? desiredState :
+                Boolean.TRUE.equals(shouldPause) ? ConnectorState.PAUSED : ConnectorState.RUNNING;
     }
 
     private boolean needsReconfiguring(Reconciliation reconciliation, String connectorName,
@@ -426,8 +517,7 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
             ConnectorState desiredState = connectorSpec.getState();
             @SuppressWarnings("deprecation")
             Boolean shouldPause = connectorSpec.getPause();
-            ConnectorState targetState = desiredState != null ? desiredState :
-                    Boolean.TRUE.equals(shouldPause) ? ConnectorState.PAUSED : ConnectorState.RUNNING;
+            ConnectorState targetState = targetState(connectorSpec);
             if (desiredState != null && shouldPause != null) {
                 String message = "Both pause and state are set. Since pause is deprecated, state takes precedence " +
                         "so the connector will be " + targetState.toValue();
@@ -920,10 +1010,24 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
     }
 
     private Future<ConnectorStatusAndConditions> updateConnectorTopics(Reconciliation reconciliation, String host, KafkaConnectApi apiClient, String connectorName, ConnectorStatusAndConditions status) {
+        if (!tracksConnectorTopics()) {
+            return Future.succeededFuture(status);
+        }
+
         return VertxUtil.completableFutureToVertxFuture(apiClient.getConnectorTopics(reconciliation, host, port, connectorName))
             .compose(updateConnectorStatusAndConditions(status));
     }
 
+    /**
+     * Indicates whether the topics used by the connectors are reported in the status of the custom resource. When they
+     * are not, the topics are not fetched from the Connect REST API for every connector.
+     *
+     * @return  True if the connector topics are used. False otherwise.
+     */
+    boolean tracksConnectorTopics() {
+        return true;
+    }
+
     // Abstract methods for working with connector restarts. These methods are implemented in the KafkaConnectAssemblyOperator and KafkaMirrorMaker2AssemblyOperator
 
     /**
@@ -14,6 +14,7 @@ import io.strimzi.api.kafka.model.common.Condition;
 import io.strimzi.api.kafka.model.common.ConditionBuilder;
 import io.strimzi.api.kafka.model.common.Spec;
 import io.strimzi.api.kafka.model.kafka.Status;
+import io.strimzi.operator.cluster.leaderelection.ShardOwnership;
 import io.strimzi.operator.cluster.operator.VertxUtil;
 import io.strimzi.operator.cluster.operator.resource.kubernetes.AbstractWatchableStatusedNamespacedResourceOperator;
 import io.strimzi.operator.common.Annotations;
@@ -31,6 +32,7 @@ import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.model.NamespaceAndName;
 import io.strimzi.operator.common.model.StatusDiff;
 import io.strimzi.operator.common.model.StatusUtils;
+import io.strimzi.operator.common.tracing.OperatorTracing;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
@@ -39,6 +41,7 @@ import io.vertx.core.Vertx;
 import io.vertx.core.shareddata.Lock;
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Callable;
@@ -85,6 +88,11 @@ public abstract class AbstractOperator<
     protected final OperatorMetricsHolder metrics;
 
     private final Map<String, AtomicInteger> resourcesStateCounter = new ConcurrentHashMap<>(1);
+    private final Map<String, InformerWatcher<T>> watchers = new ConcurrentHashMap<>(1);
+    private final Map<String, Long> writtenResourceVersions = new ConcurrentHashMap<>(1);
+
+    private volatile ShardOwnership shardOwnership = ShardOwnership.ALL;
+    private volatile ReconciliationScheduler scheduler = null;
 
     /**
      * Constructs the AbstractOperator. This constructor is used to construct the AbstractOperator using the
@@ -135,6 +143,38 @@ public abstract class AbstractOperator<
         // Intentionally left blank for dedicated Kinds to implement, but not be required by.
     }
 
+    /**
+     * Sets the shard ownership which decides which resources are reconciled by this replica of the operator. By
+     * default, all resources are reconciled.
+     *
+     * @param shardOwnership    Shard ownership
+     */
+    public void setShardOwnership(ShardOwnership shardOwnership) {
+        this.shardOwnership = shardOwnership;
+    }
+
+    /**
+     * Sets the scheduler used to schedule the reconciliations. By default, no scheduler is used and the
+     * reconciliations are started right away.
+     *
+     * @param scheduler     Reconciliation scheduler
+     */
+    public void setScheduler(ReconciliationScheduler scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Checks whether the resource belongs to a shard owned by this replica of the operator
+     *
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource
+     *
+     * @return  True if the resource should be reconciled by this replica. False otherwise.
+     */
+    protected boolean isOwned(String namespace, String name) {
+        return shardOwnership.owns(namespace, name);
+    }
+
     /**
      * Gets the name of the lock to be used for operating on the given {@code namespace} and
      * cluster {@code name}
@@ -180,20 +220,68 @@ public abstract class AbstractOperator<
      */
     @Override
     public final Future<Void> reconcile(Reconciliation reconciliation) {
+        return schedule(reconciliation, ReconciliationScheduler.Priority.EVENT);
+    }
+
+    @Override
+    public final Future<Void> reconcileInBulk(Reconciliation reconciliation) {
+        return schedule(reconciliation, ReconciliationScheduler.Priority.PERIODIC);
+    }
+
+    /**
+     * Schedules the reconciliation using the scheduler or starts it right away when no scheduler is used
+     *
+     * @param reconciliation    The reconciliation
+     * @param priority          Priority of the reconciliation
+     *
+     * @return A Future which is completed with the result of the reconciliation.
+     */
+    private Future<Void> schedule(Reconciliation reconciliation, ReconciliationScheduler.Priority priority) {
+        if (!isOwned(reconciliation.namespace(), reconciliation.name())) {
+            LOGGER.debugCr(reconciliation, "{} {} in namespace {} belongs to a shard owned by another replica and will be ignored", kind(), reconciliation.name(), reconciliation.namespace());
+            return Future.succeededFuture();
+        }
+
+        ReconciliationScheduler scheduler = this.scheduler;
+        return scheduler != null ? scheduler.schedule(reconciliation, priority, () -> reconcileNow(reconciliation)) : reconcileNow(reconciliation);
+    }
+
+    /**
+     * Reconciles the resource right away. The ownership of the resource is checked again, because the shard might have
+     * been lost while the reconciliation was waiting in the scheduler.
+     *
+     * @param reconciliation The reconciliation.
+     * @return A Future which is completed with the result of the reconciliation.
+     */
+    private Future<Void> reconcileNow(Reconciliation reconciliation) {
         String namespace = reconciliation.namespace();
         String name = reconciliation.name();
 
+        if (!isOwned(namespace, name)) {
+            LOGGER.debugCr(reconciliation, "{} {} in namespace {} moved to a shard owned by another replica and will not be reconciled", kind(), name, namespace);
+            return Future.succeededFuture();
+        }
+
+        // The shard ownership keeps the shard Lease while the reconciliation runs, even if this replica loses the shard
+        ShardOwnership shardOwnership = this.shardOwnership;
+        shardOwnership.reconciliationStarted(reconciliation);
+
         metrics().reconciliationsCounter(reconciliation.namespace()).increment();
         Timer.Sample reconciliationTimerSample = Timer.start(metrics().metricsProvider().meterRegistry());
+        OperatorTracing.startReconciliation(reconciliation);
 
         Future<Void> handler = withLock(reconciliation, LOCK_TIMEOUT_MS, () ->
-            resourceOperator.getAsync(namespace, name)
+            getAsync(namespace, name)
                 .compose(cr -> cr != null ? reconcileResource(reconciliation, cr) : reconcileDeletion(reconciliation)));
 
         Promise<Void> result = Promise.promise();
         handler.onComplete(reconcileResult ->
             callSafely(reconciliation, () -> handleResult(reconciliation, reconcileResult, reconciliationTimerSample))
-                .onComplete(handleSafely(reconciliation, ignored -> result.handle(reconcileResult))));
+                .onComplete(handleSafely(reconciliation, ignored -> {
+                    shardOwnership.reconciliationFinished(reconciliation);
+                    OperatorTracing.endReconciliation(reconciliation, reconcileResult.cause());
+                    result.handle(reconcileResult);
+                })));
 
         return result.future();
     }
@@ -304,6 +392,14 @@ public abstract class AbstractOperator<
         String name = reconciliation.name();
         LOGGER.infoCr(reconciliation, "{} {} should be deleted", kind, name);
 
+        ReconciliationScheduler scheduler = this.scheduler;
+        if (scheduler != null) {
+            // The deleted resource is not reconciled periodically anymore => the scheduler does not need to remember it
+            scheduler.deleted(reconciliation);
+        }
+
+        writtenResourceVersions.remove(reconciliation.namespace() + "/" + name);
+
         return delete(reconciliation).<Void>map(deleteResult -> {
             if (deleteResult) {
                 LOGGER.infoCr(reconciliation, "{} {} deleted", kind, name);
@@ -345,7 +441,8 @@ public abstract class AbstractOperator<
                             res.setStatus(desiredStatus);
 
                             return resourceOperator.updateStatusAsync(reconciliation, res)
-                                    .compose(notUsed -> {
+                                    .compose(updated -> {
+                                        resourceWritten(updated);
                                         LOGGER.debugCr(reconciliation, "Completed status update");
                                         return Future.succeededFuture();
                                     }, error -> {
@@ -469,7 +566,8 @@ public abstract class AbstractOperator<
     }
 
     /**
-     * Find the names of all resources that should be reconciled
+     * Find the names of all resources that should be reconciled. When sharding is enabled, only the resources from the
+     * shards owned by this replica are returned.
      *
      * @param namespace The namespace where the resources should be looked up
      *
@@ -477,13 +575,111 @@ public abstract class AbstractOperator<
      */
     @Override
     public Future<Set<NamespaceAndName>> allResourceNames(String namespace) {
-        return resourceOperator.listAsync(namespace, selector())
+        InformerWatcher<T> watcher = InformerWatcher.readyWatcher(watchers, namespace);
+        Future<List<T>> resources = watcher != null ? Future.succeededFuture(watcher.listCached(namespace)) : resourceOperator.listAsync(namespace, selector());
+
+        return resources
                 .map(resourceList ->
                         resourceList.stream()
                                 .map(resource -> new NamespaceAndName(resource.getMetadata().getNamespace(), resource.getMetadata().getName()))
+                                .filter(resource -> isOwned(resource.getNamespace(), resource.getName()))
                                 .collect(Collectors.toSet()));
     }
 
+    /**
+     * Gets the custom resource. When the watch for its namespace is running, the resource is taken from the informer
+     * cache. Otherwise, or when it is not in the cache, it is read from the Kubernetes API. So a resource which was just
+     * created and did not make it into the cache yet is not mistaken for a deleted resource.
+     *
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource
+     *
+     * @return  Future which completes with the resource or with null if it does not exist
+     */
+    protected Future<T> getAsync(String namespace, String name) {
+        T cached = getCached(namespace, name);
+        return cached != null ? Future.succeededFuture(cached) : resourceOperator.getAsync(namespace, name);
+    }
+
+    /**
+     * Gets the custom resource synchronously. When the watch for its namespace is running, the resource is taken from
+     * the informer cache. Otherwise, or when it is not in the cache, it is read from the Kubernetes API.
+     *
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource
+     *
+     * @return  The resource or null if it does not exist
+     */
+    protected T get(String namespace, String name) {
+        T cached = getCached(namespace, name);
+        return cached != null ? cached : resourceOperator.get(namespace, name);
+    }
+
+    private T getCached(String namespace, String name) {
+        InformerWatcher<T> watcher = InformerWatcher.readyWatcher(watchers, namespace);
+        T cached = watcher != null ? watcher.get(namespace, name) : null;
+
+        if (cached != null && isStale(namespace, name, cached)) {
+            LOGGER.debugOp("{} {} in namespace {} in the cache is older than its last update by this operator and will be read from the Kubernetes API", kind, name, namespace);
+            return null;
+        }
+
+        return cached;
+    }
+
+    /**
+     * Checks whether the cached resource is older than the last version of the resource written by this operator. The
+     * resource versions are compared as numbers as Kubernetes uses the etcd revisions for them. When they cannot be
+     * compared, the cached resource is considered stale.
+     *
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource
+     * @param cached        Resource from the informer cache
+     *
+     * @return  True if the cached resource is older than the last written version. False otherwise.
+     */
+    /* test */ boolean isStale(String namespace, String name, T cached) {
+        String key = namespace + "/" + name;
+        Long written = writtenResourceVersions.get(key);
+
+        if (written == null) {
+            return false;
+        }
+
+        Long cachedVersion = resourceVersion(cached);
+
+        if (cachedVersion != null && cachedVersion >= written) {
+            // The cache caught up with the write => the written version does not need to be remembered anymore
+            writtenResourceVersions.remove(key, written);
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Remembers the resource version of a custom resource written by this operator. Until the informer cache receives
+     * this or a newer version of the resource, the resource is read from the Kubernetes API instead of the cache. This
+     * makes sure that the reconciliation which follows right after the write does not use the outdated resource.
+     *
+     * @param resource  The custom resource returned by the Kubernetes API after the write
+     */
+    protected void resourceWritten(T resource) {
+        Long version = resource != null ? resourceVersion(resource) : null;
+
+        if (version != null) {
+            writtenResourceVersions.merge(resource.getMetadata().getNamespace() + "/" + resource.getMetadata().getName(), version, Math::max);
+        }
+    }
+
+    private static Long resourceVersion(CustomResource<?, ?> resource) {
+        try {
+            return Long.parseLong(resource.getMetadata().getResourceVersion());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
     /**
      * A selector to narrow the scope of the {@linkplain #createWatch(String) watch}
      * and {@linkplain #allResourceNames(String) query}.
@@ -494,14 +690,18 @@ public abstract class AbstractOperator<
     }
 
     /**
-     * Create Kubernetes watch
+     * Create Kubernetes watch. The watch uses an informer and once it is synced, the reconciliations read the custom
+     * resources from its cache.
      *
      * @param namespace     Namespace where to watch for resources
      *
-     * @return  A future which completes when the watcher has been created
+     * @return  A future which completes when the watcher has been created and synced
      */
-    public Future<ReconnectingWatcher<T>> createWatch(String namespace) {
-        return VertxUtil.async(vertx, () -> new ReconnectingWatcher<>(resourceOperator, kind(), namespace, selector(), this::eventHandler));
+    public Future<InformerWatcher<T>> createWatch(String namespace) {
+        InformerWatcher<T> watcher = new InformerWatcher<>(resourceOperator, kind(), namespace, selector(), this::eventHandler);
+        watchers.put(namespace, watcher);
+
+        return VertxUtil.completableFutureToVertxFuture(watcher.start()).map(watcher);
     }
 
     /**
@@ -518,6 +718,11 @@ public abstract class AbstractOperator<
             case ADDED, DELETED, MODIFIED -> {
                 Reconciliation reconciliation = new Reconciliation("watch", this.kind(), namespace, name);
                 LOGGER.infoCr(reconciliation, "{} {} in namespace {} was {}", this.kind(), name, namespace, action);
+
+                if (!isOwned(namespace, name) && (action == Watcher.Action.DELETED || !isObserved(resource))) {
+                    shardOwnership.recordPendingChange(reconciliation);
+                }
+
                 reconcile(reconciliation);
             }
             case ERROR -> {
@@ -533,6 +738,19 @@ public abstract class AbstractOperator<
         }
     }
 
+    /**
+     * Checks whether the current generation of the resource was already reconciled
+     *
+     * @param resource  The resource
+     *
+     * @return  True if the observed generation in the status matches the generation of the resource. False otherwise.
+     */
+    private boolean isObserved(T resource) {
+        return resource.getStatus() != null
+                && resource.getMetadata().getGeneration() != null
+                && resource.getMetadata().getGeneration() == resource.getStatus().getObservedGeneration();
+    }
+
     /**
      * Log the reconciliation outcome.
      */
@@ -607,7 +825,7 @@ public abstract class AbstractOperator<
             LOGGER.debugCr(reconciliation, "Removed metric " + MetricsHolder.METRICS_PREFIX + "resource.state{}", key);
         }
 
-        return resourceOperator.getAsync(reconciliation.namespace(), reconciliation.name()).map(cr -> {
+        return getAsync(reconciliation.namespace(), reconciliation.name()).map(cr -> {
             if (cr != null && Util.matchesSelector(selector(), cr)) {
                 resourcesStateCounter.computeIfAbsent(key, tags ->
                         metrics().metricsProvider().gauge(MetricsHolder.METRICS_RESOURCE_STATE, "Current state of the resource: 1 ready, 0 fail", metricTags)
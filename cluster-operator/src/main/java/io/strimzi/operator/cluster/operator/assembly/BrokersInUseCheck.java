@@ -6,7 +6,7 @@ package io.strimzi.operator.cluster.operator.assembly;
 
 import io.strimzi.api.kafka.model.kafka.KafkaResources;
 import io.strimzi.operator.cluster.model.KafkaCluster;
-import io.strimzi.operator.cluster.operator.VertxUtil;
+import io.strimzi.operator.cluster.operator.resource.PartitionIndex;
 import io.strimzi.operator.common.AdminClientProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
@@ -14,13 +14,8 @@ import io.strimzi.operator.common.auth.TlsPemIdentity;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import org.apache.kafka.clients.admin.Admin;
-import org.apache.kafka.clients.admin.ListTopicsOptions;
-import org.apache.kafka.clients.admin.TopicDescription;
 import org.apache.kafka.common.KafkaException;
-import org.apache.kafka.common.TopicPartitionInfo;
 
-import java.util.HashSet;
-import java.util.Map;
 import java.util.Set;
 
 /**
@@ -39,30 +34,21 @@ public class BrokersInUseCheck {
      * @param vertx                 Vert.x instance
      * @param coTlsPemIdentity      Trust set and identity for TLS client authentication for connecting to the Kafka cluster
      * @param adminClientProvider   Used to create the Admin client instance
+     * @param partitionIndex        Partition index which is refreshed and used to find the brokers in use. It can be
+     *                              shared with the other checks done during the reconciliation.
      *
      * @return returns future set of node ids containing partition replicas based on the outcome of the check
      */
-    public Future<Set<Integer>> brokersInUse(Reconciliation reconciliation, Vertx vertx, TlsPemIdentity coTlsPemIdentity, AdminClientProvider adminClientProvider) {
+    public Future<Set<Integer>> brokersInUse(Reconciliation reconciliation, Vertx vertx, TlsPemIdentity coTlsPemIdentity, AdminClientProvider adminClientProvider, PartitionIndex partitionIndex) {
         try {
             String bootstrapHostname = KafkaResources.bootstrapServiceName(reconciliation.name()) + "." + reconciliation.namespace() + ".svc:" + KafkaCluster.REPLICATION_PORT;
             LOGGER.debugCr(reconciliation, "Creating AdminClient for Kafka cluster in namespace {}", reconciliation.namespace());
             Admin kafkaAdmin = adminClientProvider.createAdminClient(bootstrapHostname, coTlsPemIdentity.pemTrustSet(), coTlsPemIdentity.pemAuthIdentity());
 
-            return topicNames(reconciliation, vertx, kafkaAdmin)
-                    .compose(names -> describeTopics(reconciliation, vertx, kafkaAdmin, names))
-                    .compose(topicDescriptions -> {
-                        Set<Integer> brokersWithPartitionReplicas = new HashSet<>();
-
-                        for (TopicDescription td : topicDescriptions.values()) {
-                            for (TopicPartitionInfo pd : td.partitions()) {
-                                for (org.apache.kafka.common.Node broker : pd.replicas()) {
-                                    brokersWithPartitionReplicas.add(broker.id());
-                                }
-                            }
-                        }
-
+            return partitionIndex.refresh(kafkaAdmin)
+                    .compose(index -> {
                         kafkaAdmin.close();
-                        return Future.succeededFuture(brokersWithPartitionReplicas);
+                        return Future.succeededFuture(index.brokersInUse());
                     }).recover(error -> {
                         LOGGER.warnCr(reconciliation, "Failed to get list of brokers in use", error);
                         kafkaAdmin.close();
@@ -73,29 +59,4 @@ public class BrokersInUseCheck {
             return Future.failedFuture(e);
         }
     }
-
-    /**
-     * This method gets the topic names after interacting with the Admin client
-     *
-     * @param reconciliation      Reconciliation marker
-     * @param vertx               Vert.x instance
-     * @param kafkaAdmin          Instance of Kafka Admin
-     * @return  a Future with set of topic names
-     */
-    /* test */ Future<Set<String>> topicNames(Reconciliation reconciliation, Vertx vertx, Admin kafkaAdmin) {
-        return VertxUtil.kafkaFutureToVertxFuture(reconciliation, vertx, kafkaAdmin.listTopics(new ListTopicsOptions().listInternal(true)).names());
-    }
-
-    /**
-     * Returns a collection of topic descriptions
-     *
-     * @param reconciliation Reconciliation marker
-     * @param vertx          Vert.x instance
-     * @param kafkaAdmin     Instance of Admin client
-     * @param names          Set of topic names
-     * @return a Future with map containing the topic name and description
-     */
-    /* test */ Future<Map<String, TopicDescription>> describeTopics(Reconciliation reconciliation, Vertx vertx, Admin kafkaAdmin, Set<String> names) {
-        return VertxUtil.kafkaFutureToVertxFuture(reconciliation, vertx, kafkaAdmin.describeTopics(names).allTopicNames());
-    }
 }
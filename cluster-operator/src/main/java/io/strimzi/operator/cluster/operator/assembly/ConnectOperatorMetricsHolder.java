@@ -5,18 +5,25 @@
 package io.strimzi.operator.cluster.operator.assembly;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
 import io.strimzi.api.kafka.model.connector.KafkaConnector;
 import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.config.ConfigParameter;
+import io.strimzi.operator.common.metrics.ClusterMetricKey;
 import io.strimzi.operator.common.metrics.MetricKey;
+import io.strimzi.operator.common.metrics.MetricsUtils;
 import io.strimzi.operator.common.metrics.OperatorMetricsHolder;
 import io.strimzi.operator.common.model.Labels;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
 
 /**
  * Util class which holds the different metrics used by operators which deal with connectors
@@ -27,11 +34,17 @@ public class ConnectOperatorMetricsHolder extends OperatorMetricsHolder {
      */
     public static final String METRIC_AUTO_RESTARTS = METRICS_PREFIX + "auto.restarts";
 
+    /**
+     * Metric name for the duration of the reconciliation of individual connectors.
+     */
+    public static final String METRICS_CONNECTOR_RECONCILIATION_DURATION = METRICS_PREFIX + "connector.reconciliation.duration";
+
     private final Map<MetricKey, Counter> connectorsReconciliationsCounterMap = new ConcurrentHashMap<>(1);
     private final Map<MetricKey, Counter> connectorsFailedReconciliationsCounterMap = new ConcurrentHashMap<>(1);
     private final Map<MetricKey, Counter> connectorsSuccessfulReconciliationsCounterMap = new ConcurrentHashMap<>(1);
     private final Map<MetricKey, Counter> connectorsAutoRestartsCounterMap = new ConcurrentHashMap<>(1);
     private final Map<MetricKey, Timer> connectorsReconciliationsTimerMap = new ConcurrentHashMap<>(1);
+    private final Map<MetricKey, Timer> connectorReconciliationTimerMap = new ConcurrentHashMap<>(1);
     private final Map<MetricKey, AtomicInteger> connectorsResourceCounterMap = new ConcurrentHashMap<>(1);
     private final Map<MetricKey, AtomicInteger> pausedConnectorsResourceCounterMap = new ConcurrentHashMap<>(1);
 
@@ -138,6 +151,45 @@ public class ConnectOperatorMetricsHolder extends OperatorMetricsHolder {
                 Optional.of(getLabelSelectorValues()), connectorsReconciliationsTimerMap);
     }
 
+    /**
+     * Timer which measures how long does the reconciliation of a single connector take. Unlike the
+     * {@link #connectorsReconciliationsTimer(String)}, it measures only the communication with the Connect REST API
+     * and not the time spent waiting for a free slot or updating the connector status. The timer is shared by all
+     * connectors of the Connect cluster to keep the number of the metrics independent of the number of connectors.
+     *
+     * @param namespace         Namespace of the Connect cluster
+     * @param clusterName       Name of the Connect cluster
+     *
+     * @return  Metrics timer
+     */
+    public Timer connectorReconciliationTimer(String namespace, String clusterName) {
+        return getTimer(new ClusterMetricKey(KafkaConnector.RESOURCE_KIND, namespace, clusterName), METRICS_CONNECTOR_RECONCILIATION_DURATION,
+                "The time the reconciliation of a single connector takes to complete",
+                Optional.of(getLabelSelectorValues()), connectorReconciliationTimerMap,
+                Tag.of("cluster", clusterName));
+    }
+
+    /**
+     * Removes the connector reconciliation timers of the Connect clusters which match the given predicate.
+     *
+     * @param shouldDelete  Predicate to filter the Connect clusters whose metrics should be removed
+     */
+    public void removeConnectorReconciliationTimers(Predicate<ClusterMetricKey> shouldDelete) {
+        final List<ClusterMetricKey> removedKeys = new ArrayList<>();
+
+        connectorReconciliationTimerMap.keySet().stream()
+                .map(ClusterMetricKey.class::cast)
+                .filter(shouldDelete)
+                .forEach(key -> {
+                    Tags tags = MetricsUtils.getAllMetricTags(key.getNamespace(), key.getKind(), Optional.empty(),
+                            Tag.of("cluster", key.getClusterName()));
+                    removeMetric(METRICS_CONNECTOR_RECONCILIATION_DURATION, tags);
+                    removedKeys.add(key);
+                });
+
+        removedKeys.forEach(connectorReconciliationTimerMap::remove);
+    }
+
     /**
      * Resets all values in the connector resource counter map and paused resource counter map to 0. This is used to
      * handle removed connector resources from various namespaces during the periodical reconciliation in operators.
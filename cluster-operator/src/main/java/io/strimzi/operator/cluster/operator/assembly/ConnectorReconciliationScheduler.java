@@ -0,0 +1,174 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Schedules the reconciliations of the connectors of a single Kafka Connect cluster. It limits how many connectors
+ * are reconciled in parallel, so that the Connect REST API is not flooded with requests when the Connect cluster has
+ * many connectors.
+ *
+ * The limit adapts to the responses of the Connect REST API. When a connector reconciliation fails because Connect is
+ * rebalancing (HTTP 409) or because of a server error (HTTP 5xx), the limit is halved and the next reconciliations are
+ * started only after a delay which doubles with every such failure. Once as many connectors as the current limit were
+ * reconciled without such a failure, the limit is increased by one and the delay is halved again until the configured
+ * maximum concurrency is reached and no delay is used.
+ *
+ * One scheduler is kept for each Connect cluster, so that the limit and the delay learned from the previous
+ * reconciliations are used by the following reconciliations as well.
+ */
+class ConnectorReconciliationScheduler {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(ConnectorReconciliationScheduler.class);
+
+    /* test */ static final long INITIAL_DELAY_MS = 200L;
+    /* test */ static final long MAX_DELAY_MS = 10_000L;
+
+    private final Vertx vertx;
+    private final int maxConcurrency;
+    private final Deque<Runnable> queue = new ArrayDeque<>();
+
+    private int concurrency;
+    private int running = 0;
+    private int completedWithoutOverload = 0;
+    private long delayMs = 0L;
+
+    /**
+     * Constructs the scheduler
+     *
+     * @param vertx             Vert.x instance used for the delays
+     * @param maxConcurrency    Maximal number of connectors reconciled in parallel
+     */
+    ConnectorReconciliationScheduler(Vertx vertx, int maxConcurrency) {
+        this.vertx = vertx;
+        this.maxConcurrency = Math.max(1, maxConcurrency);
+        this.concurrency = this.maxConcurrency;
+    }
+
+    /**
+     * Schedules a connector reconciliation. The reconciliation is started once there is a free slot for it.
+     *
+     * @param reconciliation    Reconciliation marker of the Connect cluster
+     * @param task              Supplier which starts the connector reconciliation
+     *
+     * @return  Future which completes with the result of the connector reconciliation
+     *
+     * @param <T>   Type of the connector reconciliation result
+     */
+    <T> Future<T> schedule(Reconciliation reconciliation, Supplier<Future<T>> task) {
+        Promise<T> promise = Promise.promise();
+
+        synchronized (this) {
+            queue.add(() -> run(reconciliation, task, promise));
+        }
+
+        dispatch();
+        return promise.future();
+    }
+
+    /**
+     * @return  The current limit of the connectors reconciled in parallel
+     */
+    /* test */ synchronized int concurrency() {
+        return concurrency;
+    }
+
+    /**
+     * @return  The current delay used before starting a connector reconciliation
+     */
+    /* test */ synchronized long delayMs() {
+        return delayMs;
+    }
+
+    private void dispatch() {
+        List<Runnable> tasks = new ArrayList<>();
+        long delay;
+
+        synchronized (this) {
+            while (running < concurrency && !queue.isEmpty()) {
+                running++;
+                tasks.add(queue.poll());
+            }
+
+            delay = delayMs;
+        }
+
+        for (Runnable task : tasks) {
+            if (delay > 0) {
+                vertx.setTimer(delay, id -> task.run());
+            } else {
+                task.run();
+            }
+        }
+    }
+
+    private <T> void run(Reconciliation reconciliation, Supplier<Future<T>> task, Promise<T> promise) {
+        Future<T> future;
+
+        try {
+            future = task.get();
+        } catch (Throwable t) {
+            future = Future.failedFuture(t);
+        }
+
+        future.onComplete(result -> {
+            completed(reconciliation, result.failed() && isOverloaded(result.cause()));
+            promise.handle(result);
+            dispatch();
+        });
+    }
+
+    private synchronized void completed(Reconciliation reconciliation, boolean overloaded) {
+        running--;
+
+        if (overloaded) {
+            completedWithoutOverload = 0;
+            concurrency = Math.max(1, concurrency / 2);
+            delayMs = delayMs == 0 ? INITIAL_DELAY_MS : Math.min(MAX_DELAY_MS, delayMs * 2);
+
+            LOGGER.debugCr(reconciliation, "Connect REST API is overloaded. Reconciling at most {} connectors in parallel with a delay of {} ms", concurrency, delayMs);
+        } else if (concurrency < maxConcurrency || delayMs > 0) {
+            completedWithoutOverload++;
+
+            if (completedWithoutOverload >= concurrency) {
+                completedWithoutOverload = 0;
+                concurrency = Math.min(maxConcurrency, concurrency + 1);
+                delayMs = delayMs / 2 < INITIAL_DELAY_MS ? 0 : delayMs / 2;
+
+                LOGGER.debugCr(reconciliation, "Reconciling at most {} connectors in parallel with a delay of {} ms", concurrency, delayMs);
+            }
+        }
+    }
+
+    /**
+     * Checks whether the error indicates that the Connect REST API cannot handle the request right now because it is
+     * rebalancing or because of a server error.
+     *
+     * @param error     Error from the connector reconciliation
+     *
+     * @return  True if the error is 409 or 5xx error from the Connect REST API. False otherwise.
+     */
+    /* test */ static boolean isOverloaded(Throwable error) {
+        while (error != null) {
+            if (error instanceof ConnectRestException restException) {
+                return restException.getStatusCode() == 409 || restException.getStatusCode() >= 500;
+            }
+
+            error = error.getCause();
+        }
+
+        return false;
+    }
+}
@@ -0,0 +1,18 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import java.util.Map;
+
+/**
+ * Configuration and status of a single connector as returned by the {@code GET /connectors?expand=info&expand=status}
+ * Connect REST API call. It allows the connector reconciliation to compare the desired state with the current state
+ * without querying each connector separately.
+ *
+ * @param config    The connector configuration (the same as returned from {@code GET /connectors/${connectorName}/config})
+ * @param status    The connector status (the same as returned from {@code GET /connectors/${connectorName}/status})
+ */
+public record ConnectorSnapshot(Map<String, String> config, Map<String, Object> status) {
+}
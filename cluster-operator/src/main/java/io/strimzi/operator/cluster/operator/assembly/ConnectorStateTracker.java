@@ -0,0 +1,98 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Collections.emptyMap;
+
+/**
+ * Tracks the last known state of the connectors and their tasks in the Kafka Connect clusters. It is used to detect the
+ * connectors which changed their state (for example because a task failed) since the last time the Kafka Connect REST
+ * API was queried, so that only these connectors are reconciled by the connector status polling.
+ */
+class ConnectorStateTracker {
+    private final Map<String, Map<String, String>> states = new ConcurrentHashMap<>();
+
+    /**
+     * Records the current state of the connectors in a Kafka Connect cluster and returns the connectors which changed
+     * their state since the previous call. When the Connect cluster is recorded for the first time, no connectors are
+     * returned as there is nothing to compare with.
+     *
+     * @param namespace     Namespace of the Connect cluster
+     * @param clusterName   Name of the Connect cluster
+     * @param connectors    Connectors with their status as returned by the Kafka Connect REST API
+     *
+     * @return  Set with the names of the connectors which changed their state
+     */
+    Set<String> update(String namespace, String clusterName, Map<String, ConnectorSnapshot> connectors) {
+        Map<String, String> current = new HashMap<>(connectors.size());
+        for (Map.Entry<String, ConnectorSnapshot> connector : connectors.entrySet()) {
+            current.put(connector.getKey(), state(connector.getValue()));
+        }
+
+        Map<String, String> previous = states.put(key(namespace, clusterName), current);
+        Set<String> changed = new HashSet<>();
+
+        if (previous != null) {
+            for (Map.Entry<String, String> connector : current.entrySet()) {
+                String previousState = previous.get(connector.getKey());
+
+                if (previousState != null && !previousState.equals(connector.getValue())) {
+                    changed.add(connector.getKey());
+                }
+            }
+        }
+
+        return changed;
+    }
+
+    /**
+     * Removes the tracked state of a Kafka Connect cluster. This should be called when the Connect cluster is deleted.
+     *
+     * @param namespace     Namespace of the Connect cluster
+     * @param clusterName   Name of the Connect cluster
+     */
+    void remove(String namespace, String clusterName) {
+        states.remove(key(namespace, clusterName));
+    }
+
+    private static String key(String namespace, String clusterName) {
+        return namespace + "/" + clusterName;
+    }
+
+    /**
+     * Builds a string representing the state of the connector and its tasks. The worker IDs are ignored, so that the
+     * connector is not considered changed when its tasks are only rebalanced between workers.
+     *
+     * @param connector     Connector with its status
+     *
+     * @return  String with the state of the connector and of its tasks
+     */
+    /* test */ static String state(ConnectorSnapshot connector) {
+        if (connector == null || connector.status() == null) {
+            return "";
+        }
+
+        Object connectorState = ((Map<?, ?>) connector.status().getOrDefault("connector", emptyMap())).get("state");
+        Map<String, Object> taskStates = new TreeMap<>();
+
+        if (connector.status().get("tasks") instanceof List<?> tasks) {
+            for (Object task : tasks) {
+                if (task instanceof Map<?, ?> taskStatus) {
+                    taskStates.put(String.valueOf(taskStatus.get("id")), taskStatus.get("state"));
+                }
+            }
+        }
+
+        return connectorState + " " + taskStates;
+    }
+}
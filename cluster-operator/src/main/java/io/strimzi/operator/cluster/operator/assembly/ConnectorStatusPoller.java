@@ -0,0 +1,108 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.strimzi.api.kafka.model.connect.KafkaConnect;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.vertx.core.Future;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Polls the state of the connectors from the Kafka Connect clusters which use the KafkaConnector resources. Each Connect
+ * cluster is queried with a single Kafka Connect REST API call. The connectors which changed their state since the
+ * previous poll or reconciliation are reconciled right away, so that their status is updated and failed connectors and
+ * tasks are restarted without waiting for the next periodic reconciliation.
+ *
+ * A new poll of a namespace is skipped while the previous poll of the same namespace is still in progress, so that the
+ * polls do not pile up when the Connect clusters respond slowly.
+ */
+class ConnectorStatusPoller {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(ConnectorStatusPoller.class);
+
+    private final KafkaConnectAssemblyOperator operator;
+    private final ConnectorStateTracker connectorStates = new ConnectorStateTracker();
+    private final Set<String> pollsInProgress = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Constructs the connector status poller
+     *
+     * @param operator  Kafka Connect assembly operator used to query and reconcile the connectors
+     */
+    ConnectorStatusPoller(KafkaConnectAssemblyOperator operator) {
+        this.operator = operator;
+    }
+
+    /**
+     * Polls the state of the connectors from all Kafka Connect clusters in the namespace.
+     *
+     * @param namespace     Namespace where the Kafka Connect clusters should be polled
+     *
+     * @return  Future which completes when the connectors which changed their state are reconciled
+     */
+    Future<Void> poll(String namespace) {
+        if (!pollsInProgress.add(namespace)) {
+            LOGGER.debugOp("Previous poll of the connector states in namespace {} is still in progress and this poll will be skipped", namespace);
+            return Future.succeededFuture();
+        }
+
+        return operator.listPolledConnectClusters(namespace)
+                .compose(connects -> Future.join(connects.stream()
+                        .map(this::pollCluster)
+                        .collect(Collectors.toList())))
+                .<Void>mapEmpty()
+                .onComplete(i -> pollsInProgress.remove(namespace));
+    }
+
+    private Future<Void> pollCluster(KafkaConnect connect) {
+        String connectName = connect.getMetadata().getName();
+        String namespace = connect.getMetadata().getNamespace();
+        Reconciliation reconciliation = new Reconciliation("connector-status-poll", connect.getKind(), namespace, connectName);
+
+        return operator.listConnectorStates(reconciliation, connect)
+                .compose(runningConnectors -> {
+                    Set<String> changedConnectors = connectorStates.update(namespace, connectName, runningConnectors);
+
+                    if (changedConnectors.isEmpty()) {
+                        return Future.succeededFuture();
+                    }
+
+                    LOGGER.infoCr(reconciliation, "Connectors {} changed their state", changedConnectors);
+                    return operator.reconcileChangedConnectors(reconciliation, connect, changedConnectors);
+                })
+                .recover(error -> {
+                    // Failures are handled by the next poll or by the periodic reconciliation
+                    LOGGER.debugCr(reconciliation, "Failed to poll the state of the connectors", error);
+                    return Future.succeededFuture();
+                });
+    }
+
+    /**
+     * Records the state of the connectors of a Kafka Connect cluster as seen by its reconciliation. The connectors are
+     * reconciled by it, so the next poll reconciles only the connectors which change their state after it.
+     *
+     * @param namespace     Namespace of the Connect cluster
+     * @param clusterName   Name of the Connect cluster
+     * @param connectors    Connectors with their status as returned by the Kafka Connect REST API
+     */
+    void update(String namespace, String clusterName, Map<String, ConnectorSnapshot> connectors) {
+        connectorStates.update(namespace, clusterName, connectors);
+    }
+
+    /**
+     * Removes the recorded state of a Kafka Connect cluster. This should be called when the Connect cluster is deleted
+     * or scaled to zero replicas.
+     *
+     * @param namespace     Namespace of the Connect cluster
+     * @param clusterName   Name of the Connect cluster
+     */
+    void remove(String namespace, String clusterName) {
+        connectorStates.remove(namespace, clusterName);
+    }
+}
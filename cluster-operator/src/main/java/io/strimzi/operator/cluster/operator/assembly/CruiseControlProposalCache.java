@@ -0,0 +1,236 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.strimzi.api.kafka.model.rebalance.KafkaRebalanceMode;
+import io.strimzi.operator.cluster.operator.resource.cruisecontrol.AbstractRebalanceOptions;
+import io.strimzi.operator.cluster.operator.resource.cruisecontrol.AddBrokerOptions;
+import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlRebalanceResponse;
+import io.strimzi.operator.cluster.operator.resource.cruisecontrol.PathBuilder;
+import io.strimzi.operator.cluster.operator.resource.cruisecontrol.RebalanceOptions;
+import io.strimzi.operator.cluster.operator.resource.cruisecontrol.RemoveBrokerOptions;
+import io.strimzi.operator.cluster.operator.resource.cruisecontrol.RemoveDisksOptions;
+import io.strimzi.operator.common.model.cruisecontrol.CruiseControlEndpoints;
+import io.strimzi.operator.common.model.cruisecontrol.CruiseControlRebalanceKeys;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Short-lived cache of the rebalance proposals (dry-run rebalance requests) computed by Cruise Control. KafkaRebalance
+ * resources which request a proposal for the same Kafka cluster with the same goals, mode, brokers and other options
+ * within the TTL share the proposal instead of asking Cruise Control to compute it again:
+ *
+ *   - Requests which arrive while an identical request is in flight wait for its response.
+ *   - Proposals which are ready and proposals which are still being computed (identified by their user task ID) are
+ *     reused until the TTL expires.
+ *   - Errors and responses without enough data for a proposal are never cached.
+ *
+ * All proposals of a Kafka cluster are invalidated when the set of its nodes changes, when a rebalance of the cluster
+ * finishes and when the cluster is deleted or its Cruise Control disabled. The clusters without any cached proposals are
+ * removed from the cache.
+ */
+class CruiseControlProposalCache {
+    private final long ttlMs;
+    private final LongSupplier clock;
+    private final Map<String, Topology> clusters = new HashMap<>();
+
+    /**
+     * Constructs the proposal cache
+     *
+     * @param ttlMs     How long the proposals are reused in milliseconds. 0 disables the cache.
+     */
+    CruiseControlProposalCache(long ttlMs) {
+        this(ttlMs, System::currentTimeMillis);
+    }
+
+    /* test */ CruiseControlProposalCache(long ttlMs, LongSupplier clock) {
+        this.ttlMs = ttlMs;
+        this.clock = clock;
+    }
+
+    /**
+     * Updates the nodes of a Kafka cluster. When they changed since the last update, the cached proposals of the
+     * cluster are invalidated.
+     *
+     * @param namespace     Namespace of the Kafka cluster
+     * @param cluster       Name of the Kafka cluster
+     * @param nodeIds       IDs of the nodes of the Kafka cluster
+     */
+    synchronized void updateTopology(String namespace, String cluster, List<Integer> nodeIds) {
+        List<Integer> sortedNodeIds = nodeIds == null ? List.of() : nodeIds.stream().sorted().toList();
+        Topology topology = clusters.get(key(namespace, cluster));
+
+        if (topology == null || !topology.nodeIds.equals(sortedNodeIds)) {
+            clusters.put(key(namespace, cluster), new Topology(sortedNodeIds));
+        }
+    }
+
+    /**
+     * Invalidates all proposals of a Kafka cluster. This should be called when a rebalance of the cluster finishes or
+     * is stopped, because the partitions were moved, and when the cluster is deleted or its Cruise Control disabled.
+     *
+     * @param namespace     Namespace of the Kafka cluster
+     * @param cluster       Name of the Kafka cluster
+     */
+    synchronized void invalidateCluster(String namespace, String cluster) {
+        clusters.remove(key(namespace, cluster));
+    }
+
+    /**
+     * Returns the cached proposal for the request or requests a new one.
+     *
+     * @param namespace     Namespace of the Kafka cluster
+     * @param cluster       Name of the Kafka cluster
+     * @param request       Proposal request (Cruise Control endpoint with all the options)
+     * @param refresh       When true, the cached proposal is not used and it is replaced by the new one
+     * @param compute       Requests the proposal from Cruise Control
+     *
+     * @return  Future with the Cruise Control response
+     */
+    Future<CruiseControlRebalanceResponse> proposal(String namespace, String cluster, String request, boolean refresh,
+                                                    Supplier<Future<CruiseControlRebalanceResponse>> compute) {
+        if (ttlMs <= 0) {
+            return compute.get();
+        }
+
+        Entry entry;
+
+        synchronized (this) {
+            String key = key(namespace, cluster);
+            long now = clock.getAsLong();
+
+            // Removes the expired proposals and the other clusters without any proposals
+            clusters.entrySet().removeIf(cached -> {
+                cached.getValue().proposals.values().removeIf(e -> e.expiresAt <= now);
+                return cached.getValue().proposals.isEmpty() && !cached.getKey().equals(key);
+            });
+
+            Topology topology = clusters.computeIfAbsent(key, k -> new Topology(List.of()));
+
+            Entry current = topology.proposals.get(request);
+            if (current != null && !refresh) {
+                return current.proposal.future();
+            }
+
+            entry = new Entry(now + ttlMs);
+            topology.proposals.put(request, entry);
+        }
+
+        Future<CruiseControlRebalanceResponse> computed;
+        try {
+            computed = compute.get();
+        } catch (RuntimeException e) {
+            computed = Future.failedFuture(e);
+        }
+
+        computed.onComplete(result -> {
+            if (result.failed() || !isReusable(result.result())) {
+                remove(namespace, cluster, request, entry);
+            }
+
+            entry.proposal.handle(result);
+        });
+
+        return entry.proposal.future();
+    }
+
+    /**
+     * Invalidates the proposals using given user task. This should be called when the user task failed or is not known
+     * to Cruise Control anymore.
+     *
+     * @param userTaskId    ID of the user task
+     */
+    synchronized void invalidateUserTask(String userTaskId) {
+        for (Topology topology : clusters.values()) {
+            topology.proposals.values().removeIf(entry -> entry.proposal.future().succeeded()
+                    && Objects.equals(entry.proposal.future().result().getUserTaskId(), userTaskId));
+        }
+    }
+
+    /**
+     * Builds the Cruise Control request for the rebalance proposal. The request (endpoint and all query parameters)
+     * identifies the proposal in the proposal cache.
+     *
+     * @param mode      KafkaRebalance mode
+     * @param options   Rebalance options
+     *
+     * @return  Request path with the query parameters
+     */
+    static String request(KafkaRebalanceMode mode, AbstractRebalanceOptions options) {
+        return switch (mode) {
+            case ADD_BROKERS -> new PathBuilder(CruiseControlEndpoints.ADD_BROKER).withAddBrokerParameters((AddBrokerOptions) options).build();
+            case REMOVE_BROKERS -> new PathBuilder(CruiseControlEndpoints.REMOVE_BROKER).withRemoveBrokerParameters((RemoveBrokerOptions) options).build();
+            case REMOVE_DISKS -> new PathBuilder(CruiseControlEndpoints.REMOVE_DISKS).withRemoveBrokerDisksParameters((RemoveDisksOptions) options).build();
+            default -> new PathBuilder(CruiseControlEndpoints.REBALANCE).withRebalanceParameters((RebalanceOptions) options).build();
+        };
+    }
+
+    private synchronized void remove(String namespace, String cluster, String request, Entry entry) {
+        Topology topology = clusters.get(key(namespace, cluster));
+
+        if (topology != null) {
+            topology.proposals.remove(request, entry);
+        }
+    }
+
+    private static String key(String namespace, String cluster) {
+        return namespace + "/" + cluster;
+    }
+
+    private static boolean isReusable(CruiseControlRebalanceResponse response) {
+        if (response.isNotEnoughDataForProposal()) {
+            return false;
+        } else if (response.isProposalStillCalculating()) {
+            return response.getUserTaskId() != null && !response.getUserTaskId().isEmpty();
+        } else {
+            return response.getJson() != null && response.getJson().has(CruiseControlRebalanceKeys.SUMMARY.getKey());
+        }
+    }
+
+    /**
+     * @return  Number of cached proposals
+     */
+    /* test */ synchronized int size() {
+        return clusters.values().stream().mapToInt(topology -> topology.proposals.size()).sum();
+    }
+
+    /**
+     * @return  Number of Kafka clusters in the cache
+     */
+    /* test */ synchronized int clusters() {
+        return clusters.size();
+    }
+
+    /**
+     * Nodes of a Kafka cluster and the proposals computed for them
+     */
+    private static class Topology {
+        private final List<Integer> nodeIds;
+        private final Map<String, Entry> proposals = new HashMap<>();
+
+        private Topology(List<Integer> nodeIds) {
+            this.nodeIds = nodeIds;
+        }
+    }
+
+    /**
+     * Cached proposal
+     */
+    private static class Entry {
+        private final long expiresAt;
+        private final Promise<CruiseControlRebalanceResponse> proposal = Promise.promise();
+
+        private Entry(long expiresAt) {
+            this.expiresAt = expiresAt;
+        }
+    }
+}
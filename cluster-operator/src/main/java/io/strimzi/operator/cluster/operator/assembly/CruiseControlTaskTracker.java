@@ -0,0 +1,422 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.strimzi.operator.cluster.operator.VertxUtil;
+import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlApi;
+import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlUserTasksResponse;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.common.model.cruisecontrol.CruiseControlUserTaskStatus;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Tracks the Cruise Control user tasks (rebalance proposals and rebalances) of the KafkaRebalance resources. The status
+ * of the tasks is fetched with a single user_tasks request per Cruise Control instance:
+ *
+ *   - The status requests from the KafkaRebalance reconciliations which arrive while a request to the same Cruise
+ *     Control instance is in progress are batched together into the next request.
+ *   - The tasks which are still in progress are polled in the background and when their status changes, the
+ *     KafkaRebalance resource which owns them is reconciled. The poll interval starts at the minimal interval and is
+ *     doubled up to the maximal interval while none of the tasks changes its status.
+ *
+ * The state of a Cruise Control instance is kept only while some of its tasks are requested or tracked. It is removed
+ * right away when the Kafka cluster is deleted or when Cruise Control is disabled.
+ */
+class CruiseControlTaskTracker {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(CruiseControlTaskTracker.class.getName());
+
+    /**
+     * Maximal interval between two background polls of the same Cruise Control instance
+     */
+    /* test */ static final long MAX_POLL_INTERVAL_MS = 60_000L;
+
+    private final Vertx vertx;
+    private final long minPollIntervalMs;
+    private final long maxPollIntervalMs;
+    private final Consumer<Reconciliation> onTaskChange;
+    private final Map<String, Instance> instances = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs the task tracker
+     *
+     * @param vertx                 Vert.x instance
+     * @param minPollIntervalMs     Minimal interval between two background polls of the same Cruise Control instance.
+     *                              0 disables the background polling.
+     * @param onTaskChange          Called with a reconciliation of the KafkaRebalance resource when its task changes status
+     */
+    CruiseControlTaskTracker(Vertx vertx, long minPollIntervalMs, Consumer<Reconciliation> onTaskChange) {
+        this(vertx, minPollIntervalMs, Math.max(minPollIntervalMs, MAX_POLL_INTERVAL_MS), onTaskChange);
+    }
+
+    /* test */ CruiseControlTaskTracker(Vertx vertx, long minPollIntervalMs, long maxPollIntervalMs, Consumer<Reconciliation> onTaskChange) {
+        this.vertx = vertx;
+        this.minPollIntervalMs = minPollIntervalMs;
+        this.maxPollIntervalMs = maxPollIntervalMs;
+        this.onTaskChange = onTaskChange;
+    }
+
+    /**
+     * Gets the status of a user task. The request is batched with the other requests to the same Cruise Control
+     * instance. If the task is still in progress, it is tracked in the background afterwards.
+     *
+     * @param reconciliation    Reconciliation of the KafkaRebalance resource which owns the task
+     * @param apiClient         Cruise Control REST API client
+     * @param host              Cruise Control host
+     * @param port              Cruise Control port
+     * @param userTaskId        ID of the user task
+     *
+     * @return  Future with the status of the user task
+     */
+    Future<CruiseControlUserTasksResponse> userTaskStatus(Reconciliation reconciliation, CruiseControlApi apiClient, String host, int port, String userTaskId) {
+        CompletableFuture<CruiseControlUserTasksResponse> result = new CompletableFuture<>();
+        Instance instance;
+        boolean pollNow;
+
+        while (true) {
+            instance = instances.computeIfAbsent(key(host, port), k -> new Instance(host, port));
+
+            synchronized (instance) {
+                if (instance.removed) {
+                    // The instance was removed concurrently => a new one will be created
+                    continue;
+                }
+
+                instance.apiClient = apiClient;
+                instance.waiting.computeIfAbsent(userTaskId, k -> new Waiting(reconciliation)).futures.add(result);
+                pollNow = !instance.polling;
+
+                if (pollNow) {
+                    instance.startPoll();
+                }
+
+                break;
+            }
+        }
+
+        if (pollNow) {
+            poll(instance);
+        }
+
+        return VertxUtil.completableFutureToVertxFuture(result);
+    }
+
+    /**
+     * Stops tracking the tasks of a KafkaRebalance resource. This should be called when the resource is deleted.
+     *
+     * @param namespace     Namespace of the KafkaRebalance resource
+     * @param name          Name of the KafkaRebalance resource
+     */
+    void forget(String namespace, String name) {
+        for (Instance instance : instances.values()) {
+            synchronized (instance) {
+                instance.tracked.values().removeIf(task -> task.isOwnedBy(namespace, name));
+            }
+        }
+    }
+
+    /**
+     * Stops tracking the tasks of a Cruise Control instance. This should be called when the Kafka cluster is deleted or
+     * when Cruise Control is disabled. The requests waiting for the next poll of the instance fail.
+     *
+     * @param host  Cruise Control host
+     * @param port  Cruise Control port
+     */
+    void remove(String host, int port) {
+        Instance instance = instances.remove(key(host, port));
+
+        if (instance != null) {
+            List<Waiting> waiting;
+
+            synchronized (instance) {
+                instance.remove();
+                waiting = new ArrayList<>(instance.waiting.values());
+                instance.waiting.clear();
+            }
+
+            RuntimeException error = new RuntimeException("Cruise Control " + instance.host + ":" + instance.port + " was removed");
+            for (Waiting task : waiting) {
+                task.futures.forEach(future -> future.completeExceptionally(error));
+            }
+        }
+    }
+
+    private static String key(String host, int port) {
+        return host + ":" + port;
+    }
+
+    private void poll(Instance instance) {
+        Set<String> userTaskIds;
+        Map<String, Waiting> waiting;
+        CruiseControlApi apiClient;
+        Reconciliation reconciliation;
+
+        synchronized (instance) {
+            waiting = new HashMap<>(instance.waiting);
+            instance.waiting.clear();
+            userTaskIds = new HashSet<>(waiting.keySet());
+            userTaskIds.addAll(instance.tracked.keySet());
+            apiClient = instance.apiClient;
+
+            if (!waiting.isEmpty()) {
+                reconciliation = waiting.values().iterator().next().reconciliation;
+            } else if (!instance.tracked.isEmpty()) {
+                Reconciliation owner = instance.tracked.values().iterator().next().reconciliation;
+                reconciliation = new Reconciliation("cruise-control-task-poll", owner.kind(), owner.namespace(), owner.name());
+            } else {
+                reconciliation = null;
+            }
+        }
+
+        if (userTaskIds.isEmpty()) {
+            done(instance, null);
+            return;
+        }
+
+        LOGGER.debugCr(reconciliation, "Polling the status of {} Cruise Control user tasks from {}:{}", userTaskIds.size(), instance.host, instance.port);
+
+        CompletableFuture<Map<String, CruiseControlUserTasksResponse>> request;
+        try {
+            request = apiClient.getUserTasksStatus(reconciliation, instance.host, instance.port, userTaskIds);
+        } catch (Throwable t) {
+            // The waiting requests are failed and the instance is polled again later
+            request = CompletableFuture.failedFuture(t);
+        }
+
+        request.whenComplete((responses, error) -> {
+            List<Reconciliation> changed = error == null ? update(instance, waiting, responses) : List.of();
+
+            for (Map.Entry<String, Waiting> task : waiting.entrySet()) {
+                for (CompletableFuture<CruiseControlUserTasksResponse> future : task.getValue().futures) {
+                    if (error != null) {
+                        future.completeExceptionally(error);
+                    } else {
+                        future.complete(responses.get(task.getKey()));
+                    }
+                }
+            }
+
+            for (Reconciliation changedReconciliation : changed) {
+                LOGGER.infoCr(changedReconciliation, "Cruise Control user task changed its status");
+                onTaskChange.accept(changedReconciliation);
+            }
+
+            done(instance, error);
+        });
+    }
+
+    /**
+     * Updates the tracked tasks with the new statuses
+     *
+     * @param instance      Cruise Control instance
+     * @param waiting       Status requests from the reconciliations answered by this poll
+     * @param responses     The statuses of the user tasks
+     *
+     * @return  Reconciliations of the KafkaRebalance resources whose task changed status in the background
+     */
+    private List<Reconciliation> update(Instance instance, Map<String, Waiting> waiting, Map<String, CruiseControlUserTasksResponse> responses) {
+        List<Reconciliation> changed = new ArrayList<>();
+
+        synchronized (instance) {
+            boolean anyChange = false;
+
+            for (Map.Entry<String, CruiseControlUserTasksResponse> response : responses.entrySet()) {
+                if (response.getValue().isMaxActiveUserTasksReached()) {
+                    // Nothing is known about the task => we keep the current state
+                    continue;
+                }
+
+                String userTaskId = response.getKey();
+                String status = status(response.getValue());
+                TrackedTask previous = instance.tracked.remove(userTaskId);
+                Waiting requested = waiting.get(userTaskId);
+
+                if (previous != null && !previous.status.equals(status)) {
+                    anyChange = true;
+
+                    if (requested == null) {
+                        // Nobody is waiting for this status => the KafkaRebalance resource needs to be reconciled
+                        changed.add(previous.reconciliation);
+                    }
+                }
+
+                Reconciliation owner = requested != null ? requested.reconciliation : (previous != null ? previous.reconciliation : null);
+
+                if (owner != null && !instance.removed && isInProgress(status) && minPollIntervalMs > 0) {
+                    // Each KafkaRebalance resource has only one current task
+                    instance.tracked.values().removeIf(task -> task.isOwnedBy(owner.namespace(), owner.name()));
+                    instance.tracked.put(userTaskId, new TrackedTask(owner, status));
+                }
+            }
+
+            instance.delayMs = anyChange ? minPollIntervalMs : Math.min(maxPollIntervalMs, Math.max(minPollIntervalMs, instance.delayMs * 2));
+        }
+
+        return changed;
+    }
+
+    private void done(Instance instance, Throwable error) {
+        boolean pollNow = false;
+
+        synchronized (instance) {
+            instance.polling = false;
+
+            if (instance.removed) {
+                return;
+            }
+
+            if (error != null) {
+                LOGGER.debugOp("Failed to poll the Cruise Control user tasks from {}:{}", instance.host, instance.port, error);
+                instance.delayMs = Math.min(maxPollIntervalMs, Math.max(minPollIntervalMs, instance.delayMs * 2));
+            }
+
+            if (!instance.waiting.isEmpty()) {
+                // Requests which arrived during the previous poll are sent right away
+                instance.startPoll();
+                pollNow = true;
+            } else if (!instance.tracked.isEmpty() && minPollIntervalMs > 0) {
+                instance.timerId = vertx.setTimer(instance.delayMs, id -> {
+                    boolean pollFromTimer;
+
+                    synchronized (instance) {
+                        pollFromTimer = instance.timerId == id && !instance.polling;
+
+                        if (pollFromTimer) {
+                            instance.startPoll();
+                        }
+                    }
+
+                    if (pollFromTimer) {
+                        poll(instance);
+                    }
+                });
+            } else {
+                // Nothing to poll anymore => the instance is created again by the next request
+                instances.remove(key(instance.host, instance.port), instance);
+                instance.remove();
+            }
+        }
+
+        if (pollNow) {
+            poll(instance);
+        }
+    }
+
+    /* test */ static String status(CruiseControlUserTasksResponse response) {
+        return response.getJson() != null && response.getJson().has("Status") ? response.getJson().get("Status").asText() : "";
+    }
+
+    private static boolean isInProgress(String status) {
+        return CruiseControlUserTaskStatus.ACTIVE.toString().equals(status)
+                || CruiseControlUserTaskStatus.IN_EXECUTION.toString().equals(status);
+    }
+
+    /**
+     * @return  Number of tasks tracked in the background
+     */
+    /* test */ int tracked() {
+        return instances.values().stream().mapToInt(instance -> {
+            synchronized (instance) {
+                return instance.tracked.size();
+            }
+        }).sum();
+    }
+
+    /**
+     * @return  Number of Cruise Control instances with requested or tracked tasks
+     */
+    /* test */ int instances() {
+        return instances.size();
+    }
+
+    /**
+     * @param host  Cruise Control host
+     * @param port  Cruise Control port
+     *
+     * @return  Delay before the next background poll of the Cruise Control instance
+     */
+    /* test */ long delayMs(String host, int port) {
+        Instance instance = instances.get(key(host, port));
+
+        synchronized (instance) {
+            return instance.delayMs;
+        }
+    }
+
+    /**
+     * Status requests for a single user task from the reconciliations
+     */
+    private static class Waiting {
+        private final Reconciliation reconciliation;
+        private final List<CompletableFuture<CruiseControlUserTasksResponse>> futures = new ArrayList<>(1);
+
+        private Waiting(Reconciliation reconciliation) {
+            this.reconciliation = reconciliation;
+        }
+    }
+
+    /**
+     * User task tracked in the background
+     *
+     * @param reconciliation    Reconciliation of the KafkaRebalance resource which owns the task
+     * @param status            Last known status of the task
+     */
+    private record TrackedTask(Reconciliation reconciliation, String status) {
+        private boolean isOwnedBy(String namespace, String name) {
+            return reconciliation.namespace().equals(namespace) && reconciliation.name().equals(name);
+        }
+    }
+
+    /**
+     * State of a single Cruise Control instance
+     */
+    private class Instance {
+        private final String host;
+        private final int port;
+        private final Map<String, Waiting> waiting = new HashMap<>();
+        private final Map<String, TrackedTask> tracked = new HashMap<>();
+
+        private CruiseControlApi apiClient;
+        private boolean polling = false;
+        private boolean removed = false;
+        private long delayMs = minPollIntervalMs;
+        private long timerId = -1;
+
+        private Instance(String host, int port) {
+            this.host = host;
+            this.port = port;
+        }
+
+        private void startPoll() {
+            polling = true;
+
+            if (timerId != -1) {
+                vertx.cancelTimer(timerId);
+                timerId = -1;
+            }
+        }
+
+        private void remove() {
+            removed = true;
+            tracked.clear();
+
+            if (timerId != -1) {
+                vertx.cancelTimer(timerId);
+                timerId = -1;
+            }
+        }
+    }
+}
@@ -160,6 +160,7 @@ public class DefaultKafkaQuotasManager {
     /* test */ static Future<Boolean> shouldAlterDefaultQuotasConfig(Reconciliation reconciliation, Vertx vertx, Admin kafkaAdmin, List<ClientQuotaAlteration.Op> ops, boolean isNotKafkaPlugin) {
         return VertxUtil.kafkaFutureToVertxFuture(reconciliation,
                 vertx,
+                "describeClientQuotas",
                 kafkaAdmin.describeClientQuotas(ClientQuotaFilter.containsOnly(List.of(ClientQuotaFilterComponent.ofDefaultEntity(ClientQuotaEntity.USER)))).entities())
             .compose(clientQuotaEntityMapMap -> {
                 Map<String, Double> currentQuotas = clientQuotaEntityMapMap.get(DEFAULT_USER_ENTITY);
@@ -202,7 +203,7 @@ public class DefaultKafkaQuotasManager {
         LOGGER.debugCr(reconciliation, "Altering default user quotas to: {}", clientQuotaAlteration.toString());
 
         return VertxUtil
-            .kafkaFutureToVertxFuture(reconciliation, vertx, kafkaAdmin.alterClientQuotas(List.of(clientQuotaAlteration)).values().get(DEFAULT_USER_ENTITY))
+            .kafkaFutureToVertxFuture(reconciliation, vertx, "alterClientQuotas", kafkaAdmin.alterClientQuotas(List.of(clientQuotaAlteration)).values().get(DEFAULT_USER_ENTITY))
             .mapEmpty();
     }
 
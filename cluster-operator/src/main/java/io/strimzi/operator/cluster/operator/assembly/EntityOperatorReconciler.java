@@ -26,6 +26,7 @@ import io.strimzi.operator.cluster.operator.resource.kubernetes.ServiceAccountOp
 import io.strimzi.operator.common.Annotations;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.Util;
+import io.strimzi.operator.common.metrics.OperatorMetricsHolder;
 import io.strimzi.operator.common.model.Ca;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
 import io.vertx.core.Future;
@@ -55,6 +56,7 @@ public class EntityOperatorReconciler {
     private final ConfigMapOperator configMapOperator;
     private final NetworkPolicyOperator networkPolicyOperator;
     private final boolean isCruiseControlEnabled;
+    private final OperatorMetricsHolder metrics;
 
     private String toCertificateHash = "";
     private String uoCertificateHash = "";
@@ -75,6 +77,28 @@ public class EntityOperatorReconciler {
             ResourceOperatorSupplier supplier,
             Kafka kafkaAssembly,
             ClusterCa clusterCa
+    ) {
+        this(reconciliation, config, supplier, kafkaAssembly, clusterCa, null);
+    }
+
+    /**
+     * Constructs the Entity Operator reconciler
+     *
+     * @param reconciliation            Reconciliation marker
+     * @param config                    Cluster Operator Configuration
+     * @param supplier                  Supplier with Kubernetes Resource Operators
+     * @param kafkaAssembly             The Kafka custom resource
+     * @param clusterCa                 The Cluster CA instance
+     * @param metrics                   Metrics holder for recording the operator metrics. Can be null when no metrics
+     *                                  should be recorded.
+     */
+    public EntityOperatorReconciler(
+            Reconciliation reconciliation,
+            ClusterOperatorConfig config,
+            ResourceOperatorSupplier supplier,
+            Kafka kafkaAssembly,
+            ClusterCa clusterCa,
+            OperatorMetricsHolder metrics
     ) {
         this.reconciliation = reconciliation;
         this.operationTimeoutMs = config.getOperationTimeoutMs();
@@ -91,6 +115,7 @@ public class EntityOperatorReconciler {
         this.roleBindingOperator = supplier.roleBindingOperations;
         this.configMapOperator = supplier.configMapOperations;
         this.networkPolicyOperator = supplier.networkPolicyOperator;
+        this.metrics = metrics;
     }
 
     /**
@@ -106,20 +131,23 @@ public class EntityOperatorReconciler {
      * @return                  Future which completes when the reconciliation completes
      */
     public Future<Void> reconcile(boolean isOpenShift, ImagePullPolicy imagePullPolicy, List<LocalObjectReference> imagePullSecrets, Clock clock)    {
-        return serviceAccount()
-                .compose(i -> entityOperatorRole())
-                .compose(i -> topicOperatorRole())
-                .compose(i -> userOperatorRole())
-                .compose(i -> networkPolicy())
-                .compose(i -> topicOperatorRoleBindings())
-                .compose(i -> userOperatorRoleBindings())
-                .compose(i -> topicOperatorConfigMap())
-                .compose(i -> userOperatorConfigMap())
-                .compose(i -> topicOperatorCruiseControlApiSecret())
-                .compose(i -> topicOperatorSecret(clock))
-                .compose(i -> userOperatorSecret(clock))
-                .compose(i -> deployment(isOpenShift, imagePullPolicy, imagePullSecrets))
-                .compose(i -> waitForDeploymentReadiness());
+        return new ReconciliationPipeline(reconciliation, "entity-operator", metrics)
+                .step("serviceAccount", this::serviceAccount)
+                .step("entityOperatorRole", this::entityOperatorRole)
+                .step("topicOperatorRole", this::topicOperatorRole)
+                .step("userOperatorRole", this::userOperatorRole)
+                .step("networkPolicy", this::networkPolicy)
+                .step("topicOperatorRoleBindings", this::topicOperatorRoleBindings, "entityOperatorRole", "topicOperatorRole")
+                .step("userOperatorRoleBindings", this::userOperatorRoleBindings, "entityOperatorRole", "userOperatorRole")
+                .step("topicOperatorConfigMap", this::topicOperatorConfigMap)
+                .step("userOperatorConfigMap", this::userOperatorConfigMap)
+                .step("topicOperatorCruiseControlApiSecret", this::topicOperatorCruiseControlApiSecret)
+                .step("topicOperatorSecret", () -> topicOperatorSecret(clock))
+                .step("userOperatorSecret", () -> userOperatorSecret(clock))
+                // The Deployment is updated only once all the resources used by it are ready
+                .stepAfterAll("deployment", () -> deployment(isOpenShift, imagePullPolicy, imagePullSecrets))
+                .step("waitForDeploymentReadiness", this::waitForDeploymentReadiness, "deployment")
+                .execute();
     }
 
     /**
@@ -0,0 +1,170 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.LabelSelector;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import io.strimzi.operator.cluster.operator.resource.kubernetes.AbstractNamespacedResourceOperator;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.common.Util;
+import io.strimzi.operator.common.config.ConfigParameter;
+import io.strimzi.operator.common.model.Labels;
+import io.strimzi.operator.common.operator.resource.concurrent.Informer;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+
+/**
+ * Watches the resources using a Fabric8 shared index informer. Unlike a plain watch, the informer does not lose any
+ * events when it reconnects: it lists the resources again and passes the differences against its cache to the event
+ * handler. The relist is done in pages to limit the load on the Kubernetes API server when there are many resources.
+ *
+ * The informer cache can be used to get the resources without calling the Kubernetes API. The resources returned from
+ * the cache are copies, so the callers can modify them without corrupting the cache.
+ *
+ * @param <T> The resource type
+ */
+public class InformerWatcher<T extends HasMetadata> implements ResourceEventHandler<T> {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(InformerWatcher.class);
+
+    /**
+     * Maximal number of resources listed in a single request when the informer (re)lists the resources
+     */
+    /* test */ static final long LIST_LIMIT = 500L;
+
+    private final String kind;
+    private final String namespace;
+    private final Informer<T> informer;
+    private final BiConsumer<Watcher.Action, T> eventHandler;
+
+    /**
+     * Creates the informer based watch. The informer has to be started using the {@link #start()} method.
+     *
+     * @param resourceOperator  Operator for managing the resource which should be watched
+     * @param kind              Kind of the resource this watcher is watching
+     * @param namespace         Namespace which should be watched (or * for all namespaces)
+     * @param selector          Custom resource selector
+     * @param eventHandler      Event handler for handling the received events
+     */
+    public InformerWatcher(AbstractNamespacedResourceOperator<?, T, ?, ?> resourceOperator, String kind, String namespace, LabelSelector selector, BiConsumer<Watcher.Action, T> eventHandler) {
+        this.kind = kind;
+        this.namespace = namespace;
+        this.eventHandler = eventHandler;
+
+        // The periodic reconciliation is done by the operators, so the informer does not need to resync
+        this.informer = resourceOperator.informer(namespace, selector, 0L, LIST_LIMIT);
+        this.informer.addEventHandler(this);
+    }
+
+    /**
+     * Starts the informer
+     *
+     * @return  CompletableFuture which completes when the informer is started and its cache is synced
+     */
+    public CompletableFuture<Void> start() {
+        LOGGER.infoOp("Starting {} informer in namespace {}", kind, namespace);
+        return informer.start().toCompletableFuture();
+    }
+
+    @Override
+    public void onAdd(T resource) {
+        eventHandler.accept(Watcher.Action.ADDED, resource);
+    }
+
+    @Override
+    public void onUpdate(T oldResource, T newResource) {
+        if (!Objects.equals(oldResource.getMetadata().getResourceVersion(), newResource.getMetadata().getResourceVersion())) {
+            eventHandler.accept(Watcher.Action.MODIFIED, newResource);
+        }
+    }
+
+    @Override
+    public void onDelete(T resource, boolean deletedFinalStateUnknown) {
+        eventHandler.accept(Watcher.Action.DELETED, resource);
+    }
+
+    /**
+     * @return  True if the informer is running and its cache is synced. False otherwise.
+     */
+    public boolean isReady() {
+        return informer.isRunning() && informer.hasSynced();
+    }
+
+    /**
+     * Gets a copy of the resource from the informer cache
+     *
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource
+     *
+     * @return  Copy of the resource or null if it does not exist
+     */
+    public T get(String namespace, String name) {
+        T resource = informer.get(namespace, name);
+        return resource != null ? Serialization.clone(resource) : null;
+    }
+
+    /**
+     * Lists the resources from the informer cache without copying them. The returned resources must not be modified.
+     *
+     * @param namespace     Namespace of the resources (or * for all namespaces)
+     *
+     * @return  List with the cached resources
+     */
+    public List<T> listCached(String namespace) {
+        return ConfigParameter.ANY_NAMESPACE.equals(namespace) ? informer.list() : informer.list(namespace);
+    }
+
+    /**
+     * Lists copies of the resources with the given labels from the informer cache
+     *
+     * @param namespace     Namespace of the resources
+     * @param labels        Labels which the resources should have
+     *
+     * @return  List with copies of the resources
+     */
+    public List<T> list(String namespace, Labels labels) {
+        LabelSelector selector = new LabelSelector(null, labels.toMap());
+
+        return listCached(namespace).stream()
+                .filter(resource -> Util.matchesSelector(selector, resource))
+                .map(Serialization::clone)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Closes the watch
+     */
+    public void close() {
+        informer.stop();
+    }
+
+    /**
+     * Finds a ready watcher which covers the namespace. Either a watcher for the namespace itself or a watcher for all
+     * namespaces.
+     *
+     * @param watchers      Watchers indexed by the watched namespace
+     * @param namespace     Namespace
+     *
+     * @return  The ready watcher or null if there is none
+     *
+     * @param <T>   Type of the watched resource
+     */
+    public static <T extends HasMetadata> InformerWatcher<T> readyWatcher(Map<String, InformerWatcher<T>> watchers, String namespace) {
+        InformerWatcher<T> watcher = watchers.get(namespace);
+
+        if (watcher == null) {
+            watcher = watchers.get(ConfigParameter.ANY_NAMESPACE);
+        }
+
+        return watcher != null && watcher.isReady() ? watcher : null;
+    }
+}
@@ -141,7 +141,7 @@ public class KRaftMetadataManager {
             Vertx vertx,
             Admin kafkaAdmin
     )  {
-        return VertxUtil.kafkaFutureToVertxFuture(reconciliation, vertx, kafkaAdmin.describeFeatures().featureMetadata())
+        return VertxUtil.kafkaFutureToVertxFuture(reconciliation, vertx, "describeFeatures", kafkaAdmin.describeFeatures().featureMetadata())
                 .compose(featureMetadata -> {
                     if (featureMetadata.finalizedFeatures().get(METADATA_VERSION_KEY) != null)  {
                         return Future.succeededFuture(featureMetadata.finalizedFeatures().get(METADATA_VERSION_KEY).maxVersionLevel());
@@ -165,7 +165,7 @@ public class KRaftMetadataManager {
         LOGGER.infoCr(reconciliation, "Updating metadata version from {} to {}", MetadataVersion.fromFeatureLevel(currentMetadataLevel), MetadataVersion.fromFeatureLevel(desiredMetadataLevel));
 
         return VertxUtil
-                .kafkaFutureToVertxFuture(reconciliation, vertx, kafkaAdmin.updateFeatures(Map.of(METADATA_VERSION_KEY, featureUpdate), options).values().get(METADATA_VERSION_KEY))
+                .kafkaFutureToVertxFuture(reconciliation, vertx, "updateFeatures", kafkaAdmin.updateFeatures(Map.of(METADATA_VERSION_KEY, featureUpdate), options).values().get(METADATA_VERSION_KEY))
                 .mapEmpty();
     }
 }
@@ -20,6 +20,8 @@ import io.strimzi.api.kafka.model.kafka.KafkaSpec;
 import io.strimzi.api.kafka.model.kafka.KafkaStatus;
 import io.strimzi.api.kafka.model.kafka.KafkaStatusBuilder;
 import io.strimzi.api.kafka.model.kafka.Storage;
+import io.strimzi.api.kafka.model.kafka.cruisecontrol.CruiseControlResources;
+import io.strimzi.api.kafka.model.kafka.cruisecontrol.KafkaAutoRebalanceScaleDownEstimate;
 import io.strimzi.api.kafka.model.nodepool.KafkaNodePool;
 import io.strimzi.api.kafka.model.nodepool.KafkaNodePoolList;
 import io.strimzi.api.kafka.model.podset.StrimziPodSet;
@@ -32,6 +34,7 @@ import io.strimzi.operator.cluster.model.KafkaVersionChange;
 import io.strimzi.operator.cluster.model.ModelUtils;
 import io.strimzi.operator.cluster.model.NodeRef;
 import io.strimzi.operator.cluster.operator.VertxUtil;
+import io.strimzi.operator.cluster.operator.resource.PartitionIndex;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
 import io.strimzi.operator.cluster.operator.resource.kubernetes.CrdOperator;
 import io.strimzi.operator.cluster.operator.resource.kubernetes.StrimziPodSetOperator;
@@ -60,6 +63,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Assembly operator for the Kafka custom resource. It manages the following components:
@@ -106,6 +110,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
     private final CrdOperator<KubernetesClient, Kafka, KafkaList> kafkaOperator;
     private final StrimziPodSetOperator strimziPodSetOperator;
     private final CrdOperator<KubernetesClient, KafkaNodePool, KafkaNodePoolList> nodePoolOperator;
+    private final Map<String, InformerWatcher<KafkaNodePool>> nodePoolWatchers = new ConcurrentHashMap<>(1);
     protected Clock clock;
 
     /**
@@ -276,6 +281,8 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
         private Map<String, ResourceRequirements> kafkaBrokerResources;
         // needed to take information for the auto-rebalancing on scaling via Cruise Control
         private Set<Integer> scalingDownBlockedNodes;
+        private KafkaAutoRebalanceScaleDownEstimate scaleDownEstimate;
+        private PartitionIndex partitionIndex;
 
         /* test */ KafkaStatus kafkaStatus = new KafkaStatus();
 
@@ -482,7 +489,9 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                     config,
                     supplier,
                     pfa,
-                    vertx
+                    vertx,
+                    partitionIndex != null ? partitionIndex : new PartitionIndex(reconciliation, vertx),
+                    metrics
             );
         }
 
@@ -502,7 +511,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
             Future<List<KafkaNodePool>> nodePoolFuture;
             if (ReconcilerUtils.nodePoolsEnabled(kafkaAssembly)) {
                 // Node Pools are enabled
-                nodePoolFuture = nodePoolOperator.listAsync(namespace, Labels.fromMap(Map.of(Labels.STRIMZI_CLUSTER_LABEL, name)));
+                nodePoolFuture = listNodePools(namespace, Labels.fromMap(Map.of(Labels.STRIMZI_CLUSTER_LABEL, name)));
             } else {
                 nodePoolFuture = Future.succeededFuture(null);
             }
@@ -541,6 +550,9 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                                     kafkaBrokerStorage = kafkaCluster.getStorageByPoolName();
                                     kafkaBrokerResources = kafkaCluster.getBrokerResourceRequirementsByPoolName();
                                     scalingDownBlockedNodes = kafkaClusterCreator.scalingDownBlockedNodes();
+                                    scaleDownEstimate = kafkaClusterCreator.scaleDownEstimate();
+                                    // The partition index loaded during the scale-down check is reused by the rolling update
+                                    partitionIndex = kafkaClusterCreator.partitionIndex();
 
                                     return Future.succeededFuture(kafkaReconciler(nodePools, kafkaCluster));
                                 });
@@ -636,7 +648,8 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                     config,
                     supplier,
                     kafkaAssembly,
-                    clusterCa
+                    clusterCa,
+                    metrics
             );
         }
 
@@ -646,7 +659,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
          * @return Kafka auto-rebalancing reconciler
          */
         KafkaAutoRebalancingReconciler kafkaAutoRebalancingReconciler() {
-            return new KafkaAutoRebalancingReconciler(reconciliation, kafkaAssembly, supplier, scalingDownBlockedNodes);
+            return new KafkaAutoRebalancingReconciler(reconciliation, kafkaAssembly, supplier, scalingDownBlockedNodes, scaleDownEstimate);
         }
 
         /**
@@ -712,6 +725,8 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
      */
     @Override
     protected Future<Boolean> delete(Reconciliation reconciliation) {
+        supplier.httpClientRegistry.removeHost(CruiseControlResources.qualifiedServiceName(reconciliation.name(), reconciliation.namespace()));
+
         return ReconcilerUtils.withIgnoreRbacError(reconciliation, clusterRoleBindingOperations.reconcile(reconciliation, KafkaResources.initContainerClusterRoleBindingName(reconciliation.name(), reconciliation.namespace()), null), null)
                 .map(Boolean.FALSE); // Return FALSE since other resources are still deleted by garbage collection
     }
@@ -728,23 +743,44 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
             metrics.removeMetricsForCertificates(key ->
                     // When watching all namespaces, we remove all metrics that do not belong to existing clusters
                     !desiredNames.contains(new NamespaceAndName(key.getNamespace(), key.getClusterName())));
+            metrics.removeMetricsForRollingRestarts(key ->
+                    !desiredNames.contains(new NamespaceAndName(key.getNamespace(), key.getClusterName())));
         } else {
             metrics.removeMetricsForCertificates(key ->
                     // When watching only one namespace, we remove all metrics that belong to our namespace but not to an existing cluster
                     // We ignore the metrics from other namespaces
                     namespace.equals(key.getNamespace()) && !desiredNames.contains(new NamespaceAndName(key.getNamespace(), key.getClusterName())));
+            metrics.removeMetricsForRollingRestarts(key ->
+                    namespace.equals(key.getNamespace()) && !desiredNames.contains(new NamespaceAndName(key.getNamespace(), key.getClusterName())));
         }
     }
 
     /**
-     * Create Kubernetes watch for KafkaNodePool resources.
+     * Create Kubernetes watch for KafkaNodePool resources. Once the watch is synced, the reconciliations read the
+     * KafkaNodePool resources from its cache.
      *
      * @param namespace     Namespace where to watch for the resources
      *
-     * @return  A future which completes when the watcher has been created
+     * @return  A future which completes when the watcher has been created and synced
+     */
+    public Future<InformerWatcher<KafkaNodePool>> createNodePoolWatch(String namespace) {
+        InformerWatcher<KafkaNodePool> watcher = new InformerWatcher<>(nodePoolOperator, KafkaNodePool.RESOURCE_KIND, namespace, null, this::nodePoolEventHandler);
+        nodePoolWatchers.put(namespace, watcher);
+
+        return VertxUtil.completableFutureToVertxFuture(watcher.start()).map(watcher);
+    }
+
+    /**
+     * Lists the KafkaNodePool resources from the watch cache or from the Kubernetes API when the watch is not running.
+     *
+     * @param namespace     Namespace of the node pools
+     * @param labels        Labels of the node pools
+     *
+     * @return  Future with the list of the node pools
      */
-    public Future<ReconnectingWatcher<KafkaNodePool>> createNodePoolWatch(String namespace) {
-        return VertxUtil.async(vertx, () -> new ReconnectingWatcher<>(nodePoolOperator, KafkaNodePool.RESOURCE_KIND, namespace, null, this::nodePoolEventHandler));
+    private Future<List<KafkaNodePool>> listNodePools(String namespace, Labels labels) {
+        InformerWatcher<KafkaNodePool> watcher = InformerWatcher.readyWatcher(nodePoolWatchers, namespace);
+        return watcher != null ? Future.succeededFuture(watcher.list(namespace, labels)) : nodePoolOperator.listAsync(namespace, labels);
     }
 
     /**
@@ -783,7 +819,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
         if (resource.getMetadata().getLabels() != null
                 && resource.getMetadata().getLabels().get(Labels.STRIMZI_CLUSTER_LABEL) != null)    {
             String kafkaName = resource.getMetadata().getLabels().get(Labels.STRIMZI_CLUSTER_LABEL);
-            Kafka kafka = kafkaOperator.get(resource.getMetadata().getNamespace(), kafkaName);
+            Kafka kafka = get(resource.getMetadata().getNamespace(), kafkaName);
 
             if (kafka != null
                     && Util.matchesSelector(selector(), kafka)) {
@@ -6,8 +6,10 @@ package io.strimzi.operator.cluster.operator.assembly;
 
 import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
 import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.metrics.CertificateMetricKey;
+import io.strimzi.operator.common.metrics.ClusterMetricKey;
 import io.strimzi.operator.common.metrics.MetricKey;
 import io.strimzi.operator.common.metrics.MetricsUtils;
 import io.strimzi.operator.common.metrics.OperatorMetricsHolder;
@@ -30,7 +32,19 @@ public class KafkaAssemblyOperatorMetricsHolder extends OperatorMetricsHolder {
      */
     public static final String METRICS_CERTIFICATE_EXPIRATION_MS = METRICS_PREFIX + "certificate.expiration.timestamp.ms";
 
+    /**
+     * Metric name for the duration of the rolling restarts of Kafka nodes.
+     */
+    public static final String METRICS_ROLLING_RESTART_DURATION = METRICS_PREFIX + "kafka.rolling.restart.duration";
+
+    /**
+     * Metric name for the duration of the individual batches of parallel rolling restarts of Kafka brokers.
+     */
+    public static final String METRICS_ROLLING_RESTART_BATCH_DURATION = METRICS_PREFIX + "kafka.rolling.restart.batch.duration";
+
     protected final Map<MetricKey, AtomicLong> certificateExpirationMap = new ConcurrentHashMap<>(1);
+    protected final Map<MetricKey, Timer> rollingRestartTimerMap = new ConcurrentHashMap<>(1);
+    protected final Map<MetricKey, Timer> rollingRestartBatchTimerMap = new ConcurrentHashMap<>(1);
 
     /**
      * Constructs the operator metrics holder
@@ -76,6 +90,67 @@ public class KafkaAssemblyOperatorMetricsHolder extends OperatorMetricsHolder {
                 Tag.of("resource-namespace", namespace));
     }
 
+    /**
+     * Timer which measures how long do the rolling restarts of the Kafka nodes take. Only the rolling restarts which
+     * restarted at least one pod are recorded.
+     *
+     * @param clusterName   Name of the cluster
+     * @param namespace     Namespace of the resources being reconciled
+     *
+     * @return  Metrics timer
+     */
+    public Timer rollingRestartTimer(String clusterName, String namespace) {
+        return getTimer(new ClusterMetricKey(kind, namespace, clusterName), METRICS_ROLLING_RESTART_DURATION,
+                "The time the rolling restart of the Kafka nodes takes to complete",
+                Optional.empty(), rollingRestartTimerMap,
+                Tag.of("cluster", clusterName),
+                Tag.of("resource-namespace", namespace));
+    }
+
+    /**
+     * Timer which measures how long do the individual batches of the parallel rolling restarts of the Kafka brokers
+     * take.
+     *
+     * @param clusterName   Name of the cluster
+     * @param namespace     Namespace of the resources being reconciled
+     *
+     * @return  Metrics timer
+     */
+    public Timer rollingRestartBatchTimer(String clusterName, String namespace) {
+        return getTimer(new ClusterMetricKey(kind, namespace, clusterName), METRICS_ROLLING_RESTART_BATCH_DURATION,
+                "The time a batch of the parallel rolling restart of the Kafka brokers takes to complete",
+                Optional.empty(), rollingRestartBatchTimerMap,
+                Tag.of("cluster", clusterName),
+                Tag.of("resource-namespace", namespace));
+    }
+
+    /**
+     * Removing all rolling restart metrics for the clusters which match the given predicate.
+     *
+     * @param shouldDelete  Predicate to filter the clusters whose metrics should be removed
+     */
+    public void removeMetricsForRollingRestarts(Predicate<ClusterMetricKey> shouldDelete) {
+        removeClusterMetrics(METRICS_ROLLING_RESTART_DURATION, rollingRestartTimerMap, shouldDelete);
+        removeClusterMetrics(METRICS_ROLLING_RESTART_BATCH_DURATION, rollingRestartBatchTimerMap, shouldDelete);
+    }
+
+    private void removeClusterMetrics(String metricName, Map<MetricKey, ?> metricMap, Predicate<ClusterMetricKey> shouldDelete) {
+        final List<ClusterMetricKey> removedKeys = new ArrayList<>();
+
+        metricMap.keySet().stream()
+                .map(ClusterMetricKey.class::cast)
+                .filter(shouldDelete)
+                .forEach(key -> {
+                    Tags tags = MetricsUtils.getAllMetricTags(key.getNamespace(), key.getKind(), Optional.empty(),
+                            Tag.of("cluster", key.getClusterName()),
+                            Tag.of("resource-namespace", key.getNamespace()));
+                    removeMetric(metricName, tags);
+                    removedKeys.add(key);
+                });
+
+        removedKeys.forEach(metricMap::remove);
+    }
+
     /**
      * Removing all metrics for the certificates which match the given predicate.
      *
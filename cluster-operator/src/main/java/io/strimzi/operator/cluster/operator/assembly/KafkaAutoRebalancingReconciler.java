@@ -10,6 +10,7 @@ import io.strimzi.api.kafka.model.kafka.KafkaResources;
 import io.strimzi.api.kafka.model.kafka.KafkaStatus;
 import io.strimzi.api.kafka.model.kafka.cruisecontrol.KafkaAutoRebalanceConfiguration;
 import io.strimzi.api.kafka.model.kafka.cruisecontrol.KafkaAutoRebalanceMode;
+import io.strimzi.api.kafka.model.kafka.cruisecontrol.KafkaAutoRebalanceScaleDownEstimate;
 import io.strimzi.api.kafka.model.kafka.cruisecontrol.KafkaAutoRebalanceState;
 import io.strimzi.api.kafka.model.kafka.cruisecontrol.KafkaAutoRebalanceStatus;
 import io.strimzi.api.kafka.model.kafka.cruisecontrol.KafkaAutoRebalanceStatusBrokers;
@@ -56,6 +57,7 @@ public class KafkaAutoRebalancingReconciler {
     private final List<KafkaAutoRebalanceConfiguration> kafkaAutoRebalanceConfigurations;
     private final CrdOperator<KubernetesClient, KafkaRebalance, KafkaRebalanceList> kafkaRebalanceOperator;
     private final Set<Integer> scalingDownBlockedNodes;
+    private final KafkaAutoRebalanceScaleDownEstimate scaleDownEstimate;
 
     /**
      * Constructs the Kafka auto-rebalancing reconciler
@@ -64,12 +66,14 @@ public class KafkaAutoRebalancingReconciler {
      * @param kafkaCr   The Kafka custom resource
      * @param supplier  Supplies the operators for different resources
      * @param scalingDownBlockedNodes  nodes blocked on scaling down because of the need for auto-rebalancing first
+     * @param scaleDownEstimate  estimate of the data to be moved off the nodes blocked on scaling down or null if not available
      */
     public KafkaAutoRebalancingReconciler(
             Reconciliation reconciliation,
             Kafka kafkaCr,
             ResourceOperatorSupplier supplier,
-            Set<Integer> scalingDownBlockedNodes) {
+            Set<Integer> scalingDownBlockedNodes,
+            KafkaAutoRebalanceScaleDownEstimate scaleDownEstimate) {
         this.reconciliation = reconciliation;
         // load current autorebalance status if it exists (before starting the reconciliation) or initialize it to Idle
         this.kafkaAutoRebalanceStatus =
@@ -82,6 +86,7 @@ public class KafkaAutoRebalancingReconciler {
         this.kafkaAutoRebalanceConfigurations = kafkaCr.getSpec().getCruiseControl().getAutoRebalance();
         this.kafkaRebalanceOperator = supplier.kafkaRebalanceOperator;
         this.scalingDownBlockedNodes = scalingDownBlockedNodes;
+        this.scaleDownEstimate = scaleDownEstimate;
     }
 
     /**
@@ -99,7 +104,10 @@ public class KafkaAutoRebalancingReconciler {
                     kafkaAutoRebalanceStatus.getState(), scalingNodes.blocked(), scalingNodes.added());
         }
         return maybeRebalance(scalingNodes)
-                .onComplete(v -> kafkaStatus.setAutoRebalance(kafkaAutoRebalanceStatus));
+                .onComplete(v -> {
+                    updateScaleDownEstimate(scalingNodes);
+                    kafkaStatus.setAutoRebalance(kafkaAutoRebalanceStatus);
+                });
     }
 
     private Future<Void> maybeRebalance(ScalingNodes scalingNodes) {
@@ -494,6 +502,16 @@ public class KafkaAutoRebalancingReconciler {
                 .mapEmpty();
     }
 
+    private void updateScaleDownEstimate(ScalingNodes scalingNodes) {
+        if (scalingNodes.blocked().isEmpty()) {
+            // no scale down blocked anymore (or never), so there is nothing to estimate
+            kafkaAutoRebalanceStatus.setScaleDownEstimate(null);
+        } else if (scaleDownEstimate != null) {
+            // if the estimate was not possible in this reconciliation, the previous one is kept
+            kafkaAutoRebalanceStatus.setScaleDownEstimate(scaleDownEstimate);
+        }
+    }
+
     private void updateStatus(KafkaAutoRebalanceStatus kafkaAutoRebalanceStatus, KafkaAutoRebalanceState state, ScalingNodes scalingNodes) {
         // just clear the modes field when there are no added nodes or blocked ones
         List<KafkaAutoRebalanceStatusBrokers> modes = null;
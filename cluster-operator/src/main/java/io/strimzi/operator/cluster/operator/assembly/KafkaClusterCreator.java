@@ -6,8 +6,10 @@ package io.strimzi.operator.cluster.operator.assembly;
 
 import io.strimzi.api.kafka.model.common.Condition;
 import io.strimzi.api.kafka.model.kafka.Kafka;
+import io.strimzi.api.kafka.model.kafka.KafkaResources;
 import io.strimzi.api.kafka.model.kafka.KafkaStatus;
 import io.strimzi.api.kafka.model.kafka.Storage;
+import io.strimzi.api.kafka.model.kafka.cruisecontrol.KafkaAutoRebalanceScaleDownEstimate;
 import io.strimzi.api.kafka.model.nodepool.KafkaNodePool;
 import io.strimzi.api.kafka.model.nodepool.KafkaNodePoolBuilder;
 import io.strimzi.api.kafka.model.nodepool.ProcessRoles;
@@ -18,7 +20,9 @@ import io.strimzi.operator.cluster.model.KafkaVersion;
 import io.strimzi.operator.cluster.model.KafkaVersionChange;
 import io.strimzi.operator.cluster.model.SharedEnvironmentProvider;
 import io.strimzi.operator.cluster.model.nodepools.NodePoolUtils;
+import io.strimzi.operator.cluster.operator.resource.PartitionIndex;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
+import io.strimzi.operator.cluster.operator.resource.ScaleDownEstimator;
 import io.strimzi.operator.cluster.operator.resource.kubernetes.SecretOperator;
 import io.strimzi.operator.common.AdminClientProvider;
 import io.strimzi.operator.common.Annotations;
@@ -26,8 +30,10 @@ import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.model.InvalidResourceException;
 import io.strimzi.operator.common.model.StatusUtils;
+import io.strimzi.operator.common.model.cruisecontrol.CruiseControlConfigurationParameters;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
+import org.apache.kafka.clients.admin.Admin;
 
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -57,6 +63,8 @@ public class KafkaClusterCreator {
     private boolean usedToBeBrokersCheckFailed = false;
     private final List<Condition> warningConditions = new ArrayList<>();
     private final Set<Integer> scalingDownBlockedNodes = new HashSet<>();
+    private final PartitionIndex partitionIndex;
+    private KafkaAutoRebalanceScaleDownEstimate scaleDownEstimate;
 
     /**
      * Constructor
@@ -80,6 +88,7 @@ public class KafkaClusterCreator {
         this.secretOperator = supplier.secretOperations;
         this.sharedEnvironmentProvider = supplier.sharedEnvironmentProvider;
         this.brokerScaleDownOperations = supplier.brokersInUseCheck;
+        this.partitionIndex = new PartitionIndex(reconciliation, vertx);
     }
 
     /**
@@ -90,6 +99,22 @@ public class KafkaClusterCreator {
         return scalingDownBlockedNodes;
     }
 
+    /**
+     * @return  The estimate of the data which has to be moved off the nodes blocked for scaling down or null if it is
+     *          not available
+     */
+    public KafkaAutoRebalanceScaleDownEstimate scaleDownEstimate() {
+        return scaleDownEstimate;
+    }
+
+    /**
+     * @return  The partition index used by the broker scale-down check. It can be shared with the other checks done
+     *          later in the same reconciliation.
+     */
+    public PartitionIndex partitionIndex() {
+        return partitionIndex;
+    }
+
     /**
      * Prepares the Kafka Cluster model instance. It checks if any scale-down is happening and whether such scale-down
      * can be done. If it discovers any problems, it will try to fix them and create a fixed Kafka Cluster model
@@ -119,7 +144,8 @@ public class KafkaClusterCreator {
                         this.scalingDownBlockedNodes.addAll(kafka.removedNodes());
                         // We have a failure, and should try to fix issues
                         // Once we fix it, we call this method again, but this time with tryToFixProblems set to false
-                        return revertScaleDown(nodePools)
+                        return estimateScaleDown(kafkaCr)
+                                .compose(i -> revertScaleDown(nodePools))
                                 .compose(revertedNodePools -> revertRoleChange(revertedNodePools))
                                 .compose(revertedNodePools -> prepareKafkaCluster(kafkaCr, revertedNodePools, oldStorage, versionChange, kafkaStatus, false));
                     } else if (checkFailed()) {
@@ -183,7 +209,7 @@ public class KafkaClusterCreator {
             return Future.succeededFuture(kafka);
         } else {
             return ReconcilerUtils.coTlsPemIdentity(reconciliation, secretOperator)
-                    .compose(coTlsPemIdentity -> brokerScaleDownOperations.brokersInUse(reconciliation, vertx, coTlsPemIdentity, adminClientProvider))
+                    .compose(coTlsPemIdentity -> brokerScaleDownOperations.brokersInUse(reconciliation, vertx, coTlsPemIdentity, adminClientProvider, partitionIndex))
                     .compose(brokersInUse -> {
                         // Check nodes that are being scaled down
                         Set<Integer> scaledDownBrokersInUse = kafka.removedNodes().stream().filter(brokersInUse::contains).collect(Collectors.toSet());
@@ -208,6 +234,69 @@ public class KafkaClusterCreator {
         }
     }
 
+    /**
+     * Estimates how much data has to be moved off the nodes blocked for scaling down. The estimate is published in the
+     * auto-rebalancing status, so it is done only when the auto-rebalancing is enabled. It uses the partition index
+     * loaded by the broker scale-down check. The estimate is informational only, so any failure is only logged.
+     *
+     * @param kafkaCr   Kafka custom resource
+     *
+     * @return  Future which completes when the estimate is done
+     */
+    private Future<Void> estimateScaleDown(Kafka kafkaCr) {
+        if (!scaleDownCheckFailed
+                || kafkaCr.getSpec().getCruiseControl() == null
+                || kafkaCr.getSpec().getCruiseControl().getAutoRebalance() == null) {
+            return Future.succeededFuture();
+        }
+
+        return ReconcilerUtils.coTlsPemIdentity(reconciliation, secretOperator)
+                .compose(coTlsPemIdentity -> {
+                    String bootstrapHostname = KafkaResources.bootstrapServiceName(reconciliation.name()) + "." + reconciliation.namespace() + ".svc:" + KafkaCluster.REPLICATION_PORT;
+                    Admin kafkaAdmin = adminClientProvider.createAdminClient(bootstrapHostname, coTlsPemIdentity.pemTrustSet(), coTlsPemIdentity.pemAuthIdentity());
+
+                    try {
+                        return new ScaleDownEstimator(reconciliation, vertx)
+                                .estimate(kafkaAdmin, partitionIndex, scalingDownBlockedNodes, replicationThrottle(kafkaCr))
+                                .onComplete(i -> kafkaAdmin.close());
+                    } catch (RuntimeException e) {
+                        kafkaAdmin.close();
+                        return Future.failedFuture(e);
+                    }
+                })
+                .transform(result -> {
+                    if (result.succeeded()) {
+                        scaleDownEstimate = result.result();
+                    } else {
+                        LOGGER.warnCr(reconciliation, "Failed to estimate the data to be moved off the brokers {}", scalingDownBlockedNodes, result.cause());
+                    }
+
+                    return Future.succeededFuture();
+                });
+    }
+
+    /**
+     * Gets the replication throttle configured for Cruise Control
+     *
+     * @param kafkaCr   Kafka custom resource
+     *
+     * @return  Replication throttle in bytes per second or null if it is not configured
+     */
+    private Long replicationThrottle(Kafka kafkaCr) {
+        Map<String, Object> config = kafkaCr.getSpec().getCruiseControl().getConfig();
+        Object throttle = config != null ? config.get(CruiseControlConfigurationParameters.REPLICATION_THROTTLE.getValue()) : null;
+
+        if (throttle != null) {
+            try {
+                return Long.parseLong(throttle.toString().trim());
+            } catch (NumberFormatException e) {
+                LOGGER.warnCr(reconciliation, "Invalid value of the {} option: {}", CruiseControlConfigurationParameters.REPLICATION_THROTTLE.getValue(), throttle);
+            }
+        }
+
+        return null;
+    }
+
     /**
      * Reverts the broker scale down if it is not allowed because the brokers are not empty
      *
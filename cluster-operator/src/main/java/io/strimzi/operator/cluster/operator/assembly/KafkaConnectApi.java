@@ -152,6 +152,17 @@ public interface KafkaConnectApi {
      */
     CompletableFuture<List<String>> list(Reconciliation reconciliation, String host, int port);
 
+    /**
+     * Make a {@code GET} request to {@code /connectors?expand=info&expand=status}. This returns the configuration and
+     * the status of all connectors in a single request.
+     * @param reconciliation The reconciliation
+     * @param host The host to make the request to.
+     * @param port The port to make the request to.
+     * @return A Future which completes with the result of the request. If the request was successful,
+     * this returns a map with the connector names as keys and their configuration and status as values.
+     */
+    CompletableFuture<Map<String, ConnectorSnapshot>> listWithState(Reconciliation reconciliation, String host, int port);
+
     /**
      * Make a {@code GET} request to {@code /connector-plugins}.
      * @param reconciliation The reconciliation
@@ -13,11 +13,13 @@ import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.node.TextNode;
 import io.strimzi.api.kafka.model.connect.ConnectorPlugin;
+import io.strimzi.operator.cluster.operator.resource.HttpClientRegistry;
 import io.strimzi.operator.common.BackOff;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.model.OrderedProperties;
+import io.strimzi.operator.common.tracing.OperatorTracing;
 import io.vertx.core.json.JsonObject;
 
 import java.io.IOException;
@@ -53,12 +55,33 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     public static final TypeReference<Map<String, String>> MAP_OF_STRINGS = new TypeReference<>() { };
     public static final TypeReference<Map<String, Map<String, String>>> MAP_OF_MAP_OF_STRINGS = new TypeReference<>() { };
     public static final TypeReference<Map<String, Map<String, List<String>>>> MAP_OF_MAP_OF_LIST_OF_STRING = new TypeReference<>() { };
-    private final HttpClient httpClient;
+    public static final TypeReference<Map<String, Map<String, Map<String, Object>>>> MAP_OF_EXPANDED_CONNECTORS = new TypeReference<>() { };
+    private final HttpClientRegistry httpClientRegistry;
 
+    /**
+     * Creates the Kafka Connect REST API client with its own HTTP clients which are not shared with other API clients.
+     */
     public KafkaConnectApiImpl() {
-        this.httpClient = HttpClient.newBuilder()
+        this(new HttpClientRegistry(null));
+    }
+
+    /**
+     * Creates the Kafka Connect REST API client
+     *
+     * @param httpClientRegistry    Registry of the HTTP clients shared between the API clients
+     */
+    public KafkaConnectApiImpl(HttpClientRegistry httpClientRegistry) {
+        this.httpClientRegistry = httpClientRegistry;
+    }
+
+    private HttpClientRegistry.TargetClient httpClient(String host, int port) {
+        return httpClientRegistry.client(host + ":" + port, null, () -> HttpClient.newBuilder()
                 .followRedirects(HttpClient.Redirect.NORMAL)
-                .build();
+                .build());
+    }
+
+    private CompletableFuture<HttpResponse<String>> send(Reconciliation reconciliation, String host, int port, String operation, HttpRequest request) {
+        return OperatorTracing.traced(reconciliation, "Kafka Connect " + operation, () -> httpClient(host, port).sendAsync(request, HttpResponse.BodyHandlers.ofString()));
     }
 
     @Override
@@ -78,7 +101,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
                 .setHeader("Content-Type", "application/json")
                 .build();
 
-        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+        return send(reconciliation, host, port, "createOrUpdatePutRequest", request)
                 .thenCompose(response -> {
                     int statusCode = response.statusCode();
                     if (statusCode == 200 || statusCode == 201) {
@@ -131,7 +154,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
                 .setHeader("Accept", "application/json")
                 .build();
 
-        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+        return send(reconciliation, host, port, "get", request)
                 .thenCompose(response -> {
                     int statusCode = response.statusCode();
                     if (okStatusCodes.contains(statusCode)) {
@@ -173,7 +196,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
                 .setHeader("Content-Type", "application/json")
                 .build();
 
-        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+        return send(reconciliation, host, port, "delete", request)
                 .thenCompose(response -> {
                     int statusCode = response.statusCode();
                     if (statusCode == 204) {
@@ -279,7 +302,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
                 .setHeader("Accept", "application/json")
                 .build();
 
-        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+        return send(reconciliation, host, port, "updateState", request)
                 .thenCompose(response -> {
                     if (response.statusCode() == expectedStatusCode) {
                         return CompletableFuture.completedFuture(null);
@@ -299,7 +322,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
                 .setHeader("Accept", "application/json")
                 .build();
 
-        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+        return send(reconciliation, host, port, "list", request)
                 .thenCompose(response -> {
                     if (response.statusCode() == 200) {
                         JsonNode json = parseToJsonNode(response);
@@ -324,6 +347,25 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
                 });
     }
 
+    @Override
+    public CompletableFuture<Map<String, ConnectorSnapshot>> listWithState(Reconciliation reconciliation, String host, int port) {
+        return doGet(reconciliation, host, port, "/connectors?expand=info&expand=status",
+                Set.of(200),
+                MAP_OF_EXPANDED_CONNECTORS)
+                .thenApply(connectors -> {
+                    Map<String, ConnectorSnapshot> snapshot = new HashMap<>(connectors.size());
+
+                    for (Map.Entry<String, Map<String, Map<String, Object>>> connector : connectors.entrySet()) {
+                        Map<String, Object> info = connector.getValue().getOrDefault("info", Map.of());
+                        Map<String, Object> status = connector.getValue().getOrDefault("status", Map.of());
+
+                        snapshot.put(connector.getKey(), new ConnectorSnapshot(OBJECT_MAPPER.convertValue(info.getOrDefault("config", Map.of()), MAP_OF_STRINGS), status));
+                    }
+
+                    return snapshot;
+                });
+    }
+
     @Override
     public CompletableFuture<List<ConnectorPlugin>> listConnectorPlugins(Reconciliation reconciliation, String host, int port) {
         String path = "/connector-plugins";
@@ -335,7 +377,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
                 .setHeader("Accept", "application/json")
                 .build();
 
-        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+        return send(reconciliation, host, port, "listConnectorPlugins", request)
                 .thenCompose(response -> {
                     int statusCode = response.statusCode();
                     if (statusCode == 200) {
@@ -372,7 +414,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
                 .setHeader("Content-Type", "application/json")
                 .build();
 
-        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+        return send(reconciliation, host, port, "updateConnectorLogger", request)
                 .thenCompose(response -> {
                     int statusCode = response.statusCode();
                     if (List.of(200, 204).contains(statusCode)) {
@@ -395,7 +437,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
                 .setHeader("Accept", "application/json")
                 .build();
 
-        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+        return send(reconciliation, host, port, "listConnectLoggers", request)
                 .thenCompose(response -> {
                     int statusCode = response.statusCode();
                     if (statusCode == 200) {
@@ -529,7 +571,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
                 .setHeader("Accept", "application/json")
                 .build();
 
-        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+        return send(null, host, port, "restart", request)
                 .thenCompose(response -> {
                     if (response.statusCode() == 202) {
                         try {
@@ -556,7 +598,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
                 .setHeader("Accept", "application/json")
                 .build();
 
-        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+        return send(reconciliation, host, port, "getConnectorTopics", request)
                 .thenCompose(response -> {
                     int statusCode = response.statusCode();
                     if (statusCode == 200) {
@@ -586,7 +628,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
                 .setHeader("Content-Type", "application/json")
                 .build();
 
-        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+        return send(reconciliation, host, port, "getConnectorOffsets", request)
                 .thenCompose(response -> {
                     int statusCode = response.statusCode();
                     if (statusCode == 200) {
@@ -617,7 +659,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
                 .setHeader("Content-Type", "application/json")
                 .build();
 
-        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+        return send(reconciliation, host, port, "alterConnectorOffsets", request)
                 .thenCompose(response -> {
                     int statusCode = response.statusCode();
                     if (statusCode == 200) {
@@ -647,7 +689,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
                 .setHeader("Accept", "application/json")
                 .build();
 
-        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+        return send(reconciliation, host, port, "resetConnectorOffsets", request)
                 .thenCompose(response -> {
                     int statusCode = response.statusCode();
                     if (statusCode == 200) {
@@ -13,9 +13,7 @@ import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.Watcher;
 import io.micrometer.core.instrument.Timer;
 import io.netty.channel.ConnectTimeoutException;
-import io.strimzi.api.kafka.model.common.CertSecretSource;
 import io.strimzi.api.kafka.model.common.Condition;
-import io.strimzi.api.kafka.model.common.authentication.KafkaClientAuthentication;
 import io.strimzi.api.kafka.model.connect.KafkaConnect;
 import io.strimzi.api.kafka.model.connect.KafkaConnectList;
 import io.strimzi.api.kafka.model.connect.KafkaConnectResources;
@@ -59,6 +57,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -77,7 +76,11 @@ public class KafkaConnectAssemblyOperator extends AbstractConnectOperator<Kubern
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(KafkaConnectAssemblyOperator.class.getName());
 
     private final CrdOperator<KubernetesClient, KafkaConnector, KafkaConnectorList> connectorOperator;
+    private final Map<String, InformerWatcher<KafkaConnector>> connectorWatchers = new ConcurrentHashMap<>(1);
     private final ConnectBuildOperator connectBuildOperator;
+    private final int connectorReconciliationConcurrency;
+    private final ConnectorStatusPoller connectorStatusPoller;
+    private final Map<String, ConnectorReconciliationScheduler> connectorSchedulers = new ConcurrentHashMap<>(1);
 
     /**
      * Constructor
@@ -90,7 +93,7 @@ public class KafkaConnectAssemblyOperator extends AbstractConnectOperator<Kubern
     public KafkaConnectAssemblyOperator(Vertx vertx, PlatformFeaturesAvailability pfa,
                                         ResourceOperatorSupplier supplier,
                                         ClusterOperatorConfig config) {
-        this(vertx, pfa, supplier, config, connect -> new KafkaConnectApiImpl());
+        this(vertx, pfa, supplier, config, connect -> new KafkaConnectApiImpl(supplier.httpClientRegistry));
     }
 
     /**
@@ -130,6 +133,8 @@ public class KafkaConnectAssemblyOperator extends AbstractConnectOperator<Kubern
 
         this.connectorOperator = supplier.kafkaConnectorOperator;
         this.connectBuildOperator = new ConnectBuildOperator(pfa, supplier, config);
+        this.connectorReconciliationConcurrency = config.getConnectorReconciliationConcurrency();
+        this.connectorStatusPoller = new ConnectorStatusPoller(this);
     }
 
     @Override
@@ -269,6 +274,11 @@ public class KafkaConnectAssemblyOperator extends AbstractConnectOperator<Kubern
      */
     @Override
     protected Future<Boolean> delete(Reconciliation reconciliation) {
+        metrics().removeConnectorReconciliationTimers(key -> reconciliation.namespace().equals(key.getNamespace()) && reconciliation.name().equals(key.getClusterName()));
+        connectorStatusPoller.remove(reconciliation.namespace(), reconciliation.name());
+        connectorSchedulers.remove(reconciliation.namespace() + "/" + reconciliation.name());
+        httpClientRegistry.removeHost(KafkaConnectResources.qualifiedServiceName(reconciliation.name(), reconciliation.namespace()));
+
         return updateConnectorsThatConnectClusterWasDeleted(reconciliation)
                 .compose(i -> ReconcilerUtils.withIgnoreRbacError(reconciliation, clusterRoleBindingOperations.reconcile(reconciliation, KafkaConnectResources.initContainerClusterRoleBindingName(reconciliation.name(), reconciliation.namespace()), null), null))
                 .map(Boolean.FALSE); // Return FALSE since other resources are still deleted by garbage collection
@@ -284,7 +294,7 @@ public class KafkaConnectAssemblyOperator extends AbstractConnectOperator<Kubern
      */
     private Future<Void> updateConnectorsThatConnectClusterWasDeleted(Reconciliation reconciliation) {
         // When deleting KafkaConnect we need to update the status of all its KafkaConnector
-        return connectorOperator.listAsync(reconciliation.namespace(), Labels.forStrimziCluster(reconciliation.name())).compose(connectors -> {
+        return listConnectors(reconciliation.namespace(), reconciliation.name()).compose(connectors -> {
             List<Future<Void>> connectorFutures = new ArrayList<>();
             for (KafkaConnector connector : connectors) {
                 connectorFutures.add(maybeUpdateConnectorStatus(reconciliation, connector, null,
@@ -302,9 +312,8 @@ public class KafkaConnectAssemblyOperator extends AbstractConnectOperator<Kubern
      * @return                   Future for tracking the asynchronous result of generating the TLS auth hash
      */
     private Future<Integer> generateAuthHash(String namespace, KafkaConnectSpec kafkaConnectSpec) {
-        KafkaClientAuthentication auth = kafkaConnectSpec.getAuthentication();
-        List<CertSecretSource> trustedCertificates = kafkaConnectSpec.getTls() == null ? Collections.emptyList() : kafkaConnectSpec.getTls().getTrustedCertificates();
-        return VertxUtil.authTlsHash(secretOperations, namespace, auth, trustedCertificates);
+        return VertxUtil.authTlsHash(secretOperations, namespace, kafkaConnectSpec.getAuthentication(),
+                kafkaConnectSpec.getTls() == null ? Collections.emptyList() : kafkaConnectSpec.getTls().getTrustedCertificates());
     }
 
     /**
@@ -340,7 +349,10 @@ public class KafkaConnectAssemblyOperator extends AbstractConnectOperator<Kubern
         String namespace = connect.getMetadata().getNamespace();
 
         if (scaledToZero)   {
-            return connectorOperator.listAsync(namespace, new LabelSelectorBuilder().addToMatchLabels(Labels.STRIMZI_CLUSTER_LABEL, connectName).build())
+            connectorStatusPoller.remove(namespace, connectName);
+            connectorSchedulers.remove(namespace + "/" + connectName);
+
+            return listConnectors(namespace, connectName)
                 .compose(connectors -> Future.join(
                     connectors.stream().map(connector -> Annotations.isReconciliationPausedWithAnnotation(connector)
                             ? maybeUpdateConnectorStatus(reconciliation, connector, null, null)
@@ -352,17 +364,22 @@ public class KafkaConnectAssemblyOperator extends AbstractConnectOperator<Kubern
             KafkaConnectApi apiClient = connectClientProvider.apply(vertx);
 
             return Future.join(
-                    VertxUtil.completableFutureToVertxFuture(apiClient.list(reconciliation, host, port)),
-                    connectorOperator.listAsync(namespace, new LabelSelectorBuilder().addToMatchLabels(Labels.STRIMZI_CLUSTER_LABEL, connectName).build())
+                    VertxUtil.completableFutureToVertxFuture(apiClient.listWithState(reconciliation, host, port)),
+                    listConnectors(namespace, connectName)
             ).compose(cf -> {
-                List<String> runningConnectorNames = cf.resultAt(0);
+                Map<String, ConnectorSnapshot> runningConnectors = cf.resultAt(0);
                 List<KafkaConnector> desiredConnectors = cf.resultAt(1);
 
-                Set<String> deleteConnectorNames = new HashSet<>(runningConnectorNames);
+                // All connectors are reconciled now, so the current state is only recorded for the connector status polling
+                connectorStatusPoller.update(namespace, connectName, runningConnectors);
+
+                Set<String> deleteConnectorNames = new HashSet<>(runningConnectors.keySet());
                 deleteConnectorNames.removeAll(desiredConnectors.stream().map(c -> c.getMetadata().getName()).collect(Collectors.toSet()));
 
-                Future<Void> deletionFuture = deleteConnectors(reconciliation, host, apiClient, deleteConnectorNames);
-                Future<Void> createOrUpdateFuture = createOrUpdateConnectors(reconciliation, host, apiClient, desiredConnectors);
+                ConnectorReconciliationScheduler scheduler = connectorScheduler(namespace, connectName);
+
+                Future<Void> deletionFuture = deleteConnectors(reconciliation, host, apiClient, deleteConnectorNames, scheduler);
+                Future<Void> createOrUpdateFuture = createOrUpdateConnectors(reconciliation, host, apiClient, desiredConnectors, runningConnectors, scheduler);
 
                 return Future.join(deletionFuture, createOrUpdateFuture).map((Void) null);
             }).recover(error -> {
@@ -370,7 +387,7 @@ public class KafkaConnectAssemblyOperator extends AbstractConnectOperator<Kubern
                     Promise<Void> connectorStatuses = Promise.promise();
                     LOGGER.warnCr(reconciliation, "Failed to connect to the REST API => trying to update the connector status");
 
-                    connectorOperator.listAsync(namespace, new LabelSelectorBuilder().addToMatchLabels(Labels.STRIMZI_CLUSTER_LABEL, connectName).build())
+                    listConnectors(namespace, connectName)
                             .compose(connectors -> Future.join(
                                     connectors.stream().map(connector -> maybeUpdateConnectorStatus(reconciliation, connector, null, error))
                                             .collect(Collectors.toList())
@@ -385,24 +402,45 @@ public class KafkaConnectAssemblyOperator extends AbstractConnectOperator<Kubern
         }
     }
 
-    private Future<Void> deleteConnectors(Reconciliation reconciliation, String host, KafkaConnectApi apiClient, Set<String> connectorsForDeletion) {
+    private Future<Void> deleteConnectors(Reconciliation reconciliation, String host, KafkaConnectApi apiClient, Set<String> connectorsForDeletion, ConnectorReconciliationScheduler scheduler) {
         LOGGER.debugCr(reconciliation, "{} cluster: delete connectors: {}", kind(), connectorsForDeletion);
         return Future.join(connectorsForDeletion.stream()
-                    .map(connectorName -> reconcileConnectorAndHandleResult(reconciliation, host, apiClient, true, connectorName, null))
+                    .map(connectorName -> reconcileConnectorAndHandleResult(reconciliation, host, apiClient, true, connectorName, null, null, scheduler))
                     .collect(Collectors.toList()))
                 .mapEmpty();
     }
 
-    private Future<Void> createOrUpdateConnectors(Reconciliation reconciliation, String host, KafkaConnectApi apiClient, List<KafkaConnector> desiredConnectors) {
+    private Future<Void> createOrUpdateConnectors(Reconciliation reconciliation, String host, KafkaConnectApi apiClient, List<KafkaConnector> desiredConnectors, Map<String, ConnectorSnapshot> runningConnectors, ConnectorReconciliationScheduler scheduler) {
         LOGGER.debugCr(reconciliation, "{} cluster: required connectors: {}", kind(), desiredConnectors);
         return Future.join(desiredConnectors.stream()
-                    .map(connector -> reconcileConnectorAndHandleResult(reconciliation, host, apiClient, true, connector.getMetadata().getName(), connector))
+                    .map(connector -> reconcileConnectorAndHandleResult(reconciliation, host, apiClient, true, connector.getMetadata().getName(), connector, runningConnectors, scheduler))
                     .collect(Collectors.toList()))
                 .mapEmpty();
     }
 
     /*test*/ Future<Void> reconcileConnectorAndHandleResult(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
                                              boolean useResources, String connectorName, KafkaConnector connector) {
+        return reconcileConnectorAndHandleResult(reconciliation, host, apiClient, useResources, connectorName, connector, null,
+                connectorScheduler(reconciliation.namespace(), reconciliation.name()));
+    }
+
+    /**
+     * Gets the connector reconciliation scheduler of a Connect cluster. The scheduler is shared by all connectors and
+     * reconciliations of the Connect cluster to limit the load on its REST API.
+     *
+     * @param namespace     Namespace of the Connect cluster
+     * @param connectName   Name of the Connect cluster
+     *
+     * @return  Connector reconciliation scheduler of the Connect cluster
+     */
+    private ConnectorReconciliationScheduler connectorScheduler(String namespace, String connectName) {
+        return connectorSchedulers.computeIfAbsent(namespace + "/" + connectName,
+                key -> new ConnectorReconciliationScheduler(vertx, connectorReconciliationConcurrency));
+    }
+
+    private Future<Void> reconcileConnectorAndHandleResult(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
+                                             boolean useResources, String connectorName, KafkaConnector connector, Map<String, ConnectorSnapshot> runningConnectors,
+                                             ConnectorReconciliationScheduler scheduler) {
         Promise<Void> reconciliationResult = Promise.promise();
 
         metrics().connectorsReconciliationsCounter(reconciliation.namespace()).increment();
@@ -418,7 +456,12 @@ public class KafkaConnectAssemblyOperator extends AbstractConnectOperator<Kubern
             );
         }
 
-        reconcileConnector(reconciliation, host, apiClient, useResources, connectorName, connector)
+        scheduler.schedule(reconciliation, () -> {
+            Timer.Sample connectorReconciliationTimerSample = Timer.start(metrics().metricsProvider().meterRegistry());
+
+            return reconcileConnector(reconciliation, host, apiClient, useResources, connectorName, connector, runningConnectors)
+                    .onComplete(i -> connectorReconciliationTimerSample.stop(metrics().connectorReconciliationTimer(reconciliation.namespace(), reconciliation.name())));
+        })
                 .onComplete(result -> {
                     if (result.succeeded() && result.result() == null)  {
                         // The reconciliation succeeded, but there is no status to be set => we complete the reconciliation and return
@@ -457,7 +500,7 @@ public class KafkaConnectAssemblyOperator extends AbstractConnectOperator<Kubern
     }
 
     private Future<ConnectorStatusAndConditions> reconcileConnector(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
-                                             boolean useResources, String connectorName, KafkaConnector connector) {
+                                             boolean useResources, String connectorName, KafkaConnector connector, Map<String, ConnectorSnapshot> runningConnectors) {
         if (connector == null) {
             if (useResources) {
                 LOGGER.infoCr(reconciliation, "deleting connector: {}", connectorName);
@@ -474,6 +517,8 @@ public class KafkaConnectAssemblyOperator extends AbstractConnectOperator<Kubern
 
             if (!useResources) {
                 return Future.failedFuture(new NoSuchResourceException(reconciliation.kind() + " " + reconciliation.name() + " is not configured with annotation " + Annotations.STRIMZI_IO_USE_CONNECTOR_RESOURCES));
+            } else if (runningConnectors != null) {
+                return maybeCreateOrUpdateConnector(reconciliation, host, apiClient, connectorName, connector.getSpec(), connector, runningConnectors.get(connectorName));
             } else {
                 return maybeCreateOrUpdateConnector(reconciliation, host, apiClient, connectorName, connector.getSpec(), connector);
             }
@@ -481,14 +526,107 @@ public class KafkaConnectAssemblyOperator extends AbstractConnectOperator<Kubern
     }
 
     /**
-     * Create Kubernetes watch for KafkaConnector resources.
+     * Polls the state of the connectors from all Kafka Connect clusters in the namespace which use the KafkaConnector
+     * resources and reconciles the connectors which changed their state. See {@link ConnectorStatusPoller} for more
+     * details.
+     *
+     * @param namespace     Namespace where the Kafka Connect clusters should be polled
+     *
+     * @return  Future which completes when the connectors which changed their state are reconciled
+     */
+    public Future<Void> pollConnectorStatuses(String namespace) {
+        return connectorStatusPoller.poll(namespace);
+    }
+
+    /**
+     * Lists the Kafka Connect clusters in the namespace whose connectors should be polled. These are the Connect
+     * clusters owned by this operator which use the KafkaConnector resources, are not paused and are not scaled to
+     * zero replicas.
+     *
+     * @param namespace     Namespace of the Kafka Connect clusters
+     *
+     * @return  Future with the list of the Kafka Connect clusters
+     */
+    Future<List<KafkaConnect>> listPolledConnectClusters(String namespace) {
+        return resourceOperator.listAsync(namespace, selector())
+                .map(connects -> connects.stream()
+                        .filter(connect -> isOwned(connect.getMetadata().getNamespace(), connect.getMetadata().getName())
+                                && isUseResources(connect)
+                                && !Annotations.isReconciliationPausedWithAnnotation(connect)
+                                && (connect.getSpec() == null || connect.getSpec().getReplicas() != 0))
+                        .collect(Collectors.toList()));
+    }
+
+    /**
+     * Gets the current state of the connectors from the Kafka Connect REST API.
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param connect           KafkaConnect custom resource
+     *
+     * @return  Future with the connectors and their state
+     */
+    Future<Map<String, ConnectorSnapshot>> listConnectorStates(Reconciliation reconciliation, KafkaConnect connect) {
+        String host = KafkaConnectResources.qualifiedServiceName(connect.getMetadata().getName(), connect.getMetadata().getNamespace());
+        return VertxUtil.completableFutureToVertxFuture(connectClientProvider.apply(vertx).listWithState(reconciliation, host, port));
+    }
+
+    /**
+     * Reconciles the connectors which changed their state. The connectors are reconciled under the lock of the Connect
+     * cluster and without the polled state, which might be outdated once the lock is acquired.
+     *
+     * @param reconciliation        Reconciliation marker
+     * @param connect               KafkaConnect custom resource
+     * @param changedConnectors     Names of the connectors which changed their state
+     *
+     * @return  Future which completes when the connectors are reconciled
+     */
+    Future<Void> reconcileChangedConnectors(Reconciliation reconciliation, KafkaConnect connect, Set<String> changedConnectors) {
+        String connectName = connect.getMetadata().getName();
+        String namespace = connect.getMetadata().getNamespace();
+        String host = KafkaConnectResources.qualifiedServiceName(connectName, namespace);
+        KafkaConnectApi apiClient = connectClientProvider.apply(vertx);
+
+        return listConnectors(namespace, connectName)
+                .compose(connectors -> withLock(reconciliation, LOCK_TIMEOUT_MS,
+                        () -> Future.join(connectors.stream()
+                                        .filter(connector -> changedConnectors.contains(connector.getMetadata().getName()))
+                                        .map(connector -> reconcileConnectorAndHandleResult(reconciliation, host, apiClient, true, connector.getMetadata().getName(), connector))
+                                        .collect(Collectors.toList()))
+                                .<Void>mapEmpty()));
+    }
+
+    /**
+     * Create Kubernetes watch for KafkaConnector resources. Once the watch is synced, the reconciliations read the
+     * KafkaConnector resources from its cache.
      *
      * @param namespace     Namespace where to watch for the resources
      *
-     * @return  A future which completes when the watcher has been created
+     * @return  A future which completes when the watcher has been created and synced
      */
-    public Future<ReconnectingWatcher<KafkaConnector>> createConnectorWatch(String namespace) {
-        return VertxUtil.async(vertx, () -> new ReconnectingWatcher<>(connectorOperator, KafkaConnector.RESOURCE_KIND, namespace, null, this::connectorEventHandler));
+    public Future<InformerWatcher<KafkaConnector>> createConnectorWatch(String namespace) {
+        InformerWatcher<KafkaConnector> watcher = new InformerWatcher<>(connectorOperator, KafkaConnector.RESOURCE_KIND, namespace, null, this::connectorEventHandler);
+        connectorWatchers.put(namespace, watcher);
+
+        return VertxUtil.completableFutureToVertxFuture(watcher.start()).map(watcher);
+    }
+
+    /**
+     * Lists the KafkaConnector resources belonging to a Connect cluster from the watch cache or from the Kubernetes API
+     * when the watch is not running.
+     *
+     * @param namespace     Namespace of the Connect cluster
+     * @param connectName   Name of the Connect cluster
+     *
+     * @return  Future with the list of the connectors
+     */
+    private Future<List<KafkaConnector>> listConnectors(String namespace, String connectName) {
+        InformerWatcher<KafkaConnector> watcher = InformerWatcher.readyWatcher(connectorWatchers, namespace);
+
+        if (watcher != null) {
+            return Future.succeededFuture(watcher.list(namespace, Labels.forStrimziCluster(connectName)));
+        } else {
+            return connectorOperator.listAsync(namespace, new LabelSelectorBuilder().addToMatchLabels(Labels.STRIMZI_CLUSTER_LABEL, connectName).build());
+        }
     }
 
     /**
@@ -505,9 +643,11 @@ public class KafkaConnectAssemblyOperator extends AbstractConnectOperator<Kubern
 
         switch (action) {
             case ADDED, DELETED, MODIFIED -> {
-                if (connectName != null) {
+                if (connectName != null && !isOwned(namespace, connectName)) {
+                    LOGGER.debugOp("{} {} in namespace {} was {}, but Connect cluster {} belongs to a shard owned by another replica", connectorKind, connectorName, namespace, action, connectName);
+                } else if (connectName != null) {
                     // Check whether a KafkaConnect exists
-                    resourceOperator.getAsync(namespace, connectName)
+                    getAsync(namespace, connectName)
                             .compose(connect -> {
                                 KafkaConnectApi apiClient = connectClientProvider.apply(vertx);
                                 if (connect == null) {
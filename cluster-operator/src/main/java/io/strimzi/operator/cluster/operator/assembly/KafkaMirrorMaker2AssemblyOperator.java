@@ -37,11 +37,13 @@ import io.vertx.core.Vertx;
 
 import java.io.Serial;
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.regex.Matcher;
@@ -66,6 +68,11 @@ import static java.util.Collections.emptyMap;
 public class KafkaMirrorMaker2AssemblyOperator extends AbstractConnectOperator<KubernetesClient, KafkaMirrorMaker2, KafkaMirrorMaker2List, KafkaMirrorMaker2Spec, KafkaMirrorMaker2Status> {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(KafkaMirrorMaker2AssemblyOperator.class.getName());
 
+    /**
+     * Key used to store the hash of the connector configuration in the connector status
+     */
+    /* test */ static final String CONNECTOR_CONFIG_HASH_KEY = "configHash";
+
     /**
      * Constructor
      *
@@ -77,7 +84,7 @@ public class KafkaMirrorMaker2AssemblyOperator extends AbstractConnectOperator<K
     public KafkaMirrorMaker2AssemblyOperator(Vertx vertx, PlatformFeaturesAvailability pfa,
                                         ResourceOperatorSupplier supplier,
                                         ClusterOperatorConfig config) {
-        this(vertx, pfa, supplier, config, connect -> new KafkaConnectApiImpl());
+        this(vertx, pfa, supplier, config, connect -> new KafkaConnectApiImpl(supplier.httpClientRegistry));
     }
 
     /**
@@ -177,6 +184,8 @@ public class KafkaMirrorMaker2AssemblyOperator extends AbstractConnectOperator<K
      */
     @Override
     protected Future<Boolean> delete(Reconciliation reconciliation) {
+        httpClientRegistry.removeHost(KafkaMirrorMaker2Resources.qualifiedServiceName(reconciliation.name(), reconciliation.namespace()));
+
         return ReconcilerUtils.withIgnoreRbacError(reconciliation, clusterRoleBindingOperations.reconcile(reconciliation, KafkaMirrorMaker2Resources.initContainerClusterRoleBindingName(reconciliation.name(), reconciliation.namespace()), null), null)
                 .map(Boolean.FALSE); // Return FALSE since other resources are still deleted by garbage collection
     }
@@ -226,11 +235,12 @@ public class KafkaMirrorMaker2AssemblyOperator extends AbstractConnectOperator<K
         KafkaConnectApi apiClient = connectClientProvider.apply(vertx);
         List<KafkaConnector> desiredConnectors = mirrorMaker2Cluster.connectors().generateConnectorDefinitions();
 
-        return VertxUtil.completableFutureToVertxFuture(apiClient.list(reconciliation, host, port)).compose(currentConnectors -> {
+        return VertxUtil.completableFutureToVertxFuture(apiClient.listWithState(reconciliation, host, port)).compose(runningConnectors -> {
+            List<String> currentConnectors = new ArrayList<>(runningConnectors.keySet());
             currentConnectors.removeAll(desiredConnectors.stream().map(c -> c.getMetadata().getName()).collect(Collectors.toSet()));
 
             Future<Void> deletionFuture = deleteConnectors(reconciliation, host, apiClient, currentConnectors);
-            Future<Void> createOrUpdateFuture = createOrUpdateConnectors(reconciliation, host, apiClient, kafkaMirrorMaker2, desiredConnectors, mirrorMaker2Status);
+            Future<Void> createOrUpdateFuture = createOrUpdateConnectors(reconciliation, host, apiClient, kafkaMirrorMaker2, desiredConnectors, runningConnectors, mirrorMaker2Status);
 
             return Future.join(deletionFuture, createOrUpdateFuture).mapEmpty();
         });
@@ -246,11 +256,11 @@ public class KafkaMirrorMaker2AssemblyOperator extends AbstractConnectOperator<K
                 .mapEmpty();
     }
 
-    private Future<Void> createOrUpdateConnectors(Reconciliation reconciliation, String host, KafkaConnectApi apiClient, KafkaMirrorMaker2 mirrorMaker2, List<KafkaConnector> connectors, KafkaMirrorMaker2Status mirrorMaker2Status) {
+    private Future<Void> createOrUpdateConnectors(Reconciliation reconciliation, String host, KafkaConnectApi apiClient, KafkaMirrorMaker2 mirrorMaker2, List<KafkaConnector> connectors, Map<String, ConnectorSnapshot> runningConnectors, KafkaMirrorMaker2Status mirrorMaker2Status) {
         return Future.join(connectors.stream()
                         .map(connector -> {
                             LOGGER.debugCr(reconciliation, "Creating / updating connector {}", connector.getMetadata().getName());
-                            return createOrUpdateMirrorMaker2Connector(reconciliation, mirrorMaker2, apiClient, host, connector.getMetadata().getName(), connector.getSpec(), mirrorMaker2Status);
+                            return createOrUpdateMirrorMaker2Connector(reconciliation, mirrorMaker2, apiClient, host, connector.getMetadata().getName(), connector.getSpec(), runningConnectors.get(connector.getMetadata().getName()), mirrorMaker2Status);
                         })
                         .collect(Collectors.toList()))
                 .compose(i -> {
@@ -269,12 +279,18 @@ public class KafkaMirrorMaker2AssemblyOperator extends AbstractConnectOperator<K
                 .mapEmpty();
     }
 
-    private Future<Void> createOrUpdateMirrorMaker2Connector(Reconciliation reconciliation, KafkaMirrorMaker2 mirrorMaker2, KafkaConnectApi apiClient, String host, String connectorName, KafkaConnectorSpec connectorSpec, KafkaMirrorMaker2Status mirrorMaker2Status) {
-        return maybeCreateOrUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec, mirrorMaker2)
+    private Future<Void> createOrUpdateMirrorMaker2Connector(Reconciliation reconciliation, KafkaMirrorMaker2 mirrorMaker2, KafkaConnectApi apiClient, String host, String connectorName, KafkaConnectorSpec connectorSpec, ConnectorSnapshot current, KafkaMirrorMaker2Status mirrorMaker2Status) {
+        String configHash = connectorConfigHash(connectorName, connectorSpec);
+
+        return maybeCreateOrUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec, mirrorMaker2, current)
                 .onComplete(result -> {
                     if (result.succeeded()) {
+                        // The status might be shared with the Connect snapshot => we add the hash to a copy
+                        Map<String, Object> connectorStatus = new HashMap<>(result.result().statusResult);
+                        connectorStatus.put(CONNECTOR_CONFIG_HASH_KEY, configHash);
+
                         mirrorMaker2Status.addConditions(result.result().conditions);
-                        mirrorMaker2Status.getConnectors().add(result.result().statusResult);
+                        mirrorMaker2Status.getConnectors().add(connectorStatus);
                         mirrorMaker2Status.getConnectors().sort(new ConnectorsComparatorByName());
                         var autoRestart = result.result().autoRestart;
                         if (autoRestart != null) {
@@ -288,6 +304,40 @@ public class KafkaMirrorMaker2AssemblyOperator extends AbstractConnectOperator<K
                 }).mapEmpty();
     }
 
+    /**
+     * Calculates the hash of the desired connector configuration. The hash is stored in the connector status in the
+     * KafkaMirrorMaker2 custom resource. It is not used to decide whether the connector should be updated, because
+     * that is decided by comparing with the live configuration which also reflects changes done directly through the
+     * Connect REST API.
+     *
+     * @param connectorName     Name of the connector
+     * @param connectorSpec     Desired connector spec
+     *
+     * @return  Hash of the connector configuration
+     */
+    @SuppressWarnings("deprecation") // The pause field is deprecated
+    /* test */ static String connectorConfigHash(String connectorName, KafkaConnectorSpec connectorSpec) {
+        Map<String, Object> config = connectorSpec.getConfig() != null ? new TreeMap<>(connectorSpec.getConfig()) : new TreeMap<>();
+        config.put("name", connectorName);
+        config.put("connector.class", connectorSpec.getClassName());
+        config.put("tasks.max", connectorSpec.getTasksMax());
+        config.put("state", connectorSpec.getState());
+        config.put("pause", connectorSpec.getPause());
+
+        return Util.hashStub(config.toString());
+    }
+
+    /**
+     * The topics used by the MirrorMaker 2 connectors are not part of the KafkaMirrorMaker2 status. So they are not
+     * fetched from the Connect REST API.
+     *
+     * @return  Always false
+     */
+    @Override
+    boolean tracksConnectorTopics() {
+        return false;
+    }
+
     private Future<Void> maybeUpdateMirrorMaker2Status(Reconciliation reconciliation, KafkaMirrorMaker2 mirrorMaker2, Throwable error) {
         KafkaMirrorMaker2Status status = new KafkaMirrorMaker2Status();
         if (error != null) {
@@ -83,7 +83,7 @@ public class KafkaNodeUnregistration {
         LOGGER.debugCr(reconciliation, "Unregistering node {} from the Kafka cluster", nodeIdToUnregister);
 
         return VertxUtil
-                .kafkaFutureToVertxFuture(reconciliation, vertx, adminClient.unregisterBroker(nodeIdToUnregister).all())
+                .kafkaFutureToVertxFuture(reconciliation, vertx, "unregisterBroker", adminClient.unregisterBroker(nodeIdToUnregister).all())
                 .recover(t -> {
                     if (t instanceof BrokerIdNotRegisteredException)    {
                         // The broker is not registered anymore, so it does not need to be unregistered anymore and we
@@ -10,7 +10,6 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.fabric8.kubernetes.api.model.ConfigMap;
-import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
 import io.fabric8.kubernetes.api.model.LabelSelector;
 import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.client.KubernetesClient;
@@ -35,11 +34,13 @@ import io.strimzi.operator.cluster.model.ModelUtils;
 import io.strimzi.operator.cluster.model.NoSuchResourceException;
 import io.strimzi.operator.cluster.model.cruisecontrol.CruiseControlConfiguration;
 import io.strimzi.operator.cluster.operator.VertxUtil;
+import io.strimzi.operator.cluster.operator.resource.HttpClientRegistry;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
 import io.strimzi.operator.cluster.operator.resource.cruisecontrol.AbstractRebalanceOptions;
 import io.strimzi.operator.cluster.operator.resource.cruisecontrol.AddBrokerOptions;
 import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlApi;
 import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlApiImpl;
+import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlBrokerLoad;
 import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlRebalanceResponse;
 import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlRestException;
 import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlUserTasksResponse;
@@ -71,6 +72,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -153,13 +155,15 @@ public class KafkaRebalanceAssemblyOperator
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(KafkaRebalanceAssemblyOperator.class.getName());
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
-    /* test */ static final String BROKER_LOAD_KEY = "brokerLoad.json";
     private final CrdOperator<KubernetesClient, KafkaRebalance, KafkaRebalanceList> kafkaRebalanceOperator;
     private final CrdOperator<KubernetesClient, Kafka, KafkaList> kafkaOperator;
     private final SecretOperator secretOperations;
     private final LabelSelector kafkaSelector;
     private final ConfigMapOperator configMapOperator;
     private final int cruiseControlPort;
+    private final HttpClientRegistry httpClientRegistry;
+    private final CruiseControlTaskTracker taskTracker;
+    private final CruiseControlProposalCache proposalCache;
 
     /**
      * @param vertx The Vertx instance
@@ -190,6 +194,10 @@ public class KafkaRebalanceAssemblyOperator
         this.configMapOperator = supplier.configMapOperations;
         this.secretOperations = supplier.secretOperations;
         this.cruiseControlPort = cruiseControlPort;
+        this.httpClientRegistry = supplier.httpClientRegistry;
+        this.taskTracker = new CruiseControlTaskTracker(vertx, config.getCruiseControlTaskPollIntervalMs(),
+                changed -> reconcile(new Reconciliation("cruise-control-task", kind(), changed.namespace(), changed.name())));
+        this.proposalCache = new CruiseControlProposalCache(config.getCruiseControlProposalCacheTtlMs());
     }
 
     /**
@@ -203,7 +211,7 @@ public class KafkaRebalanceAssemblyOperator
      */
     public CruiseControlApi cruiseControlClientProvider(Secret ccSecret, Secret ccApiSecret,
                                                            boolean apiAuthEnabled, boolean apiSslEnabled) {
-        return new CruiseControlApiImpl(HTTP_DEFAULT_IDLE_TIMEOUT_SECONDS, ccSecret, ccApiSecret, apiAuthEnabled, apiSslEnabled);
+        return new CruiseControlApiImpl(HTTP_DEFAULT_IDLE_TIMEOUT_SECONDS, ccSecret, ccApiSecret, apiAuthEnabled, apiSslEnabled, httpClientRegistry);
     }
 
     /**
@@ -386,6 +394,7 @@ public class KafkaRebalanceAssemblyOperator
                                                     .endMetadata()
                                                     .build();
                                             kafkaRebalanceOperator.patchAsync(reconciliation, patchedKafkaRebalance)
+                                                    .onSuccess(this::resourceWritten)
                                                     .onComplete(ignoredKafkaRebalanceResult -> reconcilePromise.complete(kafkaRebalanceStatus));
                                         }
                                     } else {
@@ -636,7 +645,7 @@ public class KafkaRebalanceAssemblyOperator
     /**
      * Converts the supplied JSONObject containing the response from the {@link CruiseControlApi#rebalance} or
      * {@link CruiseControlApi#getUserTaskStatus} methods, into a map linking to a proposal summary map and a broker
-     * load map.
+     * load map. The broker load is stored in the ConfigMap by {@link CruiseControlBrokerLoad}.
      *
      * @param  proposalJson The JSONObject representing the response from the Cruise Control rebalance endpoint.
      * @return A wrapper class containing the proposal summary map and a config map containing broker load.
@@ -659,15 +668,8 @@ public class KafkaRebalanceAssemblyOperator
         JsonNode beforeAndAfterBrokerLoad = parseLoadStats(
                 brokerLoadBeforeOptimization, brokerLoadAfterOptimization);
 
-        ConfigMap rebalanceMap = new ConfigMapBuilder()
-                .withNewMetadata()
-                    .withNamespace(kafkaRebalance.getMetadata().getNamespace())
-                    .withName(kafkaRebalance.getMetadata().getName())
-                    .withLabels(Collections.singletonMap("app", "strimzi"))
-                    .withOwnerReferences(ModelUtils.createOwnerReference(kafkaRebalance, false))
-                .endMetadata()
-                .withData(Collections.singletonMap(BROKER_LOAD_KEY, beforeAndAfterBrokerLoad.toPrettyString()))
-                .build();
+        ConfigMap rebalanceMap = CruiseControlBrokerLoad.configMap(kafkaRebalance.getMetadata().getNamespace(),
+                kafkaRebalance.getMetadata().getName(), ModelUtils.createOwnerReference(kafkaRebalance, false), beforeAndAfterBrokerLoad);
 
         Map<String, Object> summaryMap = OBJECT_MAPPER.convertValue(proposalJson.get(CruiseControlRebalanceKeys.SUMMARY.getKey()), new TypeReference<Map<String, Object>>() { });
         summaryMap.put("afterBeforeLoadConfigMap", rebalanceMap.getMetadata().getName());
@@ -757,13 +759,13 @@ public class KafkaRebalanceAssemblyOperator
 
     /**
      * This method handles the transition from {@code PendingProposal} state.
-     * It starts a periodic timer in order to check the status of the ongoing rebalance proposal processing on Cruise Control side.
-     * In order to do that, it calls the Cruise Control API for requesting the rebalance proposal.
+     * It checks the status of the ongoing rebalance proposal processing on Cruise Control side.
+     * In order to do that, it gets the user task status through the {@link CruiseControlTaskTracker}, which batches the requests to the same Cruise Control instance.
      * When the proposal is ready, the next state is {@code ProposalReady}.
      * If the user sets the strimzi.io/rebalance=stop annotation, it stops polling the Cruise Control API for requesting the rebalance proposal.
      * If the user sets any other values for the strimzi.io/rebalance annotation, it is ignored and the rebalance proposal request continues.
      *
-     * This method holds the lock until the rebalance proposal is ready or any exception is raised.
+     * While the rebalance proposal is not ready, the user task is tracked in the background and the resource is reconciled again when the task changes its status.
      *
      * @param reconciliation Reconciliation information
      * @param host Cruise Control service to which sending the REST API requests
@@ -803,7 +805,7 @@ public class KafkaRebalanceAssemblyOperator
                             p.fail(e);
                         });
             } else {
-                VertxUtil.completableFutureToVertxFuture(apiClient.getUserTaskStatus(reconciliation, host, cruiseControlPort, sessionId))
+                taskTracker.userTaskStatus(reconciliation, apiClient, host, cruiseControlPort, sessionId)
                         .onSuccess(cruiseControlResponse -> handleUserTaskStatusResponse(reconciliation, cruiseControlResponse, p, sessionId, conditions, kafkaRebalance, configMapOperator, true, host, apiClient, rebalanceOptionsBuilder))
                         .onFailure(e -> {
                             LOGGER.errorCr(reconciliation, "Cruise Control getting rebalance proposal status failed", e.getCause());
@@ -814,6 +816,17 @@ public class KafkaRebalanceAssemblyOperator
         return p.future();
     }
 
+    /**
+     * Invalidates the cached rebalance proposals of the Kafka cluster of the KafkaRebalance resource. This is used
+     * after a rebalance moved the partitions of the cluster.
+     *
+     * @param kafkaRebalance    KafkaRebalance resource
+     */
+    private void invalidateProposals(KafkaRebalance kafkaRebalance) {
+        proposalCache.invalidateCluster(kafkaRebalance.getMetadata().getNamespace(),
+                kafkaRebalance.getMetadata().getLabels().get(Labels.STRIMZI_CLUSTER_LABEL));
+    }
+
     private void handleUserTaskStatusResponse(Reconciliation reconciliation, CruiseControlUserTasksResponse cruiseControlResponse,
                                               Promise<MapAndStatus<ConfigMap, KafkaRebalanceStatus>> p, String sessionId,
                                               Set<Condition> conditions, KafkaRebalance kafkaRebalance,
@@ -833,6 +846,7 @@ public class KafkaRebalanceAssemblyOperator
             // 1. Cruise Control restarted so resetting the state because the tasks queue is not persisted
             // 2. Task's retention time expired, or the cache has become full
             LOGGER.warnCr(reconciliation, "User task {} not found, going to generate a new proposal", sessionId);
+            proposalCache.invalidateUserTask(sessionId);
             requestRebalance(reconciliation, host, apiClient, kafkaRebalance, true, rebalanceOptionsBuilder)
                     .onSuccess(p::complete)
                     .onFailure(e -> {
@@ -851,10 +865,16 @@ public class KafkaRebalanceAssemblyOperator
                 // TODO: Once we can get the error details we need to add an error field to the Rebalance Status to hold
                 //       details of any issues while rebalancing.
                 LOGGER.errorCr(reconciliation, "Rebalance ({}) optimization proposal has failed to complete", sessionId);
+                proposalCache.invalidateUserTask(sessionId);
+                if (!dryRun) {
+                    // Some partitions might have been moved before the rebalance failed
+                    invalidateProposals(kafkaRebalance);
+                }
                 p.complete(buildRebalanceStatus(sessionId, KafkaRebalanceState.NotReady, conditions));
                 break;
             case COMPLETED:
                 if (!dryRun) {
+                    invalidateProposals(kafkaRebalance);
                     p.complete(buildRebalanceStatus(kafkaRebalance, null, KafkaRebalanceState.Ready, taskStatusJson, conditions));
                     break;
                 }
@@ -947,13 +967,13 @@ public class KafkaRebalanceAssemblyOperator
 
     /**
      * This method handles the transition from {@code Rebalancing} state.
-     * It starts a periodic timer in order to check the status of the ongoing rebalance processing on Cruise Control side.
-     * In order to do that, it calls the related Cruise Control REST API about asking the user task status.
+     * It checks the status of the ongoing rebalance processing on Cruise Control side.
+     * In order to do that, it gets the user task status through the {@link CruiseControlTaskTracker}, which batches the requests to the same Cruise Control instance.
      * When the rebalance is finished, the next state is {@code Ready}.
      * If the user sets the strimzi.io/rebalance annotation to 'stop', it calls the Cruise Control REST API for stopping the ongoing task
      * and then transitions to the {@code Stopped} state.
      * If the user sets any other values for the strimzi.io/rebalance annotation, it is just ignored and the user task checks continue.
-     * This method holds the lock until the rebalance is finished, the ongoing task is stopped or any exception is raised.
+     * While the rebalance is not finished, the user task is tracked in the background and the resource is reconciled again when the task changes its status.
      *
      * @param reconciliation Reconciliation information
      * @param host Cruise Control service to which sending the REST API requests
@@ -971,7 +991,10 @@ public class KafkaRebalanceAssemblyOperator
         if (rebalanceAnnotation(kafkaRebalance) == KafkaRebalanceAnnotation.stop) {
             LOGGER.infoCr(reconciliation, "Stopping current Cruise Control rebalance user task");
             VertxUtil.completableFutureToVertxFuture(apiClient.stopExecution(reconciliation, host, cruiseControlPort))
-                .onSuccess(r -> p.complete(buildRebalanceStatus(null, KafkaRebalanceState.Stopped, StatusUtils.validate(reconciliation, kafkaRebalance))))
+                .onSuccess(r -> {
+                    invalidateProposals(kafkaRebalance);
+                    p.complete(buildRebalanceStatus(null, KafkaRebalanceState.Stopped, StatusUtils.validate(reconciliation, kafkaRebalance)));
+                })
                 .onFailure(e -> {
                     LOGGER.errorCr(reconciliation, "Cruise Control stopping execution failed", e.getCause());
                     p.fail(e.getCause());
@@ -980,6 +1003,7 @@ public class KafkaRebalanceAssemblyOperator
             LOGGER.infoCr(reconciliation, "Stopping current Cruise Control rebalance user task since refresh annotation is applied on the KafkaRebalance resource and requesting a new proposal");
             VertxUtil.completableFutureToVertxFuture(apiClient.stopExecution(reconciliation, host, cruiseControlPort))
                     .onSuccess(r -> {
+                        invalidateProposals(kafkaRebalance);
                         requestRebalance(reconciliation, host, apiClient, kafkaRebalance, true, rebalanceOptionsBuilder)
                                 .onSuccess(p::complete)
                                 .onFailure(e -> {
@@ -995,7 +1019,7 @@ public class KafkaRebalanceAssemblyOperator
             LOGGER.infoCr(reconciliation, "Getting Cruise Control rebalance user task status");
             Set<Condition> conditions = StatusUtils.validate(reconciliation, kafkaRebalance);
             validateAnnotation(reconciliation, conditions, KafkaRebalanceState.Rebalancing, rebalanceAnnotation(kafkaRebalance), kafkaRebalance);
-            VertxUtil.completableFutureToVertxFuture(apiClient.getUserTaskStatus(reconciliation, host, cruiseControlPort, sessionId))
+            taskTracker.userTaskStatus(reconciliation, apiClient, host, cruiseControlPort, sessionId)
                 .onSuccess(cruiseControlResponse -> handleUserTaskStatusResponse(reconciliation, cruiseControlResponse, p, sessionId, conditions, kafkaRebalance, configMapOperator, false, host, apiClient, rebalanceOptionsBuilder))
                 .onFailure(e -> {
                     LOGGER.errorCr(reconciliation, "Cruise Control getting rebalance task status failed", e);
@@ -1098,6 +1122,8 @@ public class KafkaRebalanceAssemblyOperator
                     if (kafka == null) {
                         LOGGER.warnCr(reconciliation, "Kafka resource '{}' identified by label '{}' does not exist in namespace {}.",
                                 clusterName, Labels.STRIMZI_CLUSTER_LABEL, clusterNamespace);
+                        taskTracker.remove(cruiseControlHost(clusterName, clusterNamespace), cruiseControlPort);
+                        proposalCache.invalidateCluster(clusterNamespace, clusterName);
                         return Future.succeededFuture(updateStatus(kafkaRebalance, new KafkaRebalanceStatus(),
                                 new NoSuchResourceException("Kafka resource '" + clusterName
                                         + "' identified by label '" + Labels.STRIMZI_CLUSTER_LABEL
@@ -1112,11 +1138,16 @@ public class KafkaRebalanceAssemblyOperator
                                 new RuntimeException(CruiseControlIssues.kafkaClusterNotReady.getMessage())));
                     } else if (kafka.getSpec().getCruiseControl() == null) {
                         LOGGER.warnCr(reconciliation, "Kafka resource lacks 'cruiseControl' declaration" + ": No deployed Cruise Control for doing a rebalance.");
+                        taskTracker.remove(cruiseControlHost(clusterName, clusterNamespace), cruiseControlPort);
+                        proposalCache.invalidateCluster(clusterNamespace, clusterName);
                         KafkaRebalanceStatus status = new KafkaRebalanceStatus();
                         return Future.succeededFuture(updateStatus(kafkaRebalance, status,
                                 new InvalidResourceException(CruiseControlIssues.cruiseControlDisabled.getMessage())));
                     }
 
+                    // The cached proposals are not valid anymore when the nodes of the Kafka cluster changed
+                    proposalCache.updateTopology(clusterNamespace, clusterName, kafka.getStatus() != null ? kafka.getStatus().getRegisteredNodeIds() : null);
+
                     Future<KafkaRebalance> resourcePatchFuture;
                     if (kafkaRebalance.getStatus() != null
                             && kafkaRebalance.getStatus().getObservedGeneration() != kafkaRebalance.getMetadata().getGeneration()) {
@@ -1128,8 +1159,9 @@ public class KafkaRebalanceAssemblyOperator
                                     .addToAnnotations(Map.of(ANNO_STRIMZI_IO_REBALANCE, KafkaRebalanceAnnotation.refresh.toString()))
                                 .endMetadata();
 
-                        resourcePatchFuture = kafkaRebalanceOperator.patchAsync(reconciliation, patchedKafkaRebalance.build()).onComplete(
-                                r -> LOGGER.debugCr(reconciliation, "The KafkaRebalance resource is updated with refresh annotation"));
+                        resourcePatchFuture = kafkaRebalanceOperator.patchAsync(reconciliation, patchedKafkaRebalance.build())
+                                .onSuccess(this::resourceWritten)
+                                .onComplete(r -> LOGGER.debugCr(reconciliation, "The KafkaRebalance resource is updated with refresh annotation"));
                     } else {
                         resourcePatchFuture = Future.succeededFuture();
                     }
@@ -1202,21 +1234,27 @@ public class KafkaRebalanceAssemblyOperator
             rebalanceOptionsBuilder.withFullRun();
         }
 
+        AbstractRebalanceOptions options = rebalanceOptionsBuilder.build();
+        Supplier<Future<CruiseControlRebalanceResponse>> request = () -> switch (mode) {
+            case ADD_BROKERS -> VertxUtil.completableFutureToVertxFuture(apiClient.addBroker(reconciliation, host, cruiseControlPort, (AddBrokerOptions) options, null));
+            case REMOVE_BROKERS -> VertxUtil.completableFutureToVertxFuture(apiClient.removeBroker(reconciliation, host, cruiseControlPort, (RemoveBrokerOptions) options, null));
+            case REMOVE_DISKS -> VertxUtil.completableFutureToVertxFuture(apiClient.removeDisks(reconciliation, host, cruiseControlPort, (RemoveDisksOptions) options, null));
+            default -> VertxUtil.completableFutureToVertxFuture(apiClient.rebalance(reconciliation, host, cruiseControlPort, (RebalanceOptions) options, null));
+        };
+
         Future<CruiseControlRebalanceResponse> future;
-        switch (mode) {
-            case ADD_BROKERS:
-                future = VertxUtil.completableFutureToVertxFuture(apiClient.addBroker(reconciliation, host, cruiseControlPort, ((AddBrokerOptions.AddBrokerOptionsBuilder) rebalanceOptionsBuilder).build(), null));
-                break;
-            case REMOVE_BROKERS:
-                future = VertxUtil.completableFutureToVertxFuture(apiClient.removeBroker(reconciliation, host, cruiseControlPort, ((RemoveBrokerOptions.RemoveBrokerOptionsBuilder) rebalanceOptionsBuilder).build(), null));
-                break;
-            case REMOVE_DISKS:
-                future = VertxUtil.completableFutureToVertxFuture(apiClient.removeDisks(reconciliation, host, cruiseControlPort, ((RemoveDisksOptions.RemoveDisksOptionsBuilder) rebalanceOptionsBuilder).build(), null));
-                break;
-            default:
-                future = VertxUtil.completableFutureToVertxFuture(apiClient.rebalance(reconciliation, host, cruiseControlPort, ((RebalanceOptions.RebalanceOptionsBuilder) rebalanceOptionsBuilder).build(), null));
-                break;
+        if (dryrun) {
+            // Identical proposals requested by other KafkaRebalance resources of the same cluster are reused. The refresh
+            // annotation always asks Cruise Control for a new proposal.
+            future = proposalCache.proposal(kafkaRebalance.getMetadata().getNamespace(),
+                    kafkaRebalance.getMetadata().getLabels().get(Labels.STRIMZI_CLUSTER_LABEL),
+                    CruiseControlProposalCache.request(mode, options),
+                    rebalanceAnnotation(kafkaRebalance) == KafkaRebalanceAnnotation.refresh,
+                    request);
+        } else {
+            future = request.get();
         }
+
         return future.map(response -> handleRebalanceResponse(reconciliation, kafkaRebalance, dryrun, response));
     }
 
@@ -1385,6 +1423,7 @@ public class KafkaRebalanceAssemblyOperator
 
     @Override
     protected Future<Boolean> delete(Reconciliation reconciliation) {
+        taskTracker.forget(reconciliation.namespace(), reconciliation.name());
         return reconcileKafkaRebalance(reconciliation, null).map(v -> Boolean.TRUE);
     }
 
@@ -49,6 +49,7 @@ import io.strimzi.operator.cluster.model.RestartReasons;
 import io.strimzi.operator.cluster.operator.resource.ConcurrentDeletionException;
 import io.strimzi.operator.cluster.operator.resource.KafkaAgentClientProvider;
 import io.strimzi.operator.cluster.operator.resource.KafkaRoller;
+import io.strimzi.operator.cluster.operator.resource.PartitionIndex;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
 import io.strimzi.operator.cluster.operator.resource.events.KubernetesRestartEventPublisher;
 import io.strimzi.operator.cluster.operator.resource.kubernetes.ClusterRoleBindingOperator;
@@ -153,6 +154,7 @@ public class KafkaReconciler {
     private final KubernetesRestartEventPublisher eventsPublisher;
     private final AdminClientProvider adminClientProvider;
     private final KafkaAgentClientProvider kafkaAgentClientProvider;
+    private final KafkaAssemblyOperatorMetricsHolder metrics;
 
     // State of the reconciliation => these objects might change during the reconciliation (the collection objects are
     // marked as final, but their contents is modified during the reconciliation)
@@ -169,6 +171,8 @@ public class KafkaReconciler {
     /* test */ KafkaListenersReconciler.ReconciliationResult listenerReconciliationResults; // Result of the listener reconciliation with the listener details
 
     private final KafkaAutoRebalanceStatus kafkaAutoRebalanceStatus;
+    private final PartitionIndex partitionIndex;
+    private final int maxParallelBrokerRestarts;
 
     /**
      * Constructs the Kafka reconciler
@@ -195,6 +199,40 @@ public class KafkaReconciler {
             ResourceOperatorSupplier supplier,
             PlatformFeaturesAvailability pfa,
             Vertx vertx
+    ) {
+        this(reconciliation, kafkaCr, nodePools, kafka, clusterCa, clientsCa, config, supplier, pfa, vertx, new PartitionIndex(reconciliation, vertx), null);
+    }
+
+    /**
+     * Constructs the Kafka reconciler
+     *
+     * @param reconciliation            Reconciliation marker
+     * @param kafkaCr                   The Kafka custom resource
+     * @param nodePools                 List of KafkaNodePool resources belonging to this cluster
+     * @param kafka                     Kafka cluster instance
+     * @param clusterCa                 The Cluster CA instance
+     * @param clientsCa                 The Clients CA instance
+     * @param config                    Cluster Operator Configuration
+     * @param supplier                  Supplier with Kubernetes Resource Operators
+     * @param pfa                       PlatformFeaturesAvailability describing the environment we run in
+     * @param vertx                     Vert.x instance
+     * @param partitionIndex            Partition index shared with the other checks done during the reconciliation
+     * @param metrics                   Metrics holder for recording the operator metrics. Can be null when no metrics
+     *                                  should be recorded.
+     */
+    public KafkaReconciler(
+            Reconciliation reconciliation,
+            Kafka kafkaCr,
+            List<KafkaNodePool> nodePools,
+            KafkaCluster kafka,
+            ClusterCa clusterCa,
+            ClientsCa clientsCa,
+            ClusterOperatorConfig config,
+            ResourceOperatorSupplier supplier,
+            PlatformFeaturesAvailability pfa,
+            Vertx vertx,
+            PartitionIndex partitionIndex,
+            KafkaAssemblyOperatorMetricsHolder metrics
     ) {
         this.reconciliation = reconciliation;
         this.vertx = vertx;
@@ -215,6 +253,8 @@ public class KafkaReconciler {
         this.previousNodeIds = kafkaCr.getStatus() != null ? kafkaCr.getStatus().getRegisteredNodeIds() : null;
         this.isPodDisruptionBudgetGeneration = config.isPodDisruptionBudgetGeneration();
         this.kafkaAutoRebalanceStatus = kafkaCr.getStatus() != null ? kafkaCr.getStatus().getAutoRebalance() : null;
+        this.partitionIndex = partitionIndex;
+        this.maxParallelBrokerRestarts = Annotations.intAnnotation(kafkaCr, Annotations.ANNO_STRIMZI_IO_MAX_PARALLEL_BROKER_RESTARTS, 1);
 
         this.strimziPodSetOperator = supplier.strimziPodSetOperator;
         this.secretOperator = supplier.secretOperations;
@@ -235,6 +275,7 @@ public class KafkaReconciler {
 
         this.adminClientProvider = supplier.adminClientProvider;
         this.kafkaAgentClientProvider = supplier.kafkaAgentClientProvider;
+        this.metrics = metrics;
         this.continueOnManualRUFailure = config.featureGates().continueOnManualRUFailureEnabled();
     }
 
@@ -249,37 +290,55 @@ public class KafkaReconciler {
      * @return              Future which completes when the reconciliation completes
      */
     public Future<Void> reconcile(KafkaStatus kafkaStatus, Clock clock)    {
-        return modelWarnings(kafkaStatus)
-                .compose(i -> initClientAuthenticationCertificates())
-                .compose(i -> manualPodCleaning())
-                .compose(i -> networkPolicy())
-                .compose(i -> updateKafkaAutoRebalanceStatus(kafkaStatus))
-                .compose(i -> manualRollingUpdate())
-                .compose(i -> pvcs(kafkaStatus))
-                .compose(i -> serviceAccount())
-                .compose(i -> initClusterRoleBinding())
-                .compose(i -> scaleDown())
-                .compose(i -> updateNodePoolStatuses(kafkaStatus))
-                .compose(i -> listeners())
-                .compose(i -> certificateSecrets(clock))
-                .compose(i -> brokerConfigurationConfigMaps())
-                .compose(i -> jmxSecret())
-                .compose(i -> podDisruptionBudget())
-                .compose(i -> podSet())
-                .compose(podSetDiffs -> rollingUpdate(podSetDiffs)) // We pass the PodSet reconciliation result this way to avoid storing it in the instance
-                .compose(i -> podsReady())
-                .compose(i -> serviceEndpointsReady())
-                .compose(i -> headlessServiceEndpointsReady())
-                .compose(i -> clusterId(kafkaStatus))
-                .compose(i -> defaultKafkaQuotas())
-                .compose(i -> nodeUnregistration(kafkaStatus))
-                .compose(i -> metadataVersion(kafkaStatus))
-                .compose(i -> deletePersistentClaims())
-                .compose(i -> sharedKafkaConfigurationCleanup())
-                .compose(i -> deleteOldCertificateSecrets())
+        ReconciliationPipeline pipeline = new ReconciliationPipeline(reconciliation, "kafka", metrics);
+
+        return pipeline
+                // Steps preparing the resources used by the Kafka pods. Steps without dependencies run in parallel.
+                // The steps updating the Kafka status (which is not thread-safe) depend on each other, so that they
+                // run one after another: modelWarnings -> updateKafkaAutoRebalanceStatus -> pvcs -> updateNodePoolStatuses.
+                // The steps using the listener reconciliation result or the Secrets to delete depend on the steps
+                // setting them.
+                .step("modelWarnings", () -> modelWarnings(kafkaStatus))
+                .step("initClientAuthenticationCertificates", this::initClientAuthenticationCertificates)
+                .step("manualPodCleaning", this::manualPodCleaning)
+                .step("networkPolicy", this::networkPolicy)
+                .step("updateKafkaAutoRebalanceStatus", () -> updateKafkaAutoRebalanceStatus(kafkaStatus), "modelWarnings")
+                .step("manualRollingUpdate", this::manualRollingUpdate, "initClientAuthenticationCertificates", "manualPodCleaning")
+                .step("pvcs", () -> pvcs(kafkaStatus), "manualRollingUpdate", "updateKafkaAutoRebalanceStatus")
+                .step("serviceAccount", this::serviceAccount)
+                .step("initClusterRoleBinding", this::initClusterRoleBinding)
+                // The scale-down runs only after the PVCs, the service account and the cluster role binding
+                // are reconciled, as in the sequential reconciliation
+                .step("scaleDown", this::scaleDown, "pvcs", "serviceAccount", "initClusterRoleBinding")
+                .step("updateNodePoolStatuses", () -> updateNodePoolStatuses(kafkaStatus), "scaleDown")
+                .step("listeners", this::listeners)
+                .step("certificateSecrets", () -> certificateSecrets(clock), "listeners", "manualRollingUpdate")
+                .step("brokerConfigurationConfigMaps", this::brokerConfigurationConfigMaps, "listeners", "scaleDown")
+                .step("jmxSecret", this::jmxSecret)
+                .step("podDisruptionBudget", this::podDisruptionBudget)
+                // The PodSets are updated only once all the resources used by the pods are ready
+                .stepAfterAll("podSet", this::podSet)
+                // We pass the PodSet reconciliation result through the pipeline to avoid storing it in the instance
+                .step("rollingUpdate", () -> rollingUpdate(pipeline.result("podSet")), "podSet")
+                .step("podsReady", this::podsReady, "rollingUpdate")
+                .step("serviceEndpointsReady", this::serviceEndpointsReady, "rollingUpdate")
+                .step("headlessServiceEndpointsReady", this::headlessServiceEndpointsReady, "rollingUpdate")
+                // Steps using the Kafka Admin API need the cluster to be ready. They run one after another because
+                // some of them update the Kafka status (which is not thread-safe) from a worker thread.
+                .step("clusterId", () -> clusterId(kafkaStatus), "podsReady", "serviceEndpointsReady", "headlessServiceEndpointsReady")
+                .step("defaultKafkaQuotas", this::defaultKafkaQuotas, "clusterId")
+                .step("nodeUnregistration", () -> nodeUnregistration(kafkaStatus), "defaultKafkaQuotas")
+                .step("metadataVersion", () -> metadataVersion(kafkaStatus), "nodeUnregistration")
+                // Cleanup of resources which are not used by the pods anymore after they were rolled. It is skipped
+                // when any of the Kafka Admin API steps failed.
+                .step("deletePersistentClaims", this::deletePersistentClaims, "metadataVersion")
+                .step("sharedKafkaConfigurationCleanup", this::sharedKafkaConfigurationCleanup, "metadataVersion")
+                .step("deleteOldCertificateSecrets", this::deleteOldCertificateSecrets, "metadataVersion")
                 // This has to run after all possible rolling updates which might move the pods to different nodes
-                .compose(i -> nodePortExternalListenerStatus())
-                .compose(i -> updateKafkaStatus(kafkaStatus));
+                .step("nodePortExternalListenerStatus", this::nodePortExternalListenerStatus, "podsReady")
+                // The status is updated only when all other steps succeeded
+                .stepAfterAll("updateKafkaStatus", () -> updateKafkaStatus(kafkaStatus))
+                .execute();
     }
 
     private Future<Void> updateKafkaAutoRebalanceStatus(KafkaStatus kafkaStatus) {
@@ -486,7 +545,11 @@ public class KafkaReconciler {
                     logging,
                     kafka.getKafkaVersion(),
                     allowReconfiguration,
-                    eventsPublisher
+                    eventsPublisher,
+                    partitionIndex,
+                    maxParallelBrokerRestarts,
+                    metrics != null ? metrics.rollingRestartTimer(reconciliation.name(), reconciliation.namespace()) : null,
+                    metrics != null ? metrics.rollingRestartBatchTimer(reconciliation.name(), reconciliation.namespace()) : null
             ).rollingRestart(podNeedsRestart);
     }
 
@@ -21,7 +21,7 @@ import java.util.Set;
  * Abstraction of an operator which is driven by resources of a given {@link #kind()}.
  *
  * {@link #reconcile(Reconciliation)} triggers the asynchronous reconciliation of a named resource.
- * Reconciliation of a given resource may be triggered either by a Kubernetes watch event (see {@link ReconnectingWatcher}) or
+ * Reconciliation of a given resource may be triggered either by a Kubernetes watch event (see {@link InformerWatcher}) or
  * on a regular schedule.
  * {@link #reconcileAll(String, String, Handler)} triggers reconciliation of all the resources that the operator consumes.
  * An operator instance is not bound to a particular namespace. Rather the namespace is passed as a parameter.
@@ -47,6 +47,17 @@ public interface Operator {
      */
     Future<Void> reconcile(Reconciliation reconciliation);
 
+    /**
+     * Reconcile the resource identified by the given reconciliation as part of the reconciliation of all resources.
+     * Operators which schedule their reconciliations can start it after the reconciliations triggered by events.
+     *
+     * @param reconciliation The resource.
+     * @return A Future is completed once the resource has been reconciled.
+     */
+    default Future<Void> reconcileInBulk(Reconciliation reconciliation) {
+        return reconcile(reconciliation);
+    }
+
     /**
      * Remove the metrics specific to the kind implementing it.
      *
@@ -96,7 +107,7 @@ public interface Operator {
             for (NamespaceAndName resourceRef : desiredNames) {
                 metrics().resourceCounter(resourceRef.getNamespace()).getAndIncrement();
                 Reconciliation reconciliation = new Reconciliation(trigger, kind(), resourceRef.getNamespace(), resourceRef.getName());
-                futures.add(reconcile(reconciliation));
+                futures.add(reconcileInBulk(reconciliation));
             }
             Future.join(futures).map((Void) null).onComplete(handler);
         } else {
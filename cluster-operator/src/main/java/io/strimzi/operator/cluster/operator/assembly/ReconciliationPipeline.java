@@ -0,0 +1,219 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.micrometer.core.instrument.Timer;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.context.Scope;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.common.metrics.MetricsHolder;
+import io.strimzi.operator.common.tracing.OperatorTracing;
+import io.vertx.core.Future;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Declarative pipeline of reconciliation steps. Each step declares the steps it depends on and is started as soon as
+ * all of them complete successfully. Steps without any mutual dependency run concurrently. This allows to express the
+ * ordering constraints of the reconciliation explicitly instead of chaining all steps one after another.
+ *
+ * Dependencies can reference only steps which were already added to the pipeline. That guarantees that the steps
+ * always form a directed acyclic graph. When a step fails, all steps depending on it fail with the same cause without
+ * being executed. Steps which do not depend on the failed step are still executed. The pipeline completes only once
+ * all the steps are completed (successfully or not) so that no step is left running when the reconciliation finishes.
+ *
+ * The duration of each step is recorded in the reconciliation step timer of the metrics holder (when provided). When
+ * tracing is enabled, each step is also traced in its own span. The span is current only while the step is started, so
+ * the asynchronous calls made later by the step use the span of the reconciliation as their parent.
+ */
+public class ReconciliationPipeline {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(ReconciliationPipeline.class.getName());
+
+    private final Reconciliation reconciliation;
+    private final String name;
+    private final MetricsHolder metrics;
+    private final Map<String, Step> steps = new LinkedHashMap<>();
+    private boolean started = false;
+
+    /**
+     * Constructs the reconciliation pipeline
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param name              Name of the pipeline used to identify its steps in the metrics and traces
+     * @param metrics           Metrics holder used to record the duration of the individual steps. Can be null when
+     *                          the step durations should not be recorded.
+     */
+    public ReconciliationPipeline(Reconciliation reconciliation, String name, MetricsHolder metrics) {
+        this.reconciliation = reconciliation;
+        this.name = name;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Adds a step to the pipeline
+     *
+     * @param name          Name of the step. It has to be unique within the pipeline.
+     * @param action        Action executing the step
+     * @param dependencies  Names of the steps which need to complete before this step is executed
+     *
+     * @return  This pipeline instance to allow method chaining
+     */
+    public ReconciliationPipeline step(String name, Supplier<Future<?>> action, String... dependencies) {
+        List<Step> deps = new ArrayList<>(dependencies.length);
+
+        for (String dependency : dependencies) {
+            Step dep = steps.get(dependency);
+
+            if (dep == null) {
+                throw new IllegalArgumentException("Step " + name + " depends on step " + dependency + " which was not added to the pipeline before it");
+            }
+
+            deps.add(dep);
+        }
+
+        return addStep(name, action, deps);
+    }
+
+    /**
+     * Adds a step which depends on all steps added to the pipeline before it. This can be used for steps which need
+     * to wait for all preceding steps, such as creating the Pods after all the resources they use are ready.
+     *
+     * @param name      Name of the step. It has to be unique within the pipeline.
+     * @param action    Action executing the step
+     *
+     * @return  This pipeline instance to allow method chaining
+     */
+    public ReconciliationPipeline stepAfterAll(String name, Supplier<Future<?>> action) {
+        return addStep(name, action, new ArrayList<>(steps.values()));
+    }
+
+    private ReconciliationPipeline addStep(String name, Supplier<Future<?>> action, List<Step> dependencies) {
+        if (started) {
+            throw new IllegalStateException("Steps cannot be added to a pipeline which was already started");
+        } else if (steps.containsKey(name)) {
+            throw new IllegalArgumentException("Step " + name + " already exists in the pipeline");
+        }
+
+        steps.put(name, new Step(name, action, dependencies));
+        return this;
+    }
+
+    /**
+     * Returns the result of a successfully completed step. This can be used to pass results between the steps.
+     * It should be called only from steps depending on the step whose result is requested.
+     *
+     * @param name  Name of the step
+     *
+     * @return  Result of the step
+     *
+     * @param <T>   Type of the result
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T result(String name) {
+        Step step = steps.get(name);
+
+        if (step == null || step.future == null || !step.future.succeeded()) {
+            throw new IllegalStateException("Step " + name + " has not completed successfully");
+        }
+
+        return (T) step.future.result();
+    }
+
+    /**
+     * Executes the pipeline. Steps are started in the order in which they were added as soon as their dependencies
+     * are completed.
+     *
+     * @return  Future which completes when all steps are completed. It fails with the cause of the first failed step
+     *          (in the order in which the steps were added) if any of the steps failed.
+     */
+    public Future<Void> execute() {
+        if (started) {
+            throw new IllegalStateException("The pipeline was already started");
+        }
+
+        started = true;
+        List<Future<?>> futures = new ArrayList<>(steps.size());
+
+        for (Step step : steps.values()) {
+            if (step.dependencies.isEmpty()) {
+                step.future = run(step);
+            } else {
+                step.future = Future.all(step.dependencies.stream().map(dep -> dep.future).toList())
+                        .compose(i -> run(step));
+            }
+
+            futures.add(step.future);
+        }
+
+        return Future.join(futures)
+                .transform(i -> {
+                    for (Step step : steps.values()) {
+                        if (step.future.failed()) {
+                            return Future.failedFuture(step.future.cause());
+                        }
+                    }
+
+                    return Future.succeededFuture();
+                });
+    }
+
+    /**
+     * Runs the step, records its duration and traces it
+     *
+     * @param step  Step which should be run
+     *
+     * @return  Future with the result of the step
+     */
+    private Future<?> run(Step step) {
+        LOGGER.traceCr(reconciliation, "Starting {} reconciliation step {}", name, step.name);
+        long startNanos = System.nanoTime();
+        Span span = OperatorTracing.startSpan(reconciliation, name + " " + step.name);
+
+        Future<?> result;
+        try (Scope ignored = span.makeCurrent()) {
+            result = step.action.get();
+        } catch (Throwable t) {
+            result = Future.failedFuture(t);
+        }
+
+        return result.onComplete(res -> {
+            long durationNanos = System.nanoTime() - startNanos;
+            OperatorTracing.endSpan(span, res.cause());
+
+            if (metrics != null) {
+                Timer timer = metrics.reconciliationStepTimer(reconciliation.namespace(), name, step.name);
+                timer.record(durationNanos, TimeUnit.NANOSECONDS);
+            }
+
+            if (res.succeeded()) {
+                LOGGER.debugCr(reconciliation, "{} reconciliation step {} completed in {}ms", name, step.name, durationNanos / 1_000_000L);
+            } else {
+                LOGGER.debugCr(reconciliation, "{} reconciliation step {} failed after {}ms", name, step.name, durationNanos / 1_000_000L, res.cause());
+            }
+        });
+    }
+
+    /**
+     * Holds the definition and the state of the individual pipeline step
+     */
+    private static class Step {
+        private final String name;
+        private final Supplier<Future<?>> action;
+        private final List<Step> dependencies;
+        private Future<?> future;
+
+        Step(String name, Supplier<Future<?>> action, List<Step> dependencies) {
+            this.name = name;
+            this.action = action;
+            this.dependencies = dependencies;
+        }
+    }
+}
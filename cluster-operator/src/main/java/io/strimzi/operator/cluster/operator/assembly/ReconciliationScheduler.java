@@ -0,0 +1,284 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.micrometer.core.instrument.Tags;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.common.metrics.MetricsHolder;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Schedules the reconciliations of the custom resources shared by all assembly operators. It limits how many
+ * reconciliations run in parallel in total and for each kind, and it starts the waiting reconciliations in the order
+ * of their priority: reconciliations triggered by events first, then the periodic reconciliations of the resources
+ * which failed the last time and then the other periodic reconciliations.
+ *
+ * Each resource has at most one waiting reconciliation. When a reconciliation of a resource is scheduled while another
+ * reconciliation of the same resource is waiting, they are merged into one, which keeps the higher of their priorities.
+ * A waiting reconciliation of a resource is not started while the same resource is being reconciled. So the events
+ * which arrive during a long reconciliation result in one more reconciliation once it completes, instead of waiting
+ * for the lock and timing out.
+ */
+public class ReconciliationScheduler {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(ReconciliationScheduler.class);
+
+    /* test */ static final String METRICS_PENDING = MetricsHolder.METRICS_PREFIX + "reconciliations.pending";
+    /* test */ static final String METRICS_RUNNING = MetricsHolder.METRICS_PREFIX + "reconciliations.running";
+
+    /**
+     * Priority of a reconciliation. Reconciliations with a higher priority are started first.
+     */
+    public enum Priority {
+        /**
+         * Reconciliation triggered by an event, such as a watch event
+         */
+        EVENT,
+
+        /**
+         * Periodic reconciliation of a resource which failed the last time it was reconciled
+         */
+        RETRY,
+
+        /**
+         * Periodic reconciliation
+         */
+        PERIODIC
+    }
+
+    private final int maxConcurrency;
+    private final int maxConcurrencyPerKind;
+    private final NavigableSet<Task> queue = new TreeSet<>(Comparator.comparing((Task task) -> task.priority).thenComparingLong(task -> task.sequence));
+    private final Map<String, Task> pending = new HashMap<>();
+    private final Map<String, Task> running = new HashMap<>();
+    private final Map<String, Integer> runningPerKind = new HashMap<>();
+    private final Set<String> failed = new HashSet<>();
+    private final AtomicInteger pendingMetric;
+    private final AtomicInteger runningMetric;
+
+    private long sequence = 0L;
+    private boolean dispatching = false;
+    private boolean dispatchRequested = false;
+
+    /**
+     * Constructs the scheduler
+     *
+     * @param maxConcurrency            Maximal number of reconciliations running in parallel
+     * @param maxConcurrencyPerKind     Maximal number of reconciliations of a single kind running in parallel
+     * @param metricsProvider           Metrics provider used for the scheduler metrics
+     */
+    public ReconciliationScheduler(int maxConcurrency, int maxConcurrencyPerKind, MetricsProvider metricsProvider) {
+        this.maxConcurrency = Math.max(1, maxConcurrency);
+        this.maxConcurrencyPerKind = Math.max(1, maxConcurrencyPerKind);
+        this.pendingMetric = metricsProvider.gauge(METRICS_PENDING, "Number of reconciliations waiting to be started", Tags.empty());
+        this.runningMetric = metricsProvider.gauge(METRICS_RUNNING, "Number of reconciliations in progress", Tags.empty());
+    }
+
+    /**
+     * Schedules a reconciliation. The reconciliation is started once there is a free slot for it and no other
+     * reconciliation of the same resource is in progress. If a reconciliation of the same resource is already waiting,
+     * the reconciliations are merged into one.
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param priority          Priority of the reconciliation. Periodic reconciliations of resources which failed the
+     *                          last time they were reconciled get the RETRY priority.
+     * @param reconcile         Supplier which starts the reconciliation
+     *
+     * @return  Future which completes with the result of the reconciliation
+     */
+    public Future<Void> schedule(Reconciliation reconciliation, Priority priority, Supplier<Future<Void>> reconcile) {
+        String key = key(reconciliation);
+        Future<Void> result;
+
+        synchronized (this) {
+            if (priority == Priority.PERIODIC && failed.contains(key)) {
+                priority = Priority.RETRY;
+            }
+
+            Task task = pending.get(key);
+
+            if (task != null) {
+                LOGGER.debugCr(reconciliation, "Merged with the waiting reconciliation {}", task.reconciliation);
+
+                if (priority.compareTo(task.priority) < 0) {
+                    // The task has to be removed before changing its priority to keep the queue ordered
+                    queue.remove(task);
+                    task.priority = priority;
+                    queue.add(task);
+                }
+            } else {
+                task = new Task(key, reconciliation.kind(), priority, sequence++);
+                pending.put(key, task);
+                queue.add(task);
+            }
+
+            task.reconciliation = reconciliation;
+            task.reconcile = reconcile;
+            result = task.promise.future();
+        }
+
+        dispatch();
+        return result;
+    }
+
+    /**
+     * Records that the resource was deleted. The resource is not remembered as failed anymore, even if the
+     * reconciliation handling its deletion fails, because it will not be reconciled periodically anymore.
+     *
+     * @param reconciliation    Reconciliation marker of the deleted resource
+     */
+    public synchronized void deleted(Reconciliation reconciliation) {
+        String key = key(reconciliation);
+        Task task = running.get(key);
+
+        if (task != null) {
+            task.deleted = true;
+        }
+
+        failed.remove(key);
+    }
+
+    /**
+     * @param reconciliation    Reconciliation marker
+     *
+     * @return  True if the last reconciliation of the resource failed. False otherwise.
+     */
+    /* test */ synchronized boolean isFailed(Reconciliation reconciliation) {
+        return failed.contains(key(reconciliation));
+    }
+
+    /**
+     * @return  Number of reconciliations waiting to be started
+     */
+    /* test */ synchronized int pendingCount() {
+        return queue.size();
+    }
+
+    /**
+     * @return  Number of reconciliations in progress
+     */
+    /* test */ synchronized int runningCount() {
+        return running.size();
+    }
+
+    /**
+     * Starts the waiting reconciliations for which there is a free slot. Reconciliations which complete synchronously
+     * call this method again from their completion handler. To not recurse once per such reconciliation, only one
+     * caller dispatches at a time and the other callers just ask it to do another round.
+     */
+    private void dispatch() {
+        synchronized (this) {
+            dispatchRequested = true;
+
+            if (dispatching) {
+                return;
+            }
+
+            dispatching = true;
+        }
+
+        while (true) {
+            List<Task> tasks = new ArrayList<>();
+
+            synchronized (this) {
+                if (!dispatchRequested) {
+                    dispatching = false;
+                    return;
+                }
+
+                dispatchRequested = false;
+                Iterator<Task> iterator = queue.iterator();
+
+                while (running.size() < maxConcurrency && iterator.hasNext()) {
+                    Task task = iterator.next();
+
+                    if (!running.containsKey(task.key)
+                            && runningPerKind.getOrDefault(task.kind, 0) < maxConcurrencyPerKind) {
+                        iterator.remove();
+                        pending.remove(task.key);
+                        running.put(task.key, task);
+                        runningPerKind.merge(task.kind, 1, Integer::sum);
+                        tasks.add(task);
+                    }
+                }
+
+                pendingMetric.set(queue.size());
+                runningMetric.set(running.size());
+            }
+
+            for (Task task : tasks) {
+                run(task);
+            }
+        }
+    }
+
+    private void run(Task task) {
+        Future<Void> future;
+
+        try {
+            future = task.reconcile.get();
+        } catch (Throwable t) {
+            future = Future.failedFuture(t);
+        }
+
+        future.onComplete(result -> {
+            completed(task, result.succeeded());
+            task.promise.handle(result);
+            dispatch();
+        });
+    }
+
+    private synchronized void completed(Task task, boolean succeeded) {
+        running.remove(task.key);
+        runningPerKind.computeIfPresent(task.kind, (kind, count) -> count > 1 ? count - 1 : null);
+
+        if (succeeded || task.deleted) {
+            failed.remove(task.key);
+        } else {
+            failed.add(task.key);
+        }
+    }
+
+    private static String key(Reconciliation reconciliation) {
+        return reconciliation.kind() + "/" + reconciliation.namespace() + "/" + reconciliation.name();
+    }
+
+    /**
+     * Reconciliation waiting to be started
+     */
+    private static class Task {
+        private final String key;
+        private final String kind;
+        private final long sequence;
+        private final Promise<Void> promise = Promise.promise();
+
+        private Priority priority;
+        private Reconciliation reconciliation;
+        private Supplier<Future<Void>> reconcile;
+        private boolean deleted = false;
+
+        Task(String key, String kind, Priority priority, long sequence) {
+            this.key = key;
+            this.kind = kind;
+            this.priority = priority;
+            this.sequence = sequence;
+        }
+    }
+}
@@ -27,6 +27,7 @@ import io.strimzi.api.kafka.model.mirrormaker2.KafkaMirrorMaker2List;
 import io.strimzi.api.kafka.model.podset.StrimziPodSet;
 import io.strimzi.api.kafka.model.podset.StrimziPodSetBuilder;
 import io.strimzi.api.kafka.model.podset.StrimziPodSetStatus;
+import io.strimzi.operator.cluster.leaderelection.ShardOwnership;
 import io.strimzi.operator.cluster.model.ModelUtils;
 import io.strimzi.operator.cluster.model.PodRevision;
 import io.strimzi.operator.cluster.model.PodSetUtils;
@@ -70,6 +71,7 @@ public class StrimziPodSetController implements Runnable {
     private final StrimziPodSetOperator strimziPodSetOperator;
     private final ControllerMetricsHolder metrics;
     private final LabelSelector crSelector;
+    private final ShardOwnership shardOwnership;
     private final String watchedNamespace;
 
     private final BlockingQueue<SimplifiedReconciliation> workQueue;
@@ -105,10 +107,45 @@ public class StrimziPodSetController implements Runnable {
             PodOperator podOperator,
             MetricsProvider metricsProvider,
             int podSetControllerWorkQueueSize
+    ) {
+        this(watchedNamespace, crSelectorLabels, ShardOwnership.ALL, kafkaOperator, kafkaConnectOperator, kafkaMirrorMaker2Operator,
+                strimziPodSetOperator, podOperator, metricsProvider, podSetControllerWorkQueueSize);
+    }
+
+    /**
+     * Creates the StrimziPodSet controller which handles only the clusters from the shards owned by this replica of the
+     * operator.
+     *
+     * @param watchedNamespace              Namespace which should be watched. Use * for all namespaces.
+     * @param crSelectorLabels              Selector labels for custom resource managed by this operator instance. This is used
+     *                                      to check that the pods belong to a Kafka cluster matching these labels.
+     * @param shardOwnership                Shard ownership used to check that the pods belong to a cluster from a shard
+     *                                      owned by this replica
+     * @param kafkaOperator                 Kafka Operator for getting the Kafka custom resources
+     * @param kafkaConnectOperator          KafkaConnect Operator for getting the KafkaConnect custom resources
+     * @param kafkaMirrorMaker2Operator     KafkaMirrorMaker2 Operator for getting the KafkaMirrorMaker2 custom resources
+     * @param strimziPodSetOperator         StrimziPodSet Operator used to manage the StrimziPodSet resources - get them, update
+     *                                      their status etc.
+     * @param podOperator                   Pod operator for managing pods
+     * @param metricsProvider               Metrics provider
+     * @param podSetControllerWorkQueueSize Indicates the size of the StrimziPodSetController work queue
+     */
+    public StrimziPodSetController(
+            String watchedNamespace,
+            Labels crSelectorLabels,
+            ShardOwnership shardOwnership,
+            CrdOperator<KubernetesClient, Kafka, KafkaList> kafkaOperator,
+            CrdOperator<KubernetesClient, KafkaConnect, KafkaConnectList> kafkaConnectOperator,
+            CrdOperator<KubernetesClient, KafkaMirrorMaker2, KafkaMirrorMaker2List> kafkaMirrorMaker2Operator,
+            StrimziPodSetOperator strimziPodSetOperator,
+            PodOperator podOperator,
+            MetricsProvider metricsProvider,
+            int podSetControllerWorkQueueSize
     ) {
         this.podOperator = podOperator;
         this.strimziPodSetOperator = strimziPodSetOperator;
         this.crSelector = new LabelSelector(null, (crSelectorLabels == null || crSelectorLabels.toMap().isEmpty()) ? null : crSelectorLabels.toMap());
+        this.shardOwnership = shardOwnership;
         this.watchedNamespace = watchedNamespace;
         this.workQueue = new ArrayBlockingQueue<>(podSetControllerWorkQueueSize);
 
@@ -200,6 +237,17 @@ public class StrimziPodSetController implements Runnable {
         }
     }
 
+    /**
+     * Enqueues the reconciliation of all StrimziPodSets from the informer cache which belong to a cluster managed by
+     * this operator. This is used when this replica starts managing clusters it was ignoring before, for example after
+     * taking over the leadership from warm standby.
+     */
+    public void enqueueAll() {
+        for (StrimziPodSet podSet : strimziPodSetInformer.list()) {
+            enqueueStrimziPodSet(podSet, "re-enqueued");
+        }
+    }
+
     /**
      * Finds parent StrimziPodSet of a Pod. It first tries to do it through an owner reference. If that does not
      * succeed, it tries that by matching the selector labels of the StrimziPodSet against the Pod. This is needed to
@@ -266,8 +314,8 @@ public class StrimziPodSetController implements Runnable {
 
     /**
      * Utility method which tries to find the Kafka cluster to which this StrimziPodSet belongs and checks whether the CR
-     * selector labels match or not. The controller handles only Kafka clusters matching the CR selector labels. Other
-     * clusters are ignored
+     * selector labels match or not. The controller handles only Kafka clusters matching the CR selector labels and
+     * belonging to the shards owned by this replica. Other clusters are ignored
      *
      * @param podSet    StrimziPodSet which should be checked
      *
@@ -277,6 +325,11 @@ public class StrimziPodSetController implements Runnable {
         if (podSet.getMetadata().getLabels() != null
                 && podSet.getMetadata().getLabels().get(Labels.STRIMZI_KIND_LABEL) != null
                 && podSet.getMetadata().getLabels().get(Labels.STRIMZI_CLUSTER_LABEL) != null) {
+            if (!shardOwnership.owns(podSet.getMetadata().getNamespace(), podSet.getMetadata().getLabels().get(Labels.STRIMZI_CLUSTER_LABEL))) {
+                LOGGER.debugOp("StrimziPodSet {} in namespace {} belongs to a shard owned by another replica", podSet.getMetadata().getName(), podSet.getMetadata().getNamespace());
+                return false;
+            }
+
             // We find the matching custom resource and check the CR selector
             HasMetadata cr = findCustomResource(podSet);
 
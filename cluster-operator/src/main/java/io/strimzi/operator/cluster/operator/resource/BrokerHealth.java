@@ -0,0 +1,99 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Java representation of the JSON response from the /v1/health endpoint of the KafkaAgent. The metrics which are not
+ * registered on the node (for example the controller metrics on broker-only nodes) are null.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+class BrokerHealth {
+    private static final int BROKER_RUNNING_STATE = 3;
+    private static final int BROKER_UNKNOWN_STATE = 127;
+
+    private final int brokerState;
+    private final Integer underReplicatedPartitions;
+    private final Integer underMinIsrPartitions;
+    private final Integer atMinIsrPartitions;
+    private final Integer offlinePartitions;
+    private final Integer leaderCount;
+    private final Boolean activeController;
+
+    /**
+     * Constructor
+     *
+     * @param brokerState                   Broker state
+     * @param underReplicatedPartitions     Number of under-replicated partitions led by the broker
+     * @param underMinIsrPartitions         Number of partitions led by the broker with fewer in-sync replicas than min.insync.replicas
+     * @param atMinIsrPartitions            Number of partitions led by the broker with exactly min.insync.replicas in-sync replicas
+     * @param offlinePartitions             Number of partitions without a leader (reported by the active controller)
+     * @param leaderCount                   Number of partitions led by the broker
+     * @param activeController              Whether the node is the active controller
+     */
+    @JsonCreator
+    public BrokerHealth(@JsonProperty("brokerState") int brokerState,
+                        @JsonProperty("underReplicatedPartitions") Integer underReplicatedPartitions,
+                        @JsonProperty("underMinIsrPartitions") Integer underMinIsrPartitions,
+                        @JsonProperty("atMinIsrPartitions") Integer atMinIsrPartitions,
+                        @JsonProperty("offlinePartitions") Integer offlinePartitions,
+                        @JsonProperty("leaderCount") Integer leaderCount,
+                        @JsonProperty("activeController") Boolean activeController) {
+        this.brokerState = brokerState;
+        this.underReplicatedPartitions = underReplicatedPartitions;
+        this.underMinIsrPartitions = underMinIsrPartitions;
+        this.atMinIsrPartitions = atMinIsrPartitions;
+        this.offlinePartitions = offlinePartitions;
+        this.leaderCount = leaderCount;
+        this.activeController = activeController;
+    }
+
+    /**
+     * @return  Broker state
+     */
+    public int brokerState() {
+        return brokerState;
+    }
+
+    /**
+     * @return  True if the node is the active controller. False otherwise.
+     */
+    public boolean isActiveController() {
+        return Boolean.TRUE.equals(activeController);
+    }
+
+    /**
+     * Checks whether every partition led by this broker has more in-sync replicas than its min.insync.replicas. When
+     * this holds for all brokers, any single broker can be restarted without any partition dropping below its
+     * min.insync.replicas.
+     *
+     * @return  True if the broker is running and none of the partitions it leads is at or under its min.insync.replicas.
+     *          False otherwise or when the metrics are not known.
+     */
+    public boolean hasIsrHeadroom() {
+        return brokerState >= BROKER_RUNNING_STATE
+                && brokerState != BROKER_UNKNOWN_STATE
+                && underMinIsrPartitions != null
+                && underMinIsrPartitions == 0
+                && atMinIsrPartitions != null
+                && atMinIsrPartitions == 0;
+    }
+
+    /**
+     * @return  True if the node is the active controller and it reports no offline partitions. False otherwise.
+     */
+    public boolean isActiveControllerWithoutOfflinePartitions() {
+        return isActiveController() && offlinePartitions != null && offlinePartitions == 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Broker state: %d, under-replicated: %s, under min ISR: %s, at min ISR: %s, offline: %s, leaders: %s, active controller: %s",
+                brokerState, underReplicatedPartitions, underMinIsrPartitions, atMinIsrPartitions, offlinePartitions, leaderCount, activeController);
+    }
+}
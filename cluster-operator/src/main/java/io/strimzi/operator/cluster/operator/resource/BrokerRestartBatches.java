@@ -0,0 +1,183 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import io.strimzi.operator.cluster.model.NodeRef;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Splits the brokers which should be rolled into batches of brokers which can be restarted at the same time. The
+ * brokers in a batch are selected so that restarting all of them together does not take any partition below its
+ * min.insync.replicas:
+ *
+ * <ul>
+ *     <li>For every partition, the number of its in-sync replicas in the batch is not higher than the number of
+ *     in-sync replicas above the min.insync.replicas.</li>
+ *     <li>Brokers which cannot be restarted without affecting the availability even on their own (for example because
+ *     they host a replica of an under-replicated partition) are always rolled in a batch of their own. The
+ *     availability check done right before the restart decides when they are rolled.</li>
+ *     <li>When the brokers have a rack configured, only brokers from the same rack are rolled together. With
+ *     rack-aware replica assignment, this also keeps any unexpected problem during the restart within a single
+ *     rack.</li>
+ * </ul>
+ *
+ * The batches are formed greedily in the order of the brokers passed to the planner. So the brokers which are first
+ * in the list are also rolled in the first batches.
+ */
+class BrokerRestartBatches {
+    private BrokerRestartBatches() { }
+
+    /**
+     * Plans the batches of brokers which can be restarted at the same time
+     *
+     * @param brokers       Brokers which should be rolled in the order in which they should be rolled
+     * @param racks         Map with the racks of the brokers. Brokers without a rack are not in the map.
+     * @param topics        Topics with their current replica assignments, ISRs and min.insync.replicas
+     * @param maxBatchSize  Maximal number of brokers in a single batch
+     *
+     * @return  List with the batches of brokers
+     */
+    static List<List<NodeRef>> plan(List<NodeRef> brokers, Map<Integer, String> racks, Collection<PartitionIndex.Topic> topics, int maxBatchSize) {
+        Set<Integer> brokerIds = new HashSet<>(brokers.size());
+        for (NodeRef broker : brokers) {
+            brokerIds.add(broker.nodeId());
+        }
+
+        // Collects the partitions which constrain the batches and how many of their in-sync replicas can be offline
+        // at the same time. Partitions which do not have any in-sync replicas on the rolled brokers are ignored.
+        List<Integer> spareReplicas = new ArrayList<>();
+        Map<Integer, List<Integer>> partitionsByBroker = new HashMap<>();
+        Set<Integer> exclusiveBrokers = new HashSet<>();
+
+        for (PartitionIndex.Topic topic : topics) {
+            int minIsr = topic.minIsr();
+
+            for (int i = 0; i < topic.partitionCount(); i++) {
+                int[] replicas = topic.replicas(i);
+                int[] isr = topic.isr(i);
+
+                if (minIsr < 0 || replicas.length <= minIsr) {
+                    // The availability is not affected by the restarts or cannot be guaranteed anyway
+                    continue;
+                }
+
+                int spare = isr.length - minIsr;
+
+                if (spare <= 0) {
+                    // Already at or below min.insync.replicas => any broker with a replica needs to be checked on its own
+                    for (int replica : replicas) {
+                        if (brokerIds.contains(replica)) {
+                            exclusiveBrokers.add(replica);
+                        }
+                    }
+                } else if (spare < countRolled(isr, brokerIds)) {
+                    int partition = spareReplicas.size();
+                    spareReplicas.add(spare);
+
+                    for (int replica : isr) {
+                        if (brokerIds.contains(replica)) {
+                            partitionsByBroker.computeIfAbsent(replica, b -> new ArrayList<>()).add(partition);
+                        }
+                    }
+                }
+            }
+        }
+
+        List<Batch> batches = new ArrayList<>();
+
+        for (NodeRef broker : brokers) {
+            if (exclusiveBrokers.contains(broker.nodeId()) || maxBatchSize <= 1) {
+                batches.add(new Batch(null, true).add(broker, List.of()));
+                continue;
+            }
+
+            String rack = racks.get(broker.nodeId());
+            List<Integer> partitions = partitionsByBroker.getOrDefault(broker.nodeId(), List.of());
+
+            Batch batch = null;
+            for (Batch candidate : batches) {
+                if (candidate.accepts(rack, partitions, spareReplicas, maxBatchSize)) {
+                    batch = candidate;
+                    break;
+                }
+            }
+
+            if (batch == null) {
+                batch = new Batch(rack, false);
+                batches.add(batch);
+            }
+
+            batch.add(broker, partitions);
+        }
+
+        List<List<NodeRef>> result = new ArrayList<>(batches.size());
+        for (Batch batch : batches) {
+            result.add(batch.brokers);
+        }
+
+        return result;
+    }
+
+    private static int countRolled(int[] nodes, Set<Integer> brokerIds) {
+        int count = 0;
+
+        for (int node : nodes) {
+            if (brokerIds.contains(node)) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Batch of brokers which are restarted together
+     */
+    private static class Batch {
+        private final String rack;
+        private final boolean exclusive;
+        private final List<NodeRef> brokers = new ArrayList<>();
+        private final Map<Integer, Integer> offlineReplicas = new HashMap<>();
+
+        Batch(String rack, boolean exclusive) {
+            this.rack = rack;
+            this.exclusive = exclusive;
+        }
+
+        boolean accepts(String brokerRack, List<Integer> partitions, List<Integer> spareReplicas, int maxBatchSize) {
+            if (exclusive
+                    || brokers.size() >= maxBatchSize
+                    || !Objects.equals(rack, brokerRack)) {
+                return false;
+            }
+
+            for (int partition : partitions) {
+                if (offlineReplicas.getOrDefault(partition, 0) + 1 > spareReplicas.get(partition)) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        Batch add(NodeRef broker, List<Integer> partitions) {
+            brokers.add(broker);
+
+            for (int partition : partitions) {
+                offlineReplicas.merge(partition, 1, Integer::sum);
+            }
+
+            return this;
+        }
+    }
+}
@@ -7,6 +7,8 @@ package io.strimzi.operator.cluster.operator.resource;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.auth.TlsPemIdentity;
 
+import java.time.Duration;
+
 /**
  * Class to provide the real KafkaAgentClient which connects to actual Kafka Agent
  */
@@ -16,4 +18,9 @@ public class DefaultKafkaAgentClientProvider implements KafkaAgentClientProvider
     public KafkaAgentClient createKafkaAgentClient(Reconciliation reconciliation, TlsPemIdentity tlsPemIdentity) {
         return new KafkaAgentClient(reconciliation, reconciliation.name(), reconciliation.namespace(), tlsPemIdentity);
     }
+
+    @Override
+    public KafkaAgentClient createKafkaAgentClient(Reconciliation reconciliation, TlsPemIdentity tlsPemIdentity, Duration timeout) {
+        return new KafkaAgentClient(reconciliation, reconciliation.name(), reconciliation.namespace(), tlsPemIdentity, timeout);
+    }
 }
@@ -0,0 +1,348 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.ReconciliationLogger;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import static io.strimzi.operator.common.metrics.MetricsHolder.METRICS_PREFIX;
+
+/**
+ * Registry of the HTTP clients used by the operator to talk to the REST APIs of the operands (Kafka Connect and Cruise
+ * Control). The HTTP clients are shared between the reconciliations, so that the connections (and the TLS sessions)
+ * to the same target are kept alive and reused instead of being opened again for every reconciliation.
+ *
+ * The clients are registered per target (for example host and port of the REST API) and the trust material used to
+ * connect to it. When the trust material of a target changes (for example because the CA was renewed), the client is
+ * replaced by a new one. The number of requests sent in parallel to a single target is limited, which also limits the
+ * number of connections opened to it. Requests above the limit wait until one of the previous requests completes.
+ *
+ * The clients of targets which do not exist anymore (for example because the KafkaConnect or Kafka cluster was deleted)
+ * should be removed from the registry. Removed and replaced clients are closed once their requests in flight complete.
+ * The JDK HTTP client can be closed only on Java 21 and newer. On older Java versions, its resources are released once
+ * it is garbage collected.
+ */
+public class HttpClientRegistry {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(HttpClientRegistry.class.getName());
+
+    /**
+     * Metric name for the duration of the HTTP requests
+     */
+    public static final String METRICS_REQUEST_DURATION = METRICS_PREFIX + "http.client.request.duration";
+
+    /**
+     * Metric name for the number of failed HTTP requests
+     */
+    public static final String METRICS_REQUEST_ERRORS = METRICS_PREFIX + "http.client.request.errors";
+
+    /**
+     * Metric name for the number of HTTP requests in flight
+     */
+    public static final String METRICS_REQUESTS_IN_FLIGHT = METRICS_PREFIX + "http.client.requests.in.flight";
+
+    /**
+     * Default maximal number of HTTP requests sent in parallel to a single target
+     */
+    public static final int DEFAULT_MAX_IN_FLIGHT_REQUESTS = 32;
+
+    private static final String TARGET_TAG = "target";
+    private static final List<String> METRICS = List.of(METRICS_REQUEST_DURATION, METRICS_REQUEST_ERRORS, METRICS_REQUESTS_IN_FLIGHT);
+
+    private final MetricsProvider metricsProvider;
+    private final int maxInFlightRequests;
+    private final Map<String, TargetClient> clients = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs the registry with the default limit of parallel requests per target
+     *
+     * @param metricsProvider   Metrics provider used for the HTTP client metrics. When null, no metrics are collected.
+     */
+    public HttpClientRegistry(MetricsProvider metricsProvider) {
+        this(metricsProvider, DEFAULT_MAX_IN_FLIGHT_REQUESTS);
+    }
+
+    /**
+     * Constructs the registry
+     *
+     * @param metricsProvider       Metrics provider used for the HTTP client metrics. When null, no metrics are collected.
+     * @param maxInFlightRequests   Maximal number of HTTP requests sent in parallel to a single target
+     */
+    public HttpClientRegistry(MetricsProvider metricsProvider, int maxInFlightRequests) {
+        this.metricsProvider = metricsProvider;
+        this.maxInFlightRequests = Math.max(1, maxInFlightRequests);
+    }
+
+    /**
+     * Returns the HTTP client for given target. When no client exists for the target yet, or when the existing client
+     * was created for different trust material, a new client is created using the factory.
+     *
+     * @param target        Target of the requests (for example https://my-cluster-cruise-control.my-namespace.svc:9090)
+     * @param trustKey      Identifier of the trust material used by the client (for example hash of the CA certificates)
+     *                      or null when the client does not use any
+     * @param clientFactory Factory for creating the HTTP client
+     *
+     * @return  HTTP client for the target
+     */
+    public TargetClient client(String target, String trustKey, Supplier<HttpClient> clientFactory) {
+        TargetClient client = clients.get(target);
+
+        if (client == null || !Objects.equals(client.trustKey, trustKey)) {
+            TargetClient[] replaced = new TargetClient[1];
+
+            client = clients.compute(target, (key, current) -> {
+                if (current == null || !Objects.equals(current.trustKey, trustKey)) {
+                    replaced[0] = current;
+                    return new TargetClient(target, trustKey, clientFactory.get(), current);
+                } else {
+                    return current;
+                }
+            });
+
+            if (replaced[0] != null) {
+                replaced[0].retire();
+            }
+        }
+
+        return client;
+    }
+
+    /**
+     * Removes the clients of all targets on the given host, regardless of the scheme and port. This should be called
+     * when the operand serving the REST API is deleted. The metrics of the removed targets are removed as well.
+     *
+     * @param host  Host (for example my-connect-connect-api.my-namespace.svc)
+     */
+    public void removeHost(String host) {
+        removeIf(target -> host.equals(host(target)));
+    }
+
+    /**
+     * Removes the clients of the targets matching the predicate together with their metrics
+     *
+     * @param shouldRemove  Predicate selecting the targets which should be removed
+     */
+    public void removeIf(Predicate<String> shouldRemove) {
+        for (String target : List.copyOf(clients.keySet())) {
+            if (shouldRemove.test(target)) {
+                TargetClient client = clients.remove(target);
+
+                if (client != null) {
+                    client.retire();
+                    removeMetrics(target);
+                }
+            }
+        }
+    }
+
+    private void removeMetrics(String target) {
+        if (metricsProvider != null) {
+            MeterRegistry meterRegistry = metricsProvider.meterRegistry();
+
+            for (String name : METRICS) {
+                meterRegistry.find(name).tag(TARGET_TAG, target).meters().forEach(meterRegistry::remove);
+            }
+        }
+    }
+
+    /**
+     * Extracts the host from the target
+     *
+     * @param target    Target in the format [scheme://]host[:port]
+     *
+     * @return  Host of the target
+     */
+    /* test */ static String host(String target) {
+        int schemeEnd = target.indexOf("://");
+        String authority = schemeEnd >= 0 ? target.substring(schemeEnd + 3) : target;
+        int portStart = authority.lastIndexOf(':');
+
+        return portStart >= 0 ? authority.substring(0, portStart) : authority;
+    }
+
+    /**
+     * @return  Number of targets with registered HTTP client
+     */
+    /* test */ int size() {
+        return clients.size();
+    }
+
+    /**
+     * HTTP client for a single target. It limits the number of requests in flight and collects the metrics about them.
+     */
+    public class TargetClient {
+        private final String trustKey;
+        private final HttpClient httpClient;
+        private final Queue<Runnable> pending = new ArrayDeque<>();
+        private final Timer requestTimer;
+        private final Counter errorCounter;
+        private final AtomicInteger inFlight;
+
+        private int running = 0;
+        private boolean retired = false;
+
+        private TargetClient(String target, String trustKey, HttpClient httpClient, TargetClient previous) {
+            this.trustKey = trustKey;
+            this.httpClient = httpClient;
+
+            if (previous != null) {
+                // The meters are registered only once per target, so the replaced client keeps using them
+                this.requestTimer = previous.requestTimer;
+                this.errorCounter = previous.errorCounter;
+                this.inFlight = previous.inFlight;
+            } else if (metricsProvider != null) {
+                Tags tags = Tags.of(TARGET_TAG, target);
+                this.requestTimer = metricsProvider.timer(METRICS_REQUEST_DURATION, "The time the HTTP requests to the REST APIs of the operands take", tags);
+                this.errorCounter = metricsProvider.counter(METRICS_REQUEST_ERRORS, "Number of HTTP requests to the REST APIs of the operands which failed or received a server error", tags);
+                this.inFlight = metricsProvider.gauge(METRICS_REQUESTS_IN_FLIGHT, "Number of HTTP requests to the REST APIs of the operands in flight", tags);
+            } else {
+                this.requestTimer = null;
+                this.errorCounter = null;
+                this.inFlight = new AtomicInteger(0);
+            }
+        }
+
+        /**
+         * Sends the HTTP request asynchronously. If the maximal number of requests to this target is already in flight,
+         * the request is sent once one of them completes.
+         *
+         * @param request       HTTP request
+         * @param bodyHandler   Handler for the response body
+         *
+         * @return  Future which completes with the response
+         *
+         * @param <T>   Type of the response body
+         */
+        public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler) {
+            CompletableFuture<HttpResponse<T>> result = new CompletableFuture<>();
+            Runnable send = () -> send(request, bodyHandler, result);
+
+            synchronized (this) {
+                if (running >= maxInFlightRequests) {
+                    pending.add(send);
+                    return result;
+                }
+
+                running++;
+            }
+
+            send.run();
+            return result;
+        }
+
+        private <T> void send(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler, CompletableFuture<HttpResponse<T>> result) {
+            long startNanos = System.nanoTime();
+            inFlight.incrementAndGet();
+
+            CompletableFuture<HttpResponse<T>> response;
+            try {
+                response = httpClient.sendAsync(request, bodyHandler);
+            } catch (Throwable t) {
+                response = CompletableFuture.failedFuture(t);
+            }
+
+            response.whenComplete((res, error) -> {
+                inFlight.decrementAndGet();
+
+                if (requestTimer != null) {
+                    requestTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+
+                    if (error != null || res.statusCode() >= 500) {
+                        errorCounter.increment();
+                    }
+                }
+
+                sendNext();
+
+                if (error != null) {
+                    result.completeExceptionally(error);
+                } else {
+                    result.complete(res);
+                }
+            });
+        }
+
+        private void sendNext() {
+            Runnable next;
+            boolean close;
+
+            synchronized (this) {
+                next = pending.poll();
+
+                if (next == null) {
+                    running--;
+                    close = retired && running == 0;
+                } else {
+                    close = false;
+                }
+            }
+
+            if (next != null) {
+                next.run();
+            } else if (close) {
+                close();
+            }
+        }
+
+        /**
+         * Marks the client as not used anymore. It is closed once all its requests complete.
+         */
+        private void retire() {
+            boolean close;
+
+            synchronized (this) {
+                retired = true;
+                close = running == 0;
+            }
+
+            if (close) {
+                close();
+            }
+        }
+
+        private void close() {
+            // HttpClient implements AutoCloseable only since Java 21
+            if (httpClient instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    LOGGER.debugOp("Failed to close the HTTP client", e);
+                }
+            }
+        }
+
+        /**
+         * @return  Number of requests in flight
+         */
+        /* test */ int inFlight() {
+            return inFlight.get();
+        }
+
+        /**
+         * @return  Number of requests waiting to be sent
+         */
+        /* test */ synchronized int pending() {
+            return pending.size();
+        }
+    }
+}
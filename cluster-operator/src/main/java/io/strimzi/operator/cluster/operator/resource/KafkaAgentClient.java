@@ -23,6 +23,8 @@ import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Creates HTTP client and interacts with Kafka Agent's REST endpoint
@@ -32,11 +34,13 @@ public class KafkaAgentClient {
     private static final ObjectMapper MAPPER = new ObjectMapper();
 
     private static final String BROKER_STATE_REST_PATH = "/v1/broker-state/";
+    private static final String HEALTH_REST_PATH = "/v1/health/";
     private static final int KAFKA_AGENT_HTTPS_PORT = 8443;
     private static final char[] KEYSTORE_PASSWORD = "changeit".toCharArray();
     private final String namespace;
     private final Reconciliation reconciliation;
     private final String cluster;
+    private final Duration timeout;
     private TlsPemIdentity tlsPemIdentity;
     private HttpClient httpClient;
 
@@ -49,10 +53,24 @@ public class KafkaAgentClient {
      * @param tlsPemIdentity Trust set and identity for TLS client authentication for connecting to the Kafka cluster
      */
     public KafkaAgentClient(Reconciliation reconciliation, String cluster, String namespace, TlsPemIdentity tlsPemIdentity) {
+        this(reconciliation, cluster, namespace, tlsPemIdentity, null);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param cluster   Cluster name
+     * @param namespace Cluster namespace
+     * @param tlsPemIdentity Trust set and identity for TLS client authentication for connecting to the Kafka cluster
+     * @param timeout   Timeout for connecting to the Kafka Agent and for the broker state requests. Null for no timeout.
+     */
+    public KafkaAgentClient(Reconciliation reconciliation, String cluster, String namespace, TlsPemIdentity tlsPemIdentity, Duration timeout) {
         this.reconciliation = reconciliation;
         this.cluster = cluster;
         this.namespace = namespace;
         this.tlsPemIdentity = tlsPemIdentity;
+        this.timeout = timeout;
         this.httpClient = createHttpClient();
     }
 
@@ -67,6 +85,7 @@ public class KafkaAgentClient {
         this.reconciliation = reconciliation;
         this.namespace = namespace;
         this.cluster =  cluster;
+        this.timeout = null;
     }
 
     private HttpClient createHttpClient() {
@@ -92,31 +111,54 @@ public class KafkaAgentClient {
             SSLContext sslContext = SSLContext.getInstance("TLS");
             sslContext.init(keyManagerFactory.getKeyManagers(), trustManagerFactory.getTrustManagers(), null);
 
-            return HttpClient.newBuilder()
-                    .sslContext(sslContext)
-                    .build();
+            HttpClient.Builder builder = HttpClient.newBuilder()
+                    .sslContext(sslContext);
+
+            if (timeout != null) {
+                builder.connectTimeout(timeout);
+            }
+
+            return builder.build();
         } catch (GeneralSecurityException | IOException e) {
             throw new RuntimeException("Failed to configure HTTP client", e);
         }
     }
 
+    private static HttpRequest request(URI uri, Duration timeout) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder()
+                .uri(uri)
+                .GET();
+
+        if (timeout != null) {
+            builder.timeout(timeout);
+        }
+
+        return builder.build();
+    }
+
+    private static String body(HttpResponse<String> response) {
+        if (response.statusCode() != 200) {
+            throw new RuntimeException("Unexpected HTTP status code: " + response.statusCode());
+        }
+        return response.body();
+    }
+
     String doGet(URI uri) {
         try {
-            HttpRequest req = HttpRequest.newBuilder()
-                    .uri(uri)
-                    .GET()
-                    .build();
-
-            var response = httpClient.send(req, HttpResponse.BodyHandlers.ofString());
-            if (response.statusCode() != 200) {
-                throw new RuntimeException("Unexpected HTTP status code: " + response.statusCode());
-            }
-            return response.body();
-        } catch (IOException | InterruptedException e) {
+            return body(httpClient.send(request(uri, timeout), HttpResponse.BodyHandlers.ofString()));
+        } catch (IOException e) {
             throw new RuntimeException("Failed to send HTTP request to Kafka Agent", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while sending HTTP request to Kafka Agent", e);
         }
     }
 
+    CompletableFuture<String> doGetAsync(URI uri, Duration timeout) {
+        return httpClient.sendAsync(request(uri, timeout), HttpResponse.BodyHandlers.ofString())
+                .thenApply(KafkaAgentClient::body);
+    }
+
     /**
      * Gets broker state by sending HTTP request to the /v1/broker-state endpoint of the KafkaAgent
      *
@@ -140,4 +182,40 @@ public class KafkaAgentClient {
         }
         return brokerstate;
     }
+
+    /**
+     * Gets broker health by sending asynchronous HTTP request to the /v1/health endpoint of the KafkaAgent. This allows
+     * querying the health of multiple nodes in parallel.
+     *
+     * @param podName Name of the pod to interact with
+     * @param timeout Timeout of the HTTP request
+     * @return A future with BrokerHealth with the broker state and the partition health metrics of the node. The future
+     *         completes with null if the http request failed or timed out, returned non 200 response or the agent does
+     *         not support the health endpoint.
+     */
+    public CompletableFuture<BrokerHealth> getBrokerHealth(String podName, Duration timeout) {
+        String host = DnsNameGenerator.podDnsName(namespace, KafkaResources.brokersServiceName(cluster), podName);
+        URI uri;
+
+        try {
+            uri = new URI("https", null, host, KAFKA_AGENT_HTTPS_PORT, HEALTH_REST_PATH, null, null);
+        } catch (URISyntaxException e) {
+            LOGGER.warnCr(reconciliation, "Failed to get broker health due to invalid URI", e);
+            return CompletableFuture.completedFuture(null);
+        }
+
+        return doGetAsync(uri, timeout)
+                .thenApply(body -> {
+                    try {
+                        return MAPPER.readValue(body, BrokerHealth.class);
+                    } catch (JsonProcessingException e) {
+                        LOGGER.warnCr(reconciliation, "Failed to parse broker health", e);
+                        return null;
+                    }
+                })
+                .exceptionally(e -> {
+                    LOGGER.debugCr(reconciliation, "Failed to get broker health", e);
+                    return null;
+                });
+    }
 }
@@ -7,6 +7,8 @@ package io.strimzi.operator.cluster.operator.resource;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.auth.TlsPemIdentity;
 
+import java.time.Duration;
+
 /**
  * Helper interface to pass different KafkaAgentClient implementations
  */
@@ -21,4 +23,17 @@ public interface KafkaAgentClientProvider {
      * @return  KafkaAgentClient instance
      */
     KafkaAgentClient createKafkaAgentClient(Reconciliation reconciliation, TlsPemIdentity tlsPemIdentity);
+
+    /**
+     * Creates an instance of KafkaAgentClient with a timeout for connecting to the Kafka Agent
+     *
+     * @param reconciliation    Reconciliation information
+     * @param tlsPemIdentity    Trust set and identity for TLS client authentication for connecting to the Kafka cluster
+     * @param timeout           Timeout for connecting to the Kafka Agent and for the broker state requests
+     *
+     * @return  KafkaAgentClient instance
+     */
+    default KafkaAgentClient createKafkaAgentClient(Reconciliation reconciliation, TlsPemIdentity tlsPemIdentity, Duration timeout) {
+        return createKafkaAgentClient(reconciliation, tlsPemIdentity);
+    }
 }
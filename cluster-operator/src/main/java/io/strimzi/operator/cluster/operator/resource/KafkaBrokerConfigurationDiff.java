@@ -4,8 +4,6 @@
  */
 package io.strimzi.operator.cluster.operator.resource;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import io.fabric8.zjsonpatch.JsonDiff;
 import io.strimzi.kafka.config.model.ConfigModel;
 import io.strimzi.kafka.config.model.Scope;
 import io.strimzi.operator.cluster.model.KafkaConfiguration;
@@ -23,9 +21,9 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
-import java.util.Optional;
+import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 /**
  * The algorithm:
@@ -141,56 +139,49 @@ public class KafkaBrokerConfigurationDiff extends AbstractJsonDiff {
         if (brokerConfigs == null || desired == null) {
             return Collections.emptyList();
         }
-        Map<String, String> currentMap;
-
         Collection<AlterConfigOp> updatedCE = new ArrayList<>();
 
-        currentMap = brokerConfigs.entries().stream().collect(
-            Collectors.toMap(
-                ConfigEntry::name,
-                configEntry -> configEntry.value() == null ? "null" : configEntry.value()));
+        // The current configuration entries are indexed by name to avoid searching through all of them for every difference
+        Map<String, ConfigEntry> currentEntries = new TreeMap<>();
+        for (ConfigEntry entry : brokerConfigs.entries()) {
+            currentEntries.put(entry.name(), entry);
+        }
 
         OrderedProperties orderedProperties = new OrderedProperties();
         orderedProperties.addStringPairs(desired);
         Map<String, String> desiredMap = orderedProperties.asMap();
 
-        JsonNode source = PATCH_MAPPER.valueToTree(currentMap);
-        JsonNode target = PATCH_MAPPER.valueToTree(desiredMap);
-        JsonNode jsonDiff = JsonDiff.asJson(source, target);
-
-        for (JsonNode d : jsonDiff) {
-            String pathValue = d.get("path").asText();
-            String pathValueWithoutSlash = pathValue.substring(1);
-
-            Optional<ConfigEntry> optEntry = brokerConfigs.entries().stream()
-                    .filter(configEntry -> configEntry.name().equals(pathValueWithoutSlash))
-                    .findFirst();
-
-            String op = d.get("op").asText();
-            if (optEntry.isPresent()) {
-                ConfigEntry entry = optEntry.get();
-                if ("remove".equals(op)) {
-                    removeProperty(configModel, updatedCE, pathValueWithoutSlash, entry, brokerNodeRef.controller());
-                } else if ("replace".equals(op)) {
-                    // entry is in the current, desired is updated value
-                    updateOrAdd(entry.name(), configModel, desiredMap, updatedCE, brokerNodeRef.controller());
-                }
-            } else {
-                if ("add".equals(op)) {
-                    // entry is not in the current, it is added
-                    updateOrAdd(pathValueWithoutSlash, configModel, desiredMap, updatedCE, brokerNodeRef.controller());
-                }
-            }
+        // We compare the maps directly instead of building a JSON Patch from their JSON representation. The entries
+        // are processed in the same order as the JSON diff would do: removed and changed entries sorted by name first,
+        // then the added entries.
+        for (Map.Entry<String, ConfigEntry> current : currentEntries.entrySet()) {
+            String name = current.getKey();
+            ConfigEntry entry = current.getValue();
+            String currentValue = entry.value() == null ? "null" : entry.value();
+
+            if (!desiredMap.containsKey(name)) {
+                removeProperty(configModel, updatedCE, name, entry, brokerNodeRef.controller());
 
-            if ("remove".equals(op)) {
                 // there is a lot of properties set by default - not having them in desired causes very noisy log output
-                LOGGER.traceCr(reconciliation, "Kafka Broker {} Config Differs : {}", brokerNodeRef.nodeId(), d);
-                LOGGER.traceCr(reconciliation, "Current Kafka Broker Config path {} has value {}", pathValueWithoutSlash, lookupPath(source, pathValue));
-                LOGGER.traceCr(reconciliation, "Desired Kafka Broker Config path {} has value {}", pathValueWithoutSlash, lookupPath(target, pathValue));
-            } else {
-                LOGGER.debugCr(reconciliation, "Kafka Broker {} Config Differs : {}", brokerNodeRef.nodeId(), d);
-                LOGGER.debugCr(reconciliation, "Current Kafka Broker Config path {} has value {}", pathValueWithoutSlash, lookupPath(source, pathValue));
-                LOGGER.debugCr(reconciliation, "Desired Kafka Broker Config path {} has value {}", pathValueWithoutSlash, lookupPath(target, pathValue));
+                LOGGER.traceCr(reconciliation, "Kafka Broker {} Config Differs : remove {}", brokerNodeRef.nodeId(), name);
+                LOGGER.traceCr(reconciliation, "Current Kafka Broker Config path {} has value {}", name, currentValue);
+            } else if (!currentValue.equals(desiredMap.get(name))) {
+                // entry is in the current, desired is updated value
+                updateOrAdd(name, configModel, desiredMap, updatedCE, brokerNodeRef.controller());
+
+                LOGGER.debugCr(reconciliation, "Kafka Broker {} Config Differs : replace {}", brokerNodeRef.nodeId(), name);
+                LOGGER.debugCr(reconciliation, "Current Kafka Broker Config path {} has value {}", name, currentValue);
+                LOGGER.debugCr(reconciliation, "Desired Kafka Broker Config path {} has value {}", name, desiredMap.get(name));
+            }
+        }
+
+        for (String name : new TreeSet<>(desiredMap.keySet())) {
+            if (!currentEntries.containsKey(name)) {
+                // entry is not in the current, it is added
+                updateOrAdd(name, configModel, desiredMap, updatedCE, brokerNodeRef.controller());
+
+                LOGGER.debugCr(reconciliation, "Kafka Broker {} Config Differs : add {}", brokerNodeRef.nodeId(), name);
+                LOGGER.debugCr(reconciliation, "Desired Kafka Broker Config path {} has value {}", name, desiredMap.get(name));
             }
         }
 
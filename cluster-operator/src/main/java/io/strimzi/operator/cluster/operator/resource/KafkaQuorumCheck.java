@@ -131,6 +131,6 @@ class KafkaQuorumCheck {
     }
 
     private Future<QuorumInfo> describeMetadataQuorum() {
-        return VertxUtil.kafkaFutureToVertxFuture(reconciliation, vertx, admin.describeMetadataQuorum().quorumInfo());
+        return VertxUtil.kafkaFutureToVertxFuture(reconciliation, vertx, "describeMetadataQuorum", admin.describeMetadataQuorum().quorumInfo());
     }
 }
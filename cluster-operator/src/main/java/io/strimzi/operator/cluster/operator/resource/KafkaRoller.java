@@ -9,6 +9,7 @@ import io.fabric8.kubernetes.api.model.ContainerStateWaiting;
 import io.fabric8.kubernetes.api.model.ContainerStatus;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.micrometer.core.instrument.Timer;
 import io.strimzi.api.kafka.model.kafka.KafkaResources;
 import io.strimzi.operator.cluster.model.DnsNameGenerator;
 import io.strimzi.operator.cluster.model.KafkaCluster;
@@ -61,6 +62,7 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -96,6 +98,10 @@ import static java.util.Collections.singletonList;
  *
  * <p>Where "impacting availability" is defined by {@link KafkaAvailability}.</p>
  *
+ * <p>The controller nodes are always rolled one at a time. When parallel rolling is enabled, the broker nodes which
+ * need to be restarted are split into batches by {@link BrokerRestartBatches} and the brokers in each batch are
+ * rolled at the same time. The batches are rolled one after another.</p>
+ *
  * <p>Note the following important properties of this algorithm:</p>
  * <ul>
  *     <li>if there is a spontaneous change in controller while the rolling restart is happening, any new
@@ -129,6 +135,10 @@ public class KafkaRoller {
     private final KafkaVersion kafkaVersion;
     private final Reconciliation reconciliation;
     private final boolean allowReconfiguration;
+    private final PartitionIndex partitionIndex;
+    private final int maxParallelBrokerRestarts;
+    private final Timer rollingRestartTimer;
+    private final Timer rollingRestartBatchTimer;
     /**
      * Admin client used to send requests that are only relevant for the brokers. It is bootstrapped with broker nodes that might be rolled.
      */
@@ -163,6 +173,41 @@ public class KafkaRoller {
                        long pollingIntervalMs, long operationTimeoutMs, Supplier<BackOff> backOffSupplier, Set<NodeRef> nodes,
                        TlsPemIdentity coTlsPemIdentity, AdminClientProvider adminClientProvider, KafkaAgentClientProvider kafkaAgentClientProvider,
                        Function<Integer, String> kafkaConfigProvider, String kafkaLogging, KafkaVersion kafkaVersion, boolean allowReconfiguration, KubernetesRestartEventPublisher eventsPublisher) {
+        this(reconciliation, vertx, podOperations, pollingIntervalMs, operationTimeoutMs, backOffSupplier, nodes, coTlsPemIdentity,
+                adminClientProvider, kafkaAgentClientProvider, kafkaConfigProvider, kafkaLogging, kafkaVersion, allowReconfiguration,
+                eventsPublisher, new PartitionIndex(reconciliation, vertx), 1, null, null);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param reconciliation            Reconciliation marker
+     * @param vertx                     Vert.x instance
+     * @param podOperations             Pod operator for managing pods
+     * @param pollingIntervalMs         Polling interval in milliseconds
+     * @param operationTimeoutMs        Operation timeout in milliseconds
+     * @param backOffSupplier           Backoff supplier
+     * @param nodes                     List of Kafka node references to consider rolling
+     * @param coTlsPemIdentity          Trust set and identity for TLS client authentication for connecting to the Kafka cluster
+     * @param adminClientProvider       Kafka Admin client provider
+     * @param kafkaAgentClientProvider  Kafka Agent client provider
+     * @param kafkaConfigProvider       Kafka configuration provider
+     * @param kafkaLogging              Kafka logging configuration
+     * @param kafkaVersion              Kafka version
+     * @param allowReconfiguration      Flag indicting whether reconfiguration is allowed or not
+     * @param eventsPublisher           Kubernetes Events publisher for publishing events about pod restarts
+     * @param partitionIndex            Partition index shared with the other checks done during the reconciliation
+     * @param maxParallelBrokerRestarts Maximal number of broker nodes restarted at the same time. Values lower than 2
+     *                                  mean that the broker nodes are rolled one by one.
+     * @param rollingRestartTimer       Timer for recording the duration of rolling restarts. Can be null.
+     * @param rollingRestartBatchTimer  Timer for recording the duration of the individual batches of parallel rolling
+     *                                  restarts. Can be null.
+     */
+    public KafkaRoller(Reconciliation reconciliation, Vertx vertx, PodOperator podOperations,
+                       long pollingIntervalMs, long operationTimeoutMs, Supplier<BackOff> backOffSupplier, Set<NodeRef> nodes,
+                       TlsPemIdentity coTlsPemIdentity, AdminClientProvider adminClientProvider, KafkaAgentClientProvider kafkaAgentClientProvider,
+                       Function<Integer, String> kafkaConfigProvider, String kafkaLogging, KafkaVersion kafkaVersion, boolean allowReconfiguration, KubernetesRestartEventPublisher eventsPublisher,
+                       PartitionIndex partitionIndex, int maxParallelBrokerRestarts, Timer rollingRestartTimer, Timer rollingRestartBatchTimer) {
         this.namespace = reconciliation.namespace();
         this.cluster = reconciliation.name();
         this.nodes = nodes;
@@ -183,11 +228,29 @@ public class KafkaRoller {
         this.kafkaVersion = kafkaVersion;
         this.reconciliation = reconciliation;
         this.allowReconfiguration = allowReconfiguration;
+        this.partitionIndex = partitionIndex;
+        this.maxParallelBrokerRestarts = maxParallelBrokerRestarts;
+        this.rollingRestartTimer = rollingRestartTimer;
+        this.rollingRestartBatchTimer = rollingRestartBatchTimer;
+        this.batchExecutor = maxParallelBrokerRestarts > 1 ? Executors.newScheduledThreadPool(maxParallelBrokerRestarts,
+            runnable -> new Thread(runnable, "kafka-roller-batch")) : null;
     }
 
     private final ScheduledExecutorService singleExecutor = Executors.newSingleThreadScheduledExecutor(
         runnable -> new Thread(runnable, "kafka-roller"));
 
+    /**
+     * Executor used to roll the broker nodes in batches when parallel rolling is enabled. It is null otherwise.
+     */
+    private final ScheduledExecutorService batchExecutor;
+
+    /**
+     * IDs of the brokers which passed the availability check and are being restarted (or reconfigured). They are
+     * considered to be offline by the availability checks of the other brokers in the same batch.
+     */
+    private final Set<Integer> restartingBrokers = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger restartedPods = new AtomicInteger();
+
     private final ConcurrentHashMap<String, RestartContext> podToContext = new ConcurrentHashMap<>();
     private Function<Pod, RestartReasons> podNeedsRestart;
 
@@ -195,7 +258,7 @@ public class KafkaRoller {
      * Initializes brokerAdminClient, if it has not been initialized yet
      * @return true if the creation of AC succeeded, false otherwise
      */
-    private boolean maybeInitBrokerAdminClient() {
+    private synchronized boolean maybeInitBrokerAdminClient() {
         if (this.brokerAdminClient == null) {
             try {
                 this.brokerAdminClient = adminClient(nodes.stream().filter(NodeRef::broker).collect(Collectors.toSet()), false);
@@ -240,6 +303,7 @@ public class KafkaRoller {
     public Future<Void> rollingRestart(Function<Pod, RestartReasons> podNeedsRestart) {
         this.podNeedsRestart = podNeedsRestart;
         Promise<Void> result = Promise.promise();
+        Timer.Sample rollingRestartSample = Timer.start();
         singleExecutor.submit(() -> {
             try {
                 LOGGER.debugCr(reconciliation, "Verifying cluster pods are up-to-date.");
@@ -267,13 +331,21 @@ public class KafkaRoller {
                 }
 
                 Future.join(controllerFutures).compose(v -> {
+                    if (batchExecutor != null) {
+                        return rollBrokersInBatches(brokerPods);
+                    }
+
                     List<Future<Void>> brokerFutures = new ArrayList<>(nodes.size());
                     for (NodeRef broker : brokerPods) {
                         brokerFutures.add(schedule(broker, 0, TimeUnit.MILLISECONDS));
                     }
-                    return Future.join(brokerFutures);
+                    return Future.join(brokerFutures).<Void>mapEmpty();
                 }).onComplete(ar -> {
-                    singleExecutor.shutdown();
+                    shutdownExecutors();
+
+                    if (rollingRestartTimer != null && restartedPods.get() > 0) {
+                        rollingRestartSample.stop(rollingRestartTimer);
+                    }
 
                     try {
                         if (brokerAdminClient != null) {
@@ -297,13 +369,133 @@ public class KafkaRoller {
                 // If anything happens, we have to raise the error otherwise the reconciliation would get stuck
                 // Its logged at upper level, so we just log it at debug here
                 LOGGER.debugCr(reconciliation, "Something went wrong when trying to do a rolling restart", e);
-                singleExecutor.shutdown();
+                shutdownExecutors();
                 result.fail(e);
             }
         });
         return result.future();
     }
 
+    /**
+     * Rolls the broker nodes in batches. The brokers which need to be restarted or which are not ready are split into
+     * batches of brokers which can be restarted at the same time. The brokers which are expected to need at most a
+     * dynamic reconfiguration are rolled one by one after them. When the batches cannot be planned (for example
+     * because the topic metadata cannot be described), the brokers are rolled one by one. The batches are rolled one
+     * after another and the rolling stops when any broker from a batch fails to be rolled.
+     *
+     * @param brokerPods    Broker nodes in the order in which they should be rolled
+     *
+     * @return  Future which completes when all batches are rolled
+     */
+    private Future<Void> rollBrokersInBatches(List<NodeRef> brokerPods) {
+        List<NodeRef> restartCandidates = new ArrayList<>();
+        List<NodeRef> otherBrokers = new ArrayList<>();
+
+        try {
+            for (NodeRef node : brokerPods) {
+                Pod pod = podOperations.get(namespace, node.podName());
+
+                if (pod != null
+                        && (!podOperations.isReady(namespace, node.podName()) || podNeedsRestart.apply(pod).shouldRestart())) {
+                    restartCandidates.add(node);
+                } else {
+                    otherBrokers.add(node);
+                }
+            }
+        } catch (RuntimeException e) {
+            LOGGER.warnCr(reconciliation, "Failed to find out which broker pods need to be restarted. The brokers will be rolled one by one.", e);
+            return rollBatches(singletonBatches(brokerPods));
+        }
+
+        Future<List<List<NodeRef>>> batches;
+        if (restartCandidates.size() < 2 || !maybeInitBrokerAdminClient()) {
+            batches = Future.succeededFuture(singletonBatches(restartCandidates));
+        } else {
+            batches = planBatches(restartCandidates)
+                    .recover(e -> {
+                        LOGGER.warnCr(reconciliation, "Failed to plan the batches of brokers which can be restarted at the same time. The brokers will be rolled one by one.", e);
+                        return Future.succeededFuture(singletonBatches(restartCandidates));
+                    });
+        }
+
+        return batches.compose(restartBatches -> {
+            List<List<NodeRef>> allBatches = new ArrayList<>(restartBatches);
+            allBatches.addAll(singletonBatches(otherBrokers));
+
+            LOGGER.infoCr(reconciliation, "Broker pods will be rolled in {} batches: {}", allBatches.size(), allBatches);
+            return rollBatches(allBatches);
+        });
+    }
+
+    private Future<List<List<NodeRef>>> planBatches(List<NodeRef> brokers) {
+        return partitionIndex.refreshAll(brokerAdminClient)
+                .compose(topics -> VertxUtil.kafkaFutureToVertxFuture(reconciliation, vertx, "describeCluster", brokerAdminClient.describeCluster().nodes())
+                        .map(clusterNodes -> {
+                            Map<Integer, String> racks = new HashMap<>();
+                            for (Node node : clusterNodes) {
+                                if (node.hasRack()) {
+                                    racks.put(node.id(), node.rack());
+                                }
+                            }
+
+                            return BrokerRestartBatches.plan(brokers, racks, topics, maxParallelBrokerRestarts);
+                        }));
+    }
+
+    private Future<Void> rollBatches(List<List<NodeRef>> batches) {
+        Future<Void> result = Future.succeededFuture();
+
+        for (List<NodeRef> batch : batches) {
+            result = result.compose(i -> {
+                LOGGER.debugCr(reconciliation, "Rolling batch of broker pods {}", batch);
+                Timer.Sample batchSample = Timer.start();
+
+                List<Future<Void>> futures = new ArrayList<>(batch.size());
+                for (NodeRef node : batch) {
+                    futures.add(schedule(node, 0, TimeUnit.MILLISECONDS));
+                }
+
+                return Future.join(futures)
+                        .onComplete(ar -> {
+                            if (rollingRestartBatchTimer != null) {
+                                batchSample.stop(rollingRestartBatchTimer);
+                            }
+                        })
+                        .mapEmpty();
+            });
+        }
+
+        return result;
+    }
+
+    private static List<List<NodeRef>> singletonBatches(List<NodeRef> nodes) {
+        List<List<NodeRef>> batches = new ArrayList<>(nodes.size());
+        for (NodeRef node : nodes) {
+            batches.add(List.of(node));
+        }
+        return batches;
+    }
+
+    private void shutdownExecutors() {
+        singleExecutor.shutdown();
+
+        if (batchExecutor != null) {
+            batchExecutor.shutdown();
+        }
+    }
+
+    /**
+     * Returns the executor which should be used to roll the node. Controller nodes are always rolled by the single
+     * thread executor, so they are rolled one at a time.
+     *
+     * @param nodeRef   Node which should be rolled
+     *
+     * @return  Executor for rolling the node
+     */
+    private ScheduledExecutorService executor(NodeRef nodeRef) {
+        return batchExecutor != null && !nodeRef.controller() ? batchExecutor : singleExecutor;
+    }
+
     protected static class RestartContext {
         final Promise<Void> promise;
         final BackOff backOff;
@@ -351,7 +543,7 @@ public class KafkaRoller {
      * Schedule the rolling of the given pod at or after the given delay,
      * completed the returned Future when the pod is rolled.
      * When called multiple times with the same podId this method will return the same Future instance.
-     * Pods will be rolled one-at-a-time so the delay may be overrun.
+     * Pods will be rolled one-at-a-time (or batch-by-batch when parallel rolling is enabled) so the delay may be overrun.
      *
      * @param nodeRef   The reference to pod to roll.
      * @param delay     The delay.
@@ -362,7 +554,7 @@ public class KafkaRoller {
     private Future<Void> schedule(NodeRef nodeRef, long delay, TimeUnit unit) {
         RestartContext ctx = podToContext.computeIfAbsent(nodeRef.podName(),
             k -> new RestartContext(backoffSupplier));
-        singleExecutor.schedule(() -> {
+        executor(nodeRef).schedule(() -> {
             LOGGER.debugCr(reconciliation, "Considering updating pod {} after a delay of {} {}", nodeRef, delay, unit);
             try {
                 restartIfNecessary(nodeRef, ctx);
@@ -375,6 +567,9 @@ public class KafkaRoller {
                         nodeRef, e);
                 ctx.promise.fail(e);
                 singleExecutor.shutdownNow();
+                if (batchExecutor != null) {
+                    batchExecutor.shutdownNow();
+                }
                 podToContext.forEachValue(Integer.MAX_VALUE, f -> f.promise.tryFail(e));
             } catch (Exception e) {
                 if (ctx.backOff.done()) {
@@ -431,11 +626,7 @@ public class KafkaRoller {
                 await(isReady(pod), operationTimeoutMs, TimeUnit.MILLISECONDS, RuntimeException::new);
             } catch (Exception e) {
                 //Initialise the client for KafkaAgent if pod is not ready
-                if (kafkaAgentClient == null) {
-                    this.kafkaAgentClient = initKafkaAgentClient();
-                }
-
-                BrokerState brokerState = kafkaAgentClient.getBrokerState(pod.getMetadata().getName());
+                BrokerState brokerState = kafkaAgentClient().getBrokerState(pod.getMetadata().getName());
                 if (brokerState.isBrokerInRecovery()) {
                     throw new UnforceableProblem("Pod " + nodeRef.podName() + " is not ready because the Kafka node is performing log recovery. There are " + brokerState.remainingLogsToRecover() + " logs and " + brokerState.remainingSegmentsToRecover() + " segments left to recover.", e.getCause());
                 }
@@ -505,12 +696,22 @@ public class KafkaRoller {
             } else {
                 throw e;
             }
+        } finally {
+            restartingBrokers.remove(nodeRef.nodeId());
         }
     }
 
+    private synchronized KafkaAgentClient kafkaAgentClient() throws FatalProblem {
+        if (kafkaAgentClient == null) {
+            this.kafkaAgentClient = initKafkaAgentClient();
+        }
+
+        return kafkaAgentClient;
+    }
+
     KafkaAgentClient initKafkaAgentClient() throws FatalProblem {
         try {
-            return kafkaAgentClientProvider.createKafkaAgentClient(reconciliation, coTlsPemIdentity);
+            return kafkaAgentClientProvider.createKafkaAgentClient(reconciliation, coTlsPemIdentity, Duration.ofMillis(operationTimeoutMs));
         } catch (Exception e) {
             throw new FatalProblem("Failed to initialise KafkaAgentClient", e);
         }
@@ -698,7 +899,7 @@ public class KafkaRoller {
      */
     /* test */ Config brokerConfig(NodeRef nodeRef) throws ForceableProblem, InterruptedException {
         ConfigResource resource = new ConfigResource(ConfigResource.Type.BROKER, String.valueOf(nodeRef.nodeId()));
-        return await(VertxUtil.kafkaFutureToVertxFuture(reconciliation, vertx, brokerAdminClient.describeConfigs(singletonList(resource)).values().get(resource)),
+        return await(VertxUtil.kafkaFutureToVertxFuture(reconciliation, vertx, "describeConfigs", brokerAdminClient.describeConfigs(singletonList(resource)).values().get(resource)),
             30, TimeUnit.SECONDS,
             error -> new ForceableProblem("Error getting broker config", error)
         );
@@ -711,7 +912,7 @@ public class KafkaRoller {
      */
     /* test */ Config brokerLogging(int brokerId) throws ForceableProblem, InterruptedException {
         ConfigResource resource = Util.getBrokersLogging(brokerId);
-        return await(VertxUtil.kafkaFutureToVertxFuture(reconciliation, vertx, brokerAdminClient.describeConfigs(singletonList(resource)).values().get(resource)),
+        return await(VertxUtil.kafkaFutureToVertxFuture(reconciliation, vertx, "describeConfigs", brokerAdminClient.describeConfigs(singletonList(resource)).values().get(resource)),
                 30, TimeUnit.SECONDS,
             error -> new ForceableProblem("Error getting broker logging", error)
         );
@@ -730,12 +931,12 @@ public class KafkaRoller {
         AlterConfigsResult alterConfigResult = ac.incrementalAlterConfigs(updatedConfig);
         KafkaFuture<Void> brokerConfigFuture = alterConfigResult.values().get(Util.getBrokersConfig(podId));
         KafkaFuture<Void> brokerLoggingConfigFuture = alterConfigResult.values().get(Util.getBrokersLogging(podId));
-        await(VertxUtil.kafkaFutureToVertxFuture(reconciliation, vertx, brokerConfigFuture), 30, TimeUnit.SECONDS,
+        await(VertxUtil.kafkaFutureToVertxFuture(reconciliation, vertx, "incrementalAlterConfigs", brokerConfigFuture), 30, TimeUnit.SECONDS,
             error -> {
                 LOGGER.errorCr(reconciliation, "Error updating broker configuration for pod {}", nodeRef, error);
                 return new ForceableProblem("Error updating broker configuration for pod " + nodeRef, error);
             });
-        await(VertxUtil.kafkaFutureToVertxFuture(reconciliation, vertx, brokerLoggingConfigFuture), 30, TimeUnit.SECONDS,
+        await(VertxUtil.kafkaFutureToVertxFuture(reconciliation, vertx, "incrementalAlterConfigs", brokerLoggingConfigFuture), 30, TimeUnit.SECONDS,
             error -> {
                 LOGGER.errorCr(reconciliation, "Error updating broker logging configuration pod {}", nodeRef, error);
                 return new ForceableProblem("Error updating broker logging configuration pod " + nodeRef, error);
@@ -800,21 +1001,52 @@ public class KafkaRoller {
         }
     }
 
+    /**
+     * Checks whether the node can be rolled. When parallel rolling is enabled, the brokers from the same batch are
+     * checked against a snapshot of the brokers being restarted, taken under a lock. The lock is not held while the
+     * checks wait for the Kafka Admin API or the Kafka Agents. A broker which passes the check is added to the brokers
+     * being restarted only if no other broker was added since the snapshot was taken. Otherwise, the check is repeated
+     * with the new snapshot. The broker is then considered offline by the checks of the other brokers until it is
+     * rolled.
+     */
     private boolean canRoll(int nodeId, boolean isController, boolean isBroker, long timeout, TimeUnit unit, boolean ignoreSslError, RestartContext restartContext)
             throws ForceableProblem, InterruptedException, UnforceableProblem {
+        while (true) {
+            Set<Integer> unavailableBrokers;
+            synchronized (restartingBrokers) {
+                unavailableBrokers = Set.copyOf(restartingBrokers);
+            }
+
+            boolean canRoll = checkCanRoll(nodeId, isController, isBroker, timeout, unit, ignoreSslError, restartContext, unavailableBrokers);
+
+            if (!canRoll || !isBroker || batchExecutor == null) {
+                return canRoll;
+            }
+
+            synchronized (restartingBrokers) {
+                // Brokers which finished their restart in the meantime make the check only more conservative
+                if (unavailableBrokers.containsAll(restartingBrokers)) {
+                    restartingBrokers.add(nodeId);
+                    return true;
+                }
+            }
+
+            LOGGER.debugCr(reconciliation, "Other brokers started restarting while checking whether broker {} can be rolled. The check will be repeated.", nodeId);
+        }
+    }
+
+    private boolean checkCanRoll(int nodeId, boolean isController, boolean isBroker, long timeout, TimeUnit unit, boolean ignoreSslError, RestartContext restartContext, Set<Integer> unavailableBrokers)
+            throws ForceableProblem, InterruptedException, UnforceableProblem {
         try {
             if (isBroker && isController) {
                 boolean canRollController = await(restartContext.quorumCheck.canRollController(nodeId), timeout, unit,
                         t -> new UnforceableProblem("An error while trying to determine the possibility of updating Kafka controller pods", t));
-                boolean canRollBroker = await(availability(brokerAdminClient).canRoll(nodeId), timeout, unit,
-                        t -> new ForceableProblem("An error while trying to determine the possibility of updating Kafka broker pods", t));
-                return canRollController && canRollBroker;
+                return canRollController && canRollBroker(nodeId, timeout, unit, unavailableBrokers);
             } else if (isController) {
                 return await(restartContext.quorumCheck.canRollController(nodeId), timeout, unit,
                         t -> new UnforceableProblem("An error while trying to determine the possibility of updating Kafka controller pods", t));
             } else {
-                return await(availability(brokerAdminClient).canRoll(nodeId), timeout, unit,
-                        t -> new ForceableProblem("An error while trying to determine the possibility of updating Kafka broker pods", t));
+                return canRollBroker(nodeId, timeout, unit, unavailableBrokers);
             }
         } catch (ForceableProblem | UnforceableProblem e) {
             // If we're not able to connect then roll
@@ -827,6 +1059,110 @@ public class KafkaRoller {
         }
     }
 
+    /**
+     * Checks whether the broker can be rolled without affecting the availability of the partitions. The health
+     * reported by the Kafka Agents is used first as it is much cheaper than describing all topics hosted by the broker.
+     * When the health does not show it is safe to roll the broker, the full check using the Admin API is used.
+     */
+    private boolean canRollBroker(int nodeId, long timeout, TimeUnit unit, Set<Integer> unavailableBrokers) throws ForceableProblem, InterruptedException {
+        if (unavailableBrokers.isEmpty() && healthAllowsRoll(nodeId, timeout, unit)) {
+            LOGGER.debugCr(reconciliation, "Broker {} can be rolled according to the health reported by the Kafka Agents", nodeId);
+            return true;
+        }
+
+        return await(availability(brokerAdminClient, unavailableBrokers).canRoll(nodeId), timeout, unit,
+                t -> new ForceableProblem("An error while trying to determine the possibility of updating Kafka broker pods", t));
+    }
+
+    /**
+     * Fast path of the broker availability check based on the /v1/health endpoint of the Kafka Agents. Rolling any
+     * single broker is safe when every partition has more in-sync replicas than its min.insync.replicas. The brokers
+     * report this for the partitions they lead and the active controller reports the partitions without a leader.
+     * The brokers are queried in parallel. The controller-only nodes are queried only when none of the brokers is the
+     * active controller. So the fast path passes only when:
+     *   - no other brokers are being restarted at the same time (checked by the caller),
+     *   - all brokers in the cluster report no partitions at or under their min.insync.replicas, and
+     *   - the active controller reports no offline partitions.
+     * Any other result, including errors and nodes running older agents, means that the full check has to be used.
+     *
+     * @param nodeId    ID of the broker which should be rolled
+     * @param timeout   Timeout for getting the brokers in the cluster
+     * @param unit      Unit of the timeout
+     *
+     * @return  True if the health shows the broker can be rolled. False if the full check should be used.
+     */
+    /* test */ boolean healthAllowsRoll(int nodeId, long timeout, TimeUnit unit) throws InterruptedException {
+        try {
+            KafkaAgentClient agentClient = kafkaAgentClient();
+            Map<Integer, BrokerHealth> health = nodesHealth(agentClient, nodes.stream().filter(NodeRef::broker).toList(), timeout, unit);
+
+            if (health.values().stream().noneMatch(BrokerHealth::isActiveController)) {
+                health.putAll(nodesHealth(agentClient, nodes.stream().filter(node -> !node.broker()).toList(), timeout, unit));
+            }
+
+            if (health.values().stream().noneMatch(BrokerHealth::isActiveControllerWithoutOfflinePartitions)) {
+                LOGGER.debugCr(reconciliation, "Active controller reporting no offline partitions was not found");
+                return false;
+            }
+
+            // The nodes being rolled might be only a subset of the cluster. So we have to make sure all brokers reported their health.
+            Collection<Node> brokers = await(VertxUtil.kafkaFutureToVertxFuture(reconciliation, vertx, "describeCluster", brokerAdminClient.describeCluster().nodes()), timeout, unit,
+                    t -> new ForceableProblem("Error getting the brokers in the cluster", t));
+
+            for (Node broker : brokers) {
+                BrokerHealth brokerHealth = health.get(broker.id());
+
+                if (brokerHealth == null || !brokerHealth.hasIsrHeadroom()) {
+                    LOGGER.debugCr(reconciliation, "Health of broker {} does not allow rolling broker {}: {}", broker.id(), nodeId, brokerHealth);
+                    return false;
+                }
+            }
+
+            return true;
+        } catch (FatalProblem | ForceableProblem | ExecutionException | TimeoutException | RuntimeException e) {
+            LOGGER.debugCr(reconciliation, "Failed to check the health of the brokers before rolling broker {}", nodeId, e);
+            return false;
+        }
+    }
+
+    /**
+     * Gets the health of the nodes from their Kafka Agents in parallel.
+     *
+     * @param agentClient   Kafka Agent client
+     * @param nodes         Nodes which should be queried
+     * @param timeout       Timeout for getting the health
+     * @param unit          Unit of the timeout
+     *
+     * @return  Map with the health of the nodes by their node ID
+     *
+     * @throws ForceableProblem When the health of any of the nodes is not available
+     */
+    private Map<Integer, BrokerHealth> nodesHealth(KafkaAgentClient agentClient, List<NodeRef> nodes, long timeout, TimeUnit unit)
+            throws ForceableProblem, InterruptedException, ExecutionException, TimeoutException {
+        Duration requestTimeout = Duration.ofMillis(unit.toMillis(timeout));
+        Map<NodeRef, CompletableFuture<BrokerHealth>> futures = new HashMap<>(nodes.size());
+
+        for (NodeRef node : nodes) {
+            futures.put(node, agentClient.getBrokerHealth(node.podName(), requestTimeout));
+        }
+
+        CompletableFuture.allOf(futures.values().toArray(new CompletableFuture[0])).get(timeout, unit);
+
+        Map<Integer, BrokerHealth> health = new HashMap<>(nodes.size());
+
+        for (Map.Entry<NodeRef, CompletableFuture<BrokerHealth>> future : futures.entrySet()) {
+            BrokerHealth nodeHealth = future.getValue().join();
+
+            if (nodeHealth == null) {
+                throw new ForceableProblem("Health of node " + future.getKey() + " is not available");
+            }
+
+            health.put(future.getKey().nodeId(), nodeHealth);
+        }
+
+        return health;
+    }
+
     /**
      * Synchronously restart the given pod
      * by deleting it and letting it be recreated by K8s, then synchronously wait for it to be ready.
@@ -841,6 +1177,7 @@ public class KafkaRoller {
         String podName = pod.getMetadata().getName();
         LOGGER.debugCr(reconciliation, "Rolling pod {}", podName);
         await(restart(pod, restartContext), timeout, unit, e -> new UnforceableProblem("Error while trying to restart pod " + podName + " to become ready", e));
+        restartedPods.incrementAndGet();
         awaitReadiness(pod, timeout, unit);
     }
 
@@ -935,8 +1272,8 @@ public class KafkaRoller {
         return new KafkaQuorumCheck(reconciliation, ac, vertx, controllerQuorumFetchTimeoutMs);
     }
 
-    /* test */ KafkaAvailability availability(Admin ac) {
-        return new KafkaAvailability(reconciliation, ac);
+    /* test */ KafkaAvailability availability(Admin ac, Set<Integer> unavailableBrokers) {
+        return new KafkaAvailability(reconciliation, ac, partitionIndex, unavailableBrokers);
     }
     
     /**
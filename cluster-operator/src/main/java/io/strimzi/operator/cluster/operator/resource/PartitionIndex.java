@@ -0,0 +1,550 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import io.strimzi.operator.cluster.operator.VertxUtil;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.ConfigEntry;
+import org.apache.kafka.clients.admin.ListTopicsOptions;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.apache.kafka.common.config.ConfigResource;
+import org.apache.kafka.common.config.TopicConfig;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Index of the partition replicas hosted by the brokers of a Kafka cluster. It is used by the checks which need to know
+ * which partitions are hosted by a given broker (such as the check whether a broker can be rolled or whether a broker
+ * can be scaled down) so that the metadata of all topics in the cluster do not need to be described again for every
+ * check.
+ *
+ * The index is built once per reconciliation. The topics are described in pages and only the replica assignments and
+ * ISRs are kept from the topic descriptions. Each refresh lists the topic names and describes only the topics which
+ * were created since the previous refresh. Before a broker is checked, the topics hosted by the broker are described
+ * again, so that the checks use the current ISRs. To see also the partitions which were added or reassigned to the
+ * broker since the index was built, all topics are described again when they were last described longer than the full
+ * refresh interval ago. Only the configurations of the topics hosted by the checked broker are described again.
+ *
+ * The operations of the index are serialized. Each operation starts only once the previous operation completed, so
+ * the state of the index is never updated concurrently. The operations might run on different threads (the roller
+ * threads and the Vert.x event loops completing the Kafka Admin API calls) and the state is handed over between them
+ * through the completion of the Vert.x futures. So the state should be read only from the callbacks of the futures
+ * returned by the operations. The index should not be shared between reconciliations.
+ */
+public class PartitionIndex {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(PartitionIndex.class.getName());
+
+    /**
+     * Value of the min.insync.replicas for topics without this option configured or with its value not loaded yet
+     */
+    /* test */ static final int NO_MIN_ISR = -1;
+
+    /**
+     * Default number of topics described in a single request
+     */
+    /* test */ static final int DEFAULT_PAGE_SIZE = 1_000;
+
+    /**
+     * Default interval after which all topics are described again before a broker is checked
+     */
+    /* test */ static final long DEFAULT_FULL_REFRESH_INTERVAL_MS = 60_000L;
+
+    private final Reconciliation reconciliation;
+    private final Vertx vertx;
+    private final int pageSize;
+    private final long fullRefreshIntervalNanos;
+
+    private final Map<String, Topic> topicsByName = new HashMap<>();
+    private final List<Topic> topicsById = new ArrayList<>();
+    private final BitSet usedIds = new BitSet();
+    private final Map<Integer, BitSet> topicsByBroker = new HashMap<>();
+
+    private Future<?> lastOperation = Future.succeededFuture();
+    private long lastFullRefreshNanos;
+    private boolean fullyRefreshed = false;
+
+    /**
+     * Constructs the partition index
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param vertx             Vert.x instance
+     */
+    public PartitionIndex(Reconciliation reconciliation, Vertx vertx) {
+        this(reconciliation, vertx, DEFAULT_PAGE_SIZE, DEFAULT_FULL_REFRESH_INTERVAL_MS);
+    }
+
+    /**
+     * Constructs the partition index
+     *
+     * @param reconciliation            Reconciliation marker
+     * @param vertx                     Vert.x instance
+     * @param pageSize                  Maximal number of topics described in a single request
+     * @param fullRefreshIntervalMs     Interval after which all topics are described again before a broker is checked
+     */
+    /* test */ PartitionIndex(Reconciliation reconciliation, Vertx vertx, int pageSize, long fullRefreshIntervalMs) {
+        this.reconciliation = reconciliation;
+        this.vertx = vertx;
+        this.pageSize = pageSize;
+        this.fullRefreshIntervalNanos = TimeUnit.MILLISECONDS.toNanos(fullRefreshIntervalMs);
+    }
+
+    /**
+     * Refreshes the index. Topics which were deleted are removed from the index and topics which were created are
+     * described and added to the index. When the index is refreshed for the first time, all topics are described.
+     *
+     * @param admin     Kafka Admin client
+     *
+     * @return  Future which completes with this index once it is refreshed
+     */
+    public Future<PartitionIndex> refresh(Admin admin) {
+        return serialize(() -> refreshTopics(admin).map(this));
+    }
+
+    /**
+     * Refreshes the index and describes again the topics with replicas on the given broker to get their current
+     * partitions, replica assignments and ISRs. Partitions might have been also added to the other topics or
+     * reassigned to the broker (for example by a Cruise Control rebalance) since the previous refresh. So when all
+     * topics were last described longer than the full refresh interval ago, all topics are described again instead.
+     * The min.insync.replicas configuration is described again only for the topics with replicas on the given broker.
+     *
+     * @param admin     Kafka Admin client
+     * @param brokerId  ID of the broker
+     *
+     * @return  Future which completes with the topics with replicas on the given broker
+     */
+    Future<List<Topic>> refreshBroker(Admin admin, int brokerId) {
+        return serialize(() -> refreshTopics(admin)
+                .compose(newTopics -> {
+                    if (isFullRefreshDue()) {
+                        return describeKnownTopics(admin, newTopics);
+                    } else {
+                        List<String> topicsOnBroker = topicNamesOnBroker(brokerId);
+                        topicsOnBroker.removeAll(newTopics);
+
+                        LOGGER.debugCr(reconciliation, "Describing {} topics hosted by broker {}", topicsOnBroker.size(), brokerId);
+                        return describeTopics(admin, topicsOnBroker);
+                    }
+                })
+                .compose(i -> describeMinIsr(admin, topicNamesOnBroker(brokerId)))
+                .map(i -> topicsOnBroker(brokerId)));
+    }
+
+    /**
+     * Refreshes the index and describes again all topics in the cluster to get their current ISRs and
+     * min.insync.replicas configuration. This is used to plan operations involving many brokers at once, for which
+     * describing the topics broker by broker would be more expensive.
+     *
+     * @param admin     Kafka Admin client
+     *
+     * @return  Future which completes with all topics in the cluster
+     */
+    Future<List<Topic>> refreshAll(Admin admin) {
+        return serialize(() -> refreshTopics(admin)
+                .compose(newTopics -> describeKnownTopics(admin, newTopics))
+                .compose(i -> describeMinIsr(admin, new ArrayList<>(topicsByName.keySet())))
+                .map(i -> new ArrayList<>(topicsByName.values())));
+    }
+
+    /**
+     * @return  Set with the IDs of the brokers which host at least one partition replica
+     */
+    public Set<Integer> brokersInUse() {
+        return new HashSet<>(topicsByBroker.keySet());
+    }
+
+    /**
+     * Counts the partition replicas hosted by a broker. The index is not refreshed, so it should be called only after
+     * the index was refreshed in the current reconciliation.
+     *
+     * @param brokerId  ID of the broker
+     *
+     * @return  Number of partition replicas hosted by the broker
+     */
+    int replicaCount(int brokerId) {
+        int count = 0;
+
+        for (Topic topic : topicsOnBroker(brokerId)) {
+            for (int[] replicas : topic.replicas) {
+                for (int replica : replicas) {
+                    if (replica == brokerId) {
+                        count++;
+                        break;
+                    }
+                }
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * @return  Number of topics in the index
+     */
+    /* test */ int size() {
+        return topicsByName.size();
+    }
+
+    /**
+     * Runs the operation once all previously started operations complete to make sure the operations do not
+     * update the index concurrently.
+     *
+     * @param operation     Operation which should be run
+     *
+     * @return  Future with the result of the operation
+     *
+     * @param <T>   Type of the result
+     */
+    private synchronized <T> Future<T> serialize(Supplier<Future<T>> operation) {
+        Future<T> result = lastOperation.transform(i -> operation.get());
+        lastOperation = result;
+        return result;
+    }
+
+    /**
+     * Lists the topics in the cluster, removes the deleted topics from the index and describes the new topics
+     *
+     * @param admin     Kafka Admin client
+     *
+     * @return  Future which completes with the names of the new topics once they are described
+     */
+    private Future<Set<String>> refreshTopics(Admin admin) {
+        return VertxUtil.kafkaFutureToVertxFuture(reconciliation, vertx, "listTopics", admin.listTopics(new ListTopicsOptions().listInternal(true)).names())
+                .compose(names -> {
+                    LOGGER.debugCr(reconciliation, "Got {} topic names", names.size());
+
+                    for (String name : new ArrayList<>(topicsByName.keySet())) {
+                        if (!names.contains(name)) {
+                            LOGGER.traceCr(reconciliation, "Removing deleted topic {} from the partition index", name);
+                            remove(topicsByName.get(name));
+                        }
+                    }
+
+                    // When the index is empty, all topics are new and describing them is a full refresh
+                    boolean fullRefresh = topicsByName.isEmpty();
+                    long started = System.nanoTime();
+
+                    Set<String> newTopics = new HashSet<>();
+                    for (String name : names) {
+                        if (!topicsByName.containsKey(name)) {
+                            newTopics.add(name);
+                        }
+                    }
+
+                    LOGGER.debugCr(reconciliation, "Describing {} new topics", newTopics.size());
+                    return describeTopics(admin, new ArrayList<>(newTopics))
+                            .map(i -> {
+                                if (fullRefresh) {
+                                    fullRefreshed(started);
+                                }
+
+                                return newTopics;
+                            });
+                });
+    }
+
+    /**
+     * Describes again the topics which were already in the index before the last refresh
+     *
+     * @param admin         Kafka Admin client
+     * @param newTopics     Names of the topics which were described by the last refresh and do not need to be
+     *                      described again
+     *
+     * @return  Future which completes when all topics are described
+     */
+    private Future<Void> describeKnownTopics(Admin admin, Set<String> newTopics) {
+        long started = System.nanoTime();
+        List<String> knownTopics = new ArrayList<>(topicsByName.size());
+        for (String name : topicsByName.keySet()) {
+            if (!newTopics.contains(name)) {
+                knownTopics.add(name);
+            }
+        }
+
+        LOGGER.debugCr(reconciliation, "Describing all {} known topics", knownTopics.size());
+        return describeTopics(admin, knownTopics)
+                .onSuccess(i -> fullRefreshed(started));
+    }
+
+    /**
+     * @return  True if all topics were never described or were last described longer than the full refresh interval
+     *          ago. False otherwise.
+     */
+    private boolean isFullRefreshDue() {
+        return !fullyRefreshed || System.nanoTime() - lastFullRefreshNanos >= fullRefreshIntervalNanos;
+    }
+
+    /**
+     * Records that all topics were described
+     *
+     * @param started   Time in nanoseconds when describing the topics started
+     */
+    private void fullRefreshed(long started) {
+        fullyRefreshed = true;
+        lastFullRefreshNanos = started;
+    }
+
+    /**
+     * Describes the topics page by page and updates the index with their partitions
+     *
+     * @param admin     Kafka Admin client
+     * @param names     Names of the topics which should be described
+     *
+     * @return  Future which completes when all topics are described
+     */
+    private Future<Void> describeTopics(Admin admin, List<String> names) {
+        Future<Void> result = Future.succeededFuture();
+
+        for (int from = 0; from < names.size(); from += pageSize) {
+            List<String> page = names.subList(from, Math.min(from + pageSize, names.size()));
+
+            result = result.compose(i -> VertxUtil.kafkaFutureToVertxFuture(reconciliation, vertx, "describeTopics", admin.describeTopics(page).allTopicNames()))
+                    .compose(descriptions -> {
+                        LOGGER.debugCr(reconciliation, "Got topic descriptions for {} topics", page.size());
+
+                        for (String name : page) {
+                            TopicDescription description = descriptions.get(name);
+
+                            if (description != null) {
+                                LOGGER.traceCr(reconciliation, description);
+                                update(description);
+                            }
+                        }
+
+                        return Future.succeededFuture();
+                    });
+        }
+
+        return result;
+    }
+
+    /**
+     * Describes the configurations of the topics page by page and updates their min.insync.replicas
+     *
+     * @param admin     Kafka Admin client
+     * @param names     Names of the topics whose configuration should be described
+     *
+     * @return  Future which completes when all topic configurations are described
+     */
+    private Future<Void> describeMinIsr(Admin admin, List<String> names) {
+        Future<Void> result = Future.succeededFuture();
+
+        for (int from = 0; from < names.size(); from += pageSize) {
+            List<ConfigResource> page = new ArrayList<>(Math.min(pageSize, names.size() - from));
+            for (String name : names.subList(from, Math.min(from + pageSize, names.size()))) {
+                page.add(new ConfigResource(ConfigResource.Type.TOPIC, name));
+            }
+
+            result = result.compose(i -> VertxUtil.kafkaFutureToVertxFuture(reconciliation, vertx, "describeConfigs", admin.describeConfigs(page).all()))
+                    .compose(configs -> {
+                        LOGGER.debugCr(reconciliation, "Got topic configs for {} topics", page.size());
+
+                        for (Map.Entry<ConfigResource, Config> config : configs.entrySet()) {
+                            Topic topic = topicsByName.get(config.getKey().name());
+
+                            if (topic != null) {
+                                topic.minIsr = minIsr(topic.name, config.getValue());
+                            }
+                        }
+
+                        return Future.succeededFuture();
+                    });
+        }
+
+        return result;
+    }
+
+    private int minIsr(String topicName, Config config) {
+        ConfigEntry minIsrConfig = config.get(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG);
+
+        if (minIsrConfig != null && minIsrConfig.value() != null) {
+            int minIsr = Integer.parseInt(minIsrConfig.value());
+            LOGGER.debugCr(reconciliation, "{} has {}={}.", topicName, TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr);
+            return minIsr;
+        } else {
+            LOGGER.debugCr(reconciliation, "{} lacks {}.", topicName, TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG);
+            return NO_MIN_ISR;
+        }
+    }
+
+    /**
+     * Adds the topic to the index or updates its partitions if it is already indexed
+     *
+     * @param description   Topic description
+     */
+    private void update(TopicDescription description) {
+        Topic topic = topicsByName.get(description.name());
+
+        if (topic == null) {
+            int id = usedIds.nextClearBit(0);
+            usedIds.set(id);
+
+            topic = new Topic(id, description.name());
+            topicsByName.put(topic.name, topic);
+
+            if (id == topicsById.size()) {
+                topicsById.add(topic);
+            } else {
+                topicsById.set(id, topic);
+            }
+        } else {
+            unindexReplicas(topic);
+        }
+
+        List<TopicPartitionInfo> partitions = description.partitions();
+        topic.partitions = new int[partitions.size()];
+        topic.replicas = new int[partitions.size()][];
+        topic.isr = new int[partitions.size()][];
+
+        for (int i = 0; i < partitions.size(); i++) {
+            TopicPartitionInfo partition = partitions.get(i);
+            topic.partitions[i] = partition.partition();
+            topic.replicas[i] = nodeIds(partition.replicas());
+            topic.isr[i] = nodeIds(partition.isr());
+
+            for (int broker : topic.replicas[i]) {
+                topicsByBroker.computeIfAbsent(broker, b -> new BitSet()).set(topic.id);
+            }
+        }
+    }
+
+    private void remove(Topic topic) {
+        unindexReplicas(topic);
+        topicsByName.remove(topic.name);
+        topicsById.set(topic.id, null);
+        usedIds.clear(topic.id);
+    }
+
+    private void unindexReplicas(Topic topic) {
+        for (int[] replicas : topic.replicas) {
+            for (int broker : replicas) {
+                BitSet topics = topicsByBroker.get(broker);
+
+                if (topics != null) {
+                    topics.clear(topic.id);
+
+                    if (topics.isEmpty()) {
+                        topicsByBroker.remove(broker);
+                    }
+                }
+            }
+        }
+    }
+
+    private static int[] nodeIds(List<Node> nodes) {
+        int[] ids = new int[nodes.size()];
+
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = nodes.get(i).id();
+        }
+
+        return ids;
+    }
+
+    private List<String> topicNamesOnBroker(int brokerId) {
+        List<Topic> topics = topicsOnBroker(brokerId);
+        List<String> names = new ArrayList<>(topics.size());
+
+        for (Topic topic : topics) {
+            names.add(topic.name);
+        }
+
+        return names;
+    }
+
+    private List<Topic> topicsOnBroker(int brokerId) {
+        BitSet ids = topicsByBroker.get(brokerId);
+
+        if (ids == null) {
+            return List.of();
+        }
+
+        List<Topic> topics = new ArrayList<>(ids.cardinality());
+        for (int id = ids.nextSetBit(0); id >= 0; id = ids.nextSetBit(id + 1)) {
+            topics.add(topicsById.get(id));
+        }
+
+        return topics;
+    }
+
+    /**
+     * Partitions of a single topic. The arrays are indexed by the position of the partition in the topic description.
+     */
+    static class Topic {
+        private final int id;
+        private final String name;
+        private int minIsr = NO_MIN_ISR;
+        private int[] partitions = new int[0];
+        private int[][] replicas = new int[0][];
+        private int[][] isr = new int[0][];
+
+        private Topic(int id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+
+        /**
+         * @return  Name of the topic
+         */
+        String name() {
+            return name;
+        }
+
+        /**
+         * @return  The min.insync.replicas of the topic or -1 if it is not configured
+         */
+        int minIsr() {
+            return minIsr;
+        }
+
+        /**
+         * @return  Number of partitions of the topic
+         */
+        int partitionCount() {
+            return partitions.length;
+        }
+
+        /**
+         * @param index     Position of the partition
+         *
+         * @return  Partition number
+         */
+        int partition(int index) {
+            return partitions[index];
+        }
+
+        /**
+         * @param index     Position of the partition
+         *
+         * @return  IDs of the brokers hosting the partition replicas. The array should not be modified.
+         */
+        int[] replicas(int index) {
+            return replicas[index];
+        }
+
+        /**
+         * @param index     Position of the partition
+         *
+         * @return  IDs of the brokers in the ISR of the partition. The array should not be modified.
+         */
+        int[] isr(int index) {
+            return isr[index];
+        }
+    }
+}
@@ -222,6 +222,11 @@ public class ResourceOperatorSupplier {
      */
     public final BrokersInUseCheck brokersInUseCheck;
 
+    /**
+     * Registry of the HTTP clients used for the Kafka Connect and Cruise Control REST APIs
+     */
+    public final HttpClientRegistry httpClientRegistry;
+
     /**
      * Constructor
      *
@@ -414,5 +419,6 @@ public class ResourceOperatorSupplier {
         this.restartEventsPublisher = restartEventsPublisher;
         this.sharedEnvironmentProvider = sharedEnvironmentProvider;
         this.brokersInUseCheck = brokersInUseCheck;
+        this.httpClientRegistry = new HttpClientRegistry(metricsProvider);
     }
 }
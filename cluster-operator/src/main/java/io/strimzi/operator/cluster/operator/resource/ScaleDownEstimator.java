@@ -0,0 +1,138 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import io.strimzi.api.kafka.model.kafka.cruisecontrol.KafkaAutoRebalanceScaleDownEstimate;
+import io.strimzi.api.kafka.model.kafka.cruisecontrol.KafkaAutoRebalanceScaleDownEstimateBuilder;
+import io.strimzi.operator.cluster.operator.VertxUtil;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.LogDirDescription;
+import org.apache.kafka.clients.admin.ReplicaInfo;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Estimates how much data has to be moved off the brokers being removed before a blocked scale-down can proceed. The
+ * number of partition replicas is taken from the partition index loaded by the broker scale-down check. The size of the
+ * replicas is taken from the log directories of the brokers being removed. Only the brokers being removed are
+ * described, so the estimate is cheap even for large clusters.
+ *
+ * The estimated duration assumes that the data are copied off the brokers being removed in parallel, each of them
+ * limited by the replication throttle. It is only a rough estimate which ignores the leadership of the partitions and
+ * the load of the brokers receiving the replicas.
+ */
+public class ScaleDownEstimator {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(ScaleDownEstimator.class.getName());
+
+    private final Reconciliation reconciliation;
+    private final Vertx vertx;
+
+    /**
+     * Constructs the scale-down estimator
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param vertx             Vert.x instance
+     */
+    public ScaleDownEstimator(Reconciliation reconciliation, Vertx vertx) {
+        this.reconciliation = reconciliation;
+        this.vertx = vertx;
+    }
+
+    /**
+     * Estimates the data which have to be moved off the brokers being removed
+     *
+     * @param admin                     Kafka Admin client
+     * @param partitionIndex            Partition index which was already refreshed in this reconciliation
+     * @param brokers                   IDs of the brokers being removed
+     * @param replicationThrottle       Replication throttle in bytes per second or null if the replication is not throttled
+     *
+     * @return  Future with the estimate
+     */
+    public Future<KafkaAutoRebalanceScaleDownEstimate> estimate(Admin admin, PartitionIndex partitionIndex, Set<Integer> brokers, Long replicationThrottle) {
+        Map<Integer, Integer> replicas = new HashMap<>(brokers.size());
+        for (int broker : brokers) {
+            replicas.put(broker, partitionIndex.replicaCount(broker));
+        }
+
+        return VertxUtil.kafkaFutureToVertxFuture(reconciliation, vertx, "describeLogDirs", admin.describeLogDirs(brokers).allDescriptions())
+                .map(logDirs -> {
+                    Map<Integer, Long> sizes = new HashMap<>(brokers.size());
+
+                    for (Map.Entry<Integer, Map<String, LogDirDescription>> broker : logDirs.entrySet()) {
+                        sizes.put(broker.getKey(), dataSize(broker.getValue()));
+                    }
+
+                    KafkaAutoRebalanceScaleDownEstimate estimate = estimate(replicas, sizes, replicationThrottle);
+                    LOGGER.debugCr(reconciliation, "Scale-down estimate: {}", estimate);
+                    return estimate;
+                });
+    }
+
+    /**
+     * Builds the estimate from the number of partition replicas and the size of the data on the brokers being removed
+     *
+     * @param replicas                  Number of partition replicas hosted by each of the brokers being removed
+     * @param sizes                     Size of the data hosted by each of the brokers being removed in bytes
+     * @param replicationThrottle       Replication throttle in bytes per second or null if the replication is not throttled
+     *
+     * @return  The estimate
+     */
+    /* test */ static KafkaAutoRebalanceScaleDownEstimate estimate(Map<Integer, Integer> replicas, Map<Integer, Long> sizes, Long replicationThrottle) {
+        List<Integer> removalOrder = new ArrayList<>(replicas.keySet());
+        removalOrder.sort(Comparator.<Integer>comparingLong(broker -> sizes.getOrDefault(broker, 0L)).thenComparing(Comparator.naturalOrder()));
+
+        int partitionReplicas = 0;
+        long dataBytes = 0;
+        long maxBrokerBytes = 0;
+
+        for (int broker : removalOrder) {
+            long size = sizes.getOrDefault(broker, 0L);
+
+            partitionReplicas += replicas.get(broker);
+            dataBytes += size;
+            maxBrokerBytes = Math.max(maxBrokerBytes, size);
+        }
+
+        return new KafkaAutoRebalanceScaleDownEstimateBuilder()
+                .withRemovalOrder(removalOrder)
+                .withPartitionReplicas(partitionReplicas)
+                .withDataBytes(dataBytes)
+                .withEstimatedDurationSeconds(replicationThrottle != null && replicationThrottle > 0
+                        ? (maxBrokerBytes + replicationThrottle - 1) / replicationThrottle
+                        : null)
+                .build();
+    }
+
+    /**
+     * Sums the size of the replicas in the log directories of a broker. Future replicas (replicas being moved between
+     * the log directories of the broker) are not counted as they will be discarded with the broker.
+     *
+     * @param logDirs   Log directories of the broker
+     *
+     * @return  Size of the replicas in bytes
+     */
+    private static long dataSize(Map<String, LogDirDescription> logDirs) {
+        long size = 0;
+
+        for (LogDirDescription logDir : logDirs.values()) {
+            for (ReplicaInfo replica : logDir.replicaInfos().values()) {
+                if (!replica.isFuture()) {
+                    size += replica.size();
+                }
+            }
+        }
+
+        return size;
+    }
+}
@@ -6,6 +6,8 @@ package io.strimzi.operator.cluster.operator.resource.cruisecontrol;
 
 import io.strimzi.operator.common.Reconciliation;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -105,6 +107,19 @@ public interface CruiseControlApi {
      */
     CompletableFuture<CruiseControlUserTasksResponse> getUserTaskStatus(Reconciliation reconciliation, String host, int port, String userTaskID);
 
+    /**
+     *  Get the state of multiple tasks (e.g. rebalances) from the Cruise Control server with a single request.
+     *
+     * @param reconciliation The reconciliation marker
+     * @param host The address of the Cruise Control server.
+     * @param port The port the Cruise Control Server is listening on.
+     * @param userTaskIDs These are the unique IDs of previous rebalance requests or other tasks supported by Cruise Control.
+     *                    They are used to retrieve the tasks' current state.
+     * @return A future for the map with the state of the specified tasks. The tasks which are not known to the Cruise
+     *         Control server have an empty state in the map.
+     */
+    CompletableFuture<Map<String, CruiseControlUserTasksResponse>> getUserTasksStatus(Reconciliation reconciliation, String host, int port, Collection<String> userTaskIDs);
+
     /**
      *  Issue a stop command to the Cruise Control server. This will halt any task (e.g. a rebalance) which is currently
      *  in execution.
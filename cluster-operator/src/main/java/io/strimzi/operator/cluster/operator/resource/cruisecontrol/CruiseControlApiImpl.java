@@ -11,6 +11,7 @@ import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.fabric8.kubernetes.api.model.HTTPHeader;
 import io.fabric8.kubernetes.api.model.Secret;
+import io.strimzi.operator.cluster.operator.resource.HttpClientRegistry;
 import io.strimzi.operator.common.CruiseControlUtil;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
@@ -23,10 +24,13 @@ import io.strimzi.operator.common.model.cruisecontrol.CruiseControlHeaders;
 import io.strimzi.operator.common.model.cruisecontrol.CruiseControlParameters;
 import io.strimzi.operator.common.model.cruisecontrol.CruiseControlRebalanceKeys;
 import io.strimzi.operator.common.model.cruisecontrol.CruiseControlUserTaskStatus;
+import io.strimzi.operator.common.tracing.OperatorTracing;
 
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.TrustManagerFactory;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.ConnectException;
 import java.net.NoRouteToHostException;
 import java.net.URI;
@@ -35,7 +39,13 @@ import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.net.http.HttpTimeoutException;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
 import static io.strimzi.operator.common.model.cruisecontrol.CruiseControlHeaders.USER_TASK_ID_HEADER;
 
@@ -50,11 +60,13 @@ public class CruiseControlApiImpl implements CruiseControlApi {
      */
     public static final int HTTP_DEFAULT_IDLE_TIMEOUT_SECONDS = -1;
     private static final String STATUS_KEY = "Status";
+    private static final String USER_TASK_ID_KEY = "UserTaskId";
     private final long idleTimeout;
     private final boolean apiSslEnabled;
     private final HTTPHeader authHttpHeader;
     private final PemTrustSet pemTrustSet;
-    private final HttpClient httpClient;
+    private final HttpClientRegistry httpClientRegistry;
+    private final String trustKey;
 
     /**
      * Constructor
@@ -66,11 +78,26 @@ public class CruiseControlApiImpl implements CruiseControlApi {
      * @param apiSslEnabled     Flag indicating if TLS is enabled
      */
     public CruiseControlApiImpl(int idleTimeout, Secret ccSecret, Secret ccApiSecret, Boolean apiAuthEnabled, boolean apiSslEnabled) {
+        this(idleTimeout, ccSecret, ccApiSecret, apiAuthEnabled, apiSslEnabled, new HttpClientRegistry(null));
+    }
+
+    /**
+     * Constructor
+     *
+     * @param idleTimeout           Idle timeout
+     * @param ccSecret              Cruise Control Secret
+     * @param ccApiSecret           Cruise Control API Secret
+     * @param apiAuthEnabled        Flag indicating if authentication is enabled
+     * @param apiSslEnabled         Flag indicating if TLS is enabled
+     * @param httpClientRegistry    Registry of the HTTP clients shared between the API clients
+     */
+    public CruiseControlApiImpl(int idleTimeout, Secret ccSecret, Secret ccApiSecret, Boolean apiAuthEnabled, boolean apiSslEnabled, HttpClientRegistry httpClientRegistry) {
         this.idleTimeout = idleTimeout;
         this.apiSslEnabled = apiSslEnabled;
         this.authHttpHeader = getAuthHttpHeader(apiAuthEnabled, ccApiSecret);
         this.pemTrustSet = new PemTrustSet(ccSecret);
-        this.httpClient = buildHttpClient();
+        this.httpClientRegistry = httpClientRegistry;
+        this.trustKey = apiSslEnabled ? Util.hashStub(pemTrustSet.trustedCertificatesPemBytes()) : null;
     }
 
     @Override
@@ -96,7 +123,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
         LOGGER.traceOp("Request: {}", request);
 
         LOGGER.debugCr(reconciliation, "Sending GET request to {}", path);
-        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+        return send(reconciliation, host, port, request, HttpResponse.BodyHandlers.ofString())
                 .thenCompose(response -> {
                     // send request and handle response
                     LOGGER.traceCr(reconciliation, "Response: {}, body: {}", response, response.body());
@@ -139,9 +166,18 @@ public class CruiseControlApiImpl implements CruiseControlApi {
         }
     }
 
+    private HttpClientRegistry.TargetClient httpClient(String host, int port) {
+        return httpClientRegistry.client(String.format("%s://%s:%d", apiSslEnabled ? "https" : "http", host, port), trustKey, this::buildHttpClient);
+    }
+
+    private <T> CompletableFuture<HttpResponse<T>> send(Reconciliation reconciliation, String host, int port, HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler) {
+        return OperatorTracing.traced(reconciliation, "Cruise Control " + request.uri().getPath(), () -> httpClient(host, port).sendAsync(request, bodyHandler));
+    }
+
     private HttpClient buildHttpClient() {
         try {
-            HttpClient.Builder builder = HttpClient.newBuilder();
+            HttpClient.Builder builder = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_2);
             if (apiSslEnabled) {
                 String trustManagerFactoryAlgorithm = TrustManagerFactory.getDefaultAlgorithm();
                 TrustManagerFactory trustManagerFactory = TrustManagerFactory.getInstance(trustManagerFactoryAlgorithm);
@@ -169,6 +205,14 @@ public class CruiseControlApiImpl implements CruiseControlApi {
         return json;
     }
 
+    private static void closeQuietly(InputStream body) {
+        try {
+            body.close();
+        } catch (IOException e) {
+            LOGGER.traceOp("Failed to close the response body", e);
+        }
+    }
+
     private CompletableFuture<CruiseControlRebalanceResponse> internalRebalance(Reconciliation reconciliation, String host, int port, String path, String userTaskId) {
         HttpRequest.Builder builder = HttpRequest.newBuilder()
                 .uri(URI.create(String.format("%s://%s:%d%s", apiSslEnabled ? "https" : "http", host, port, path)))
@@ -190,15 +234,16 @@ public class CruiseControlApiImpl implements CruiseControlApi {
         LOGGER.traceOp("Request: {}", request);
 
         LOGGER.debugCr(reconciliation, "Sending POST request to {} with userTaskID {}", path, userTaskId);
-        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+        // The optimization proposals can be very large => the body is streamed and only the fields used by the operator are parsed
+        return send(reconciliation, host, port, request, HttpResponse.BodyHandlers.ofInputStream())
                 .thenCompose(response -> {
                     // send request and handle response
-                    LOGGER.traceCr(reconciliation, "Response: {}, body: {}", response, response.body());
+                    LOGGER.traceCr(reconciliation, "Response: {}", response);
                     int statusCode = response.statusCode();
                     String userTaskID = response.headers().firstValue(USER_TASK_ID_HEADER).orElse("");
 
                     if (statusCode == 200 || statusCode == 201) {
-                        JsonNode json = parseToJsonNode(response.body());
+                        JsonNode json = CruiseControlResponseParser.parse(response.body(), CruiseControlResponseParser.REBALANCE_FIELDS);
                         LOGGER.debugCr(reconciliation, "Got {} response to POST request to {} : userTaskID = {}", response.statusCode(), path, userTaskID);
                         if (json.has(CC_REST_API_ERROR_KEY)) {
                             return CompletableFuture.failedFuture(new CruiseControlRestException(
@@ -208,7 +253,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
                             return CompletableFuture.completedFuture(new CruiseControlRebalanceResponse(userTaskID, json));
                         }
                     } else if (statusCode == 202) {
-                        JsonNode json = parseToJsonNode(response.body());
+                        JsonNode json = CruiseControlResponseParser.parse(response.body(), CruiseControlResponseParser.REBALANCE_FIELDS);
                         LOGGER.debugCr(reconciliation, "Got {} response to POST request to {} : userTaskID = {}", response.statusCode(), path, userTaskID);
                         CruiseControlRebalanceResponse ccResponse = new CruiseControlRebalanceResponse(userTaskID, json);
                         if (json.has(CC_REST_API_PROGRESS_KEY)) {
@@ -222,7 +267,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
                         }
                         return CompletableFuture.completedFuture(ccResponse);
                     } else if (statusCode == 500) {
-                        JsonNode json = parseToJsonNode(response.body());
+                        JsonNode json = CruiseControlResponseParser.parse(response.body(), CruiseControlResponseParser.REBALANCE_FIELDS);
                         LOGGER.debugCr(reconciliation, "Got {} response to POST request to {} : userTaskID = {}", response.statusCode(), path, userTaskID);
                         if ((json.has(CC_REST_API_ERROR_KEY))) {
                             String errorString = json.get(CC_REST_API_ERROR_KEY).asText();
@@ -247,6 +292,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
                                             json));
                         }
                     } else {
+                        closeQuietly(response.body());
                         return CompletableFuture.failedFuture(new CruiseControlRestException(
                                 "Unexpected status code " + response.statusCode() + " for request to " + host + ":" + port + path));
                     }
@@ -328,6 +374,81 @@ public class CruiseControlApiImpl implements CruiseControlApi {
 
         String path = pathBuilder.build();
 
+        return userTasks(reconciliation, host, port, path,
+                (userTaskID, json) -> {
+                    ArrayNode userTasks = (ArrayNode) json.get("userTasks");
+                    if (userTasks.isEmpty()) {
+                        // This may happen if:
+                        // 1. Cruise Control restarted so resetting the state because the tasks queue is not persisted
+                        // 2. Task's retention time expired, or the cache has become full
+                        return new CruiseControlUserTasksResponse(userTaskID, OBJECT_MAPPER.createObjectNode());
+                    } else {
+                        JsonNode jsonUserTask = userTasks.get(0);
+                        LOGGER.debugCr(reconciliation, "Got response to GET request to {} : userTaskID = {}, status = {}", path, userTaskID, jsonUserTask.get(STATUS_KEY).asText());
+                        return new CruiseControlUserTasksResponse(userTaskID, userTaskStatusJson(host, port, path, json, jsonUserTask));
+                    }
+                },
+                maxActiveUserTasksReached -> maxActiveUserTasksReached);
+    }
+
+    @Override
+    public CompletableFuture<Map<String, CruiseControlUserTasksResponse>> getUserTasksStatus(Reconciliation reconciliation, String host, int port, Collection<String> userTaskIds) {
+        String path = new PathBuilder(CruiseControlEndpoints.USER_TASKS)
+                .withParameter(CruiseControlParameters.JSON, "true")
+                .withParameter(CruiseControlParameters.FETCH_COMPLETE, "true")
+                .withParameter(CruiseControlParameters.USER_TASK_IDS, new ArrayList<>(userTaskIds))
+                .build();
+
+        return userTasks(reconciliation, host, port, path,
+                (userTaskID, json) -> {
+                    ArrayNode userTasks = (ArrayNode) json.get("userTasks");
+                    Map<String, CruiseControlUserTasksResponse> responses = new HashMap<>(userTaskIds.size());
+
+                    if (userTaskIds.size() == 1 && userTasks.size() == 1) {
+                        // Only the requested task is returned, so there is no need to match it by its ID
+                        responses.put(userTaskIds.iterator().next(), new CruiseControlUserTasksResponse(userTaskID, userTaskStatusJson(host, port, path, json, userTasks.get(0))));
+                    } else {
+                        for (JsonNode jsonUserTask : userTasks) {
+                            responses.put(jsonUserTask.get(USER_TASK_ID_KEY).asText(), new CruiseControlUserTasksResponse(userTaskID, userTaskStatusJson(host, port, path, json, jsonUserTask)));
+                        }
+                    }
+
+                    // The tasks which were not returned are not known to Cruise Control anymore (for example because
+                    // it restarted or because the task retention expired). They get an empty status the same way as in
+                    // getUserTaskStatus(...).
+                    for (String userTaskId : userTaskIds) {
+                        responses.putIfAbsent(userTaskId, new CruiseControlUserTasksResponse(userTaskID, OBJECT_MAPPER.createObjectNode()));
+                    }
+
+                    LOGGER.debugCr(reconciliation, "Got response to GET request to {} with status of {} user tasks", path, userTasks.size());
+                    return responses;
+                },
+                maxActiveUserTasksReached -> {
+                    Map<String, CruiseControlUserTasksResponse> responses = new HashMap<>(userTaskIds.size());
+                    for (String userTaskId : userTaskIds) {
+                        responses.put(userTaskId, maxActiveUserTasksReached);
+                    }
+                    return responses;
+                });
+    }
+
+    /**
+     * Sends the GET request to the user tasks endpoint and handles the response.
+     *
+     * @param reconciliation                The reconciliation marker
+     * @param host                          The address of the Cruise Control server
+     * @param port                          The port the Cruise Control Server is listening on
+     * @param path                          Path of the request including the parameters
+     * @param onUserTasks                   Builds the result from the User-Task-ID header and the JSON response
+     * @param onMaxActiveUserTasksReached   Builds the result when Cruise Control cannot accept more user tasks
+     *
+     * @return  Future with the result
+     *
+     * @param <T>   Type of the result
+     */
+    private <T> CompletableFuture<T> userTasks(Reconciliation reconciliation, String host, int port, String path,
+                                               BiFunction<String, JsonNode, T> onUserTasks,
+                                               Function<CruiseControlUserTasksResponse, T> onMaxActiveUserTasksReached) {
         HttpRequest.Builder builder = HttpRequest.newBuilder()
                 .uri(URI.create(String.format("%s://%s:%d%s", apiSslEnabled ? "https" : "http", host, port, path)))
                 .GET();
@@ -344,7 +465,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
         LOGGER.traceOp("Request: {}", request);
 
         LOGGER.debugCr(reconciliation, "Sending GET request to {}", path);
-        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+        return send(reconciliation, host, port, request, HttpResponse.BodyHandlers.ofString())
                 .thenCompose(response -> {
                     // send request and handle response
                     LOGGER.traceCr(reconciliation, "Response: {}, body: {}", response, response.body());
@@ -352,61 +473,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
                     String userTaskID = response.headers().firstValue(USER_TASK_ID_HEADER).orElse("");
 
                     if (statusCode == 200 || statusCode == 201) {
-                        JsonNode json = parseToJsonNode(response.body());
-                        ArrayNode userTasks = (ArrayNode) json.get("userTasks");
-                        ObjectNode statusJson = OBJECT_MAPPER.createObjectNode();
-                        if (userTasks.isEmpty()) {
-                            // This may happen if:
-                            // 1. Cruise Control restarted so resetting the state because the tasks queue is not persisted
-                            // 2. Task's retention time expired, or the cache has become full
-                            return CompletableFuture.completedFuture(new CruiseControlUserTasksResponse(userTaskID, statusJson));
-                        } else {
-                            JsonNode jsonUserTask = userTasks.get(0);
-                            String taskStatusStr = jsonUserTask.get(STATUS_KEY).asText();
-                            LOGGER.debugCr(reconciliation, "Got {} response to GET request to {} : userTaskID = {}, status = {}", response.statusCode(), path, userTaskID, taskStatusStr);
-                            // This should not be an error with a 200 status but we play it safe
-                            if (jsonUserTask.has(CC_REST_API_ERROR_KEY)) {
-                                return CompletableFuture.failedFuture(new CruiseControlRestException(
-                                        "Error for request: " + host + ":" + port + path + ". Server returned: " +
-                                                json.get(CC_REST_API_ERROR_KEY).asText()));
-                            }
-
-                            statusJson.put(STATUS_KEY, taskStatusStr);
-                            CruiseControlUserTaskStatus taskStatus = CruiseControlUserTaskStatus.lookup(taskStatusStr);
-                            switch (taskStatus) {
-                                case ACTIVE:
-                                    // If the status is ACTIVE there will not be a "summary" so we skip pulling the summary key
-                                    break;
-                                case IN_EXECUTION:
-                                    // Tasks in execution will be rebalance tasks, so their original response will contain the summary of the rebalance they are executing
-                                    // We handle these in the same way as COMPLETED tasks so we drop down to that case.
-                                case COMPLETED:
-                                    // Completed tasks will have the original rebalance proposal summary in their original response
-                                    // The original response is not Json, therefore it needs to be parsed
-                                    JsonNode originalResponse = parseToJsonNode(jsonUserTask.get(
-                                                CruiseControlRebalanceKeys.ORIGINAL_RESPONSE.getKey()).asText());
-                                    statusJson.set(CruiseControlRebalanceKeys.SUMMARY.getKey(),
-                                            originalResponse.get(CruiseControlRebalanceKeys.SUMMARY.getKey()));
-                                    // Extract the load before/after information for the brokers
-                                    JsonNode loadBeforeOptJsonObject = originalResponse.get(CruiseControlRebalanceKeys.LOAD_BEFORE_OPTIMIZATION.getKey());
-                                    if (loadBeforeOptJsonObject != null) {
-                                        statusJson.set(
-                                                CruiseControlRebalanceKeys.LOAD_BEFORE_OPTIMIZATION.getKey(),
-                                                loadBeforeOptJsonObject);
-                                    }
-                                    statusJson.set(
-                                            CruiseControlRebalanceKeys.LOAD_AFTER_OPTIMIZATION.getKey(),
-                                            originalResponse.get(CruiseControlRebalanceKeys.LOAD_AFTER_OPTIMIZATION.getKey()));
-                                    break;
-                                case COMPLETED_WITH_ERROR:
-                                    // Completed with error tasks will have "CompletedWithError" as their original response, which is not Json.
-                                    statusJson.set(CruiseControlRebalanceKeys.SUMMARY.getKey(), jsonUserTask.get(CruiseControlRebalanceKeys.ORIGINAL_RESPONSE.getKey()));
-                                    break;
-                                default:
-                                    throw new IllegalStateException("Unexpected user task status: " + taskStatus);
-                            }
-                            return CompletableFuture.completedFuture(new CruiseControlUserTasksResponse(userTaskID, statusJson));
-                        }
+                        return CompletableFuture.completedFuture(onUserTasks.apply(userTaskID, parseToJsonNode(response.body())));
                     } else if (statusCode == 500) {
                         JsonNode json = parseToJsonNode(response.body());
                         LOGGER.debugCr(reconciliation, "Got {} response to GET request to {} : userTaskID = {}", response.statusCode(), path, userTaskID);
@@ -420,13 +487,13 @@ public class CruiseControlApiImpl implements CruiseControlApi {
                             LOGGER.debugCr(reconciliation, errorString);
                             CruiseControlUserTasksResponse ccResponse = new CruiseControlUserTasksResponse(userTaskID, json);
                             ccResponse.setMaxActiveUserTasksReached(true);
-                            return CompletableFuture.completedFuture(ccResponse);
+                            return CompletableFuture.completedFuture(onMaxActiveUserTasksReached.apply(ccResponse));
                         } else {
-                            return CompletableFuture.failedFuture(new CruiseControlRestException(
+                            return CompletableFuture.<T>failedFuture(new CruiseControlRestException(
                                     "Error for request: " + host + ":" + port + path + ". Server returned: " + errorString));
                         }
                     } else {
-                        return CompletableFuture.failedFuture(new CruiseControlRestException(
+                        return CompletableFuture.<T>failedFuture(new CruiseControlRestException(
                                 "Unexpected status code " + response.statusCode() + " for GET request to " +
                                         host + ":" + port + path));
                     }
@@ -436,6 +503,65 @@ public class CruiseControlApiImpl implements CruiseControlApi {
                 });
     }
 
+    /**
+     * Extracts the status of a single user task from the user tasks response.
+     *
+     * @param host          The address of the Cruise Control server
+     * @param port          The port the Cruise Control Server is listening on
+     * @param path          Path of the request
+     * @param json          The whole user tasks response
+     * @param jsonUserTask  The user task from the response
+     *
+     * @return  JSON with the status of the user task
+     */
+    private ObjectNode userTaskStatusJson(String host, int port, String path, JsonNode json, JsonNode jsonUserTask) {
+        // This should not be an error with a 200 status but we play it safe
+        if (jsonUserTask.has(CC_REST_API_ERROR_KEY)) {
+            throw new CruiseControlRestException(
+                    "Error for request: " + host + ":" + port + path + ". Server returned: " +
+                            json.get(CC_REST_API_ERROR_KEY).asText());
+        }
+
+        ObjectNode statusJson = OBJECT_MAPPER.createObjectNode();
+        String taskStatusStr = jsonUserTask.get(STATUS_KEY).asText();
+        statusJson.put(STATUS_KEY, taskStatusStr);
+        CruiseControlUserTaskStatus taskStatus = CruiseControlUserTaskStatus.lookup(taskStatusStr);
+        switch (taskStatus) {
+            case ACTIVE:
+                // If the status is ACTIVE there will not be a "summary" so we skip pulling the summary key
+                break;
+            case IN_EXECUTION:
+                // Tasks in execution will be rebalance tasks, so their original response will contain the summary of the rebalance they are executing
+                // We handle these in the same way as COMPLETED tasks so we drop down to that case.
+            case COMPLETED:
+                // Completed tasks will have the original rebalance proposal summary in their original response
+                // The original response is not Json, therefore it needs to be parsed
+                JsonNode originalResponse = CruiseControlResponseParser.parse(jsonUserTask.get(
+                            CruiseControlRebalanceKeys.ORIGINAL_RESPONSE.getKey()).asText(), CruiseControlResponseParser.REBALANCE_FIELDS);
+                statusJson.set(CruiseControlRebalanceKeys.SUMMARY.getKey(),
+                        originalResponse.get(CruiseControlRebalanceKeys.SUMMARY.getKey()));
+                // Extract the load before/after information for the brokers
+                JsonNode loadBeforeOptJsonObject = originalResponse.get(CruiseControlRebalanceKeys.LOAD_BEFORE_OPTIMIZATION.getKey());
+                if (loadBeforeOptJsonObject != null) {
+                    statusJson.set(
+                            CruiseControlRebalanceKeys.LOAD_BEFORE_OPTIMIZATION.getKey(),
+                            loadBeforeOptJsonObject);
+                }
+                statusJson.set(
+                        CruiseControlRebalanceKeys.LOAD_AFTER_OPTIMIZATION.getKey(),
+                        originalResponse.get(CruiseControlRebalanceKeys.LOAD_AFTER_OPTIMIZATION.getKey()));
+                break;
+            case COMPLETED_WITH_ERROR:
+                // Completed with error tasks will have "CompletedWithError" as their original response, which is not Json.
+                statusJson.set(CruiseControlRebalanceKeys.SUMMARY.getKey(), jsonUserTask.get(CruiseControlRebalanceKeys.ORIGINAL_RESPONSE.getKey()));
+                break;
+            default:
+                throw new IllegalStateException("Unexpected user task status: " + taskStatus);
+        }
+
+        return statusJson;
+    }
+
     @Override
     @SuppressWarnings("deprecation")
     public CompletableFuture<CruiseControlResponse> stopExecution(Reconciliation reconciliation, String host, int port) {
@@ -458,7 +584,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
         LOGGER.traceOp("Request: {}", request);
 
         LOGGER.debugCr(reconciliation, "Sending POST request to {}", path);
-        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+        return send(reconciliation, host, port, request, HttpResponse.BodyHandlers.ofString())
                 .thenCompose(response -> {
                     // send request and handle response
                     LOGGER.traceCr(reconciliation, "Response: {}, body: {}", response, response.body());
@@ -0,0 +1,93 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource.cruisecontrol;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.api.model.OwnerReference;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Stores the broker load of the Cruise Control optimization proposals in a ConfigMap. The broker load is stored as
+ * minified JSON. When it exceeds the size limit of the ConfigMap, it is stored GZIP compressed and Base64 encoded in
+ * the binary data instead.
+ */
+public final class CruiseControlBrokerLoad {
+    /**
+     * Key under which the broker load is stored in the ConfigMap data
+     */
+    public static final String BROKER_LOAD_KEY = "brokerLoad.json";
+
+    /**
+     * Key under which the compressed broker load is stored in the ConfigMap binary data
+     */
+    public static final String BROKER_LOAD_COMPRESSED_KEY = "brokerLoad.json.gz";
+
+    /**
+     * Maximal size of the broker load. ConfigMaps are limited to 1MiB => we leave some space for the metadata.
+     */
+    public static final int MAX_BROKER_LOAD_SIZE_BYTES = 900 * 1024;
+
+    private CruiseControlBrokerLoad() { }
+
+    /**
+     * Creates the ConfigMap with the broker load
+     *
+     * @param namespace         Namespace of the ConfigMap
+     * @param name              Name of the ConfigMap
+     * @param ownerReference    Owner reference of the ConfigMap
+     * @param brokerLoad        Broker load before and after the optimization
+     *
+     * @return  ConfigMap with the broker load
+     *
+     * @throws IllegalArgumentException When the broker load is too large for a ConfigMap even when compressed
+     */
+    public static ConfigMap configMap(String namespace, String name, OwnerReference ownerReference, JsonNode brokerLoad) {
+        ConfigMapBuilder builder = new ConfigMapBuilder()
+                .withNewMetadata()
+                    .withNamespace(namespace)
+                    .withName(name)
+                    .withLabels(Map.of("app", "strimzi"))
+                    .withOwnerReferences(ownerReference)
+                .endMetadata();
+
+        // The broker load is stored minified. Only when it is too large for a ConfigMap, it is stored compressed.
+        byte[] data = brokerLoad.toString().getBytes(StandardCharsets.UTF_8);
+        if (data.length <= MAX_BROKER_LOAD_SIZE_BYTES) {
+            builder.withData(Map.of(BROKER_LOAD_KEY, new String(data, StandardCharsets.UTF_8)));
+        } else {
+            String compressed = Base64.getEncoder().encodeToString(gzip(data));
+
+            if (compressed.length() > MAX_BROKER_LOAD_SIZE_BYTES) {
+                throw new IllegalArgumentException("The broker load of the rebalance optimization proposal is too large to be stored in a ConfigMap ("
+                        + data.length + " bytes, " + compressed.length() + " bytes compressed)");
+            }
+
+            builder.withBinaryData(Map.of(BROKER_LOAD_COMPRESSED_KEY, compressed));
+        }
+
+        return builder.build();
+    }
+
+    private static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(data.length / 4);
+
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to compress the broker load", e);
+        }
+
+        return compressed.toByteArray();
+    }
+}
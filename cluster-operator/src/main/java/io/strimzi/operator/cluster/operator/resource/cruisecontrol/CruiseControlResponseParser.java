@@ -0,0 +1,104 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource.cruisecontrol;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.strimzi.operator.common.model.cruisecontrol.CruiseControlRebalanceKeys;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Set;
+
+import static io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlApi.CC_REST_API_ERROR_KEY;
+import static io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlApi.CC_REST_API_PROGRESS_KEY;
+
+/**
+ * Streaming parser for the Cruise Control responses. The optimization proposals returned by Cruise Control can be very
+ * large for clusters with many partitions (especially when the verbose response with the proposed partition movements
+ * is requested). The parser reads the response token by token and builds the JSON tree only for the selected top-level
+ * fields. All other fields are skipped without being materialized.
+ */
+final class CruiseControlResponseParser {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    /**
+     * Top-level fields of the rebalance responses used by the operator
+     */
+    /* test */ static final Set<String> REBALANCE_FIELDS = Set.of(
+            CruiseControlRebalanceKeys.SUMMARY.getKey(),
+            CruiseControlRebalanceKeys.LOAD_BEFORE_OPTIMIZATION.getKey(),
+            CruiseControlRebalanceKeys.LOAD_AFTER_OPTIMIZATION.getKey(),
+            CC_REST_API_PROGRESS_KEY,
+            CC_REST_API_ERROR_KEY
+    );
+
+    private CruiseControlResponseParser() { }
+
+    /**
+     * Parses the response body and keeps only the selected top-level fields. The stream is closed afterwards.
+     *
+     * @param body      Response body
+     * @param fields    Top-level fields which should be kept
+     *
+     * @return  JSON object with the selected fields or the whole JSON value when the response is not a JSON object
+     */
+    static JsonNode parse(InputStream body, Set<String> fields) {
+        try (InputStream is = body; JsonParser parser = OBJECT_MAPPER.getFactory().createParser(is)) {
+            return parse(parser, fields);
+        } catch (IOException e) {
+            throw new CruiseControlRestException("Failed to deserialize the response: " + e);
+        }
+    }
+
+    /**
+     * Parses the JSON string and keeps only the selected top-level fields.
+     *
+     * @param json      JSON string (for example the original response of a user task)
+     * @param fields    Top-level fields which should be kept
+     *
+     * @return  JSON object with the selected fields or the whole JSON value when the string is not a JSON object
+     */
+    static JsonNode parse(String json, Set<String> fields) {
+        try (JsonParser parser = OBJECT_MAPPER.getFactory().createParser(json)) {
+            return parse(parser, fields);
+        } catch (IOException e) {
+            throw new CruiseControlRestException("Failed to deserialize the response: " + e);
+        }
+    }
+
+    private static JsonNode parse(JsonParser parser, Set<String> fields) throws IOException {
+        JsonToken token = parser.nextToken();
+
+        if (token == null) {
+            return OBJECT_MAPPER.missingNode();
+        } else if (token != JsonToken.START_OBJECT) {
+            // Errors might be returned as plain JSON values => we keep them whole
+            return OBJECT_MAPPER.readTree(parser);
+        }
+
+        ObjectNode json = OBJECT_MAPPER.createObjectNode();
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+
+            if (fields.contains(field)) {
+                json.set(field, OBJECT_MAPPER.readTree(parser));
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        if (parser.currentToken() != JsonToken.END_OBJECT) {
+            throw new IOException("Unexpected end of the JSON object");
+        }
+
+        return json;
+    }
+}
@@ -94,7 +94,7 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
             return Future.failedFuture("Given name " + name + " incompatible with desired name " + desired.getMetadata().getName());
         }
 
-        return getAsync(namespace, name)
+        return VertxUtil.traced(reconciliation, "Kubernetes reconcile " + resourceKind, () -> getAsync(namespace, name)
                 .compose(current -> {
                     if (desired != null) {
                         if (current == null) {
@@ -114,7 +114,7 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
                             return Future.succeededFuture(ReconcileResult.noop(null));
                         }
                     }
-                });
+                }));
     }
 
     /**
@@ -419,6 +419,28 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
         return new Informer<>(runnableInformer(applyNamespace(namespace).withLabelSelector(labelSelector), resyncIntervalMs));
     }
 
+    /**
+     * Creates the informer for given resource type to inform on all instances in given namespace (or cluster-wide)
+     * matching the selector. The resources are listed in pages of limited size when the informer (re)lists them. The
+     * informer returned by this method is not running and has to be started by the code using it.
+     *
+     * @param namespace         Namespace on which to inform
+     * @param labelSelector     Labels Selector which should be matched by the resources (or null to inform on all of them)
+     * @param resyncIntervalMs  The interval in which the resync of the informer should happen in milliseconds
+     * @param listLimit         Maximal number of resources listed in a single request
+     *
+     * @return                  Informer instance
+     */
+    public Informer<T> informer(String namespace, LabelSelector labelSelector, long resyncIntervalMs, long listLimit)   {
+        FilterWatchListDeletable<T, L, R> operation = applyNamespace(namespace);
+
+        if (labelSelector != null) {
+            operation = operation.withLabelSelector(labelSelector);
+        }
+
+        return new Informer<>(runnableInformer(operation.withLimit(listLimit), resyncIntervalMs));
+    }
+
     /**
      * Creates a runnable informer. Runnable informer is not running yet and need to be started by the code using it.
      *
@@ -12,6 +12,7 @@ import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
 import io.fabric8.kubernetes.client.dsl.base.PatchContext;
 import io.fabric8.kubernetes.client.dsl.base.PatchType;
+import io.strimzi.operator.cluster.operator.VertxUtil;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.model.Labels;
@@ -79,7 +80,7 @@ public abstract class AbstractNonNamespacedResourceOperator<C extends Kubernetes
                     + desired.getMetadata().getName());
         }
 
-        return getAsync(name)
+        return VertxUtil.traced(reconciliation, "Kubernetes reconcile " + resourceKind, () -> getAsync(name)
                 .compose(current -> {
                     if (desired != null) {
                         if (current == null) {
@@ -99,7 +100,7 @@ public abstract class AbstractNonNamespacedResourceOperator<C extends Kubernetes
                             return Future.succeededFuture(ReconcileResult.noop(null));
                         }
                     }
-                });
+                }));
     }
 
     /**
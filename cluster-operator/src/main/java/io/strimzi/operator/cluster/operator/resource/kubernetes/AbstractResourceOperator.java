@@ -13,6 +13,7 @@ import io.fabric8.kubernetes.client.dsl.FilterWatchListDeletable;
 import io.fabric8.kubernetes.client.dsl.Listable;
 import io.fabric8.kubernetes.client.dsl.Resource;
 import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.model.IgnorablePaths;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.resource.ResourceDiff;
 import io.vertx.core.Future;
@@ -20,7 +21,6 @@ import io.vertx.core.Vertx;
 
 import java.util.List;
 import java.util.Objects;
-import java.util.regex.Pattern;
 
 /**
  * Abstract resource creation, for a generic resource type {@code R}.
@@ -66,9 +66,9 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
     }
 
     /**
-     * @return  Returns the Pattern for matching paths which can be ignored in the resource diff
+     * @return  Returns the paths which can be ignored in the resource diff
      */
-    protected Pattern ignorablePaths() {
+    protected IgnorablePaths ignorablePaths() {
         return ResourceDiff.DEFAULT_IGNORABLE_PATHS;
     }
 
@@ -9,24 +9,23 @@ import io.fabric8.kubernetes.api.model.networking.v1.NetworkPolicyList;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.strimzi.operator.common.model.IgnorablePaths;
 import io.vertx.core.Vertx;
 
-import java.util.regex.Pattern;
-
 /**
  * Operator for managing network policies
  */
 public class NetworkPolicyOperator extends AbstractNamespacedResourceOperator<KubernetesClient, NetworkPolicy, NetworkPolicyList, Resource<NetworkPolicy>> {
-    private static final Pattern IGNORABLE_PATHS = Pattern.compile(
-            "^(/metadata/managedFields" +
-                    "|/metadata/creationTimestamp" +
-                    "|/metadata/deletionTimestamp" +
-                    "|/metadata/deletionGracePeriodSeconds" +
-                    "|/metadata/resourceVersion" +
-                    "|/metadata/generation" +
-                    "|/metadata/uid" +
-                    "|/spec/policyTypes" +
-                    "|/status)$");
+    private static final IgnorablePaths IGNORABLE_PATHS = IgnorablePaths.of(
+            "/metadata/managedFields",
+            "/metadata/creationTimestamp",
+            "/metadata/deletionTimestamp",
+            "/metadata/deletionGracePeriodSeconds",
+            "/metadata/resourceVersion",
+            "/metadata/generation",
+            "/metadata/uid",
+            "/spec/policyTypes",
+            "/status");
 
     /**
      * Constructs the Network Policy Operator
@@ -44,10 +43,10 @@ public class NetworkPolicyOperator extends AbstractNamespacedResourceOperator<Ku
     }
 
     /**
-     * @return  Returns the Pattern for matching paths which can be ignored in the resource diff
+     * @return  Returns the paths which can be ignored in the resource diff
      */
     @Override
-    protected Pattern ignorablePaths() {
+    protected IgnorablePaths ignorablePaths() {
         return IGNORABLE_PATHS;
     }
 }
@@ -11,30 +11,29 @@ import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.common.model.IgnorablePaths;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 
-import java.util.regex.Pattern;
-
 /**
  * Operations for {@code PersistentVolumeClaim}s.
  */
 public class PvcOperator extends AbstractNamespacedResourceOperator<KubernetesClient, PersistentVolumeClaim, PersistentVolumeClaimList, Resource<PersistentVolumeClaim>> {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(PvcOperator.class);
-    private static final Pattern IGNORABLE_PATHS = Pattern.compile(
-            "^(/metadata/managedFields" +
-                    "|/metadata/annotations/pv.kubernetes.io~1.*" +
-                    "|/metadata/annotations/volume.beta.kubernetes.io~1.*" +
-                    "|/metadata/annotations/volume.kubernetes.io~1.*" +
-                    "|/metadata/finalizers" +
-                    "|/metadata/creationTimestamp" +
-                    "|/metadata/deletionTimestamp" +
-                    "|/metadata/deletionGracePeriodSeconds" +
-                    "|/metadata/resourceVersion" +
-                    "|/metadata/generation" +
-                    "|/metadata/uid" +
-                    "|/status)$");
+    private static final IgnorablePaths IGNORABLE_PATHS = IgnorablePaths.of(
+            "/metadata/managedFields",
+            "/metadata/annotations/pv.kubernetes.io~1*",
+            "/metadata/annotations/volume.beta.kubernetes.io~1*",
+            "/metadata/annotations/volume.kubernetes.io~1*",
+            "/metadata/finalizers",
+            "/metadata/creationTimestamp",
+            "/metadata/deletionTimestamp",
+            "/metadata/deletionGracePeriodSeconds",
+            "/metadata/resourceVersion",
+            "/metadata/generation",
+            "/metadata/uid",
+            "/status");
 
 
     /**
@@ -52,10 +51,10 @@ public class PvcOperator extends AbstractNamespacedResourceOperator<KubernetesCl
     }
 
     /**
-     * @return  Returns the Pattern for matching paths which can be ignored in the resource diff
+     * @return  Returns the paths which can be ignored in the resource diff
      */
     @Override
-    protected Pattern ignorablePaths() {
+    protected IgnorablePaths ignorablePaths() {
         return IGNORABLE_PATHS;
     }
 
@@ -47,6 +47,13 @@ public class ClusterOperatorConfigTest {
         ENV_VARS.put(ClusterOperatorConfig.DNS_CACHE_TTL.key(), "10");
         ENV_VARS.put(ClusterOperatorConfig.POD_SECURITY_PROVIDER_CLASS.key(), "my.package.CustomPodSecurityProvider");
         ENV_VARS.put(ClusterOperatorConfig.POD_DISRUPTION_BUDGET_GENERATION.key(), "false");
+        ENV_VARS.put(ClusterOperatorConfig.MAX_CONCURRENT_RECONCILIATIONS.key(), "20");
+        ENV_VARS.put(ClusterOperatorConfig.MAX_CONCURRENT_RECONCILIATIONS_PER_KIND.key(), "5");
+        ENV_VARS.put(ClusterOperatorConfig.CONNECTOR_RECONCILIATION_CONCURRENCY.key(), "25");
+        ENV_VARS.put(ClusterOperatorConfig.CONNECTOR_STATUS_POLL_INTERVAL_MS.key(), "5000");
+        ENV_VARS.put(ClusterOperatorConfig.CRUISE_CONTROL_TASK_POLL_INTERVAL_MS.key(), "10000");
+        ENV_VARS.put(ClusterOperatorConfig.CRUISE_CONTROL_PROPOSAL_CACHE_TTL_MS.key(), "60000");
+        ENV_VARS.put(ClusterOperatorConfig.TRACING_ENABLED.key(), "true");
     }
 
     @Test
@@ -58,6 +65,13 @@ public class ClusterOperatorConfigTest {
         envVars.remove(ClusterOperatorConfig.FEATURE_GATES.key());
         envVars.remove(ClusterOperatorConfig.POD_SECURITY_PROVIDER_CLASS.key());
         envVars.remove(ClusterOperatorConfig.POD_DISRUPTION_BUDGET_GENERATION.key());
+        envVars.remove(ClusterOperatorConfig.MAX_CONCURRENT_RECONCILIATIONS.key());
+        envVars.remove(ClusterOperatorConfig.MAX_CONCURRENT_RECONCILIATIONS_PER_KIND.key());
+        envVars.remove(ClusterOperatorConfig.CONNECTOR_RECONCILIATION_CONCURRENCY.key());
+        envVars.remove(ClusterOperatorConfig.CONNECTOR_STATUS_POLL_INTERVAL_MS.key());
+        envVars.remove(ClusterOperatorConfig.CRUISE_CONTROL_TASK_POLL_INTERVAL_MS.key());
+        envVars.remove(ClusterOperatorConfig.CRUISE_CONTROL_PROPOSAL_CACHE_TTL_MS.key());
+        envVars.remove(ClusterOperatorConfig.TRACING_ENABLED.key());
 
         ClusterOperatorConfig config = ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
 
@@ -73,6 +87,16 @@ public class ClusterOperatorConfigTest {
         assertThat(config.getPodSecurityProviderClass(), is(ClusterOperatorConfig.POD_SECURITY_PROVIDER_CLASS.defaultValue()));
         assertThat(config.getLeaderElectionConfig(), is(nullValue()));
         assertThat(config.isPodDisruptionBudgetGeneration(), is(true));
+        assertThat(config.getMaxConcurrentReconciliations(), is(100));
+        assertThat(config.getMaxConcurrentReconciliationsPerKind(), is(50));
+        assertThat(config.getConnectorReconciliationConcurrency(), is(10));
+        assertThat(config.getConnectorStatusPollIntervalMs(), is(30_000L));
+        assertThat(config.getCruiseControlTaskPollIntervalMs(), is(5_000L));
+        assertThat(config.getCruiseControlProposalCacheTtlMs(), is(30_000L));
+        assertThat(config.isTracingEnabled(), is(false));
+        assertThat(config.isShardingEnabled(), is(false));
+        assertThat(config.getShardCount(), is(32));
+        assertThat(config.isWarmStandbyEnabled(), is(false));
     }
 
     @Test
@@ -104,6 +128,13 @@ public class ClusterOperatorConfigTest {
         assertThat(config.getDnsCacheTtlSec(), is(10));
         assertThat(config.getPodSecurityProviderClass(), is("my.package.CustomPodSecurityProvider"));
         assertThat(config.isPodDisruptionBudgetGeneration(), is(false));
+        assertThat(config.getMaxConcurrentReconciliations(), is(20));
+        assertThat(config.getMaxConcurrentReconciliationsPerKind(), is(5));
+        assertThat(config.getConnectorReconciliationConcurrency(), is(25));
+        assertThat(config.getConnectorStatusPollIntervalMs(), is(5_000L));
+        assertThat(config.getCruiseControlTaskPollIntervalMs(), is(10_000L));
+        assertThat(config.getCruiseControlProposalCacheTtlMs(), is(60_000L));
+        assertThat(config.isTracingEnabled(), is(true));
     }
 
     @Test
@@ -234,6 +265,46 @@ public class ClusterOperatorConfigTest {
         );
     }
 
+    @Test
+    public void testInvalidMaxConcurrentReconciliations() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.ENV_VARS);
+        envVars.put(ClusterOperatorConfig.MAX_CONCURRENT_RECONCILIATIONS.key(), "0");
+
+        assertThrows(InvalidConfigurationException.class, () ->
+            ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup())
+        );
+
+        envVars.put(ClusterOperatorConfig.MAX_CONCURRENT_RECONCILIATIONS.key(), "10");
+        envVars.put(ClusterOperatorConfig.MAX_CONCURRENT_RECONCILIATIONS_PER_KIND.key(), "-1");
+
+        assertThrows(InvalidConfigurationException.class, () ->
+            ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup())
+        );
+    }
+
+    @Test
+    public void testInvalidConnectorReconciliationConcurrency() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.ENV_VARS);
+        envVars.put(ClusterOperatorConfig.CONNECTOR_RECONCILIATION_CONCURRENCY.key(), "0");
+
+        assertThrows(InvalidConfigurationException.class, () ->
+            ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup())
+        );
+    }
+
+    @Test
+    public void testInvalidConnectorStatusPollInterval() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.ENV_VARS);
+        envVars.put(ClusterOperatorConfig.CONNECTOR_STATUS_POLL_INTERVAL_MS.key(), "-1");
+
+        assertThrows(InvalidConfigurationException.class, () ->
+            ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup())
+        );
+
+        envVars.put(ClusterOperatorConfig.CONNECTOR_STATUS_POLL_INTERVAL_MS.key(), "0");
+        assertThat(ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getConnectorStatusPollIntervalMs(), is(0L));
+    }
+
     @Test
     public void testImagePullSecrets() {
         Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.ENV_VARS);
@@ -380,4 +451,50 @@ public class ClusterOperatorConfigTest {
         config.getLeaderElectionConfig();
         assertThat(ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getLeaderElectionConfig(), is(notNullValue()));
     }
+
+    @Test
+    public void testShardingConfig() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.ENV_VARS);
+        envVars.put(ClusterOperatorConfig.SHARDING_ENABLED.key(), "true");
+        envVars.put(ClusterOperatorConfig.SHARD_COUNT.key(), "16");
+
+        // Sharding uses the leader election configuration
+        InvalidConfigurationException e = assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()));
+        assertThat(e.getMessage(), is("STRIMZI_SHARDING_ENABLED requires STRIMZI_LEADER_ELECTION_ENABLED to be enabled"));
+
+        envVars.put(ClusterOperatorConfig.LEADER_ELECTION_ENABLED.key(), "true");
+        envVars.put(LeaderElectionManagerConfig.ENV_VAR_LEADER_ELECTION_LEASE_NAME.key(), "my-lease");
+        envVars.put(LeaderElectionManagerConfig.ENV_VAR_LEADER_ELECTION_LEASE_NAMESPACE.key(), "my-namespace");
+        envVars.put(LeaderElectionManagerConfig.ENV_VAR_LEADER_ELECTION_IDENTITY.key(), "my-pod");
+
+        ClusterOperatorConfig config = ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+        assertThat(config.isShardingEnabled(), is(true));
+        assertThat(config.getShardCount(), is(16));
+
+        envVars.put(ClusterOperatorConfig.SHARD_COUNT.key(), "0");
+        assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()));
+    }
+
+    @Test
+    public void testWarmStandbyConfig() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.ENV_VARS);
+        envVars.put(ClusterOperatorConfig.WARM_STANDBY_ENABLED.key(), "true");
+
+        // Warm standby applies only to the replicas waiting for the leadership
+        InvalidConfigurationException e = assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()));
+        assertThat(e.getMessage(), is("STRIMZI_WARM_STANDBY_ENABLED requires STRIMZI_LEADER_ELECTION_ENABLED to be enabled"));
+
+        envVars.put(ClusterOperatorConfig.LEADER_ELECTION_ENABLED.key(), "true");
+        envVars.put(LeaderElectionManagerConfig.ENV_VAR_LEADER_ELECTION_LEASE_NAME.key(), "my-lease");
+        envVars.put(LeaderElectionManagerConfig.ENV_VAR_LEADER_ELECTION_LEASE_NAMESPACE.key(), "my-namespace");
+        envVars.put(LeaderElectionManagerConfig.ENV_VAR_LEADER_ELECTION_IDENTITY.key(), "my-pod");
+
+        ClusterOperatorConfig config = ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+        assertThat(config.isWarmStandbyEnabled(), is(true));
+
+        // There is no leader to wait for when sharding is enabled
+        envVars.put(ClusterOperatorConfig.SHARDING_ENABLED.key(), "true");
+        e = assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()));
+        assertThat(e.getMessage(), is("STRIMZI_WARM_STANDBY_ENABLED cannot be used together with STRIMZI_SHARDING_ENABLED"));
+    }
 }
@@ -0,0 +1,274 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.leaderelection;
+
+import io.fabric8.kubernetes.api.model.coordination.v1.Lease;
+import io.fabric8.kubernetes.api.model.coordination.v1.LeaseBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.strimzi.operator.cluster.ResourceUtils;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.test.mockkube3.MockKube3;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.CoreMatchers.anyOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+
+public class ShardManagerMockTest {
+    private final static String NAMESPACE = "my-shard-namespace";
+    private final static String LEASE_NAME = "my-lease";
+    private final static int SHARDS = 8;
+
+    private static KubernetesClient client;
+    private static MockKube3 mockKube;
+
+    @BeforeAll
+    public static void beforeAll() {
+        // Configure the Kubernetes Mock
+        mockKube = new MockKube3.MockKube3Builder()
+                .withNamespaces(NAMESPACE)
+                .build();
+        mockKube.start();
+        client = mockKube.client();
+    }
+
+    @AfterAll
+    public static void afterAll() {
+        mockKube.stop();
+    }
+
+    @Test
+    public void testShardOf() {
+        Set<Integer> shards = new HashSet<>();
+
+        for (int i = 0; i < 1_000; i++) {
+            int shard = ShardManager.shardOf("my-namespace", "my-cluster-" + i, SHARDS);
+            assertThat(shard, is(ShardManager.shardOf("my-namespace", "my-cluster-" + i, SHARDS)));
+            assertThat(shard, greaterThan(-1));
+            assertThat(shard, lessThan(SHARDS));
+            shards.add(shard);
+        }
+
+        // The clusters should be spread over all shards
+        assertThat(shards.size(), is(SHARDS));
+    }
+
+    @Test
+    public void testOwnerOfMovesOnlyShardsOfChangedMembers() {
+        List<String> members = List.of("co-1", "co-2", "co-3");
+        Map<Integer, String> owners = owners(members, 256);
+
+        // All members get some shards
+        assertThat(Set.copyOf(owners.values()), is(Set.copyOf(members)));
+
+        // Removing a member moves only its shards
+        Map<Integer, String> withoutSecond = owners(List.of("co-1", "co-3"), 256);
+        owners.forEach((shard, owner) -> {
+            if (!"co-2".equals(owner)) {
+                assertThat(withoutSecond.get(shard), is(owner));
+            }
+        });
+
+        // Adding a member moves only the shards it gets
+        Map<Integer, String> withFourth = owners(List.of("co-1", "co-2", "co-3", "co-4"), 256);
+        withFourth.forEach((shard, owner) -> {
+            if (!"co-4".equals(owner)) {
+                assertThat(owners.get(shard), is(owner));
+            }
+        });
+
+        // The order of the members does not matter
+        assertThat(owners(List.of("co-3", "co-1", "co-2"), 256), is(owners));
+        assertThat(ShardManager.ownerOf(0, List.of()), is(nullValue()));
+    }
+
+    @Test
+    public void testShardsAreSplitBetweenReplicas() throws InterruptedException {
+        Set<Integer> acquiredBySecond = new HashSet<>();
+        MetricsProvider metrics = ResourceUtils.metricsProvider();
+        ShardManager sm1 = createShardManager("co-1", shards -> {
+            // Do nothing
+        }, ResourceUtils.metricsProvider());
+        ShardManager sm2 = createShardManager("co-2", acquiredBySecond::addAll, metrics);
+
+        Set<Integer> all = IntStream.range(0, SHARDS).boxed().collect(Collectors.toSet());
+        Set<Integer> ofSecond = all.stream().filter(shard -> "co-2".equals(ShardManager.ownerOf(shard, List.of("co-1", "co-2")))).collect(Collectors.toSet());
+
+        // The first replica is alone => it owns all shards
+        sm1.refresh();
+        assertThat(sm1.ownedShards(), is(all));
+
+        // The second replica joins, but the shards assigned to it are still held by the first replica
+        sm2.refresh();
+        assertThat(sm2.ownedShards(), is(empty()));
+
+        // The first replica stops reconciling the shards assigned to the second replica right away
+        sm1.refresh();
+        assertThat(sm1.ownedShards(), is(difference(all, ofSecond)));
+
+        // The second replica takes over the shards once their Leases expire
+        Thread.sleep(600);
+        sm2.refresh();
+        sm1.refresh();
+        assertThat(sm2.ownedShards(), is(empty()));
+
+        Thread.sleep(600);
+        sm2.refresh();
+        assertThat(sm2.ownedShards(), is(ofSecond));
+        assertThat(acquiredBySecond, is(ofSecond));
+        assertThat(getLease(LEASE_NAME + "-shard-" + ofSecond.iterator().next()).getSpec().getHolderIdentity(), is("co-2"));
+
+        assertThat(metrics.meterRegistry().get(ShardManager.METRICS_SHARD_MEMBERS).gauge().value(), is(2.0));
+        for (int shard = 0; shard < SHARDS; shard++) {
+            assertThat(metrics.meterRegistry().get(ShardManager.METRICS_SHARD_OWNED).tag("shard", String.valueOf(shard)).gauge().value(),
+                    is(ofSecond.contains(shard) ? 1.0 : 0.0));
+        }
+
+        // The second replica stops => it deletes its member Lease, releases the shard Leases and the first replica
+        // takes the shards over right away
+        sm2.stop();
+        assertThat(sm2.ownedShards(), is(empty()));
+        assertThat(getLease(LEASE_NAME + "-member-co-2"), is(nullValue()));
+        assertThat(getLease(LEASE_NAME + "-shard-" + ofSecond.iterator().next()).getSpec().getHolderIdentity(), anyOf(is(""), nullValue()));
+
+        sm1.refresh();
+        assertThat(sm1.ownedShards(), is(all));
+
+        sm1.stop();
+    }
+
+    @Test
+    public void testLostShardIsKeptUntilItsReconciliationsFinish() throws InterruptedException {
+        String leaseName = "my-reconciling-lease";
+        ShardManager sm1 = createShardManager(leaseName, "co-1", shards -> {
+            // Do nothing
+        }, ResourceUtils.metricsProvider());
+        ShardManager sm2 = createShardManager(leaseName, "co-2", shards -> {
+            // Do nothing
+        }, ResourceUtils.metricsProvider());
+
+        // Reconciliation of a cluster from a shard which moves to the second replica
+        Reconciliation reconciliation = IntStream.range(0, 1_000)
+                .mapToObj(i -> new Reconciliation("test", "Kafka", NAMESPACE, "my-cluster-" + i))
+                .filter(r -> "co-2".equals(ShardManager.ownerOf(ShardManager.shardOf(r.namespace(), r.name(), SHARDS), List.of("co-1", "co-2"))))
+                .findFirst()
+                .orElseThrow();
+        int shard = ShardManager.shardOf(reconciliation.namespace(), reconciliation.name(), SHARDS);
+
+        sm1.refresh();
+        sm1.reconciliationStarted(reconciliation);
+        assertThat(sm1.runningReconciliations(shard), is(1));
+
+        // The second replica joins => the first replica loses the shard, but keeps its Lease while the reconciliation runs
+        sm2.refresh();
+        sm1.refresh();
+        assertThat(sm1.ownedShards().contains(shard), is(false));
+
+        for (int i = 0; i < 4; i++) {
+            Thread.sleep(400);
+            sm1.refresh();
+            sm2.refresh();
+            assertThat(sm2.ownedShards().contains(shard), is(false));
+        }
+
+        assertThat(getLease(leaseName + "-shard-" + shard).getSpec().getHolderIdentity(), is("co-1"));
+
+        // Once the reconciliation finishes, the Lease expires and the second replica takes the shard over
+        sm1.reconciliationFinished(reconciliation);
+        assertThat(sm1.runningReconciliations(shard), is(0));
+
+        Thread.sleep(1_200);
+        sm1.refresh();
+        sm2.refresh();
+        assertThat(sm2.ownedShards().contains(shard), is(true));
+        assertThat(getLease(leaseName + "-shard-" + shard).getSpec().getHolderIdentity(), is("co-2"));
+
+        sm2.stop();
+        sm1.stop();
+    }
+
+    @Test
+    public void testExpiredMemberLeasesAreDeleted() {
+        String leaseName = "my-expired-lease";
+        ZonedDateTime longAgo = ZonedDateTime.now(ZoneOffset.UTC).minusHours(1);
+        client.leases().inNamespace(NAMESPACE).resource(new LeaseBuilder()
+                        .withNewMetadata()
+                            .withName(leaseName + "-member-co-old")
+                            .withNamespace(NAMESPACE)
+                        .endMetadata()
+                        .withNewSpec()
+                            .withHolderIdentity("co-old")
+                            .withLeaseDurationSeconds(1)
+                            .withRenewTime(longAgo)
+                        .endSpec()
+                        .build())
+                .create();
+
+        ShardManager sm1 = createShardManager(leaseName, "co-1", shards -> {
+            // Do nothing
+        }, ResourceUtils.metricsProvider());
+
+        sm1.refresh();
+        assertThat(getLease(leaseName + "-member-co-old"), is(nullValue()));
+        assertThat(getLease(leaseName + "-member-co-1").getSpec().getHolderIdentity(), is("co-1"));
+
+        sm1.stop();
+        assertThat(getLease(leaseName + "-member-co-1"), is(nullValue()));
+    }
+
+    private static Map<Integer, String> owners(List<String> members, int shards) {
+        Map<Integer, String> owners = new HashMap<>();
+
+        for (int shard = 0; shard < shards; shard++) {
+            owners.put(shard, ShardManager.ownerOf(shard, members));
+        }
+
+        return owners;
+    }
+
+    private static Set<Integer> difference(Set<Integer> a, Set<Integer> b) {
+        Set<Integer> result = new HashSet<>(a);
+        result.removeAll(b);
+        return result;
+    }
+
+    private ShardManager createShardManager(String identity, Consumer<Set<Integer>> shardsAcquiredCallback, MetricsProvider metricsProvider)   {
+        return createShardManager(LEASE_NAME, identity, shardsAcquiredCallback, metricsProvider);
+    }
+
+    private ShardManager createShardManager(String leaseName, String identity, Consumer<Set<Integer>> shardsAcquiredCallback, MetricsProvider metricsProvider)   {
+        Map<String, String> envVars = new HashMap<>();
+        envVars.put(LeaderElectionManagerConfig.ENV_VAR_LEADER_ELECTION_LEASE_NAME.key(), leaseName);
+        envVars.put(LeaderElectionManagerConfig.ENV_VAR_LEADER_ELECTION_LEASE_NAMESPACE.key(), NAMESPACE);
+        envVars.put(LeaderElectionManagerConfig.ENV_VAR_LEADER_ELECTION_IDENTITY.key(), identity);
+        envVars.put(LeaderElectionManagerConfig.ENV_VAR_LEADER_ELECTION_LEASE_DURATION_MS.key(), "1000");
+        envVars.put(LeaderElectionManagerConfig.ENV_VAR_LEADER_ELECTION_RENEW_DEADLINE_MS.key(), "800");
+        envVars.put(LeaderElectionManagerConfig.ENV_VAR_LEADER_ELECTION_RETRY_PERIOD_MS.key(), "200");
+
+        return new ShardManager(client, LeaderElectionManagerConfig.fromMap(envVars), SHARDS, metricsProvider, shardsAcquiredCallback);
+    }
+
+    private Lease getLease(String name)    {
+        return client.leases().inNamespace(NAMESPACE).withName(name).get();
+    }
+}
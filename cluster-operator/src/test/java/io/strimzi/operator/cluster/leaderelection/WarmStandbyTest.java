@@ -0,0 +1,51 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.leaderelection;
+
+import io.strimzi.operator.cluster.ResourceUtils;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.Reconciliation;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+
+public class WarmStandbyTest {
+    @Test
+    public void testTakeOver() {
+        MetricsProvider metrics = ResourceUtils.metricsProvider();
+        WarmStandby warmStandby = new WarmStandby(metrics);
+
+        // Nothing is owned on standby
+        assertThat(warmStandby.isLeader(), is(false));
+        assertThat(warmStandby.owns("my-namespace", "my-cluster"), is(false));
+
+        warmStandby.recordPendingChange(new Reconciliation("watch", "Kafka", "my-namespace", "my-cluster"));
+        warmStandby.recordPendingChange(new Reconciliation("watch", "KafkaConnect", "my-namespace", "my-connect"));
+        warmStandby.recordPendingChange(new Reconciliation("watch", "Kafka", "my-namespace", "my-cluster2"));
+        // Changed again => moves to the front
+        warmStandby.recordPendingChange(new Reconciliation("watch", "Kafka", "my-namespace", "my-cluster"));
+
+        // The most recently changed resources come first
+        List<Reconciliation> changes = warmStandby.takeOver();
+        assertThat(changes.stream().map(r -> r.kind() + "/" + r.name()).collect(Collectors.toList()),
+                is(List.of("Kafka/my-cluster", "Kafka/my-cluster2", "KafkaConnect/my-connect")));
+
+        // Everything is owned by the leader and the changes are not recorded anymore
+        assertThat(warmStandby.isLeader(), is(true));
+        assertThat(warmStandby.owns("my-namespace", "my-cluster"), is(true));
+        warmStandby.recordPendingChange(new Reconciliation("watch", "Kafka", "my-namespace", "my-cluster3"));
+        assertThat(warmStandby.takeOver(), is(empty()));
+
+        // The takeover is recorded only once
+        warmStandby.takeOverCompleted();
+        warmStandby.takeOverCompleted();
+        assertThat(metrics.meterRegistry().get(WarmStandby.METRICS_TAKEOVER).timer().count(), is(1L));
+    }
+}
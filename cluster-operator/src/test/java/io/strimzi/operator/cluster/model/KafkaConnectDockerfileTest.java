@@ -115,10 +115,13 @@ public class KafkaConnectDockerfileTest {
 
         KafkaConnectDockerfile df = new KafkaConnectDockerfile("myImage:latest", connectBuild, SHARED_ENV_PROVIDER);
 
-        assertThat(df.getDockerfile(), isEquivalent("FROM myImage:latest",
+        assertThat(df.getDockerfile(), isEquivalent("FROM myImage:latest AS artifact-d3bc2fed",
                 "USER root:root",
                 "RUN 'mkdir' '-p' '/opt/kafka/plugins/my-connector-plugin/51e5038c' \\",
                 "      && 'curl' '-f' '-L' '--output' '/opt/kafka/plugins/my-connector-plugin/51e5038c/51e5038c.jar' 'https://mydomain.tld/my.jar'",
+                "FROM myImage:latest",
+                "USER root:root",
+                "COPY --from=artifact-d3bc2fed '/opt/kafka/plugins/my-connector-plugin/51e5038c' '/opt/kafka/plugins/my-connector-plugin/51e5038c'",
                 "USER 1001"));
     }
 
@@ -133,13 +136,16 @@ public class KafkaConnectDockerfileTest {
 
         KafkaConnectDockerfile df = new KafkaConnectDockerfile("myImage:latest", connectBuild, SHARED_ENV_PROVIDER);
 
-        assertThat(df.getDockerfile(), isEquivalent("FROM myImage:latest",
+        assertThat(df.getDockerfile(), isEquivalent("FROM myImage:latest AS artifact-5b41c9ee",
                 "USER root:root",
                 "RUN 'mkdir' '-p' '/opt/kafka/plugins/my-connector-plugin/0df6d15c' \\",
                 "      && 'curl' '-f' '-L' '--output' '/opt/kafka/plugins/my-connector-plugin/0df6d15c/0df6d15c.jar' 'https://mydomain.tld/my2.jar' \\",
                 "      && 'echo' 'sha-512-checksum /opt/kafka/plugins/my-connector-plugin/0df6d15c/0df6d15c.jar' > '/opt/kafka/plugins/my-connector-plugin/0df6d15c/0df6d15c.jar.sha512' \\",
                 "      && 'sha512sum' '--check' '/opt/kafka/plugins/my-connector-plugin/0df6d15c/0df6d15c.jar.sha512' \\",
                 "      && 'rm' '-f' '/opt/kafka/plugins/my-connector-plugin/0df6d15c/0df6d15c.jar.sha512'",
+                "FROM myImage:latest",
+                "USER root:root",
+                "COPY --from=artifact-5b41c9ee '/opt/kafka/plugins/my-connector-plugin/0df6d15c' '/opt/kafka/plugins/my-connector-plugin/0df6d15c'",
                 "USER 1001"));
     }
 
@@ -154,10 +160,13 @@ public class KafkaConnectDockerfileTest {
 
         KafkaConnectDockerfile df = new KafkaConnectDockerfile("myImage:latest", connectBuild, SHARED_ENV_PROVIDER);
 
-        assertThat(df.getDockerfile(), isEquivalent("FROM myImage:latest",
+        assertThat(df.getDockerfile(), isEquivalent("FROM myImage:latest AS artifact-57fe78dc",
                 "USER root:root",
                 "RUN 'mkdir' '-p' '/opt/kafka/plugins/my-connector-plugin/2c3b64c7' \\",
                 "      && 'curl' '-f' '-L' '--output' '/opt/kafka/plugins/my-connector-plugin/2c3b64c7/my.so' 'https://mydomain.tld/download?artifact=my.so'",
+                "FROM myImage:latest",
+                "USER root:root",
+                "COPY --from=artifact-57fe78dc '/opt/kafka/plugins/my-connector-plugin/2c3b64c7' '/opt/kafka/plugins/my-connector-plugin/2c3b64c7'",
                 "USER 1001"));
     }
 
@@ -172,13 +181,16 @@ public class KafkaConnectDockerfileTest {
 
         KafkaConnectDockerfile df = new KafkaConnectDockerfile("myImage:latest", connectBuild, SHARED_ENV_PROVIDER);
 
-        assertThat(df.getDockerfile(), isEquivalent("FROM myImage:latest",
+        assertThat(df.getDockerfile(), isEquivalent("FROM myImage:latest AS artifact-4e676be3",
                 "USER root:root",
                 "RUN 'mkdir' '-p' '/opt/kafka/plugins/my-connector-plugin/2e6fee06' \\",
                 "      && 'curl' '-f' '-L' '--output' '/opt/kafka/plugins/my-connector-plugin/2e6fee06/my2.so' 'https://mydomain.tld/download?artifactId=1874' \\",
                 "      && 'echo' 'sha-512-checksum /opt/kafka/plugins/my-connector-plugin/2e6fee06/my2.so' > '/opt/kafka/plugins/my-connector-plugin/2e6fee06/my2.so.sha512' \\",
                 "      && 'sha512sum' '--check' '/opt/kafka/plugins/my-connector-plugin/2e6fee06/my2.so.sha512' \\",
                 "      && 'rm' '-f' '/opt/kafka/plugins/my-connector-plugin/2e6fee06/my2.so.sha512'",
+                "FROM myImage:latest",
+                "USER root:root",
+                "COPY --from=artifact-4e676be3 '/opt/kafka/plugins/my-connector-plugin/2e6fee06' '/opt/kafka/plugins/my-connector-plugin/2e6fee06'",
                 "USER 1001"));
     }
 
@@ -193,13 +205,16 @@ public class KafkaConnectDockerfileTest {
 
         KafkaConnectDockerfile df = new KafkaConnectDockerfile("myImage:latest", connectBuild, SHARED_ENV_PROVIDER);
 
-        assertThat(df.getDockerfile(), isEquivalent("FROM myImage:latest",
+        assertThat(df.getDockerfile(), isEquivalent("FROM myImage:latest AS artifact-5a8f16ab",
                 "USER root:root",
                 "RUN 'mkdir' '-p' '/opt/kafka/plugins/my-connector-plugin/2e6fee06' \\",
                 "      && 'curl' '-f' '-L' '--output' '/opt/kafka/plugins/my-connector-plugin/2e6fee06/2e6fee06' 'https://mydomain.tld/download?artifactId=1874' \\",
                 "      && 'echo' 'sha-512-checksum /opt/kafka/plugins/my-connector-plugin/2e6fee06/2e6fee06' > '/opt/kafka/plugins/my-connector-plugin/2e6fee06/2e6fee06.sha512' \\",
                 "      && 'sha512sum' '--check' '/opt/kafka/plugins/my-connector-plugin/2e6fee06/2e6fee06.sha512' \\",
                 "      && 'rm' '-f' '/opt/kafka/plugins/my-connector-plugin/2e6fee06/2e6fee06.sha512'",
+                "FROM myImage:latest",
+                "USER root:root",
+                "COPY --from=artifact-5a8f16ab '/opt/kafka/plugins/my-connector-plugin/2e6fee06' '/opt/kafka/plugins/my-connector-plugin/2e6fee06'",
                 "USER 1001"));
     }
 
@@ -214,15 +229,21 @@ public class KafkaConnectDockerfileTest {
 
         KafkaConnectDockerfile df = new KafkaConnectDockerfile("myImage:latest", connectBuild, SHARED_ENV_PROVIDER);
 
-        assertThat(df.getDockerfile(), isEquivalent("FROM myImage:latest",
+        assertThat(df.getDockerfile(), isEquivalent("FROM myImage:latest AS artifact-d3bc2fed",
                 "USER root:root",
                 "RUN 'mkdir' '-p' '/opt/kafka/plugins/my-connector-plugin/51e5038c' \\",
                 "      && 'curl' '-f' '-L' '--output' '/opt/kafka/plugins/my-connector-plugin/51e5038c/51e5038c.jar' 'https://mydomain.tld/my.jar'",
+                "FROM myImage:latest AS artifact-5b41c9ee",
+                "USER root:root",
                 "RUN 'mkdir' '-p' '/opt/kafka/plugins/my-connector-plugin/0df6d15c' \\",
                 "      && 'curl' '-f' '-L' '--output' '/opt/kafka/plugins/my-connector-plugin/0df6d15c/0df6d15c.jar' 'https://mydomain.tld/my2.jar' \\",
                 "      && 'echo' 'sha-512-checksum /opt/kafka/plugins/my-connector-plugin/0df6d15c/0df6d15c.jar' > '/opt/kafka/plugins/my-connector-plugin/0df6d15c/0df6d15c.jar.sha512' \\",
                 "      && 'sha512sum' '--check' '/opt/kafka/plugins/my-connector-plugin/0df6d15c/0df6d15c.jar.sha512' \\",
                 "      && 'rm' '-f' '/opt/kafka/plugins/my-connector-plugin/0df6d15c/0df6d15c.jar.sha512'",
+                "FROM myImage:latest",
+                "USER root:root",
+                "COPY --from=artifact-d3bc2fed '/opt/kafka/plugins/my-connector-plugin/51e5038c' '/opt/kafka/plugins/my-connector-plugin/51e5038c'",
+                "COPY --from=artifact-5b41c9ee '/opt/kafka/plugins/my-connector-plugin/0df6d15c' '/opt/kafka/plugins/my-connector-plugin/0df6d15c'",
                 "USER 1001"));
     }
 
@@ -237,12 +258,15 @@ public class KafkaConnectDockerfileTest {
 
         KafkaConnectDockerfile df = new KafkaConnectDockerfile("myImage:latest", connectBuild, SHARED_ENV_PROVIDER);
 
-        assertThat(df.getDockerfile(), isEquivalent("FROM myImage:latest",
+        assertThat(df.getDockerfile(), isEquivalent("FROM myImage:latest AS artifact-1660cf41",
                 "USER root:root",
                 "RUN 'mkdir' '-p' '/opt/kafka/plugins/my-connector-plugin/6718766b' \\",
                 "      && 'curl' '-f' '-L' '--output' '/opt/kafka/plugins/my-connector-plugin/6718766b.tgz' 'https://mydomain.tld/my.tgz' \\",
                 "      && 'tar' 'xvfz' '/opt/kafka/plugins/my-connector-plugin/6718766b.tgz' '-C' '/opt/kafka/plugins/my-connector-plugin/6718766b' \\",
                 "      && 'rm' '-vf' '/opt/kafka/plugins/my-connector-plugin/6718766b.tgz'",
+                "FROM myImage:latest",
+                "USER root:root",
+                "COPY --from=artifact-1660cf41 '/opt/kafka/plugins/my-connector-plugin/6718766b' '/opt/kafka/plugins/my-connector-plugin/6718766b'",
                 "USER 1001"));
     }
 
@@ -257,13 +281,16 @@ public class KafkaConnectDockerfileTest {
 
         KafkaConnectDockerfile df = new KafkaConnectDockerfile("myImage:latest", connectBuild, SHARED_ENV_PROVIDER);
 
-        assertThat(df.getDockerfile(), isEquivalent("FROM myImage:latest",
+        assertThat(df.getDockerfile(), isEquivalent("FROM myImage:latest AS artifact-963f4900",
                 "USER root:root",
                 "RUN 'mkdir' '-p' '/opt/kafka/plugins/my-connector-plugin/d8d533bc' \\",
                 "      && 'curl' '-f' '-L' '--output' '/opt/kafka/plugins/my-connector-plugin/d8d533bc.zip' 'https://mydomain.tld/my.zip' \\",
                 "      && 'unzip' '/opt/kafka/plugins/my-connector-plugin/d8d533bc.zip' '-d' '/opt/kafka/plugins/my-connector-plugin/d8d533bc' \\",
                 "      && 'find' '/opt/kafka/plugins/my-connector-plugin/d8d533bc' '-type' 'l' | 'xargs' 'rm' '-f' \\",
                 "      && 'rm' '-vf' '/opt/kafka/plugins/my-connector-plugin/d8d533bc.zip'",
+                "FROM myImage:latest",
+                "USER root:root",
+                "COPY --from=artifact-963f4900 '/opt/kafka/plugins/my-connector-plugin/d8d533bc' '/opt/kafka/plugins/my-connector-plugin/d8d533bc'",
                 "USER 1001"));
     }
 
@@ -278,7 +305,7 @@ public class KafkaConnectDockerfileTest {
 
         KafkaConnectDockerfile df = new KafkaConnectDockerfile("myImage:latest", connectBuild, SHARED_ENV_PROVIDER);
 
-        assertThat(df.getDockerfile(), isEquivalent("FROM myImage:latest",
+        assertThat(df.getDockerfile(), isEquivalent("FROM myImage:latest AS artifact-08df8ddc",
                 "USER root:root",
                 "RUN 'mkdir' '-p' '/opt/kafka/plugins/my-connector-plugin/90e04094' \\",
                 "      && 'curl' '-f' '-L' '--output' '/opt/kafka/plugins/my-connector-plugin/90e04094.zip' 'https://mydomain.tld/my2.zip' \\",
@@ -288,6 +315,9 @@ public class KafkaConnectDockerfileTest {
                 "      && 'unzip' '/opt/kafka/plugins/my-connector-plugin/90e04094.zip' '-d' '/opt/kafka/plugins/my-connector-plugin/90e04094' \\",
                 "      && 'find' '/opt/kafka/plugins/my-connector-plugin/90e04094' '-type' 'l' | 'xargs' 'rm' '-f' \\",
                 "      && 'rm' '-vf' '/opt/kafka/plugins/my-connector-plugin/90e04094.zip'",
+                "FROM myImage:latest",
+                "USER root:root",
+                "COPY --from=artifact-08df8ddc '/opt/kafka/plugins/my-connector-plugin/90e04094' '/opt/kafka/plugins/my-connector-plugin/90e04094'",
                 "USER 1001"));
     }
 
@@ -302,7 +332,7 @@ public class KafkaConnectDockerfileTest {
 
         KafkaConnectDockerfile df = new KafkaConnectDockerfile("myImage:latest", connectBuild, SHARED_ENV_PROVIDER);
 
-        assertThat(df.getDockerfile(), isEquivalent("FROM myImage:latest",
+        assertThat(df.getDockerfile(), isEquivalent("FROM myImage:latest AS artifact-836fce77",
                 "USER root:root",
                 "RUN 'mkdir' '-p' '/opt/kafka/plugins/my-connector-plugin/638bd501' \\",
                 "      && 'curl' '-f' '-L' '--output' '/opt/kafka/plugins/my-connector-plugin/638bd501.tgz' 'https://mydomain.tld/my2.tgz' \\",
@@ -311,6 +341,9 @@ public class KafkaConnectDockerfileTest {
                 "      && 'rm' '-f' '/opt/kafka/plugins/my-connector-plugin/638bd501.tgz.sha512' \\",
                 "      && 'tar' 'xvfz' '/opt/kafka/plugins/my-connector-plugin/638bd501.tgz' '-C' '/opt/kafka/plugins/my-connector-plugin/638bd501' \\",
                 "      && 'rm' '-vf' '/opt/kafka/plugins/my-connector-plugin/638bd501.tgz'",
+                "FROM myImage:latest",
+                "USER root:root",
+                "COPY --from=artifact-836fce77 '/opt/kafka/plugins/my-connector-plugin/638bd501' '/opt/kafka/plugins/my-connector-plugin/638bd501'",
                 "USER 1001"));
     }
 
@@ -325,12 +358,14 @@ public class KafkaConnectDockerfileTest {
 
         KafkaConnectDockerfile df = new KafkaConnectDockerfile("myImage:latest", connectBuild, SHARED_ENV_PROVIDER);
 
-        assertThat(df.getDockerfile(), isEquivalent("FROM myImage:latest",
+        assertThat(df.getDockerfile(), isEquivalent("FROM myImage:latest AS artifact-1660cf41",
                 "USER root:root",
                 "RUN 'mkdir' '-p' '/opt/kafka/plugins/my-connector-plugin/6718766b' \\",
                 "      && 'curl' '-f' '-L' '--output' '/opt/kafka/plugins/my-connector-plugin/6718766b.tgz' 'https://mydomain.tld/my.tgz' \\",
                 "      && 'tar' 'xvfz' '/opt/kafka/plugins/my-connector-plugin/6718766b.tgz' '-C' '/opt/kafka/plugins/my-connector-plugin/6718766b' \\",
                 "      && 'rm' '-vf' '/opt/kafka/plugins/my-connector-plugin/6718766b.tgz'",
+                "FROM myImage:latest AS artifact-836fce77",
+                "USER root:root",
                 "RUN 'mkdir' '-p' '/opt/kafka/plugins/my-connector-plugin/638bd501' \\",
                 "      && 'curl' '-f' '-L' '--output' '/opt/kafka/plugins/my-connector-plugin/638bd501.tgz' 'https://mydomain.tld/my2.tgz' \\",
                 "      && 'echo' 'sha-512-checksum /opt/kafka/plugins/my-connector-plugin/638bd501.tgz' > '/opt/kafka/plugins/my-connector-plugin/638bd501.tgz.sha512' \\",
@@ -338,6 +373,10 @@ public class KafkaConnectDockerfileTest {
                 "      && 'rm' '-f' '/opt/kafka/plugins/my-connector-plugin/638bd501.tgz.sha512' \\",
                 "      && 'tar' 'xvfz' '/opt/kafka/plugins/my-connector-plugin/638bd501.tgz' '-C' '/opt/kafka/plugins/my-connector-plugin/638bd501' \\",
                 "      && 'rm' '-vf' '/opt/kafka/plugins/my-connector-plugin/638bd501.tgz'",
+                "FROM myImage:latest",
+                "USER root:root",
+                "COPY --from=artifact-1660cf41 '/opt/kafka/plugins/my-connector-plugin/6718766b' '/opt/kafka/plugins/my-connector-plugin/6718766b'",
+                "COPY --from=artifact-836fce77 '/opt/kafka/plugins/my-connector-plugin/638bd501' '/opt/kafka/plugins/my-connector-plugin/638bd501'",
                 "USER 1001"));
     }
 
@@ -352,13 +391,15 @@ public class KafkaConnectDockerfileTest {
 
         KafkaConnectDockerfile df = new KafkaConnectDockerfile("myImage:latest", connectBuild, SHARED_ENV_PROVIDER);
 
-        assertThat(df.getDockerfile(), isEquivalent("FROM myImage:latest",
+        assertThat(df.getDockerfile(), isEquivalent("FROM myImage:latest AS artifact-963f4900",
                 "USER root:root",
                 "RUN 'mkdir' '-p' '/opt/kafka/plugins/my-connector-plugin/d8d533bc' \\",
                 "      && 'curl' '-f' '-L' '--output' '/opt/kafka/plugins/my-connector-plugin/d8d533bc.zip' 'https://mydomain.tld/my.zip' \\",
                 "      && 'unzip' '/opt/kafka/plugins/my-connector-plugin/d8d533bc.zip' '-d' '/opt/kafka/plugins/my-connector-plugin/d8d533bc' \\",
                 "      && 'find' '/opt/kafka/plugins/my-connector-plugin/d8d533bc' '-type' 'l' | 'xargs' 'rm' '-f' \\",
                 "      && 'rm' '-vf' '/opt/kafka/plugins/my-connector-plugin/d8d533bc.zip'",
+                "FROM myImage:latest AS artifact-08df8ddc",
+                "USER root:root",
                 "RUN 'mkdir' '-p' '/opt/kafka/plugins/my-connector-plugin/90e04094' \\",
                 "      && 'curl' '-f' '-L' '--output' '/opt/kafka/plugins/my-connector-plugin/90e04094.zip' 'https://mydomain.tld/my2.zip' \\",
                 "      && 'echo' 'sha-512-checksum /opt/kafka/plugins/my-connector-plugin/90e04094.zip' > '/opt/kafka/plugins/my-connector-plugin/90e04094.zip.sha512' \\",
@@ -367,6 +408,10 @@ public class KafkaConnectDockerfileTest {
                 "      && 'unzip' '/opt/kafka/plugins/my-connector-plugin/90e04094.zip' '-d' '/opt/kafka/plugins/my-connector-plugin/90e04094' \\",
                 "      && 'find' '/opt/kafka/plugins/my-connector-plugin/90e04094' '-type' 'l' | 'xargs' 'rm' '-f' \\",
                 "      && 'rm' '-vf' '/opt/kafka/plugins/my-connector-plugin/90e04094.zip'",
+                "FROM myImage:latest",
+                "USER root:root",
+                "COPY --from=artifact-963f4900 '/opt/kafka/plugins/my-connector-plugin/d8d533bc' '/opt/kafka/plugins/my-connector-plugin/d8d533bc'",
+                "COPY --from=artifact-08df8ddc '/opt/kafka/plugins/my-connector-plugin/90e04094' '/opt/kafka/plugins/my-connector-plugin/90e04094'",
                 "USER 1001"));
     }
 
@@ -388,23 +433,52 @@ public class KafkaConnectDockerfileTest {
                 "##############################\n" +
                 "##############################\n" +
                 "\n" +
-                "FROM myImage:latest\n" +
+                "FROM myImage:latest AS artifact-d3bc2fed\n" +
                 "\n" +
                 "USER root:root\n" +
                 "\n" +
-                "##########\n" +
-                "# Connector plugin my-connector-plugin\n" +
-                "##########\n" +
                 "RUN 'mkdir' '-p' '/opt/kafka/plugins/my-connector-plugin/51e5038c' \\\n" +
                 "      && 'curl' '-f' '-L' '--output' '/opt/kafka/plugins/my-connector-plugin/51e5038c/51e5038c.jar' 'https://mydomain.tld/my.jar'\n" +
                 "\n" +
+                "FROM myImage:latest AS artifact-5b41c9ee\n" +
+                "\n" +
+                "USER root:root\n" +
+                "\n" +
                 "RUN 'mkdir' '-p' '/opt/kafka/plugins/my-connector-plugin/0df6d15c' \\\n" +
                 "      && 'curl' '-f' '-L' '--output' '/opt/kafka/plugins/my-connector-plugin/0df6d15c/0df6d15c.jar' 'https://mydomain.tld/my2.jar' \\\n" +
                 "      && 'echo' 'sha-512-checksum /opt/kafka/plugins/my-connector-plugin/0df6d15c/0df6d15c.jar' > '/opt/kafka/plugins/my-connector-plugin/0df6d15c/0df6d15c.jar.sha512' \\\n" +
                 "      && 'sha512sum' '--check' '/opt/kafka/plugins/my-connector-plugin/0df6d15c/0df6d15c.jar.sha512' \\\n" +
                 "      && 'rm' '-f' '/opt/kafka/plugins/my-connector-plugin/0df6d15c/0df6d15c.jar.sha512'\n" +
                 "\n" +
-                "USER 1001\n\n"));
+                "FROM myImage:latest\n" +
+                "\n" +
+                "USER root:root\n" +
+                "\n" +
+                "##########\n" +
+                "# Connector plugin my-connector-plugin\n" +
+                "##########\n" +
+                "COPY --from=artifact-d3bc2fed '/opt/kafka/plugins/my-connector-plugin/51e5038c' '/opt/kafka/plugins/my-connector-plugin/51e5038c'\n" +
+                "\n" +
+                "COPY --from=artifact-5b41c9ee '/opt/kafka/plugins/my-connector-plugin/0df6d15c' '/opt/kafka/plugins/my-connector-plugin/0df6d15c'\n" +
+                "\n" +
+                "USER 1001\n" +
+                "\n"));
+    }
+
+    @ParallelTest
+    public void testIdenticalArtifactsShareStage()   {
+        Build connectBuild = new BuildBuilder()
+                .withPlugins(new PluginBuilder()
+                        .withName("my-connector-plugin")
+                        .withArtifacts(jarArtifactNoChecksum, jarArtifactNoChecksum, jarArtifactWithChecksum)
+                        .build())
+                .build();
+
+        KafkaConnectDockerfile df = new KafkaConnectDockerfile("myImage:latest", connectBuild, SHARED_ENV_PROVIDER);
+
+        assertThat(df.getDockerfile().split("FROM myImage:latest AS artifact-d3bc2fed\n", -1).length, is(2));
+        assertThat(df.getDockerfile().split("COPY --from=artifact-d3bc2fed ", -1).length, is(3));
+        assertThat(df.getDockerfile().split("FROM myImage:latest AS ", -1).length, is(3));
     }
 
     @ParallelTest
@@ -478,7 +552,7 @@ public class KafkaConnectDockerfileTest {
 
         KafkaConnectDockerfile df = new KafkaConnectDockerfile("myImage:latest", connectBuild, SHARED_ENV_PROVIDER);
 
-        assertThat(df.getDockerfile(), isEquivalent("FROM myImage:latest",
+        assertThat(df.getDockerfile(), isEquivalent("FROM myImage:latest AS artifact-3699ed8b",
                 "USER root:root",
                 "RUN 'mkdir' '-p' '/opt/kafka/plugins/my-connector-plugin/90e04094' \\",
                 "      && 'curl' '-f' '-k' '-L' '--output' '/opt/kafka/plugins/my-connector-plugin/90e04094.zip' 'https://mydomain.tld/my2.zip' \\",
@@ -488,8 +562,14 @@ public class KafkaConnectDockerfileTest {
                 "      && 'unzip' '/opt/kafka/plugins/my-connector-plugin/90e04094.zip' '-d' '/opt/kafka/plugins/my-connector-plugin/90e04094' \\",
                 "      && 'find' '/opt/kafka/plugins/my-connector-plugin/90e04094' '-type' 'l' | 'xargs' 'rm' '-f' \\",
                 "      && 'rm' '-vf' '/opt/kafka/plugins/my-connector-plugin/90e04094.zip'",
+                "FROM myImage:latest AS artifact-be4233ab",
+                "USER root:root",
                 "RUN 'mkdir' '-p' '/opt/kafka/plugins/my-connector-plugin/2c3b64c7' \\",
                 "      && 'curl' '-f' '-k' '-L' '--output' '/opt/kafka/plugins/my-connector-plugin/2c3b64c7/my.so' 'https://mydomain.tld/download?artifact=my.so'",
+                "FROM myImage:latest",
+                "USER root:root",
+                "COPY --from=artifact-3699ed8b '/opt/kafka/plugins/my-connector-plugin/90e04094' '/opt/kafka/plugins/my-connector-plugin/90e04094'",
+                "COPY --from=artifact-be4233ab '/opt/kafka/plugins/my-connector-plugin/2c3b64c7' '/opt/kafka/plugins/my-connector-plugin/2c3b64c7'",
                 "USER 1001"));
     }
 
@@ -532,17 +612,34 @@ public class KafkaConnectDockerfileTest {
                 "##############################\n" +
                 "##############################\n" +
                 "\n" +
-                "FROM quay.io/strimzi/maven-builder:latest AS downloadArtifacts\n" +
+                "FROM myImage:latest AS artifact-871c7a7f\n" +
+                "\n" +
+                "USER root:root\n" +
+                "\n" +
+                "RUN 'mkdir' '-p' '/opt/kafka/plugins/my-connector-plugin/9bb2fd11' \\\n" +
+                "      && 'curl' '-f' '-L' '--output' '/opt/kafka/plugins/my-connector-plugin/9bb2fd11/9bb2fd11.jar' 'http://url.com/ar.jar'\n" +
+                "\n" +
+                "FROM quay.io/strimzi/maven-builder:latest AS artifact-46c63e6e\n" +
+                "\n" +
                 "RUN 'curl' '-f' '-L' '--create-dirs' '--output' '/tmp/my-connector-plugin/64cebd9c/pom.xml' 'https://repo1.maven.org/maven2/g1/a1/v1/a1-v1.pom' \\\n" +
                 "      && 'echo' '<settings xmlns=\"http://maven.apache.org/SETTINGS/1.0.0\"><profiles><profile><id>download</id><repositories><repository><id>custom-repo</id><url>https://repo1.maven.org/maven2/</url></repository></repositories></profile></profiles><activeProfiles><activeProfile>download</activeProfile></activeProfiles></settings>' > '/tmp/64cebd9c.xml' \\\n" +
                 "      && 'mvn' 'dependency:copy-dependencies' '-s' '/tmp/64cebd9c.xml' '-DoutputDirectory=/tmp/artifacts/my-connector-plugin/64cebd9c' '-f' '/tmp/my-connector-plugin/64cebd9c/pom.xml' \\\n" +
                 "      && 'curl' '-f' '-L' '--create-dirs' '--output' '/tmp/artifacts/my-connector-plugin/64cebd9c/a1-v1.jar' 'https://repo1.maven.org/maven2/g1/a1/v1/a1-v1.jar'\n" +
                 "\n" +
+                "FROM quay.io/strimzi/maven-builder:latest AS artifact-868e981b\n" +
+                "\n" +
                 "RUN 'curl' '-f' '-L' '--create-dirs' '--output' '/tmp/my-connector-plugin/9983060e/pom.xml' 'https://repo1.maven.org/maven2/g2/a2/v2/a2-v2.pom' \\\n" +
                 "      && 'echo' '<settings xmlns=\"http://maven.apache.org/SETTINGS/1.0.0\"><profiles><profile><id>download</id><repositories><repository><id>custom-repo</id><url>https://repo1.maven.org/maven2/</url></repository></repositories></profile></profiles><activeProfiles><activeProfile>download</activeProfile></activeProfiles></settings>' > '/tmp/9983060e.xml' \\\n" +
                 "      && 'mvn' 'dependency:copy-dependencies' '-s' '/tmp/9983060e.xml' '-DoutputDirectory=/tmp/artifacts/my-connector-plugin/9983060e' '-f' '/tmp/my-connector-plugin/9983060e/pom.xml' \\\n" +
                 "      && 'curl' '-f' '-L' '--create-dirs' '--output' '/tmp/artifacts/my-connector-plugin/9983060e/a2-v2.jar' 'https://repo1.maven.org/maven2/g2/a2/v2/a2-v2.jar'\n" +
                 "\n" +
+                "FROM myImage:latest AS artifact-b8909639\n" +
+                "\n" +
+                "USER root:root\n" +
+                "\n" +
+                "RUN 'mkdir' '-p' '/opt/kafka/plugins/other-connector-plugin/9bb2fd11' \\\n" +
+                "      && 'curl' '-f' '-L' '--output' '/opt/kafka/plugins/other-connector-plugin/9bb2fd11/9bb2fd11.jar' 'http://url.com/ar.jar'\n" +
+                "\n" +
                 "FROM myImage:latest\n" +
                 "\n" +
                 "USER root:root\n" +
@@ -550,18 +647,16 @@ public class KafkaConnectDockerfileTest {
                 "##########\n" +
                 "# Connector plugin my-connector-plugin\n" +
                 "##########\n" +
-                "RUN 'mkdir' '-p' '/opt/kafka/plugins/my-connector-plugin/9bb2fd11' \\\n" +
-                "      && 'curl' '-f' '-L' '--output' '/opt/kafka/plugins/my-connector-plugin/9bb2fd11/9bb2fd11.jar' 'http://url.com/ar.jar'\n" +
+                "COPY --from=artifact-871c7a7f '/opt/kafka/plugins/my-connector-plugin/9bb2fd11' '/opt/kafka/plugins/my-connector-plugin/9bb2fd11'\n" +
                 "\n" +
-                "COPY --from=downloadArtifacts '/tmp/artifacts/my-connector-plugin/64cebd9c' '/opt/kafka/plugins/my-connector-plugin/64cebd9c'\n" +
+                "COPY --from=artifact-46c63e6e '/tmp/artifacts/my-connector-plugin/64cebd9c' '/opt/kafka/plugins/my-connector-plugin/64cebd9c'\n" +
                 "\n" +
-                "COPY --from=downloadArtifacts '/tmp/artifacts/my-connector-plugin/9983060e' '/opt/kafka/plugins/my-connector-plugin/9983060e'\n" +
+                "COPY --from=artifact-868e981b '/tmp/artifacts/my-connector-plugin/9983060e' '/opt/kafka/plugins/my-connector-plugin/9983060e'\n" +
                 "\n" +
                 "##########\n" +
                 "# Connector plugin other-connector-plugin\n" +
                 "##########\n" +
-                "RUN 'mkdir' '-p' '/opt/kafka/plugins/other-connector-plugin/9bb2fd11' \\\n" +
-                "      && 'curl' '-f' '-L' '--output' '/opt/kafka/plugins/other-connector-plugin/9bb2fd11/9bb2fd11.jar' 'http://url.com/ar.jar'\n" +
+                "COPY --from=artifact-b8909639 '/opt/kafka/plugins/other-connector-plugin/9bb2fd11' '/opt/kafka/plugins/other-connector-plugin/9bb2fd11'\n" +
                 "\n" +
                 "USER 1001\n" +
                 "\n"));
@@ -593,7 +688,8 @@ public class KafkaConnectDockerfileTest {
                 "##############################\n" +
                 "##############################\n" +
                 "\n" +
-                "FROM quay.io/strimzi/maven-builder:latest AS downloadArtifacts\n" +
+                "FROM quay.io/strimzi/maven-builder:latest AS artifact-6ed130b9\n" +
+                "\n" +
                 "RUN 'curl' '-f' '-L' '--create-dirs' '--output' '/tmp/my-connector-plugin/64cebd9c/pom.xml' 'https://my-maven-repository.com/maven2/g1/a1/v1/a1-v1.pom' \\\n" +
                 "      && 'echo' '<settings xmlns=\"http://maven.apache.org/SETTINGS/1.0.0\"><profiles><profile><id>download</id><repositories><repository><id>custom-repo</id><url>https://my-maven-repository.com/maven2/</url></repository></repositories></profile></profiles><activeProfiles><activeProfile>download</activeProfile></activeProfiles></settings>' > '/tmp/64cebd9c.xml' \\\n" +
                 "      && 'mvn' 'dependency:copy-dependencies' '-s' '/tmp/64cebd9c.xml' '-DoutputDirectory=/tmp/artifacts/my-connector-plugin/64cebd9c' '-f' '/tmp/my-connector-plugin/64cebd9c/pom.xml' \\\n" +
@@ -606,7 +702,7 @@ public class KafkaConnectDockerfileTest {
                 "##########\n" +
                 "# Connector plugin my-connector-plugin\n" +
                 "##########\n" +
-                "COPY --from=downloadArtifacts '/tmp/artifacts/my-connector-plugin/64cebd9c' '/opt/kafka/plugins/my-connector-plugin/64cebd9c'\n" +
+                "COPY --from=artifact-6ed130b9 '/tmp/artifacts/my-connector-plugin/64cebd9c' '/opt/kafka/plugins/my-connector-plugin/64cebd9c'\n" +
                 "\n" +
                 "USER 1001\n" +
                 "\n"));
@@ -639,7 +735,8 @@ public class KafkaConnectDockerfileTest {
                 "##############################\n" +
                 "##############################\n" +
                 "\n" +
-                "FROM quay.io/strimzi/maven-builder:latest AS downloadArtifacts\n" +
+                "FROM quay.io/strimzi/maven-builder:latest AS artifact-36caacb4\n" +
+                "\n" +
                 "RUN 'curl' '-f' '-k' '-L' '--create-dirs' '--output' '/tmp/my-connector-plugin/64cebd9c/pom.xml' 'https://my-maven-repository.com/maven2/g1/a1/v1/a1-v1.pom' \\\n" +
                 "      && 'echo' '<settings xmlns=\"http://maven.apache.org/SETTINGS/1.0.0\"><profiles><profile><id>download</id><repositories><repository><id>custom-repo</id><url>https://my-maven-repository.com/maven2/</url></repository></repositories></profile></profiles><activeProfiles><activeProfile>download</activeProfile></activeProfiles></settings>' > '/tmp/64cebd9c.xml' \\\n" +
                 "      && 'mvn' 'dependency:copy-dependencies' '-s' '/tmp/64cebd9c.xml' '-DoutputDirectory=/tmp/artifacts/my-connector-plugin/64cebd9c' '-Daether.connector.https.securityMode=insecure' '-Dmaven.wagon.http.ssl.insecure=true' '-Dmaven.wagon.http.ssl.allowall=true' '-Dmaven.wagon.http.ssl.ignore.validity.dates=true' '-f' '/tmp/my-connector-plugin/64cebd9c/pom.xml' \\\n" +
@@ -652,7 +749,7 @@ public class KafkaConnectDockerfileTest {
                 "##########\n" +
                 "# Connector plugin my-connector-plugin\n" +
                 "##########\n" +
-                "COPY --from=downloadArtifacts '/tmp/artifacts/my-connector-plugin/64cebd9c' '/opt/kafka/plugins/my-connector-plugin/64cebd9c'\n" +
+                "COPY --from=artifact-36caacb4 '/tmp/artifacts/my-connector-plugin/64cebd9c' '/opt/kafka/plugins/my-connector-plugin/64cebd9c'\n" +
                 "\n" +
                 "USER 1001\n" +
                 "\n"));
@@ -684,7 +781,8 @@ public class KafkaConnectDockerfileTest {
                 "##############################\n" +
                 "##############################\n" +
                 "\n" +
-                "FROM quay.io/strimzi/maven-builder:latest AS downloadArtifacts\n" +
+                "FROM quay.io/strimzi/maven-builder:latest AS artifact-7e716709\n" +
+                "\n" +
                 "RUN 'curl' '-f' '-L' '--create-dirs' '--output' '/tmp/my-connector-plugin/64cebd9c/pom.xml' 'https://my-maven-repository.com/maven2</hack>\"/repo/g1/a1/v1/a1-v1.pom' \\\n" +
                 "      && 'echo' '<settings xmlns=\"http://maven.apache.org/SETTINGS/1.0.0\"><profiles><profile><id>download</id><repositories><repository><id>custom-repo</id><url>https://my-maven-repository.com/maven2&lt;/hack&gt;&quot;/repo/</url></repository></repositories></profile></profiles><activeProfiles><activeProfile>download</activeProfile></activeProfiles></settings>' > '/tmp/64cebd9c.xml' \\\n" +
                 "      && 'mvn' 'dependency:copy-dependencies' '-s' '/tmp/64cebd9c.xml' '-DoutputDirectory=/tmp/artifacts/my-connector-plugin/64cebd9c' '-f' '/tmp/my-connector-plugin/64cebd9c/pom.xml' \\\n" +
@@ -697,7 +795,7 @@ public class KafkaConnectDockerfileTest {
                 "##########\n" +
                 "# Connector plugin my-connector-plugin\n" +
                 "##########\n" +
-                "COPY --from=downloadArtifacts '/tmp/artifacts/my-connector-plugin/64cebd9c' '/opt/kafka/plugins/my-connector-plugin/64cebd9c'\n" +
+                "COPY --from=artifact-7e716709 '/tmp/artifacts/my-connector-plugin/64cebd9c' '/opt/kafka/plugins/my-connector-plugin/64cebd9c'\n" +
                 "\n" +
                 "USER 1001\n" +
                 "\n"));
@@ -12,6 +12,9 @@ import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
 import io.strimzi.api.kafka.model.common.Spec;
 import io.strimzi.api.kafka.model.kafka.Status;
+import io.strimzi.api.kafka.model.rebalance.KafkaRebalance;
+import io.strimzi.api.kafka.model.rebalance.KafkaRebalanceBuilder;
+import io.strimzi.operator.cluster.ResourceUtils;
 import io.strimzi.operator.cluster.operator.resource.kubernetes.AbstractWatchableStatusedNamespacedResourceOperator;
 import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.MicrometerMetricsProvider;
@@ -33,6 +36,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.util.concurrent.Callable;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
@@ -214,6 +218,64 @@ class AbstractOperatorTest {
         handlersRegistered.complete();
     }
 
+    @Test
+    void testReconciliationIsDroppedWhenShardIsLostWhileWaiting() {
+        var resourceOperator = new DefaultWatchableStatusedResourceOperator<>(vertx, null, "TestResource");
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        var target = new DefaultOperator(vertx, "Test", resourceOperator, new MicrometerMetricsProvider(BackendRegistries.getDefaultNow()), null);
+        Reconciliation reconciliation = new Reconciliation("test", "Test", "my-namespace", "my-resource");
+
+        AtomicBoolean owned = new AtomicBoolean(true);
+        target.setShardOwnership((namespace, name) -> owned.get());
+        ReconciliationScheduler scheduler = new ReconciliationScheduler(1, 1, ResourceUtils.metricsProvider());
+        target.setScheduler(scheduler);
+
+        // Another reconciliation occupies the only slot => the reconciliation waits in the scheduler
+        Promise<Void> blocker = Promise.promise();
+        scheduler.schedule(new Reconciliation("test", "Test", "my-namespace", "other-resource"), ReconciliationScheduler.Priority.EVENT, blocker::future);
+        @SuppressWarnings("unchecked")
+        Future<Void> result = target.reconcile(reconciliation);
+        assertThat(scheduler.pendingCount(), is(1));
+
+        // The shard is lost before the reconciliation starts => it is dropped without getting the resource
+        owned.set(false);
+        blocker.complete();
+        assertThat(result.succeeded(), is(true));
+        assertThat(scheduler.runningCount(), is(0));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testCachedResourceIsStaleUntilTheCacheReceivesTheWrittenVersion() {
+        var resourceOperator = new DefaultWatchableStatusedResourceOperator<>(vertx, null, "TestResource");
+        @SuppressWarnings("rawtypes")
+        var target = new DefaultOperator(vertx, "Test", resourceOperator, new MicrometerMetricsProvider(BackendRegistries.getDefaultNow()), null);
+
+        assertThat(target.isStale("my-namespace", "my-resource", rebalance("9")), is(false));
+
+        target.resourceWritten(rebalance("10"));
+        assertThat(target.isStale("my-namespace", "my-resource", rebalance("9")), is(true));
+        assertThat(target.isStale("my-namespace", "other-resource", rebalance("9")), is(false));
+        assertThat(target.isStale("my-namespace", "my-resource", rebalance("10")), is(false));
+
+        // The cache caught up with the write => the written version is not remembered anymore
+        assertThat(target.isStale("my-namespace", "my-resource", rebalance("9")), is(false));
+
+        // Resource versions which are not numbers cannot be compared and are not remembered
+        target.resourceWritten(rebalance("not-a-number"));
+        assertThat(target.isStale("my-namespace", "my-resource", rebalance("9")), is(false));
+    }
+
+    private static KafkaRebalance rebalance(String resourceVersion) {
+        return new KafkaRebalanceBuilder()
+                .withNewMetadata()
+                    .withName("my-resource")
+                    .withNamespace("my-namespace")
+                    .withResourceVersion(resourceVersion)
+                .endMetadata()
+                .build();
+    }
+
     private static class DefaultOperator<
             T extends CustomResource<P, S>,
             P extends Spec,
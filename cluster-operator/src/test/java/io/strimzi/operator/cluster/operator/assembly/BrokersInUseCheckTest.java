@@ -5,6 +5,7 @@
 package io.strimzi.operator.cluster.operator.assembly;
 
 import io.strimzi.api.kafka.model.kafka.Kafka;
+import io.strimzi.operator.cluster.operator.resource.PartitionIndex;
 import io.strimzi.operator.common.AdminClientProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.vertx.core.Vertx;
@@ -85,7 +86,7 @@ public class BrokersInUseCheckTest {
         // Get brokers in use
         Checkpoint checkpoint = context.checkpoint();
         BrokersInUseCheck operations = new BrokersInUseCheck();
-        operations.brokersInUse(RECONCILIATION, vertx, DUMMY_IDENTITY, mock)
+        operations.brokersInUse(RECONCILIATION, vertx, DUMMY_IDENTITY, mock, new PartitionIndex(RECONCILIATION, vertx))
                 .onComplete(context.succeeding(brokersInUse -> {
                     Collection<String> topicList = topicListCaptor.getValue();
                     assertThat(topicList.size(), is(3));
@@ -124,7 +125,7 @@ public class BrokersInUseCheckTest {
         // Get brokers in use
         Checkpoint checkpoint = context.checkpoint();
         BrokersInUseCheck operations = new BrokersInUseCheck();
-        operations.brokersInUse(RECONCILIATION, vertx, DUMMY_IDENTITY, mock)
+        operations.brokersInUse(RECONCILIATION, vertx, DUMMY_IDENTITY, mock, new PartitionIndex(RECONCILIATION, vertx))
                 .onComplete(context.succeeding(brokersInUse -> {
                     Collection<String> topicList = topicListCaptor.getValue();
                     assertThat(topicList.size(), is(1));
@@ -163,7 +164,7 @@ public class BrokersInUseCheckTest {
         // Get brokers in use
         Checkpoint checkpoint = context.checkpoint();
         BrokersInUseCheck operations = new BrokersInUseCheck();
-        operations.brokersInUse(RECONCILIATION, vertx, DUMMY_IDENTITY, mock)
+        operations.brokersInUse(RECONCILIATION, vertx, DUMMY_IDENTITY, mock, new PartitionIndex(RECONCILIATION, vertx))
                 .onComplete(context.failing(e -> {
                     assertThat(e.getMessage(), is("Test error ..."));
 
@@ -192,7 +193,7 @@ public class BrokersInUseCheckTest {
         // Get brokers in use
         Checkpoint checkpoint = context.checkpoint();
         BrokersInUseCheck operations = new BrokersInUseCheck();
-        operations.brokersInUse(RECONCILIATION, vertx, DUMMY_IDENTITY, mock)
+        operations.brokersInUse(RECONCILIATION, vertx, DUMMY_IDENTITY, mock, new PartitionIndex(RECONCILIATION, vertx))
                 .onComplete(context.failing(e -> {
                     assertThat(e.getMessage(), is("Test error ..."));
 
@@ -212,7 +213,7 @@ public class BrokersInUseCheckTest {
         // Get brokers in use
         Checkpoint checkpoint = context.checkpoint();
         BrokersInUseCheck operations = new BrokersInUseCheck();
-        operations.brokersInUse(RECONCILIATION, vertx, DUMMY_IDENTITY, mock)
+        operations.brokersInUse(RECONCILIATION, vertx, DUMMY_IDENTITY, mock, new PartitionIndex(RECONCILIATION, vertx))
                 .onComplete(context.failing(e -> {
                     assertThat(e.getMessage(), is("Test error ..."));
 
@@ -0,0 +1,161 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.strimzi.operator.common.Reconciliation;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+@ExtendWith(VertxExtension.class)
+public class ConnectorReconciliationSchedulerTest {
+    private static final Reconciliation RECONCILIATION = new Reconciliation("test", "KafkaConnect", "namespace", "my-connect");
+
+    private static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    private static List<Promise<Void>> schedule(ConnectorReconciliationScheduler scheduler, int count) {
+        List<Promise<Void>> started = new ArrayList<>();
+
+        for (int i = 0; i < count; i++) {
+            scheduler.schedule(RECONCILIATION, () -> {
+                Promise<Void> promise = Promise.promise();
+                started.add(promise);
+                return promise.future();
+            });
+        }
+
+        return started;
+    }
+
+    private static ConnectRestException restException(int statusCode) {
+        return new ConnectRestException("GET", "/connectors", statusCode, "Error", "");
+    }
+
+    @Test
+    public void testConcurrencyIsLimited() {
+        ConnectorReconciliationScheduler scheduler = new ConnectorReconciliationScheduler(vertx, 2);
+        List<Promise<Void>> started = schedule(scheduler, 5);
+
+        assertThat(started.size(), is(2));
+
+        started.get(0).complete();
+        assertThat(started.size(), is(3));
+
+        started.get(1).fail(restException(404));
+        started.get(2).complete();
+        assertThat(started.size(), is(5));
+
+        // Errors which do not indicate an overloaded Connect cluster do not change the concurrency
+        assertThat(scheduler.concurrency(), is(2));
+        assertThat(scheduler.delayMs(), is(0L));
+    }
+
+    @Test
+    public void testResultIsPassedThrough(VertxTestContext context) {
+        ConnectorReconciliationScheduler scheduler = new ConnectorReconciliationScheduler(vertx, 1);
+
+        Checkpoint async = context.checkpoint(2);
+        scheduler.schedule(RECONCILIATION, () -> Future.succeededFuture("result"))
+                .onComplete(context.succeeding(result -> context.verify(() -> {
+                    assertThat(result, is("result"));
+                    async.flag();
+                })));
+
+        scheduler.schedule(RECONCILIATION, () -> {
+            throw new RuntimeException("failure");
+        }).onComplete(context.failing(error -> context.verify(() -> {
+            assertThat(error.getMessage(), is("failure"));
+            async.flag();
+        })));
+    }
+
+    @Test
+    public void testOverloadReducesConcurrency() {
+        ConnectorReconciliationScheduler scheduler = new ConnectorReconciliationScheduler(vertx, 8);
+        List<Promise<Void>> started = schedule(scheduler, 8);
+
+        started.get(0).fail(restException(409));
+        assertThat(scheduler.concurrency(), is(4));
+        assertThat(scheduler.delayMs(), is(ConnectorReconciliationScheduler.INITIAL_DELAY_MS));
+
+        started.get(1).fail(restException(503));
+        assertThat(scheduler.concurrency(), is(2));
+        assertThat(scheduler.delayMs(), is(2 * ConnectorReconciliationScheduler.INITIAL_DELAY_MS));
+
+        started.get(2).fail(restException(500));
+        started.get(3).fail(restException(500));
+        assertThat(scheduler.concurrency(), is(1));
+        assertThat(scheduler.delayMs(), is(8 * ConnectorReconciliationScheduler.INITIAL_DELAY_MS));
+    }
+
+    @Test
+    public void testDelayIsLimited() {
+        ConnectorReconciliationScheduler scheduler = new ConnectorReconciliationScheduler(vertx, 100);
+        List<Promise<Void>> started = schedule(scheduler, 100);
+
+        for (Promise<Void> promise : started) {
+            promise.fail(restException(409));
+        }
+
+        assertThat(scheduler.concurrency(), is(1));
+        assertThat(scheduler.delayMs(), is(ConnectorReconciliationScheduler.MAX_DELAY_MS));
+    }
+
+    @Test
+    public void testConcurrencyRecovers(VertxTestContext context) {
+        ConnectorReconciliationScheduler scheduler = new ConnectorReconciliationScheduler(vertx, 2);
+
+        Checkpoint async = context.checkpoint();
+        scheduler.schedule(RECONCILIATION, () -> Future.failedFuture(restException(409)))
+                .recover(error -> {
+                    context.verify(() -> {
+                        assertThat(scheduler.concurrency(), is(1));
+                        assertThat(scheduler.delayMs(), is(ConnectorReconciliationScheduler.INITIAL_DELAY_MS));
+                    });
+
+                    // A successful reconciliation increases the concurrency and removes the delay again
+                    return scheduler.schedule(RECONCILIATION, () -> Future.succeededFuture());
+                })
+                .onComplete(context.succeeding(i -> context.verify(() -> {
+                    assertThat(scheduler.concurrency(), is(2));
+                    assertThat(scheduler.delayMs(), is(0L));
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testIsOverloaded() {
+        assertThat(ConnectorReconciliationScheduler.isOverloaded(restException(409)), is(true));
+        assertThat(ConnectorReconciliationScheduler.isOverloaded(restException(500)), is(true));
+        assertThat(ConnectorReconciliationScheduler.isOverloaded(new CompletionException(restException(503))), is(true));
+        assertThat(ConnectorReconciliationScheduler.isOverloaded(restException(404)), is(false));
+        assertThat(ConnectorReconciliationScheduler.isOverloaded(new RuntimeException("failure")), is(false));
+        assertThat(ConnectorReconciliationScheduler.isOverloaded(null), is(false));
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+public class ConnectorStateTrackerTest {
+    private static ConnectorSnapshot connector(String state, String... taskStates) {
+        List<Map<String, Object>> tasks = new ArrayList<>();
+        for (int i = 0; i < taskStates.length; i++) {
+            tasks.add(Map.of("id", i, "state", taskStates[i], "worker_id", "worker-" + i));
+        }
+
+        return new ConnectorSnapshot(Map.of(), Map.of(
+                "name", "my-connector",
+                "connector", Map.of("state", state, "worker_id", "worker-0"),
+                "tasks", tasks));
+    }
+
+    @Test
+    public void testFirstUpdateReportsNoChanges() {
+        ConnectorStateTracker tracker = new ConnectorStateTracker();
+
+        assertThat(tracker.update("namespace", "my-connect", Map.of("a", connector("RUNNING", "RUNNING"))), is(Set.of()));
+    }
+
+    @Test
+    public void testStateChanges() {
+        ConnectorStateTracker tracker = new ConnectorStateTracker();
+        tracker.update("namespace", "my-connect", Map.of(
+                "a", connector("RUNNING", "RUNNING", "RUNNING"),
+                "b", connector("RUNNING", "RUNNING"),
+                "c", connector("PAUSED")));
+
+        Set<String> changed = tracker.update("namespace", "my-connect", Map.of(
+                "a", connector("RUNNING", "RUNNING", "FAILED"),
+                "b", connector("RUNNING", "RUNNING"),
+                "c", connector("RUNNING"),
+                "d", connector("RUNNING")));
+
+        // New connector d is not reported as it is reconciled with the next periodic reconciliation
+        assertThat(changed, is(Set.of("a", "c")));
+
+        assertThat(tracker.update("namespace", "my-connect", Map.of(
+                "a", connector("RUNNING", "RUNNING", "FAILED"),
+                "b", connector("RUNNING", "RUNNING"),
+                "c", connector("RUNNING"),
+                "d", connector("FAILED"))), is(Set.of("d")));
+    }
+
+    @Test
+    public void testClustersAreTrackedSeparately() {
+        ConnectorStateTracker tracker = new ConnectorStateTracker();
+        tracker.update("namespace", "my-connect", Map.of("a", connector("RUNNING")));
+        tracker.update("namespace", "my-other-connect", Map.of("a", connector("FAILED")));
+
+        assertThat(tracker.update("namespace", "my-connect", Map.of("a", connector("RUNNING"))), is(Set.of()));
+        assertThat(tracker.update("other-namespace", "my-connect", Map.of("a", connector("FAILED"))), is(Set.of()));
+
+        tracker.remove("namespace", "my-connect");
+        assertThat(tracker.update("namespace", "my-connect", Map.of("a", connector("FAILED"))), is(Set.of()));
+    }
+
+    @Test
+    public void testStateIgnoresWorkers() {
+        ConnectorSnapshot moved = new ConnectorSnapshot(Map.of(), Map.of(
+                "connector", Map.of("state", "RUNNING", "worker_id", "worker-5"),
+                "tasks", List.of(Map.of("id", 0, "state", "RUNNING", "worker_id", "worker-7"))));
+
+        assertThat(ConnectorStateTracker.state(moved), is(ConnectorStateTracker.state(connector("RUNNING", "RUNNING"))));
+        assertThat(ConnectorStateTracker.state(moved), is(not(ConnectorStateTracker.state(connector("RUNNING", "FAILED")))));
+        assertThat(ConnectorStateTracker.state(new ConnectorSnapshot(Map.of(), null)), is(""));
+    }
+}
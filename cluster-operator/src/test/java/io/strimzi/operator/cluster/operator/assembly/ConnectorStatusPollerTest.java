@@ -0,0 +1,90 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.strimzi.api.kafka.model.connect.KafkaConnect;
+import io.strimzi.api.kafka.model.connect.KafkaConnectBuilder;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ConnectorStatusPollerTest {
+    private static final String NAMESPACE = "namespace";
+    private static final KafkaConnect CONNECT = new KafkaConnectBuilder()
+            .withNewMetadata()
+                .withName("my-connect")
+                .withNamespace(NAMESPACE)
+            .endMetadata()
+            .build();
+
+    private static ConnectorSnapshot connector(String state) {
+        return new ConnectorSnapshot(Map.of(), Map.of("connector", Map.of("state", state)));
+    }
+
+    @Test
+    public void testPollIsSkippedWhileThePreviousPollIsInProgress() {
+        KafkaConnectAssemblyOperator operator = mock(KafkaConnectAssemblyOperator.class);
+        Promise<List<KafkaConnect>> connects = Promise.promise();
+        when(operator.listPolledConnectClusters(NAMESPACE)).thenReturn(connects.future());
+        when(operator.listConnectorStates(any(), any())).thenReturn(Future.succeededFuture(Map.of()));
+
+        ConnectorStatusPoller poller = new ConnectorStatusPoller(operator);
+        Future<Void> firstPoll = poller.poll(NAMESPACE);
+
+        assertThat(poller.poll(NAMESPACE).succeeded(), is(true));
+        verify(operator, times(1)).listPolledConnectClusters(NAMESPACE);
+
+        connects.complete(List.of(CONNECT));
+        assertThat(firstPoll.succeeded(), is(true));
+
+        poller.poll(NAMESPACE);
+        verify(operator, times(2)).listPolledConnectClusters(NAMESPACE);
+    }
+
+    @Test
+    public void testOnlyChangedConnectorsAreReconciled() {
+        KafkaConnectAssemblyOperator operator = mock(KafkaConnectAssemblyOperator.class);
+        when(operator.listPolledConnectClusters(NAMESPACE)).thenReturn(Future.succeededFuture(List.of(CONNECT)));
+        when(operator.listConnectorStates(any(), any())).thenReturn(Future.succeededFuture(Map.of("a", connector("RUNNING"), "b", connector("RUNNING"))));
+        when(operator.reconcileChangedConnectors(any(), any(), any())).thenReturn(Future.succeededFuture());
+
+        ConnectorStatusPoller poller = new ConnectorStatusPoller(operator);
+        poller.update(NAMESPACE, "my-connect", Map.of("a", connector("RUNNING"), "b", connector("FAILED")));
+        assertThat(poller.poll(NAMESPACE).succeeded(), is(true));
+
+        verify(operator, times(1)).reconcileChangedConnectors(any(), eq(CONNECT), eq(Set.of("b")));
+
+        // Nothing changed since the last poll
+        assertThat(poller.poll(NAMESPACE).succeeded(), is(true));
+        verify(operator, times(1)).reconcileChangedConnectors(any(), any(), any());
+    }
+
+    @Test
+    public void testFailedPollDoesNotReconcileConnectors() {
+        KafkaConnectAssemblyOperator operator = mock(KafkaConnectAssemblyOperator.class);
+        when(operator.listPolledConnectClusters(anyString())).thenReturn(Future.succeededFuture(List.of(CONNECT)));
+        when(operator.listConnectorStates(any(), any())).thenReturn(Future.failedFuture(new ConnectRestException("GET", "/connectors", 500, "Error", "")));
+
+        ConnectorStatusPoller poller = new ConnectorStatusPoller(operator);
+        assertThat(poller.poll(NAMESPACE).succeeded(), is(true));
+
+        verify(operator, never()).reconcileChangedConnectors(any(), any(), any());
+    }
+}
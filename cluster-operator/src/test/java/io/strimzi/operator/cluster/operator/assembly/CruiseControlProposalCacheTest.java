@@ -0,0 +1,214 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.strimzi.api.kafka.model.rebalance.KafkaRebalanceMode;
+import io.strimzi.operator.cluster.operator.resource.cruisecontrol.AddBrokerOptions;
+import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlRebalanceResponse;
+import io.strimzi.operator.cluster.operator.resource.cruisecontrol.RebalanceOptions;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class CruiseControlProposalCacheTest {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final String NAMESPACE = "namespace";
+    private static final String CLUSTER = "my-cluster";
+    private static final String REQUEST = "/kafkacruisecontrol/rebalance?dryrun=true&verbose=true&goals=RackAwareGoal";
+    private static final String OTHER_REQUEST = "/kafkacruisecontrol/rebalance?dryrun=true&verbose=true&goals=CpuCapacityGoal";
+    private static final long TTL_MS = 30_000L;
+
+    private static CruiseControlRebalanceResponse proposal(String userTaskId) {
+        ObjectNode json = OBJECT_MAPPER.createObjectNode();
+        json.set("summary", OBJECT_MAPPER.createObjectNode());
+
+        CruiseControlRebalanceResponse response = mock(CruiseControlRebalanceResponse.class);
+        when(response.getUserTaskId()).thenReturn(userTaskId);
+        when(response.getJson()).thenReturn(json);
+        return response;
+    }
+
+    private static CruiseControlRebalanceResponse notEnoughData() {
+        CruiseControlRebalanceResponse response = mock(CruiseControlRebalanceResponse.class);
+        when(response.isNotEnoughDataForProposal()).thenReturn(true);
+        return response;
+    }
+
+    /**
+     * Proposal requests to Cruise Control which the test completes
+     */
+    private static class Requests implements Supplier<Future<CruiseControlRebalanceResponse>> {
+        private final List<Promise<CruiseControlRebalanceResponse>> requests = new ArrayList<>();
+
+        @Override
+        public Future<CruiseControlRebalanceResponse> get() {
+            Promise<CruiseControlRebalanceResponse> request = Promise.promise();
+            requests.add(request);
+            return request.future();
+        }
+    }
+
+    @Test
+    public void testIdenticalRequestsShareProposal() {
+        CruiseControlProposalCache cache = new CruiseControlProposalCache(TTL_MS, () -> 0L);
+        Requests requests = new Requests();
+
+        Future<CruiseControlRebalanceResponse> first = cache.proposal(NAMESPACE, CLUSTER, REQUEST, false, requests);
+        Future<CruiseControlRebalanceResponse> inFlight = cache.proposal(NAMESPACE, CLUSTER, REQUEST, false, requests);
+        cache.proposal(NAMESPACE, CLUSTER, OTHER_REQUEST, false, requests);
+        cache.proposal(NAMESPACE, "my-other-cluster", REQUEST, false, requests);
+        assertThat(requests.requests.size(), is(3));
+
+        CruiseControlRebalanceResponse proposal = proposal("task-1");
+        requests.requests.get(0).complete(proposal);
+        assertThat(first.result(), is(sameInstance(proposal)));
+        assertThat(inFlight.result(), is(sameInstance(proposal)));
+
+        assertThat(cache.proposal(NAMESPACE, CLUSTER, REQUEST, false, requests).result(), is(sameInstance(proposal)));
+        assertThat(requests.requests.size(), is(3));
+
+        // Refresh asks for a new proposal and replaces the cached one
+        cache.proposal(NAMESPACE, CLUSTER, REQUEST, true, requests);
+        assertThat(requests.requests.size(), is(4));
+    }
+
+    @Test
+    public void testProposalsExpire() {
+        AtomicLong now = new AtomicLong(0);
+        CruiseControlProposalCache cache = new CruiseControlProposalCache(TTL_MS, now::get);
+        Requests requests = new Requests();
+
+        cache.proposal(NAMESPACE, CLUSTER, REQUEST, false, requests);
+        requests.requests.get(0).complete(proposal("task-1"));
+
+        now.set(TTL_MS - 1);
+        cache.proposal(NAMESPACE, CLUSTER, REQUEST, false, requests);
+        assertThat(requests.requests.size(), is(1));
+
+        now.set(TTL_MS);
+        cache.proposal(NAMESPACE, CLUSTER, REQUEST, false, requests);
+        assertThat(requests.requests.size(), is(2));
+    }
+
+    @Test
+    public void testFailuresAreNotCached() {
+        CruiseControlProposalCache cache = new CruiseControlProposalCache(TTL_MS, () -> 0L);
+        Requests requests = new Requests();
+
+        Future<CruiseControlRebalanceResponse> failed = cache.proposal(NAMESPACE, CLUSTER, REQUEST, false, requests);
+        requests.requests.get(0).fail(new RuntimeException("Connection refused"));
+        assertThat(failed.failed(), is(true));
+
+        cache.proposal(NAMESPACE, CLUSTER, REQUEST, false, requests);
+        requests.requests.get(1).complete(notEnoughData());
+        assertThat(cache.size(), is(0));
+
+        cache.proposal(NAMESPACE, CLUSTER, REQUEST, false, requests);
+        assertThat(requests.requests.size(), is(3));
+    }
+
+    @Test
+    public void testInvalidation() {
+        CruiseControlProposalCache cache = new CruiseControlProposalCache(TTL_MS, () -> 0L);
+        Requests requests = new Requests();
+
+        cache.updateTopology(NAMESPACE, CLUSTER, List.of(0, 1, 2));
+        cache.proposal(NAMESPACE, CLUSTER, REQUEST, false, requests);
+        requests.requests.get(0).complete(proposal("task-1"));
+        cache.proposal(NAMESPACE, CLUSTER, OTHER_REQUEST, false, requests);
+        requests.requests.get(1).complete(proposal("task-2"));
+        assertThat(cache.size(), is(2));
+
+        // The order of the nodes does not matter
+        cache.updateTopology(NAMESPACE, CLUSTER, List.of(2, 1, 0));
+        assertThat(cache.size(), is(2));
+
+        cache.invalidateUserTask("task-1");
+        assertThat(cache.size(), is(1));
+
+        cache.updateTopology(NAMESPACE, CLUSTER, List.of(0, 1, 2, 3));
+        assertThat(cache.size(), is(0));
+    }
+
+    @Test
+    public void testClusterInvalidation() {
+        CruiseControlProposalCache cache = new CruiseControlProposalCache(TTL_MS, () -> 0L);
+        Requests requests = new Requests();
+
+        cache.updateTopology(NAMESPACE, CLUSTER, List.of(0, 1, 2));
+        cache.proposal(NAMESPACE, CLUSTER, REQUEST, false, requests);
+        requests.requests.get(0).complete(proposal("task-1"));
+        cache.proposal(NAMESPACE, "my-other-cluster", REQUEST, false, requests);
+        requests.requests.get(1).complete(proposal("task-2"));
+        assertThat(cache.size(), is(2));
+
+        // For example after a rebalance of the cluster finished
+        cache.invalidateCluster(NAMESPACE, CLUSTER);
+        assertThat(cache.size(), is(1));
+        assertThat(cache.clusters(), is(1));
+
+        cache.proposal(NAMESPACE, CLUSTER, REQUEST, false, requests);
+        assertThat(requests.requests.size(), is(3));
+    }
+
+    @Test
+    public void testClustersWithoutProposalsAreRemoved() {
+        AtomicLong now = new AtomicLong(0);
+        CruiseControlProposalCache cache = new CruiseControlProposalCache(TTL_MS, now::get);
+        Requests requests = new Requests();
+
+        cache.updateTopology(NAMESPACE, "my-deleted-cluster", List.of(0, 1, 2));
+        cache.proposal(NAMESPACE, "my-deleted-cluster", REQUEST, false, requests);
+        requests.requests.get(0).complete(proposal("task-1"));
+        assertThat(cache.clusters(), is(1));
+
+        // The proposals of the other cluster expire and the cluster is removed
+        now.set(TTL_MS);
+        cache.updateTopology(NAMESPACE, CLUSTER, List.of(0, 1, 2));
+        cache.proposal(NAMESPACE, CLUSTER, REQUEST, false, requests);
+        assertThat(cache.clusters(), is(1));
+        assertThat(cache.size(), is(1));
+    }
+
+    @Test
+    public void testRequestIdentifiesTheProposal() {
+        String rebalance = CruiseControlProposalCache.request(KafkaRebalanceMode.FULL,
+                new RebalanceOptions.RebalanceOptionsBuilder().withGoals(List.of("RackAwareGoal")).build());
+
+        assertThat(CruiseControlProposalCache.request(KafkaRebalanceMode.FULL,
+                new RebalanceOptions.RebalanceOptionsBuilder().withGoals(List.of("RackAwareGoal")).build()), is(rebalance));
+        assertThat(CruiseControlProposalCache.request(KafkaRebalanceMode.FULL,
+                new RebalanceOptions.RebalanceOptionsBuilder().withGoals(List.of("CpuCapacityGoal")).build()), is(not(rebalance)));
+        assertThat(CruiseControlProposalCache.request(KafkaRebalanceMode.ADD_BROKERS,
+                new AddBrokerOptions.AddBrokerOptionsBuilder().withBrokers(List.of(3)).withGoals(List.of("RackAwareGoal")).build()), is(not(rebalance)));
+    }
+
+    @Test
+    public void testDisabledCache() {
+        CruiseControlProposalCache cache = new CruiseControlProposalCache(0, () -> 0L);
+        Requests requests = new Requests();
+
+        cache.proposal(NAMESPACE, CLUSTER, REQUEST, false, requests);
+        requests.requests.get(0).complete(proposal("task-1"));
+        cache.proposal(NAMESPACE, CLUSTER, REQUEST, false, requests);
+
+        assertThat(requests.requests.size(), is(2));
+        assertThat(cache.size(), is(0));
+    }
+}
@@ -0,0 +1,265 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlApi;
+import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlUserTasksResponse;
+import io.strimzi.operator.common.Reconciliation;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(VertxExtension.class)
+public class CruiseControlTaskTrackerTest {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final String HOST = "my-cluster-cruise-control.namespace.svc";
+    private static final int PORT = 9090;
+    private static final long NEVER = 3_600_000L;
+
+    private static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    private static Reconciliation reconciliation(String name) {
+        return new Reconciliation("test", "KafkaRebalance", "namespace", name);
+    }
+
+    private static CruiseControlUserTasksResponse response(String status) {
+        ObjectNode json = OBJECT_MAPPER.createObjectNode();
+        if (status != null) {
+            json.put("Status", status);
+        }
+
+        CruiseControlUserTasksResponse response = mock(CruiseControlUserTasksResponse.class);
+        when(response.getJson()).thenReturn(json);
+        return response;
+    }
+
+    /**
+     * Mocked Cruise Control API which records the requested user task IDs and lets the test complete the requests
+     */
+    private static class MockApi {
+        private final CruiseControlApi api = mock(CruiseControlApi.class);
+        private final List<Set<String>> requests = new ArrayList<>();
+        private final List<CompletableFuture<Map<String, CruiseControlUserTasksResponse>>> responses = new ArrayList<>();
+
+        @SuppressWarnings("unchecked")
+        private MockApi() {
+            when(api.getUserTasksStatus(any(), anyString(), anyInt(), any())).thenAnswer(i -> {
+                CompletableFuture<Map<String, CruiseControlUserTasksResponse>> response = new CompletableFuture<>();
+                synchronized (this) {
+                    requests.add(Set.copyOf((Collection<String>) i.getArgument(3)));
+                    responses.add(response);
+                }
+                return response;
+            });
+        }
+
+        private synchronized Set<String> request(int index) {
+            return requests.get(index);
+        }
+
+        private synchronized int requests() {
+            return requests.size();
+        }
+
+        private void respond(int index, Map<String, String> statuses) {
+            Map<String, CruiseControlUserTasksResponse> result = new HashMap<>();
+            statuses.forEach((id, status) -> result.put(id, response(status)));
+
+            CompletableFuture<Map<String, CruiseControlUserTasksResponse>> response;
+            synchronized (this) {
+                response = responses.get(index);
+            }
+            response.complete(result);
+        }
+    }
+
+    @Test
+    public void testRequestsAreBatched() {
+        MockApi api = new MockApi();
+        CruiseControlTaskTracker tracker = new CruiseControlTaskTracker(vertx, NEVER, NEVER, r -> { });
+
+        Future<CruiseControlUserTasksResponse> first = tracker.userTaskStatus(reconciliation("rebalance-1"), api.api, HOST, PORT, "task-1");
+        Future<CruiseControlUserTasksResponse> second = tracker.userTaskStatus(reconciliation("rebalance-2"), api.api, HOST, PORT, "task-2");
+        Future<CruiseControlUserTasksResponse> third = tracker.userTaskStatus(reconciliation("rebalance-3"), api.api, HOST, PORT, "task-3");
+
+        // The first request is sent right away, the others wait for it and are sent together
+        assertThat(api.requests(), is(1));
+        assertThat(api.request(0), is(Set.of("task-1")));
+
+        api.respond(0, Map.of("task-1", "Completed"));
+        assertThat(CruiseControlTaskTracker.status(first.result()), is("Completed"));
+        assertThat(api.requests(), is(2));
+        assertThat(api.request(1), is(Set.of("task-2", "task-3")));
+
+        api.respond(1, Map.of("task-2", "Active", "task-3", "CompletedWithError"));
+        assertThat(CruiseControlTaskTracker.status(second.result()), is("Active"));
+        assertThat(CruiseControlTaskTracker.status(third.result()), is("CompletedWithError"));
+
+        // Only the task in progress is tracked
+        assertThat(tracker.tracked(), is(1));
+    }
+
+    @Test
+    public void testFailureIsPassedToAllRequests() {
+        MockApi api = new MockApi();
+        CruiseControlTaskTracker tracker = new CruiseControlTaskTracker(vertx, NEVER, NEVER, r -> { });
+
+        tracker.userTaskStatus(reconciliation("rebalance-1"), api.api, HOST, PORT, "task-1");
+        Future<CruiseControlUserTasksResponse> second = tracker.userTaskStatus(reconciliation("rebalance-2"), api.api, HOST, PORT, "task-2");
+        Future<CruiseControlUserTasksResponse> third = tracker.userTaskStatus(reconciliation("rebalance-3"), api.api, HOST, PORT, "task-2");
+
+        api.respond(0, Map.of("task-1", "Active"));
+        api.responses.get(1).completeExceptionally(new RuntimeException("Connection refused"));
+
+        assertThat(second.failed(), is(true));
+        assertThat(third.failed(), is(true));
+    }
+
+    @Test
+    public void testPollIntervalAdapts() {
+        MockApi api = new MockApi();
+        List<Reconciliation> changed = new ArrayList<>();
+        CruiseControlTaskTracker tracker = new CruiseControlTaskTracker(vertx, NEVER, 4 * NEVER, changed::add);
+
+        tracker.userTaskStatus(reconciliation("rebalance-1"), api.api, HOST, PORT, "task-1");
+        api.respond(0, Map.of("task-1", "Active"));
+        assertThat(tracker.delayMs(HOST, PORT), is(2 * NEVER));
+
+        // Requests from the reconciliations include the tracked tasks
+        tracker.userTaskStatus(reconciliation("rebalance-2"), api.api, HOST, PORT, "task-2");
+        assertThat(api.request(1), is(Set.of("task-1", "task-2")));
+        api.respond(1, Map.of("task-1", "Active", "task-2", "Active"));
+        assertThat(tracker.delayMs(HOST, PORT), is(4 * NEVER));
+        assertThat(changed.size(), is(0));
+
+        tracker.userTaskStatus(reconciliation("rebalance-2"), api.api, HOST, PORT, "task-2");
+        api.respond(2, Map.of("task-1", "InExecution", "task-2", "Active"));
+
+        // The change resets the interval and the resource owning the task is reconciled
+        assertThat(tracker.delayMs(HOST, PORT), is(NEVER));
+        assertThat(changed.size(), is(1));
+        assertThat(changed.get(0).name(), is("rebalance-1"));
+        assertThat(tracker.tracked(), is(2));
+
+        tracker.forget("namespace", "rebalance-1");
+        assertThat(tracker.tracked(), is(1));
+    }
+
+    @Test
+    public void testTasksArePolledInBackground(VertxTestContext context) {
+        MockApi api = new MockApi();
+        Checkpoint async = context.checkpoint();
+        CruiseControlTaskTracker tracker = new CruiseControlTaskTracker(vertx, 10, 100, r -> context.verify(() -> {
+            assertThat(r.name(), is("rebalance-1"));
+            async.flag();
+        }));
+
+        tracker.userTaskStatus(reconciliation("rebalance-1"), api.api, HOST, PORT, "task-1")
+                .onComplete(context.succeeding(response -> {
+                    vertx.setPeriodic(10, id -> {
+                        if (api.requests() > 1) {
+                            vertx.cancelTimer(id);
+                            context.verify(() -> assertThat(api.request(1), is(Set.of("task-1"))));
+                            api.respond(1, Map.of("task-1", "Completed"));
+                        }
+                    });
+                }));
+
+        api.respond(0, Map.of("task-1", "Active"));
+    }
+
+    @Test
+    public void testSynchronousFailureIsPassedToAllRequests() {
+        MockApi api = new MockApi();
+        CruiseControlTaskTracker tracker = new CruiseControlTaskTracker(vertx, NEVER, NEVER, r -> { });
+
+        tracker.userTaskStatus(reconciliation("rebalance-1"), api.api, HOST, PORT, "task-1");
+        Future<CruiseControlUserTasksResponse> second = tracker.userTaskStatus(reconciliation("rebalance-2"), api.api, HOST, PORT, "task-2");
+
+        // The next request fails before returning the future
+        doThrow(new IllegalStateException("Invalid URL")).when(api.api).getUserTasksStatus(any(), anyString(), anyInt(), any());
+        api.respond(0, Map.of("task-1", "Completed"));
+        assertThat(second.failed(), is(true));
+
+        // The polling is not stuck and the next request is sent
+        MockApi workingApi = new MockApi();
+        Future<CruiseControlUserTasksResponse> third = tracker.userTaskStatus(reconciliation("rebalance-3"), workingApi.api, HOST, PORT, "task-3");
+        assertThat(workingApi.requests(), is(1));
+        workingApi.respond(0, Map.of("task-3", "Completed"));
+        assertThat(CruiseControlTaskTracker.status(third.result()), is("Completed"));
+    }
+
+    @Test
+    public void testIdleInstanceIsRemoved() {
+        MockApi api = new MockApi();
+        CruiseControlTaskTracker tracker = new CruiseControlTaskTracker(vertx, NEVER, NEVER, r -> { });
+
+        Future<CruiseControlUserTasksResponse> first = tracker.userTaskStatus(reconciliation("rebalance-1"), api.api, HOST, PORT, "task-1");
+        assertThat(tracker.instances(), is(1));
+
+        api.respond(0, Map.of("task-1", "Completed"));
+        assertThat(CruiseControlTaskTracker.status(first.result()), is("Completed"));
+        assertThat(tracker.instances(), is(0));
+
+        // The instance is created again by the next request
+        Future<CruiseControlUserTasksResponse> second = tracker.userTaskStatus(reconciliation("rebalance-1"), api.api, HOST, PORT, "task-2");
+        assertThat(tracker.instances(), is(1));
+        api.respond(1, Map.of("task-2", "Completed"));
+        assertThat(CruiseControlTaskTracker.status(second.result()), is("Completed"));
+    }
+
+    @Test
+    public void testRemovedInstanceIsNotPolled() {
+        MockApi api = new MockApi();
+        CruiseControlTaskTracker tracker = new CruiseControlTaskTracker(vertx, NEVER, NEVER, r -> { });
+
+        tracker.userTaskStatus(reconciliation("rebalance-1"), api.api, HOST, PORT, "task-1");
+        Future<CruiseControlUserTasksResponse> waiting = tracker.userTaskStatus(reconciliation("rebalance-2"), api.api, HOST, PORT, "task-2");
+
+        tracker.remove(HOST, PORT);
+        assertThat(tracker.instances(), is(0));
+        assertThat(waiting.failed(), is(true));
+
+        // The response to the poll in progress does not start tracking the tasks of the removed instance
+        api.respond(0, Map.of("task-1", "Active"));
+        assertThat(api.requests(), is(1));
+        assertThat(tracker.instances(), is(0));
+    }
+}
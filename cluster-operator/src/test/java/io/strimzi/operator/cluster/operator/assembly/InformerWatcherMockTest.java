@@ -13,6 +13,7 @@ import io.strimzi.api.kafka.model.kafka.KafkaList;
 import io.strimzi.api.kafka.model.kafka.listener.GenericKafkaListenerBuilder;
 import io.strimzi.api.kafka.model.kafka.listener.KafkaListenerType;
 import io.strimzi.operator.cluster.operator.resource.kubernetes.CrdOperator;
+import io.strimzi.operator.common.model.Labels;
 import io.strimzi.test.mockkube3.MockKube3;
 import io.vertx.core.Vertx;
 import org.apache.logging.log4j.LogManager;
@@ -25,14 +26,16 @@ import org.junit.jupiter.api.Test;
 
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 
-public class ReconnectingWatcherMockTest {
-    private static final Logger LOGGER = LogManager.getLogger(ReconnectingWatcherMockTest.class);
+public class InformerWatcherMockTest {
+    private static final Logger LOGGER = LogManager.getLogger(InformerWatcherMockTest.class);
 
     private static final String NAMESPACE = "my-namespace";
     private static final String NAMESPACE2 = "my-namespace2";
@@ -71,7 +74,7 @@ public class ReconnectingWatcherMockTest {
     }
 
     @Test
-    public void testWatch() throws InterruptedException {
+    public void testWatch() throws InterruptedException, ExecutionException {
         CrdOperator<KubernetesClient, Kafka, KafkaList> kafkaOps = new CrdOperator<>(vertx, client, Kafka.class, KafkaList.class, Kafka.RESOURCE_KIND);
 
         CountDownLatch addedLatch = new CountDownLatch(1);
@@ -79,7 +82,7 @@ public class ReconnectingWatcherMockTest {
         CountDownLatch deletedLatch = new CountDownLatch(1);
         AtomicInteger eventCounter = new AtomicInteger(0);
 
-        ReconnectingWatcher<Kafka> watcher = new ReconnectingWatcher<>(kafkaOps, Kafka.RESOURCE_KIND, NAMESPACE, null, (a, r) -> {
+        InformerWatcher<Kafka> watcher = new InformerWatcher<>(kafkaOps, Kafka.RESOURCE_KIND, NAMESPACE, null, (a, r) -> {
             LOGGER.info("Received event {} about resource {} in namespace {}", a, r.getMetadata().getName(), r.getMetadata().getNamespace());
 
             switch (a)  {
@@ -97,6 +100,8 @@ public class ReconnectingWatcherMockTest {
                 }
             }
         });
+        watcher.start().get();
+        assertThat(watcher.isReady(), is(true));
 
         Kafka kafka = new KafkaBuilder()
                 .withNewMetadata()
@@ -124,18 +129,27 @@ public class ReconnectingWatcherMockTest {
         latched = modifiedLatch.await(5_000, TimeUnit.MILLISECONDS);
         assertThat(latched, is(true));
 
+        // The cache contains only the watched namespace and returns copies of the resources
+        Kafka cached = watcher.get(NAMESPACE, CLUSTER_NAME);
+        assertThat(cached.getSpec().getKafka().getReplicas(), is(3));
+        cached.getSpec().getKafka().setReplicas(5);
+        assertThat(watcher.get(NAMESPACE, CLUSTER_NAME).getSpec().getKafka().getReplicas(), is(3));
+        assertThat(watcher.get(NAMESPACE2, CLUSTER_NAME), is(nullValue()));
+        assertThat(watcher.list(NAMESPACE, Labels.EMPTY).size(), is(1));
+
         Crds.kafkaOperation(client).inNamespace(NAMESPACE).withName(CLUSTER_NAME).delete();
         Crds.kafkaOperation(client).inNamespace(NAMESPACE2).withName(CLUSTER_NAME).delete();
         latched = deletedLatch.await(5_000, TimeUnit.MILLISECONDS);
         assertThat(latched, is(true));
 
         assertThat(eventCounter.get(), is(3));
+        assertThat(watcher.get(NAMESPACE, CLUSTER_NAME), is(nullValue()));
 
         watcher.close();
     }
 
     @Test
-    public void testWatchAllNamespaces() throws InterruptedException {
+    public void testWatchAllNamespaces() throws InterruptedException, ExecutionException {
         CrdOperator<KubernetesClient, Kafka, KafkaList> kafkaOps = new CrdOperator<>(vertx, client, Kafka.class, KafkaList.class, Kafka.RESOURCE_KIND);
 
         CountDownLatch addedLatch = new CountDownLatch(2);
@@ -143,7 +157,7 @@ public class ReconnectingWatcherMockTest {
         CountDownLatch deletedLatch = new CountDownLatch(2);
         AtomicInteger eventCounter = new AtomicInteger(0);
 
-        ReconnectingWatcher<Kafka> watcher = new ReconnectingWatcher<>(kafkaOps, Kafka.RESOURCE_KIND, "*", null, (a, r) -> {
+        InformerWatcher<Kafka> watcher = new InformerWatcher<>(kafkaOps, Kafka.RESOURCE_KIND, "*", null, (a, r) -> {
             LOGGER.info("Received event {} about resource {} in namespace {}", a, r.getMetadata().getName(), r.getMetadata().getNamespace());
 
             switch (a)  {
@@ -161,6 +175,8 @@ public class ReconnectingWatcherMockTest {
                 }
             }
         });
+        watcher.start().get();
+        assertThat(watcher.isReady(), is(true));
 
         Kafka kafka = new KafkaBuilder()
                 .withNewMetadata()
@@ -188,6 +204,8 @@ public class ReconnectingWatcherMockTest {
         latched = modifiedLatch.await(5_000, TimeUnit.MILLISECONDS);
         assertThat(latched, is(true));
 
+        assertThat(watcher.listCached("*").size(), is(2));
+
         Crds.kafkaOperation(client).inNamespace(NAMESPACE).withName(CLUSTER_NAME).delete();
         Crds.kafkaOperation(client).inNamespace(NAMESPACE2).withName(CLUSTER_NAME).delete();
         latched = deletedLatch.await(5_000, TimeUnit.MILLISECONDS);
@@ -199,7 +217,7 @@ public class ReconnectingWatcherMockTest {
     }
 
     @Test
-    public void testWatchWithSelector() throws InterruptedException {
+    public void testWatchWithSelector() throws InterruptedException, ExecutionException {
         CrdOperator<KubernetesClient, Kafka, KafkaList> kafkaOps = new CrdOperator<>(vertx, client, Kafka.class, KafkaList.class, Kafka.RESOURCE_KIND);
 
         CountDownLatch addedLatch = new CountDownLatch(1);
@@ -209,7 +227,7 @@ public class ReconnectingWatcherMockTest {
         AtomicInteger modifiedCounter = new AtomicInteger(0);
         AtomicInteger deletedCounter = new AtomicInteger(0);
 
-        ReconnectingWatcher<Kafka> watcher = new ReconnectingWatcher<>(kafkaOps, Kafka.RESOURCE_KIND, NAMESPACE, new LabelSelectorBuilder().withMatchLabels(Map.of("selector", "matching")).build(), (a, r) -> {
+        InformerWatcher<Kafka> watcher = new InformerWatcher<>(kafkaOps, Kafka.RESOURCE_KIND, NAMESPACE, new LabelSelectorBuilder().withMatchLabels(Map.of("selector", "matching")).build(), (a, r) -> {
             LOGGER.info("Received event {} about resource {} in namespace {}", a, r.getMetadata().getName(), r.getMetadata().getNamespace());
 
             switch (a)  {
@@ -227,6 +245,8 @@ public class ReconnectingWatcherMockTest {
                 }
             }
         });
+        watcher.start().get();
+        assertThat(watcher.isReady(), is(true));
 
         Kafka kafka = new KafkaBuilder()
                 .withNewMetadata()
@@ -70,6 +70,21 @@ class KafkaAssemblyOperatorMetricsHolderTest {
         assertEquals(2000L, expirationTime.get(), "Expiration time should match the initial value");
     }
 
+    @Test
+    @DisplayName("Should remove rolling restart metrics only for the matching clusters")
+    void shouldRemoveRollingRestartMetricsForMatchingClusters() {
+        metricsHolder.rollingRestartTimer("TestCluster", "TestNamespace");
+        metricsHolder.rollingRestartBatchTimer("TestCluster", "TestNamespace");
+        metricsHolder.rollingRestartTimer("OtherCluster", "TestNamespace");
+
+        metricsHolder.removeMetricsForRollingRestarts(key -> "TestCluster".equals(key.getClusterName()));
+
+        assertEquals(1, metricsHolder.rollingRestartTimerMap.size(), "Only the rolling restart timer of the other cluster should remain");
+        assertTrue(metricsHolder.rollingRestartBatchTimerMap.isEmpty(), "Batch timer should be removed");
+        assertEquals(1, metricsHolder.metricsProvider().meterRegistry().find(KafkaAssemblyOperatorMetricsHolder.METRICS_ROLLING_RESTART_DURATION).meters().size(),
+                "Only the rolling restart timer of the other cluster should remain registered");
+    }
+
     private boolean matchCaTypes(String actual, CertificateMetricKey.Type expected) {
         return actual.equals(expected.getDisplayName().toLowerCase(Locale.ROOT));
     }
@@ -1010,7 +1010,7 @@ public class KafkaAssemblyOperatorTest {
 
         // Mock broker scale down operation
         BrokersInUseCheck operations = supplier.brokersInUseCheck;
-        when(operations.brokersInUse(any(), any(), any(), any())).thenReturn(Future.succeededFuture(Set.of()));
+        when(operations.brokersInUse(any(), any(), any(), any(), any())).thenReturn(Future.succeededFuture(Set.of()));
 
         KafkaAssemblyOperator ops = new KafkaAssemblyOperator(vertx, new PlatformFeaturesAvailability(openShift, kubernetesVersion),
                 CERT_MANAGER,
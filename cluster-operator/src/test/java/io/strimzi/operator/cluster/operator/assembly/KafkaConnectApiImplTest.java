@@ -16,6 +16,7 @@ import org.mockserver.integration.ClientAndServer;
 import org.mockserver.model.HttpRequest;
 import org.mockserver.model.HttpResponse;
 
+import java.util.List;
 import java.util.Map;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -121,4 +122,40 @@ public class KafkaConnectApiImplTest {
                         hasEntry("org.apache.kafka.connect", "WARN")))
                 ).join();
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testListWithState() throws Exception {
+        HttpRequest request = request().withMethod("GET").withPath("/connectors").withQueryStringParameter("expand", "info", "status");
+        server.when(request).respond(HttpResponse.response().withBody(new ObjectMapper().writeValueAsString(
+                Map.of(
+                        "my-connector",
+                        Map.of(
+                                "info", Map.of(
+                                        "name", "my-connector",
+                                        "config", Map.of("name", "my-connector", "connector.class", "FileStreamSource", "tasks.max", "1"),
+                                        "tasks", List.of(Map.of("connector", "my-connector", "task", 0)),
+                                        "type", "source"
+                                ),
+                                "status", Map.of(
+                                        "name", "my-connector",
+                                        "connector", Map.of("state", "RUNNING", "worker_id", "my-worker:8083"),
+                                        "tasks", List.of(Map.of("id", 0, "state", "RUNNING", "worker_id", "my-worker:8083")),
+                                        "type", "source"
+                                )
+                        )
+                )
+        )).withStatusCode(200));
+
+        KafkaConnectApi api = new KafkaConnectApiImpl();
+
+        Map<String, ConnectorSnapshot> snapshot = api.listWithState(Reconciliation.DUMMY_RECONCILIATION, "127.0.0.1", server.getPort()).join();
+
+        assertThat(snapshot, aMapWithSize(1));
+        assertThat(snapshot.get("my-connector").config(), allOf(
+                aMapWithSize(3),
+                hasEntry("connector.class", "FileStreamSource"),
+                hasEntry("tasks.max", "1")
+        ));
+        assertThat(snapshot.get("my-connector").status().get("connector"), is(Map.of("state", "RUNNING", "worker_id", "my-worker:8083")));
+    }
+}
@@ -44,6 +44,7 @@ import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonMap;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
@@ -151,7 +152,7 @@ public class KafkaConnectAssemblyOperatorMockTest {
                 .endSpec()
             .build()).create();
         KafkaConnectApi mock = mock(KafkaConnectApi.class);
-        when(mock.list(any(), anyString(), anyInt())).thenReturn(CompletableFuture.completedFuture(emptyList()));
+        when(mock.listWithState(any(), anyString(), anyInt())).thenReturn(CompletableFuture.completedFuture(emptyMap()));
         when(mock.listConnectorPlugins(any(), anyString(), anyInt())).thenReturn(CompletableFuture.completedFuture(emptyList()));
 
         Checkpoint async = context.checkpoint();
@@ -180,7 +181,7 @@ public class KafkaConnectAssemblyOperatorMockTest {
                 .endSpec()
                 .build()).create();
         KafkaConnectApi mock = mock(KafkaConnectApi.class);
-        when(mock.list(any(), anyString(), anyInt())).thenReturn(CompletableFuture.completedFuture(emptyList()));
+        when(mock.listWithState(any(), anyString(), anyInt())).thenReturn(CompletableFuture.completedFuture(emptyMap()));
         when(mock.listConnectorPlugins(any(), anyString(), anyInt())).thenReturn(CompletableFuture.completedFuture(emptyList()));
 
         Checkpoint async = context.checkpoint();
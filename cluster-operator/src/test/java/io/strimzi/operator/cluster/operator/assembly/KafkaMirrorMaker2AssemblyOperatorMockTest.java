@@ -13,6 +13,8 @@ import io.strimzi.api.ResourceAnnotations;
 import io.strimzi.api.kafka.Crds;
 import io.strimzi.api.kafka.model.common.Condition;
 import io.strimzi.api.kafka.model.common.ConnectorState;
+import io.strimzi.api.kafka.model.connector.KafkaConnectorSpec;
+import io.strimzi.api.kafka.model.connector.KafkaConnectorSpecBuilder;
 import io.strimzi.api.kafka.model.mirrormaker2.KafkaMirrorMaker2;
 import io.strimzi.api.kafka.model.mirrormaker2.KafkaMirrorMaker2Builder;
 import io.strimzi.api.kafka.model.mirrormaker2.KafkaMirrorMaker2ClusterSpecBuilder;
@@ -49,14 +51,14 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInfo;
 import org.junit.jupiter.api.extension.ExtendWith;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.CompletableFuture;
 
-import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonMap;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
@@ -75,6 +77,8 @@ import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(VertxExtension.class)
@@ -198,7 +202,7 @@ public class KafkaMirrorMaker2AssemblyOperatorMockTest {
         connectorOffsets = LIST_OFFSETS_JSON;
         Map<String, Object> status = Map.of("connector", Map.of("state", state));
         KafkaConnectApi mockConnectApi = mock(KafkaConnectApi.class);
-        when(mockConnectApi.list(any(), any(), anyInt())).thenReturn(CompletableFuture.completedFuture(new ArrayList<>()));
+        when(mockConnectApi.listWithState(any(), any(), anyInt())).thenReturn(CompletableFuture.completedFuture(Map.of("source->target.MirrorSourceConnector", new ConnectorSnapshot(EXPECTED_CONNECTOR_CONFIG, status))));
         when(mockConnectApi.updateConnectLoggers(any(), anyString(), anyInt(), anyString(), any(OrderedProperties.class))).thenReturn(CompletableFuture.completedFuture(null));
         when(mockConnectApi.getConnectorConfig(any(), any(), any(), anyInt(), eq("source->target.MirrorSourceConnector"))).thenReturn(CompletableFuture.completedFuture(EXPECTED_CONNECTOR_CONFIG));
         when(mockConnectApi.status(any(), any(), anyInt(), eq("source->target.MirrorSourceConnector"))).thenReturn(CompletableFuture.completedFuture(status));
@@ -236,7 +240,7 @@ public class KafkaMirrorMaker2AssemblyOperatorMockTest {
             .build()).create();
 
         KafkaConnectApi mock = mock(KafkaConnectApi.class);
-        when(mock.list(any(), anyString(), anyInt())).thenReturn(CompletableFuture.completedFuture(emptyList()));
+        when(mock.listWithState(any(), anyString(), anyInt())).thenReturn(CompletableFuture.completedFuture(emptyMap()));
         when(mock.updateConnectLoggers(any(), anyString(), anyInt(), anyString(), any(OrderedProperties.class))).thenReturn(CompletableFuture.completedFuture(null));
 
         Checkpoint async = context.checkpoint();
@@ -249,6 +253,71 @@ public class KafkaMirrorMaker2AssemblyOperatorMockTest {
             .onComplete(context.succeeding(v -> async.flag()));
     }
 
+    @Test
+    public void testUnchangedConnectorsUseSnapshot(VertxTestContext context) {
+        Crds.kafkaMirrorMaker2Operation(client).resource(new KafkaMirrorMaker2Builder()
+                .withNewMetadata()
+                    .withName(CLUSTER_NAME)
+                    .withNamespace(namespace)
+                .endMetadata()
+                .withNewSpec()
+                    .withReplicas(REPLICAS)
+                    .withConnectCluster("target")
+                    .withClusters(new KafkaMirrorMaker2ClusterSpecBuilder().withAlias("source").withBootstrapServers("source:9092").build(),
+                            new KafkaMirrorMaker2ClusterSpecBuilder().withAlias("target").withBootstrapServers("target:9092").build())
+                    .withMirrors(
+                            new KafkaMirrorMaker2MirrorSpecBuilder()
+                                    .withSourceCluster("source")
+                                    .withTargetCluster("target")
+                                    .withNewSourceConnector()
+                                        .withTasksMax(1)
+                                        .withConfig(Map.of("replication.factor", -1))
+                                    .endSourceConnector()
+                                    .build()
+                    )
+                .endSpec()
+                .build()).create();
+
+        KafkaConnectApi connectApi = mockConnectApi("RUNNING");
+
+        Checkpoint async = context.checkpoint();
+        createMirrorMaker2Cluster(context, connectApi, false)
+                .compose(i -> kco.reconcile(new Reconciliation("test-trigger", KafkaMirrorMaker2.RESOURCE_KIND, namespace, CLUSTER_NAME)))
+                .onComplete(context.succeeding(v -> context.verify(() -> {
+                    List<Map<String, Object>> connectors = Crds.kafkaMirrorMaker2Operation(client).inNamespace(namespace).withName(CLUSTER_NAME).get().getStatus().getConnectors();
+                    assertThat(connectors, hasSize(1));
+                    assertThat(connectors.get(0), hasEntry("name", "source->target.MirrorSourceConnector"));
+                    assertThat(connectors.get(0), hasKey(KafkaMirrorMaker2AssemblyOperator.CONNECTOR_CONFIG_HASH_KEY));
+
+                    // The connector is reconciled only from the bulk snapshot
+                    verify(connectApi, never()).getConnectorConfig(any(), any(), any(), anyInt(), anyString());
+                    verify(connectApi, never()).status(any(), any(), anyInt(), anyString());
+                    verify(connectApi, never()).createOrUpdatePutRequest(any(), any(), anyInt(), anyString(), any());
+                    verify(connectApi, never()).getConnectorTopics(any(), any(), anyInt(), anyString());
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testConnectorConfigHash() {
+        KafkaConnectorSpec spec = new KafkaConnectorSpecBuilder()
+                .withClassName("org.apache.kafka.connect.mirror.MirrorSourceConnector")
+                .withTasksMax(1)
+                .withConfig(Map.of("replication.factor", -1, "source.cluster.alias", "source"))
+                .build();
+        String hash = KafkaMirrorMaker2AssemblyOperator.connectorConfigHash("source->target.MirrorSourceConnector", spec);
+
+        // The order of the options does not matter
+        KafkaConnectorSpec reordered = new KafkaConnectorSpecBuilder(spec)
+                .withConfig(new TreeMap<>(Map.of("source.cluster.alias", "source", "replication.factor", -1)))
+                .build();
+        assertThat(KafkaMirrorMaker2AssemblyOperator.connectorConfigHash("source->target.MirrorSourceConnector", reordered), is(hash));
+
+        assertThat(KafkaMirrorMaker2AssemblyOperator.connectorConfigHash("source->target.MirrorSourceConnector", new KafkaConnectorSpecBuilder(spec).withTasksMax(2).build()), is(not(hash)));
+        assertThat(KafkaMirrorMaker2AssemblyOperator.connectorConfigHash("source->target.MirrorSourceConnector", new KafkaConnectorSpecBuilder(spec).withState(ConnectorState.STOPPED).build()), is(not(hash)));
+        assertThat(KafkaMirrorMaker2AssemblyOperator.connectorConfigHash("other->target.MirrorSourceConnector", spec), is(not(hash)));
+    }
+
     @Test
     public void testPauseReconcile(VertxTestContext context) {
         Crds.kafkaMirrorMaker2Operation(client).resource(new KafkaMirrorMaker2Builder()
@@ -268,7 +337,7 @@ public class KafkaMirrorMaker2AssemblyOperatorMockTest {
                 .build()).create();
 
         KafkaConnectApi mock = mock(KafkaConnectApi.class);
-        when(mock.list(any(), anyString(), anyInt())).thenReturn(CompletableFuture.completedFuture(emptyList()));
+        when(mock.listWithState(any(), anyString(), anyInt())).thenReturn(CompletableFuture.completedFuture(emptyMap()));
         when(mock.updateConnectLoggers(any(), anyString(), anyInt(), anyString(), any(OrderedProperties.class))).thenReturn(CompletableFuture.completedFuture(null));
 
         Checkpoint async = context.checkpoint();
@@ -15,19 +15,27 @@ import io.strimzi.api.kafka.model.rebalance.KafkaRebalance;
 import io.strimzi.api.kafka.model.rebalance.KafkaRebalanceBuilder;
 import io.strimzi.api.kafka.model.rebalance.KafkaRebalanceSpec;
 import io.strimzi.api.kafka.model.rebalance.KafkaRebalanceSpecBuilder;
+import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlBrokerLoad;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.model.cruisecontrol.CruiseControlLoadParameters;
 import io.strimzi.operator.common.model.cruisecontrol.CruiseControlRebalanceKeys;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.zip.GZIPInputStream;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.anEmptyMap;
+import static org.hamcrest.Matchers.anyOf;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.hasKey;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class KafkaRebalanceStatusTest {
@@ -148,9 +156,12 @@ public class KafkaRebalanceStatusTest {
 
         try {
 
-            Map<String, LinkedHashMap<String, String>> brokerLoadMap = OBJECT_MAPPER.readValue(brokerMap.get(KafkaRebalanceAssemblyOperator.BROKER_LOAD_KEY), LinkedHashMap.class);
+            Map<String, LinkedHashMap<String, String>> brokerLoadMap = OBJECT_MAPPER.readValue(brokerMap.get(CruiseControlBrokerLoad.BROKER_LOAD_KEY), LinkedHashMap.class);
 
-            assertThat(brokerMap, hasKey(KafkaRebalanceAssemblyOperator.BROKER_LOAD_KEY));
+            assertThat(brokerMap, hasKey(CruiseControlBrokerLoad.BROKER_LOAD_KEY));
+            // The broker load is stored minified
+            assertThat(brokerMap.get(CruiseControlBrokerLoad.BROKER_LOAD_KEY).contains("\n"), is(false));
+            assertThat(output.getLoadMap().getBinaryData(), anyOf(nullValue(), anEmptyMap()));
 
             LinkedHashMap<String, LinkedHashMap<String, Object>> m = (LinkedHashMap) brokerLoadMap.get("1");
 
@@ -170,4 +181,40 @@ public class KafkaRebalanceStatusTest {
             e.printStackTrace();
         }
     }
+
+    @Test
+    public void testProcessLargeProposal() throws IOException {
+        ObjectNode proposal = (ObjectNode) buildOptimizationProposal();
+        ArrayNode brokersBefore = (ArrayNode) proposal.get(CruiseControlRebalanceKeys.LOAD_BEFORE_OPTIMIZATION.getKey()).get(CruiseControlRebalanceKeys.BROKERS.getKey());
+        ArrayNode brokersAfter = (ArrayNode) proposal.get(CruiseControlRebalanceKeys.LOAD_AFTER_OPTIMIZATION.getKey()).get(CruiseControlRebalanceKeys.BROKERS.getKey());
+
+        for (int brokerId = 2; brokerId <= 12_000; brokerId++) {
+            brokersBefore.add(OBJECT_MAPPER.createObjectNode()
+                    .put(CruiseControlRebalanceKeys.BROKER_ID.getKey(), brokerId)
+                    .put(CruiseControlLoadParameters.CPU_PERCENTAGE.getCruiseControlKey(), brokerId % 100)
+                    .put(CruiseControlLoadParameters.REPLICAS.getCruiseControlKey(), brokerId % 1000));
+            brokersAfter.add(OBJECT_MAPPER.createObjectNode()
+                    .put(CruiseControlRebalanceKeys.BROKER_ID.getKey(), brokerId)
+                    .put(CruiseControlLoadParameters.CPU_PERCENTAGE.getCruiseControlKey(), brokerId % 50)
+                    .put(CruiseControlLoadParameters.REPLICAS.getCruiseControlKey(), brokerId % 500));
+        }
+
+        KafkaRebalance kr =
+                createKafkaRebalance(CLUSTER_NAMESPACE, CLUSTER_NAME, RESOURCE_NAME, new KafkaRebalanceSpecBuilder().build());
+
+        ConfigMap loadMap = KafkaRebalanceAssemblyOperator.processOptimizationProposal(kr, proposal).getLoadMap();
+
+        // The broker load is too large for a ConfigMap => it is stored compressed
+        assertThat(loadMap.getData(), anyOf(nullValue(), anEmptyMap()));
+        String compressed = loadMap.getBinaryData().get(CruiseControlBrokerLoad.BROKER_LOAD_COMPRESSED_KEY);
+        assertThat(compressed.length() <= CruiseControlBrokerLoad.MAX_BROKER_LOAD_SIZE_BYTES, is(true));
+
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(Base64.getDecoder().decode(compressed)))) {
+            JsonNode brokerLoad = OBJECT_MAPPER.readTree(gzip);
+
+            assertThat(brokerLoad.size(), is(12_000));
+            assertThat(brokerLoad.get("1").get("replicas").get("diff").asInt(), is(-5));
+            assertThat(brokerLoad.get("12000").get("replicas").get("after").asInt(), is(0));
+        }
+    }
 }
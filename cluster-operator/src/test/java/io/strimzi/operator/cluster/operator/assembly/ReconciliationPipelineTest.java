@@ -0,0 +1,226 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import io.strimzi.operator.cluster.ResourceUtils;
+import io.strimzi.operator.cluster.operator.VertxUtil;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.metrics.MetricsHolder;
+import io.strimzi.operator.common.metrics.OperatorMetricsHolder;
+import io.strimzi.operator.common.tracing.OperatorTracing;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ExtendWith(VertxExtension.class)
+public class ReconciliationPipelineTest {
+    private static final Reconciliation RECONCILIATION = new Reconciliation("test", "Kafka", "namespace", "my-cluster");
+
+    @Test
+    public void testIndependentStepsRunConcurrently(VertxTestContext context) {
+        List<String> started = new ArrayList<>();
+        Promise<Void> first = Promise.promise();
+        Promise<Void> second = Promise.promise();
+
+        ReconciliationPipeline pipeline = new ReconciliationPipeline(RECONCILIATION, "test", null)
+                .step("first", () -> {
+                    started.add("first");
+                    return first.future();
+                })
+                .step("second", () -> {
+                    started.add("second");
+                    return second.future();
+                })
+                .step("third", () -> {
+                    started.add("third");
+                    return Future.succeededFuture();
+                }, "first", "second");
+
+        Checkpoint async = context.checkpoint();
+        Future<Void> result = pipeline.execute();
+
+        // Both independent steps are started before any of them completes
+        assertThat(started, contains("first", "second"));
+
+        second.complete();
+        assertThat(started, contains("first", "second"));
+
+        first.complete();
+        result.onComplete(context.succeeding(v -> context.verify(() -> {
+            assertThat(started, contains("first", "second", "third"));
+            async.flag();
+        })));
+    }
+
+    @Test
+    public void testResultIsPassedBetweenSteps(VertxTestContext context) {
+        List<String> results = new ArrayList<>();
+        ReconciliationPipeline pipeline = new ReconciliationPipeline(RECONCILIATION, "test", null);
+
+        pipeline.step("producer", () -> Future.succeededFuture("my-result"))
+                .step("consumer", () -> {
+                    results.add(pipeline.result("producer"));
+                    return Future.succeededFuture();
+                }, "producer");
+
+        Checkpoint async = context.checkpoint();
+        pipeline.execute()
+                .onComplete(context.succeeding(v -> context.verify(() -> {
+                    assertThat(results, contains("my-result"));
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testFailedStepSkipsDependentSteps(VertxTestContext context) {
+        AtomicBoolean dependentExecuted = new AtomicBoolean(false);
+        AtomicBoolean independentExecuted = new AtomicBoolean(false);
+        AtomicBoolean finalExecuted = new AtomicBoolean(false);
+        Promise<Void> independent = Promise.promise();
+
+        ReconciliationPipeline pipeline = new ReconciliationPipeline(RECONCILIATION, "test", null)
+                .step("failing", () -> Future.failedFuture(new RuntimeException("Step failed")))
+                .step("independent", () -> {
+                    independentExecuted.set(true);
+                    return independent.future();
+                })
+                .step("dependent", () -> {
+                    dependentExecuted.set(true);
+                    return Future.succeededFuture();
+                }, "failing")
+                .stepAfterAll("final", () -> {
+                    finalExecuted.set(true);
+                    return Future.succeededFuture();
+                });
+
+        Checkpoint async = context.checkpoint();
+        Future<Void> result = pipeline.execute();
+
+        // The pipeline waits for the independent step to complete
+        assertThat(result.isComplete(), is(false));
+        independent.complete();
+
+        result.onComplete(context.failing(e -> context.verify(() -> {
+            assertThat(e.getMessage(), is("Step failed"));
+            assertThat(independentExecuted.get(), is(true));
+            assertThat(dependentExecuted.get(), is(false));
+            assertThat(finalExecuted.get(), is(false));
+            async.flag();
+        })));
+    }
+
+    @Test
+    public void testExceptionInStepFailsThePipeline(VertxTestContext context) {
+        ReconciliationPipeline pipeline = new ReconciliationPipeline(RECONCILIATION, "test", null)
+                .step("throwing", () -> {
+                    throw new RuntimeException("Exception in step");
+                });
+
+        Checkpoint async = context.checkpoint();
+        pipeline.execute()
+                .onComplete(context.failing(e -> context.verify(() -> {
+                    assertThat(e.getMessage(), is("Exception in step"));
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testInvalidDefinitions() {
+        ReconciliationPipeline pipeline = new ReconciliationPipeline(RECONCILIATION, "test", null)
+                .step("first", Future::succeededFuture);
+
+        assertThrows(IllegalArgumentException.class, () -> pipeline.step("first", Future::succeededFuture));
+        assertThrows(IllegalArgumentException.class, () -> pipeline.step("second", Future::succeededFuture, "unknown"));
+
+        pipeline.execute();
+
+        assertThrows(IllegalStateException.class, () -> pipeline.step("third", Future::succeededFuture));
+        assertThrows(IllegalStateException.class, pipeline::execute);
+    }
+
+    @Test
+    public void testStepDurationsAreRecorded(VertxTestContext context) {
+        MetricsHolder metrics = new OperatorMetricsHolder("Kafka", null, ResourceUtils.metricsProvider());
+        MeterRegistry registry = metrics.metricsProvider().meterRegistry();
+
+        ReconciliationPipeline pipeline = new ReconciliationPipeline(RECONCILIATION, "test", metrics)
+                .step("first", Future::succeededFuture)
+                .step("second", () -> Future.failedFuture("Step failed"), "first");
+
+        Checkpoint async = context.checkpoint();
+        pipeline.execute()
+                .onComplete(context.failing(e -> context.verify(() -> {
+                    Timer first = registry.find(MetricsHolder.METRICS_RECONCILIATIONS_STEP_DURATION).tag("pipeline", "test").tag("step", "first").timer();
+                    assertThat(first, is(notNullValue()));
+                    assertThat(first.count(), is(1L));
+
+                    Timer second = registry.find(MetricsHolder.METRICS_RECONCILIATIONS_STEP_DURATION).tag("pipeline", "test").tag("step", "second").timer();
+                    assertThat(second, is(notNullValue()));
+                    assertThat(second.count(), is(1L));
+
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testStepsAreTraced(VertxTestContext context) {
+        InMemorySpanExporter exporter = InMemorySpanExporter.create();
+        OperatorTracing.initialize(OpenTelemetrySdk.builder()
+                .setTracerProvider(SdkTracerProvider.builder().addSpanProcessor(SimpleSpanProcessor.create(exporter)).build())
+                .build());
+        OperatorTracing.startReconciliation(RECONCILIATION);
+
+        ReconciliationPipeline pipeline = new ReconciliationPipeline(RECONCILIATION, "test", null)
+                .step("first", () -> VertxUtil.traced(RECONCILIATION, "call", Future::succeededFuture))
+                .step("second", () -> Future.failedFuture("Step failed"), "first");
+
+        Checkpoint async = context.checkpoint();
+        pipeline.execute()
+                .onComplete(res -> context.verify(() -> {
+                    OperatorTracing.endReconciliation(RECONCILIATION, res.cause());
+                    OperatorTracing.disable();
+
+                    Map<String, SpanData> spans = exporter.getFinishedSpanItems().stream().collect(Collectors.toMap(SpanData::getName, span -> span));
+                    assertThat(spans.keySet(), containsInAnyOrder("reconcile Kafka", "test first", "test second", "call"));
+
+                    String reconciliationSpanId = spans.get("reconcile Kafka").getSpanId();
+                    assertThat(spans.get("test first").getParentSpanId(), is(reconciliationSpanId));
+                    assertThat(spans.get("test second").getParentSpanId(), is(reconciliationSpanId));
+                    // The call is started synchronously by the step, so the step span is its parent
+                    assertThat(spans.get("call").getParentSpanId(), is(spans.get("test first").getSpanId()));
+
+                    assertThat(spans.get("test first").getStatus().getStatusCode(), is(StatusCode.UNSET));
+                    assertThat(spans.get("test second").getStatus().getStatusCode(), is(StatusCode.ERROR));
+                    assertThat(spans.get("test second").getAttributes().get(OperatorTracing.NAME), is("my-cluster"));
+
+                    async.flag();
+                }));
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.strimzi.operator.cluster.ResourceUtils;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.Reconciliation;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class ReconciliationSchedulerTest {
+    private final Map<String, Promise<Void>> started = new LinkedHashMap<>();
+
+    private Future<Void> schedule(ReconciliationScheduler scheduler, String kind, String name, ReconciliationScheduler.Priority priority) {
+        return scheduler.schedule(new Reconciliation("test", kind, "namespace", name), priority, () -> {
+            Promise<Void> promise = Promise.promise();
+            started.put(kind + "/" + name, promise);
+            return promise.future();
+        });
+    }
+
+    @Test
+    public void testConcurrencyIsLimited() {
+        MetricsProvider metrics = ResourceUtils.metricsProvider();
+        ReconciliationScheduler scheduler = new ReconciliationScheduler(3, 2, metrics);
+
+        schedule(scheduler, "Kafka", "a", ReconciliationScheduler.Priority.EVENT);
+        schedule(scheduler, "Kafka", "b", ReconciliationScheduler.Priority.EVENT);
+        schedule(scheduler, "Kafka", "c", ReconciliationScheduler.Priority.EVENT);
+        schedule(scheduler, "KafkaConnect", "d", ReconciliationScheduler.Priority.EVENT);
+        schedule(scheduler, "KafkaBridge", "e", ReconciliationScheduler.Priority.EVENT);
+
+        // Only two Kafka clusters can be reconciled in parallel => the KafkaConnect takes the last slot
+        assertThat(new ArrayList<>(started.keySet()), is(List.of("Kafka/a", "Kafka/b", "KafkaConnect/d")));
+        assertThat(scheduler.runningCount(), is(3));
+        assertThat(scheduler.pendingCount(), is(2));
+        assertThat(metrics.meterRegistry().get(ReconciliationScheduler.METRICS_PENDING).gauge().value(), is(2.0));
+        assertThat(metrics.meterRegistry().get(ReconciliationScheduler.METRICS_RUNNING).gauge().value(), is(3.0));
+
+        started.get("Kafka/a").complete();
+        assertThat(new ArrayList<>(started.keySet()), is(List.of("Kafka/a", "Kafka/b", "KafkaConnect/d", "Kafka/c")));
+
+        started.get("KafkaConnect/d").complete();
+        assertThat(new ArrayList<>(started.keySet()), is(List.of("Kafka/a", "Kafka/b", "KafkaConnect/d", "Kafka/c", "KafkaBridge/e")));
+        assertThat(scheduler.pendingCount(), is(0));
+    }
+
+    @Test
+    public void testPriorities() {
+        ReconciliationScheduler scheduler = new ReconciliationScheduler(1, 1, ResourceUtils.metricsProvider());
+
+        // Occupies the only slot and fails => its next periodic reconciliation is a retry
+        schedule(scheduler, "Kafka", "failed", ReconciliationScheduler.Priority.EVENT);
+        started.remove("Kafka/failed").fail(new RuntimeException("Failed"));
+
+        schedule(scheduler, "Kafka", "blocker", ReconciliationScheduler.Priority.EVENT);
+        schedule(scheduler, "Kafka", "periodic", ReconciliationScheduler.Priority.PERIODIC);
+        schedule(scheduler, "Kafka", "failed", ReconciliationScheduler.Priority.PERIODIC);
+        schedule(scheduler, "Kafka", "event", ReconciliationScheduler.Priority.EVENT);
+
+        for (String expected : List.of("Kafka/blocker", "Kafka/event", "Kafka/failed", "Kafka/periodic")) {
+            assertThat(started.size(), is(1));
+            assertThat(started.keySet().iterator().next(), is(expected));
+            started.remove(expected).complete();
+        }
+    }
+
+    @Test
+    public void testSynchronouslyCompletedReconciliationsDoNotRecurse() {
+        ReconciliationScheduler scheduler = new ReconciliationScheduler(1, 1, ResourceUtils.metricsProvider());
+        int count = 100_000;
+        List<Future<Void>> results = new ArrayList<>();
+
+        schedule(scheduler, "Kafka", "blocker", ReconciliationScheduler.Priority.EVENT);
+
+        for (int i = 0; i < count; i++) {
+            results.add(scheduler.schedule(new Reconciliation("test", "Kafka", "namespace", "sync-" + i), ReconciliationScheduler.Priority.EVENT, Future::succeededFuture));
+        }
+
+        assertThat(scheduler.pendingCount(), is(count));
+
+        // Each of the waiting reconciliations completes synchronously once it is started
+        started.get("Kafka/blocker").complete();
+
+        assertThat(scheduler.pendingCount(), is(0));
+        assertThat(scheduler.runningCount(), is(0));
+        assertThat(results.stream().allMatch(Future::succeeded), is(true));
+    }
+
+    @Test
+    public void testPendingReconciliationsAreMerged() {
+        ReconciliationScheduler scheduler = new ReconciliationScheduler(10, 10, ResourceUtils.metricsProvider());
+
+        Future<Void> first = schedule(scheduler, "Kafka", "my-cluster", ReconciliationScheduler.Priority.EVENT);
+        Promise<Void> running = started.remove("Kafka/my-cluster");
+
+        // Reconciliations scheduled while the resource is being reconciled wait and are merged into one
+        Future<Void> second = schedule(scheduler, "Kafka", "my-cluster", ReconciliationScheduler.Priority.PERIODIC);
+        Future<Void> third = schedule(scheduler, "Kafka", "my-cluster", ReconciliationScheduler.Priority.EVENT);
+        assertThat(started.size(), is(0));
+        assertThat(scheduler.pendingCount(), is(1));
+
+        running.complete();
+        assertThat(first.succeeded(), is(true));
+        assertThat(started.size(), is(1));
+        assertThat(second.isComplete(), is(false));
+
+        started.remove("Kafka/my-cluster").fail(new RuntimeException("Failed"));
+        assertThat(second.failed(), is(true));
+        assertThat(third.failed(), is(true));
+        assertThat(scheduler.runningCount(), is(0));
+        assertThat(scheduler.pendingCount(), is(0));
+    }
+
+    @Test
+    public void testExceptionFailsTheReconciliation() {
+        ReconciliationScheduler scheduler = new ReconciliationScheduler(1, 1, ResourceUtils.metricsProvider());
+
+        Future<Void> result = scheduler.schedule(new Reconciliation("test", "Kafka", "namespace", "my-cluster"), ReconciliationScheduler.Priority.EVENT, () -> {
+            throw new RuntimeException("Failed");
+        });
+
+        assertThat(result.failed(), is(true));
+        assertThat(result.cause().getMessage(), is("Failed"));
+
+        // The slot is released
+        schedule(scheduler, "Kafka", "other", ReconciliationScheduler.Priority.EVENT);
+        assertThat(started.size(), is(1));
+    }
+
+    @Test
+    public void testDeletedResourceIsForgotten() {
+        ReconciliationScheduler scheduler = new ReconciliationScheduler(1, 1, ResourceUtils.metricsProvider());
+        Reconciliation reconciliation = new Reconciliation("test", "Kafka", "namespace", "my-cluster");
+
+        schedule(scheduler, "Kafka", "my-cluster", ReconciliationScheduler.Priority.EVENT);
+        started.remove("Kafka/my-cluster").fail(new RuntimeException("Failed"));
+        assertThat(scheduler.isFailed(reconciliation), is(true));
+
+        // The resource is deleted and even the failed deletion does not keep it in the failed resources
+        schedule(scheduler, "Kafka", "my-cluster", ReconciliationScheduler.Priority.EVENT);
+        scheduler.deleted(reconciliation);
+        assertThat(scheduler.isFailed(reconciliation), is(false));
+
+        started.remove("Kafka/my-cluster").fail(new RuntimeException("Deletion failed"));
+        assertThat(scheduler.isFailed(reconciliation), is(false));
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import io.strimzi.operator.cluster.model.NodeRef;
+import io.strimzi.operator.common.Reconciliation;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+@ExtendWith(VertxExtension.class)
+public class BrokerRestartBatchesTest {
+    private static final Reconciliation RECONCILIATION = new Reconciliation("test", "Kafka", "namespace", "my-cluster");
+
+    private static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    private static int[] replicas(int... ids) {
+        return ids;
+    }
+
+    private static Future<List<List<Integer>>> plan(PartitionIndexTest.MockCluster cluster, Map<Integer, String> racks, int maxBatchSize, int... brokerIds) {
+        List<NodeRef> brokers = IntStream.of(brokerIds)
+                .mapToObj(id -> new NodeRef("my-cluster-brokers-" + id, id, "brokers", false, true))
+                .toList();
+
+        return new PartitionIndex(RECONCILIATION, vertx).refreshAll(cluster.admin())
+                .map(topics -> BrokerRestartBatches.plan(brokers, racks, topics, maxBatchSize).stream()
+                        .map(batch -> batch.stream().map(NodeRef::nodeId).toList())
+                        .toList());
+    }
+
+    @Test
+    public void testBrokersSharingPartitionsAreNotRestartedTogether(VertxTestContext context) {
+        PartitionIndexTest.MockCluster cluster = new PartitionIndexTest.MockCluster()
+                .topic("a", "2", replicas(0, 1, 2))
+                .topic("b", "2", replicas(3, 4, 5));
+
+        Checkpoint async = context.checkpoint();
+        plan(cluster, Map.of(), 3, 0, 1, 2, 3, 4, 5)
+                .onComplete(context.succeeding(batches -> context.verify(() -> {
+                    assertThat(batches, is(List.of(List.of(0, 3), List.of(1, 4), List.of(2, 5))));
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testSpareReplicasAllowRestartingTogether(VertxTestContext context) {
+        PartitionIndexTest.MockCluster cluster = new PartitionIndexTest.MockCluster()
+                .topic("a", "2", replicas(0, 1, 2, 3));
+
+        Checkpoint async = context.checkpoint();
+        plan(cluster, Map.of(), 4, 0, 1, 2, 3)
+                .onComplete(context.succeeding(batches -> context.verify(() -> {
+                    assertThat(batches, is(List.of(List.of(0, 1), List.of(2, 3))));
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testTopicsWithoutMinIsr(VertxTestContext context) {
+        PartitionIndexTest.MockCluster cluster = new PartitionIndexTest.MockCluster()
+                .topic("a", null, replicas(0, 1, 2))
+                .topic("b", "3", replicas(1, 2, 3));
+
+        Checkpoint async = context.checkpoint();
+        plan(cluster, Map.of(), 5, 0, 1, 2, 3)
+                .onComplete(context.succeeding(batches -> context.verify(() -> {
+                    assertThat(batches, is(List.of(List.of(0, 1, 2, 3))));
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testMaxBatchSize(VertxTestContext context) {
+        PartitionIndexTest.MockCluster cluster = new PartitionIndexTest.MockCluster();
+
+        Checkpoint async = context.checkpoint();
+        plan(cluster, Map.of(), 2, 0, 1, 2, 3, 4)
+                .onComplete(context.succeeding(batches -> context.verify(() -> {
+                    assertThat(batches, is(List.of(List.of(0, 1), List.of(2, 3), List.of(4))));
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testBatchesDoNotMixRacks(VertxTestContext context) {
+        PartitionIndexTest.MockCluster cluster = new PartitionIndexTest.MockCluster()
+                .topic("a", "2", replicas(0, 1, 2))
+                .topic("b", "2", replicas(3, 4, 5));
+
+        Checkpoint async = context.checkpoint();
+        plan(cluster, Map.of(0, "zone-a", 1, "zone-b", 2, "zone-c", 3, "zone-a", 4, "zone-b", 5, "zone-c"), 6, 0, 1, 2, 3, 4, 5)
+                .onComplete(context.succeeding(batches -> context.verify(() -> {
+                    assertThat(batches, is(List.of(List.of(0, 3), List.of(1, 4), List.of(2, 5))));
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testUnderReplicatedPartitionsAreRolledOneByOne(VertxTestContext context) {
+        PartitionIndexTest.MockCluster cluster = new PartitionIndexTest.MockCluster()
+                .topic("a", "2", replicas(0, 1, 2))
+                .isr("a", 0, 0, 1);
+
+        Checkpoint async = context.checkpoint();
+        plan(cluster, Map.of(), 5, 0, 1, 2, 3, 4)
+                .onComplete(context.succeeding(batches -> context.verify(() -> {
+                    assertThat(batches, is(List.of(List.of(0), List.of(1), List.of(2), List.of(3, 4))));
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testSequentialRolling(VertxTestContext context) {
+        PartitionIndexTest.MockCluster cluster = new PartitionIndexTest.MockCluster();
+
+        Checkpoint async = context.checkpoint();
+        plan(cluster, Map.of(), 1, 0, 1, 2)
+                .onComplete(context.succeeding(batches -> context.verify(() -> {
+                    assertThat(batches, is(List.of(List.of(0), List.of(1), List.of(2))));
+                    async.flag();
+                })));
+    }
+}
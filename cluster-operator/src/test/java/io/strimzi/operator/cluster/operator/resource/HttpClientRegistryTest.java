@@ -0,0 +1,194 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+public class HttpClientRegistryTest {
+    private static final HttpRequest REQUEST = HttpRequest.newBuilder().uri(URI.create("http://my-connect-api:8083/connectors")).GET().build();
+
+    @SuppressWarnings("unchecked")
+    private static HttpClient mockHttpClient(List<CompletableFuture<HttpResponse<String>>> responses) {
+        HttpClient client = mock(HttpClient.class);
+        when(client.sendAsync(any(), any())).thenAnswer(i -> {
+            CompletableFuture<HttpResponse<String>> response = new CompletableFuture<>();
+            responses.add(response);
+            return response;
+        });
+
+        return client;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static HttpClient mockCloseableHttpClient(List<CompletableFuture<HttpResponse<String>>> responses) {
+        // HttpClient implements AutoCloseable only since Java 21
+        HttpClient client = mock(HttpClient.class, withSettings().extraInterfaces(AutoCloseable.class));
+        when(client.sendAsync(any(), any())).thenAnswer(i -> {
+            CompletableFuture<HttpResponse<String>> response = new CompletableFuture<>();
+            responses.add(response);
+            return response;
+        });
+
+        return client;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static HttpResponse<String> response(int statusCode) {
+        HttpResponse<String> response = mock(HttpResponse.class);
+        when(response.statusCode()).thenReturn(statusCode);
+        return response;
+    }
+
+    @Test
+    public void testClientsAreReused() {
+        HttpClientRegistry registry = new HttpClientRegistry(null);
+
+        HttpClientRegistry.TargetClient client = registry.client("my-connect-api:8083", null, () -> mock(HttpClient.class));
+        assertThat(registry.client("my-connect-api:8083", null, () -> mock(HttpClient.class)), is(sameInstance(client)));
+        assertThat(registry.client("my-other-connect-api:8083", null, () -> mock(HttpClient.class)), is(not(sameInstance(client))));
+        assertThat(registry.size(), is(2));
+    }
+
+    @Test
+    public void testClientIsReplacedWhenTrustChanges() {
+        HttpClientRegistry registry = new HttpClientRegistry(null);
+
+        HttpClientRegistry.TargetClient client = registry.client("https://my-cruise-control:9090", "ca-1", () -> mock(HttpClient.class));
+        assertThat(registry.client("https://my-cruise-control:9090", "ca-1", () -> mock(HttpClient.class)), is(sameInstance(client)));
+
+        HttpClientRegistry.TargetClient renewed = registry.client("https://my-cruise-control:9090", "ca-2", () -> mock(HttpClient.class));
+        assertThat(renewed, is(not(sameInstance(client))));
+        assertThat(registry.client("https://my-cruise-control:9090", "ca-2", () -> mock(HttpClient.class)), is(sameInstance(renewed)));
+        assertThat(registry.size(), is(1));
+    }
+
+    @Test
+    public void testRequestsInFlightAreLimited() {
+        List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>();
+        HttpClientRegistry registry = new HttpClientRegistry(null, 2);
+        HttpClientRegistry.TargetClient client = registry.client("my-connect-api:8083", null, () -> mockHttpClient(responses));
+
+        List<CompletableFuture<HttpResponse<String>>> results = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            results.add(client.sendAsync(REQUEST, HttpResponse.BodyHandlers.ofString()));
+        }
+
+        assertThat(responses.size(), is(2));
+        assertThat(client.inFlight(), is(2));
+        assertThat(client.pending(), is(1));
+
+        HttpResponse<String> ok = response(200);
+        responses.get(0).complete(ok);
+        assertThat(results.get(0).join(), is(sameInstance(ok)));
+        assertThat(responses.size(), is(3));
+        assertThat(client.inFlight(), is(2));
+        assertThat(client.pending(), is(0));
+
+        responses.get(1).completeExceptionally(new IOException("Connection refused"));
+        responses.get(2).complete(ok);
+        assertThat(results.get(1).isCompletedExceptionally(), is(true));
+        assertThat(results.get(2).join(), is(sameInstance(ok)));
+        assertThat(client.inFlight(), is(0));
+    }
+
+    @Test
+    public void testMetrics() {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>();
+        HttpClientRegistry registry = new HttpClientRegistry(new MicrometerMetricsProvider(meterRegistry));
+        HttpClientRegistry.TargetClient client = registry.client("my-connect-api:8083", null, () -> mockHttpClient(responses));
+
+        client.sendAsync(REQUEST, HttpResponse.BodyHandlers.ofString());
+        client.sendAsync(REQUEST, HttpResponse.BodyHandlers.ofString());
+        client.sendAsync(REQUEST, HttpResponse.BodyHandlers.ofString());
+        assertThat(meterRegistry.get(HttpClientRegistry.METRICS_REQUESTS_IN_FLIGHT).tag("target", "my-connect-api:8083").gauge().value(), is(3.0));
+
+        responses.get(0).complete(response(200));
+        responses.get(1).complete(response(503));
+        responses.get(2).completeExceptionally(new IOException("Connection refused"));
+
+        assertThat(meterRegistry.get(HttpClientRegistry.METRICS_REQUESTS_IN_FLIGHT).tag("target", "my-connect-api:8083").gauge().value(), is(0.0));
+        assertThat(meterRegistry.get(HttpClientRegistry.METRICS_REQUEST_DURATION).tag("target", "my-connect-api:8083").timer().count(), is(3L));
+        assertThat(meterRegistry.get(HttpClientRegistry.METRICS_REQUEST_ERRORS).tag("target", "my-connect-api:8083").counter().count(), is(2.0));
+
+        // The replaced client reports to the same meters
+        HttpClientRegistry.TargetClient renewed = registry.client("my-connect-api:8083", "ca-2", () -> mockHttpClient(responses));
+        renewed.sendAsync(REQUEST, HttpResponse.BodyHandlers.ofString());
+        responses.get(3).complete(response(200));
+        assertThat(meterRegistry.get(HttpClientRegistry.METRICS_REQUEST_DURATION).tag("target", "my-connect-api:8083").timer().count(), is(4L));
+    }
+
+    @Test
+    public void testReplacedClientIsClosedOnceIdle() throws Exception {
+        List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>();
+        HttpClientRegistry registry = new HttpClientRegistry(null);
+        HttpClient httpClient = mockCloseableHttpClient(responses);
+
+        HttpClientRegistry.TargetClient client = registry.client("https://my-cruise-control:9090", "ca-1", () -> httpClient);
+        client.sendAsync(REQUEST, HttpResponse.BodyHandlers.ofString());
+
+        registry.client("https://my-cruise-control:9090", "ca-2", () -> mock(HttpClient.class));
+        verify((AutoCloseable) httpClient, never()).close();
+
+        responses.get(0).complete(response(200));
+        verify((AutoCloseable) httpClient).close();
+    }
+
+    @Test
+    public void testRemoveHost() throws Exception {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>();
+        HttpClientRegistry registry = new HttpClientRegistry(new MicrometerMetricsProvider(meterRegistry));
+        HttpClient connectClient = mockCloseableHttpClient(responses);
+        HttpClient ccClient = mockCloseableHttpClient(responses);
+
+        registry.client("my-connect-api.my-namespace.svc:8083", null, () -> connectClient).sendAsync(REQUEST, HttpResponse.BodyHandlers.ofString());
+        registry.client("https://my-cruise-control.my-namespace.svc:9090", "ca-1", () -> ccClient).sendAsync(REQUEST, HttpResponse.BodyHandlers.ofString());
+        responses.forEach(response -> response.complete(response(200)));
+        assertThat(meterRegistry.find(HttpClientRegistry.METRICS_REQUEST_DURATION).timers().size(), is(2));
+
+        registry.removeHost("my-connect-api.my-namespace.svc");
+        assertThat(registry.size(), is(1));
+        verify((AutoCloseable) connectClient).close();
+        verify((AutoCloseable) ccClient, never()).close();
+        assertThat(meterRegistry.find(HttpClientRegistry.METRICS_REQUEST_DURATION).tag("target", "my-connect-api.my-namespace.svc:8083").meters().isEmpty(), is(true));
+        assertThat(meterRegistry.find(HttpClientRegistry.METRICS_REQUESTS_IN_FLIGHT).tag("target", "my-connect-api.my-namespace.svc:8083").meters().isEmpty(), is(true));
+
+        registry.removeHost("my-cruise-control.my-namespace.svc");
+        assertThat(registry.size(), is(0));
+        verify((AutoCloseable) ccClient).close();
+        assertThat(meterRegistry.find(HttpClientRegistry.METRICS_REQUEST_DURATION).meters().isEmpty(), is(true));
+    }
+
+    @Test
+    public void testHost() {
+        assertThat(HttpClientRegistry.host("my-connect-api.my-namespace.svc:8083"), is("my-connect-api.my-namespace.svc"));
+        assertThat(HttpClientRegistry.host("https://my-cruise-control.my-namespace.svc:9090"), is("my-cruise-control.my-namespace.svc"));
+        assertThat(HttpClientRegistry.host("http://my-cruise-control"), is("my-cruise-control"));
+    }
+}
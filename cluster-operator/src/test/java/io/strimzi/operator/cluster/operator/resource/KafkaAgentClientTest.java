@@ -7,14 +7,21 @@ package io.strimzi.operator.cluster.operator.resource;
 import io.strimzi.operator.common.Reconciliation;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.spy;
 
 public class KafkaAgentClientTest {
     private static final Reconciliation RECONCILIATION = new Reconciliation("test", "kafka", "namespace", "my-cluster");
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
 
     @Test
     public void testBrokerInRecoveryState() {
@@ -60,4 +67,45 @@ public class KafkaAgentClientTest {
         assertEquals(0, actual.remainingLogsToRecover());
         assertEquals(0, actual.remainingSegmentsToRecover());
     }
+
+    @Test
+    public void testBrokerHealth() {
+        KafkaAgentClient kafkaAgentClient = spy(new KafkaAgentClient(RECONCILIATION, "my-cluster", "namespace"));
+        doAnswer(invocation -> CompletableFuture.completedFuture("{\"brokerState\":3,\"underReplicatedPartitions\":1,\"underMinIsrPartitions\":0,\"atMinIsrPartitions\":0," +
+                "\"offlinePartitions\":0,\"leaderCount\":12,\"activeController\":true,\"someFutureField\":1}")).when(kafkaAgentClient).doGetAsync(any(), eq(TIMEOUT));
+
+        BrokerHealth actual = kafkaAgentClient.getBrokerHealth("mypod", TIMEOUT).join();
+        assertEquals(3, actual.brokerState());
+        assertTrue(actual.hasIsrHeadroom());
+        assertTrue(actual.isActiveController());
+        assertTrue(actual.isActiveControllerWithoutOfflinePartitions());
+    }
+
+    @Test
+    public void testBrokerHealthWithoutHeadroom() {
+        KafkaAgentClient kafkaAgentClient = spy(new KafkaAgentClient(RECONCILIATION, "my-cluster", "namespace"));
+        doAnswer(invocation -> CompletableFuture.completedFuture("{\"brokerState\":3,\"underMinIsrPartitions\":0,\"atMinIsrPartitions\":2,\"leaderCount\":12}")).when(kafkaAgentClient).doGetAsync(any(), eq(TIMEOUT));
+
+        BrokerHealth actual = kafkaAgentClient.getBrokerHealth("mypod", TIMEOUT).join();
+        assertFalse(actual.hasIsrHeadroom());
+        assertFalse(actual.isActiveController());
+        assertFalse(actual.isActiveControllerWithoutOfflinePartitions());
+
+        // Brokers which do not report the partition metrics have no known headroom
+        doAnswer(invocation -> CompletableFuture.completedFuture("{\"brokerState\":3}")).when(kafkaAgentClient).doGetAsync(any(), eq(TIMEOUT));
+        assertFalse(kafkaAgentClient.getBrokerHealth("mypod", TIMEOUT).join().hasIsrHeadroom());
+
+        // Brokers which are not running have no headroom
+        doAnswer(invocation -> CompletableFuture.completedFuture("{\"brokerState\":2,\"underMinIsrPartitions\":0,\"atMinIsrPartitions\":0}")).when(kafkaAgentClient).doGetAsync(any(), eq(TIMEOUT));
+        assertFalse(kafkaAgentClient.getBrokerHealth("mypod", TIMEOUT).join().hasIsrHeadroom());
+    }
+
+    @Test
+    public void testBrokerHealthErrorResponse() {
+        KafkaAgentClient kafkaAgentClient = spy(new KafkaAgentClient(RECONCILIATION, "my-cluster", "namespace"));
+        doAnswer(invocation -> CompletableFuture.failedFuture(new RuntimeException("Unexpected HTTP status code: 404")))
+                .when(kafkaAgentClient).doGetAsync(any(), eq(TIMEOUT));
+
+        assertNull(kafkaAgentClient.getBrokerHealth("mypod", TIMEOUT).join());
+    }
 }
@@ -5,6 +5,7 @@
 package io.strimzi.operator.cluster.operator.resource;
 
 import io.strimzi.operator.common.Reconciliation;
+import io.vertx.core.Vertx;
 import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxExtension;
 import io.vertx.junit5.VertxTestContext;
@@ -24,6 +25,8 @@ import org.apache.kafka.common.config.TopicConfig;
 import org.apache.kafka.common.errors.TimeoutException;
 import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
 import org.apache.kafka.common.internals.KafkaFutureImpl;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
@@ -34,6 +37,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -48,7 +52,23 @@ import static org.mockito.Mockito.when;
 
 @ExtendWith(VertxExtension.class)
 public class KafkaAvailabilityTest {
+    private static final Reconciliation RECONCILIATION = new Reconciliation("dummy", "kind", "namespace", "A");
 
+    private static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    private static KafkaAvailability availability(KSB ksb) {
+        return new KafkaAvailability(RECONCILIATION, ksb.ac(), new PartitionIndex(RECONCILIATION, vertx));
+    }
 
     static class KSB {
         private Throwable listTopicsResult;
@@ -286,7 +306,7 @@ public class KafkaAvailabilityTest {
 
             .addBroker(4);
 
-        KafkaAvailability kafkaAvailability = new KafkaAvailability(new Reconciliation("dummy", "kind", "namespace", "A"), ksb.ac());
+        KafkaAvailability kafkaAvailability = availability(ksb);
 
         Checkpoint a = context.checkpoint(ksb.brokers.size());
         for (Integer brokerId : ksb.brokers.keySet()) {
@@ -303,6 +323,35 @@ public class KafkaAvailabilityTest {
         }
     }
 
+    @Test
+    public void testPartitionReassignedToBrokerAfterIndexIsBuilt(VertxTestContext context) {
+        PartitionIndexTest.MockCluster cluster = new PartitionIndexTest.MockCluster()
+                .topic("A", "2", new int[]{1, 2, 3})
+                .topic("B", "2", new int[]{1, 2, 3});
+
+        // The full refresh interval of 0 makes the index describe all topics again before every check
+        KafkaAvailability kafkaAvailability = new KafkaAvailability(RECONCILIATION, cluster.admin(), new PartitionIndex(RECONCILIATION, vertx, PartitionIndex.DEFAULT_PAGE_SIZE, 0));
+
+        Checkpoint async = context.checkpoint();
+        kafkaAvailability.canRoll(0)
+                .compose(canRoll -> {
+                    context.verify(() -> assertTrue(canRoll, "broker 0 should be rollable, having no partitions"));
+
+                    // A partition of A is reassigned to broker 0 and a partition hosted by broker 0 is added to B.
+                    // Both are at min.insync.replicas with broker 0 in the ISR.
+                    cluster.topic("A", "2", new int[]{0, 2, 3})
+                            .isr("A", 0, 0, 2)
+                            .topic("B", "2", new int[]{1, 2, 3}, new int[]{0, 1, 2})
+                            .isr("B", 1, 0, 1);
+
+                    return kafkaAvailability.canRoll(0);
+                })
+                .onComplete(context.succeeding(canRoll -> context.verify(() -> {
+                    assertFalse(canRoll, "broker 0 should not be rollable, being in the ISR of partitions at min.insync.replicas");
+                    async.flag();
+                })));
+    }
+
     @Test
     public void testAtMinIsr(VertxTestContext context) {
         KSB ksb = new KSB()
@@ -325,7 +374,7 @@ public class KafkaAvailabilityTest {
 
             .addBroker(2);
 
-        KafkaAvailability kafkaAvailability = new KafkaAvailability(new Reconciliation("dummy", "kind", "namespace", "A"), ksb.ac());
+        KafkaAvailability kafkaAvailability = availability(ksb);
 
         Checkpoint a = context.checkpoint(ksb.brokers.size());
         for (Integer brokerId : ksb.brokers.keySet()) {
@@ -364,7 +413,7 @@ public class KafkaAvailabilityTest {
 
                 .addBroker(3);
 
-        KafkaAvailability kafkaAvailability = new KafkaAvailability(new Reconciliation("dummy", "kind", "namespace", "A"), ksb.ac());
+        KafkaAvailability kafkaAvailability = availability(ksb);
 
         Checkpoint a = context.checkpoint(ksb.brokers.size());
         for (Integer brokerId : ksb.brokers.keySet()) {
@@ -376,6 +425,39 @@ public class KafkaAvailabilityTest {
         }
     }
 
+    @Test
+    public void testAboveMinIsrWithRestartingBrokers(VertxTestContext context) {
+        KSB ksb = new KSB()
+                .addNewTopic("A", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                    .addNewPartition(0)
+                        .replicaOn(0, 1, 2)
+                        .leader(0)
+                        .isr(0, 1, 2)
+                    .endPartition()
+                .endTopic()
+
+                .addBroker(3);
+
+        // Broker 0 is being restarted in the same batch, but it is still in the ISR
+        KafkaAvailability kafkaAvailability = new KafkaAvailability(RECONCILIATION, ksb.ac(), new PartitionIndex(RECONCILIATION, vertx), Set.of(0));
+
+        Checkpoint a = context.checkpoint(ksb.brokers.size());
+        for (Integer brokerId : ksb.brokers.keySet()) {
+            kafkaAvailability.canRoll(brokerId).onComplete(context.succeeding(canRoll -> context.verify(() -> {
+                if (brokerId == 1 || brokerId == 2) {
+                    assertFalse(canRoll,
+                            "broker " + brokerId + " should not be rollable, being minisr = 2 and broker 0 being restarted");
+                } else {
+                    assertTrue(canRoll,
+                            "broker " + brokerId + " should be rollable");
+                }
+
+                a.flag();
+            })));
+        }
+    }
+
     @Test
     public void testMinIsrEqualsReplicas(VertxTestContext context) {
         KSB ksb = new KSB()
@@ -390,7 +472,7 @@ public class KafkaAvailabilityTest {
 
                 .addBroker(3);
 
-        KafkaAvailability kafkaAvailability = new KafkaAvailability(new Reconciliation("dummy", "kind", "namespace", "A"), ksb.ac());
+        KafkaAvailability kafkaAvailability = availability(ksb);
 
         Checkpoint a = context.checkpoint(ksb.brokers.size());
         for (Integer brokerId : ksb.brokers.keySet()) {
@@ -417,7 +499,7 @@ public class KafkaAvailabilityTest {
 
                 .addBroker(3);
 
-        KafkaAvailability kafkaAvailability = new KafkaAvailability(new Reconciliation("dummy", "kind", "namespace", "A"), ksb.ac());
+        KafkaAvailability kafkaAvailability = availability(ksb);
 
         Checkpoint a = context.checkpoint(ksb.brokers.size());
         for (Integer brokerId : ksb.brokers.keySet()) {
@@ -443,7 +525,7 @@ public class KafkaAvailabilityTest {
                 .endTopic()
                 .addBroker(3);
 
-        KafkaAvailability kafkaAvailability = new KafkaAvailability(new Reconciliation("dummy", "kind", "namespace", "A"), ksb.ac());
+        KafkaAvailability kafkaAvailability = availability(ksb);
 
         Checkpoint a = context.checkpoint(ksb.brokers.size());
         for (Integer brokerId : ksb.brokers.keySet()) {
@@ -478,7 +560,7 @@ public class KafkaAvailabilityTest {
 
                 .addBroker(3);
 
-        KafkaAvailability kafkaSorted = new KafkaAvailability(new Reconciliation("dummy", "kind", "namespace", "A"), ksb.ac());
+        KafkaAvailability kafkaSorted = availability(ksb);
 
         Checkpoint a = context.checkpoint(ksb.brokers.size());
         for (Integer brokerId : ksb.brokers.keySet()) {
@@ -515,7 +597,7 @@ public class KafkaAvailabilityTest {
 
                 .addBroker(3);
 
-        KafkaAvailability kafkaAvailability = new KafkaAvailability(new Reconciliation("dummy", "kind", "namespace", "A"), ksb.ac());
+        KafkaAvailability kafkaAvailability = availability(ksb);
 
         Checkpoint a = context.checkpoint(ksb.brokers.size());
         for (Integer brokerId : ksb.brokers.keySet()) {
@@ -551,7 +633,7 @@ public class KafkaAvailabilityTest {
                 .addBroker(3)
                 .listTopicsResult(new TimeoutException());
 
-        KafkaAvailability kafkaAvailability = new KafkaAvailability(new Reconciliation("dummy", "kind", "namespace", "A"), ksb.ac());
+        KafkaAvailability kafkaAvailability = availability(ksb);
 
         Checkpoint a = context.checkpoint(ksb.brokers.size());
         for (Integer brokerId : ksb.brokers.keySet()) {
@@ -585,7 +667,7 @@ public class KafkaAvailabilityTest {
                 .addBroker(3)
                 .describeTopicsResult("A", new UnknownTopicOrPartitionException());
 
-        KafkaAvailability kafkaAvailability = new KafkaAvailability(new Reconciliation("dummy", "kind", "namespace", "A"), ksb.ac());
+        KafkaAvailability kafkaAvailability = availability(ksb);
 
         Checkpoint a = context.checkpoint(ksb.brokers.size());
         for (Integer brokerId : ksb.brokers.keySet()) {
@@ -619,7 +701,7 @@ public class KafkaAvailabilityTest {
                 .addBroker(3)
                 .describeConfigsResult(new ConfigResource(ConfigResource.Type.TOPIC, "A"), new UnknownTopicOrPartitionException());
 
-        KafkaAvailability kafkaAvailability = new KafkaAvailability(new Reconciliation("dummy", "kind", "namespace", "A"), ksb.ac());
+        KafkaAvailability kafkaAvailability = availability(ksb);
 
         Checkpoint a = context.checkpoint(ksb.brokers.size());
         for (Integer brokerId : ksb.brokers.keySet()) {
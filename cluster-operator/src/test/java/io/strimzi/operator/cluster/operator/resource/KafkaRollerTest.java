@@ -30,7 +30,6 @@ import org.apache.kafka.clients.admin.Config;
 import org.apache.kafka.clients.admin.DescribeClusterResult;
 import org.apache.kafka.clients.admin.DescribeMetadataQuorumResult;
 import org.apache.kafka.clients.admin.QuorumInfo;
-import org.apache.kafka.clients.admin.TopicDescription;
 import org.apache.kafka.common.KafkaFuture;
 import org.apache.kafka.common.Node;
 import org.apache.kafka.common.internals.KafkaFutureImpl;
@@ -45,7 +44,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.IdentityHashMap;
 import java.util.LinkedHashSet;
@@ -53,6 +51,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -895,6 +894,8 @@ public class KafkaRollerTest {
                         return new BrokerState(-1, null);
                     }
                     return brokerState;
+                } else if ("getBrokerHealth".equals(invocation.getMethod().getName())) {
+                    return CompletableFuture.completedFuture(null);
                 }
                 return null;
             });
@@ -925,18 +926,8 @@ public class KafkaRollerTest {
         }
 
         @Override
-        protected KafkaAvailability availability(Admin ac) {
-            return new KafkaAvailability(null, null) {
-                @Override
-                protected Future<Set<String>> topicNames() {
-                    return succeededFuture(Collections.emptySet());
-                }
-
-                @Override
-                protected Future<Collection<TopicDescription>> describeTopics(Set<String> names) {
-                    return succeededFuture(Collections.emptySet());
-                }
-
+        protected KafkaAvailability availability(Admin ac, Set<Integer> unavailableBrokers) {
+            return new KafkaAvailability(null, null, null) {
                 @Override
                 Future<Boolean> canRoll(int podId) {
                     return canRollFn.apply(podId);
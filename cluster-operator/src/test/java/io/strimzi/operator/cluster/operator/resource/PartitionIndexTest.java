@@ -0,0 +1,337 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import io.strimzi.operator.common.Reconciliation;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.ConfigEntry;
+import org.apache.kafka.clients.admin.DescribeConfigsResult;
+import org.apache.kafka.clients.admin.DescribeTopicsResult;
+import org.apache.kafka.clients.admin.ListTopicsResult;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.apache.kafka.common.config.ConfigResource;
+import org.apache.kafka.common.config.TopicConfig;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(VertxExtension.class)
+public class PartitionIndexTest {
+    private static final Reconciliation RECONCILIATION = new Reconciliation("test", "Kafka", "namespace", "my-cluster");
+
+    private static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    /**
+     * Mocked Kafka cluster which records the topics described by the index
+     */
+    static class MockCluster {
+        private final Map<String, TopicDescription> topics = new HashMap<>();
+        private final Map<String, String> minIsr = new HashMap<>();
+        private final List<Collection<String>> describedTopics = new ArrayList<>();
+
+        MockCluster topic(String name, String minIsr, int[]... replicas) {
+            List<TopicPartitionInfo> partitions = new ArrayList<>();
+
+            for (int i = 0; i < replicas.length; i++) {
+                List<Node> nodes = IntStream.of(replicas[i]).mapToObj(id -> new Node(id, "localhost", 9092)).toList();
+                partitions.add(new TopicPartitionInfo(i, nodes.get(0), nodes, nodes));
+            }
+
+            topics.put(name, new TopicDescription(name, false, partitions));
+
+            if (minIsr != null) {
+                this.minIsr.put(name, minIsr);
+            }
+
+            return this;
+        }
+
+        MockCluster isr(String name, int partition, int... isr) {
+            TopicDescription description = topics.get(name);
+            List<TopicPartitionInfo> partitions = new ArrayList<>(description.partitions());
+            TopicPartitionInfo info = partitions.get(partition);
+            List<Node> isrNodes = IntStream.of(isr).mapToObj(id -> new Node(id, "localhost", 9092)).toList();
+
+            partitions.set(partition, new TopicPartitionInfo(partition, info.leader(), info.replicas(), isrNodes));
+            topics.put(name, new TopicDescription(name, false, partitions));
+
+            return this;
+        }
+
+        MockCluster delete(String name) {
+            topics.remove(name);
+            minIsr.remove(name);
+            return this;
+        }
+
+        Admin admin() {
+            Admin admin = mock(Admin.class);
+
+            when(admin.listTopics(any())).thenAnswer(i -> {
+                ListTopicsResult ltr = mock(ListTopicsResult.class);
+                when(ltr.names()).thenReturn(KafkaFuture.completedFuture(new HashSet<>(topics.keySet())));
+                return ltr;
+            });
+
+            when(admin.describeTopics(anyCollection())).thenAnswer(i -> {
+                Collection<String> names = i.getArgument(0);
+                describedTopics.add(new ArrayList<>(names));
+
+                Map<String, TopicDescription> result = new HashMap<>();
+                for (String name : names) {
+                    result.put(name, topics.get(name));
+                }
+
+                DescribeTopicsResult dtr = mock(DescribeTopicsResult.class);
+                when(dtr.allTopicNames()).thenReturn(KafkaFuture.completedFuture(result));
+                return dtr;
+            });
+
+            when(admin.describeConfigs(anyCollection())).thenAnswer(i -> {
+                Collection<ConfigResource> resources = i.getArgument(0);
+
+                Map<ConfigResource, Config> result = new HashMap<>();
+                for (ConfigResource resource : resources) {
+                    String value = minIsr.get(resource.name());
+                    result.put(resource, new Config(value != null ? List.of(new ConfigEntry(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, value)) : List.of()));
+                }
+
+                DescribeConfigsResult dcr = mock(DescribeConfigsResult.class);
+                when(dcr.all()).thenReturn(KafkaFuture.completedFuture(result));
+                return dcr;
+            });
+
+            return admin;
+        }
+    }
+
+    private static int[] replicas(int... ids) {
+        return ids;
+    }
+
+    @Test
+    public void testTopicsAreDescribedInPages(VertxTestContext context) {
+        MockCluster cluster = new MockCluster()
+                .topic("a", null, replicas(0, 1))
+                .topic("b", null, replicas(1, 2))
+                .topic("c", null, replicas(2, 0))
+                .topic("d", null, replicas(0, 1), replicas(1, 2))
+                .topic("e", null, replicas(3));
+
+        PartitionIndex index = new PartitionIndex(RECONCILIATION, vertx, 2, PartitionIndex.DEFAULT_FULL_REFRESH_INTERVAL_MS);
+
+        Checkpoint async = context.checkpoint();
+        index.refresh(cluster.admin())
+                .onComplete(context.succeeding(i -> context.verify(() -> {
+                    assertThat(index.size(), is(5));
+                    assertThat(index.brokersInUse(), is(Set.of(0, 1, 2, 3)));
+
+                    assertThat(cluster.describedTopics.size(), is(3));
+                    assertThat(cluster.describedTopics.stream().allMatch(page -> page.size() <= 2), is(true));
+
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testIncrementalRefresh(VertxTestContext context) {
+        MockCluster cluster = new MockCluster()
+                .topic("a", null, replicas(0, 1))
+                .topic("b", null, replicas(1, 2));
+
+        Admin admin = cluster.admin();
+        PartitionIndex index = new PartitionIndex(RECONCILIATION, vertx);
+
+        Checkpoint async = context.checkpoint();
+        index.refresh(admin)
+                .compose(i -> {
+                    context.verify(() -> assertThat(index.brokersInUse(), is(Set.of(0, 1, 2))));
+
+                    cluster.delete("a").topic("c", null, replicas(3, 4));
+                    cluster.describedTopics.clear();
+
+                    return index.refresh(admin);
+                })
+                .onComplete(context.succeeding(i -> context.verify(() -> {
+                    // Only the new topic is described
+                    assertThat(cluster.describedTopics.size(), is(1));
+                    assertThat(cluster.describedTopics.get(0), contains("c"));
+
+                    assertThat(index.size(), is(2));
+                    assertThat(index.brokersInUse(), is(Set.of(1, 2, 3, 4)));
+
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testRefreshBroker(VertxTestContext context) {
+        MockCluster cluster = new MockCluster()
+                .topic("a", "2", replicas(0, 1, 2))
+                .topic("b", null, replicas(1, 2, 3))
+                .topic("c", "1", replicas(2, 3, 0), replicas(3, 0, 1));
+
+        Admin admin = cluster.admin();
+        PartitionIndex index = new PartitionIndex(RECONCILIATION, vertx);
+
+        Checkpoint async = context.checkpoint();
+        index.refresh(admin)
+                .compose(i -> {
+                    cluster.describedTopics.clear();
+                    return index.refreshBroker(admin, 0);
+                })
+                .onComplete(context.succeeding(topics -> context.verify(() -> {
+                    // Only the topics hosted by the broker are described again within the full refresh interval
+                    assertThat(cluster.describedTopics.size(), is(1));
+                    assertThat(cluster.describedTopics.get(0), containsInAnyOrder("a", "c"));
+
+                    assertThat(topics.stream().map(PartitionIndex.Topic::name).toList(), containsInAnyOrder("a", "c"));
+
+                    for (PartitionIndex.Topic topic : topics) {
+                        if ("a".equals(topic.name())) {
+                            assertThat(topic.minIsr(), is(2));
+                            assertThat(topic.partitionCount(), is(1));
+                        } else {
+                            assertThat(topic.minIsr(), is(1));
+                            assertThat(topic.partitionCount(), is(2));
+                            assertThat(topic.replicas(1), is(new int[]{3, 0, 1}));
+                        }
+                    }
+
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testRefreshBrokerFindsReassignedAndAddedPartitions(VertxTestContext context) {
+        MockCluster cluster = new MockCluster()
+                .topic("a", "2", replicas(0, 1, 2))
+                .topic("b", "2", replicas(1, 2, 3))
+                .topic("c", "2", replicas(1, 2, 3));
+
+        Admin admin = cluster.admin();
+        // All topics are described again before every check when the full refresh interval is 0
+        PartitionIndex index = new PartitionIndex(RECONCILIATION, vertx, PartitionIndex.DEFAULT_PAGE_SIZE, 0);
+
+        Checkpoint async = context.checkpoint();
+        index.refreshBroker(admin, 0)
+                .compose(topics -> {
+                    context.verify(() -> assertThat(topics.stream().map(PartitionIndex.Topic::name).toList(), contains("a")));
+
+                    // A partition of b is reassigned to broker 0 and a new partition hosted by broker 0 is added to c
+                    cluster.topic("b", "2", replicas(0, 2, 3))
+                            .topic("c", "2", replicas(1, 2, 3), replicas(3, 0, 1));
+
+                    return index.refreshBroker(admin, 0);
+                })
+                .onComplete(context.succeeding(topics -> context.verify(() -> {
+                    assertThat(topics.stream().map(PartitionIndex.Topic::name).toList(), containsInAnyOrder("a", "b", "c"));
+
+                    for (PartitionIndex.Topic topic : topics) {
+                        if ("b".equals(topic.name())) {
+                            assertThat(topic.replicas(0), is(new int[]{0, 2, 3}));
+                            assertThat(topic.minIsr(), is(2));
+                        } else if ("c".equals(topic.name())) {
+                            assertThat(topic.partitionCount(), is(2));
+                            assertThat(topic.replicas(1), is(new int[]{3, 0, 1}));
+                            assertThat(topic.minIsr(), is(2));
+                        }
+                    }
+
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testRefreshAll(VertxTestContext context) {
+        MockCluster cluster = new MockCluster()
+                .topic("a", "2", replicas(0, 1, 2))
+                .topic("b", null, replicas(1, 2, 3));
+
+        Admin admin = cluster.admin();
+        PartitionIndex index = new PartitionIndex(RECONCILIATION, vertx);
+
+        Checkpoint async = context.checkpoint();
+        index.refresh(admin)
+                .compose(i -> {
+                    cluster.topic("c", "1", replicas(3, 4)).isr("a", 0, 0, 1);
+                    cluster.describedTopics.clear();
+
+                    return index.refreshAll(admin);
+                })
+                .onComplete(context.succeeding(topics -> context.verify(() -> {
+                    // Each topic is described only once
+                    assertThat(cluster.describedTopics.stream().flatMap(Collection::stream).toList(), containsInAnyOrder("a", "b", "c"));
+                    assertThat(topics.stream().map(PartitionIndex.Topic::name).toList(), containsInAnyOrder("a", "b", "c"));
+
+                    for (PartitionIndex.Topic topic : topics) {
+                        if ("a".equals(topic.name())) {
+                            assertThat(topic.minIsr(), is(2));
+                            assertThat(topic.isr(0), is(new int[]{0, 1}));
+                        } else if ("b".equals(topic.name())) {
+                            assertThat(topic.minIsr(), is(PartitionIndex.NO_MIN_ISR));
+                        } else {
+                            assertThat(topic.minIsr(), is(1));
+                        }
+                    }
+
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testRefreshBrokerWithoutReplicas(VertxTestContext context) {
+        MockCluster cluster = new MockCluster()
+                .topic("a", "2", replicas(0, 1, 2));
+
+        PartitionIndex index = new PartitionIndex(RECONCILIATION, vertx);
+
+        Checkpoint async = context.checkpoint();
+        index.refreshBroker(cluster.admin(), 5)
+                .onComplete(context.succeeding(topics -> context.verify(() -> {
+                    assertThat(topics.isEmpty(), is(true));
+                    assertThat(index.brokersInUse(), is(Set.of(0, 1, 2)));
+
+                    async.flag();
+                })));
+    }
+}
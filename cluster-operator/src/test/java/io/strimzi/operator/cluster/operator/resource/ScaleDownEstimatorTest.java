@@ -0,0 +1,103 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import io.strimzi.api.kafka.model.kafka.cruisecontrol.KafkaAutoRebalanceScaleDownEstimate;
+import io.strimzi.operator.common.Reconciliation;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.DescribeLogDirsResult;
+import org.apache.kafka.clients.admin.LogDirDescription;
+import org.apache.kafka.clients.admin.ReplicaInfo;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(VertxExtension.class)
+public class ScaleDownEstimatorTest {
+    private static final Reconciliation RECONCILIATION = new Reconciliation("test", "Kafka", "namespace", "my-cluster");
+
+    private static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    @Test
+    public void testEstimate() {
+        KafkaAutoRebalanceScaleDownEstimate estimate = ScaleDownEstimator.estimate(Map.of(3, 10, 4, 5, 5, 0), Map.of(3, 3_000L, 4, 1_000L), 1_000L);
+
+        // Brokers without any data go first
+        assertThat(estimate.getRemovalOrder(), is(List.of(5, 4, 3)));
+        assertThat(estimate.getPartitionReplicas(), is(15));
+        assertThat(estimate.getDataBytes(), is(4_000L));
+        // The brokers are emptied in parallel, so the largest one takes the longest
+        assertThat(estimate.getEstimatedDurationSeconds(), is(3L));
+
+        assertThat(ScaleDownEstimator.estimate(Map.of(3, 10), Map.of(3, 3_001L), 1_000L).getEstimatedDurationSeconds(), is(4L));
+        assertThat(ScaleDownEstimator.estimate(Map.of(3, 10), Map.of(3, 3_000L), null).getEstimatedDurationSeconds(), is(nullValue()));
+    }
+
+    @Test
+    public void testEstimateFromCluster(VertxTestContext context) {
+        PartitionIndexTest.MockCluster cluster = new PartitionIndexTest.MockCluster()
+                .topic("a", null, new int[]{0, 1}, new int[]{1, 2})
+                .topic("b", null, new int[]{1, 2}, new int[]{2, 0}, new int[]{2, 1});
+
+        Admin admin = cluster.admin();
+        DescribeLogDirsResult result = mock(DescribeLogDirsResult.class);
+        when(result.allDescriptions()).thenReturn(KafkaFuture.completedFuture(Map.of(
+                1, Map.of("/var/lib/kafka/data-0", new LogDirDescription(null, Map.of(
+                        new TopicPartition("a", 0), new ReplicaInfo(100, 0, false),
+                        new TopicPartition("a", 1), new ReplicaInfo(200, 0, false),
+                        new TopicPartition("b", 0), new ReplicaInfo(300, 0, false),
+                        new TopicPartition("b", 2), new ReplicaInfo(400, 0, false),
+                        // Future replicas are not moved off the broker
+                        new TopicPartition("b", 1), new ReplicaInfo(500, 0, true)))),
+                2, Map.of("/var/lib/kafka/data-0", new LogDirDescription(null, Map.of(
+                        new TopicPartition("a", 1), new ReplicaInfo(200, 0, false))),
+                        "/var/lib/kafka/data-1", new LogDirDescription(null, Map.of(
+                            new TopicPartition("b", 0), new ReplicaInfo(300, 0, false),
+                            new TopicPartition("b", 1), new ReplicaInfo(150, 0, false),
+                            new TopicPartition("b", 2), new ReplicaInfo(400, 0, false)))))));
+        when(admin.describeLogDirs(anyCollection())).thenReturn(result);
+
+        PartitionIndex index = new PartitionIndex(RECONCILIATION, vertx);
+
+        Checkpoint async = context.checkpoint();
+        index.refresh(admin)
+                .compose(i -> new ScaleDownEstimator(RECONCILIATION, vertx).estimate(admin, index, Set.of(1, 2), 100L))
+                .onComplete(context.succeeding(estimate -> context.verify(() -> {
+                    assertThat(estimate.getRemovalOrder(), is(List.of(1, 2)));
+                    assertThat(estimate.getPartitionReplicas(), is(8));
+                    assertThat(estimate.getDataBytes(), is(2_050L));
+                    assertThat(estimate.getEstimatedDurationSeconds(), is(11L));
+                    async.flag();
+                })));
+    }
+}
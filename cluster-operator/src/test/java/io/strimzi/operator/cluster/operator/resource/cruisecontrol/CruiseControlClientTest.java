@@ -26,9 +26,11 @@ import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
 import static io.strimzi.operator.cluster.JSONObjectMatchers.hasEntry;
+import static io.strimzi.operator.cluster.JSONObjectMatchers.hasKey;
 import static io.strimzi.operator.cluster.JSONObjectMatchers.hasKeys;
 import static io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlApiImpl.HTTP_DEFAULT_IDLE_TIMEOUT_SECONDS;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.instanceOf;
@@ -90,7 +92,8 @@ public class CruiseControlClientTest {
         RebalanceOptions options = new RebalanceOptions.RebalanceOptionsBuilder().build();
         this.ccRebalance(0, options, CruiseControlEndpoints.REBALANCE, result -> {
             assertThat(result.getUserTaskId(), is(MockCruiseControl.REBALANCE_NO_GOALS_RESPONSE_UTID));
-            assertThat(result.getJson(), hasKeys("summary", "goalSummary", "loadAfterOptimization"));
+            assertThat(result.getJson(), hasKeys("summary", "loadAfterOptimization"));
+            assertThat(result.getJson(), not(hasKey("goalSummary")));
         });
     }
     @Test
@@ -99,7 +102,8 @@ public class CruiseControlClientTest {
         this.ccRebalanceVerbose(0, options, CruiseControlEndpoints.REBALANCE,
                 result -> {
                     assertThat(result.getUserTaskId(), is(MockCruiseControl.REBALANCE_NO_GOALS_VERBOSE_RESPONSE_UTID));
-                    assertThat(result.getJson(), hasKeys("summary", "goalSummary", "proposals", "loadAfterOptimization", "loadBeforeOptimization"));
+                    assertThat(result.getJson(), hasKeys("summary", "loadAfterOptimization", "loadBeforeOptimization"));
+                    assertThat(result.getJson(), not(hasKey("proposals")));
                 });
     }
 
@@ -141,7 +145,8 @@ public class CruiseControlClientTest {
         this.ccRebalance(0, options, CruiseControlEndpoints.ADD_BROKER,
                 result -> {
                     assertThat(result.getUserTaskId(), is(MockCruiseControl.REBALANCE_NO_GOALS_RESPONSE_UTID));
-                    assertThat(result.getJson(), hasKeys("summary", "goalSummary", "loadAfterOptimization"));
+                    assertThat(result.getJson(), hasKeys("summary", "loadAfterOptimization"));
+                    assertThat(result.getJson(), not(hasKey("goalSummary")));
                 });
     }
 
@@ -154,7 +159,8 @@ public class CruiseControlClientTest {
         this.ccRebalanceVerbose(0, options, CruiseControlEndpoints.ADD_BROKER,
                 result -> {
                     assertThat(result.getUserTaskId(), is(MockCruiseControl.REBALANCE_NO_GOALS_VERBOSE_RESPONSE_UTID));
-                    assertThat(result.getJson(), hasKeys("summary", "goalSummary", "proposals", "loadAfterOptimization", "loadBeforeOptimization"));
+                    assertThat(result.getJson(), hasKeys("summary", "loadAfterOptimization", "loadBeforeOptimization"));
+                    assertThat(result.getJson(), not(hasKey("proposals")));
                 });
     }
 
@@ -198,7 +204,8 @@ public class CruiseControlClientTest {
         this.ccRebalance(0, options, CruiseControlEndpoints.REMOVE_BROKER,
                 result -> {
                     assertThat(result.getUserTaskId(), is(MockCruiseControl.REBALANCE_NO_GOALS_RESPONSE_UTID));
-                    assertThat(result.getJson(), hasKeys("summary", "goalSummary", "loadAfterOptimization"));
+                    assertThat(result.getJson(), hasKeys("summary", "loadAfterOptimization"));
+                    assertThat(result.getJson(), not(hasKey("goalSummary")));
                 });
     }
 
@@ -215,7 +222,8 @@ public class CruiseControlClientTest {
         this.ccRebalance(0, options, CruiseControlEndpoints.REMOVE_DISKS,
                 result -> {
                     assertThat(result.getUserTaskId(), is(MockCruiseControl.REBALANCE_NO_GOALS_RESPONSE_UTID));
-                    assertThat(result.getJson(), hasKeys("summary", "goalSummary", "loadAfterOptimization"));
+                    assertThat(result.getJson(), hasKeys("summary", "loadAfterOptimization"));
+                    assertThat(result.getJson(), not(hasKey("goalSummary")));
                 });
     }
 
@@ -275,7 +283,8 @@ public class CruiseControlClientTest {
         this.ccRebalanceVerbose(0, options, CruiseControlEndpoints.REMOVE_BROKER,
                 result -> {
                     assertThat(result.getUserTaskId(), is(MockCruiseControl.REBALANCE_NO_GOALS_VERBOSE_RESPONSE_UTID));
-                    assertThat(result.getJson(), hasKeys("summary", "goalSummary", "proposals", "loadAfterOptimization", "loadBeforeOptimization"));
+                    assertThat(result.getJson(), hasKeys("summary", "loadAfterOptimization", "loadBeforeOptimization"));
+                    assertThat(result.getJson(), not(hasKey("proposals")));
                 });
     }
 
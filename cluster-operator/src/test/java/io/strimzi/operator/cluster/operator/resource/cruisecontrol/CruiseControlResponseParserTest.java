@@ -0,0 +1,63 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource.cruisecontrol;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static io.strimzi.operator.cluster.JSONObjectMatchers.hasKey;
+import static io.strimzi.operator.cluster.JSONObjectMatchers.hasKeys;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class CruiseControlResponseParserTest {
+    private static final String PROPOSAL = """
+            {
+              "summary": {"numReplicaMovements": 2, "excludedTopics": ["a", "b"]},
+              "goalSummary": [{"goal": "RackAwareGoal", "status": "NO-ACTION", "clusterModelStats": {"metadata": {"brokers": 3}}}],
+              "proposals": [{"topicPartition": {"topic": "a", "partition": 0}, "oldReplicas": [0, 1], "newReplicas": [1, 2]}],
+              "loadBeforeOptimization": {"brokers": [{"Broker": 0, "Leaders": 10}]},
+              "loadAfterOptimization": {"brokers": [{"Broker": 0, "Leaders": 8}]},
+              "version": 1
+            }
+            """;
+
+    @Test
+    public void testOnlySelectedFieldsAreKept() {
+        JsonNode json = CruiseControlResponseParser.parse(
+                new ByteArrayInputStream(PROPOSAL.getBytes(StandardCharsets.UTF_8)), CruiseControlResponseParser.REBALANCE_FIELDS);
+
+        assertThat(json, hasKeys("summary", "loadBeforeOptimization", "loadAfterOptimization"));
+        assertThat(json, not(hasKey("goalSummary")));
+        assertThat(json, not(hasKey("proposals")));
+        assertThat(json, not(hasKey("version")));
+        assertThat(json.size(), is(3));
+        assertThat(json.get("summary").get("excludedTopics").size(), is(2));
+        assertThat(json.get("loadAfterOptimization").get("brokers").get(0).get("Leaders").asInt(), is(8));
+    }
+
+    @Test
+    public void testProgressAndErrors() {
+        JsonNode progress = CruiseControlResponseParser.parse("{\"progress\": [{\"operation\": \"Rebalance\"}], \"version\": 1}", CruiseControlResponseParser.REBALANCE_FIELDS);
+        assertThat(progress, hasKey(CruiseControlApi.CC_REST_API_PROGRESS_KEY));
+
+        JsonNode error = CruiseControlResponseParser.parse("{\"errorMessage\": \"NotEnoughValidWindowsException\", \"stackTrace\": \"...\"}", CruiseControlResponseParser.REBALANCE_FIELDS);
+        assertThat(error.get(CruiseControlApi.CC_REST_API_ERROR_KEY).asText(), is("NotEnoughValidWindowsException"));
+        assertThat(error, not(hasKey("stackTrace")));
+
+        // Values which are not JSON objects are kept whole
+        assertThat(CruiseControlResponseParser.parse("\"CompletedWithError\"", CruiseControlResponseParser.REBALANCE_FIELDS).asText(), is("CompletedWithError"));
+    }
+
+    @Test
+    public void testInvalidJson() {
+        assertThrows(CruiseControlRestException.class, () -> CruiseControlResponseParser.parse("{\"summary\": {", CruiseControlResponseParser.REBALANCE_FIELDS));
+    }
+}
@@ -6,7 +6,6 @@ package io.strimzi.build.kafka.metadata;
 
 import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import io.strimzi.kafka.config.model.ConfigModel;
 import io.strimzi.kafka.config.model.ConfigModels;
@@ -62,7 +61,8 @@ public class KafkaConfigModelGenerator {
     public static void main(String[] args) throws Exception {
         String version = kafkaVersion();
         Map<String, ConfigModel> configs = configs(version);
-        ObjectMapper mapper = JsonMapper.builder().enable(SerializationFeature.INDENT_OUTPUT).enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY).build();
+        // The model is written without any indentation as it is loaded by the operator at runtime and not read by humans
+        ObjectMapper mapper = JsonMapper.builder().enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY).build();
         ConfigModels root = new ConfigModels();
         root.setVersion(version);
         root.setConfigs(configs);
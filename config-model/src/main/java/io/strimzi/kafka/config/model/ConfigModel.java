@@ -11,6 +11,7 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.regex.Pattern;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
@@ -21,6 +22,9 @@ import static java.util.Collections.singletonList;
  */
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public class ConfigModel {
+    private static final Pattern BOOLEAN_PATTERN = Pattern.compile("true|false");
+    private static final Pattern LIST_SEPARATOR_PATTERN = Pattern.compile(" *, *");
+
     private Scope scope;
     private Type type;
     private Number minimum;
@@ -29,6 +33,8 @@ public class ConfigModel {
     @JsonProperty("enum")
     private List<String> values;
     private String pattern;
+    // Compiled only once when the model is loaded as the models are shared and used for every validation
+    private Pattern compiledPattern;
     @JsonInclude(JsonInclude.Include.NON_DEFAULT)
     private boolean caseInsensitive = false;
 
@@ -142,6 +148,7 @@ public class ConfigModel {
      */
     public void setPattern(String pattern) {
         this.pattern = pattern;
+        this.compiledPattern = pattern != null ? Pattern.compile(pattern) : null;
     }
 
     /**
@@ -213,8 +220,8 @@ public class ConfigModel {
             }
         }
 
-        if (getPattern() != null
-                && !value.matches(getPattern())) {
+        if (compiledPattern != null
+                && !compiledPattern.matcher(value).matches()) {
             if (errors.isEmpty()) {
                 errors = new ArrayList<>(1);
             }
@@ -225,14 +232,14 @@ public class ConfigModel {
     }
 
     private List<String> validateBoolean(String configName, String value) {
-        if (!value.matches("true|false")) {
+        if (!BOOLEAN_PATTERN.matcher(value).matches()) {
             return singletonList(configName + " has value '" + value + "' which is not a boolean");
         }
         return emptyList();
     }
 
     private List<String> validateList(String configName, String value) {
-        List<String> l = asList(value.trim().split(" *, *", -1));
+        List<String> l = asList(LIST_SEPARATOR_PATTERN.split(value.trim(), -1));
         if (getItems() != null) {
             HashSet<String> items = new HashSet<>(l);
             items.removeAll(getItems());
@@ -325,8 +332,8 @@ public class ConfigModel {
                 }
                 errors.add(maximumErrorMsg(configName, value));
             }
-            if (getPattern() != null
-                    && !value.matches(getPattern())) {
+            if (compiledPattern != null
+                    && !compiledPattern.matcher(value).matches()) {
                 if (errors.isEmpty()) {
                     errors = new ArrayList<>(1);
                 }
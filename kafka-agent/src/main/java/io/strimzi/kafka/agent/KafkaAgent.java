@@ -4,7 +4,6 @@
  */
 package io.strimzi.kafka.agent;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.yammer.metrics.core.Gauge;
 import com.yammer.metrics.core.Metric;
 import com.yammer.metrics.core.MetricName;
@@ -33,9 +32,12 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * A very simple Java agent which polls the value of the {@code kafka.server:type=KafkaServer,name=BrokerState}
@@ -54,12 +56,26 @@ import java.util.Properties;
  *     <dt>{@code GET /v1/ready}</dt>
  *     <dd>Returns HTTP code 204 if broker state is RUNNING(3). Otherwise returns non successful HTTP code.
  *     </dd>
+ *     <dt>{@code GET /v1/health}</dt>
+ *     <dd>Returns a flat JSON object with the broker state and the partition health metrics the node already has in
+ *      its Yammer registry, e.g.
+ *      {"brokerState": 3,
+ *       "underReplicatedPartitions": 0,
+ *       "underMinIsrPartitions": 0,
+ *       "atMinIsrPartitions": 0,
+ *       "leaderCount": 12,
+ *       "activeController": false
+ *      }
+ *      The replica metrics are reported by brokers and cover the partitions led by the broker. The
+ *      {@code offlinePartitions} metric is reported only by the controller nodes and it is meaningful only on the
+ *      active controller. Metrics not registered on the node are left out of the response.</dd>
  * </dl>
  */
 public class KafkaAgent {
     private static final Logger LOGGER = LoggerFactory.getLogger(KafkaAgent.class);
     private static final String BROKER_STATE_PATH = "/v1/broker-state";
     private static final String READINESS_ENDPOINT_PATH = "/v1/ready";
+    private static final String HEALTH_ENDPOINT_PATH = "/v1/health";
     private static final int HTTPS_PORT = 8443;
     private static final int HTTP_PORT = 8080;
     private static final long GRACEFUL_SHUTDOWN_TIMEOUT_MS = 30 * 1000;
@@ -70,6 +86,20 @@ public class KafkaAgent {
     private static final byte BROKER_RUNNING_STATE = 3;
     private static final byte BROKER_RECOVERY_STATE = 2;
     private static final byte BROKER_UNKNOWN_STATE = 127;
+
+    // Fields of the health response
+    /* test */ static final String UNDER_REPLICATED_PARTITIONS = "underReplicatedPartitions";
+    /* test */ static final String UNDER_MIN_ISR_PARTITIONS = "underMinIsrPartitions";
+    /* test */ static final String AT_MIN_ISR_PARTITIONS = "atMinIsrPartitions";
+    /* test */ static final String OFFLINE_PARTITIONS = "offlinePartitions";
+    /* test */ static final String LEADER_COUNT = "leaderCount";
+    /* test */ static final String ACTIVE_CONTROLLER = "activeController";
+    private static final String[] HEALTH_FIELDS = {UNDER_REPLICATED_PARTITIONS, UNDER_MIN_ISR_PARTITIONS, AT_MIN_ISR_PARTITIONS, OFFLINE_PARTITIONS, LEADER_COUNT, ACTIVE_CONTROLLER};
+
+    private static final String CONTENT_TYPE = "application/json;charset=utf-8";
+    private static final byte[] EMPTY_BODY = new byte[0];
+    private static final byte[] BROKER_STATE_NOT_FOUND = "Broker state metric not found".getBytes(StandardCharsets.UTF_8);
+
     private String sslKeyStorePath;
     private String sslKeyStorePassword;
     private String sslTruststorePath;
@@ -78,6 +108,10 @@ public class KafkaAgent {
     private Gauge brokerState;
     private Gauge remainingLogsToRecover;
     private Gauge remainingSegmentsToRecover;
+    private final Map<String, Gauge> healthGauges = new ConcurrentHashMap<>();
+    private volatile EncodedResponse brokerStateResponse;
+    private volatile EncodedResponse healthResponse;
+    private volatile EncodedResponse readinessFailedResponse;
 
     /**
      * Constructor of the KafkaAgent
@@ -107,6 +141,17 @@ public class KafkaAgent {
         this.remainingSegmentsToRecover = remainingSegmentsToRecover;
     }
 
+    /**
+     * Constructor of the KafkaAgent
+     *
+     * @param brokerState       Current state of the broker
+     * @param healthGauges      Partition health metrics indexed by their field in the health response
+     */
+    /* test */ KafkaAgent(Gauge brokerState, Map<String, Gauge> healthGauges) {
+        this.brokerState = brokerState;
+        this.healthGauges.putAll(healthGauges);
+    }
+
     private void run() {
         try {
             startHttpServer();
@@ -121,6 +166,10 @@ public class KafkaAgent {
         metricsRegistry.addListener(new MetricsRegistryListener() {
             @Override
             public void onMetricRemoved(MetricName metricName) {
+                String healthField = healthField(metricName);
+                if (healthField != null) {
+                    healthGauges.remove(healthField);
+                }
             }
 
             @Override
@@ -133,6 +182,8 @@ public class KafkaAgent {
                     remainingLogsToRecover = (Gauge) metric;
                 } else if (isRemainingSegmentsToRecover(metricName) && metric instanceof Gauge) {
                     remainingSegmentsToRecover = (Gauge) metric;
+                } else if (healthField(metricName) != null && metric instanceof Gauge) {
+                    healthGauges.put(healthField(metricName), (Gauge) metric);
                 }
             }
         });
@@ -187,6 +238,33 @@ public class KafkaAgent {
                 && "LogManager".equals(name.getType());
     }
 
+    /**
+     * Maps the metrics used by the health endpoint to the fields of the health response.
+     *
+     * @param name  Name of the metric
+     *
+     * @return  Field of the health response or null if the metric is not used by the health endpoint
+     */
+    /* test */ static String healthField(MetricName name) {
+        if ("kafka.server".equals(name.getGroup()) && "ReplicaManager".equals(name.getType())) {
+            return switch (name.getName()) {
+                case "UnderReplicatedPartitions" -> UNDER_REPLICATED_PARTITIONS;
+                case "UnderMinIsrPartitionCount" -> UNDER_MIN_ISR_PARTITIONS;
+                case "AtMinIsrPartitionCount" -> AT_MIN_ISR_PARTITIONS;
+                case "LeaderCount" -> LEADER_COUNT;
+                default -> null;
+            };
+        } else if ("kafka.controller".equals(name.getGroup()) && "KafkaController".equals(name.getType())) {
+            return switch (name.getName()) {
+                case "OfflinePartitionsCount" -> OFFLINE_PARTITIONS;
+                case "ActiveControllerCount" -> ACTIVE_CONTROLLER;
+                default -> null;
+            };
+        } else {
+            return null;
+        }
+    }
+
     private void startHttpServer() throws Exception {
         Server server = new Server();
 
@@ -209,8 +287,11 @@ public class KafkaAgent {
         ContextHandler readinessContext = new ContextHandler(READINESS_ENDPOINT_PATH);
         readinessContext.setHandler(getReadinessHandler());
 
+        ContextHandler healthContext = new ContextHandler(HEALTH_ENDPOINT_PATH);
+        healthContext.setHandler(getHealthHandler());
+
         server.setConnectors(new Connector[] {httpsConn, httpConn});
-        server.setHandler(new ContextHandlerCollection(brokerStateContext, readinessContext));
+        server.setHandler(new ContextHandlerCollection(brokerStateContext, readinessContext, healthContext));
 
         server.setStopTimeout(GRACEFUL_SHUTDOWN_TIMEOUT_MS);
         server.setStopAtShutdown(true);
@@ -226,33 +307,109 @@ public class KafkaAgent {
         return new AbstractHandler() {
             @Override
             public void handle(String s, Request baseRequest, HttpServletRequest request, HttpServletResponse response) throws IOException {
-                response.setContentType("application/json");
-                response.setCharacterEncoding("UTF-8");
-                baseRequest.setHandled(true);
-
-                Map<String, Object> brokerStateResponse = new HashMap<>();
                 if (brokerState != null) {
-                    if ((byte) brokerState.value() == BROKER_RECOVERY_STATE && remainingLogsToRecover != null && remainingSegmentsToRecover != null) {
-                        Map<String, Object> recoveryState = new HashMap<>();
-                        recoveryState.put("remainingLogsToRecover", remainingLogsToRecover.value());
-                        recoveryState.put("remainingSegmentsToRecover", remainingSegmentsToRecover.value());
-                        brokerStateResponse.put("brokerState", brokerState.value());
-                        brokerStateResponse.put("recoveryState", recoveryState);
-                    } else {
-                        brokerStateResponse.put("brokerState", brokerState.value());
-                    }
+                    writeResponse(baseRequest, response, HttpServletResponse.SC_OK, brokerStateResponse());
+                } else {
+                    writeResponse(baseRequest, response, HttpServletResponse.SC_NOT_FOUND, BROKER_STATE_NOT_FOUND);
+                }
+            }
+        };
+    }
 
-                    response.setStatus(HttpServletResponse.SC_OK);
-                    String json = new ObjectMapper().writeValueAsString(brokerStateResponse);
-                    response.getWriter().print(json);
+    /**
+     * Returns the encoded broker state response. The response is encoded again only when the values of the gauges
+     * changed since the last request.
+     *
+     * @return  Body of the broker state response
+     */
+    /* test */ byte[] brokerStateResponse() {
+        Object state = brokerState.value();
+        boolean inRecovery = (byte) state == BROKER_RECOVERY_STATE && remainingLogsToRecover != null && remainingSegmentsToRecover != null;
+        Object logs = inRecovery ? remainingLogsToRecover.value() : null;
+        Object segments = inRecovery ? remainingSegmentsToRecover.value() : null;
+
+        EncodedResponse cached = brokerStateResponse;
+        if (cached == null || !cached.hasValue(0, state) || !cached.hasValue(1, logs) || !cached.hasValue(2, segments)) {
+            StringBuilder json = new StringBuilder(128).append("{\"brokerState\":").append(state);
+            if (inRecovery) {
+                json.append(",\"recoveryState\":{\"remainingLogsToRecover\":").append(logs)
+                        .append(",\"remainingSegmentsToRecover\":").append(segments).append('}');
+            }
+            json.append('}');
+
+            cached = new EncodedResponse(new Object[] {state, logs, segments}, json.toString());
+            brokerStateResponse = cached;
+        }
+
+        return cached.body;
+    }
+
+    /**
+     * Creates a Handler instance to handle incoming HTTP requests for the broker health. The response is a flat JSON
+     * object of numbers (and the active controller flag) so that it is small and easy to cache.
+     *
+     * @return Handler
+     */
+    /* test */ Handler getHealthHandler() {
+        return new AbstractHandler() {
+            @Override
+            public void handle(String s, Request baseRequest, HttpServletRequest request, HttpServletResponse response) throws IOException {
+                if (brokerState != null) {
+                    writeResponse(baseRequest, response, HttpServletResponse.SC_OK, healthResponse());
                 } else {
-                    response.setStatus(HttpServletResponse.SC_NOT_FOUND);
-                    response.getWriter().print("Broker state metric not found");
+                    writeResponse(baseRequest, response, HttpServletResponse.SC_NOT_FOUND, BROKER_STATE_NOT_FOUND);
                 }
             }
         };
     }
 
+    /**
+     * Returns the encoded health response. The response is encoded again only when the values of the gauges changed
+     * since the last request.
+     *
+     * @return  Body of the health response
+     */
+    /* test */ byte[] healthResponse() {
+        Object state = brokerState.value();
+        EncodedResponse cached = healthResponse;
+        boolean current = cached != null && cached.hasValue(0, state);
+
+        for (int i = 0; current && i < HEALTH_FIELDS.length; i++) {
+            current = cached.hasValue(i + 1, healthValue(HEALTH_FIELDS[i]));
+        }
+
+        if (!current) {
+            Object[] values = new Object[HEALTH_FIELDS.length + 1];
+            values[0] = state;
+            StringBuilder json = new StringBuilder(256).append("{\"brokerState\":").append(state);
+
+            for (int i = 0; i < HEALTH_FIELDS.length; i++) {
+                Object value = healthValue(HEALTH_FIELDS[i]);
+                values[i + 1] = value;
+
+                if (value != null) {
+                    json.append(",\"").append(HEALTH_FIELDS[i]).append("\":");
+                    if (ACTIVE_CONTROLLER.equals(HEALTH_FIELDS[i])) {
+                        json.append(((Number) value).intValue() > 0);
+                    } else {
+                        json.append(((Number) value).intValue());
+                    }
+                }
+            }
+            json.append('}');
+
+            cached = new EncodedResponse(values, json.toString());
+            healthResponse = cached;
+        }
+
+        return cached.body;
+    }
+
+    private Object healthValue(String field) {
+        Gauge gauge = healthGauges.get(field);
+        return gauge != null ? gauge.value() : null;
+    }
+
     private SslContextFactory getSSLContextFactory() {
         SslContextFactory.Server sslContextFactory = new SslContextFactory.Server();
 
@@ -275,29 +432,62 @@ public class KafkaAgent {
         return new AbstractHandler() {
             @Override
             public void handle(String s, Request baseRequest, HttpServletRequest request, HttpServletResponse response) throws IOException {
-                response.setContentType("application/json");
-                response.setCharacterEncoding("UTF-8");
-                baseRequest.setHandled(true);
                 if (brokerState != null) {
                     byte observedState = (byte) brokerState.value();
                     boolean stateIsRunning = BROKER_RUNNING_STATE <= observedState && BROKER_UNKNOWN_STATE != observedState;
                     if (stateIsRunning) {
                         LOGGER.trace("Broker is in running according to {}. The current state is {}", brokerStateName, observedState);
-                        response.setStatus(HttpServletResponse.SC_NO_CONTENT);
+                        writeResponse(baseRequest, response, HttpServletResponse.SC_NO_CONTENT, EMPTY_BODY);
                     } else {
                         LOGGER.trace("Broker is not running according to {}. The current state is {}", brokerStateName, observedState);
-                        response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
-                        response.getWriter().print("Readiness failed: brokerState is " + observedState);
+                        EncodedResponse cached = readinessFailedResponse;
+                        if (cached == null || !cached.hasValue(0, observedState)) {
+                            cached = new EncodedResponse(new Object[] {observedState}, "Readiness failed: brokerState is " + observedState);
+                            readinessFailedResponse = cached;
+                        }
+                        writeResponse(baseRequest, response, HttpServletResponse.SC_SERVICE_UNAVAILABLE, cached.body);
                     }
                 } else {
                     LOGGER.warn("Broker state metric not found");
-                    response.setStatus(HttpServletResponse.SC_NOT_FOUND);
-                    response.getWriter().print("Broker state metric not found");
+                    writeResponse(baseRequest, response, HttpServletResponse.SC_NOT_FOUND, BROKER_STATE_NOT_FOUND);
                 }
             }
         };
     }
 
+    /**
+     * Writes the pre-encoded response. Setting the content length avoids chunked encoding and allows the clients to
+     * keep the connection open for the next request.
+     */
+    private static void writeResponse(Request baseRequest, HttpServletResponse response, int status, byte[] body) throws IOException {
+        baseRequest.setHandled(true);
+        response.setStatus(status);
+        response.setContentType(CONTENT_TYPE);
+
+        if (body.length > 0) {
+            response.setContentLength(body.length);
+            response.getOutputStream().write(body);
+        }
+    }
+
+    /**
+     * Response body encoded for given values of the gauges. It is replaced as a whole when the values change, so it can
+     * be shared by the Jetty threads without locking.
+     */
+    private static final class EncodedResponse {
+        private final Object[] values;
+        private final byte[] body;
+
+        private EncodedResponse(Object[] values, String body) {
+            this.values = values;
+            this.body = body.getBytes(StandardCharsets.UTF_8);
+        }
+
+        private boolean hasValue(int index, Object value) {
+            return Objects.equals(values[index], value);
+        }
+    }
+
     /**
      * Agent entry point
      * @param agentArgs The agent arguments
@@ -5,6 +5,7 @@
 package io.strimzi.kafka.agent;
 
 import com.yammer.metrics.core.Gauge;
+import com.yammer.metrics.core.MetricName;
 import org.eclipse.jetty.server.Connector;
 import org.eclipse.jetty.server.Server;
 import org.eclipse.jetty.server.ServerConnector;
@@ -20,8 +21,12 @@ import java.net.URISyntaxException;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -168,4 +173,103 @@ public class KafkaAgentTest {
         assertThat(HttpServletResponse.SC_SERVICE_UNAVAILABLE, is(response.statusCode()));
 
     }
+
+    @Test
+    public void testHealth() throws Exception {
+        @SuppressWarnings({ "rawtypes" })
+        final Gauge brokerState = mock(Gauge.class);
+        when(brokerState.value()).thenReturn((byte) 3);
+
+        KafkaAgent agent = new KafkaAgent(brokerState, Map.of(
+                KafkaAgent.UNDER_REPLICATED_PARTITIONS, gauge(2),
+                KafkaAgent.UNDER_MIN_ISR_PARTITIONS, gauge(0),
+                KafkaAgent.AT_MIN_ISR_PARTITIONS, gauge(1),
+                KafkaAgent.LEADER_COUNT, gauge(12),
+                KafkaAgent.OFFLINE_PARTITIONS, gauge(0),
+                KafkaAgent.ACTIVE_CONTROLLER, gauge(1)));
+        context.setHandler(agent.getHealthHandler());
+        server.setHandler(context);
+        server.start();
+
+        HttpResponse<String> response = HttpClient.newBuilder()
+                .build()
+                .send(req, HttpResponse.BodyHandlers.ofString());
+        assertThat(response.statusCode(), is(HttpServletResponse.SC_OK));
+
+        String expectedResponse = "{\"brokerState\":3,\"underReplicatedPartitions\":2,\"underMinIsrPartitions\":0,\"atMinIsrPartitions\":1," +
+                "\"offlinePartitions\":0,\"leaderCount\":12,\"activeController\":true}";
+        assertThat(response.body(), is(expectedResponse));
+    }
+
+    @Test
+    public void testHealthWithoutPartitionMetrics() throws Exception {
+        @SuppressWarnings({ "rawtypes" })
+        final Gauge brokerState = mock(Gauge.class);
+        when(brokerState.value()).thenReturn((byte) 2);
+
+        KafkaAgent agent = new KafkaAgent(brokerState, Map.of());
+        context.setHandler(agent.getHealthHandler());
+        server.setHandler(context);
+        server.start();
+
+        HttpResponse<String> response = HttpClient.newBuilder()
+                .build()
+                .send(req, HttpResponse.BodyHandlers.ofString());
+        assertThat(response.statusCode(), is(HttpServletResponse.SC_OK));
+        assertThat(response.body(), is("{\"brokerState\":2}"));
+    }
+
+    @Test
+    public void testHealthBrokerMetricNotFound() throws Exception {
+        KafkaAgent agent = new KafkaAgent(null, Map.of());
+        context.setHandler(agent.getHealthHandler());
+        server.setHandler(context);
+        server.start();
+
+        HttpResponse<String> response = HttpClient.newBuilder()
+                .build()
+                .send(req, HttpResponse.BodyHandlers.ofString());
+        assertThat(response.statusCode(), is(HttpServletResponse.SC_NOT_FOUND));
+    }
+
+    @Test
+    public void testHealthFields() {
+        assertThat(KafkaAgent.healthField(new MetricName("kafka.server", "ReplicaManager", "UnderMinIsrPartitionCount")), is(KafkaAgent.UNDER_MIN_ISR_PARTITIONS));
+        assertThat(KafkaAgent.healthField(new MetricName("kafka.controller", "KafkaController", "ActiveControllerCount")), is(KafkaAgent.ACTIVE_CONTROLLER));
+        assertThat(KafkaAgent.healthField(new MetricName("kafka.server", "ReplicaManager", "IsrExpandsPerSec")), is(nullValue()));
+        assertThat(KafkaAgent.healthField(new MetricName("kafka.server", "KafkaServer", "BrokerState")), is(nullValue()));
+    }
+
+    @Test
+    public void testResponsesAreEncodedOnlyWhenValuesChange() {
+        @SuppressWarnings({ "rawtypes" })
+        final Gauge brokerState = mock(Gauge.class);
+        when(brokerState.value()).thenReturn((byte) 3);
+
+        @SuppressWarnings({ "rawtypes" })
+        final Gauge leaderCount = mock(Gauge.class);
+        when(leaderCount.value()).thenReturn(10);
+
+        KafkaAgent agent = new KafkaAgent(brokerState, Map.of(KafkaAgent.LEADER_COUNT, leaderCount));
+
+        byte[] brokerStateResponse = agent.brokerStateResponse();
+        byte[] healthResponse = agent.healthResponse();
+        assertThat(agent.brokerStateResponse(), is(sameInstance(brokerStateResponse)));
+        assertThat(agent.healthResponse(), is(sameInstance(healthResponse)));
+
+        when(leaderCount.value()).thenReturn(11);
+        assertThat(agent.brokerStateResponse(), is(sameInstance(brokerStateResponse)));
+        assertThat(new String(agent.healthResponse(), StandardCharsets.UTF_8), is("{\"brokerState\":3,\"leaderCount\":11}"));
+
+        when(brokerState.value()).thenReturn((byte) 2);
+        assertThat(new String(agent.brokerStateResponse(), StandardCharsets.UTF_8), is("{\"brokerState\":2}"));
+        assertThat(new String(agent.healthResponse(), StandardCharsets.UTF_8), is("{\"brokerState\":2,\"leaderCount\":11}"));
+    }
+
+    @SuppressWarnings({ "rawtypes" })
+    private static Gauge gauge(int value) {
+        Gauge gauge = mock(Gauge.class);
+        when(gauge.value()).thenReturn(value);
+        return gauge;
+    }
 }
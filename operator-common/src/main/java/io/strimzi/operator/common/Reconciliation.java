@@ -30,6 +30,8 @@ public class Reconciliation {
     private final String name;
     private final int id;
     private final Marker marker;
+    private final String description;
+    private final String logPrefix;
 
     /**
      * Constructs the reconciliation marker
@@ -46,6 +48,8 @@ public class Reconciliation {
         this.name = name;
         this.id = IDS.getAndIncrement();
         this.marker = MarkerManager.getMarker(this.kind + "(" + this.namespace + "/" + this.name + ")");
+        this.description = "Reconciliation #" + id + "(" + trigger + ") " + kind + "(" + namespace + "/" + name + ")";
+        this.logPrefix = description + ": ";
     }
 
     /**
@@ -76,8 +80,15 @@ public class Reconciliation {
         return marker;
     }
 
+    /**
+     * @return  Prefix used by the {@link ReconciliationLogger} for the log messages of this reconciliation
+     */
+    String logPrefix() {
+        return logPrefix;
+    }
+
     @Override
     public String toString() {
-        return "Reconciliation #" + id + "(" + trigger + ") " + kind() + "(" + namespace() + "/" + name() + ")";
+        return description;
     }
 }
@@ -21,6 +21,9 @@ import java.io.Serializable;
  * Custom Logger interface with convenience methods for
  * the OFF, FATAL, ERROR, WARN, INFO, DEBUG, TRACE and ALL custom log levels.
  * <p>Compatible with Log4j 2.6 or higher.</p>
+ * <p>The methods which prefix the message with the reconciliation check whether the level is enabled before building
+ * the prefixed message, so logging at a disabled level does not allocate anything. The prefix itself is cached in
+ * the {@link Reconciliation} instance.</p>
  */
 public class ReconciliationLogger implements Serializable {
     private static final long serialVersionUID = 258810740149174L;
@@ -5629,7 +5632,10 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void offCr(final Reconciliation reconciliation, final Object message) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(OFF, marker)) {
+            logger.logIfEnabled(FQCN, OFF, marker, reconciliation.logPrefix() + message, (Throwable) null);
+        }
     }
 
     /**
@@ -5640,7 +5646,10 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void offCr(final Reconciliation reconciliation, final CharSequence message) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(OFF, marker)) {
+            logger.logIfEnabled(FQCN, OFF, marker, reconciliation.logPrefix() + message, (Throwable) null);
+        }
     }
 
     /**
@@ -5652,7 +5661,10 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void offCr(final Reconciliation reconciliation, final Object message, final Throwable t) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(OFF, marker)) {
+            logger.logIfEnabled(FQCN, OFF, marker, reconciliation.logPrefix() + message, t);
+        }
     }
 
     /**
@@ -5665,7 +5677,10 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void offCr(final Reconciliation reconciliation, final CharSequence message, final Throwable t) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(OFF, marker)) {
+            logger.logIfEnabled(FQCN, OFF, marker, reconciliation.logPrefix() + message, t);
+        }
     }
 
     /**
@@ -5675,7 +5690,10 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void offCr(final Reconciliation reconciliation, final String message) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(OFF, marker)) {
+            logger.logIfEnabled(FQCN, OFF, marker, reconciliation.logPrefix() + message, (Throwable) null);
+        }
     }
 
     /**
@@ -5686,7 +5704,10 @@ public class ReconciliationLogger implements Serializable {
      * @param params parameters to the message.
      */
     public void offCr(final Reconciliation reconciliation, final String message, final Object... params) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, params);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(OFF, marker)) {
+            logger.logIfEnabled(FQCN, OFF, marker, reconciliation.logPrefix() + message, params);
+        }
     }
 
     /**
@@ -5698,7 +5719,10 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void offCr(final Reconciliation reconciliation, final String message, final Object p0) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(OFF, marker)) {
+            logger.logIfEnabled(FQCN, OFF, marker, reconciliation.logPrefix() + message, p0);
+        }
     }
 
     /**
@@ -5711,7 +5735,10 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void offCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(OFF, marker)) {
+            logger.logIfEnabled(FQCN, OFF, marker, reconciliation.logPrefix() + message, p0, p1);
+        }
     }
 
     /**
@@ -5725,7 +5752,10 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void offCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(OFF, marker)) {
+            logger.logIfEnabled(FQCN, OFF, marker, reconciliation.logPrefix() + message, p0, p1, p2);
+        }
     }
 
     /**
@@ -5741,7 +5771,10 @@ public class ReconciliationLogger implements Serializable {
      */
     public void offCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                     final Object p3) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(OFF, marker)) {
+            logger.logIfEnabled(FQCN, OFF, marker, reconciliation.logPrefix() + message, p0, p1, p2, p3);
+        }
     }
 
     /**
@@ -5758,7 +5791,10 @@ public class ReconciliationLogger implements Serializable {
      */
     public void offCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                     final Object p3, final Object p4) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(OFF, marker)) {
+            logger.logIfEnabled(FQCN, OFF, marker, reconciliation.logPrefix() + message, p0, p1, p2, p3, p4);
+        }
     }
 
     /**
@@ -5776,7 +5812,10 @@ public class ReconciliationLogger implements Serializable {
      */
     public void offCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                     final Object p3, final Object p4, final Object p5) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(OFF, marker)) {
+            logger.logIfEnabled(FQCN, OFF, marker, reconciliation.logPrefix() + message, p0, p1, p2, p3, p4, p5);
+        }
     }
 
     /**
@@ -5795,7 +5834,10 @@ public class ReconciliationLogger implements Serializable {
      */
     public void offCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                     final Object p3, final Object p4, final Object p5, final Object p6) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(OFF, marker)) {
+            logger.logIfEnabled(FQCN, OFF, marker, reconciliation.logPrefix() + message, p0, p1, p2, p3, p4, p5, p6);
+        }
     }
 
     /**
@@ -5816,7 +5858,10 @@ public class ReconciliationLogger implements Serializable {
     public void offCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                     final Object p3, final Object p4, final Object p5, final Object p6,
                     final Object p7) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(OFF, marker)) {
+            logger.logIfEnabled(FQCN, OFF, marker, reconciliation.logPrefix() + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        }
     }
 
     /**
@@ -5838,7 +5883,10 @@ public class ReconciliationLogger implements Serializable {
     public void offCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                     final Object p3, final Object p4, final Object p5, final Object p6,
                     final Object p7, final Object p8) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(OFF, marker)) {
+            logger.logIfEnabled(FQCN, OFF, marker, reconciliation.logPrefix() + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        }
     }
 
     /**
@@ -5861,7 +5909,10 @@ public class ReconciliationLogger implements Serializable {
     public void offCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                     final Object p3, final Object p4, final Object p5, final Object p6,
                     final Object p7, final Object p8, final Object p9) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(OFF, marker)) {
+            logger.logIfEnabled(FQCN, OFF, marker, reconciliation.logPrefix() + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        }
     }
 
     /**
@@ -5873,7 +5924,10 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void offCr(final Reconciliation reconciliation, final String message, final Throwable t) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(OFF, marker)) {
+            logger.logIfEnabled(FQCN, OFF, marker, reconciliation.logPrefix() + message, t);
+        }
     }
 
     /**
@@ -5899,7 +5953,10 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.4
      */
     public void offCr(final Reconciliation reconciliation, final String message, final Supplier<?>... paramSuppliers) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, paramSuppliers);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(OFF, marker)) {
+            logger.logIfEnabled(FQCN, OFF, marker, reconciliation.logPrefix() + message, paramSuppliers);
+        }
     }
 
     /**
@@ -5973,7 +6030,10 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void fatalCr(final Reconciliation reconciliation, final Object message) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(FATAL, marker)) {
+            logger.logIfEnabled(FQCN, FATAL, marker, reconciliation.logPrefix() + message, (Throwable) null);
+        }
     }
 
     /**
@@ -5984,7 +6044,10 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void fatalCr(final Reconciliation reconciliation, final CharSequence message) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(FATAL, marker)) {
+            logger.logIfEnabled(FQCN, FATAL, marker, reconciliation.logPrefix() + message, (Throwable) null);
+        }
     }
 
     /**
@@ -5996,7 +6059,10 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void fatalCr(final Reconciliation reconciliation, final Object message, final Throwable t) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(FATAL, marker)) {
+            logger.logIfEnabled(FQCN, FATAL, marker, reconciliation.logPrefix() + message, t);
+        }
     }
 
     /**
@@ -6009,7 +6075,10 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void fatalCr(final Reconciliation reconciliation, final CharSequence message, final Throwable t) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(FATAL, marker)) {
+            logger.logIfEnabled(FQCN, FATAL, marker, reconciliation.logPrefix() + message, t);
+        }
     }
 
     /**
@@ -6019,7 +6088,10 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void fatalCr(final Reconciliation reconciliation, final String message) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(FATAL, marker)) {
+            logger.logIfEnabled(FQCN, FATAL, marker, reconciliation.logPrefix() + message, (Throwable) null);
+        }
     }
 
     /**
@@ -6030,7 +6102,10 @@ public class ReconciliationLogger implements Serializable {
      * @param params parameters to the message.
      */
     public void fatalCr(final Reconciliation reconciliation, final String message, final Object... params) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, params);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(FATAL, marker)) {
+            logger.logIfEnabled(FQCN, FATAL, marker, reconciliation.logPrefix() + message, params);
+        }
     }
 
     /**
@@ -6042,7 +6117,10 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void fatalCr(final Reconciliation reconciliation, final String message, final Object p0) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(FATAL, marker)) {
+            logger.logIfEnabled(FQCN, FATAL, marker, reconciliation.logPrefix() + message, p0);
+        }
     }
 
     /**
@@ -6055,7 +6133,10 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void fatalCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(FATAL, marker)) {
+            logger.logIfEnabled(FQCN, FATAL, marker, reconciliation.logPrefix() + message, p0, p1);
+        }
     }
 
     /**
@@ -6069,7 +6150,10 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void fatalCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(FATAL, marker)) {
+            logger.logIfEnabled(FQCN, FATAL, marker, reconciliation.logPrefix() + message, p0, p1, p2);
+        }
     }
 
     /**
@@ -6085,7 +6169,10 @@ public class ReconciliationLogger implements Serializable {
      */
     public void fatalCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(FATAL, marker)) {
+            logger.logIfEnabled(FQCN, FATAL, marker, reconciliation.logPrefix() + message, p0, p1, p2, p3);
+        }
     }
 
     /**
@@ -6102,7 +6189,10 @@ public class ReconciliationLogger implements Serializable {
      */
     public void fatalCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(FATAL, marker)) {
+            logger.logIfEnabled(FQCN, FATAL, marker, reconciliation.logPrefix() + message, p0, p1, p2, p3, p4);
+        }
     }
 
     /**
@@ -6120,7 +6210,10 @@ public class ReconciliationLogger implements Serializable {
      */
     public void fatalCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(FATAL, marker)) {
+            logger.logIfEnabled(FQCN, FATAL, marker, reconciliation.logPrefix() + message, p0, p1, p2, p3, p4, p5);
+        }
     }
 
     /**
@@ -6139,7 +6232,10 @@ public class ReconciliationLogger implements Serializable {
      */
     public void fatalCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(FATAL, marker)) {
+            logger.logIfEnabled(FQCN, FATAL, marker, reconciliation.logPrefix() + message, p0, p1, p2, p3, p4, p5, p6);
+        }
     }
 
     /**
@@ -6160,7 +6256,10 @@ public class ReconciliationLogger implements Serializable {
     public void fatalCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6,
                       final Object p7) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(FATAL, marker)) {
+            logger.logIfEnabled(FQCN, FATAL, marker, reconciliation.logPrefix() + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        }
     }
 
     /**
@@ -6182,7 +6281,10 @@ public class ReconciliationLogger implements Serializable {
     public void fatalCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6,
                       final Object p7, final Object p8) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(FATAL, marker)) {
+            logger.logIfEnabled(FQCN, FATAL, marker, reconciliation.logPrefix() + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        }
     }
 
     /**
@@ -6205,7 +6307,10 @@ public class ReconciliationLogger implements Serializable {
     public void fatalCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6,
                       final Object p7, final Object p8, final Object p9) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(FATAL, marker)) {
+            logger.logIfEnabled(FQCN, FATAL, marker, reconciliation.logPrefix() + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        }
     }
 
     /**
@@ -6217,7 +6322,10 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void fatalCr(final Reconciliation reconciliation, final String message, final Throwable t) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(FATAL, marker)) {
+            logger.logIfEnabled(FQCN, FATAL, marker, reconciliation.logPrefix() + message, t);
+        }
     }
 
     /**
@@ -6243,7 +6351,10 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.4
      */
     public void fatalCr(final Reconciliation reconciliation, final String message, final Supplier<?>... paramSuppliers) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, paramSuppliers);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(FATAL, marker)) {
+            logger.logIfEnabled(FQCN, FATAL, marker, reconciliation.logPrefix() + message, paramSuppliers);
+        }
     }
 
     /**
@@ -6317,7 +6428,10 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void errorCr(final Reconciliation reconciliation, final Object message) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(ERROR, marker)) {
+            logger.logIfEnabled(FQCN, ERROR, marker, reconciliation.logPrefix() + message, (Throwable) null);
+        }
     }
 
     /**
@@ -6328,7 +6442,10 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void errorCr(final Reconciliation reconciliation, final CharSequence message) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(ERROR, marker)) {
+            logger.logIfEnabled(FQCN, ERROR, marker, reconciliation.logPrefix() + message, (Throwable) null);
+        }
     }
 
     /**
@@ -6340,7 +6457,10 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void errorCr(final Reconciliation reconciliation, final Object message, final Throwable t) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(ERROR, marker)) {
+            logger.logIfEnabled(FQCN, ERROR, marker, reconciliation.logPrefix() + message, t);
+        }
     }
 
     /**
@@ -6353,7 +6473,10 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void errorCr(final Reconciliation reconciliation, final CharSequence message, final Throwable t) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(ERROR, marker)) {
+            logger.logIfEnabled(FQCN, ERROR, marker, reconciliation.logPrefix() + message, t);
+        }
     }
 
     /**
@@ -6363,7 +6486,10 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void errorCr(final Reconciliation reconciliation, final String message) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(ERROR, marker)) {
+            logger.logIfEnabled(FQCN, ERROR, marker, reconciliation.logPrefix() + message, (Throwable) null);
+        }
     }
 
     /**
@@ -6374,7 +6500,10 @@ public class ReconciliationLogger implements Serializable {
      * @param params parameters to the message.
      */
     public void errorCr(final Reconciliation reconciliation, final String message, final Object... params) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, params);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(ERROR, marker)) {
+            logger.logIfEnabled(FQCN, ERROR, marker, reconciliation.logPrefix() + message, params);
+        }
     }
 
     /**
@@ -6386,7 +6515,10 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void errorCr(final Reconciliation reconciliation, final String message, final Object p0) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(ERROR, marker)) {
+            logger.logIfEnabled(FQCN, ERROR, marker, reconciliation.logPrefix() + message, p0);
+        }
     }
 
     /**
@@ -6399,7 +6531,10 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void errorCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(ERROR, marker)) {
+            logger.logIfEnabled(FQCN, ERROR, marker, reconciliation.logPrefix() + message, p0, p1);
+        }
     }
 
     /**
@@ -6413,7 +6548,10 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void errorCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(ERROR, marker)) {
+            logger.logIfEnabled(FQCN, ERROR, marker, reconciliation.logPrefix() + message, p0, p1, p2);
+        }
     }
 
     /**
@@ -6429,7 +6567,10 @@ public class ReconciliationLogger implements Serializable {
      */
     public void errorCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(ERROR, marker)) {
+            logger.logIfEnabled(FQCN, ERROR, marker, reconciliation.logPrefix() + message, p0, p1, p2, p3);
+        }
     }
 
     /**
@@ -6446,7 +6587,10 @@ public class ReconciliationLogger implements Serializable {
      */
     public void errorCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(ERROR, marker)) {
+            logger.logIfEnabled(FQCN, ERROR, marker, reconciliation.logPrefix() + message, p0, p1, p2, p3, p4);
+        }
     }
 
     /**
@@ -6464,7 +6608,10 @@ public class ReconciliationLogger implements Serializable {
      */
     public void errorCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(ERROR, marker)) {
+            logger.logIfEnabled(FQCN, ERROR, marker, reconciliation.logPrefix() + message, p0, p1, p2, p3, p4, p5);
+        }
     }
 
     /**
@@ -6483,7 +6630,10 @@ public class ReconciliationLogger implements Serializable {
      */
     public void errorCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(ERROR, marker)) {
+            logger.logIfEnabled(FQCN, ERROR, marker, reconciliation.logPrefix() + message, p0, p1, p2, p3, p4, p5, p6);
+        }
     }
 
     /**
@@ -6504,7 +6654,10 @@ public class ReconciliationLogger implements Serializable {
     public void errorCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6,
                       final Object p7) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(ERROR, marker)) {
+            logger.logIfEnabled(FQCN, ERROR, marker, reconciliation.logPrefix() + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        }
     }
 
     /**
@@ -6526,7 +6679,10 @@ public class ReconciliationLogger implements Serializable {
     public void errorCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6,
                       final Object p7, final Object p8) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(ERROR, marker)) {
+            logger.logIfEnabled(FQCN, ERROR, marker, reconciliation.logPrefix() + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        }
     }
 
     /**
@@ -6549,7 +6705,10 @@ public class ReconciliationLogger implements Serializable {
     public void errorCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6,
                       final Object p7, final Object p8, final Object p9) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(ERROR, marker)) {
+            logger.logIfEnabled(FQCN, ERROR, marker, reconciliation.logPrefix() + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        }
     }
 
     /**
@@ -6561,7 +6720,10 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void errorCr(final Reconciliation reconciliation, final String message, final Throwable t) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(ERROR, marker)) {
+            logger.logIfEnabled(FQCN, ERROR, marker, reconciliation.logPrefix() + message, t);
+        }
     }
 
     /**
@@ -6587,7 +6749,10 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.4
      */
     public void errorCr(final Reconciliation reconciliation, final String message, final Supplier<?>... paramSuppliers) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, paramSuppliers);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(ERROR, marker)) {
+            logger.logIfEnabled(FQCN, ERROR, marker, reconciliation.logPrefix() + message, paramSuppliers);
+        }
     }
 
     /**
@@ -6661,7 +6826,10 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void warnCr(final Reconciliation reconciliation, final Object message) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(WARN, marker)) {
+            logger.logIfEnabled(FQCN, WARN, marker, reconciliation.logPrefix() + message, (Throwable) null);
+        }
     }
 
     /**
@@ -6672,7 +6840,10 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void warnCr(final Reconciliation reconciliation, final CharSequence message) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(WARN, marker)) {
+            logger.logIfEnabled(FQCN, WARN, marker, reconciliation.logPrefix() + message, (Throwable) null);
+        }
     }
 
     /**
@@ -6684,7 +6855,10 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void warnCr(final Reconciliation reconciliation, final Object message, final Throwable t) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(WARN, marker)) {
+            logger.logIfEnabled(FQCN, WARN, marker, reconciliation.logPrefix() + message, t);
+        }
     }
 
     /**
@@ -6697,7 +6871,10 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void warnCr(final Reconciliation reconciliation, final CharSequence message, final Throwable t) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(WARN, marker)) {
+            logger.logIfEnabled(FQCN, WARN, marker, reconciliation.logPrefix() + message, t);
+        }
     }
 
     /**
@@ -6707,7 +6884,10 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void warnCr(final Reconciliation reconciliation, final String message) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(WARN, marker)) {
+            logger.logIfEnabled(FQCN, WARN, marker, reconciliation.logPrefix() + message, (Throwable) null);
+        }
     }
 
     /**
@@ -6718,7 +6898,10 @@ public class ReconciliationLogger implements Serializable {
      * @param params parameters to the message.
      */
     public void warnCr(final Reconciliation reconciliation, final String message, final Object... params) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, params);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(WARN, marker)) {
+            logger.logIfEnabled(FQCN, WARN, marker, reconciliation.logPrefix() + message, params);
+        }
     }
 
     /**
@@ -6730,7 +6913,10 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void warnCr(final Reconciliation reconciliation, final String message, final Object p0) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(WARN, marker)) {
+            logger.logIfEnabled(FQCN, WARN, marker, reconciliation.logPrefix() + message, p0);
+        }
     }
 
     /**
@@ -6743,7 +6929,10 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void warnCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(WARN, marker)) {
+            logger.logIfEnabled(FQCN, WARN, marker, reconciliation.logPrefix() + message, p0, p1);
+        }
     }
 
     /**
@@ -6757,7 +6946,10 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void warnCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(WARN, marker)) {
+            logger.logIfEnabled(FQCN, WARN, marker, reconciliation.logPrefix() + message, p0, p1, p2);
+        }
     }
 
     /**
@@ -6773,7 +6965,10 @@ public class ReconciliationLogger implements Serializable {
      */
     public void warnCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                      final Object p3) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(WARN, marker)) {
+            logger.logIfEnabled(FQCN, WARN, marker, reconciliation.logPrefix() + message, p0, p1, p2, p3);
+        }
     }
 
     /**
@@ -6790,7 +6985,10 @@ public class ReconciliationLogger implements Serializable {
      */
     public void warnCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                      final Object p3, final Object p4) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(WARN, marker)) {
+            logger.logIfEnabled(FQCN, WARN, marker, reconciliation.logPrefix() + message, p0, p1, p2, p3, p4);
+        }
     }
 
     /**
@@ -6808,7 +7006,10 @@ public class ReconciliationLogger implements Serializable {
      */
     public void warnCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                      final Object p3, final Object p4, final Object p5) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(WARN, marker)) {
+            logger.logIfEnabled(FQCN, WARN, marker, reconciliation.logPrefix() + message, p0, p1, p2, p3, p4, p5);
+        }
     }
 
     /**
@@ -6827,7 +7028,10 @@ public class ReconciliationLogger implements Serializable {
      */
     public void warnCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                      final Object p3, final Object p4, final Object p5, final Object p6) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(WARN, marker)) {
+            logger.logIfEnabled(FQCN, WARN, marker, reconciliation.logPrefix() + message, p0, p1, p2, p3, p4, p5, p6);
+        }
     }
 
     /**
@@ -6848,7 +7052,10 @@ public class ReconciliationLogger implements Serializable {
     public void warnCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                      final Object p3, final Object p4, final Object p5, final Object p6,
                      final Object p7) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(WARN, marker)) {
+            logger.logIfEnabled(FQCN, WARN, marker, reconciliation.logPrefix() + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        }
     }
 
     /**
@@ -6870,7 +7077,10 @@ public class ReconciliationLogger implements Serializable {
     public void warnCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                      final Object p3, final Object p4, final Object p5, final Object p6,
                      final Object p7, final Object p8) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(WARN, marker)) {
+            logger.logIfEnabled(FQCN, WARN, marker, reconciliation.logPrefix() + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        }
     }
 
     /**
@@ -6893,7 +7103,10 @@ public class ReconciliationLogger implements Serializable {
     public void warnCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                      final Object p3, final Object p4, final Object p5, final Object p6,
                      final Object p7, final Object p8, final Object p9) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(WARN, marker)) {
+            logger.logIfEnabled(FQCN, WARN, marker, reconciliation.logPrefix() + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        }
     }
 
     /**
@@ -6905,7 +7118,10 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void warnCr(final Reconciliation reconciliation, final String message, final Throwable t) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(WARN, marker)) {
+            logger.logIfEnabled(FQCN, WARN, marker, reconciliation.logPrefix() + message, t);
+        }
     }
 
     /**
@@ -6955,7 +7171,10 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.4
      */
     public void warnCr(final Reconciliation reconciliation, final String message, final Supplier<?>... paramSuppliers) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, paramSuppliers);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(WARN, marker)) {
+            logger.logIfEnabled(FQCN, WARN, marker, reconciliation.logPrefix() + message, paramSuppliers);
+        }
     }
 
     /**
@@ -7029,7 +7248,10 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void infoCr(final Reconciliation reconciliation, final Object message) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(INFO, marker)) {
+            logger.logIfEnabled(FQCN, INFO, marker, reconciliation.logPrefix() + message, (Throwable) null);
+        }
     }
 
     /**
@@ -7040,7 +7262,10 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void infoCr(final Reconciliation reconciliation, final CharSequence message) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(INFO, marker)) {
+            logger.logIfEnabled(FQCN, INFO, marker, reconciliation.logPrefix() + message, (Throwable) null);
+        }
     }
 
     /**
@@ -7052,7 +7277,10 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void infoCr(final Reconciliation reconciliation, final Object message, final Throwable t) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(INFO, marker)) {
+            logger.logIfEnabled(FQCN, INFO, marker, reconciliation.logPrefix() + message, t);
+        }
     }
 
     /**
@@ -7065,7 +7293,10 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void infoCr(final Reconciliation reconciliation, final CharSequence message, final Throwable t) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(INFO, marker)) {
+            logger.logIfEnabled(FQCN, INFO, marker, reconciliation.logPrefix() + message, t);
+        }
     }
 
     /**
@@ -7075,7 +7306,10 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void infoCr(final Reconciliation reconciliation, final String message) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(INFO, marker)) {
+            logger.logIfEnabled(FQCN, INFO, marker, reconciliation.logPrefix() + message, (Throwable) null);
+        }
     }
 
     /**
@@ -7086,7 +7320,10 @@ public class ReconciliationLogger implements Serializable {
      * @param params parameters to the message.
      */
     public void infoCr(final Reconciliation reconciliation, final String message, final Object... params) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, params);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(INFO, marker)) {
+            logger.logIfEnabled(FQCN, INFO, marker, reconciliation.logPrefix() + message, params);
+        }
     }
 
     /**
@@ -7098,7 +7335,10 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void infoCr(final Reconciliation reconciliation, final String message, final Object p0) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(INFO, marker)) {
+            logger.logIfEnabled(FQCN, INFO, marker, reconciliation.logPrefix() + message, p0);
+        }
     }
 
     /**
@@ -7111,7 +7351,10 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void infoCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(INFO, marker)) {
+            logger.logIfEnabled(FQCN, INFO, marker, reconciliation.logPrefix() + message, p0, p1);
+        }
     }
 
     /**
@@ -7125,7 +7368,10 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void infoCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(INFO, marker)) {
+            logger.logIfEnabled(FQCN, INFO, marker, reconciliation.logPrefix() + message, p0, p1, p2);
+        }
     }
 
     /**
@@ -7141,7 +7387,10 @@ public class ReconciliationLogger implements Serializable {
      */
     public void infoCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                      final Object p3) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(INFO, marker)) {
+            logger.logIfEnabled(FQCN, INFO, marker, reconciliation.logPrefix() + message, p0, p1, p2, p3);
+        }
     }
 
     /**
@@ -7158,7 +7407,10 @@ public class ReconciliationLogger implements Serializable {
      */
     public void infoCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                      final Object p3, final Object p4) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(INFO, marker)) {
+            logger.logIfEnabled(FQCN, INFO, marker, reconciliation.logPrefix() + message, p0, p1, p2, p3, p4);
+        }
     }
 
     /**
@@ -7176,7 +7428,10 @@ public class ReconciliationLogger implements Serializable {
      */
     public void infoCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                      final Object p3, final Object p4, final Object p5) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(INFO, marker)) {
+            logger.logIfEnabled(FQCN, INFO, marker, reconciliation.logPrefix() + message, p0, p1, p2, p3, p4, p5);
+        }
     }
 
     /**
@@ -7195,7 +7450,10 @@ public class ReconciliationLogger implements Serializable {
      */
     public void infoCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                      final Object p3, final Object p4, final Object p5, final Object p6) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(INFO, marker)) {
+            logger.logIfEnabled(FQCN, INFO, marker, reconciliation.logPrefix() + message, p0, p1, p2, p3, p4, p5, p6);
+        }
     }
 
     /**
@@ -7216,7 +7474,10 @@ public class ReconciliationLogger implements Serializable {
     public void infoCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                      final Object p3, final Object p4, final Object p5, final Object p6,
                      final Object p7) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(INFO, marker)) {
+            logger.logIfEnabled(FQCN, INFO, marker, reconciliation.logPrefix() + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        }
     }
 
     /**
@@ -7238,7 +7499,10 @@ public class ReconciliationLogger implements Serializable {
     public void infoCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                      final Object p3, final Object p4, final Object p5, final Object p6,
                      final Object p7, final Object p8) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(INFO, marker)) {
+            logger.logIfEnabled(FQCN, INFO, marker, reconciliation.logPrefix() + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        }
     }
 
     /**
@@ -7261,7 +7525,10 @@ public class ReconciliationLogger implements Serializable {
     public void infoCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                      final Object p3, final Object p4, final Object p5, final Object p6,
                      final Object p7, final Object p8, final Object p9) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(INFO, marker)) {
+            logger.logIfEnabled(FQCN, INFO, marker, reconciliation.logPrefix() + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        }
     }
 
     /**
@@ -7273,7 +7540,10 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void infoCr(final Reconciliation reconciliation, final String message, final Throwable t) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(INFO, marker)) {
+            logger.logIfEnabled(FQCN, INFO, marker, reconciliation.logPrefix() + message, t);
+        }
     }
 
     /**
@@ -7299,7 +7569,10 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.4
      */
     public void infoCr(final Reconciliation reconciliation, final String message, final Supplier<?>... paramSuppliers) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, paramSuppliers);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(INFO, marker)) {
+            logger.logIfEnabled(FQCN, INFO, marker, reconciliation.logPrefix() + message, paramSuppliers);
+        }
     }
 
     /**
@@ -7373,7 +7646,10 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void debugCr(final Reconciliation reconciliation, final Object message) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(DEBUG, marker)) {
+            logger.logIfEnabled(FQCN, DEBUG, marker, reconciliation.logPrefix() + message, (Throwable) null);
+        }
     }
 
     /**
@@ -7384,7 +7660,10 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void debugCr(final Reconciliation reconciliation, final CharSequence message) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(DEBUG, marker)) {
+            logger.logIfEnabled(FQCN, DEBUG, marker, reconciliation.logPrefix() + message, (Throwable) null);
+        }
     }
 
     /**
@@ -7396,7 +7675,10 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void debugCr(final Reconciliation reconciliation, final Object message, final Throwable t) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(DEBUG, marker)) {
+            logger.logIfEnabled(FQCN, DEBUG, marker, reconciliation.logPrefix() + message, t);
+        }
     }
 
     /**
@@ -7409,7 +7691,10 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void debugCr(final Reconciliation reconciliation, final CharSequence message, final Throwable t) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(DEBUG, marker)) {
+            logger.logIfEnabled(FQCN, DEBUG, marker, reconciliation.logPrefix() + message, t);
+        }
     }
 
     /**
@@ -7419,7 +7704,10 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void debugCr(final Reconciliation reconciliation, final String message) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(DEBUG, marker)) {
+            logger.logIfEnabled(FQCN, DEBUG, marker, reconciliation.logPrefix() + message, (Throwable) null);
+        }
     }
 
     /**
@@ -7430,7 +7718,10 @@ public class ReconciliationLogger implements Serializable {
      * @param params parameters to the message.
      */
     public void debugCr(final Reconciliation reconciliation, final String message, final Object... params) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, params);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(DEBUG, marker)) {
+            logger.logIfEnabled(FQCN, DEBUG, marker, reconciliation.logPrefix() + message, params);
+        }
     }
 
     /**
@@ -7442,7 +7733,10 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void debugCr(final Reconciliation reconciliation, final String message, final Object p0) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(DEBUG, marker)) {
+            logger.logIfEnabled(FQCN, DEBUG, marker, reconciliation.logPrefix() + message, p0);
+        }
     }
 
     /**
@@ -7455,7 +7749,10 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void debugCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(DEBUG, marker)) {
+            logger.logIfEnabled(FQCN, DEBUG, marker, reconciliation.logPrefix() + message, p0, p1);
+        }
     }
 
     /**
@@ -7469,7 +7766,10 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void debugCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(DEBUG, marker)) {
+            logger.logIfEnabled(FQCN, DEBUG, marker, reconciliation.logPrefix() + message, p0, p1, p2);
+        }
     }
 
     /**
@@ -7485,7 +7785,10 @@ public class ReconciliationLogger implements Serializable {
      */
     public void debugCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(DEBUG, marker)) {
+            logger.logIfEnabled(FQCN, DEBUG, marker, reconciliation.logPrefix() + message, p0, p1, p2, p3);
+        }
     }
 
     /**
@@ -7502,7 +7805,10 @@ public class ReconciliationLogger implements Serializable {
      */
     public void debugCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(DEBUG, marker)) {
+            logger.logIfEnabled(FQCN, DEBUG, marker, reconciliation.logPrefix() + message, p0, p1, p2, p3, p4);
+        }
     }
 
     /**
@@ -7520,7 +7826,10 @@ public class ReconciliationLogger implements Serializable {
      */
     public void debugCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(DEBUG, marker)) {
+            logger.logIfEnabled(FQCN, DEBUG, marker, reconciliation.logPrefix() + message, p0, p1, p2, p3, p4, p5);
+        }
     }
 
     /**
@@ -7539,7 +7848,10 @@ public class ReconciliationLogger implements Serializable {
      */
     public void debugCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(DEBUG, marker)) {
+            logger.logIfEnabled(FQCN, DEBUG, marker, reconciliation.logPrefix() + message, p0, p1, p2, p3, p4, p5, p6);
+        }
     }
 
     /**
@@ -7560,7 +7872,10 @@ public class ReconciliationLogger implements Serializable {
     public void debugCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6,
                       final Object p7) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(DEBUG, marker)) {
+            logger.logIfEnabled(FQCN, DEBUG, marker, reconciliation.logPrefix() + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        }
     }
 
     /**
@@ -7582,7 +7897,10 @@ public class ReconciliationLogger implements Serializable {
     public void debugCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6,
                       final Object p7, final Object p8) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(DEBUG, marker)) {
+            logger.logIfEnabled(FQCN, DEBUG, marker, reconciliation.logPrefix() + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        }
     }
 
     /**
@@ -7605,7 +7923,10 @@ public class ReconciliationLogger implements Serializable {
     public void debugCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6,
                       final Object p7, final Object p8, final Object p9) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(DEBUG, marker)) {
+            logger.logIfEnabled(FQCN, DEBUG, marker, reconciliation.logPrefix() + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        }
     }
 
     /**
@@ -7617,7 +7938,10 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void debugCr(final Reconciliation reconciliation, final String message, final Throwable t) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(DEBUG, marker)) {
+            logger.logIfEnabled(FQCN, DEBUG, marker, reconciliation.logPrefix() + message, t);
+        }
     }
 
     /**
@@ -7667,7 +7991,10 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.4
      */
     public void debugCr(final Reconciliation reconciliation, final String message, final Supplier<?>... paramSuppliers) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, paramSuppliers);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(DEBUG, marker)) {
+            logger.logIfEnabled(FQCN, DEBUG, marker, reconciliation.logPrefix() + message, paramSuppliers);
+        }
     }
 
     /**
@@ -7741,7 +8068,10 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void traceCr(final Reconciliation reconciliation, final Object message) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(TRACE, marker)) {
+            logger.logIfEnabled(FQCN, TRACE, marker, reconciliation.logPrefix() + message, (Throwable) null);
+        }
     }
 
     /**
@@ -7752,7 +8082,10 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void traceCr(final Reconciliation reconciliation, final CharSequence message) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(TRACE, marker)) {
+            logger.logIfEnabled(FQCN, TRACE, marker, reconciliation.logPrefix() + message, (Throwable) null);
+        }
     }
 
     /**
@@ -7764,7 +8097,10 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void traceCr(final Reconciliation reconciliation, final Object message, final Throwable t) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(TRACE, marker)) {
+            logger.logIfEnabled(FQCN, TRACE, marker, reconciliation.logPrefix() + message, t);
+        }
     }
 
     /**
@@ -7777,7 +8113,10 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void traceCr(final Reconciliation reconciliation, final CharSequence message, final Throwable t) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(TRACE, marker)) {
+            logger.logIfEnabled(FQCN, TRACE, marker, reconciliation.logPrefix() + message, t);
+        }
     }
 
     /**
@@ -7787,7 +8126,10 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void traceCr(final Reconciliation reconciliation, final String message) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(TRACE, marker)) {
+            logger.logIfEnabled(FQCN, TRACE, marker, reconciliation.logPrefix() + message, (Throwable) null);
+        }
     }
 
     /**
@@ -7798,7 +8140,10 @@ public class ReconciliationLogger implements Serializable {
      * @param params parameters to the message.
      */
     public void traceCr(final Reconciliation reconciliation, final String message, final Object... params) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, params);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(TRACE, marker)) {
+            logger.logIfEnabled(FQCN, TRACE, marker, reconciliation.logPrefix() + message, params);
+        }
     }
 
     /**
@@ -7810,7 +8155,10 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void traceCr(final Reconciliation reconciliation, final String message, final Object p0) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(TRACE, marker)) {
+            logger.logIfEnabled(FQCN, TRACE, marker, reconciliation.logPrefix() + message, p0);
+        }
     }
 
     /**
@@ -7823,7 +8171,10 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void traceCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(TRACE, marker)) {
+            logger.logIfEnabled(FQCN, TRACE, marker, reconciliation.logPrefix() + message, p0, p1);
+        }
     }
 
     /**
@@ -7837,7 +8188,10 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void traceCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(TRACE, marker)) {
+            logger.logIfEnabled(FQCN, TRACE, marker, reconciliation.logPrefix() + message, p0, p1, p2);
+        }
     }
 
     /**
@@ -7853,7 +8207,10 @@ public class ReconciliationLogger implements Serializable {
      */
     public void traceCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(TRACE, marker)) {
+            logger.logIfEnabled(FQCN, TRACE, marker, reconciliation.logPrefix() + message, p0, p1, p2, p3);
+        }
     }
 
     /**
@@ -7870,7 +8227,10 @@ public class ReconciliationLogger implements Serializable {
      */
     public void traceCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(TRACE, marker)) {
+            logger.logIfEnabled(FQCN, TRACE, marker, reconciliation.logPrefix() + message, p0, p1, p2, p3, p4);
+        }
     }
 
     /**
@@ -7888,7 +8248,10 @@ public class ReconciliationLogger implements Serializable {
      */
     public void traceCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(TRACE, marker)) {
+            logger.logIfEnabled(FQCN, TRACE, marker, reconciliation.logPrefix() + message, p0, p1, p2, p3, p4, p5);
+        }
     }
 
     /**
@@ -7907,7 +8270,10 @@ public class ReconciliationLogger implements Serializable {
      */
     public void traceCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(TRACE, marker)) {
+            logger.logIfEnabled(FQCN, TRACE, marker, reconciliation.logPrefix() + message, p0, p1, p2, p3, p4, p5, p6);
+        }
     }
 
     /**
@@ -7928,7 +8294,10 @@ public class ReconciliationLogger implements Serializable {
     public void traceCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6,
                       final Object p7) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(TRACE, marker)) {
+            logger.logIfEnabled(FQCN, TRACE, marker, reconciliation.logPrefix() + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        }
     }
 
     /**
@@ -7950,7 +8319,10 @@ public class ReconciliationLogger implements Serializable {
     public void traceCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6,
                       final Object p7, final Object p8) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(TRACE, marker)) {
+            logger.logIfEnabled(FQCN, TRACE, marker, reconciliation.logPrefix() + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        }
     }
 
     /**
@@ -7973,7 +8345,10 @@ public class ReconciliationLogger implements Serializable {
     public void traceCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6,
                       final Object p7, final Object p8, final Object p9) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(TRACE, marker)) {
+            logger.logIfEnabled(FQCN, TRACE, marker, reconciliation.logPrefix() + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        }
     }
 
     /**
@@ -7985,7 +8360,10 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void traceCr(final Reconciliation reconciliation, final String message, final Throwable t) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(TRACE, marker)) {
+            logger.logIfEnabled(FQCN, TRACE, marker, reconciliation.logPrefix() + message, t);
+        }
     }
 
     /**
@@ -8011,7 +8389,10 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.4
      */
     public void traceCr(final Reconciliation reconciliation, final String message, final Supplier<?>... paramSuppliers) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, paramSuppliers);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(TRACE, marker)) {
+            logger.logIfEnabled(FQCN, TRACE, marker, reconciliation.logPrefix() + message, paramSuppliers);
+        }
     }
 
     /**
@@ -8085,7 +8466,10 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void allCr(final Reconciliation reconciliation, final Object message) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(ALL, marker)) {
+            logger.logIfEnabled(FQCN, ALL, marker, reconciliation.logPrefix() + message, (Throwable) null);
+        }
     }
 
     /**
@@ -8096,7 +8480,10 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void allCr(final Reconciliation reconciliation, final CharSequence message) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(ALL, marker)) {
+            logger.logIfEnabled(FQCN, ALL, marker, reconciliation.logPrefix() + message, (Throwable) null);
+        }
     }
 
     /**
@@ -8108,7 +8495,10 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void allCr(final Reconciliation reconciliation, final Object message, final Throwable t) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(ALL, marker)) {
+            logger.logIfEnabled(FQCN, ALL, marker, reconciliation.logPrefix() + message, t);
+        }
     }
 
     /**
@@ -8121,7 +8511,10 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void allCr(final Reconciliation reconciliation, final CharSequence message, final Throwable t) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(ALL, marker)) {
+            logger.logIfEnabled(FQCN, ALL, marker, reconciliation.logPrefix() + message, t);
+        }
     }
 
     /**
@@ -8131,7 +8524,10 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void allCr(final Reconciliation reconciliation, final String message) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(ALL, marker)) {
+            logger.logIfEnabled(FQCN, ALL, marker, reconciliation.logPrefix() + message, (Throwable) null);
+        }
     }
 
     /**
@@ -8142,7 +8538,10 @@ public class ReconciliationLogger implements Serializable {
      * @param params parameters to the message.
      */
     public void allCr(final Reconciliation reconciliation, final String message, final Object... params) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, params);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(ALL, marker)) {
+            logger.logIfEnabled(FQCN, ALL, marker, reconciliation.logPrefix() + message, params);
+        }
     }
 
     /**
@@ -8154,7 +8553,10 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void allCr(final Reconciliation reconciliation, final String message, final Object p0) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(ALL, marker)) {
+            logger.logIfEnabled(FQCN, ALL, marker, reconciliation.logPrefix() + message, p0);
+        }
     }
 
     /**
@@ -8167,7 +8569,10 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void allCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(ALL, marker)) {
+            logger.logIfEnabled(FQCN, ALL, marker, reconciliation.logPrefix() + message, p0, p1);
+        }
     }
 
     /**
@@ -8181,7 +8586,10 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void allCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(ALL, marker)) {
+            logger.logIfEnabled(FQCN, ALL, marker, reconciliation.logPrefix() + message, p0, p1, p2);
+        }
     }
 
     /**
@@ -8197,7 +8605,10 @@ public class ReconciliationLogger implements Serializable {
      */
     public void allCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                     final Object p3) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(ALL, marker)) {
+            logger.logIfEnabled(FQCN, ALL, marker, reconciliation.logPrefix() + message, p0, p1, p2, p3);
+        }
     }
 
     /**
@@ -8214,7 +8625,10 @@ public class ReconciliationLogger implements Serializable {
      */
     public void allCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                     final Object p3, final Object p4) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(ALL, marker)) {
+            logger.logIfEnabled(FQCN, ALL, marker, reconciliation.logPrefix() + message, p0, p1, p2, p3, p4);
+        }
     }
 
     /**
@@ -8232,7 +8646,10 @@ public class ReconciliationLogger implements Serializable {
      */
     public void allCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                     final Object p3, final Object p4, final Object p5) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(ALL, marker)) {
+            logger.logIfEnabled(FQCN, ALL, marker, reconciliation.logPrefix() + message, p0, p1, p2, p3, p4, p5);
+        }
     }
 
     /**
@@ -8251,7 +8668,10 @@ public class ReconciliationLogger implements Serializable {
      */
     public void allCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                     final Object p3, final Object p4, final Object p5, final Object p6) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(ALL, marker)) {
+            logger.logIfEnabled(FQCN, ALL, marker, reconciliation.logPrefix() + message, p0, p1, p2, p3, p4, p5, p6);
+        }
     }
 
     /**
@@ -8272,7 +8692,10 @@ public class ReconciliationLogger implements Serializable {
     public void allCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                     final Object p3, final Object p4, final Object p5, final Object p6,
                     final Object p7) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(ALL, marker)) {
+            logger.logIfEnabled(FQCN, ALL, marker, reconciliation.logPrefix() + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        }
     }
 
     /**
@@ -8294,7 +8717,10 @@ public class ReconciliationLogger implements Serializable {
     public void allCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                     final Object p3, final Object p4, final Object p5, final Object p6,
                     final Object p7, final Object p8) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(ALL, marker)) {
+            logger.logIfEnabled(FQCN, ALL, marker, reconciliation.logPrefix() + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        }
     }
 
     /**
@@ -8317,7 +8743,10 @@ public class ReconciliationLogger implements Serializable {
     public void allCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                     final Object p3, final Object p4, final Object p5, final Object p6,
                     final Object p7, final Object p8, final Object p9) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(ALL, marker)) {
+            logger.logIfEnabled(FQCN, ALL, marker, reconciliation.logPrefix() + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        }
     }
 
     /**
@@ -8329,7 +8758,10 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void allCr(final Reconciliation reconciliation, final String message, final Throwable t) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(ALL, marker)) {
+            logger.logIfEnabled(FQCN, ALL, marker, reconciliation.logPrefix() + message, t);
+        }
     }
 
     /**
@@ -8355,7 +8787,10 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.4
      */
     public void allCr(final Reconciliation reconciliation, final String message, final Supplier<?>... paramSuppliers) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, paramSuppliers);
+        final Marker marker = reconciliation.getMarker();
+        if (logger.isEnabled(ALL, marker)) {
+            logger.logIfEnabled(FQCN, ALL, marker, reconciliation.logPrefix() + message, paramSuppliers);
+        }
     }
 
     /**
@@ -0,0 +1,48 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.metrics;
+
+/**
+ * Metric key for metrics specified by kind, namespace and cluster name.
+ */
+public class ClusterMetricKey extends MetricKey {
+    private final String clusterName;
+
+    /**
+     * Constructor
+     *
+     * @param kind          Kind of the resource
+     * @param namespace     Namespace of the resource
+     * @param clusterName   Name of the cluster
+     */
+    public ClusterMetricKey(String kind, String namespace, String clusterName) {
+        super(kind, namespace);
+
+        this.clusterName = clusterName;
+    }
+
+    @Override
+    public String getKey() {
+        return String.format("%s/%s/%s", kind, namespace, clusterName);
+    }
+
+    /**
+     * Get the cluster name
+     *
+     * @return  Cluster name
+     */
+    public String getClusterName() {
+        return clusterName;
+    }
+
+    @Override
+    public String toString() {
+        return "ClusterMetricKey(" +
+                "kind=" + kind +
+                ", namespace=" + namespace +
+                ", clusterName=" + clusterName +
+                ')';
+    }
+}
@@ -54,6 +54,10 @@ public abstract class MetricsHolder {
      * Metric name for number of locked reconciliations.
      */
     public static final String METRICS_RECONCILIATIONS_LOCKED = METRICS_RECONCILIATIONS + ".locked";
+    /**
+     * Metric name for duration of the individual reconciliation steps.
+     */
+    public static final String METRICS_RECONCILIATIONS_STEP_DURATION = METRICS_RECONCILIATIONS + ".step.duration";
     /**
      * Metric name for number of resources managed by the operator.
      */
@@ -79,6 +83,7 @@ public abstract class MetricsHolder {
     private final Map<MetricKey, Counter> successfulReconciliationsCounterMap = new ConcurrentHashMap<>(1);
     private final Map<MetricKey, Counter> lockedReconciliationsCounterMap = new ConcurrentHashMap<>(1);
     private final Map<MetricKey, Timer> reconciliationsTimerMap = new ConcurrentHashMap<>(1);
+    private final Map<MetricKey, Timer> reconciliationStepsTimerMap = new ConcurrentHashMap<>(1);
 
     /**
      * Constructs the metrics holder
@@ -206,6 +211,23 @@ public abstract class MetricsHolder {
                 Optional.of(getLabelSelectorValues()), reconciliationsTimerMap);
     }
 
+    /**
+     * Timer which measures how long do the individual steps of the reconciliation take.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     * @param pipeline      Name of the reconciliation pipeline the step belongs to
+     * @param step          Name of the reconciliation step
+     *
+     * @return  Metrics timer
+     */
+    public Timer reconciliationStepTimer(String namespace, String pipeline, String step) {
+        return getTimer(new ReconciliationStepMetricKey(kind, namespace, pipeline, step), METRICS_RECONCILIATIONS_STEP_DURATION,
+                "The time the individual reconciliation step takes to complete",
+                Optional.of(getLabelSelectorValues()), reconciliationStepsTimerMap,
+                Tag.of("pipeline", pipeline),
+                Tag.of("step", step));
+    }
+
     /**
      * Counter metric for number of reconciliations which did not happen because they did not get the lock (which means
      * that other reconciliation for the same resource was in progress).
@@ -329,6 +351,22 @@ public abstract class MetricsHolder {
         return metric(metricKey, selectorLabels, timerMap, tags -> metricsProvider.timer(metricName, metricHelp, tags));
     }
 
+    /**
+     * Creates or gets a timer-type metric with additional tags.
+     *
+     * @param metricKey         Key of the metric
+     * @param metricName        Name of the metric
+     * @param metricHelp        Help description of the metric
+     * @param selectorLabels    Selector labels to select the controller resources
+     * @param timerMap          Map with timers
+     * @param optionalTags      Optional tags to be added to the metric
+     *
+     * @return  Timer metric
+     */
+    protected Timer getTimer(MetricKey metricKey, String metricName, String metricHelp, Optional<String> selectorLabels, Map<MetricKey, Timer> timerMap, Tag... optionalTags) {
+        return metric(metricKey, selectorLabels, timerMap, tags -> metricsProvider.timer(metricName, metricHelp, tags), optionalTags);
+    }
+
     protected String getLabelSelectorValues() {
         return selectorLabels != null ? selectorLabels.toSelectorString() : "";
     }
@@ -0,0 +1,52 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.metrics;
+
+/**
+ * Metric key for metrics specified by kind, namespace, the name of the reconciliation pipeline and the name of the
+ * reconciliation step.
+ */
+public class ReconciliationStepMetricKey extends MetricKey {
+    private final String pipeline;
+    private final String step;
+
+    /**
+     * Constructor
+     *
+     * @param kind      Kind of the resource
+     * @param namespace Namespace of the resource
+     * @param pipeline  Name of the reconciliation pipeline
+     * @param step      Name of the reconciliation step
+     */
+    public ReconciliationStepMetricKey(String kind, String namespace, String pipeline, String step) {
+        super(kind, namespace);
+
+        this.pipeline = pipeline;
+        this.step = step;
+    }
+
+    @Override
+    public String getKey() {
+        return String.format("%s/%s/%s/%s", kind, namespace, pipeline, step);
+    }
+
+    /**
+     * Get the name of the reconciliation pipeline
+     *
+     * @return  Name of the reconciliation pipeline
+     */
+    public String getPipeline() {
+        return pipeline;
+    }
+
+    /**
+     * Get the name of the reconciliation step
+     *
+     * @return  Name of the reconciliation step
+     */
+    public String getStep() {
+        return step;
+    }
+}
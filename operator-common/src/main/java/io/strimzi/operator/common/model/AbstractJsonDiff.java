@@ -10,6 +10,12 @@ import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.node.MissingNode;
 import io.fabric8.kubernetes.client.utils.Serialization;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
 /**
  * Abstract class for diffing Json and YAML resources
  */
@@ -21,6 +27,10 @@ public abstract class AbstractJsonDiff {
             .configure(SerializationFeature.WRITE_EMPTY_JSON_ARRAYS, false);
 
     protected static JsonNode lookupPath(JsonNode source, String path) {
+        if (path.isEmpty()) {
+            return source;
+        }
+
         JsonNode s = source;
         for (String component : path.substring(1).split("/")) {
             if (s.isArray()) {
@@ -36,6 +46,93 @@ public abstract class AbstractJsonDiff {
         return s;
     }
 
+    /**
+     * Walks the source and target JSON trees in lockstep and finds the first difference which is not ignorable. The
+     * differences are reported on the same paths as they would be in a JSON Patch: the path of a field which is
+     * present only in one of the trees, or the path of a value which differs. Unlike generating the full JSON Patch,
+     * this stops at the first relevant difference and does not allocate anything for the parts which are equal.
+     *
+     * @param source            Source JSON tree
+     * @param target            Target JSON tree
+     * @param ignorablePaths    Paths which should be ignored when they differ
+     * @param onIgnored         Consumer called with the JSON Pointer of every ignored difference
+     *
+     * @return  JSON Pointer of the first difference which is not ignorable or null if there is no such difference
+     */
+    protected static String firstDifference(JsonNode source, JsonNode target, IgnorablePaths ignorablePaths, Consumer<String> onIgnored) {
+        return firstDifference(source, target, new ArrayList<>(), ignorablePaths, onIgnored);
+    }
+
+    private static String firstDifference(JsonNode source, JsonNode target, List<String> path, IgnorablePaths ignorablePaths, Consumer<String> onIgnored) {
+        if (source.isObject() && target.isObject()) {
+            Iterator<Map.Entry<String, JsonNode>> sourceFields = source.fields();
+
+            while (sourceFields.hasNext()) {
+                Map.Entry<String, JsonNode> field = sourceFields.next();
+                JsonNode targetValue = target.get(field.getKey());
+
+                path.add(field.getKey());
+                String difference = targetValue == null
+                        ? difference(path, ignorablePaths, onIgnored)
+                        : firstDifference(field.getValue(), targetValue, path, ignorablePaths, onIgnored);
+                path.remove(path.size() - 1);
+
+                if (difference != null) {
+                    return difference;
+                }
+            }
+
+            Iterator<String> targetFields = target.fieldNames();
+
+            while (targetFields.hasNext()) {
+                String fieldName = targetFields.next();
+
+                if (!source.has(fieldName)) {
+                    path.add(fieldName);
+                    String difference = difference(path, ignorablePaths, onIgnored);
+                    path.remove(path.size() - 1);
+
+                    if (difference != null) {
+                        return difference;
+                    }
+                }
+            }
+
+            return null;
+        } else if (source.isArray() && target.isArray()) {
+            int common = Math.min(source.size(), target.size());
+
+            for (int i = 0; i < Math.max(source.size(), target.size()); i++) {
+                path.add(String.valueOf(i));
+                String difference = i < common
+                        ? firstDifference(source.get(i), target.get(i), path, ignorablePaths, onIgnored)
+                        : difference(path, ignorablePaths, onIgnored);
+                path.remove(path.size() - 1);
+
+                if (difference != null) {
+                    return difference;
+                }
+            }
+
+            return null;
+        } else if (source.equals(target)) {
+            return null;
+        } else {
+            return difference(path, ignorablePaths, onIgnored);
+        }
+    }
+
+    private static String difference(List<String> path, IgnorablePaths ignorablePaths, Consumer<String> onIgnored) {
+        String pointer = IgnorablePaths.toPointer(path);
+
+        if (ignorablePaths.matches(path)) {
+            onIgnored.accept(pointer);
+            return null;
+        } else {
+            return pointer;
+        }
+    }
+
     /**
      * Returns whether the Diff is empty or not.
      *
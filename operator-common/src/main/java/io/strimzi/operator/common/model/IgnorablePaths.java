@@ -0,0 +1,153 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.model;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Set of JSON paths which should be ignored when diffing two JSON documents. The paths are stored in a trie indexed by
+ * the path segments, so checking whether a path is ignorable does not need to format the path or match it against a
+ * regular expression.
+ *
+ * The paths use the JSON Pointer format (e.g. {@code /metadata/annotations/my.domain~1my-annotation}). In addition,
+ * a segment can be:
+ *   - {@code *} to match any single segment (e.g. any index of an array)
+ *   - a prefix followed by {@code *} to match any segment starting with the prefix (e.g. {@code pv.kubernetes.io~1*})
+ *
+ * A path matches only when the whole path matches one of the ignorable paths. Paths nested under an ignorable path
+ * are not ignored automatically.
+ */
+public class IgnorablePaths {
+    private final Node root = new Node();
+
+    private IgnorablePaths(List<String> paths) {
+        for (String path : paths) {
+            add(path);
+        }
+    }
+
+    /**
+     * Creates the ignorable paths from a list of JSON Pointers
+     *
+     * @param paths     JSON Pointers which should be ignored
+     *
+     * @return  Ignorable paths instance
+     */
+    public static IgnorablePaths of(String... paths) {
+        return new IgnorablePaths(List.of(paths));
+    }
+
+    private void add(String path) {
+        if (!path.isEmpty() && !path.startsWith("/")) {
+            throw new IllegalArgumentException("Ignorable path " + path + " is not a valid JSON Pointer");
+        }
+
+        Node node = root;
+
+        if (!path.isEmpty()) {
+            for (String segment : path.substring(1).split("/", -1)) {
+                node = node.child(unescape(segment));
+            }
+        }
+
+        node.terminal = true;
+    }
+
+    /**
+     * Checks whether the path is ignorable
+     *
+     * @param path  List with the (unescaped) segments of the path
+     *
+     * @return  True if the path should be ignored. False otherwise.
+     */
+    public boolean matches(List<String> path) {
+        return matches(root, path, 0);
+    }
+
+    private static boolean matches(Node node, List<String> path, int index) {
+        if (index == path.size()) {
+            return node.terminal;
+        }
+
+        String segment = path.get(index);
+
+        if (node.children != null) {
+            Node exact = node.children.get(segment);
+
+            if (exact != null && matches(exact, path, index + 1)) {
+                return true;
+            }
+        }
+
+        if (node.any != null && matches(node.any, path, index + 1)) {
+            return true;
+        }
+
+        if (node.prefixes != null) {
+            for (Map.Entry<String, Node> prefix : node.prefixes.entrySet()) {
+                if (segment.startsWith(prefix.getKey()) && matches(prefix.getValue(), path, index + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    private static String unescape(String segment) {
+        return segment.replace("~1", "/").replace("~0", "~");
+    }
+
+    /**
+     * Formats the path segments as JSON Pointer
+     *
+     * @param path  List with the (unescaped) segments of the path
+     *
+     * @return  JSON Pointer
+     */
+    public static String toPointer(List<String> path) {
+        StringBuilder sb = new StringBuilder();
+
+        for (String segment : path) {
+            sb.append('/').append(segment.replace("~", "~0").replace("/", "~1"));
+        }
+
+        return sb.toString();
+    }
+
+    /**
+     * Node of the trie
+     */
+    private static class Node {
+        private boolean terminal = false;
+        private Map<String, Node> children;
+        private Map<String, Node> prefixes;
+        private Node any;
+
+        private Node child(String segment) {
+            if ("*".equals(segment)) {
+                if (any == null) {
+                    any = new Node();
+                }
+
+                return any;
+            } else if (segment.endsWith("*")) {
+                if (prefixes == null) {
+                    prefixes = new HashMap<>(2);
+                }
+
+                return prefixes.computeIfAbsent(segment.substring(0, segment.length() - 1), k -> new Node());
+            } else {
+                if (children == null) {
+                    children = new HashMap<>(4);
+                }
+
+                return children.computeIfAbsent(segment, k -> new Node());
+            }
+        }
+    }
+}
@@ -6,12 +6,10 @@ package io.strimzi.operator.common.operator.resource;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import io.fabric8.kubernetes.api.model.HasMetadata;
-import io.fabric8.zjsonpatch.JsonDiff;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.model.AbstractJsonDiff;
-
-import java.util.regex.Pattern;
+import io.strimzi.operator.common.model.IgnorablePaths;
 
 /**
  * Diffs two Kubernetes resources of the same type to see if the changed
@@ -22,17 +20,17 @@ public class ResourceDiff<T extends HasMetadata> extends AbstractJsonDiff {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(ResourceDiff.class.getName());
 
     /**
-     * Pattern with JSON paths which should be ignored if they differ
+     * JSON paths which should be ignored if they differ
      */
-    public static final Pattern DEFAULT_IGNORABLE_PATHS = Pattern.compile(
-            "^(/metadata/managedFields" +
-                    "|/metadata/creationTimestamp" +
-                    "|/metadata/deletionTimestamp" +
-                    "|/metadata/deletionGracePeriodSeconds" +
-                    "|/metadata/resourceVersion" +
-                    "|/metadata/generation" +
-                    "|/metadata/uid" +
-                    "|/status)$");
+    public static final IgnorablePaths DEFAULT_IGNORABLE_PATHS = IgnorablePaths.of(
+            "/metadata/managedFields",
+            "/metadata/creationTimestamp",
+            "/metadata/deletionTimestamp",
+            "/metadata/deletionGracePeriodSeconds",
+            "/metadata/resourceVersion",
+            "/metadata/generation",
+            "/metadata/uid",
+            "/status");
 
     private final boolean isEmpty;
 
@@ -44,34 +42,21 @@ public class ResourceDiff<T extends HasMetadata> extends AbstractJsonDiff {
      * @param resourceName      Name of the resource
      * @param current           Current resource
      * @param desired           Desired resource
-     * @param ignorableFields   Pattern with fields which should be ignored
+     * @param ignorableFields   Paths of the fields which should be ignored
      */
-    public ResourceDiff(Reconciliation reconciliation, String resourceKind, String resourceName, T current, T desired, Pattern ignorableFields) {
+    public ResourceDiff(Reconciliation reconciliation, String resourceKind, String resourceName, T current, T desired, IgnorablePaths ignorableFields) {
         JsonNode source = PATCH_MAPPER.valueToTree(current == null ? "{}" : current);
         JsonNode target = PATCH_MAPPER.valueToTree(desired == null ? "{}" : desired);
-        JsonNode diff = JsonDiff.asJson(source, target);
-
-        int num = 0;
-
-        for (JsonNode d : diff) {
-            String pathValue = d.get("path").asText();
-
-            if (ignorableFields.matcher(pathValue).matches()) {
-                LOGGER.debugCr(reconciliation, "Ignoring {} {} diff {}", resourceKind, resourceName, d);
-                continue;
-            }
-
-            if (LOGGER.isDebugEnabled()) {
-                LOGGER.debugCr(reconciliation, "{} {} differs: {}", resourceKind, resourceName, d);
-                LOGGER.debugCr(reconciliation, "Current {} {} path {} has value {}", resourceKind, resourceName, pathValue, lookupPath(source, pathValue));
-                LOGGER.debugCr(reconciliation, "Desired {} {} path {} has value {}", resourceKind, resourceName, pathValue, lookupPath(target, pathValue));
-            }
+        String pathValue = firstDifference(source, target, ignorableFields,
+                ignored -> LOGGER.debugCr(reconciliation, "Ignoring {} {} diff {}", resourceKind, resourceName, ignored));
 
-            num++;
-            break;
+        if (pathValue != null && LOGGER.isDebugEnabled()) {
+            LOGGER.debugCr(reconciliation, "{} {} differs: {}", resourceKind, resourceName, pathValue);
+            LOGGER.debugCr(reconciliation, "Current {} {} path {} has value {}", resourceKind, resourceName, pathValue, lookupPath(source, pathValue));
+            LOGGER.debugCr(reconciliation, "Desired {} {} path {} has value {}", resourceKind, resourceName, pathValue, lookupPath(target, pathValue));
         }
 
-        this.isEmpty = num == 0;
+        this.isEmpty = pathValue == null;
     }
 
     @Override
@@ -68,6 +68,15 @@ public class Informer<T extends HasMetadata> {
         return lister.namespace(namespace).list();
     }
 
+    /**
+     * Lists all resources in the informer cache regardless of their namespace
+     *
+     * @return  List of all resources known to this informer
+     */
+    public List<T> list()   {
+        return lister.list();
+    }
+
 
     //////////////////////////////
     /// "Inherited" methods for working with the informers -> just call the corresponding informer method
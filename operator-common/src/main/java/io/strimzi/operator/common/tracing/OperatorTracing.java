@@ -0,0 +1,278 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.tracing;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanBuilder;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.sdk.autoconfigure.AutoConfiguredOpenTelemetrySdk;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ReconciliationLogger;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * OpenTelemetry tracing of the operator reconciliations. Tracing is disabled until one of the initialize methods is
+ * called. While it is disabled, all methods are no-ops and the spans they return are invalid spans which do not record
+ * anything.
+ *
+ * Each reconciliation has a root span started by {@link #startReconciliation(Reconciliation)}. The other spans use the
+ * span which is current in the calling thread as their parent. When there is none (which is the usual case in the
+ * asynchronous code running on the Vert.x event loop), the span of the reconciliation is used as the parent instead.
+ * All spans carry the kind, namespace and name of the reconciled resource as attributes.
+ */
+public final class OperatorTracing {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(OperatorTracing.class);
+
+    /**
+     * Name of the instrumentation scope of the spans created by the operators
+     */
+    public static final String INSTRUMENTATION_SCOPE = "io.strimzi.operator";
+
+    /**
+     * Span attribute with the kind of the reconciled resource
+     */
+    public static final AttributeKey<String> KIND = AttributeKey.stringKey("strimzi.kind");
+
+    /**
+     * Span attribute with the namespace of the reconciled resource
+     */
+    public static final AttributeKey<String> NAMESPACE = AttributeKey.stringKey("strimzi.namespace");
+
+    /**
+     * Span attribute with the name of the reconciled resource
+     */
+    public static final AttributeKey<String> NAME = AttributeKey.stringKey("strimzi.name");
+
+    private static final Map<Reconciliation, Span> RECONCILIATION_SPANS = new ConcurrentHashMap<>();
+    private static volatile Tracer tracer = null;
+
+    private OperatorTracing() {
+        // Not used
+    }
+
+    /**
+     * Initializes the tracing using the OpenTelemetry SDK auto-configuration. The exporter and the other SDK options are
+     * configured using the standard OpenTelemetry environment variables and system properties (the OTLP exporter is
+     * used by default). Only traces are exported, the OpenTelemetry metrics and logs exporters are disabled.
+     *
+     * @param defaultServiceName    Service name used when the OTEL_SERVICE_NAME environment variable is not set
+     */
+    public static void initialize(String defaultServiceName) {
+        LOGGER.infoOp("Initializing OpenTelemetry tracing of the reconciliations");
+
+        OpenTelemetry openTelemetry = AutoConfiguredOpenTelemetrySdk.builder()
+                .addPropertiesSupplier(() -> Map.of(
+                        "otel.service.name", defaultServiceName,
+                        "otel.metrics.exporter", "none", // This has no effect on the operator metrics
+                        "otel.logs.exporter", "none"))
+                .build()
+                .getOpenTelemetrySdk();
+
+        initialize(openTelemetry);
+    }
+
+    /**
+     * Initializes the tracing with an existing OpenTelemetry instance. This is used in tests to export the spans to an
+     * in-memory exporter.
+     *
+     * @param openTelemetry     OpenTelemetry instance
+     */
+    public static void initialize(OpenTelemetry openTelemetry) {
+        tracer = openTelemetry.getTracer(INSTRUMENTATION_SCOPE);
+    }
+
+    /**
+     * Disables the tracing. Spans which were already started can still be ended.
+     */
+    public static void disable() {
+        tracer = null;
+        RECONCILIATION_SPANS.clear();
+    }
+
+    /**
+     * @return  True if the tracing is enabled. False otherwise.
+     */
+    public static boolean isEnabled() {
+        return tracer != null;
+    }
+
+    /**
+     * Starts the root span of a reconciliation. It is used as the parent of the spans started for the same
+     * reconciliation until {@link #endReconciliation(Reconciliation, Throwable)} is called.
+     *
+     * @param reconciliation    Reconciliation marker
+     */
+    public static void startReconciliation(Reconciliation reconciliation) {
+        Tracer tracer = OperatorTracing.tracer;
+
+        if (tracer != null) {
+            Span span = withAttributes(tracer.spanBuilder("reconcile " + reconciliation.kind()), reconciliation)
+                    .setNoParent()
+                    .startSpan();
+            RECONCILIATION_SPANS.put(reconciliation, span);
+        }
+    }
+
+    /**
+     * Ends the root span of a reconciliation
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param error             Cause of the reconciliation failure or null if the reconciliation succeeded
+     */
+    public static void endReconciliation(Reconciliation reconciliation, Throwable error) {
+        Span span = RECONCILIATION_SPANS.remove(reconciliation);
+
+        if (span != null) {
+            endSpan(span, error);
+        }
+    }
+
+    /**
+     * Starts a span. The span which is current in the calling thread is used as its parent. When there is none, the
+     * span of the reconciliation is used.
+     *
+     * @param reconciliation    Reconciliation marker. Can be null for spans which do not belong to any reconciliation.
+     * @param spanName          Name of the span. It should have a low cardinality, so it should not contain the names
+     *                          of the resources.
+     *
+     * @return  The started span or an invalid span when the tracing is disabled
+     */
+    public static Span startSpan(Reconciliation reconciliation, String spanName) {
+        Tracer tracer = OperatorTracing.tracer;
+
+        if (tracer == null) {
+            return Span.getInvalid();
+        }
+
+        SpanBuilder builder = tracer.spanBuilder(spanName);
+
+        if (reconciliation != null) {
+            withAttributes(builder, reconciliation);
+
+            Span parent = RECONCILIATION_SPANS.get(reconciliation);
+            if (parent != null && !Span.current().getSpanContext().isValid()) {
+                builder.setParent(Context.root().with(parent));
+            }
+        }
+
+        return builder.startSpan();
+    }
+
+    /**
+     * Starts a span for an operation which covers several resources of the same kind, such as a batch of topics.
+     *
+     * @param spanName      Name of the span
+     * @param kind          Kind of the resources
+     * @param namespace     Namespace of the resources
+     *
+     * @return  The started span or an invalid span when the tracing is disabled
+     */
+    public static Span startSpan(String spanName, String kind, String namespace) {
+        Tracer tracer = OperatorTracing.tracer;
+
+        if (tracer == null) {
+            return Span.getInvalid();
+        }
+
+        return tracer.spanBuilder(spanName)
+                .setAttribute(KIND, kind)
+                .setAttribute(NAMESPACE, namespace)
+                .startSpan();
+    }
+
+    /**
+     * Ends a span and records the error (if any)
+     *
+     * @param span      Span which should be ended
+     * @param error     Cause of the failure or null if the operation succeeded
+     */
+    public static void endSpan(Span span, Throwable error) {
+        if (error != null) {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+
+            span.recordException(cause);
+            span.setStatus(StatusCode.ERROR, cause.getMessage() != null ? cause.getMessage() : cause.getClass().getName());
+        }
+
+        span.end();
+    }
+
+    /**
+     * Traces an asynchronous operation returning a CompletableFuture. The span is current while the operation is
+     * started and ends when the returned future completes.
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param spanName          Name of the span
+     * @param operation         Supplier starting the operation
+     *
+     * @return  The future returned by the operation
+     *
+     * @param <T>   Type of the result
+     */
+    public static <T> CompletableFuture<T> traced(Reconciliation reconciliation, String spanName, Supplier<CompletableFuture<T>> operation) {
+        if (!isEnabled()) {
+            return operation.get();
+        }
+
+        Span span = startSpan(reconciliation, spanName);
+        CompletableFuture<T> result;
+
+        try (Scope ignored = span.makeCurrent()) {
+            result = operation.get();
+        } catch (RuntimeException e) {
+            endSpan(span, e);
+            throw e;
+        }
+
+        result.whenComplete((r, error) -> endSpan(span, error));
+        return result;
+    }
+
+    /**
+     * Traces a blocking operation. The span is current while the operation runs.
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param spanName          Name of the span
+     * @param operation         Supplier running the operation
+     *
+     * @return  The result of the operation
+     *
+     * @param <T>   Type of the result
+     */
+    public static <T> T traceBlocking(Reconciliation reconciliation, String spanName, Supplier<T> operation) {
+        if (!isEnabled()) {
+            return operation.get();
+        }
+
+        Span span = startSpan(reconciliation, spanName);
+        T result;
+
+        try (Scope ignored = span.makeCurrent()) {
+            result = operation.get();
+        } catch (RuntimeException e) {
+            endSpan(span, e);
+            throw e;
+        }
+
+        endSpan(span, null);
+        return result;
+    }
+
+    private static SpanBuilder withAttributes(SpanBuilder builder, Reconciliation reconciliation) {
+        return builder.setAttribute(KIND, reconciliation.kind())
+                .setAttribute(NAMESPACE, reconciliation.namespace())
+                .setAttribute(NAME, reconciliation.name());
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class IgnorablePathsTest {
+    @Test
+    public void testExactPaths()   {
+        IgnorablePaths paths = IgnorablePaths.of("/metadata/uid", "/status");
+
+        assertThat(paths.matches(List.of("metadata", "uid")), is(true));
+        assertThat(paths.matches(List.of("status")), is(true));
+
+        assertThat(paths.matches(List.of("metadata")), is(false));
+        assertThat(paths.matches(List.of("metadata", "name")), is(false));
+        assertThat(paths.matches(List.of("status", "conditions")), is(false));
+        assertThat(paths.matches(List.of()), is(false));
+    }
+
+    @Test
+    public void testWildcardPaths()   {
+        IgnorablePaths paths = IgnorablePaths.of("/conditions/*/lastTransitionTime");
+
+        assertThat(paths.matches(List.of("conditions", "0", "lastTransitionTime")), is(true));
+        assertThat(paths.matches(List.of("conditions", "12", "lastTransitionTime")), is(true));
+
+        assertThat(paths.matches(List.of("conditions", "0")), is(false));
+        assertThat(paths.matches(List.of("conditions", "0", "type")), is(false));
+    }
+
+    @Test
+    public void testPrefixPaths()   {
+        IgnorablePaths paths = IgnorablePaths.of("/metadata/annotations/pv.kubernetes.io~1*", "/metadata/annotations/pv.kubernetes.io~1exact");
+
+        assertThat(paths.matches(List.of("metadata", "annotations", "pv.kubernetes.io/bind-completed")), is(true));
+        assertThat(paths.matches(List.of("metadata", "annotations", "pv.kubernetes.io/exact")), is(true));
+
+        assertThat(paths.matches(List.of("metadata", "annotations", "pv.kubernetes.io")), is(false));
+        assertThat(paths.matches(List.of("metadata", "annotations", "strimzi.io/bind-completed")), is(false));
+        assertThat(paths.matches(List.of("metadata", "annotations")), is(false));
+    }
+
+    @Test
+    public void testInvalidPath()   {
+        assertThrows(IllegalArgumentException.class, () -> IgnorablePaths.of("metadata/uid"));
+    }
+
+    @Test
+    public void testToPointer()   {
+        assertThat(IgnorablePaths.toPointer(List.of()), is(""));
+        assertThat(IgnorablePaths.toPointer(List.of("metadata", "annotations", "strimzi.io/my~annotation")), is("/metadata/annotations/strimzi.io~1my~0annotation"));
+    }
+}
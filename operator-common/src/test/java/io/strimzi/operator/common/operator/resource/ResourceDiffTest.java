@@ -0,0 +1,87 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.model.IgnorablePaths;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class ResourceDiffTest {
+    private static final ConfigMap CONFIG_MAP = new ConfigMapBuilder()
+            .withNewMetadata()
+                .withName("my-cm")
+                .withNamespace("my-namespace")
+                .withLabels(Map.of("app", "strimzi"))
+                .withAnnotations(Map.of("strimzi.io/my-annotation", "value"))
+            .endMetadata()
+            .withData(Map.of("key1", "value1", "key2", "value2"))
+            .build();
+
+    private static boolean isEmpty(ConfigMap current, ConfigMap desired, IgnorablePaths ignorablePaths)    {
+        return new ResourceDiff<>(Reconciliation.DUMMY_RECONCILIATION, "ConfigMap", "my-cm", current, desired, ignorablePaths).isEmpty();
+    }
+
+    @Test
+    public void testEqualResources()   {
+        assertThat(isEmpty(CONFIG_MAP, new ConfigMapBuilder(CONFIG_MAP).build(), ResourceDiff.DEFAULT_IGNORABLE_PATHS), is(true));
+        assertThat(isEmpty(null, null, ResourceDiff.DEFAULT_IGNORABLE_PATHS), is(true));
+    }
+
+    @Test
+    public void testMissingResource()   {
+        assertThat(isEmpty(null, CONFIG_MAP, ResourceDiff.DEFAULT_IGNORABLE_PATHS), is(false));
+        assertThat(isEmpty(CONFIG_MAP, null, ResourceDiff.DEFAULT_IGNORABLE_PATHS), is(false));
+    }
+
+    @Test
+    public void testChangedValues()   {
+        ConfigMap changedData = new ConfigMapBuilder(CONFIG_MAP).withData(Map.of("key1", "value1", "key2", "changed")).build();
+        assertThat(isEmpty(CONFIG_MAP, changedData, ResourceDiff.DEFAULT_IGNORABLE_PATHS), is(false));
+
+        ConfigMap addedData = new ConfigMapBuilder(CONFIG_MAP).addToData("key3", "value3").build();
+        assertThat(isEmpty(CONFIG_MAP, addedData, ResourceDiff.DEFAULT_IGNORABLE_PATHS), is(false));
+
+        ConfigMap removedData = new ConfigMapBuilder(CONFIG_MAP).withData(Map.of("key1", "value1")).build();
+        assertThat(isEmpty(CONFIG_MAP, removedData, ResourceDiff.DEFAULT_IGNORABLE_PATHS), is(false));
+    }
+
+    @Test
+    public void testIgnoredPaths()   {
+        ConfigMap current = new ConfigMapBuilder(CONFIG_MAP)
+                .editMetadata()
+                    .withUid("1234")
+                    .withResourceVersion("5678")
+                    .withCreationTimestamp("2025-01-01T00:00:00Z")
+                    .addToAnnotations("pv.kubernetes.io/bind-completed", "yes")
+                .endMetadata()
+                .build();
+
+        ConfigMap desired = new ConfigMapBuilder(CONFIG_MAP)
+                .editMetadata()
+                    .addToAnnotations("pv.kubernetes.io/bind-completed", "no")
+                .endMetadata()
+                .build();
+
+        assertThat(isEmpty(current, desired, ResourceDiff.DEFAULT_IGNORABLE_PATHS), is(false));
+        assertThat(isEmpty(current, desired, IgnorablePaths.of("/metadata/uid", "/metadata/resourceVersion", "/metadata/creationTimestamp", "/metadata/annotations/pv.kubernetes.io~1*")), is(true));
+    }
+
+    @Test
+    public void testNestedChangesUnderIgnoredPathAreNotIgnored()   {
+        // The ignorable paths match only the exact path => changes nested under the ignored path are still detected
+        ConfigMap current = new ConfigMapBuilder(CONFIG_MAP).build();
+        ConfigMap desired = new ConfigMapBuilder(CONFIG_MAP).editMetadata().addToLabels("app", "changed").endMetadata().build();
+
+        assertThat(isEmpty(current, desired, IgnorablePaths.of("/metadata")), is(false));
+        assertThat(isEmpty(current, desired, IgnorablePaths.of("/metadata/labels/app")), is(true));
+    }
+}
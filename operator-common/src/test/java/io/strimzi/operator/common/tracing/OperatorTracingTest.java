@@ -0,0 +1,122 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.tracing;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import io.strimzi.operator.common.Reconciliation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+public class OperatorTracingTest {
+    private static final Reconciliation RECONCILIATION = new Reconciliation("test", "Kafka", "my-namespace", "my-cluster");
+
+    private InMemorySpanExporter exporter;
+
+    @BeforeEach
+    public void setup() {
+        exporter = InMemorySpanExporter.create();
+        OperatorTracing.initialize(OpenTelemetrySdk.builder()
+                .setTracerProvider(SdkTracerProvider.builder().addSpanProcessor(SimpleSpanProcessor.create(exporter)).build())
+                .build());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        OperatorTracing.disable();
+    }
+
+    private SpanData span(String name) {
+        return exporter.getFinishedSpanItems().stream()
+                .filter(span -> name.equals(span.getName()))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    @Test
+    public void testSpansUseReconciliationSpanAsParent() {
+        OperatorTracing.startReconciliation(RECONCILIATION);
+        OperatorTracing.endSpan(OperatorTracing.startSpan(RECONCILIATION, "child"), null);
+        OperatorTracing.endReconciliation(RECONCILIATION, null);
+
+        SpanData reconciliation = span("reconcile Kafka");
+        SpanData child = span("child");
+
+        assertThat(reconciliation.getParentSpanContext().isValid(), is(false));
+        assertThat(child.getTraceId(), is(reconciliation.getTraceId()));
+        assertThat(child.getParentSpanId(), is(reconciliation.getSpanId()));
+
+        for (SpanData span : List.of(reconciliation, child)) {
+            assertThat(span.getAttributes().get(OperatorTracing.KIND), is("Kafka"));
+            assertThat(span.getAttributes().get(OperatorTracing.NAMESPACE), is("my-namespace"));
+            assertThat(span.getAttributes().get(OperatorTracing.NAME), is("my-cluster"));
+        }
+    }
+
+    @Test
+    public void testCurrentSpanIsPreferredAsParent() {
+        OperatorTracing.startReconciliation(RECONCILIATION);
+
+        Span step = OperatorTracing.startSpan(RECONCILIATION, "step");
+        try (Scope ignored = step.makeCurrent()) {
+            OperatorTracing.endSpan(OperatorTracing.startSpan(RECONCILIATION, "call"), null);
+        }
+        OperatorTracing.endSpan(step, null);
+        OperatorTracing.endReconciliation(RECONCILIATION, null);
+
+        assertThat(span("step").getParentSpanId(), is(span("reconcile Kafka").getSpanId()));
+        assertThat(span("call").getParentSpanId(), is(span("step").getSpanId()));
+    }
+
+    @Test
+    public void testTracedFuture() {
+        OperatorTracing.startReconciliation(RECONCILIATION);
+
+        CompletableFuture<String> future = new CompletableFuture<>();
+        CompletableFuture<String> result = OperatorTracing.traced(RECONCILIATION, "call", () -> future);
+
+        assertThat(result == future, is(true));
+        assertThat(exporter.getFinishedSpanItems(), hasSize(0));
+
+        future.completeExceptionally(new RuntimeException("Failed"));
+        OperatorTracing.endReconciliation(RECONCILIATION, new RuntimeException("Failed"));
+
+        SpanData call = span("call");
+        assertThat(call.getStatus().getStatusCode(), is(StatusCode.ERROR));
+        assertThat(call.getStatus().getDescription(), is("Failed"));
+        assertThat(call.getEvents().get(0).getName(), is("exception"));
+        assertThat(call.getParentSpanId(), is(span("reconcile Kafka").getSpanId()));
+        assertThat(span("reconcile Kafka").getStatus().getStatusCode(), is(StatusCode.ERROR));
+    }
+
+    @Test
+    public void testDisabled() {
+        OperatorTracing.disable();
+
+        assertThat(OperatorTracing.isEnabled(), is(false));
+
+        OperatorTracing.startReconciliation(RECONCILIATION);
+        Span span = OperatorTracing.startSpan(RECONCILIATION, "child");
+        assertThat(span.getSpanContext().isValid(), is(false));
+        OperatorTracing.endSpan(span, null);
+        OperatorTracing.endReconciliation(RECONCILIATION, null);
+
+        assertThat(exporter.getFinishedSpanItems(), hasSize(0));
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.api.kafka.model.connect.KafkaConnect;
+import io.strimzi.api.kafka.model.connect.KafkaConnectList;
+import io.strimzi.api.kafka.model.kafka.Kafka;
+import io.strimzi.api.kafka.model.kafka.KafkaList;
+import io.strimzi.api.kafka.model.mirrormaker2.KafkaMirrorMaker2;
+import io.strimzi.api.kafka.model.mirrormaker2.KafkaMirrorMaker2List;
+import io.strimzi.operator.cluster.operator.resource.kubernetes.CrdOperator;
+import io.strimzi.operator.cluster.operator.resource.kubernetes.PodOperator;
+import io.strimzi.operator.cluster.operator.resource.kubernetes.StrimziPodSetOperator;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.common.model.Labels;
+import io.strimzi.scale.OperatorUnderTest;
+import io.vertx.core.Vertx;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the StrimziPodSet controller of the Cluster Operator with the Kubernetes client provided by the scale benchmark.
+ * The class lives in the Cluster Operator package to be able to wait until the informers of the controller are synced.
+ */
+public class PodSetControllerRunner implements OperatorUnderTest {
+    private final Vertx vertx;
+    private final StrimziPodSetController controller;
+
+    private boolean started = false;
+
+    /**
+     * Constructs the StrimziPodSet controller runner
+     *
+     * @param client        Kubernetes client
+     * @param namespace     Namespace watched by the controller
+     * @param queueSize     Size of the work queue. It should be big enough for all StrimziPodSets used by the benchmark.
+     */
+    public PodSetControllerRunner(KubernetesClient client, String namespace, int queueSize) {
+        this.vertx = Vertx.vertx();
+        this.controller = new StrimziPodSetController(
+                namespace,
+                Labels.EMPTY,
+                new CrdOperator<>(vertx, client, Kafka.class, KafkaList.class, Kafka.RESOURCE_KIND),
+                new CrdOperator<>(vertx, client, KafkaConnect.class, KafkaConnectList.class, KafkaConnect.RESOURCE_KIND),
+                new CrdOperator<>(vertx, client, KafkaMirrorMaker2.class, KafkaMirrorMaker2List.class, KafkaMirrorMaker2.RESOURCE_KIND),
+                new StrimziPodSetOperator(vertx, client),
+                new PodOperator(vertx, client),
+                new MicrometerMetricsProvider(new SimpleMeterRegistry()),
+                queueSize
+        );
+    }
+
+    @Override
+    public synchronized void start() throws InterruptedException {
+        controller.start();
+        started = true;
+
+        while (!controller.isSynced()) {
+            TimeUnit.MILLISECONDS.sleep(100);
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (started) {
+            controller.stop();
+            started = false;
+        }
+
+        vertx.close();
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.BasicItemStore;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.api.kafka.Crds;
+import io.strimzi.api.kafka.model.topic.KafkaTopic;
+import io.strimzi.operator.common.model.Labels;
+import io.strimzi.operator.topic.cruisecontrol.CruiseControlClient;
+import io.strimzi.operator.topic.cruisecontrol.CruiseControlHandler;
+import io.strimzi.operator.topic.metrics.TopicOperatorMetricsHolder;
+import io.strimzi.operator.topic.metrics.TopicOperatorMetricsProvider;
+import io.strimzi.scale.OperatorUnderTest;
+import org.apache.kafka.clients.admin.Admin;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Runs the Topic Operator with the Kubernetes client and Kafka Admin client provided by the scale benchmark. It wires
+ * the same components as {@link TopicOperatorMain}, but without the health and metrics server and without the shutdown
+ * hook. The class lives in the Topic Operator package because the constructors of the components are package-private.
+ */
+public class TopicOperatorRunner implements OperatorUnderTest {
+    private static final long INFORMER_RESYNC_CHECK_PERIOD_MS = 30_000;
+
+    private final TopicOperatorConfig config;
+    private final KubernetesClient client;
+    private final CruiseControlClient cruiseControlClient;
+    private final BatchingLoop queue;
+    private final BasicItemStore<KafkaTopic> itemStore;
+    private final TopicEventHandler eventHandler;
+
+    private SharedIndexInformer<KafkaTopic> informer;
+
+    /**
+     * Constructs the Topic Operator runner
+     *
+     * @param client        Kubernetes client
+     * @param admin         Kafka Admin client
+     * @param namespace     Namespace watched by the operator
+     * @param labels        Labels of the KafkaTopic resources managed by the operator
+     * @param queueSize     Size of the event queue. It should be big enough for all topics used by the benchmark.
+     */
+    public TopicOperatorRunner(KubernetesClient client, Admin admin, String namespace, Map<String, String> labels, int queueSize) {
+        Map<String, String> env = new HashMap<>();
+        env.put(TopicOperatorConfig.NAMESPACE.key(), namespace);
+        env.put(TopicOperatorConfig.RESOURCE_LABELS.key(), Labels.fromMap(labels).toSelectorString());
+        env.put(TopicOperatorConfig.BOOTSTRAP_SERVERS.key(), "in-memory:9092");
+        env.put(TopicOperatorConfig.MAX_QUEUE_SIZE.key(), String.valueOf(queueSize));
+
+        this.config = TopicOperatorConfig.buildFromMap(env);
+        this.client = client;
+        this.cruiseControlClient = TopicOperatorUtil.createCruiseControlClient(config);
+
+        var metricsHolder = new TopicOperatorMetricsHolder(KafkaTopic.RESOURCE_KIND, Labels.fromMap(labels), new TopicOperatorMetricsProvider(new SimpleMeterRegistry()));
+        var kubeHandler = new KubernetesHandler(config, metricsHolder, client);
+        var kafkaHandler = new KafkaHandler(config, metricsHolder, admin);
+        var cruiseControlHandler = new CruiseControlHandler(config, metricsHolder, cruiseControlClient);
+        var controller = new BatchingTopicController(config, labels, kubeHandler, kafkaHandler, metricsHolder, cruiseControlHandler);
+
+        this.itemStore = new BasicItemStore<>(Cache::metaNamespaceKeyFunc);
+        this.queue = new BatchingLoop(config, controller, 1, itemStore, this::close, metricsHolder);
+        this.eventHandler = new TopicEventHandler(config, queue, metricsHolder);
+    }
+
+    @Override
+    public synchronized void start() {
+        queue.start();
+        informer = Crds.topicOperation(client)
+                .inNamespace(config.namespace())
+                .runnableInformer(INFORMER_RESYNC_CHECK_PERIOD_MS)
+                .addEventHandlerWithResyncPeriod(eventHandler, config.fullReconciliationIntervalMs())
+                .itemStore(itemStore);
+        informer.run();
+    }
+
+    @Override
+    public synchronized void close() {
+        if (informer != null) {
+            informer.stop();
+            informer = null;
+
+            try {
+                queue.stop();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            cruiseControlClient.close();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.api.kafka.model.user.KafkaUser;
+import io.strimzi.api.kafka.model.user.KafkaUserList;
+import io.strimzi.certs.OpenSslCertManager;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.common.model.Labels;
+import io.strimzi.operator.common.operator.resource.concurrent.CrdOperator;
+import io.strimzi.operator.common.operator.resource.concurrent.SecretOperator;
+import io.strimzi.operator.user.operator.KafkaUserOperator;
+import io.strimzi.operator.user.operator.QuotasOperator;
+import io.strimzi.operator.user.operator.ScramCredentialsOperator;
+import io.strimzi.operator.user.operator.SimpleAclOperator;
+import io.strimzi.scale.OperatorUnderTest;
+import org.apache.kafka.clients.admin.Admin;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Runs the User Operator with the Kubernetes client and Kafka Admin client provided by the scale benchmark. It wires
+ * the same components as {@link Main}, but without the health and metrics server and without the shutdown hook. The
+ * class lives in the User Operator package because the controller is started and stopped through protected methods.
+ */
+public class UserOperatorRunner implements OperatorUnderTest {
+    private final ExecutorService executor;
+    private final KafkaUserOperator kafkaUserOperator;
+    private final UserController controller;
+
+    private boolean started = false;
+
+    /**
+     * Constructs the User Operator runner
+     *
+     * @param client        Kubernetes client
+     * @param admin         Kafka Admin client
+     * @param namespace     Namespace watched by the operator
+     * @param labels        Labels of the KafkaUser resources managed by the operator
+     * @param queueSize     Size of the work queue. It should be big enough for all users used by the benchmark.
+     */
+    public UserOperatorRunner(KubernetesClient client, Admin admin, String namespace, Map<String, String> labels, int queueSize) {
+        Map<String, String> env = new HashMap<>();
+        env.put(UserOperatorConfig.NAMESPACE.key(), namespace);
+        env.put(UserOperatorConfig.LABELS.key(), Labels.fromMap(labels).toSelectorString());
+        env.put(UserOperatorConfig.CA_CERT_SECRET_NAME.key(), "my-cluster-clients-ca-cert");
+        env.put(UserOperatorConfig.CA_KEY_SECRET_NAME.key(), "my-cluster-clients-ca");
+        env.put(UserOperatorConfig.WORK_QUEUE_SIZE.key(), String.valueOf(queueSize));
+        env.put(UserOperatorConfig.BATCH_QUEUE_SIZE.key(), String.valueOf(queueSize));
+
+        UserOperatorConfig config = UserOperatorConfig.buildFromMap(env);
+
+        this.executor = Executors.newFixedThreadPool(config.getUserOperationsThreadPoolSize(), r -> new Thread(r, "operator-thread-pool"));
+        SecretOperator secretOperator = new SecretOperator(executor, client);
+        var kafkaUserCrdOperator = new CrdOperator<>(executor, client, KafkaUser.class, KafkaUserList.class, "KafkaUser");
+
+        this.kafkaUserOperator = new KafkaUserOperator(
+                config,
+                new OpenSslCertManager(),
+                secretOperator,
+                kafkaUserCrdOperator,
+                new ScramCredentialsOperator(admin, config, executor),
+                new QuotasOperator(admin, config, executor),
+                new SimpleAclOperator(admin, config, executor)
+        );
+
+        this.controller = new UserController(config, secretOperator, kafkaUserCrdOperator, kafkaUserOperator, new MicrometerMetricsProvider(new SimpleMeterRegistry()));
+    }
+
+    @Override
+    public synchronized void start() {
+        kafkaUserOperator.start();
+        controller.start();
+        started = true;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (started) {
+            controller.stop();
+            kafkaUserOperator.stop();
+            executor.shutdownNow();
+            started = false;
+        }
+    }
+}
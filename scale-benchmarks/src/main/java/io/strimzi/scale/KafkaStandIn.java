@@ -0,0 +1,227 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.scale;
+
+import org.apache.kafka.clients.admin.AlterClientQuotasOptions;
+import org.apache.kafka.clients.admin.AlterClientQuotasResult;
+import org.apache.kafka.clients.admin.AlterConfigOp;
+import org.apache.kafka.clients.admin.AlterUserScramCredentialsOptions;
+import org.apache.kafka.clients.admin.AlterUserScramCredentialsResult;
+import org.apache.kafka.clients.admin.ConfigEntry;
+import org.apache.kafka.clients.admin.CreateAclsOptions;
+import org.apache.kafka.clients.admin.CreateAclsResult;
+import org.apache.kafka.clients.admin.DeleteAclsOptions;
+import org.apache.kafka.clients.admin.DeleteAclsResult;
+import org.apache.kafka.clients.admin.DescribeAclsOptions;
+import org.apache.kafka.clients.admin.DescribeAclsResult;
+import org.apache.kafka.clients.admin.DescribeClientQuotasOptions;
+import org.apache.kafka.clients.admin.DescribeClientQuotasResult;
+import org.apache.kafka.clients.admin.DescribeUserScramCredentialsOptions;
+import org.apache.kafka.clients.admin.DescribeUserScramCredentialsResult;
+import org.apache.kafka.clients.admin.MockAdminClient;
+import org.apache.kafka.clients.admin.ScramMechanism;
+import org.apache.kafka.clients.admin.UserScramCredentialAlteration;
+import org.apache.kafka.clients.admin.UserScramCredentialDeletion;
+import org.apache.kafka.clients.admin.UserScramCredentialUpsertion;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.acl.AclBinding;
+import org.apache.kafka.common.acl.AclBindingFilter;
+import org.apache.kafka.common.config.ConfigResource;
+import org.apache.kafka.common.quota.ClientQuotaAlteration;
+import org.apache.kafka.common.quota.ClientQuotaEntity;
+import org.apache.kafka.common.quota.ClientQuotaFilter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * In-memory stand-in for the Kafka cluster used by the scale benchmarks. The topics, configurations and the cluster
+ * metadata are handled by the {@link MockAdminClient} from the Kafka clients test JAR. The SCRAM-SHA credentials, ACLs
+ * and quotas used by the User Operator are not implemented by the MockAdminClient, so they are kept in memory by this
+ * class. Their results are mocked in the same way as in the User Operator tests, because their constructors are not
+ * public. Only the parts of the results used by the User Operator are mocked.
+ */
+public class KafkaStandIn extends MockAdminClient {
+    private final Map<String, Map<ScramMechanism, Integer>> scramCredentials = new HashMap<>();
+    private final Set<AclBinding> acls = new LinkedHashSet<>();
+    private final Map<ClientQuotaEntity, Map<String, Double>> quotas = new HashMap<>();
+
+    /**
+     * Constructs the Kafka stand-in
+     *
+     * @param brokers   Number of brokers in the simulated cluster
+     */
+    public KafkaStandIn(int brokers) {
+        this(nodes(brokers));
+    }
+
+    private KafkaStandIn(List<Node> nodes) {
+        super(nodes, nodes.get(0));
+
+        // The Topic Operator reads these broker configurations
+        int replicas = Math.min(3, nodes.size());
+        Map<ConfigResource, Collection<AlterConfigOp>> brokerConfigs = new HashMap<>(nodes.size());
+
+        for (Node node : nodes) {
+            brokerConfigs.put(new ConfigResource(ConfigResource.Type.BROKER, node.idString()), List.of(
+                    new AlterConfigOp(new ConfigEntry("auto.create.topics.enable", "false"), AlterConfigOp.OpType.SET),
+                    new AlterConfigOp(new ConfigEntry("default.replication.factor", String.valueOf(replicas)), AlterConfigOp.OpType.SET),
+                    new AlterConfigOp(new ConfigEntry("min.insync.replicas", String.valueOf(Math.max(1, replicas - 1))), AlterConfigOp.OpType.SET)));
+        }
+
+        try {
+            incrementalAlterConfigs(brokerConfigs).all().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while configuring the brokers", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Failed to configure the brokers", e.getCause());
+        }
+    }
+
+    private static List<Node> nodes(int brokers) {
+        List<Node> nodes = new ArrayList<>(brokers);
+
+        for (int i = 0; i < brokers; i++) {
+            nodes.add(new Node(i, "broker-" + i, 9092));
+        }
+
+        return nodes;
+    }
+
+    private static <T> T mockResult(Class<T> type) {
+        // The results are not verified, so the invocations do not need to be recorded
+        return mock(type, withSettings().stubOnly());
+    }
+
+    private static <K> Map<K, KafkaFuture<Void>> completedFutures(Collection<K> keys) {
+        return keys.stream().distinct().collect(Collectors.toMap(Function.identity(), key -> KafkaFuture.completedFuture(null)));
+    }
+
+    ////////////////////
+    // SCRAM-SHA credentials
+    ////////////////////
+
+    @Override
+    public synchronized DescribeUserScramCredentialsResult describeUserScramCredentials(List<String> users, DescribeUserScramCredentialsOptions options) {
+        DescribeUserScramCredentialsResult result = mockResult(DescribeUserScramCredentialsResult.class);
+        when(result.users()).thenReturn(KafkaFuture.completedFuture(List.copyOf(scramCredentials.keySet())));
+
+        return result;
+    }
+
+    @Override
+    public synchronized AlterUserScramCredentialsResult alterUserScramCredentials(List<UserScramCredentialAlteration> alterations, AlterUserScramCredentialsOptions options) {
+        for (UserScramCredentialAlteration alteration : alterations) {
+            if (alteration instanceof UserScramCredentialUpsertion upsertion) {
+                scramCredentials.computeIfAbsent(upsertion.user(), user -> new HashMap<>())
+                        .put(upsertion.credentialInfo().mechanism(), upsertion.credentialInfo().iterations());
+            } else if (alteration instanceof UserScramCredentialDeletion deletion) {
+                Map<ScramMechanism, Integer> credentials = scramCredentials.get(deletion.user());
+
+                if (credentials != null) {
+                    credentials.remove(deletion.mechanism());
+
+                    if (credentials.isEmpty()) {
+                        scramCredentials.remove(deletion.user());
+                    }
+                }
+            }
+        }
+
+        AlterUserScramCredentialsResult result = mockResult(AlterUserScramCredentialsResult.class);
+        when(result.all()).thenReturn(KafkaFuture.completedFuture(null));
+        when(result.values()).thenReturn(completedFutures(alterations.stream().map(UserScramCredentialAlteration::user).toList()));
+
+        return result;
+    }
+
+    ////////////////////
+    // ACLs
+    ////////////////////
+
+    @Override
+    public synchronized DescribeAclsResult describeAcls(AclBindingFilter filter, DescribeAclsOptions options) {
+        DescribeAclsResult result = mockResult(DescribeAclsResult.class);
+        when(result.values()).thenReturn(KafkaFuture.completedFuture(acls.stream().filter(filter::matches).toList()));
+
+        return result;
+    }
+
+    @Override
+    public synchronized CreateAclsResult createAcls(Collection<AclBinding> bindings, CreateAclsOptions options) {
+        acls.addAll(bindings);
+
+        CreateAclsResult result = mockResult(CreateAclsResult.class);
+        when(result.all()).thenReturn(KafkaFuture.completedFuture(null));
+        when(result.values()).thenReturn(completedFutures(bindings));
+
+        return result;
+    }
+
+    @Override
+    public synchronized DeleteAclsResult deleteAcls(Collection<AclBindingFilter> filters, DeleteAclsOptions options) {
+        acls.removeIf(binding -> filters.stream().anyMatch(filter -> filter.matches(binding)));
+
+        // The deleted bindings are not reported, because the filter results cannot be created outside of Kafka
+        DeleteAclsResult result = mockResult(DeleteAclsResult.class);
+        when(result.all()).thenReturn(KafkaFuture.completedFuture(null));
+        when(result.values()).thenReturn(filters.stream().distinct().collect(Collectors.toMap(Function.identity(), filter -> KafkaFuture.<DeleteAclsResult.FilterResults>completedFuture(null))));
+
+        return result;
+    }
+
+    ////////////////////
+    // Quotas
+    ////////////////////
+
+    @Override
+    public synchronized DescribeClientQuotasResult describeClientQuotas(ClientQuotaFilter filter, DescribeClientQuotasOptions options) {
+        // The User Operator describes always all quotas, so the filter is ignored
+        DescribeClientQuotasResult result = mockResult(DescribeClientQuotasResult.class);
+        when(result.entities()).thenReturn(KafkaFuture.completedFuture(quotas.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> Map.copyOf(entry.getValue())))));
+
+        return result;
+    }
+
+    @Override
+    public synchronized AlterClientQuotasResult alterClientQuotas(Collection<ClientQuotaAlteration> entries, AlterClientQuotasOptions options) {
+        for (ClientQuotaAlteration entry : entries) {
+            Map<String, Double> entityQuotas = quotas.computeIfAbsent(entry.entity(), entity -> new HashMap<>());
+
+            for (ClientQuotaAlteration.Op op : entry.ops()) {
+                if (op.value() != null) {
+                    entityQuotas.put(op.key(), op.value());
+                } else {
+                    entityQuotas.remove(op.key());
+                }
+            }
+
+            if (entityQuotas.isEmpty()) {
+                quotas.remove(entry.entity());
+            }
+        }
+
+        AlterClientQuotasResult result = mockResult(AlterClientQuotasResult.class);
+        when(result.all()).thenReturn(KafkaFuture.completedFuture(null));
+        when(result.values()).thenReturn(completedFutures(entries.stream().map(ClientQuotaAlteration::entity).toList()));
+
+        return result;
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.scale;
+
+import io.fabric8.kubernetes.api.model.NamespaceBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.KubernetesCrudDispatcher;
+import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
+import io.fabric8.mockwebserver.Context;
+import io.fabric8.mockwebserver.MockWebServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * In-process stand-in for the Kubernetes API server. It uses the Fabric8 mock server in CRUD mode which stores the
+ * resources in memory and supports the list, watch, patch and status subresource operations used by the operators.
+ * It does not run any Kubernetes controllers, so for example no garbage collection happens and no Pods become ready.
+ */
+public class KubernetesStandIn implements AutoCloseable {
+    /**
+     * CRDs installed into the stand-in. They are copied from the installation files when building the module.
+     */
+    private static final List<String> CRDS = List.of(
+            "040-Crd-kafka.yaml",
+            "041-Crd-kafkaconnect.yaml",
+            "042-Crd-strimzipodset.yaml",
+            "043-Crd-kafkatopic.yaml",
+            "044-Crd-kafkauser.yaml",
+            "048-Crd-kafkamirrormaker2.yaml"
+    );
+
+    private final KubernetesMockServer server;
+    private final KubernetesClient client;
+
+    /**
+     * Starts the Kubernetes stand-in, installs the Strimzi CRDs and creates the namespace
+     *
+     * @param namespace     Namespace used by the benchmark
+     */
+    public KubernetesStandIn(String namespace) {
+        this.server = new KubernetesMockServer(new Context(), new MockWebServer(), new HashMap<>(), new KubernetesCrudDispatcher(), false);
+        this.server.init();
+        this.client = server.createClient();
+
+        for (String crd : CRDS) {
+            try (InputStream stream = KubernetesStandIn.class.getResourceAsStream("/crds/" + crd)) {
+                if (stream == null) {
+                    throw new IllegalStateException("CRD " + crd + " was not found on the classpath");
+                }
+
+                client.apiextensions().v1().customResourceDefinitions().load(stream).create();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to install CRD " + crd, e);
+            }
+        }
+
+        client.namespaces().resource(new NamespaceBuilder().withNewMetadata().withName(namespace).endMetadata().build()).create();
+    }
+
+    /**
+     * @return  Kubernetes client connected to the stand-in
+     */
+    public KubernetesClient client() {
+        return client;
+    }
+
+    @Override
+    public void close() {
+        client.close();
+        server.destroy();
+    }
+}
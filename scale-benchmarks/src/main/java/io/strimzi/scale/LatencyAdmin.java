@@ -0,0 +1,53 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.scale;
+
+import org.apache.kafka.clients.admin.Admin;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+/**
+ * Delegating Kafka Admin client which adds a latency to every request. It is a dynamic proxy, so that it does not
+ * have to implement every method of the Admin API. The requests are delayed before they are passed to the delegate.
+ * So unlike with a real Admin client, the latency blocks the thread which sends the request.
+ */
+public class LatencyAdmin implements InvocationHandler {
+    private final Admin delegate;
+    private final long latencyMs;
+
+    private LatencyAdmin(Admin delegate, long latencyMs) {
+        this.delegate = delegate;
+        this.latencyMs = latencyMs;
+    }
+
+    /**
+     * Creates the Admin client with latency
+     *
+     * @param delegate      Admin client which handles the requests
+     * @param latencyMs     Latency of every request in milliseconds
+     *
+     * @return  Admin client which delays every request by the latency
+     */
+    public static Admin create(Admin delegate, long latencyMs) {
+        return (Admin) Proxy.newProxyInstance(Admin.class.getClassLoader(), new Class<?>[] {Admin.class}, new LatencyAdmin(delegate, latencyMs));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        // Only the requests return results. Methods such as close() or metrics() are not delayed.
+        if (latencyMs > 0 && method.getReturnType().getSimpleName().endsWith("Result")) {
+            Thread.sleep(latencyMs);
+        }
+
+        try {
+            return method.invoke(delegate, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.scale;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records the latency between the creation of a custom resource and the moment when it was observed as reconciled.
+ * Only the first reconciliation of each resource is recorded.
+ */
+public class LatencyRecorder {
+    private final Map<String, Long> created = new ConcurrentHashMap<>();
+    private final long[] latencies;
+    private final CountDownLatch remaining;
+
+    private int count = 0; // guarded by this
+
+    /**
+     * Constructs the latency recorder
+     *
+     * @param resources     Number of resources which will be recorded
+     */
+    public LatencyRecorder(int resources) {
+        this.latencies = new long[resources];
+        this.remaining = new CountDownLatch(resources);
+    }
+
+    /**
+     * Records that the creation of the resource is about to be requested
+     *
+     * @param name  Name of the resource
+     */
+    public void created(String name) {
+        created.put(name, System.nanoTime());
+    }
+
+    /**
+     * Records that the resource was observed as reconciled. Resources which were already recorded or which were not
+     * created by the benchmark are ignored.
+     *
+     * @param name  Name of the resource
+     */
+    public void reconciled(String name) {
+        Long createdAt = created.remove(name);
+
+        if (createdAt != null) {
+            long latency = System.nanoTime() - createdAt;
+
+            synchronized (this) {
+                latencies[count++] = latency;
+            }
+
+            remaining.countDown();
+        }
+    }
+
+    /**
+     * Waits until all resources are reconciled
+     *
+     * @param timeoutMs     Timeout in milliseconds
+     *
+     * @return  True if all resources were reconciled. False if the timeout elapsed.
+     *
+     * @throws InterruptedException     When interrupted while waiting
+     */
+    public boolean await(long timeoutMs) throws InterruptedException {
+        return remaining.await(timeoutMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @return  Number of resources recorded as reconciled
+     */
+    public synchronized int completed() {
+        return count;
+    }
+
+    /**
+     * Calculates the latency percentiles of the recorded reconciliations
+     *
+     * @return  Latency percentiles in milliseconds
+     */
+    public synchronized ScaleBenchmarkResult.Latency latency() {
+        if (count == 0) {
+            return new ScaleBenchmarkResult.Latency(0, 0, 0, 0, 0, 0);
+        }
+
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+
+        return new ScaleBenchmarkResult.Latency(
+                toMs((long) Arrays.stream(sorted).average().orElse(0)),
+                toMs(percentile(sorted, 50.0)),
+                toMs(percentile(sorted, 90.0)),
+                toMs(percentile(sorted, 99.0)),
+                toMs(percentile(sorted, 99.9)),
+                toMs(sorted[sorted.length - 1])
+        );
+    }
+
+    /**
+     * Gets the percentile from sorted values using the nearest-rank method
+     *
+     * @param sorted        Sorted values
+     * @param percentile    Percentile
+     *
+     * @return  Value of the percentile
+     */
+    private static long percentile(long[] sorted, double percentile) {
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length, rank) - 1)];
+    }
+
+    private static double toMs(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
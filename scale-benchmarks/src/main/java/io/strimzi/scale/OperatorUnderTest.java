@@ -0,0 +1,17 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.scale;
+
+/**
+ * Operator (or controller) run in-process by the scale benchmark against the Kubernetes and Kafka stand-ins
+ */
+public interface OperatorUnderTest extends AutoCloseable {
+    /**
+     * Starts the operator. When this method returns, the operator is watching its resources.
+     *
+     * @throws Exception    When the operator fails to start
+     */
+    void start() throws Exception;
+}
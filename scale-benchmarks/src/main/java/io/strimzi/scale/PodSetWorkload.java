@@ -0,0 +1,132 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.scale;
+
+import io.fabric8.kubernetes.api.model.ContainerBuilder;
+import io.fabric8.kubernetes.api.model.KubernetesResourceList;
+import io.fabric8.kubernetes.api.model.LabelSelector;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.dsl.MixedOperation;
+import io.fabric8.kubernetes.client.dsl.Resource;
+import io.strimzi.api.kafka.Crds;
+import io.strimzi.api.kafka.model.kafka.KafkaBuilder;
+import io.strimzi.api.kafka.model.kafka.listener.GenericKafkaListenerBuilder;
+import io.strimzi.api.kafka.model.kafka.listener.KafkaListenerType;
+import io.strimzi.api.kafka.model.podset.StrimziPodSet;
+import io.strimzi.api.kafka.model.podset.StrimziPodSetBuilder;
+import io.strimzi.operator.cluster.model.PodRevision;
+import io.strimzi.operator.cluster.model.PodSetUtils;
+import io.strimzi.operator.cluster.operator.assembly.PodSetControllerRunner;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.model.Labels;
+import org.apache.kafka.clients.admin.Admin;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Workload with StrimziPodSet resources reconciled by the StrimziPodSet controller of the Cluster Operator. All
+ * StrimziPodSets belong to a single Kafka cluster. The Kubernetes stand-in does not run any Pods, so the StrimziPodSet
+ * is considered reconciled once the controller created its Pods and updated its status for the current generation.
+ */
+public class PodSetWorkload implements Workload<StrimziPodSet> {
+    private static final String CLUSTER_NAME = "my-cluster";
+    private static final int PODS_PER_POD_SET = 3;
+
+    @Override
+    public String name() {
+        return "podsets";
+    }
+
+    @Override
+    public MixedOperation<StrimziPodSet, ? extends KubernetesResourceList<StrimziPodSet>, Resource<StrimziPodSet>> operation(KubernetesClient client) {
+        return Crds.strimziPodSetOperation(client);
+    }
+
+    @Override
+    public void prepare(KubernetesClient client, String namespace) {
+        // The controller reconciles only the StrimziPodSets which belong to an existing custom resource
+        Crds.kafkaOperation(client).resource(new KafkaBuilder()
+                    .withNewMetadata()
+                        .withName(CLUSTER_NAME)
+                        .withNamespace(namespace)
+                    .endMetadata()
+                    .withNewSpec()
+                        .withNewKafka()
+                            .withListeners(new GenericKafkaListenerBuilder()
+                                    .withName("plain")
+                                    .withPort(9092)
+                                    .withType(KafkaListenerType.INTERNAL)
+                                    .withTls(false)
+                                    .build())
+                        .endKafka()
+                    .endSpec()
+                    .build())
+                .create();
+    }
+
+    @Override
+    public OperatorUnderTest operator(KubernetesClient client, Admin admin, String namespace, int resources) {
+        return new PodSetControllerRunner(client, namespace, Math.max(1_024, resources * 2));
+    }
+
+    @Override
+    public StrimziPodSet resource(String namespace, int index) {
+        String name = String.format("%s-pool-%06d", CLUSTER_NAME, index);
+        Map<String, String> selector = Map.of(Labels.STRIMZI_KIND_LABEL, "Kafka", Labels.STRIMZI_CLUSTER_LABEL, CLUSTER_NAME, Labels.STRIMZI_NAME_LABEL, name);
+
+        List<Pod> pods = new ArrayList<>(PODS_PER_POD_SET);
+        for (int i = 0; i < PODS_PER_POD_SET; i++) {
+            pods.add(pod(namespace, name + "-" + i, name));
+        }
+
+        return new StrimziPodSetBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                    .withNamespace(namespace)
+                    .withLabels(selector)
+                .endMetadata()
+                .withNewSpec()
+                    .withSelector(new LabelSelector(null, selector))
+                    .withPods(PodSetUtils.podsToMaps(pods))
+                .endSpec()
+                .build();
+    }
+
+    private static Pod pod(String namespace, String name, String podSetName) {
+        Pod pod = new PodBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                    .withNamespace(namespace)
+                    .withLabels(Map.of(Labels.STRIMZI_KIND_LABEL, "Kafka", Labels.STRIMZI_CLUSTER_LABEL, CLUSTER_NAME, Labels.STRIMZI_NAME_LABEL, podSetName, Labels.STRIMZI_CONTROLLER_LABEL, "strimzipodset"))
+                    .withAnnotations(new HashMap<>())
+                .endMetadata()
+                .withNewSpec()
+                    .withContainers(new ContainerBuilder()
+                            .withName("kafka")
+                            .withImage("quay.io/strimzi/kafka:latest")
+                            .build())
+                .endSpec()
+                .build();
+
+        pod.getMetadata().getAnnotations().put(PodRevision.STRIMZI_REVISION_ANNOTATION, PodRevision.getRevision(Reconciliation.DUMMY_RECONCILIATION, pod));
+
+        return pod;
+    }
+
+    @Override
+    public boolean isReconciled(StrimziPodSet resource) {
+        Long generation = resource.getMetadata().getGeneration();
+
+        return resource.getStatus() != null
+                && resource.getStatus().getObservedGeneration() > 0L
+                && (generation == null || resource.getStatus().getObservedGeneration() >= generation)
+                && resource.getStatus().getPods() == PODS_PER_POD_SET;
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.scale;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scale benchmark of the operators. It runs the Topic Operator, User Operator or the StrimziPodSet controller
+ * in-process against the Kubernetes and Kafka stand-ins, creates the configured number of
+ * custom resources and measures how long it takes until they are reconciled.
+ */
+public class ScaleBenchmark {
+    private static final Logger LOGGER = LogManager.getLogger(ScaleBenchmark.class);
+
+    private static final String NAMESPACE = "scale";
+
+    private ScaleBenchmark() { }
+
+    /**
+     * Runs the benchmark
+     *
+     * @param args  Command line arguments
+     *
+     * @throws Exception    When the benchmark fails
+     */
+    public static void main(String[] args) throws Exception {
+        ScaleBenchmarkConfig config;
+
+        try {
+            config = ScaleBenchmarkConfig.fromArgs(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(ScaleBenchmarkConfig.USAGE);
+            System.exit(1);
+            return;
+        }
+
+        ScaleBenchmarkResult result = switch (config.workload()) {
+            case "users" -> run(config, new UserWorkload());
+            case "podsets" -> run(config, new PodSetWorkload());
+            default -> run(config, new TopicWorkload());
+        };
+
+        if (config.output() != null) {
+            Files.writeString(Path.of(config.output()), result.toJson(), StandardCharsets.UTF_8);
+        } else {
+            System.out.println(result.toJson());
+        }
+
+        // Some threads of the operators are not daemon threads and would keep the JVM running
+        System.exit(result.timedOut() ? 2 : 0);
+    }
+
+    /**
+     * Runs the workload
+     *
+     * @param config    Benchmark configuration
+     * @param workload  Workload
+     *
+     * @return  Result of the benchmark
+     *
+     * @param <T>   Type of the custom resource used by the workload
+     *
+     * @throws Exception    When the benchmark fails
+     */
+    private static <T extends HasMetadata> ScaleBenchmarkResult run(ScaleBenchmarkConfig config, Workload<T> workload) throws Exception {
+        LOGGER.info("Running the {} workload with {} resources", workload.name(), config.resources());
+
+        try (KubernetesStandIn kube = new KubernetesStandIn(NAMESPACE);
+             KafkaStandIn kafka = new KafkaStandIn(config.brokers())) {
+            Admin admin = LatencyAdmin.create(kafka, config.kafkaLatencyMs());
+            workload.prepare(kube.client(), NAMESPACE);
+
+            LatencyRecorder recorder = new LatencyRecorder(config.resources());
+            SharedIndexInformer<T> informer = workload.operation(kube.client()).inNamespace(NAMESPACE).inform(new ResourceEventHandler<>() {
+                @Override
+                public void onAdd(T resource) {
+                    onChange(resource);
+                }
+
+                @Override
+                public void onUpdate(T oldResource, T newResource) {
+                    onChange(newResource);
+                }
+
+                @Override
+                public void onDelete(T resource, boolean deletedFinalStateUnknown) {
+                    // Do nothing
+                }
+
+                private void onChange(T resource) {
+                    if (workload.isReconciled(resource)) {
+                        recorder.reconciled(resource.getMetadata().getName());
+                    }
+                }
+            });
+
+            try (OperatorUnderTest operator = workload.operator(kube.client(), admin, NAMESPACE, config.resources())) {
+                operator.start();
+
+                long baselineHeap = heapAfterGc();
+                resetPeakHeap();
+
+                long start = System.nanoTime();
+                createResources(config, workload, kube, recorder);
+                boolean completed = recorder.await(TimeUnit.SECONDS.toMillis(config.timeoutSeconds()));
+                long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+                long peakHeap = peakHeap();
+                long usedHeap = heapAfterGc();
+
+                int reconciled = recorder.completed();
+                LOGGER.info("{} of {} resources were reconciled in {} ms", reconciled, config.resources(), durationMs);
+
+                return new ScaleBenchmarkResult(
+                        workload.name(),
+                        config.resources(),
+                        config.kafkaLatencyMs(),
+                        config.parallelism(),
+                        reconciled,
+                        !completed,
+                        durationMs,
+                        durationMs > 0 ? reconciled * 1_000.0 / durationMs : 0.0,
+                        recorder.latency(),
+                        new ScaleBenchmarkResult.Heap(baselineHeap, usedHeap, peakHeap)
+                );
+            } finally {
+                informer.stop();
+            }
+        }
+    }
+
+    /**
+     * Creates the custom resources in parallel
+     *
+     * @param config    Benchmark configuration
+     * @param workload  Workload
+     * @param kube      Kubernetes stand-in
+     * @param recorder  Latency recorder
+     *
+     * @param <T>   Type of the custom resource used by the workload
+     *
+     * @throws Exception    When creating the resources fails
+     */
+    private static <T extends HasMetadata> void createResources(ScaleBenchmarkConfig config, Workload<T> workload, KubernetesStandIn kube, LatencyRecorder recorder) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(config.parallelism());
+
+        try {
+            List<Future<?>> futures = new ArrayList<>(config.parallelism());
+
+            for (int thread = 0; thread < config.parallelism(); thread++) {
+                int first = thread;
+
+                futures.add(executor.submit(() -> {
+                    for (int index = first; index < config.resources(); index += config.parallelism()) {
+                        T resource = workload.resource(NAMESPACE, index);
+                        recorder.created(resource.getMetadata().getName());
+                        workload.operation(kube.client()).resource(resource).create();
+                    }
+                }));
+            }
+
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static List<MemoryPoolMXBean> heapPools() {
+        return ManagementFactory.getMemoryPoolMXBeans().stream().filter(pool -> pool.getType() == MemoryType.HEAP).toList();
+    }
+
+    private static long heapAfterGc() {
+        System.gc();
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    private static void resetPeakHeap() {
+        heapPools().forEach(MemoryPoolMXBean::resetPeakUsage);
+    }
+
+    private static long peakHeap() {
+        return heapPools().stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+    }
+}
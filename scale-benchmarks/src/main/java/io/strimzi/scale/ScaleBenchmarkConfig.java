@@ -0,0 +1,93 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.scale;
+
+import java.util.List;
+
+/**
+ * Configuration of the scale benchmark parsed from the command line
+ *
+ * @param workload          Workload which should be run (topics, users or podsets)
+ * @param resources         Number of custom resources created by the benchmark
+ * @param kafkaLatencyMs    Latency of every request to the in-memory Kafka Admin API in milliseconds
+ * @param brokers           Number of brokers in the in-memory Kafka cluster
+ * @param parallelism       Number of threads creating the custom resources
+ * @param timeoutSeconds    Timeout for reconciling all custom resources
+ * @param output            File where the JSON result should be written or null to write it to the standard output
+ */
+public record ScaleBenchmarkConfig(
+        String workload,
+        int resources,
+        long kafkaLatencyMs,
+        int brokers,
+        int parallelism,
+        long timeoutSeconds,
+        String output
+) {
+    /**
+     * Supported workloads
+     */
+    public static final List<String> WORKLOADS = List.of("topics", "users", "podsets");
+
+    /**
+     * Usage printed when the command line is not valid
+     */
+    public static final String USAGE = """
+            Usage: java -jar scale-benchmarks.jar [options]
+              --workload <topics|users|podsets>   Workload to run (default: topics)
+              --resources <n>                     Number of custom resources to create (default: 1000)
+              --kafka-latency-ms <ms>             Latency of the in-memory Kafka Admin API (default: 0)
+              --brokers <n>                       Number of brokers of the in-memory Kafka cluster (default: 3)
+              --parallelism <n>                   Number of threads creating the custom resources (default: 8)
+              --timeout-seconds <s>               Timeout for reconciling all resources (default: 600)
+              --output <file>                     File for the JSON result (default: standard output)
+            """;
+
+    /**
+     * Parses the configuration from the command line arguments
+     *
+     * @param args  Command line arguments
+     *
+     * @return  Scale benchmark configuration
+     */
+    public static ScaleBenchmarkConfig fromArgs(String[] args) {
+        String workload = "topics";
+        int resources = 1_000;
+        long kafkaLatencyMs = 0L;
+        int brokers = 3;
+        int parallelism = 8;
+        long timeoutSeconds = 600L;
+        String output = null;
+
+        for (int i = 0; i < args.length; i++) {
+            String option = args[i];
+
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException("Missing value for option " + option);
+            }
+
+            String value = args[++i];
+
+            switch (option) {
+                case "--workload" -> workload = value;
+                case "--resources" -> resources = Integer.parseInt(value);
+                case "--kafka-latency-ms" -> kafkaLatencyMs = Long.parseLong(value);
+                case "--brokers" -> brokers = Integer.parseInt(value);
+                case "--parallelism" -> parallelism = Integer.parseInt(value);
+                case "--timeout-seconds" -> timeoutSeconds = Long.parseLong(value);
+                case "--output" -> output = value;
+                default -> throw new IllegalArgumentException("Unknown option " + option);
+            }
+        }
+
+        if (!WORKLOADS.contains(workload)) {
+            throw new IllegalArgumentException("Unknown workload " + workload + ". Supported workloads are " + WORKLOADS);
+        } else if (resources < 1 || brokers < 1 || parallelism < 1 || timeoutSeconds < 1 || kafkaLatencyMs < 0) {
+            throw new IllegalArgumentException("The number of resources, brokers, parallelism and timeout have to be positive and the latency cannot be negative");
+        }
+
+        return new ScaleBenchmarkConfig(workload, resources, kafkaLatencyMs, brokers, parallelism, timeoutSeconds, output);
+    }
+}
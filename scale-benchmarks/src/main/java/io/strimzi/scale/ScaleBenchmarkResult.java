@@ -0,0 +1,71 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.scale;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Result of a scale benchmark run. It is written as JSON so that the results of different runs can be compared by
+ * scripts.
+ *
+ * @param workload              Name of the workload
+ * @param resources             Number of custom resources created by the benchmark
+ * @param kafkaLatencyMs        Latency of the in-memory Kafka Admin API in milliseconds
+ * @param parallelism           Number of threads creating the custom resources
+ * @param completed             Number of custom resources which were reconciled before the timeout
+ * @param timedOut              Indicates whether the benchmark timed out before all resources were reconciled
+ * @param durationMs            Time from the first creation request until the last resource was reconciled
+ * @param throughputPerSecond   Number of resources reconciled per second
+ * @param latencyMs             Latency from the creation request until the resource was observed as reconciled
+ * @param heap                  Heap usage of the benchmark JVM
+ */
+public record ScaleBenchmarkResult(
+        String workload,
+        int resources,
+        long kafkaLatencyMs,
+        int parallelism,
+        int completed,
+        boolean timedOut,
+        long durationMs,
+        double throughputPerSecond,
+        Latency latencyMs,
+        Heap heap
+) {
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    /**
+     * @return  The result encoded as JSON
+     */
+    public String toJson() {
+        try {
+            return MAPPER.writeValueAsString(this);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to encode the benchmark result", e);
+        }
+    }
+
+    /**
+     * Reconciliation latency percentiles in milliseconds
+     *
+     * @param mean  Mean latency
+     * @param p50   50th percentile
+     * @param p90   90th percentile
+     * @param p99   99th percentile
+     * @param p999  99.9th percentile
+     * @param max   Maximal latency
+     */
+    public record Latency(double mean, double p50, double p90, double p99, double p999, double max) { }
+
+    /**
+     * Heap usage in bytes
+     *
+     * @param baselineBytes     Heap used after GC with the operator running but before the resources were created
+     * @param usedBytes         Heap used after GC once the resources were reconciled
+     * @param peakBytes         Peak heap usage during the benchmark
+     */
+    public record Heap(long baselineBytes, long usedBytes, long peakBytes) { }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.scale;
+
+import io.fabric8.kubernetes.api.model.KubernetesResourceList;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.dsl.MixedOperation;
+import io.fabric8.kubernetes.client.dsl.Resource;
+import io.strimzi.api.kafka.Crds;
+import io.strimzi.api.kafka.model.topic.KafkaTopic;
+import io.strimzi.api.kafka.model.topic.KafkaTopicBuilder;
+import io.strimzi.operator.topic.TopicOperatorRunner;
+import org.apache.kafka.clients.admin.Admin;
+
+import java.util.Map;
+
+/**
+ * Workload with KafkaTopic resources reconciled by the Topic Operator
+ */
+public class TopicWorkload implements Workload<KafkaTopic> {
+    @Override
+    public String name() {
+        return "topics";
+    }
+
+    @Override
+    public MixedOperation<KafkaTopic, ? extends KubernetesResourceList<KafkaTopic>, Resource<KafkaTopic>> operation(KubernetesClient client) {
+        return Crds.topicOperation(client);
+    }
+
+    @Override
+    public OperatorUnderTest operator(KubernetesClient client, Admin admin, String namespace, int resources) {
+        return new TopicOperatorRunner(client, admin, namespace, LABELS, Math.max(1_024, resources * 2));
+    }
+
+    @Override
+    public KafkaTopic resource(String namespace, int index) {
+        return new KafkaTopicBuilder()
+                .withNewMetadata()
+                    .withName(String.format("topic-%06d", index))
+                    .withNamespace(namespace)
+                    .withLabels(LABELS)
+                .endMetadata()
+                .withNewSpec()
+                    .withPartitions(3)
+                    .withReplicas(3)
+                    .withConfig(Map.of("retention.ms", 7_200_000, "segment.bytes", 1_073_741_824))
+                .endSpec()
+                .build();
+    }
+
+    @Override
+    public boolean isReconciled(KafkaTopic resource) {
+        return Workload.isReady(resource.getStatus(), resource.getMetadata().getGeneration());
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.scale;
+
+import io.fabric8.kubernetes.api.model.KubernetesResourceList;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.dsl.MixedOperation;
+import io.fabric8.kubernetes.client.dsl.Resource;
+import io.strimzi.api.kafka.Crds;
+import io.strimzi.api.kafka.model.user.KafkaUser;
+import io.strimzi.api.kafka.model.user.KafkaUserBuilder;
+import io.strimzi.api.kafka.model.user.KafkaUserScramSha512ClientAuthentication;
+import io.strimzi.api.kafka.model.user.acl.AclOperation;
+import io.strimzi.operator.user.UserOperatorRunner;
+import org.apache.kafka.clients.admin.Admin;
+
+/**
+ * Workload with KafkaUser resources reconciled by the User Operator. The users use the SCRAM-SHA-512 authentication,
+ * so that the benchmark does not need the clients CA. Each user has ACLs and quotas to exercise all Admin API
+ * operators of the User Operator.
+ */
+public class UserWorkload implements Workload<KafkaUser> {
+    @Override
+    public String name() {
+        return "users";
+    }
+
+    @Override
+    public MixedOperation<KafkaUser, ? extends KubernetesResourceList<KafkaUser>, Resource<KafkaUser>> operation(KubernetesClient client) {
+        return Crds.kafkaUserOperation(client);
+    }
+
+    @Override
+    public OperatorUnderTest operator(KubernetesClient client, Admin admin, String namespace, int resources) {
+        return new UserOperatorRunner(client, admin, namespace, LABELS, Math.max(1_024, resources * 2));
+    }
+
+    @Override
+    public KafkaUser resource(String namespace, int index) {
+        String name = String.format("user-%06d", index);
+
+        return new KafkaUserBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                    .withNamespace(namespace)
+                    .withLabels(LABELS)
+                .endMetadata()
+                .withNewSpec()
+                    .withAuthentication(new KafkaUserScramSha512ClientAuthentication())
+                    .withNewKafkaUserAuthorizationSimple()
+                        .addNewAcl()
+                            .withNewAclRuleTopicResource()
+                                .withName(name)
+                            .endAclRuleTopicResource()
+                            .withOperations(AclOperation.READ, AclOperation.WRITE, AclOperation.DESCRIBE)
+                        .endAcl()
+                        .addNewAcl()
+                            .withNewAclRuleGroupResource()
+                                .withName(name)
+                            .endAclRuleGroupResource()
+                            .withOperations(AclOperation.READ)
+                        .endAcl()
+                    .endKafkaUserAuthorizationSimple()
+                    .withNewQuotas()
+                        .withConsumerByteRate(1_024 * 1_024)
+                        .withProducerByteRate(1_024 * 1_024)
+                    .endQuotas()
+                .endSpec()
+                .build();
+    }
+
+    @Override
+    public boolean isReconciled(KafkaUser resource) {
+        return Workload.isReady(resource.getStatus(), resource.getMetadata().getGeneration());
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.scale;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.KubernetesResourceList;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.dsl.MixedOperation;
+import io.fabric8.kubernetes.client.dsl.Resource;
+import io.strimzi.api.kafka.model.common.Condition;
+import io.strimzi.api.kafka.model.kafka.Status;
+import org.apache.kafka.clients.admin.Admin;
+
+import java.util.Map;
+
+/**
+ * Synthetic load driven by the scale benchmark. The workload defines the custom resources created by the benchmark,
+ * the operator which reconciles them and how to recognize that a resource was reconciled.
+ *
+ * @param <T>   Type of the custom resource
+ */
+public interface Workload<T extends HasMetadata> {
+    /**
+     * Labels used to select the custom resources by the operators under test
+     */
+    Map<String, String> LABELS = Map.of("strimzi.io/cluster", "my-cluster");
+
+    /**
+     * @return  Name of the workload used on the command line and in the report
+     */
+    String name();
+
+    /**
+     * Gets the Kubernetes client operation for the custom resource
+     *
+     * @param client    Kubernetes client
+     *
+     * @return  Operation for the custom resource used by the workload
+     */
+    MixedOperation<T, ? extends KubernetesResourceList<T>, Resource<T>> operation(KubernetesClient client);
+
+    /**
+     * Creates the resources which need to exist before the operator is started, such as the owners of the custom
+     * resources used by the workload
+     *
+     * @param client        Kubernetes client
+     * @param namespace     Namespace used by the benchmark
+     */
+    default void prepare(KubernetesClient client, String namespace) {
+        // Do nothing by default
+    }
+
+    /**
+     * Creates the operator which reconciles the custom resources of this workload
+     *
+     * @param client        Kubernetes client
+     * @param admin         Kafka Admin client
+     * @param namespace     Namespace used by the benchmark
+     * @param resources     Number of the custom resources created by the benchmark
+     *
+     * @return  Operator under test
+     */
+    OperatorUnderTest operator(KubernetesClient client, Admin admin, String namespace, int resources);
+
+    /**
+     * Creates the definition of the custom resource with given index
+     *
+     * @param namespace     Namespace used by the benchmark
+     * @param index         Index of the custom resource
+     *
+     * @return  Custom resource
+     */
+    T resource(String namespace, int index);
+
+    /**
+     * Checks if the current version of the custom resource was reconciled
+     *
+     * @param resource  Custom resource
+     *
+     * @return  True if the custom resource was reconciled. False otherwise.
+     */
+    boolean isReconciled(T resource);
+
+    /**
+     * Checks whether the status has the Ready condition and whether it corresponds to the current generation of the
+     * resource
+     *
+     * @param status        Status of the custom resource
+     * @param generation    Generation of the custom resource
+     *
+     * @return  True if the status is ready and up-to-date. False otherwise.
+     */
+    static boolean isReady(Status status, Long generation) {
+        if (status == null
+                || status.getObservedGeneration() == 0L
+                || (generation != null && status.getObservedGeneration() < generation)
+                || status.getConditions() == null) {
+            return false;
+        }
+
+        for (Condition condition : status.getConditions()) {
+            if ("Ready".equals(condition.getType()) && "True".equals(condition.getStatus())) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
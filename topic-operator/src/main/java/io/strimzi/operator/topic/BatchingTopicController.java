@@ -5,6 +5,7 @@
 package io.strimzi.operator.topic;
 
 import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.opentelemetry.api.common.AttributeKey;
 import io.strimzi.api.kafka.model.common.Condition;
 import io.strimzi.api.kafka.model.common.ConditionBuilder;
 import io.strimzi.api.kafka.model.topic.KafkaTopic;
@@ -13,6 +14,7 @@ import io.strimzi.api.kafka.model.topic.ReplicasChangeState;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.model.StatusUtils;
+import io.strimzi.operator.common.tracing.OperatorTracing;
 import io.strimzi.operator.topic.cruisecontrol.CruiseControlHandler;
 import io.strimzi.operator.topic.metrics.TopicOperatorMetricsHolder;
 import io.strimzi.operator.topic.model.Either;
@@ -58,6 +60,7 @@ public class BatchingTopicController {
     static final ReconciliationLogger LOGGER = ReconciliationLogger.create(BatchingTopicController.class);
     static final List<String> THROTTLING_CONFIG = List.of("follower.replication.throttled.replicas", "leader.replication.throttled.replicas");
     static final String INVALID_CONFIG = "InvalidConfig";
+    private static final AttributeKey<Long> BATCH_SIZE = AttributeKey.longKey("strimzi.batch.size");
 
     private final TopicOperatorConfig config;
     private final Map<String, String> selector;
@@ -117,16 +120,27 @@ public class BatchingTopicController {
      * @throws InterruptedException If the thread was interrupted while blocking.
      */
     void onDelete(List<ReconcilableTopic> reconcilableTopics) throws InterruptedException {
-        try {
+        var span = OperatorTracing.startSpan("reconcile KafkaTopic batch delete", KafkaTopic.RESOURCE_KIND, config.namespace());
+        span.setAttribute(BATCH_SIZE, reconcilableTopics.size());
+        Throwable error = null;
+
+        try (var ignored = span.makeCurrent()) {
             deleteInternal(reconcilableTopics, true);
         } catch (UncheckedInterruptedException e) {
+            error = e.getCause();
             throw e.getCause();
         } catch (KubernetesClientException e) {
+            error = e;
             if (e.getCause() instanceof InterruptedIOException) {
                 throw new InterruptedException();
             } else {
                 throw e;
             }
+        } catch (RuntimeException e) {
+            error = e;
+            throw e;
+        } finally {
+            OperatorTracing.endSpan(span, error);
         }
     }
 
@@ -240,16 +254,27 @@ public class BatchingTopicController {
      * @throws InterruptedException If the thread was interrupted while blocking.
      */
     void onUpdate(List<ReconcilableTopic> reconcilableTopics) throws InterruptedException {
-        try {
+        var span = OperatorTracing.startSpan("reconcile KafkaTopic batch update", KafkaTopic.RESOURCE_KIND, config.namespace());
+        span.setAttribute(BATCH_SIZE, reconcilableTopics.size());
+        Throwable error = null;
+
+        try (var ignored = span.makeCurrent()) {
             updateInternal(reconcilableTopics);
         } catch (UncheckedInterruptedException e) {
+            error = e.getCause();
             throw e.getCause();
         } catch (KubernetesClientException e) {
+            error = e;
             if (e.getCause() instanceof InterruptedIOException) {
                 throw new InterruptedException();
             } else {
                 throw e;
             }
+        } catch (RuntimeException e) {
+            error = e;
+            throw e;
+        } finally {
+            OperatorTracing.endSpan(span, error);
         }
     }
 
@@ -4,9 +4,11 @@
  */
 package io.strimzi.operator.topic;
 
+import io.opentelemetry.api.trace.Span;
 import io.strimzi.api.kafka.model.topic.KafkaTopic;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.model.InvalidResourceException;
+import io.strimzi.operator.common.tracing.OperatorTracing;
 import io.strimzi.operator.topic.metrics.TopicOperatorMetricsHolder;
 import io.strimzi.operator.topic.model.Either;
 import io.strimzi.operator.topic.model.Pair;
@@ -42,6 +44,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -130,8 +133,10 @@ public class KafkaHandler {
 
         LOGGER.debugOp("Admin.createTopics({})", newTopics);
         var timerSample = TopicOperatorUtil.startExternalRequestTimer(metricsHolder, config.enableAdditionalMetrics());
-        var ctr = kafkaAdminClient.createTopics(newTopics);
+        var span = startAdminSpan("createTopics");
+        var ctr = callAdmin(span, () -> kafkaAdminClient.createTopics(newTopics));
         ctr.all().whenComplete((i, e) -> {
+            OperatorTracing.endSpan(span, e);
             TopicOperatorUtil.stopExternalRequestTimer(timerSample, metricsHolder::createTopicsTimer, config.enableAdditionalMetrics(), config.namespace());
             if (e != null) {
                 LOGGER.traceOp("Admin.createTopics({}) failed with {}", newTopics, String.valueOf(e));
@@ -186,15 +191,22 @@ public class KafkaHandler {
         Map<TopicPartition, PartitionReassignment> reassignments;
         LOGGER.traceOp("Admin.listPartitionReassignments({})", apparentDifferentRfPartitions);
         var timerSample = TopicOperatorUtil.startExternalRequestTimer(metricsHolder, config.enableAdditionalMetrics());
+        var span = startAdminSpan("listPartitionReassignments");
         try {
             reassignments = kafkaAdminClient.listPartitionReassignments(apparentDifferentRfPartitions).reassignments().get();
+            OperatorTracing.endSpan(span, null);
             LOGGER.traceOp("Admin.listPartitionReassignments({}) completed", apparentDifferentRfPartitions);
         } catch (ExecutionException e) {
+            OperatorTracing.endSpan(span, e.getCause());
             LOGGER.traceOp("Admin.listPartitionReassignments({}) failed with {}", apparentDifferentRfPartitions, e);
             return apparentlyDifferentRfTopics.stream().map(pair ->
                 new Pair<>(pair.getKey(), Either.<TopicOperatorException, TopicState>ofLeft(handleAdminException(e)))).toList();
         } catch (InterruptedException e) {
+            OperatorTracing.endSpan(span, e);
             throw new UncheckedInterruptedException(e);
+        } catch (RuntimeException e) {
+            OperatorTracing.endSpan(span, e);
+            throw e;
         }
         TopicOperatorUtil.stopExternalRequestTimer(timerSample, metricsHolder::listReassignmentsTimer, config.enableAdditionalMetrics(), config.namespace());
 
@@ -234,9 +246,11 @@ public class KafkaHandler {
         var alteredConfigs = someAlterConfigs.stream().collect(Collectors.toMap(entry -> buildTopicConfigResource(entry.getKey().topicName()), Pair::getValue));
         LOGGER.debugOp("Admin.incrementalAlterConfigs({})", alteredConfigs);
         var timerSample = TopicOperatorUtil.startExternalRequestTimer(metricsHolder, config.enableAdditionalMetrics());
-        var acr = kafkaAdminClient.incrementalAlterConfigs(alteredConfigs);
+        var span = startAdminSpan("incrementalAlterConfigs");
+        var acr = callAdmin(span, () -> kafkaAdminClient.incrementalAlterConfigs(alteredConfigs));
         TopicOperatorUtil.stopExternalRequestTimer(timerSample, metricsHolder::alterConfigsTimer, config.enableAdditionalMetrics(), config.namespace());
         acr.all().whenComplete((i, e) -> {
+            OperatorTracing.endSpan(span, e);
             TopicOperatorUtil.stopExternalRequestTimer(timerSample, metricsHolder::alterConfigsTimer, config.enableAdditionalMetrics(), config.namespace());
             if (e != null) {
                 LOGGER.traceOp("Admin.incrementalAlterConfigs({}) failed with {}", alteredConfigs, String.valueOf(e));
@@ -270,8 +284,10 @@ public class KafkaHandler {
         var newPartitions = someCreatePartitions.stream().collect(Collectors.toMap(pair -> pair.getKey().topicName(), Pair::getValue));
         LOGGER.debugOp("Admin.createPartitions({})", newPartitions);
         var timerSample = TopicOperatorUtil.startExternalRequestTimer(metricsHolder, config.enableAdditionalMetrics());
-        CreatePartitionsResult cpr = kafkaAdminClient.createPartitions(newPartitions);
+        var span = startAdminSpan("createPartitions");
+        CreatePartitionsResult cpr = callAdmin(span, () -> kafkaAdminClient.createPartitions(newPartitions));
         cpr.all().whenComplete((i, e) -> {
+            OperatorTracing.endSpan(span, e);
             TopicOperatorUtil.stopExternalRequestTimer(timerSample, metricsHolder::createPartitionsTimer, config.enableAdditionalMetrics(), config.namespace());
             if (e != null) {
                 LOGGER.traceOp("Admin.createPartitions({}) failed with {}", newPartitions, String.valueOf(e));
@@ -312,8 +328,10 @@ public class KafkaHandler {
         {
             LOGGER.debugOp("Admin.describeTopics({})", tns);
             var timerSample = TopicOperatorUtil.startExternalRequestTimer(metricsHolder, config.enableAdditionalMetrics());
-            describeTopicsResult = kafkaAdminClient.describeTopics(tns);
+            var span = startAdminSpan("describeTopics");
+            describeTopicsResult = callAdmin(span, () -> kafkaAdminClient.describeTopics(tns));
             describeTopicsResult.allTopicNames().whenComplete((i, e) -> {
+                OperatorTracing.endSpan(span, e);
                 TopicOperatorUtil.stopExternalRequestTimer(timerSample, metricsHolder::describeTopicsTimer, config.enableAdditionalMetrics(), config.namespace());
                 if (e != null) {
                     LOGGER.traceOp("Admin.describeTopics({}) failed with {}", tns, String.valueOf(e));
@@ -326,8 +344,10 @@ public class KafkaHandler {
         {
             LOGGER.debugOp("Admin.describeConfigs({})", configResources);
             var timerSample = TopicOperatorUtil.startExternalRequestTimer(metricsHolder, config.enableAdditionalMetrics());
-            describeConfigsResult = kafkaAdminClient.describeConfigs(configResources);
+            var span = startAdminSpan("describeConfigs");
+            describeConfigsResult = callAdmin(span, () -> kafkaAdminClient.describeConfigs(configResources));
             describeConfigsResult.all().whenComplete((i, e) -> {
+                OperatorTracing.endSpan(span, e);
                 TopicOperatorUtil.stopExternalRequestTimer(timerSample, metricsHolder::describeConfigsTimer, config.enableAdditionalMetrics(), config.namespace());
                 if (e != null) {
                     LOGGER.traceOp("Admin.describeConfigs({}) failed with {}", configResources, String.valueOf(e));
@@ -382,8 +402,10 @@ public class KafkaHandler {
 
         // Admin delete
         var timerSample = TopicOperatorUtil.startExternalRequestTimer(metricsHolder, config.enableAdditionalMetrics());
-        var dtr = kafkaAdminClient.deleteTopics(someDeleteTopics);
+        var span = startAdminSpan("deleteTopics");
+        var dtr = callAdmin(span, () -> kafkaAdminClient.deleteTopics(someDeleteTopics));
         dtr.all().whenComplete((i, e) -> {
+            OperatorTracing.endSpan(span, e);
             TopicOperatorUtil.stopExternalRequestTimer(timerSample, metricsHolder::deleteTopicsTimer, config.enableAdditionalMetrics(), config.namespace());
             if (e != null) {
                 LOGGER.traceOp("Admin.deleteTopics({}) failed with {}", someDeleteTopics.topicNames(), String.valueOf(e));
@@ -411,6 +433,29 @@ public class KafkaHandler {
             }));
     }
     
+    private Span startAdminSpan(String operation) {
+        return OperatorTracing.startSpan("Kafka Admin " + operation, KafkaTopic.RESOURCE_KIND, config.namespace());
+    }
+
+    /**
+     * Calls the Admin client. When the call throws instead of returning its result, the span is ended with the error.
+     *
+     * @param span  Span of the Admin call
+     * @param call  The Admin call
+     *
+     * @return  Result of the Admin call
+     *
+     * @param <T>   Type of the result
+     */
+    private static <T> T callAdmin(Span span, Supplier<T> call) {
+        try {
+            return call.get();
+        } catch (RuntimeException e) {
+            OperatorTracing.endSpan(span, e);
+            throw e;
+        }
+    }
+
     private static NewTopic buildNewTopic(KafkaTopic kafkaTopic, String topicName) {
         return new NewTopic(topicName, TopicOperatorUtil.partitions(kafkaTopic), 
             TopicOperatorUtil.replicas(kafkaTopic)).configs(buildConfigsMap(kafkaTopic));
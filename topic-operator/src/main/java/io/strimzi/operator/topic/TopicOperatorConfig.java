@@ -101,6 +101,8 @@ public class TopicOperatorConfig {
     public static final ConfigParameter<String> CRUISE_CONTROL_API_USER_PATH = new ConfigParameter<>("STRIMZI_CRUISE_CONTROL_API_USER_PATH", ConfigParameterParser.STRING, "/etc/eto-cc-api/" + CruiseControlApiProperties.TOPIC_OPERATOR_USERNAME_KEY, CONFIG_VALUES);
     /** Cruise Control: password file location. */
     public static final ConfigParameter<String> CRUISE_CONTROL_API_PASS_PATH = new ConfigParameter<>("STRIMZI_CRUISE_CONTROL_API_PASS_PATH", ConfigParameterParser.STRING, "/etc/eto-cc-api/" + CruiseControlApiProperties.TOPIC_OPERATOR_PASSWORD_KEY, CONFIG_VALUES);
+    /** Whether the reconciliations are traced using OpenTelemetry. */
+    public static final ConfigParameter<Boolean> TRACING_ENABLED = new ConfigParameter<>("STRIMZI_TRACING_ENABLED", ConfigParameterParser.BOOLEAN, "false", CONFIG_VALUES);
 
     private final Map<String, Object> map;
 
@@ -262,6 +264,11 @@ public class TopicOperatorConfig {
         return get(FEATURE_GATES);
     }
 
+    /** @return Value of {@link #TRACING_ENABLED} configuration. */
+    public boolean tracingEnabled() {
+        return get(TRACING_ENABLED);
+    }
+
     /** @return Value of {@link #CRUISE_CONTROL_ENABLED} configuration. */
     public boolean cruiseControlEnabled() {
         return get(CRUISE_CONTROL_ENABLED);
@@ -456,6 +463,7 @@ public class TopicOperatorConfig {
             "\n\tcruiseControlCrtFilePath=" + cruiseControlCrtFilePath() +
             "\n\tcruiseControlApiUserPath=" + cruiseControlApiUserPath() +
             "\n\tcruiseControlApiPassPath=" + cruiseControlApiPassPath() +
+            "\n\ttracingEnabled=" + tracingEnabled() +
             '}';
     }
 }
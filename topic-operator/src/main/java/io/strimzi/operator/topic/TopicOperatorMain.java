@@ -25,6 +25,7 @@ import io.strimzi.operator.common.http.HealthCheckAndMetricsServer;
 import io.strimzi.operator.common.http.Liveness;
 import io.strimzi.operator.common.http.Readiness;
 import io.strimzi.operator.common.model.Labels;
+import io.strimzi.operator.common.tracing.OperatorTracing;
 import io.strimzi.operator.topic.cruisecontrol.CruiseControlClient;
 import io.strimzi.operator.topic.cruisecontrol.CruiseControlHandler;
 import io.strimzi.operator.topic.metrics.TopicOperatorMetricsHolder;
@@ -157,6 +158,9 @@ public class TopicOperatorMain implements Liveness, Readiness {
      */
     public static void main(String[] args) throws Exception {
         var config = TopicOperatorConfig.buildFromMap(System.getenv());
+        if (config.tracingEnabled()) {
+            OperatorTracing.initialize("strimzi-topic-operator");
+        }
         var operator = operator(config, Admin.create(config.adminClientConfig()));
         operator.start();
     }
@@ -7,6 +7,7 @@ package io.strimzi.operator.topic.cruisecontrol;
 import io.strimzi.api.kafka.model.topic.ReplicasChangeState;
 import io.strimzi.api.kafka.model.topic.ReplicasChangeStatusBuilder;
 import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.common.tracing.OperatorTracing;
 import io.strimzi.operator.topic.TopicOperatorConfig;
 import io.strimzi.operator.topic.TopicOperatorUtil;
 import io.strimzi.operator.topic.cruisecontrol.CruiseControlClient.TaskState;
@@ -83,7 +84,7 @@ public class CruiseControlHandler {
         try {
             LOGGER.debugOp("Sending topic configuration request, topics {}", TopicOperatorUtil.topicNames(reconcilableTopics));
             var kafkaTopics = reconcilableTopics.stream().map(ReconcilableTopic::kt).collect(Collectors.toList());
-            var userTaskId = cruiseControlClient.topicConfiguration(kafkaTopics);
+            var userTaskId = OperatorTracing.traceBlocking(null, "Cruise Control topic_configuration", () -> cruiseControlClient.topicConfiguration(kafkaTopics));
             results.merge(updateToOngoing(reconcilableTopics, "Replicas change ongoing", userTaskId));
         } catch (Throwable t) {
             results.merge(updateToFailed(reconcilableTopics, String.format("Replicas change failed, %s", Throwables.getRootCause(t).getMessage())));
@@ -113,7 +114,7 @@ public class CruiseControlHandler {
         var timerSample = TopicOperatorUtil.startExternalRequestTimer(metricsHolder, config.enableAdditionalMetrics());
         try {
             LOGGER.debugOp("Sending user tasks request, Tasks {}", groupByUserTaskId.keySet());
-            var userTasksResponse = cruiseControlClient.userTasks(groupByUserTaskId.keySet());
+            var userTasksResponse = OperatorTracing.traceBlocking(null, "Cruise Control user_tasks", () -> cruiseControlClient.userTasks(groupByUserTaskId.keySet()));
             if (userTasksResponse.userTasks().isEmpty()) {
                 // Cruise Control restarted: reset the state because the tasks queue is not persisted
                 // this may also happen when the tasks' retention time expires, or the cache becomes full